@@ -27,6 +27,8 @@ import au.gov.asd.tac.constellation.plugins.parameters.PluginParameter;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.plugins.parameters.types.BooleanParameterType;
 import au.gov.asd.tac.constellation.plugins.parameters.types.BooleanParameterType.BooleanParameterValue;
+import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType;
+import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType.IntegerParameterValue;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
 import au.gov.asd.tac.constellation.utilities.datastructure.Tuple;
@@ -59,6 +61,10 @@ public class BetweennessCentralityPlugin extends SimpleEditPlugin {
     public static final String NORMALISE_AVAILABLE_PARAMETER_ID = PluginParameter.buildId(BetweennessCentralityPlugin.class, "normalise_available");
     public static final String NORMALISE_CONNECTED_COMPONENTS_PARAMETER_ID = PluginParameter.buildId(BetweennessCentralityPlugin.class, "normalise_connected_components");
     public static final String SELECTED_ONLY_PARAMETER_ID = PluginParameter.buildId(BetweennessCentralityPlugin.class, "selected_only");
+    public static final String PIVOT_COUNT_PARAMETER_ID = PluginParameter.buildId(BetweennessCentralityPlugin.class, "pivot_count");
+
+    // a fixed seed ensures approximate scores are repeatable for the same graph
+    private static final long PIVOT_SEED = 0L;
 
     @Override
     public PluginParameters createParameters() {
@@ -101,6 +107,13 @@ public class BetweennessCentralityPlugin extends SimpleEditPlugin {
         selectedOnlyParameter.setName("Selected Only");
         selectedOnlyParameter.setDescription("Calculate using only selected elements");
         parameters.addParameter(selectedOnlyParameter);
+
+        final PluginParameter<IntegerParameterValue> pivotCountParameter = IntegerParameterType.build(PIVOT_COUNT_PARAMETER_ID);
+        pivotCountParameter.setName("Sample Pivots");
+        pivotCountParameter.setDescription("Approximate scores using paths from this many randomly sampled vertices (0 to calculate exact scores)");
+        pivotCountParameter.setIntegerValue(0);
+        IntegerParameterType.setMinimum(pivotCountParameter, 0);
+        parameters.addParameter(pivotCountParameter);
         
         parameters.addController(NORMALISE_POSSIBLE_PARAMETER_ID, (master, params, change) -> {
             if (change == ParameterChange.VALUE && master.getBooleanValue()) {
@@ -128,11 +141,12 @@ public class BetweennessCentralityPlugin extends SimpleEditPlugin {
         final boolean normaliseByAvailable = parameters.getBooleanValue(NORMALISE_AVAILABLE_PARAMETER_ID);
         final boolean normaliseConnectedComponents = parameters.getBooleanValue(NORMALISE_CONNECTED_COMPONENTS_PARAMETER_ID);
         final boolean selectedOnly = parameters.getBooleanValue(SELECTED_ONLY_PARAMETER_ID);
+        final int pivotCount = parameters.getIntegerValue(PIVOT_COUNT_PARAMETER_ID);
 
         assert !normaliseByPossible || !normaliseByAvailable : "You should only select one method of normalisation";
 
         // calculate betweenness scores
-        final Tuple<BitSet[], float[]> scoreResult = PathScoringUtilities.calculateScores(graph, ScoreType.BETWEENNESS, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly);
+        final Tuple<BitSet[], float[]> scoreResult = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly, pivotCount, PIVOT_SEED);
         final BitSet[] subgraphs = scoreResult.getFirst();
         final float[] betweennesses = scoreResult.getSecond();
 
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
+
+import au.gov.asd.tac.constellation.graph.GraphConstants;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality.PathScoringUtilities.ScoreType;
+import au.gov.asd.tac.constellation.utilities.datastructure.Tuple;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A shortest path centrality engine based on Brandes' algorithm. Rather than
+ * maintaining a traversal BitSet for every vertex, this engine performs a
+ * breadth first search from each source vertex over a
+ * {@link CompressedGraphSnapshot} of the graph, accumulating dependencies as it
+ * unwinds.
+ * Sources are distributed across a fork-join pool, with each worker
+ * maintaining its own search state and score accumulator, so memory use is
+ * linear in the size of the graph for each worker.
+ * <p>
+ * Scores are reported using the same conventions as
+ * {@link PathScoringUtilities}: betweenness is summed over ordered pairs of
+ * vertices, harmonic farness is counted from both ends of each path when
+ * connections are treated as undirected, and only vertices with at least one
+ * neighbour participate in the calculation. The subgraph reported for each
+ * participating vertex is the connected component it belongs to, with all
+ * vertices in a component sharing the same BitSet instance.
+ *
+ * @author cygnus_x-1
+ */
+public class BrandesCentralityEngine {
+
+    private static final String SCORETYPE_ERROR_FORMAT = "The requested ScoreType, %s, is not supported.";
+    private static final String OUT_OF_BOUNDS_EXCEPTION_STRING = "The 'selected' attribute does not exist on the given graph.";
+
+    // the number of tasks to create per available worker, allowing work stealing to balance uneven searches
+    private static final int TASKS_PER_WORKER = 4;
+
+    private BrandesCentralityEngine() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Calculate exact shortest path scores for every vertex in the graph.
+     *
+     * @param graph the graph to calculate scores for.
+     * @param scoreType one of BETWEENNESS, CLOSENESS, FARNESS,
+     * HARMONIC_CLOSENESS or HARMONIC_FARNESS.
+     * @param includeConnectionsIn whether to follow incoming connections.
+     * @param includeConnectionsOut whether to follow outgoing connections.
+     * @param treatUndirectedBidirectional whether to follow undirected
+     * connections in both directions.
+     * @param selectedOnly whether to only score paths between selected
+     * vertices.
+     * @return a Tuple containing the connected component of each vertex and the
+     * score of each vertex, both indexed by vertex position.
+     */
+    public static Tuple<BitSet[], float[]> calculateScores(final GraphReadMethods graph, final ScoreType scoreType,
+            final boolean includeConnectionsIn, final boolean includeConnectionsOut, final boolean treatUndirectedBidirectional, final boolean selectedOnly) {
+        return calculateScores(graph, scoreType, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly, 0, 0L);
+    }
+
+    /**
+     * Calculate shortest path scores for every vertex in the graph, optionally
+     * approximating betweenness by only searching from a random sample of
+     * pivot vertices. Sampled betweenness scores are extrapolated by the ratio
+     * of participating vertices to pivots. Sampling is ignored for score types
+     * other than BETWEENNESS, as these require a search from every vertex.
+     *
+     * @param graph the graph to calculate scores for.
+     * @param scoreType one of BETWEENNESS, CLOSENESS, FARNESS,
+     * HARMONIC_CLOSENESS or HARMONIC_FARNESS.
+     * @param includeConnectionsIn whether to follow incoming connections.
+     * @param includeConnectionsOut whether to follow outgoing connections.
+     * @param treatUndirectedBidirectional whether to follow undirected
+     * connections in both directions.
+     * @param selectedOnly whether to only score paths between selected
+     * vertices.
+     * @param pivotCount the number of source vertices to sample, or 0 to
+     * search from every vertex.
+     * @param seed the seed used to choose pivot vertices.
+     * @return a Tuple containing the connected component of each vertex and the
+     * score of each vertex, both indexed by vertex position.
+     */
+    public static Tuple<BitSet[], float[]> calculateScores(final GraphReadMethods graph, final ScoreType scoreType,
+            final boolean includeConnectionsIn, final boolean includeConnectionsOut, final boolean treatUndirectedBidirectional,
+            final boolean selectedOnly, final int pivotCount, final long seed) {
+        if (!scoreType.requiresShortestPaths()) {
+            throw new IllegalArgumentException(String.format(SCORETYPE_ERROR_FORMAT, scoreType));
+        }
+
+        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
+        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
+            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
+        }
+
+        final boolean undirected = includeConnectionsIn && includeConnectionsOut;
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, GraphConstants.NOT_FOUND);
+        final Adjacency adjacency = new Adjacency(graph, snapshot);
+        final int vertexCount = adjacency.vertexCount;
+
+        final boolean[] counted = new boolean[vertexCount];
+        for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+            counted[vertexPosition] = !selectedOnly || graph.getBooleanValue(selectedAttribute, graph.getVertex(vertexPosition));
+        }
+
+        // determine which vertices to search from
+        int[] sources = adjacency.participants.clone();
+        double scale = 1.0;
+        if (scoreType == ScoreType.BETWEENNESS && pivotCount > 0 && pivotCount < sources.length) {
+            final Random random = new Random(seed);
+            for (int i = sources.length - 1; i > 0; i--) {
+                final int j = random.nextInt(i + 1);
+                final int swap = sources[i];
+                sources[i] = sources[j];
+                sources[j] = swap;
+            }
+            scale = sources.length / (double) pivotCount;
+            sources = Arrays.copyOf(sources, pivotCount);
+            Arrays.sort(sources);
+        }
+
+        final int threshold = Math.max(1, sources.length / (ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().getParallelism() * TASKS_PER_WORKER));
+        final SourceTask task = new SourceTask(adjacency, scoreType, undirected, counted, sources, 0, sources.length, threshold);
+        final double[] accumulatedScores = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().invoke(task);
+
+        final int participantCount = adjacency.participants.length;
+        final float[] scores = new float[vertexCount];
+        for (final int vertexPosition : adjacency.participants) {
+            float score = (float) (accumulatedScores[vertexPosition] * scale);
+            switch (scoreType) {
+                case CLOSENESS ->
+                    // convert farness to closeness by taking the inverse of each score
+                    score = score == 0 ? 0 : 1 / score;
+                case HARMONIC_CLOSENESS ->
+                    // convert harmonic farness to harmonic closeness by normalising
+                    // each score by the number of participating vertices
+                    score = score == 0 ? 0 : score / participantCount;
+                default -> {
+                    // scores are already in their final form
+                }
+            }
+            scores[vertexPosition] = score;
+        }
+
+        return Tuple.create(adjacency.components(), scores);
+    }
+
+    /**
+     * The traversable connections of the graph along with the vertices which
+     * participate in the calculation and the connected component of each.
+     */
+    private static class Adjacency {
+
+        private final CompressedGraphSnapshot snapshot;
+        private final int vertexCount;
+        private final int[] participants;
+        private final int[] componentRoots;
+
+        private Adjacency(final GraphReadMethods graph, final CompressedGraphSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.vertexCount = snapshot.getVertexCount();
+
+            int participantCount = 0;
+            final int[] candidates = new int[vertexCount];
+            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+                if (graph.getVertexNeighbourCount(snapshot.getVertexId(vertexPosition)) > 0) {
+                    candidates[participantCount++] = vertexPosition;
+                }
+            }
+            this.participants = Arrays.copyOf(candidates, participantCount);
+
+            this.componentRoots = new int[vertexCount];
+            findComponents();
+        }
+
+        /**
+         * Find the weakly connected components of the traversable connections
+         * using a union-find over vertex positions.
+         */
+        private void findComponents() {
+            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+                componentRoots[vertexPosition] = vertexPosition;
+            }
+            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+                for (int i = snapshot.getNeighbourStart(vertexPosition); i < snapshot.getNeighbourEnd(vertexPosition); i++) {
+                    final int rootA = findRoot(vertexPosition);
+                    final int rootB = findRoot(snapshot.getNeighbour(i));
+                    if (rootA != rootB) {
+                        componentRoots[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+                    }
+                }
+            }
+            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+                componentRoots[vertexPosition] = findRoot(vertexPosition);
+            }
+        }
+
+        private int findRoot(final int vertexPosition) {
+            int root = vertexPosition;
+            while (componentRoots[root] != root) {
+                componentRoots[root] = componentRoots[componentRoots[root]];
+                root = componentRoots[root];
+            }
+            return root;
+        }
+
+        private BitSet[] components() {
+            final BitSet[] rootComponents = new BitSet[vertexCount];
+            for (final int vertexPosition : participants) {
+                final int root = componentRoots[vertexPosition];
+                if (rootComponents[root] == null) {
+                    rootComponents[root] = new BitSet(vertexCount);
+                }
+                rootComponents[root].set(vertexPosition);
+            }
+
+            final BitSet[] components = new BitSet[vertexCount];
+            for (final int vertexPosition : participants) {
+                components[vertexPosition] = rootComponents[componentRoots[vertexPosition]];
+            }
+            return components;
+        }
+    }
+
+    /**
+     * Searches from a contiguous range of sources, splitting the range in half
+     * until it is small enough to process directly. Each leaf task owns its
+     * search state and score accumulator, which are summed as tasks join.
+     */
+    private static class SourceTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Adjacency adjacency;
+        private final transient CompressedGraphSnapshot snapshot;
+        private final ScoreType scoreType;
+        private final boolean undirected;
+        private final boolean[] counted;
+        private final int[] sources;
+        private final int start;
+        private final int end;
+        private final int threshold;
+
+        private SourceTask(final Adjacency adjacency, final ScoreType scoreType, final boolean undirected, final boolean[] counted,
+                final int[] sources, final int start, final int end, final int threshold) {
+            this.adjacency = adjacency;
+            this.snapshot = adjacency.snapshot;
+            this.scoreType = scoreType;
+            this.undirected = undirected;
+            this.counted = counted;
+            this.sources = sources;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (end - start > threshold) {
+                final int middle = (start + end) >>> 1;
+                final SourceTask left = new SourceTask(adjacency, scoreType, undirected, counted, sources, start, middle, threshold);
+                final SourceTask right = new SourceTask(adjacency, scoreType, undirected, counted, sources, middle, end, threshold);
+                left.fork();
+                final double[] rightScores = right.compute();
+                final double[] leftScores = left.join();
+                for (int i = 0; i < leftScores.length; i++) {
+                    leftScores[i] += rightScores[i];
+                }
+                return leftScores;
+            }
+
+            final int vertexCount = adjacency.vertexCount;
+            final double[] scores = new double[vertexCount];
+            final int[] distance = new int[vertexCount];
+            final double[] pathCount = new double[vertexCount];
+            final double[] dependency = new double[vertexCount];
+            final int[] order = new int[vertexCount];
+            Arrays.fill(distance, -1);
+
+            for (int i = start; i < end; i++) {
+                final int source = sources[i];
+                final int visited = search(source, distance, pathCount, order);
+                switch (scoreType) {
+                    case BETWEENNESS -> {
+                        if (counted[source]) {
+                            accumulateDependencies(visited, distance, pathCount, dependency, order, scores);
+                        }
+                    }
+                    case CLOSENESS, FARNESS ->
+                        scores[source] = farness(visited, distance, order);
+                    case HARMONIC_CLOSENESS, HARMONIC_FARNESS ->
+                        scores[source] = harmonicFarness(visited, distance, order);
+                    default ->
+                        throw new IllegalArgumentException(String.format(SCORETYPE_ERROR_FORMAT, scoreType));
+                }
+
+                // reset only the state touched by this search
+                for (int j = 0; j < visited; j++) {
+                    final int vertexPosition = order[j];
+                    distance[vertexPosition] = -1;
+                    pathCount[vertexPosition] = 0;
+                    dependency[vertexPosition] = 0;
+                }
+            }
+
+            return scores;
+        }
+
+        /**
+         * Perform a breadth first search from the source, recording the
+         * distance to and number of shortest paths to each reachable vertex.
+         * The order array doubles as the search queue and, since vertices are
+         * visited in order of distance, as the stack used to unwind
+         * dependencies.
+         */
+        private int search(final int source, final int[] distance, final double[] pathCount, final int[] order) {
+            int head = 0;
+            int tail = 0;
+            order[tail++] = source;
+            distance[source] = 0;
+            pathCount[source] = 1;
+            while (head < tail) {
+                final int vertexPosition = order[head++];
+                final int nextDistance = distance[vertexPosition] + 1;
+                for (int i = snapshot.getNeighbourStart(vertexPosition); i < snapshot.getNeighbourEnd(vertexPosition); i++) {
+                    final int neighbourPosition = snapshot.getNeighbour(i);
+                    if (distance[neighbourPosition] < 0) {
+                        distance[neighbourPosition] = nextDistance;
+                        order[tail++] = neighbourPosition;
+                    }
+                    if (distance[neighbourPosition] == nextDistance) {
+                        pathCount[neighbourPosition] += pathCount[vertexPosition];
+                    }
+                }
+            }
+            return tail;
+        }
+
+        private void accumulateDependencies(final int visited, final int[] distance, final double[] pathCount,
+                final double[] dependency, final int[] order, final double[] scores) {
+            for (int j = visited - 1; j > 0; j--) {
+                final int vertexPosition = order[j];
+                final int nextDistance = distance[vertexPosition] + 1;
+                for (int i = snapshot.getNeighbourStart(vertexPosition); i < snapshot.getNeighbourEnd(vertexPosition); i++) {
+                    final int successorPosition = snapshot.getNeighbour(i);
+                    if (distance[successorPosition] == nextDistance) {
+                        final double successorWeight = (counted[successorPosition] ? 1 : 0) + dependency[successorPosition];
+                        dependency[vertexPosition] += pathCount[vertexPosition] / pathCount[successorPosition] * successorWeight;
+                    }
+                }
+                scores[vertexPosition] += dependency[vertexPosition];
+            }
+        }
+
+        private float farness(final int visited, final int[] distance, final int[] order) {
+            float farness = 0;
+            for (int j = 1; j < visited; j++) {
+                final int vertexPosition = order[j];
+                if (counted[vertexPosition]) {
+                    farness += distance[vertexPosition];
+                }
+            }
+            return farness;
+        }
+
+        private float harmonicFarness(final int visited, final int[] distance, final int[] order) {
+            // accumulated in order of distance, in single precision, to match PathScoringUtilities
+            float harmonicFarness = 0;
+            for (int j = 1; j < visited; j++) {
+                final int vertexPosition = order[j];
+                if (counted[vertexPosition]) {
+                    final float contribution = (float) (1.0 / distance[vertexPosition]);
+                    harmonicFarness += contribution;
+                    if (undirected) {
+                        harmonicFarness += contribution;
+                    }
+                }
+            }
+            return harmonicFarness;
+        }
+    }
+}
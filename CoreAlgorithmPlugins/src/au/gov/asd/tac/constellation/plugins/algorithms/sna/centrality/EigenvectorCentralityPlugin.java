@@ -15,8 +15,10 @@
  */
 package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
 
+import au.gov.asd.tac.constellation.graph.GraphConstants;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.schema.attribute.SchemaAttribute;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
@@ -108,44 +110,25 @@ public class EigenvectorCentralityPlugin extends SimpleEditPlugin {
 
         assert !normaliseByPossible || !normaliseByAvailable : "You should only select one method of normalisation";
 
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, true, true, true, GraphConstants.NOT_FOUND);
+
         // initialise eigenvector values
-        final int vertexCount = graph.getVertexCount();
-        final double[] tempEigenvectors = new double[graph.getVertexCapacity()];
-        final double[] eigenvectors = new double[graph.getVertexCapacity()];
+        final int vertexCount = snapshot.getVertexCount();
+        final double[] tempEigenvectors = new double[vertexCount];
+        final double[] eigenvectors = new double[vertexCount];
         Arrays.fill(eigenvectors, (double) 1 / vertexCount);
 
         // calculate eigenvector for each vertex
         for (int iteration = 0; iteration < iterations; iteration++) {
-            Arrays.fill(tempEigenvectors, 0);
-
-            double sumEigenvector = 0;
-            double maxEigenvector = 0;
-            double delta = 0;
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-
-                final int neighbourCount = graph.getVertexNeighbourCount(vertexId);
-                for (int vertexNeighbourPosition = 0; vertexNeighbourPosition < neighbourCount; vertexNeighbourPosition++) {
-                    final int neighbourId = graph.getVertexNeighbour(vertexId, vertexNeighbourPosition);
-                    final int neighbourPosition = graph.getVertexPosition(neighbourId);
-                    if (vertexId != neighbourId) {
-                        tempEigenvectors[vertexPosition] += eigenvectors[neighbourPosition];
-                    }
-                }
-
-                sumEigenvector += tempEigenvectors[vertexPosition];
-                maxEigenvector = Math.max(tempEigenvectors[vertexPosition], maxEigenvector);
-                delta += Math.abs(eigenvectors[vertexPosition] - tempEigenvectors[vertexPosition]);
-            }
-
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                if (normaliseByPossible) {
-                    eigenvectors[vertexPosition] = tempEigenvectors[vertexPosition] / sumEigenvector;
-                } else if (normaliseByAvailable && maxEigenvector > 0) {
-                    eigenvectors[vertexPosition] = tempEigenvectors[vertexPosition] / maxEigenvector;
-                } else {
-                    eigenvectors[vertexPosition] = tempEigenvectors[vertexPosition];
-                }
+            PowerIterationKernel.multiply(snapshot, eigenvectors, tempEigenvectors);
+
+            final double delta = PowerIterationKernel.distance(eigenvectors, tempEigenvectors, vertexCount);
+            final double maxEigenvector = PowerIterationKernel.max(tempEigenvectors, vertexCount);
+            System.arraycopy(tempEigenvectors, 0, eigenvectors, 0, vertexCount);
+            if (normaliseByPossible) {
+                PowerIterationKernel.divide(eigenvectors, vertexCount, PowerIterationKernel.sum(tempEigenvectors, vertexCount));
+            } else if (normaliseByAvailable && maxEigenvector > 0) {
+                PowerIterationKernel.divide(eigenvectors, vertexCount, maxEigenvector);
             }
 
             if (delta < epsilon) {
@@ -156,8 +139,7 @@ public class EigenvectorCentralityPlugin extends SimpleEditPlugin {
         // update the graph with eigenvector values
         final int eigenvectorAttribute = EIGENVECTOR_ATTRIBUTE.ensure(graph);
         for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-            final int vertexId = graph.getVertex(vertexPosition);
-            graph.setFloatValue(eigenvectorAttribute, vertexId, (float) eigenvectors[vertexPosition]);
+            graph.setFloatValue(eigenvectorAttribute, snapshot.getVertexId(vertexPosition), (float) eigenvectors[vertexPosition]);
         }
     }
 }
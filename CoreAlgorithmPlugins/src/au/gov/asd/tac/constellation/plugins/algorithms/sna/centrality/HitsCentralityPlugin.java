@@ -18,6 +18,7 @@ package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
 import au.gov.asd.tac.constellation.graph.GraphConstants;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.schema.attribute.SchemaAttribute;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
@@ -85,70 +86,29 @@ public class HitsCentralityPlugin extends SimpleEditPlugin {
         final float epsilon = parameters.getFloatValue(EPSILON_PARAMETER_ID);
         final boolean normaliseByAvailable = parameters.getBooleanValue(NORMALISE_AVAILABLE_PARAMETER_ID);
 
-        final double[] authorities = new double[graph.getVertexCapacity()];
+        // authorities pull from the hubs pointing to them, hubs pull from the authorities they point to
+        final CompressedGraphSnapshot incoming = CompressedGraphSnapshot.build(graph, true, false, false, GraphConstants.NOT_FOUND);
+        final CompressedGraphSnapshot outgoing = incoming.transpose();
+
+        final int vertexCount = incoming.getVertexCount();
+        final double[] authorities = new double[vertexCount];
         Arrays.fill(authorities, 1);
-        final double[] hubs = new double[graph.getVertexCapacity()];
+        final double[] hubs = new double[vertexCount];
         Arrays.fill(hubs, 1);
+        final double[] tempScores = new double[vertexCount];
 
-        final int vertexCount = graph.getVertexCount();
         for (int iteration = 0; iteration < iterations; iteration++) {
-            double authorityNorm = 0;
-            double authorityDelta = 0;
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-                final double previousAuthority = authorities[vertexPosition];
-                authorities[vertexPosition] = 0;
-
-                final int transactionCount = graph.getVertexTransactionCount(vertexId);
-                for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
-                    final int transactionId = graph.getVertexTransaction(vertexId, transactionPosition);
-                    final int sourceVertexId = graph.getTransactionSourceVertex(transactionId);
-                    final int destinationVertexId = graph.getTransactionDestinationVertex(transactionId);
-                    if (sourceVertexId != destinationVertexId) {
-                        final int otherVertexId = vertexId == sourceVertexId ? destinationVertexId : sourceVertexId;
-                        if ((vertexId < otherVertexId && graph.getTransactionDirection(transactionId) == GraphConstants.DOWNHILL)
-                                || (vertexId > otherVertexId && graph.getTransactionDirection(transactionId) == GraphConstants.UPHILL)) {
-                            authorities[vertexPosition] += hubs[otherVertexId];
-                        }
-                    }
-                    authorityDelta += Math.abs(previousAuthority - authorities[vertexPosition]);
-                }
-                authorityNorm += Math.pow(authorities[vertexPosition], 2);
-            }
-            authorityNorm = Math.sqrt(authorityNorm);
-
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                authorities[vertexPosition] /= authorityNorm;
-            }
-
-            double hubNorm = 0;
-            double hubDelta = 0;
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-                final double previousHub = hubs[vertexPosition];
-                hubs[vertexPosition] = 0;
-
-                final int transactionCount = graph.getVertexTransactionCount(vertexId);
-                for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
-                    final int transactionId = graph.getVertexTransaction(vertexId, transactionPosition);
-                    final int sourceVertexId = graph.getTransactionSourceVertex(transactionId);
-                    final int destinationVertexId = graph.getTransactionDestinationVertex(transactionId);
-                    if (sourceVertexId != destinationVertexId) {
-                        final int otherVertexId = vertexId == sourceVertexId ? destinationVertexId : sourceVertexId;
-                        if ((vertexId < otherVertexId && graph.getTransactionDirection(transactionId) == GraphConstants.UPHILL)
-                                || (vertexId > otherVertexId && graph.getTransactionDirection(transactionId) == GraphConstants.DOWNHILL)) {
-                            hubs[vertexPosition] += authorities[otherVertexId];
-                        }
-                    }
-                    hubDelta += Math.abs(previousHub - hubs[vertexPosition]);
-                }
-                hubNorm += Math.pow(hubs[vertexPosition], 2);
-            }
-            hubNorm = Math.sqrt(hubNorm);
-
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                hubs[vertexPosition] /= hubNorm;
-            }
+            PowerIterationKernel.multiply(incoming, hubs, tempScores);
+            final double authorityDelta = PowerIterationKernel.distance(authorities, tempScores, vertexCount);
+            final double authorityNorm = PowerIterationKernel.norm(tempScores, vertexCount);
+            System.arraycopy(tempScores, 0, authorities, 0, vertexCount);
+            PowerIterationKernel.divide(authorities, vertexCount, authorityNorm);
+
+            PowerIterationKernel.multiply(outgoing, authorities, tempScores);
+            final double hubDelta = PowerIterationKernel.distance(hubs, tempScores, vertexCount);
+            final double hubNorm = PowerIterationKernel.norm(tempScores, vertexCount);
+            System.arraycopy(tempScores, 0, hubs, 0, vertexCount);
+            PowerIterationKernel.divide(hubs, vertexCount, hubNorm);
 
             if (authorityDelta < epsilon || hubDelta < epsilon) {
                 break;
@@ -156,18 +116,11 @@ public class HitsCentralityPlugin extends SimpleEditPlugin {
         }
 
         if (normaliseByAvailable) {
-            double maxAuthority = 0;
-            double maxHub = 0;
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                maxAuthority = Math.max(authorities[vertexPosition], maxAuthority);
-                maxHub = Math.max(hubs[vertexPosition], maxHub);
-            }
-
+            final double maxAuthority = PowerIterationKernel.max(authorities, vertexCount);
+            final double maxHub = PowerIterationKernel.max(hubs, vertexCount);
             if (maxAuthority != 0 && maxHub != 0) {
-                for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                    authorities[vertexPosition] /= maxAuthority;
-                    hubs[vertexPosition] /= maxHub;
-                }
+                PowerIterationKernel.divide(authorities, vertexCount, maxAuthority);
+                PowerIterationKernel.divide(hubs, vertexCount, maxHub);
             }
         }
 
@@ -175,7 +128,7 @@ public class HitsCentralityPlugin extends SimpleEditPlugin {
         final int hitsAuthorityAttribute = HITS_AUTHORITY_ATTRIBUTE.ensure(graph);
         final int hitsHubAttribute = HITS_HUB_ATTRIBUTE.ensure(graph);
         for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-            final int vertexId = graph.getVertex(vertexPosition);
+            final int vertexId = incoming.getVertexId(vertexPosition);
             graph.setFloatValue(hitsAuthorityAttribute, vertexId, (float) authorities[vertexPosition]);
             graph.setFloatValue(hitsHubAttribute, vertexId, (float) hubs[vertexPosition]);
         }
@@ -15,8 +15,10 @@
  */
 package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
 
+import au.gov.asd.tac.constellation.graph.GraphConstants;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.schema.attribute.SchemaAttribute;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
@@ -32,8 +34,7 @@ import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterTyp
 import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType.IntegerParameterValue;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
-import org.eclipse.collections.api.list.primitive.MutableDoubleList;
-import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import java.util.Arrays;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.ServiceProvider;
 
@@ -124,52 +125,28 @@ public class KatzCentralityPlugin extends SimpleEditPlugin {
 
         assert !normaliseByPossible || !normaliseByAvailable : "You should only select one method of normalisation";
 
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, true, true, true, GraphConstants.NOT_FOUND);
+
         // initialise katz values
-        final int vertexCount = graph.getVertexCount();
-        final MutableDoubleList tempKatz = new DoubleArrayList();
-        final MutableDoubleList katz = new DoubleArrayList();
-        for (int i = 0; i < vertexCount; i++) {
-            tempKatz.add(0.0);
-            katz.add(1.0 / vertexCount);
-        }
-        
+        final int vertexCount = snapshot.getVertexCount();
+        final double[] tempKatz = new double[vertexCount];
+        final double[] katz = new double[vertexCount];
+        Arrays.fill(katz, 1.0 / vertexCount);
+
         // calculate katz for each vertex
         for (int iteration = 0; iteration < iterations; iteration++) {
-            for (int i = 0; i < vertexCount; i++) {
-                tempKatz.set(i, 0.0);
-            }
-            
-            double sumSquaredKatz = 0;
-            double maxKatz = 0;
-            double delta = 0;
+            PowerIterationKernel.multiply(snapshot, katz, tempKatz);
             for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-
-                final int neighbourCount = graph.getVertexNeighbourCount(vertexId);
-                for (int vertexNeighbourPosition = 0; vertexNeighbourPosition < neighbourCount; vertexNeighbourPosition++) {
-                    final int neighbourId = graph.getVertexNeighbour(vertexId, vertexNeighbourPosition);
-                    final int neighbourPosition = graph.getVertexPosition(neighbourId);
-                    if (vertexId != neighbourId) {                        
-                        tempKatz.set(neighbourPosition, tempKatz.get(neighbourPosition) + katz.get(vertexPosition));
-                    }
-                }
-            }
-
-            for (int vertexPosition = 0; vertexPosition < graph.getVertexCount(); vertexPosition++) {
-                tempKatz.set(vertexPosition, alpha * tempKatz.get(vertexPosition) + beta);
-                sumSquaredKatz += Math.pow(tempKatz.get(vertexPosition), 2);
-                maxKatz = Math.max(tempKatz.get(vertexPosition), maxKatz);
-                delta += Math.abs(katz.get(vertexPosition) - tempKatz.get(vertexPosition));
+                tempKatz[vertexPosition] = alpha * tempKatz[vertexPosition] + beta;
             }
 
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                if (normaliseByPossible) {
-                    katz.set(vertexPosition, tempKatz.get(vertexPosition) / Math.sqrt(sumSquaredKatz));
-                } else if (normaliseByAvailable && maxKatz > 0) {
-                    katz.set(vertexPosition, tempKatz.get(vertexPosition) / maxKatz);
-                } else {
-                    katz.set(vertexPosition, tempKatz.get(vertexPosition));
-                }
+            final double delta = PowerIterationKernel.distance(katz, tempKatz, vertexCount);
+            final double maxKatz = PowerIterationKernel.max(tempKatz, vertexCount);
+            System.arraycopy(tempKatz, 0, katz, 0, vertexCount);
+            if (normaliseByPossible) {
+                PowerIterationKernel.divide(katz, vertexCount, PowerIterationKernel.norm(tempKatz, vertexCount));
+            } else if (normaliseByAvailable && maxKatz > 0) {
+                PowerIterationKernel.divide(katz, vertexCount, maxKatz);
             }
 
             if (delta < epsilon) {
@@ -180,8 +157,7 @@ public class KatzCentralityPlugin extends SimpleEditPlugin {
         // update the graph with katz values
         final int katzAttribute = KATZ_ATTRIBUTE.ensure(graph);
         for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-            final int vertexId = graph.getVertex(vertexPosition);
-            graph.setFloatValue(katzAttribute, vertexId, (float) katz.get(vertexPosition));
+            graph.setFloatValue(katzAttribute, snapshot.getVertexId(vertexPosition), (float) katz[vertexPosition]);
         }
     }
 }
@@ -18,6 +18,7 @@ package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
 import au.gov.asd.tac.constellation.graph.GraphConstants;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.schema.attribute.SchemaAttribute;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
@@ -32,10 +33,6 @@ import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterTyp
 import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType.IntegerParameterValue;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
-import java.util.HashSet;
-import java.util.Set;
-import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
-import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.ServiceProvider;
 
@@ -97,177 +94,89 @@ public class PagerankCentralityPlugin extends SimpleEditPlugin {
 
     @Override
     public void edit(final GraphWriteMethods graph, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException {
-        final float dampingFactor = parameters.getFloatValue(DAMPING_FACTOR_PARAMETER_ID);
+        final boolean treatUndirectedBidirectional = parameters.getBooleanValue(TREAT_UNDIRECTED_BIDIRECTIONAL_PARAMETER_ID);
+        final double dampingFactor = parameters.getFloatValue(DAMPING_FACTOR_PARAMETER_ID);
         final int maxIterations = parameters.getIntegerValue(ITERATIONS_PARAMETER_ID);
         final float epsilon = parameters.getFloatValue(EPSILON_PARAMETER_ID);
         final boolean normaliseByAvailable = parameters.getBooleanValue(NORMALISE_AVAILABLE_PARAMETER_ID);
 
-        PagerankController.initialiseAllPagerankVertices(graph, parameters.getBooleanValue(TREAT_UNDIRECTED_BIDIRECTIONAL_PARAMETER_ID), dampingFactor, normaliseByAvailable);
+        // each vertex pulls pagerank from the vertices with a connection towards it
+        final CompressedGraphSnapshot outgoing = CompressedGraphSnapshot.build(graph, false, true, treatUndirectedBidirectional, GraphConstants.NOT_FOUND);
+        final CompressedGraphSnapshot incoming = outgoing.transpose();
+
+        final int vertexCount = outgoing.getVertexCount();
+        final double baseContribution = (1 - dampingFactor) / vertexCount;
+        final double[] pageranks = new double[vertexCount];
+        final double[] stagedPageranks = new double[vertexCount];
+        final double[] contributions = new double[vertexCount];
+        final int[] outCounts = new int[vertexCount];
+        final boolean[] sinks = new boolean[vertexCount];
+
+        for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+            pageranks[vertexPosition] = 1.0 / vertexCount;
+            outCounts[vertexPosition] = outgoing.getNeighbourCount(vertexPosition);
+
+            // If it is a sink (that is it has no outgoing transaction) then treat it as if it connect to every other vertex. Otherwise the total pagerank will gradually reduce from one to zero.
+            if (outCounts[vertexPosition] == 0) {
+                outCounts[vertexPosition] = vertexCount - 1;
+                sinks[vertexPosition] = true;
+            }
+        }
+        double sinkContribution = updateContributions(pageranks, outCounts, sinks, contributions);
 
         // calculate pageranks
         for (int currentIteration = 0; currentIteration < maxIterations; currentIteration++) {
             interaction.setProgress(currentIteration, maxIterations, "Iteration " + currentIteration + " of " + maxIterations, true);
 
-            PagerankController.updateAllPageranks();
-
-            if (PagerankController.delta < epsilon) {
-                break;
-            }
-
-        }
-
-        // update the graph with pagerank values
-        PagerankController.commitPageranksToGraph();
-    }
-
-    private static class PagerankController {
-
-        private static final Set<PagerankVertex> sinks = new HashSet<>();
-        private static boolean treatUndirectedBidirectional;
-        private static boolean normaliseByAvailable;
-        private static final MutableIntObjectMap<PagerankVertex> pagerankVertices = new IntObjectHashMap<>();
-        private static GraphWriteMethods graph;
-        private static double dampingFactor = 0;
-        private static int vertexCount = 0;
-        private static double sinkPagerankContribution = 0;
-        private static double delta = 0;
-        private static int pagerankAttribute;
-        private static double baseContribution;
-
-        public static void initialiseAllPagerankVertices(final GraphWriteMethods graph, final boolean treatUndirectedBidirectional, final double dampingFactor, final boolean normaliseByAvailable) {
-            PagerankController.graph = graph;
-            PagerankController.vertexCount = graph.getVertexCount();
-            PagerankController.treatUndirectedBidirectional = treatUndirectedBidirectional;
-            PagerankController.normaliseByAvailable = normaliseByAvailable;
-            PagerankController.pagerankAttribute = PAGERANK_ATTRIBUTE.ensure(graph);
-            PagerankController.dampingFactor = dampingFactor;
-            PagerankController.baseContribution = (1 - dampingFactor) / vertexCount;
-
-            graph.vertexStream().forEach(id -> {
-                final PagerankVertex prVertex = new PagerankVertex(id, vertexCount);
-                pagerankVertices.put(id, prVertex);
-            });
-
-            calculateAllOutgoingAndNeighboursAndPagerankContribution();
-            updateSinkPagerankContribution();
-        }
-
-        private static void calculateAllOutgoingAndNeighboursAndPagerankContribution() {
-            for (final PagerankVertex pgVertex : pagerankVertices.values()) {
-                // identify incoming connections and store connected vertices and their outgoing connection count
-                final int linkCount = graph.getVertexLinkCount(pgVertex.vertexId);
-                for (int linkPosition = 0; linkPosition < linkCount; linkPosition++) {
-                    //              For each link
-                    final int linkId = graph.getVertexLink(pgVertex.vertexId, linkPosition);
-                    final int linkLowId = graph.getLinkLowVertex(linkId);
-                    final int linkHighId = graph.getLinkHighVertex(linkId);
-                    if (linkLowId != linkHighId) {
-                        // If it isnt a link to itself
-                        final int neighbourId = pgVertex.vertexId == linkLowId ? linkHighId : linkLowId;
-                        final int edgeCount = graph.getLinkEdgeCount(linkId);
-                        for (int edgePosition = 0; edgePosition < edgeCount; edgePosition++) {
-                            // Then for every edge in the link
-                            final int edgeId = graph.getLinkEdge(linkId, edgePosition);
-                            final int edgeDirection = graph.getEdgeDirection(edgeId);
-                            if ((treatUndirectedBidirectional && edgeDirection == GraphConstants.FLAT)
-                                    || graph.getEdgeSourceVertex(edgeId) == pgVertex.vertexId) {
-                                // If egde is facing outwards, add 1 to outCount.
-                                pgVertex.outCount += 1;
-                            } else if ((treatUndirectedBidirectional && edgeDirection == GraphConstants.FLAT)
-                                    || graph.getEdgeDestinationVertex(edgeId) == pgVertex.vertexId) {
-                                // If edge is facing towards vertex add the source as a neighbour.
-                                pgVertex.neighbours.add(pagerankVertices.get(neighbourId));
-                            }
-                        }
-                    }
+            PowerIterationKernel.multiply(incoming, contributions, stagedPageranks);
+            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+                double neighbourContribution = sinkContribution;
+                if (sinks[vertexPosition]) {
+                    neighbourContribution -= contributions[vertexPosition];
                 }
-                // If it is a sink (that is it has no outgoing transaction) then treat it as if it connect to every other vertex. Otherwise the total pagerank will gradually reduce from one to zero.
-                if (pgVertex.outCount == 0) {
-                    pgVertex.outCount = vertexCount - 1;
-                    sinks.add(pgVertex);
-                    pgVertex.isSink = true;
-                }
-                pgVertex.updatePagerankContribution();
+                neighbourContribution += stagedPageranks[vertexPosition];
+                stagedPageranks[vertexPosition] = baseContribution + (dampingFactor * neighbourContribution);
             }
-        }
 
-        private static void updateSinkPagerankContribution() {
-            sinkPagerankContribution = sinks.parallelStream().mapToDouble(pgVertex -> pgVertex.pagerankContribution).sum();
-        }
-
-        private static void updateAllPageranks() {
-            delta = 0;
-            double maxPagerank = 0;
-            for (final PagerankVertex pgVertex : pagerankVertices.values()) {
-                pgVertex.stageNewPagerank(sinkPagerankContribution, baseContribution, dampingFactor);
-                delta += Math.abs(pgVertex.pagerank - pgVertex.stagedPagerank);
-                if (pgVertex.stagedPagerank > maxPagerank) {
-                    maxPagerank = pgVertex.stagedPagerank;
-                }
-            }
-            for (final PagerankVertex pgVertex : pagerankVertices.values()) {
-                if (normaliseByAvailable && maxPagerank > 0) {
-                    pgVertex.pagerank = pgVertex.stagedPagerank / maxPagerank;
-                } else {
-                    pgVertex.pagerank = pgVertex.stagedPagerank;
-                }
-                pgVertex.updatePagerankContribution();
+            final double delta = PowerIterationKernel.distance(pageranks, stagedPageranks, vertexCount);
+            final double maxPagerank = PowerIterationKernel.max(stagedPageranks, vertexCount);
+            System.arraycopy(stagedPageranks, 0, pageranks, 0, vertexCount);
+            if (normaliseByAvailable && maxPagerank > 0) {
+                PowerIterationKernel.divide(pageranks, vertexCount, maxPagerank);
             }
-            updateSinkPagerankContribution();
-        }
+            sinkContribution = updateContributions(pageranks, outCounts, sinks, contributions);
 
-        private static void commitPageranksToGraph() {
-            for (final PagerankVertex pgVertex : pagerankVertices.values()) {
-                commitPagerankToGraph(pgVertex);
+            if (delta < epsilon) {
+                break;
             }
-            reset();
-        }
-
-        private static void commitPagerankToGraph(final PagerankVertex pagerankVertex) {
-            graph.setDoubleValue(pagerankAttribute, pagerankVertex.vertexId, pagerankVertex.pagerank);
         }
 
-        private static void reset() {
-            graph = null;
-            sinks.clear();
-            dampingFactor = 0;
-            vertexCount = 0;
-            sinkPagerankContribution = 0;
-            delta = 0;
-            pagerankVertices.clear();
+        // update the graph with pagerank values
+        final int pagerankAttribute = PAGERANK_ATTRIBUTE.ensure(graph);
+        for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
+            graph.setDoubleValue(pagerankAttribute, outgoing.getVertexId(vertexPosition), pageranks[vertexPosition]);
         }
     }
 
-    private static class PagerankVertex {
-
-        private final int vertexId;
-        private final Set<PagerankVertex> neighbours = new HashSet<>();
-        private int outCount = 0;
-        private double pagerank;
-        private double pagerankContribution;
-        private double stagedPagerank;
-        private boolean isSink = false;
-
-        private PagerankVertex(final int vertexId, final int vertexCount) {
-            this.vertexId = vertexId;
-            this.pagerank = 1.0 / vertexCount;
-            this.pagerankContribution = 0;
-        }
-
-        private void updatePagerankContribution() {
-            pagerankContribution = pagerank / outCount;
-        }
-
-        private void stageNewPagerank(final double sinkPagerankContribution, final double baseContribution,
-                final double dampingFactor) {
-            double neighbourContribution = sinkPagerankContribution;
-            if (isSink) {
-                neighbourContribution -= pagerankContribution;
+    /**
+     * Calculate the pagerank each vertex contributes to each of its outgoing
+     * neighbours.
+     *
+     * @param pageranks the current pagerank of each vertex.
+     * @param outCounts the number of outgoing neighbours of each vertex.
+     * @param sinks whether each vertex is a sink.
+     * @param contributions the array to store the contributions in.
+     * @return the total contribution of the sinks, which is shared with every
+     * vertex.
+     */
+    private static double updateContributions(final double[] pageranks, final int[] outCounts, final boolean[] sinks, final double[] contributions) {
+        double sinkContribution = 0;
+        for (int vertexPosition = 0; vertexPosition < pageranks.length; vertexPosition++) {
+            contributions[vertexPosition] = pageranks[vertexPosition] / outCounts[vertexPosition];
+            if (sinks[vertexPosition]) {
+                sinkContribution += contributions[vertexPosition];
             }
-
-            neighbourContribution += neighbours.parallelStream().mapToDouble(pgVertex -> pgVertex.pagerankContribution).sum();
-
-            stagedPagerank = baseContribution + (dampingFactor * neighbourContribution);
         }
+        return sinkContribution;
     }
 }
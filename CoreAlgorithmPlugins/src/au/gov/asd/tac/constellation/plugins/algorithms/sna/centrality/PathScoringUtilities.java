@@ -36,7 +36,6 @@ import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 public class PathScoringUtilities {
 
     private static final String SCORETYPE_ERROR_FORMAT = "The requested ScoreType, %s, is not supported.";
-    private static final String OUT_OF_BOUNDS_EXCEPTION_STRING = "The 'selected' attribute does not exist on the given graph.";
 
     public enum ScoreType {
 
@@ -85,10 +84,14 @@ public class PathScoringUtilities {
 
     public static Tuple<BitSet[], float[]> calculateScores(final GraphReadMethods graph, final ScoreType scoreType,
             final boolean includeConnectionsIn, final boolean includeConnectionsOut, final boolean treatUndirectedBidirectional, final boolean selectedOnly) {
+        if (scoreType.requiresShortestPaths()) {
+            // shortest path scores are calculated by the Brandes engine, which does not require a traversal per vertex
+            return BrandesCentralityEngine.calculateScores(graph, scoreType, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly);
+        }
         if (includeConnectionsIn && includeConnectionsOut) {
-            return scoreType.requiresShortestPaths() ? computeShortestPathsUndirected(graph, scoreType, selectedOnly) : computeAllPathsUndirected(graph, scoreType);
+            return computeAllPathsUndirected(graph, scoreType);
         } else {
-            return scoreType.requiresShortestPaths() ? computeShortestPathsDirected(graph, scoreType, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly) : computeAllPathsDirected(graph, scoreType, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional);
+            return computeAllPathsDirected(graph, scoreType, includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional);
         }
     }
 
@@ -449,332 +452,6 @@ public class PathScoringUtilities {
         };
     }
 
-    /**
-     * Wrapper function for computeShortestPathsUndirectedThreeTuple that transforms the result into a two tuple
-     *
-     * @param graph The graph to compute the shortest paths of
-     * @param scoreType Either BETWEENNESS, CLOSENESS, FARNESS, HARMONIC_CLOSENESS, HARMONIC_FARNESS
-     * @param selectedOnly Whether or not to restrict to only selected nodes
-     *
-     * @return Tuple containing an array of BitSets representing each node's traversal and an array of floats with each
-     * node's score
-     */
-    protected static Tuple<BitSet[], float[]> computeShortestPathsUndirected(final GraphReadMethods graph, final ScoreType scoreType, final boolean selectedOnly) {
-        // Run the algorithm
-        final ThreeTuple<BitSet[], float[], BitSet> result = computeShortestPathsUndirectedThreeTuple(graph, scoreType, selectedOnly);
-
-        return convertThreeTupleResultsToTwo(result, graph.getVertexCount(), scoreType);
-    }
-
-    /**
-     * Calculates the shortest paths (undirected) for the given graph
-     *
-     * @param graph The graph to compute the shortest paths of
-     * @param scoreType Either BETWEENNESS, CLOSENESS, FARNESS, HARMONIC_CLOSENESS, HARMONIC_FARNESS
-     * @param selectedOnly Whether or not to restrict to only selected nodes
-     *
-     * @return ThreeTuple containing an array of BitSets representing each node's traversal, an array of floats with
-     * each node's score, and a BitSet representing which nodes from the graph are actually influential to the function
-     */
-    protected static ThreeTuple<BitSet[], float[], BitSet> computeShortestPathsUndirectedThreeTuple(final GraphReadMethods graph, final ScoreType scoreType, final boolean selectedOnly) {
-        final int vertexCount = graph.getVertexCount();
-        final BitSet update = new BitSet(vertexCount);
-        final BitSet updateUnmodified = new BitSet(vertexCount);
-
-        final MutableIntList updatedVertexIndexArray = new IntArrayList();
-
-        // initialise variables
-        for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-            if (graph.getVertexNeighbourCount(graph.getVertex(vertexPosition)) > 0) {
-                updatedVertexIndexArray.add(vertexPosition);
-                update.set(vertexPosition);
-                updateUnmodified.set(vertexPosition);
-            }
-        }
-
-        final int updateVertexCount = updatedVertexIndexArray.size();
-        final BitSet[] traversal = new BitSet[updateVertexCount];
-        final float[] scores = new float[updateVertexCount]; // Array initialised with 0's
-
-        final BitSet[] sendFails = new BitSet[updateVertexCount];
-        final BitSet[] sendBuffer = new BitSet[updateVertexCount];
-        final BitSet[] exclusions = new BitSet[updateVertexCount];
-        final BitSet newUpdate = new BitSet(vertexCount);
-        final BitSet turn = new BitSet(updateVertexCount);
-
-        // initialise variables
-        for (int vertexPosition = 0; vertexPosition < updateVertexCount; vertexPosition++) {
-            traversal[vertexPosition] = new BitSet(updateVertexCount);
-            sendFails[vertexPosition] = new BitSet(updateVertexCount);
-            sendBuffer[vertexPosition] = new BitSet(updateVertexCount);
-            exclusions[vertexPosition] = new BitSet(updateVertexCount);
-        }
-
-        while (!update.isEmpty()) {
-            // update the information of each node with messages
-            for (int i = 0; i < updateVertexCount; i++) {
-                traversal[i].or(sendBuffer[i]);
-                traversal[i].set(i);
-                sendFails[i].clear();
-                sendFails[i].or(sendBuffer[i]);
-                sendBuffer[i].clear();
-            }
-
-            // for each neighbour, check if there is any new information it needs to receive
-            for (int i = 0; i < updateVertexCount; i++) {
-                final int vertexId = graph.getVertex(updatedVertexIndexArray.get(i));
-
-                for (int vertexNeighbourPosition = 0; vertexNeighbourPosition < graph.getVertexNeighbourCount(vertexId); vertexNeighbourPosition++) {
-                    final int neighbourId = graph.getVertexNeighbour(vertexId, vertexNeighbourPosition);
-                    final int neighbourPosition = updatedVertexIndexArray.indexOf(graph.getVertexPosition(neighbourId));
-                    if (!traversal[i].equals(traversal[neighbourPosition])) {
-                        turn.set(neighbourPosition, true);
-
-                        final BitSet diff = (BitSet) traversal[i].clone();
-                        diff.andNot(traversal[neighbourPosition]);
-                        sendBuffer[neighbourPosition].or(diff);
-                        sendFails[i].andNot(diff);
-                        newUpdate.set(graph.getVertexPosition(neighbourId));
-                    }
-                }
-                for (int neighbourPosition = sendFails[i].nextSetBit(0); neighbourPosition >= 0; neighbourPosition = sendFails[i].nextSetBit(neighbourPosition + 1)) {
-                    exclusions[neighbourPosition].set(i, true);
-                }
-            }
-
-            // update scores based on the current traversal state
-            switch (scoreType) {
-                case BETWEENNESS ->
-                    updateBetweennessScoresUndirected(graph, traversal, scores, sendBuffer, exclusions, turn, selectedOnly);
-                case CLOSENESS, FARNESS ->
-                    updateFarnessScoresUndirected(graph, traversal, scores, sendBuffer, exclusions, turn, selectedOnly);
-                case HARMONIC_CLOSENESS, HARMONIC_FARNESS ->
-                    updateHarmonicFarnessScoresUndirected(graph, traversal, scores, sendBuffer, exclusions, turn, selectedOnly);
-                default ->
-                    throw new IllegalArgumentException(String.format(SCORETYPE_ERROR_FORMAT, scoreType));
-            }
-
-            turn.clear();
-            update.clear();
-            update.or(newUpdate);
-            newUpdate.clear();
-        }
-
-        // convert farness to closeness by taking the inverse of each score
-        if (scoreType == ScoreType.CLOSENESS) {
-            for (int index = 0; index < scores.length; index++) {
-                scores[index] = scores[index] == 0 ? 0 : 1 / scores[index];
-            }
-        }
-
-        // convert harmonic farness to harmonic closeness by normalising each
-        // score by the number of vertices on the graph
-        if (scoreType == ScoreType.HARMONIC_CLOSENESS) {
-            for (int index = 0; index < scores.length; index++) {
-                scores[index] = scores[index] == 0 ? 0 : scores[index] / scores.length;
-            }
-        }
-        return ThreeTuple.create(traversal, scores, updateUnmodified);
-    }
-
-    protected static Tuple<BitSet[], float[]> computeShortestPathsDirected(final GraphReadMethods graph, final ScoreType scoreType,
-            final boolean includeConnectionsIn, final boolean includeConnectionsOut, final boolean treatUndirectedBidirectional, final boolean selectedOnly) {
-        // Run the algorithm
-        final ThreeTuple<BitSet[], float[], BitSet> result = computeShortestPathsDirectedThreeTuple(graph, scoreType,
-                includeConnectionsIn, includeConnectionsOut, treatUndirectedBidirectional, selectedOnly);
-
-        // Convert results into a two tuple
-        return convertThreeTupleResultsToTwo(result, graph.getVertexCount(), scoreType);
-    }
-
-    protected static ThreeTuple<BitSet[], float[], BitSet> computeShortestPathsDirectedThreeTuple(final GraphReadMethods graph, final ScoreType scoreType,
-            final boolean includeConnectionsIn, final boolean includeConnectionsOut, final boolean treatUndirectedBidirectional, final boolean selectedOnly) {
-
-        final int vertexCount = graph.getVertexCount();
-
-        final BitSet updateUnmodified = new BitSet(vertexCount); // A Copy of updateF that wont be modified during this functions execution, will be returned
-        final BitSet updateF = new BitSet(vertexCount);
-        final BitSet updateB = new BitSet(vertexCount);
-        final MutableIntList updatedVertexIndexArray = new IntArrayList();
-
-        // initialise variables
-        for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-            if (graph.getVertexNeighbourCount(graph.getVertex(vertexPosition)) > 0) {
-                updatedVertexIndexArray.add(vertexPosition);
-
-                updateF.set(vertexPosition);
-                updateB.set(vertexPosition);
-                updateUnmodified.set(vertexPosition);
-            }
-        }
-
-        final int updateVertexCount = updatedVertexIndexArray.size();
-
-        final BitSet[] traversalF = new BitSet[updateVertexCount];
-        final BitSet[] traversalB = new BitSet[updateVertexCount];
-        final float[] scores = new float[updateVertexCount]; // Initialises with 0
-
-        final BitSet[] sendFailsF = new BitSet[updateVertexCount];
-        final BitSet[] sendBufferF = new BitSet[updateVertexCount];
-        final BitSet[] exclusionsF = new BitSet[updateVertexCount];
-        final BitSet newUpdateF = new BitSet(vertexCount);
-
-        final BitSet[] sendFailsB = new BitSet[updateVertexCount];
-        final BitSet[] sendBufferB = new BitSet[updateVertexCount];
-        final BitSet[] exclusionsB = new BitSet[updateVertexCount];
-        final BitSet newUpdateB = new BitSet(vertexCount);
-
-        final BitSet turn = new BitSet(updateVertexCount);
-
-        // initialise variables
-        for (int vertexPosition = 0; vertexPosition < updateVertexCount; vertexPosition++) {
-            traversalF[vertexPosition] = new BitSet(updateVertexCount);
-            sendFailsF[vertexPosition] = new BitSet(updateVertexCount);
-            sendBufferF[vertexPosition] = new BitSet(updateVertexCount);
-            exclusionsF[vertexPosition] = new BitSet(updateVertexCount);
-
-            traversalB[vertexPosition] = new BitSet(updateVertexCount);
-            sendFailsB[vertexPosition] = new BitSet(updateVertexCount);
-            sendBufferB[vertexPosition] = new BitSet(updateVertexCount);
-            exclusionsB[vertexPosition] = new BitSet(updateVertexCount);
-
-        }
-
-        while (!updateF.isEmpty() || !updateB.isEmpty()) {
-            // update the information of each node with messages
-            for (int i = 0; i < updateVertexCount; i++) {
-                traversalF[i].or(sendBufferF[i]);
-                traversalF[i].set(i);
-                sendFailsF[i].clear();
-                sendFailsF[i].or(sendBufferF[i]);
-                sendBufferF[i].clear();
-
-                traversalB[i].or(sendBufferB[i]);
-                traversalB[i].set(i);
-                sendFailsB[i].clear();
-                sendFailsB[i].or(sendBufferB[i]);
-                sendBufferB[i].clear();
-            }
-
-            // for each neighbour, check if there is any new information it needs to receive
-            for (int vertexPositionGlobal = updateF.nextSetBit(0); vertexPositionGlobal >= 0; vertexPositionGlobal = updateF.nextSetBit(vertexPositionGlobal + 1)) {
-                final int vertexId = graph.getVertex(vertexPositionGlobal);
-                final int vertexPosition = updatedVertexIndexArray.indexOf(graph.getVertexPosition(vertexId));
-
-                for (int vertexNeighbourPosition = 0; vertexNeighbourPosition < graph.getVertexNeighbourCount(vertexId); vertexNeighbourPosition++) {
-                    final int neighbourId = graph.getVertexNeighbour(vertexId, vertexNeighbourPosition);
-                    final int neighbourPosition = updatedVertexIndexArray.indexOf(graph.getVertexPosition(neighbourId));
-
-                    boolean isRequestedDirection = false;
-                    final int linkId = graph.getLink(vertexId, neighbourId);
-                    for (int linkEdgePosition = 0; linkEdgePosition < graph.getLinkEdgeCount(linkId); linkEdgePosition++) {
-                        final int edgeId = graph.getLinkEdge(linkId, linkEdgePosition);
-                        final int edgeDirection = graph.getEdgeDirection(edgeId);
-                        isRequestedDirection = (treatUndirectedBidirectional && edgeDirection == GraphConstants.UNDIRECTED)
-                                || (includeConnectionsIn && graph.getEdgeDestinationVertex(edgeId) == neighbourId)
-                                || (includeConnectionsOut && graph.getEdgeSourceVertex(edgeId) == neighbourId);
-                        if (isRequestedDirection) {
-                            break;
-                        }
-                    }
-
-                    if (isRequestedDirection && !traversalF[vertexPosition].equals(traversalF[neighbourPosition])) {
-                        turn.set(neighbourPosition, true);
-
-                        final BitSet diff = (BitSet) traversalF[vertexPosition].clone();
-                        diff.andNot(traversalF[neighbourPosition]);
-                        sendBufferF[neighbourPosition].or(diff);
-                        sendFailsF[vertexPosition].andNot(diff);
-                        newUpdateF.set(graph.getVertexPosition(neighbourId));
-                    }
-                }
-                for (int neighbourPosition = sendFailsF[vertexPosition].nextSetBit(0); neighbourPosition >= 0; neighbourPosition = sendFailsF[vertexPosition].nextSetBit(neighbourPosition + 1)) {
-                    exclusionsF[neighbourPosition].set(vertexPosition, true);
-                }
-            }
-
-            // for each neighbour, check if there is any new information it needs to receive
-            for (int vertexPositionGlobal = updateB.nextSetBit(0); vertexPositionGlobal >= 0; vertexPositionGlobal = updateB.nextSetBit(vertexPositionGlobal + 1)) {
-                final int vertexId = graph.getVertex(vertexPositionGlobal);
-                final int vertexPosition = updatedVertexIndexArray.indexOf(graph.getVertexPosition(vertexId));
-
-                for (int vertexNeighbourPosition = 0; vertexNeighbourPosition < graph.getVertexNeighbourCount(vertexId); vertexNeighbourPosition++) {
-                    final int neighbourId = graph.getVertexNeighbour(vertexId, vertexNeighbourPosition);
-                    final int neighbourPosition = updatedVertexIndexArray.indexOf(graph.getVertexPosition(neighbourId));
-
-                    boolean isOppositeDirection = false;
-                    int linkId = graph.getLink(vertexId, neighbourId);
-                    for (int linkEdgePosition = 0; linkEdgePosition < graph.getLinkEdgeCount(linkId); linkEdgePosition++) {
-                        final int edgeId = graph.getLinkEdge(linkId, linkEdgePosition);
-                        final int edgeDirection = graph.getEdgeDirection(edgeId);
-                        isOppositeDirection = (treatUndirectedBidirectional && edgeDirection == GraphConstants.UNDIRECTED)
-                                || (includeConnectionsIn && graph.getEdgeSourceVertex(edgeId) == neighbourId)
-                                || (includeConnectionsOut && graph.getEdgeDestinationVertex(edgeId) == neighbourId);
-                        if (isOppositeDirection) {
-                            break;
-                        }
-                    }
-
-                    if (isOppositeDirection && !traversalB[vertexPosition].equals(traversalB[neighbourPosition])) {
-                        final BitSet diff = (BitSet) traversalB[vertexPosition].clone();
-                        diff.andNot(traversalB[neighbourPosition]);
-                        sendBufferB[neighbourPosition].or(diff);
-                        sendFailsB[vertexPosition].andNot(diff);
-                        newUpdateB.set(graph.getVertexPosition(neighbourId));
-                    }
-                }
-                for (int neighbourPosition = sendFailsB[vertexPosition].nextSetBit(0); neighbourPosition >= 0; neighbourPosition = sendFailsB[vertexPosition].nextSetBit(neighbourPosition + 1)) {
-                    exclusionsB[neighbourPosition].set(vertexPosition, true);
-                }
-            }
-
-            // update scores based on the current traversal state
-            switch (scoreType) {
-                case BETWEENNESS ->
-                    updateBetweennessScoresDirected(graph, traversalF, traversalB, scores, sendBufferF, sendBufferB, exclusionsF, exclusionsB, turn, selectedOnly);
-                case CLOSENESS, FARNESS ->
-                    updateFarnessScoresDirected(graph, traversalF, traversalB, scores, sendBufferF, sendBufferB, exclusionsF, exclusionsB, turn, selectedOnly);
-                case HARMONIC_CLOSENESS, HARMONIC_FARNESS ->
-                    updateHarmonicFarnessScoresDirected(graph, traversalF, traversalB, scores, sendBufferF, sendBufferB, exclusionsF, exclusionsB, turn, selectedOnly);
-                default ->
-                    throw new IllegalArgumentException(String.format(SCORETYPE_ERROR_FORMAT, scoreType));
-            }
-
-            turn.clear();
-
-            updateF.clear();
-            updateF.or(newUpdateF);
-            newUpdateF.clear();
-
-            updateB.clear();
-            updateB.or(newUpdateB);
-            newUpdateB.clear();
-        }
-
-        for (int vertexPosition = 0; vertexPosition < updateVertexCount; vertexPosition++) {
-            if (traversalB[vertexPosition] != null) {
-                traversalF[vertexPosition].or(traversalB[vertexPosition]);
-            }
-        }
-
-        // convert farness to closeness by taking the inverse of each score
-        if (scoreType == ScoreType.CLOSENESS) {
-            for (int index = 0; index < scores.length; index++) {
-                scores[index] = scores[index] == 0 ? 0 : 1 / scores[index];
-            }
-        }
-
-        // convert harmonic farness to harmonic closeness by normalising each
-        // score by the number of vertices on the graph
-        if (scoreType == ScoreType.HARMONIC_CLOSENESS) {
-            for (int index = 0; index < scores.length; index++) {
-                scores[index] = scores[index] == 0 ? 0 : scores[index] / scores.length;
-            }
-        }
-
-        return ThreeTuple.create(traversalF, scores, updateUnmodified);
-    }
-
     private static void updateEccentricityScoresUndirected(final float[] scores, final BitSet turn) {
         // for each node that has a message in transit, update its eccentricity
         for (int vxId = turn.nextSetBit(0); vxId >= 0; vxId = turn.nextSetBit(vxId + 1)) {
@@ -806,183 +483,6 @@ public class PathScoringUtilities {
         }
     }
 
-    private static void updateBetweennessScoresUndirected(final GraphReadMethods graph, final BitSet[] traversal, final float[] scores,
-            final BitSet[] sendBuffer, final BitSet[] exclusions, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBuffer[vertexPosition].clone();
-            diff.andNot(traversal[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBuffer[vertexPosition].get(newVertexPosition)) {
-                    final boolean vertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(vertexPosition));
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || (vertexSelected && newVertexSelected)) {
-                        final BitSet intersection = (BitSet) traversal[newVertexPosition].clone();
-                        intersection.and(traversal[vertexPosition]);
-                        intersection.andNot(sendBuffer[vertexPosition]);
-                        intersection.andNot(sendBuffer[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusions[vertexPosition].get(index) && exclusions[newVertexPosition].get(index)) {
-                                continue;
-                            }
-                            scores[index]++;
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private static void updateBetweennessScoresDirected(final GraphReadMethods graph, final BitSet[] traversalF, final BitSet[] traversalB, final float[] scores,
-            final BitSet[] sendBufferF, final BitSet[] sendBufferB, final BitSet[] exclusionsF, final BitSet[] exclusionsB, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBufferF[vertexPosition].clone();
-            diff.andNot(traversalF[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBufferF[vertexPosition].get(newVertexPosition) && sendBufferB[newVertexPosition].get(vertexPosition)) {
-                    final boolean vertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(vertexPosition));
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || (vertexSelected && newVertexSelected)) {
-                        final BitSet intersection = (BitSet) traversalB[newVertexPosition].clone();
-                        intersection.and(traversalF[vertexPosition]);
-                        intersection.andNot(sendBufferF[vertexPosition]);
-                        intersection.andNot(sendBufferB[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusionsB[vertexPosition].get(index) && exclusionsF[newVertexPosition].get(index)) {
-                                continue;
-                            }
-                            scores[index]++;
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private static void updateFarnessScoresUndirected(final GraphReadMethods graph, final BitSet[] traversal, final float[] scores,
-            final BitSet[] sendBuffer, final BitSet[] exclusions, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBuffer[vertexPosition].clone();
-            diff.andNot(traversal[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBuffer[vertexPosition].get(newVertexPosition)) {
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || newVertexSelected) {
-                        final BitSet intersection = (BitSet) traversal[newVertexPosition].clone();
-                        intersection.and(traversal[vertexPosition]);
-                        intersection.andNot(sendBuffer[vertexPosition]);
-                        intersection.andNot(sendBuffer[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusions[vertexPosition].get(index) && exclusions[newVertexPosition].get(index)) {
-                                intersection.set(index, false);
-                            }
-                        }
-                        scores[vertexPosition] += (intersection.cardinality() + 1);
-                    }
-                }
-            }
-        }
-    }
-
-    private static void updateFarnessScoresDirected(final GraphReadMethods graph, final BitSet[] traversalF, final BitSet[] traversalB, final float[] scores,
-            final BitSet[] sendBufferF, final BitSet[] sendBufferB, final BitSet[] exclusionsF, final BitSet[] exclusionsB, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBufferF[vertexPosition].clone();
-            diff.andNot(traversalF[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBufferF[vertexPosition].get(newVertexPosition) && sendBufferB[newVertexPosition].get(vertexPosition)) {
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || newVertexSelected) {
-                        final BitSet intersection = (BitSet) traversalB[newVertexPosition].clone();
-                        intersection.and(traversalF[vertexPosition]);
-                        intersection.andNot(sendBufferF[vertexPosition]);
-                        intersection.andNot(sendBufferB[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusionsB[vertexPosition].get(index) && exclusionsF[newVertexPosition].get(index)) {
-                                intersection.set(index, false);
-                            }
-                        }
-                        scores[vertexPosition] += (intersection.cardinality() + 1);
-                    }
-                }
-            }
-        }
-    }
-
-    private static void updateHarmonicFarnessScoresUndirected(final GraphReadMethods graph, final BitSet[] traversal, final float[] scores,
-            final BitSet[] sendBuffer, final BitSet[] exclusions, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBuffer[vertexPosition].clone();
-            diff.andNot(traversal[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBuffer[vertexPosition].get(newVertexPosition)) {
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || newVertexSelected) {
-                        final BitSet intersection = (BitSet) traversal[newVertexPosition].clone();
-                        intersection.and(traversal[vertexPosition]);
-                        intersection.andNot(sendBuffer[vertexPosition]);
-                        intersection.andNot(sendBuffer[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusions[vertexPosition].get(index) && exclusions[newVertexPosition].get(index)) {
-                                intersection.set(index, false);
-                            }
-                        }
-                        scores[vertexPosition] += (float) (1.0 / (intersection.cardinality() + 1));
-                        scores[newVertexPosition] += (float) (1.0 / (intersection.cardinality() + 1));
-                    }
-                }
-            }
-        }
-    }
-
-    private static void updateHarmonicFarnessScoresDirected(final GraphReadMethods graph, final BitSet[] traversalF, final BitSet[] traversalB, final float[] scores,
-            final BitSet[] sendBufferF, final BitSet[] sendBufferB, final BitSet[] exclusionsF, final BitSet[] exclusionsB, final BitSet turn, final boolean selectedOnly) {
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
-        if (selectedOnly && selectedAttribute == GraphConstants.NOT_FOUND) {
-            throw new ArrayIndexOutOfBoundsException(OUT_OF_BOUNDS_EXCEPTION_STRING);
-        }
-        for (int vertexPosition = turn.nextSetBit(0); vertexPosition >= 0; vertexPosition = turn.nextSetBit(vertexPosition + 1)) {
-            final BitSet diff = (BitSet) sendBufferF[vertexPosition].clone();
-            diff.andNot(traversalF[vertexPosition]);
-            for (int newVertexPosition = diff.nextSetBit(0); newVertexPosition >= 0; newVertexPosition = diff.nextSetBit(newVertexPosition + 1)) {
-                if (sendBufferF[vertexPosition].get(newVertexPosition) && sendBufferB[newVertexPosition].get(vertexPosition)) {
-                    final boolean newVertexSelected = graph.getBooleanValue(selectedAttribute, graph.getVertex(newVertexPosition));
-                    if (!selectedOnly || newVertexSelected) {
-                        final BitSet intersection = (BitSet) traversalB[newVertexPosition].clone();
-                        intersection.and(traversalF[vertexPosition]);
-                        intersection.andNot(sendBufferF[vertexPosition]);
-                        intersection.andNot(sendBufferB[newVertexPosition]);
-                        for (int index = intersection.nextSetBit(0); index >= 0; index = intersection.nextSetBit(index + 1)) {
-                            if (exclusionsB[vertexPosition].get(index) && exclusionsF[newVertexPosition].get(index)) {
-                                intersection.set(index, false);
-                            }
-                        }
-                        scores[vertexPosition] += (float) (1.0 / (intersection.cardinality() + 1));
-                    }
-                }
-            }
-        }
-    }
-
     private static Tuple<BitSet[], float[]> convertThreeTupleResultsToTwo(final ThreeTuple<BitSet[], float[], BitSet> threeTuple, final int vertexCount, final ScoreType scoreType) {
         final BitSet[] traversal = threeTuple.getFirst();
         final float[] secondArray = threeTuple.getSecond();
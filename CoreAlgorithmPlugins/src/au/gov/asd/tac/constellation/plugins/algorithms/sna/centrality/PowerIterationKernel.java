@@ -0,0 +1,196 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
+
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The shared building blocks of the power iteration centrality measures
+ * (pagerank, HITS, Katz and eigenvector centrality). All vectors are plain
+ * double arrays indexed by vertex position, and the matrix is a
+ * {@link CompressedGraphSnapshot} whose neighbours are the vertices each vertex
+ * pulls its value from. Every method works only on the arrays it is given, so
+ * any number of calculations can run concurrently.
+ * <p>
+ * Sparse matrix-vector multiplication is split into ranges of vertices which
+ * are distributed across a fork-join pool. Each vertex is written by exactly
+ * one task and its neighbours are summed in snapshot order, so the result is
+ * identical regardless of how the work is divided. Reductions over a vector
+ * are performed in vertex position order for the same reason.
+ *
+ * @author cygnus_x-1
+ */
+public class PowerIterationKernel {
+
+    // below this many neighbour entries a multiplication is performed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    // the number of tasks to create per available worker, allowing work stealing to balance uneven degrees
+    private static final int TASKS_PER_WORKER = 4;
+
+    private PowerIterationKernel() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Multiply the given vector by the adjacency matrix of the snapshot, such
+     * that the value of each vertex in the product is the sum of the values of
+     * its neighbours in the vector, scaled by the neighbour weights if the
+     * snapshot is weighted.
+     *
+     * @param snapshot the snapshot to multiply by.
+     * @param vector the vector to multiply, indexed by vertex position.
+     * @param product the array to store the result in, indexed by vertex
+     * position. This must not be the same array as the vector.
+     */
+    public static void multiply(final CompressedGraphSnapshot snapshot, final double[] vector, final double[] product) {
+        final int vertexCount = snapshot.getVertexCount();
+        if (snapshot.getNeighbourEntryCount() < PARALLEL_THRESHOLD) {
+            multiplyRange(snapshot, vector, product, 0, vertexCount);
+            return;
+        }
+
+        final ForkJoinPool pool = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool();
+        final int threshold = Math.max(1, vertexCount / (pool.getParallelism() * TASKS_PER_WORKER));
+        pool.invoke(new MultiplyTask(snapshot, vector, product, 0, vertexCount, threshold));
+    }
+
+    private static void multiplyRange(final CompressedGraphSnapshot snapshot, final double[] vector, final double[] product,
+            final int start, final int end) {
+        final boolean weighted = snapshot.isWeighted();
+        for (int position = start; position < end; position++) {
+            double value = 0;
+            final int neighbourEnd = snapshot.getNeighbourEnd(position);
+            for (int index = snapshot.getNeighbourStart(position); index < neighbourEnd; index++) {
+                value += weighted
+                        ? snapshot.getWeight(index) * vector[snapshot.getNeighbour(index)]
+                        : vector[snapshot.getNeighbour(index)];
+            }
+            product[position] = value;
+        }
+    }
+
+    /**
+     * Calculate the L1 distance between two vectors, that is, the sum of the
+     * absolute differences of their values.
+     *
+     * @param previous the first vector.
+     * @param current the second vector.
+     * @param length the number of values to compare.
+     * @return the L1 distance between the vectors.
+     */
+    public static double distance(final double[] previous, final double[] current, final int length) {
+        double delta = 0;
+        for (int position = 0; position < length; position++) {
+            delta += Math.abs(previous[position] - current[position]);
+        }
+        return delta;
+    }
+
+    /**
+     * Calculate the sum of the values in a vector.
+     *
+     * @param vector the vector.
+     * @param length the number of values to sum.
+     * @return the sum of the values.
+     */
+    public static double sum(final double[] vector, final int length) {
+        double sum = 0;
+        for (int position = 0; position < length; position++) {
+            sum += vector[position];
+        }
+        return sum;
+    }
+
+    /**
+     * Calculate the Euclidean (L2) norm of a vector.
+     *
+     * @param vector the vector.
+     * @param length the number of values in the vector.
+     * @return the Euclidean norm of the vector.
+     */
+    public static double norm(final double[] vector, final int length) {
+        double sumSquared = 0;
+        for (int position = 0; position < length; position++) {
+            sumSquared += vector[position] * vector[position];
+        }
+        return Math.sqrt(sumSquared);
+    }
+
+    /**
+     * Find the largest value in a vector, or 0 if every value is negative.
+     *
+     * @param vector the vector.
+     * @param length the number of values in the vector.
+     * @return the largest value.
+     */
+    public static double max(final double[] vector, final int length) {
+        double max = 0;
+        for (int position = 0; position < length; position++) {
+            max = Math.max(vector[position], max);
+        }
+        return max;
+    }
+
+    /**
+     * Divide every value in a vector by the given divisor.
+     *
+     * @param vector the vector to scale in place.
+     * @param length the number of values in the vector.
+     * @param divisor the divisor.
+     */
+    public static void divide(final double[] vector, final int length, final double divisor) {
+        for (int position = 0; position < length; position++) {
+            vector[position] /= divisor;
+        }
+    }
+
+    private static class MultiplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CompressedGraphSnapshot snapshot;
+        private final double[] vector;
+        private final double[] product;
+        private final int start;
+        private final int end;
+        private final int threshold;
+
+        private MultiplyTask(final CompressedGraphSnapshot snapshot, final double[] vector, final double[] product,
+                final int start, final int end, final int threshold) {
+            this.snapshot = snapshot;
+            this.vector = vector;
+            this.product = product;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= threshold) {
+                multiplyRange(snapshot, vector, product, start, end);
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new MultiplyTask(snapshot, vector, product, start, middle, threshold),
+                        new MultiplyTask(snapshot, vector, product, middle, end, threshold));
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
+
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.schema.Schema;
+import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
+import au.gov.asd.tac.constellation.graph.schema.analytic.AnalyticSchemaFactory;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality.PathScoringUtilities.ScoreType;
+import au.gov.asd.tac.constellation.utilities.datastructure.Tuple;
+import java.util.Arrays;
+import java.util.BitSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Brandes Centrality Engine Test.
+ *
+ * @author cygnus_x-1
+ */
+public class BrandesCentralityEngineNGTest {
+
+    private StoreGraph graph;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        // create an analytic graph
+        final Schema schema = SchemaFactoryUtilities.getSchemaFactory(AnalyticSchemaFactory.ANALYTIC_SCHEMA_ID).createSchema();
+        graph = new StoreGraph(schema);
+
+        // add attributes
+        VisualConcept.VertexAttribute.SELECTED.ensure(graph);
+
+        // add vertices
+        final int vxId0 = graph.addVertex();
+        final int vxId1 = graph.addVertex();
+        graph.addVertex(); // vxId2 is on its own
+        final int vxId3 = graph.addVertex();
+        final int vxId4 = graph.addVertex();
+
+        // add transactions, forming a cycle with two shortest paths between opposite vertices
+        graph.addTransaction(vxId0, vxId1, true);
+        graph.addTransaction(vxId1, vxId3, true);
+        graph.addTransaction(vxId3, vxId4, true);
+        graph.addTransaction(vxId4, vxId0, true);
+    }
+
+    /**
+     * Test of calculateScores method, of class BrandesCentralityEngine, for
+     * betweenness with multiple shortest paths.
+     */
+    @Test
+    public void testCalculateBetweennessUndirected() {
+        System.out.println("calculateBetweennessUndirected");
+
+        final Tuple<BitSet[], float[]> result = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, true, true, true, false);
+
+        final float[] expectedScores = {1.0F, 1.0F, 0.0F, 1.0F, 1.0F};
+        assertTrue(Arrays.equals(result.getSecond(), expectedScores));
+
+        final BitSet expectedComponent = BitSet.valueOf(new long[]{0b11011});
+        final BitSet[] components = result.getFirst();
+        assertEquals(components[0], expectedComponent);
+        assertSame(components[1], components[0]);
+        assertNull(components[2]);
+        assertSame(components[3], components[0]);
+        assertSame(components[4], components[0]);
+    }
+
+    /**
+     * Test of calculateScores method, of class BrandesCentralityEngine, for
+     * betweenness following only outgoing connections.
+     */
+    @Test
+    public void testCalculateBetweennessDirected() {
+        System.out.println("calculateBetweennessDirected");
+
+        final Tuple<BitSet[], float[]> result = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, false, true, true, false);
+
+        // each vertex lies on the single shortest path between its predecessor and every vertex after its successor
+        final float[] expectedScores = {3.0F, 3.0F, 0.0F, 3.0F, 3.0F};
+        assertTrue(Arrays.equals(result.getSecond(), expectedScores));
+    }
+
+    /**
+     * Test of calculateScores method, of class BrandesCentralityEngine, for
+     * closeness.
+     */
+    @Test
+    public void testCalculateCloseness() {
+        System.out.println("calculateCloseness");
+
+        final Tuple<BitSet[], float[]> undirectedResult = BrandesCentralityEngine.calculateScores(graph, ScoreType.CLOSENESS, true, true, true, false);
+        final float[] expectedUndirectedScores = {0.25F, 0.25F, 0.0F, 0.25F, 0.25F};
+        assertTrue(Arrays.equals(undirectedResult.getSecond(), expectedUndirectedScores));
+
+        final Tuple<BitSet[], float[]> directedResult = BrandesCentralityEngine.calculateScores(graph, ScoreType.CLOSENESS, false, true, true, false);
+        final float[] expectedDirectedScores = {1 / 6F, 1 / 6F, 0.0F, 1 / 6F, 1 / 6F};
+        assertTrue(Arrays.equals(directedResult.getSecond(), expectedDirectedScores));
+    }
+
+    /**
+     * Test of calculateScores method, of class BrandesCentralityEngine, with
+     * pivot sampling.
+     */
+    @Test
+    public void testCalculateBetweennessWithPivots() {
+        System.out.println("calculateBetweennessWithPivots");
+
+        // sampling every participating vertex should produce exact scores
+        final Tuple<BitSet[], float[]> exactResult = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, true, true, true, false);
+        final Tuple<BitSet[], float[]> allPivotsResult = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, true, true, true, false, 4, 0L);
+        assertTrue(Arrays.equals(allPivotsResult.getSecond(), exactResult.getSecond()));
+
+        // sampled scores should be repeatable for the same seed
+        final Tuple<BitSet[], float[]> sampledResult1 = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, true, true, true, false, 2, 42L);
+        final Tuple<BitSet[], float[]> sampledResult2 = BrandesCentralityEngine.calculateScores(graph, ScoreType.BETWEENNESS, true, true, true, false, 2, 42L);
+        assertTrue(Arrays.equals(sampledResult1.getSecond(), sampledResult2.getSecond()));
+        assertEquals(sampledResult1.getSecond()[2], 0.0F);
+    }
+
+    /**
+     * Test of calculateScores method, of class BrandesCentralityEngine, with an
+     * unsupported score type.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCalculateScoresUnsupported() {
+        System.out.println("calculateScoresUnsupported");
+
+        BrandesCentralityEngine.calculateScores(graph, ScoreType.ECCENTRICITY, true, true, true, false);
+    }
+}
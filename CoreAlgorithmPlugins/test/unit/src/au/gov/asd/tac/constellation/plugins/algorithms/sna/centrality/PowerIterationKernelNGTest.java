@@ -0,0 +1,144 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.algorithms.sna.centrality;
+
+import au.gov.asd.tac.constellation.graph.GraphConstants;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import au.gov.asd.tac.constellation.graph.utilities.CompressedGraphSnapshot;
+import java.util.Arrays;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Power Iteration Kernel Test.
+ *
+ * @author cygnus_x-1
+ */
+public class PowerIterationKernelNGTest {
+
+    /**
+     * Test of multiply method, of class PowerIterationKernel.
+     */
+    @Test
+    public void testMultiply() {
+        System.out.println("multiply");
+
+        final StoreGraph graph = new StoreGraph();
+        final int vxId0 = graph.addVertex();
+        final int vxId1 = graph.addVertex();
+        final int vxId2 = graph.addVertex();
+        graph.addTransaction(vxId0, vxId1, true);
+        graph.addTransaction(vxId0, vxId2, true);
+        graph.addTransaction(vxId1, vxId2, true);
+
+        // each vertex pulls from the vertices with a connection towards it
+        final CompressedGraphSnapshot incoming = CompressedGraphSnapshot.build(graph, true, false, false, GraphConstants.NOT_FOUND);
+        final double[] vector = {1, 2, 4};
+        final double[] product = new double[3];
+        PowerIterationKernel.multiply(incoming, vector, product);
+
+        assertEquals(product[graph.getVertexPosition(vxId0)], 0.0);
+        assertEquals(product[graph.getVertexPosition(vxId1)], 1.0);
+        assertEquals(product[graph.getVertexPosition(vxId2)], 3.0);
+    }
+
+    /**
+     * Test of multiply method, of class PowerIterationKernel, with a weighted
+     * snapshot.
+     */
+    @Test
+    public void testMultiplyWeighted() {
+        System.out.println("multiplyWeighted");
+
+        final StoreGraph graph = new StoreGraph();
+        final int weightAttribute = graph.addAttribute(GraphElementType.TRANSACTION, FloatAttributeDescription.ATTRIBUTE_NAME, "weight", null, null, null);
+        final int vxId0 = graph.addVertex();
+        final int vxId1 = graph.addVertex();
+        final int txId = graph.addTransaction(vxId0, vxId1, true);
+        graph.setFloatValue(weightAttribute, txId, 0.5F);
+
+        final CompressedGraphSnapshot incoming = CompressedGraphSnapshot.build(graph, true, false, false, weightAttribute);
+        final double[] vector = {3, 5};
+        final double[] product = new double[2];
+        PowerIterationKernel.multiply(incoming, vector, product);
+
+        assertEquals(product[graph.getVertexPosition(vxId0)], 0.0);
+        assertEquals(product[graph.getVertexPosition(vxId1)], 1.5);
+    }
+
+    /**
+     * Test of multiply method, of class PowerIterationKernel, on a graph large
+     * enough to be split across the fork-join pool.
+     */
+    @Test
+    public void testMultiplyParallel() {
+        System.out.println("multiplyParallel");
+
+        final int vertexCount = 20000;
+        final StoreGraph graph = new StoreGraph();
+        final int[] vxIds = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            vxIds[i] = graph.addVertex();
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addTransaction(vxIds[i], vxIds[(i + 1) % vertexCount], false);
+            graph.addTransaction(vxIds[i], vxIds[(i * 7 + 3) % vertexCount], true);
+        }
+
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, true, true, true, GraphConstants.NOT_FOUND);
+        assertTrue(snapshot.getNeighbourEntryCount() > 1 << 14);
+
+        final double[] vector = new double[vertexCount];
+        for (int position = 0; position < vertexCount; position++) {
+            vector[position] = 1.0 / (position + 1);
+        }
+
+        // the parallel product should be identical to summing each vertex in snapshot order
+        final double[] expected = new double[vertexCount];
+        for (int position = 0; position < vertexCount; position++) {
+            for (int index = snapshot.getNeighbourStart(position); index < snapshot.getNeighbourEnd(position); index++) {
+                expected[position] += vector[snapshot.getNeighbour(index)];
+            }
+        }
+
+        final double[] product = new double[vertexCount];
+        PowerIterationKernel.multiply(snapshot, vector, product);
+        assertTrue(Arrays.equals(product, expected));
+    }
+
+    /**
+     * Test of the vector reductions of class PowerIterationKernel.
+     */
+    @Test
+    public void testReductions() {
+        System.out.println("reductions");
+
+        final double[] previous = {1, 2, 3, 99};
+        final double[] current = {2, 2, 1, -99};
+
+        // only the first three values are part of the vectors
+        assertEquals(PowerIterationKernel.distance(previous, current, 3), 3.0);
+        assertEquals(PowerIterationKernel.sum(previous, 3), 6.0);
+        assertEquals(PowerIterationKernel.max(current, 3), 2.0);
+        assertEquals(PowerIterationKernel.norm(current, 3), 3.0);
+
+        PowerIterationKernel.divide(previous, 3, 2);
+        assertTrue(Arrays.equals(previous, new double[]{0.5, 1, 1.5, 99}));
+    }
+}
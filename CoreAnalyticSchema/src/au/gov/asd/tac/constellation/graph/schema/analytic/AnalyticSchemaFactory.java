@@ -41,12 +41,18 @@ import au.gov.asd.tac.constellation.utilities.geospatial.Country;
 import au.gov.asd.tac.constellation.utilities.icon.AnalyticIconProvider;
 import au.gov.asd.tac.constellation.utilities.icon.ConstellationIcon;
 import au.gov.asd.tac.constellation.utilities.icon.IconManager;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.openide.util.lookup.ServiceProvider;
@@ -71,6 +77,9 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
     boolean modifiedDefaultVtxType = false;
     boolean modifiedDefaultTxnType = false;
 
+    // The number of elements above which the values of elements being completed are resolved in parallel.
+    private static final int PARALLEL_COMPLETION_THRESHOLD = 1000;
+
     @Override
     public String getName() {
         return ANALYTIC_SCHEMA_ID;
@@ -153,22 +162,57 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
 
         @Override
         public void completeVertex(final GraphWriteMethods graph, final int vertexId) {
-            final int vertexIdentifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.ensure(graph);
-            final int vertexTypeAttribute = AnalyticConcept.VertexAttribute.TYPE.ensure(graph);
-            final int vertexRawAttribute = AnalyticConcept.VertexAttribute.RAW.ensure(graph);
-            final int vertexLabelAttribute = VisualConcept.VertexAttribute.LABEL.ensure(graph);
-            final int vertexColorAttribute = VisualConcept.VertexAttribute.COLOR.ensure(graph);
-            final int vertexBackgroundIconAttribute = VisualConcept.VertexAttribute.BACKGROUND_ICON.ensure(graph);
-            final int vertexForegroundIconAttribute = VisualConcept.VertexAttribute.FOREGROUND_ICON.ensure(graph);
+            final VertexAttributes attributes = VertexAttributes.ensure(graph);
+            writeVertex(graph, vertexId, attributes, resolveVertex(graph, vertexId, attributes, getVertexTypeResolver(graph)));
+            applyColorblindVertex(graph, vertexId);
+        }
+
+        /**
+         * Complete the given vertices in two phases. The values of each vertex
+         * are first resolved from the graph without modifying it, which is
+         * done in parallel when there are enough vertices, with type
+         * resolution memoised by type name across the vertices. The resolved
+         * values are then written back to the graph in a single pass.
+         *
+         * @param graph the graph holding the vertices.
+         * @param vertexIds the ids of the vertices to complete.
+         */
+        @Override
+        public void completeVertices(final GraphWriteMethods graph, final int[] vertexIds) {
+            final VertexAttributes attributes = VertexAttributes.ensure(graph);
+            final TypeResolver<SchemaVertexType> typeResolver = new TypeResolutionCache<>(getVertexTypeResolver(graph));
+
+            final VertexCompletion[] completions = new VertexCompletion[vertexIds.length];
+            forEachPosition(vertexIds.length, position -> completions[position] = resolveVertex(graph, vertexIds[position], attributes, typeResolver));
+
+            for (int position = 0; position < vertexIds.length; position++) {
+                writeVertex(graph, vertexIds[position], attributes, completions[position]);
+            }
+            applyColorblindVertices(graph, vertexIds);
+        }
+
+        private TypeResolver<SchemaVertexType> getVertexTypeResolver(final GraphReadMethods graph) {
+            return new TypeResolver<>(SchemaVertexTypeUtilities::getType, type -> {
+                modifiedDefaultVtxType = false;
+                final SchemaVertexType resolvedType = graph.getSchema().resolveVertexType(type);
+                return new ResolvedType<>(resolvedType, modifiedDefaultVtxType);
+            });
+        }
 
-            String identifier = graph.getStringValue(vertexIdentifierAttribute, vertexId);
-            SchemaVertexType type = graph.getObjectValue(vertexTypeAttribute, vertexId);
-            RawData raw = graph.getObjectValue(vertexRawAttribute, vertexId);
-            String label = graph.getStringValue(vertexLabelAttribute, vertexId);
+        /**
+         * Resolve the values a vertex should have once completed, without
+         * modifying the graph.
+         */
+        private VertexCompletion resolveVertex(final GraphReadMethods graph, final int vertexId, final VertexAttributes attributes,
+                final TypeResolver<SchemaVertexType> typeResolver) {
+            String identifier = graph.getStringValue(attributes.identifier(), vertexId);
+            SchemaVertexType type = graph.getObjectValue(attributes.type(), vertexId);
+            RawData raw = graph.getObjectValue(attributes.raw(), vertexId);
+            final String label = graph.getStringValue(attributes.label(), vertexId);
 
             boolean updateStoredType = false;
-            modifiedDefaultVtxType = false;
-            
+            boolean modifiedDefaultType = false;
+
             // set the raw
             if (raw == null || raw.isEmpty()) {
                 raw = new RawData(identifier, type == null ? null : type.getName());
@@ -178,25 +222,28 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
             if (type == null) {
                 type = SchemaVertexTypeUtilities.getDefaultType();
                 if (StringUtils.isNotBlank(raw.getRawType())) {
-                    type = graph.getSchema().resolveVertexType(raw.getRawType());
+                    final ResolvedType<SchemaVertexType> resolvedType = typeResolver.resolve(raw.getRawType());
+                    type = resolvedType.type();
+                    modifiedDefaultType = resolvedType.modifiedDefaultType();
                 } else if (StringUtils.isNotBlank(label)) {
                     final RawData rawLabel = new RawData(label);
                     if (StringUtils.isNotBlank(rawLabel.getRawType())) {
-                        type = graph.getSchema().resolveVertexType(rawLabel.getRawType());
+                        final ResolvedType<SchemaVertexType> resolvedType = typeResolver.resolve(rawLabel.getRawType());
+                        type = resolvedType.type();
+                        modifiedDefaultType = resolvedType.modifiedDefaultType();
                     }
                 }
             } else if (type.isIncomplete()) {
                 final String initialType = type.toString();
-                type = graph.getSchema().resolveVertexType(type.toString());
+                final ResolvedType<SchemaVertexType> resolvedType = typeResolver.resolve(initialType);
+                type = resolvedType.type();
+                modifiedDefaultType = resolvedType.modifiedDefaultType();
                 if (!type.toString().equals(initialType)) {
                     updateStoredType = true;
                 }
-            } else {
-                final SchemaVertexType resolvedType = SchemaVertexTypeUtilities.getType(type.toString());
-                if (SchemaConceptUtilities.getDefaultVertexType().equals(resolvedType)) {
-                    type = graph.getSchema().resolveVertexType(type.toString());
-                    modifiedDefaultVtxType = true;
-                }                
+            } else if (SchemaConceptUtilities.getDefaultVertexType().equals(typeResolver.getType(type.toString()))) {
+                type = typeResolver.resolve(type.toString()).type();
+                modifiedDefaultType = true;
             }
 
             // set the identifier - preference is identifier > raw > label > unknown
@@ -214,57 +261,63 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
 
             // set the raw and label from the resolved identifier and type
             final RawData resolved = new RawData(identifier, type == null ? null : type.getName());
-            raw = RawData.merge(resolved, raw);
-            label = resolved.toString();
+            return new VertexCompletion(identifier, type, RawData.merge(resolved, raw), resolved.toString(), updateStoredType, modifiedDefaultType);
+        }
 
-            // write changes to graph
-            if (!Strings.CS.equals(identifier, graph.getStringValue(vertexIdentifierAttribute, vertexId))) {
-                graph.setStringValue(vertexIdentifierAttribute, vertexId, identifier);
+        /**
+         * Write the resolved values of a vertex to the graph, only setting
+         * those which have changed.
+         */
+        private void writeVertex(final GraphWriteMethods graph, final int vertexId, final VertexAttributes attributes, final VertexCompletion completion) {
+            final SchemaVertexType defaultType = SchemaVertexTypeUtilities.getDefaultType();
+            final SchemaVertexType type = completion.type();
+            final boolean modifiedDefaultType = completion.modifiedDefaultType();
+
+            if (!Strings.CS.equals(completion.identifier(), graph.getStringValue(attributes.identifier(), vertexId))) {
+                graph.setStringValue(attributes.identifier(), vertexId, completion.identifier());
             }
 
-            if (type != null && ((!modifiedDefaultVtxType && type != SchemaVertexTypeUtilities.getDefaultType() && !type.equals(graph.getObjectValue(vertexTypeAttribute, vertexId))) || updateStoredType)) {
-                graph.setObjectValue(vertexTypeAttribute, vertexId, type);
+            if (type != null && ((!modifiedDefaultType && type != defaultType && !type.equals(graph.getObjectValue(attributes.type(), vertexId))) || completion.updateStoredType())) {
+                graph.setObjectValue(attributes.type(), vertexId, type);
             }
 
-            if (raw != null && !raw.equals(graph.getObjectValue(vertexRawAttribute, vertexId))) {
-                graph.setObjectValue(vertexRawAttribute, vertexId, raw);
+            if (completion.raw() != null && !completion.raw().equals(graph.getObjectValue(attributes.raw(), vertexId))) {
+                graph.setObjectValue(attributes.raw(), vertexId, completion.raw());
             }
 
-            if (!Strings.CS.equals(label, graph.getStringValue(vertexLabelAttribute, vertexId))) {
-                graph.setStringValue(vertexLabelAttribute, vertexId, label);
+            if (!Strings.CS.equals(completion.label(), graph.getStringValue(attributes.label(), vertexId))) {
+                graph.setStringValue(attributes.label(), vertexId, completion.label());
             }
 
-            if (type != null && (!modifiedDefaultVtxType && (type != SchemaVertexTypeUtilities.getDefaultType()) || graph.isDefaultValue(vertexColorAttribute, vertexId))
-                    && !Objects.equals(type.getColor(), graph.getObjectValue(vertexColorAttribute, vertexId))) {
-                graph.setObjectValue(vertexColorAttribute, vertexId, type.getColor());
+            if (type != null && (!modifiedDefaultType && (type != defaultType) || graph.isDefaultValue(attributes.color(), vertexId))
+                    && !Objects.equals(type.getColor(), graph.getObjectValue(attributes.color(), vertexId))) {
+                graph.setObjectValue(attributes.color(), vertexId, type.getColor());
             }
 
-            if (type != null && (!modifiedDefaultVtxType && (type != SchemaVertexTypeUtilities.getDefaultType()) || graph.isDefaultValue(vertexBackgroundIconAttribute, vertexId))
-                    && !Objects.equals(type.getBackgroundIcon(), graph.getObjectValue(vertexBackgroundIconAttribute, vertexId))) {
-                graph.setObjectValue(vertexBackgroundIconAttribute, vertexId, type.getBackgroundIcon().getExtendedName());
+            if (type != null && (!modifiedDefaultType && (type != defaultType) || graph.isDefaultValue(attributes.backgroundIcon(), vertexId))
+                    && !Objects.equals(type.getBackgroundIcon(), graph.getObjectValue(attributes.backgroundIcon(), vertexId))) {
+                graph.setObjectValue(attributes.backgroundIcon(), vertexId, type.getBackgroundIcon().getExtendedName());
             }
 
-            if (type != null && ((!modifiedDefaultVtxType && type != SchemaVertexTypeUtilities.getDefaultType()) || graph.isDefaultValue(vertexForegroundIconAttribute, vertexId))) {
-                if (!SchemaVertexTypeUtilities.getDefaultType().getForegroundIcon().equals(type.getForegroundIcon())) {
-                    if (!Objects.equals(type.getForegroundIcon(), graph.getObjectValue(vertexForegroundIconAttribute, vertexId))) {
-                        graph.setObjectValue(vertexForegroundIconAttribute, vertexId, type.getForegroundIcon().getExtendedName());
+            if (type != null && ((!modifiedDefaultType && type != defaultType) || graph.isDefaultValue(attributes.foregroundIcon(), vertexId))) {
+                if (!defaultType.getForegroundIcon().equals(type.getForegroundIcon())) {
+                    if (!Objects.equals(type.getForegroundIcon(), graph.getObjectValue(attributes.foregroundIcon(), vertexId))) {
+                        graph.setObjectValue(attributes.foregroundIcon(), vertexId, type.getForegroundIcon().getExtendedName());
                     } 
                 } else if (IconManager.iconExists(type.toString()) 
-                        && !Objects.equals(type.toString(), graph.getObjectValue(vertexForegroundIconAttribute, vertexId))) {
-                    graph.setObjectValue(vertexForegroundIconAttribute, vertexId, type.toString());
+                        && !Objects.equals(type.toString(), graph.getObjectValue(attributes.foregroundIcon(), vertexId))) {
+                    graph.setObjectValue(attributes.foregroundIcon(), vertexId, type.toString());
                 } 
             }
 
             // analytic attribute cleanup
-            final int vertexCountryAttribute = SpatialConcept.VertexAttribute.COUNTRY.get(graph);
-            if (vertexCountryAttribute != GraphConstants.NOT_FOUND) {
-                final String countryValue = graph.getStringValue(vertexCountryAttribute, vertexId);
+            if (attributes.country() != GraphConstants.NOT_FOUND) {
+                final String countryValue = graph.getStringValue(attributes.country(), vertexId);
                 final Country country = Country.lookupCountryDigraph(countryValue);
                 if (country != null) {
-                    graph.setStringValue(vertexCountryAttribute, vertexId, country.getDisplayName());
+                    graph.setStringValue(attributes.country(), vertexId, country.getDisplayName());
                 }
             }
-            applyColorblindVertex(graph, vertexId);
         }
 
         @Override
@@ -300,43 +353,83 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
 
         @Override
         public void completeTransaction(final GraphWriteMethods graph, final int transactionId) {
-            final int transactionIdentifierAttribute = VisualConcept.TransactionAttribute.IDENTIFIER.ensure(graph);
-            final int transactionTypeAttribute = AnalyticConcept.TransactionAttribute.TYPE.ensure(graph);
-            final int transactionLabelAttribute = VisualConcept.TransactionAttribute.LABEL.ensure(graph);
-            final int transactionColorAttribute = VisualConcept.TransactionAttribute.COLOR.ensure(graph);
-            final int transactionStyleAttribute = VisualConcept.TransactionAttribute.LINE_STYLE.ensure(graph);
-            final int transactionDirectedAttribute = VisualConcept.TransactionAttribute.DIRECTED.ensure(graph);
+            final TransactionAttributes attributes = TransactionAttributes.ensure(graph);
+            final int completedTransactionId = writeTransaction(graph, transactionId, attributes,
+                    resolveTransaction(graph, transactionId, attributes, getTransactionTypeResolver()));
+            applyColorblindTransaction(graph, completedTransactionId);
+        }
 
-            String identifier = graph.getStringValue(transactionIdentifierAttribute, transactionId);
-            SchemaTransactionType type = graph.getObjectValue(transactionTypeAttribute, transactionId);
-            String label = graph.getStringValue(transactionLabelAttribute, transactionId);
+        /**
+         * Complete the given transactions in two phases. The values of each
+         * transaction are first resolved from the graph without modifying it,
+         * which is done in parallel when there are enough transactions, with
+         * type resolution memoised by type name across the transactions. The
+         * resolved values are then written back to the graph in a single pass.
+         *
+         * @param graph the {@link GraphWriteMethods} holding the transactions.
+         * @param transactionIds the ids of the transactions to complete.
+         */
+        @Override
+        public void completeTransactions(final GraphWriteMethods graph, final int[] transactionIds) {
+            final TransactionAttributes attributes = TransactionAttributes.ensure(graph);
+            final TypeResolver<SchemaTransactionType> typeResolver = new TypeResolutionCache<>(getTransactionTypeResolver());
+
+            final TransactionCompletion[] completions = new TransactionCompletion[transactionIds.length];
+            forEachPosition(transactionIds.length, position -> completions[position] = resolveTransaction(graph, transactionIds[position], attributes, typeResolver));
+
+            final int[] completedTransactionIds = new int[transactionIds.length];
+            for (int position = 0; position < transactionIds.length; position++) {
+                completedTransactionIds[position] = writeTransaction(graph, transactionIds[position], attributes, completions[position]);
+            }
+            applyColorblindTransactions(graph, completedTransactionIds);
+        }
+
+        private TypeResolver<SchemaTransactionType> getTransactionTypeResolver() {
+            return new TypeResolver<>(SchemaTransactionTypeUtilities::getType, type -> {
+                modifiedDefaultTxnType = false;
+                final SchemaTransactionType resolvedType = resolveTransactionType(type);
+                return new ResolvedType<>(resolvedType, modifiedDefaultTxnType);
+            });
+        }
+
+        /**
+         * Resolve the values a transaction should have once completed, without
+         * modifying the graph.
+         */
+        private TransactionCompletion resolveTransaction(final GraphReadMethods graph, final int transactionId, final TransactionAttributes attributes,
+                final TypeResolver<SchemaTransactionType> typeResolver) {
+            final SchemaTransactionType defaultType = SchemaTransactionTypeUtilities.getDefaultType();
+            String identifier = graph.getStringValue(attributes.identifier(), transactionId);
+            SchemaTransactionType type = graph.getObjectValue(attributes.type(), transactionId);
+            final String label = graph.getStringValue(attributes.label(), transactionId);
 
             boolean updateStoredType = false;
-            modifiedDefaultTxnType = false;
-            
+            boolean modifiedDefaultType = false;
+
             // set the type - preference is type > label > unknown
             if (type == null) {
                 if (StringUtils.isNotBlank(label)) {
                     final RawData rawLabel = new RawData(label);
                     if (StringUtils.isNotBlank(rawLabel.getRawType())) {
-                        type = resolveTransactionType(rawLabel.getRawType());
+                        final ResolvedType<SchemaTransactionType> resolvedType = typeResolver.resolve(rawLabel.getRawType());
+                        type = resolvedType.type();
+                        modifiedDefaultType = resolvedType.modifiedDefaultType();
                     }
                 } else {
-                    type = SchemaTransactionTypeUtilities.getDefaultType();
+                    type = defaultType;
                 }
             } else if (type.isIncomplete()) {
                 final String initialType = type.toString();
-                type = resolveTransactionType(type.getName());
+                final ResolvedType<SchemaTransactionType> resolvedType = typeResolver.resolve(type.getName());
+                type = resolvedType.type();
+                modifiedDefaultType = resolvedType.modifiedDefaultType();
                 if (!type.toString().equals(initialType)) {
                     updateStoredType = true;
                 }
-            } else {
+            } else if (defaultType.equals(typeResolver.getType(type.getName()))) {
                 // current directed value doesn't match expected setting for the type.
-                final SchemaTransactionType resolvedType = SchemaTransactionTypeUtilities.getType(type.getName());
-                if (SchemaTransactionTypeUtilities.getDefaultType().equals(resolvedType)) {
-                    type = resolveTransactionType(type.getName());
-                    modifiedDefaultTxnType = true;
-                }
+                type = typeResolver.resolve(type.getName()).type();
+                modifiedDefaultType = true;
             }
 
             // set the identifier - preference is identifier > label > unknown
@@ -351,58 +444,71 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
             }
 
             // set label from the resolved type
-            label = type == null ? null : type.getName();
+            return new TransactionCompletion(identifier, type, type == null ? null : type.getName(), updateStoredType, modifiedDefaultType);
+        }
 
-            // set new values on the graph
-            if (!Strings.CS.equals(identifier, graph.getStringValue(transactionIdentifierAttribute, transactionId))) {
-                graph.setStringValue(transactionIdentifierAttribute, transactionId, identifier);
+        /**
+         * Write the resolved values of a transaction to the graph, only setting
+         * those which have changed.
+         *
+         * @return the id of the completed transaction, which is a new
+         * transaction if its direction had to change.
+         */
+        private int writeTransaction(final GraphWriteMethods graph, final int transactionId, final TransactionAttributes attributes,
+                final TransactionCompletion completion) {
+            final SchemaTransactionType defaultType = SchemaTransactionTypeUtilities.getDefaultType();
+            final SchemaTransactionType type = completion.type();
+            final boolean modifiedDefaultType = completion.modifiedDefaultType();
+
+            if (!Strings.CS.equals(completion.identifier(), graph.getStringValue(attributes.identifier(), transactionId))) {
+                graph.setStringValue(attributes.identifier(), transactionId, completion.identifier());
             }
 
-            if (type != null && ((type != SchemaTransactionTypeUtilities.getDefaultType() && !modifiedDefaultTxnType && type != graph.getObjectValue(transactionTypeAttribute, transactionId)) || updateStoredType)) {
-                graph.setObjectValue(transactionTypeAttribute, transactionId, type);
+            if (type != null && ((type != defaultType && !modifiedDefaultType && type != graph.getObjectValue(attributes.type(), transactionId)) || completion.updateStoredType())) {
+                graph.setObjectValue(attributes.type(), transactionId, type);
             }
 
-            if (!Strings.CS.equals(label, graph.getStringValue(transactionLabelAttribute, transactionId))) {
-                graph.setStringValue(transactionLabelAttribute, transactionId, label);
+            if (!Strings.CS.equals(completion.label(), graph.getStringValue(attributes.label(), transactionId))) {
+                graph.setStringValue(attributes.label(), transactionId, completion.label());
             }
 
-            if (type != null && !modifiedDefaultTxnType && (type != SchemaTransactionTypeUtilities.getDefaultType() || graph.isDefaultValue(transactionColorAttribute, transactionId))
-                    && !Objects.equals(type.getColor(), graph.getObjectValue(transactionColorAttribute, transactionId))) {
-                graph.setObjectValue(transactionColorAttribute, transactionId, type.getColor());
+            if (type != null && !modifiedDefaultType && (type != defaultType || graph.isDefaultValue(attributes.color(), transactionId))
+                    && !Objects.equals(type.getColor(), graph.getObjectValue(attributes.color(), transactionId))) {
+                graph.setObjectValue(attributes.color(), transactionId, type.getColor());
             }
 
-            if (type != null && !modifiedDefaultTxnType && (type != SchemaTransactionTypeUtilities.getDefaultType() || graph.isDefaultValue(transactionStyleAttribute, transactionId))
-                    && !Objects.equals(type.getStyle(), graph.getObjectValue(transactionStyleAttribute, transactionId))) {
-                graph.setObjectValue(transactionStyleAttribute, transactionId, type.getStyle());
+            if (type != null && !modifiedDefaultType && (type != defaultType || graph.isDefaultValue(attributes.style(), transactionId))
+                    && !Objects.equals(type.getStyle(), graph.getObjectValue(attributes.style(), transactionId))) {
+                graph.setObjectValue(attributes.style(), transactionId, type.getStyle());
             }
             // Previously, null and empty types were treated separately.
             // Since treating them the same (which makes sense), we were seeing
             // some unexpected behaviour with blank types.
             // see https://github.com/constellation-app/constellation/issues/723#issuecomment-662241467
             // see also https://github.com/constellation-app/constellation/pull/735
-            if (type != null && type != SchemaTransactionTypeUtilities.getDefaultType() && !modifiedDefaultTxnType && !Objects.equals(type.isDirected(), graph.getBooleanValue(transactionDirectedAttribute, transactionId))) {
-                graph.setBooleanValue(transactionDirectedAttribute, transactionId, type.isDirected());
+            if (type != null && type != defaultType && !modifiedDefaultType && !Objects.equals(type.isDirected(), graph.getBooleanValue(attributes.directed(), transactionId))) {
+                graph.setBooleanValue(attributes.directed(), transactionId, type.isDirected());
             }
 
-            final boolean directed = graph.getBooleanValue(transactionDirectedAttribute, transactionId);
+            final boolean directed = graph.getBooleanValue(attributes.directed(), transactionId);
             final boolean transactionIsDirected = graph.getTransactionDirection(transactionId) != Graph.FLAT;
-            if (directed != transactionIsDirected) {
-                // this next bit is done to ensure that transactions merge to the appropriate edge/link group when updated
-                // (by changing the hidden direction of the transaction)
-                final int sourceVertexId = graph.getTransactionSourceVertex(transactionId);
-                final int destinationVertexId = graph.getTransactionDestinationVertex(transactionId);
-                final int newTransactionId = graph.addTransaction(sourceVertexId, destinationVertexId, directed);
-
-                for (int i = 0; i < graph.getAttributeCount(GraphElementType.TRANSACTION); i++) {
-                    final int attributeId = graph.getAttribute(GraphElementType.TRANSACTION, i);
-                    graph.setObjectValue(attributeId, newTransactionId, graph.getObjectValue(attributeId, transactionId));
-                }
+            if (directed == transactionIsDirected) {
+                return transactionId;
+            }
 
-                graph.removeTransaction(transactionId);
-                applyColorblindTransaction(graph, newTransactionId);
-            } else {
-                applyColorblindTransaction(graph, transactionId);
+            // this next bit is done to ensure that transactions merge to the appropriate edge/link group when updated
+            // (by changing the hidden direction of the transaction)
+            final int sourceVertexId = graph.getTransactionSourceVertex(transactionId);
+            final int destinationVertexId = graph.getTransactionDestinationVertex(transactionId);
+            final int newTransactionId = graph.addTransaction(sourceVertexId, destinationVertexId, directed);
+
+            for (int i = 0; i < graph.getAttributeCount(GraphElementType.TRANSACTION); i++) {
+                final int attributeId = graph.getAttribute(GraphElementType.TRANSACTION, i);
+                graph.setObjectValue(attributeId, newTransactionId, graph.getObjectValue(attributeId, transactionId));
             }
+
+            graph.removeTransaction(transactionId);
+            return newTransactionId;
         }
 
         @Override
@@ -422,4 +528,141 @@ public class AnalyticSchemaFactory extends VisualSchemaFactory {
             return VisualConcept.VertexAttribute.LABEL.get(graph);
         }
     }
+
+    /**
+     * Run the given action for each position up to the given count, in
+     * parallel on the shared fork-join pool when there are enough positions.
+     *
+     * @param count the number of positions.
+     * @param action the action to run for each position.
+     */
+    private static void forEachPosition(final int count, final IntConsumer action) {
+        if (count >= PARALLEL_COMPLETION_THRESHOLD) {
+            ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool()
+                    .submit(() -> IntStream.range(0, count).parallel().forEach(action))
+                    .join();
+        } else {
+            IntStream.range(0, count).forEach(action);
+        }
+    }
+
+    /**
+     * Looks up and resolves types by name.
+     *
+     * @param <T> the type of schema element type being resolved.
+     */
+    private static class TypeResolver<T> {
+
+        private final Function<String, T> lookup;
+        private final Function<String, ResolvedType<T>> resolver;
+
+        private TypeResolver(final Function<String, T> lookup, final Function<String, ResolvedType<T>> resolver) {
+            this.lookup = lookup;
+            this.resolver = resolver;
+        }
+
+        T getType(final String name) {
+            return lookup.apply(name);
+        }
+
+        ResolvedType<T> resolve(final String name) {
+            return resolver.apply(name);
+        }
+    }
+
+    /**
+     * Memoises type lookups and resolutions by type name for the duration of a
+     * bulk completion. Lookups and resolutions are not thread safe (resolution
+     * records whether a default type was modified on this factory), so a name
+     * not seen before is looked up while holding the lock on this factory.
+     *
+     * @param <T> the type of schema element type being resolved.
+     */
+    private final class TypeResolutionCache<T> extends TypeResolver<T> {
+
+        private final Map<String, T> types = new ConcurrentHashMap<>();
+        private final Map<String, ResolvedType<T>> resolvedTypes = new ConcurrentHashMap<>();
+
+        private TypeResolutionCache(final TypeResolver<T> typeResolver) {
+            super(typeResolver.lookup, typeResolver.resolver);
+        }
+
+        @Override
+        T getType(final String name) {
+            final T type = types.get(name);
+            if (type != null) {
+                return type;
+            }
+            synchronized (AnalyticSchemaFactory.this) {
+                return types.computeIfAbsent(name, super::getType);
+            }
+        }
+
+        @Override
+        ResolvedType<T> resolve(final String name) {
+            final ResolvedType<T> resolvedType = resolvedTypes.get(name);
+            if (resolvedType != null) {
+                return resolvedType;
+            }
+            synchronized (AnalyticSchemaFactory.this) {
+                return resolvedTypes.computeIfAbsent(name, super::resolve);
+            }
+        }
+    }
+
+    /**
+     * A resolved type, along with whether it was resolved to a renamed copy of
+     * the default type.
+     */
+    private record ResolvedType<T>(T type, boolean modifiedDefaultType) {
+    }
+
+    /**
+     * The ids of the vertex attributes set when completing a vertex.
+     */
+    private record VertexAttributes(int identifier, int type, int raw, int label, int color,
+            int backgroundIcon, int foregroundIcon, int country) {
+
+        private static VertexAttributes ensure(final GraphWriteMethods graph) {
+            return new VertexAttributes(VisualConcept.VertexAttribute.IDENTIFIER.ensure(graph),
+                    AnalyticConcept.VertexAttribute.TYPE.ensure(graph),
+                    AnalyticConcept.VertexAttribute.RAW.ensure(graph),
+                    VisualConcept.VertexAttribute.LABEL.ensure(graph),
+                    VisualConcept.VertexAttribute.COLOR.ensure(graph),
+                    VisualConcept.VertexAttribute.BACKGROUND_ICON.ensure(graph),
+                    VisualConcept.VertexAttribute.FOREGROUND_ICON.ensure(graph),
+                    SpatialConcept.VertexAttribute.COUNTRY.get(graph));
+        }
+    }
+
+    /**
+     * The ids of the transaction attributes set when completing a transaction.
+     */
+    private record TransactionAttributes(int identifier, int type, int label, int color, int style, int directed) {
+
+        private static TransactionAttributes ensure(final GraphWriteMethods graph) {
+            return new TransactionAttributes(VisualConcept.TransactionAttribute.IDENTIFIER.ensure(graph),
+                    AnalyticConcept.TransactionAttribute.TYPE.ensure(graph),
+                    VisualConcept.TransactionAttribute.LABEL.ensure(graph),
+                    VisualConcept.TransactionAttribute.COLOR.ensure(graph),
+                    VisualConcept.TransactionAttribute.LINE_STYLE.ensure(graph),
+                    VisualConcept.TransactionAttribute.DIRECTED.ensure(graph));
+        }
+    }
+
+    /**
+     * The values resolved for a vertex being completed, to be written back to
+     * the graph.
+     */
+    private record VertexCompletion(String identifier, SchemaVertexType type, RawData raw, String label,
+            boolean updateStoredType, boolean modifiedDefaultType) {
+    }
+
+    /**
+     * The values resolved for a transaction being completed, to be written
+     * back to the graph.
+     */
+    private record TransactionCompletion(String identifier, SchemaTransactionType type, String label,
+            boolean updateStoredType, boolean modifiedDefaultType) {
+    }
 }
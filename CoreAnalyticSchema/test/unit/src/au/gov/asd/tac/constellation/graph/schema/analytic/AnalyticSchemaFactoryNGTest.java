@@ -327,6 +327,90 @@ public class AnalyticSchemaFactoryNGTest {
         assertEquals(schema.resolveVertexType("Fake"), notATypeResult);
     }
     
+    /**
+     * Test of completeVertices method, of class AnalyticSchemaFactory.AnalyticSchema. Enough vertices are completed
+     * for their values to be resolved in parallel, and the result should match completing each vertex individually.
+     */
+    @Test
+    public void testCompleteVertices() {
+        System.out.println("completeVertices");
+               
+        final AnalyticSchemaFactory instance = new AnalyticSchemaFactory();
+        final Schema schema = instance.createSchema();
+        final StoreGraph bulkGraph = new StoreGraph(schema);
+        final StoreGraph singleGraph = new StoreGraph(schema);
+        
+        final String[] raws = {"my vertex<Person>", "my vertex<person>", "my vertex<Fake>", "my vertex", "<Email>"};
+        final int vertexCount = 2000;
+        final int[] bulkVxIds = new int[vertexCount];
+        final int[] singleVxIds = new int[vertexCount];
+        for (final StoreGraph graph : Arrays.asList(bulkGraph, singleGraph)) {
+            final int vertexRawAttribute = AnalyticConcept.VertexAttribute.RAW.ensure(graph);
+            final int[] vxIds = graph == bulkGraph ? bulkVxIds : singleVxIds;
+            for (int i = 0; i < vertexCount; i++) {
+                vxIds[i] = graph.addVertex();
+                graph.setObjectValue(vertexRawAttribute, vxIds[i], new RawData(raws[i % raws.length]));
+            }
+        }
+        
+        schema.completeVertices(bulkGraph, bulkVxIds);
+        for (final int vxId : singleVxIds) {
+            schema.completeVertex(singleGraph, vxId);
+        }
+        
+        final int bulkIdentifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.get(bulkGraph);
+        final int bulkLabelAttribute = VisualConcept.VertexAttribute.LABEL.get(bulkGraph);
+        final int bulkTypeAttribute = AnalyticConcept.VertexAttribute.TYPE.get(bulkGraph);
+        final int bulkColorAttribute = VisualConcept.VertexAttribute.COLOR.get(bulkGraph);
+        final int singleIdentifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.get(singleGraph);
+        final int singleLabelAttribute = VisualConcept.VertexAttribute.LABEL.get(singleGraph);
+        final int singleTypeAttribute = AnalyticConcept.VertexAttribute.TYPE.get(singleGraph);
+        final int singleColorAttribute = VisualConcept.VertexAttribute.COLOR.get(singleGraph);
+        for (int i = 0; i < vertexCount; i++) {
+            assertEquals(bulkGraph.getStringValue(bulkIdentifierAttribute, bulkVxIds[i]), singleGraph.getStringValue(singleIdentifierAttribute, singleVxIds[i]));
+            assertEquals(bulkGraph.getStringValue(bulkLabelAttribute, bulkVxIds[i]), singleGraph.getStringValue(singleLabelAttribute, singleVxIds[i]));
+            assertEquals(bulkGraph.getStringValue(bulkTypeAttribute, bulkVxIds[i]), singleGraph.getStringValue(singleTypeAttribute, singleVxIds[i]));
+            assertEquals(bulkGraph.getObjectValue(bulkColorAttribute, bulkVxIds[i]), singleGraph.getObjectValue(singleColorAttribute, singleVxIds[i]));
+        }
+        
+        assertEquals(bulkGraph.getObjectValue(bulkTypeAttribute, bulkVxIds[0]), AnalyticConcept.VertexType.PERSON);
+        assertEquals(bulkGraph.getStringValue(bulkLabelAttribute, bulkVxIds[0]), "my vertex<Person>");
+        assertEquals(bulkGraph.getStringValue(bulkLabelAttribute, bulkVxIds[2]), "my vertex<Fake>");
+    }
+    
+    /**
+     * Test of completeTransactions method, of class AnalyticSchemaFactory.AnalyticSchema.
+     */
+    @Test
+    public void testCompleteTransactions() {
+        System.out.println("completeTransactions");
+               
+        final AnalyticSchemaFactory instance = new AnalyticSchemaFactory();
+        final Schema schema = instance.createSchema();
+        final StoreGraph graph = new StoreGraph(schema);
+        
+        final int vxId1 = graph.addVertex();
+        final int vxId2 = graph.addVertex();
+        
+        final int tId1 = graph.addTransaction(vxId1, vxId2, false);
+        final int tId2 = graph.addTransaction(vxId1, vxId2, false);
+        
+        final int transactionIdentifierAttribute = VisualConcept.TransactionAttribute.IDENTIFIER.ensure(graph);
+        final int transactionLabelAttribute = VisualConcept.TransactionAttribute.LABEL.ensure(graph);
+        final int transactionTypeAttribute = AnalyticConcept.TransactionAttribute.TYPE.ensure(graph);
+        
+        graph.setStringValue(transactionLabelAttribute, tId1, "first transaction<Correlation>");
+        graph.setStringValue(transactionLabelAttribute, tId2, "second transaction<Correlation>");
+        
+        schema.completeTransactions(graph, new int[]{tId1, tId2});
+        
+        assertEquals(graph.getStringValue(transactionIdentifierAttribute, tId1), "first transaction");
+        assertEquals(graph.getStringValue(transactionIdentifierAttribute, tId2), "second transaction");
+        assertEquals(graph.getObjectValue(transactionTypeAttribute, tId1), AnalyticConcept.TransactionType.CORRELATION);
+        assertEquals(graph.getObjectValue(transactionTypeAttribute, tId2), AnalyticConcept.TransactionType.CORRELATION);
+        assertEquals(graph.getStringValue(transactionLabelAttribute, tId2), "Correlation");
+    }
+    
     /**
      * Test of newTransaction method, of class AnalyticSchemaFactory.AnalyticSchema.
      */
@@ -22,14 +22,20 @@ import au.gov.asd.tac.constellation.plugins.PluginInteraction;
 import au.gov.asd.tac.constellation.plugins.PluginType;
 import au.gov.asd.tac.constellation.plugins.arrangements.Arranger;
 import au.gov.asd.tac.constellation.plugins.arrangements.SelectedInclusionGraph;
+import au.gov.asd.tac.constellation.plugins.parameters.PluginParameter;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
+import au.gov.asd.tac.constellation.plugins.parameters.types.FloatParameterType;
+import au.gov.asd.tac.constellation.plugins.parameters.types.FloatParameterType.FloatParameterValue;
+import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType;
+import au.gov.asd.tac.constellation.plugins.parameters.types.IntegerParameterType.IntegerParameterValue;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
 import org.openide.util.NbBundle.Messages;
 import org.openide.util.lookup.ServiceProvider;
 
 /**
- * Plugin framework to support the FR2D arrangement.
+ * Plugin framework to support the FR2D arrangement, which uses a multilevel
+ * Barnes-Hut approximation of the Fruchterman-Reingold algorithm.
  *
  * @author algol
  */
@@ -38,9 +44,34 @@ import org.openide.util.lookup.ServiceProvider;
 @PluginInfo(pluginType = PluginType.DISPLAY, tags = {PluginTags.MODIFY})
 public class ArrangeByProximityPlugin extends SimpleEditPlugin {
 
+    public static final String ITERATIONS_PARAMETER_ID = PluginParameter.buildId(ArrangeByProximityPlugin.class, "iterations");
+    public static final String THETA_PARAMETER_ID = PluginParameter.buildId(ArrangeByProximityPlugin.class, "theta");
+
+    @Override
+    public PluginParameters createParameters() {
+        final PluginParameters parameters = new PluginParameters();
+
+        final PluginParameter<IntegerParameterValue> iterationsParameter = IntegerParameterType.build(ITERATIONS_PARAMETER_ID);
+        iterationsParameter.setName("Iterations");
+        iterationsParameter.setDescription("The number of iterations used to arrange each level of detail");
+        iterationsParameter.setIntegerValue(BarnesHutArranger.DEFAULT_ITERATIONS);
+        IntegerParameterType.setMinimum(iterationsParameter, 1);
+        parameters.addParameter(iterationsParameter);
+
+        final PluginParameter<FloatParameterValue> thetaParameter = FloatParameterType.build(THETA_PARAMETER_ID);
+        thetaParameter.setName("Theta");
+        thetaParameter.setDescription("How coarsely the repulsion between distant nodes is approximated, where 0 is exact");
+        thetaParameter.setFloatValue(BarnesHutArranger.DEFAULT_THETA);
+        FloatParameterType.setMinimum(thetaParameter, 0);
+        parameters.addParameter(thetaParameter);
+
+        return parameters;
+    }
+
     @Override
     public void edit(final GraphWriteMethods wg, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException {
-        final Arranger arranger = new FR2DArranger(interaction);
+        final Arranger arranger = new BarnesHutArranger(interaction, 2,
+                parameters.getIntegerValue(ITERATIONS_PARAMETER_ID), parameters.getFloatValue(THETA_PARAMETER_ID));
         final SelectedInclusionGraph selectedGraph = new SelectedInclusionGraph(wg, SelectedInclusionGraph.Connections.LINKS);
         arranger.setMaintainMean(!selectedGraph.isArrangingAll());
         arranger.arrange(selectedGraph.getInclusionGraph());
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.arrangements.proximity;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.plugins.PluginInteraction;
+import au.gov.asd.tac.constellation.plugins.arrangements.Arranger;
+import au.gov.asd.tac.constellation.plugins.arrangements.utilities.ArrangementUtilities;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * A multilevel version of the Fruchterman-Reingold force-directed algorithm,
+ * in either two or three dimensions, which scales to large graphs.
+ * <p>
+ * The graph is repeatedly coarsened by merging each vertex with a neighbour
+ * until it is small, the coarsest graph is laid out from random positions,
+ * and then each finer graph starts from the positions of the vertex it was
+ * merged into and is refined. At every level the repulsion between all
+ * vertices is approximated with a {@link BarnesHutTree}, so each iteration
+ * costs O(n log n) rather than O(n^2), and forces are accumulated in parallel
+ * into float arrays.
+ * <p>
+ * Behavior is determined by the following settable parameters:
+ * <ul>
+ * <li>iterations: how many iterations are used to lay out each level</li>
+ * <li>theta: how coarsely repulsion is approximated, with 0 being exact and
+ * values around 1 being fast but less accurate</li>
+ * </ul>
+ *
+ * @author algol
+ */
+public class BarnesHutArranger implements Arranger {
+
+    private static final String ARRANGING_INTERACTION = "Arranging...";
+
+    public static final int DEFAULT_ITERATIONS = 100;
+    public static final float DEFAULT_THETA = 0.8F;
+
+    // the same force constants used by FR2DArranger and FR3DArranger
+    private static final float FORCE_CONSTANT = 3;
+    private static final float ATTRACTION_CONSTANT = (float) (0.75 / 0.67 * FORCE_CONSTANT);
+    private static final float REPULSION_CONSTANT = (float) (0.75 * 0.67 * FORCE_CONSTANT);
+    private static final float EPSILON = 0.000001F;
+
+    // stop coarsening when the graph is this small, or stops getting meaningfully smaller
+    private static final int COARSEST_SIZE = 50;
+    private static final float MINIMUM_COARSENING_RATIO = 0.9F;
+
+    // the number of vertices processed by each parallel task
+    private static final int CHUNK_SIZE = 256;
+
+    private final PluginInteraction interaction;
+    private final int dimensions;
+    private final int iterations;
+    private final float theta;
+    private boolean maintainMean = false;
+
+    private final SecureRandom r = new SecureRandom();
+
+    /**
+     * Creates a new arranger using the default number of iterations and theta.
+     *
+     * @param interaction The {@link PluginInteraction} that this arranger will
+     * use.
+     * @param dimensions The number of dimensions to arrange in, either 2 or 3.
+     */
+    public BarnesHutArranger(final PluginInteraction interaction, final int dimensions) {
+        this(interaction, dimensions, DEFAULT_ITERATIONS, DEFAULT_THETA);
+    }
+
+    /**
+     * Creates a new arranger.
+     *
+     * @param interaction The {@link PluginInteraction} that this arranger will
+     * use.
+     * @param dimensions The number of dimensions to arrange in, either 2 or 3.
+     * @param iterations The number of iterations used to lay out each level.
+     * @param theta The Barnes-Hut opening criterion.
+     */
+    public BarnesHutArranger(final PluginInteraction interaction, final int dimensions, final int iterations, final float theta) {
+        if (dimensions != 2 && dimensions != 3) {
+            throw new IllegalArgumentException("Only 2 or 3 dimensional arrangements are supported");
+        }
+        this.interaction = interaction;
+        this.dimensions = dimensions;
+        this.iterations = iterations;
+        this.theta = theta;
+    }
+
+    @Override
+    public void arrange(final GraphWriteMethods wg) throws InterruptedException {
+        final float[] oldMean = maintainMean ? ArrangementUtilities.getXyzMean(wg) : null;
+
+        final int vxCount = wg.getVertexCount();
+        if (vxCount > 0) {
+            final List<Level> levels = coarsen(new Level(wg));
+            final float[] coordinates = layout(levels);
+            writeBackXYZ(wg, coordinates);
+
+            if (maintainMean) {
+                ArrangementUtilities.moveMean(wg, oldMean);
+            }
+        }
+    }
+
+    private List<Level> coarsen(final Level finest) {
+        final List<Level> levels = new ArrayList<>();
+        levels.add(finest);
+        Level level = finest;
+        while (level.vertexCount > COARSEST_SIZE) {
+            final Level coarser = level.coarsen(r);
+            if (coarser.vertexCount > level.vertexCount * MINIMUM_COARSENING_RATIO) {
+                break;
+            }
+            levels.add(coarser);
+            level = coarser;
+        }
+        return levels;
+    }
+
+    private float[] layout(final List<Level> levels) throws InterruptedException {
+        final int totalSteps = levels.size() * iterations;
+        int step = 0;
+
+        // start the coarsest level at random positions within a box sized like FR2DArranger's
+        Level level = levels.get(levels.size() - 1);
+        final int size = 3 * (int) Math.ceil(Math.sqrt(level.vertexCount));
+        float[] coordinates = new float[level.vertexCount * dimensions];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = r.nextFloat() * size;
+        }
+        float initialTemperature = size / 4F;
+
+        final BarnesHutTree tree = new BarnesHutTree(dimensions);
+        for (int levelIndex = levels.size() - 1; levelIndex >= 0; levelIndex--) {
+            level = levels.get(levelIndex);
+            if (levelIndex < levels.size() - 1) {
+                coordinates = levels.get(levelIndex + 1).prolong(level, coordinates, dimensions, r);
+                initialTemperature = FORCE_CONSTANT;
+            }
+
+            final float[] displacements = new float[coordinates.length];
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                interaction.setProgress(++step, totalSteps, ARRANGING_INTERACTION, true);
+
+                final float temperature = initialTemperature * (1 - iteration / (float) iterations);
+                iterate(level, tree, coordinates, displacements, temperature);
+
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        }
+
+        return coordinates;
+    }
+
+    private void iterate(final Level level, final BarnesHutTree tree, final float[] coordinates, final float[] displacements,
+            final float temperature) {
+        tree.build(coordinates, level.masses, level.vertexCount);
+        Arrays.fill(displacements, 0);
+
+        // each task only writes the displacements of its own vertices, so no synchronisation is needed
+        final int chunkCount = (level.vertexCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final ForkJoinPool pool = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool();
+        pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            final int[] stack = tree.createStack();
+            final int end = Math.min(level.vertexCount, (chunk + 1) * CHUNK_SIZE);
+            for (int vertex = chunk * CHUNK_SIZE; vertex < end; vertex++) {
+                tree.repulse(coordinates, vertex, REPULSION_CONSTANT, theta, stack, displacements);
+                attract(level, vertex, coordinates, displacements);
+            }
+        })).join();
+
+        pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            final int end = Math.min(level.vertexCount, (chunk + 1) * CHUNK_SIZE);
+            for (int vertex = chunk * CHUNK_SIZE; vertex < end; vertex++) {
+                position(vertex, coordinates, displacements, temperature);
+            }
+        })).join();
+    }
+
+    /**
+     * Attract a vertex towards its neighbours.
+     */
+    private void attract(final Level level, final int vertex, final float[] coordinates, final float[] displacements) {
+        final int offset = vertex * dimensions;
+        for (int index = level.offsets[vertex]; index < level.offsets[vertex + 1]; index++) {
+            final int neighbourOffset = level.neighbours[index] * dimensions;
+            float distanceSquared = 0;
+            for (int d = 0; d < dimensions; d++) {
+                final float delta = coordinates[offset + d] - coordinates[neighbourOffset + d];
+                distanceSquared += delta * delta;
+            }
+            final float distance = Math.max(EPSILON, (float) Math.sqrt(distanceSquared));
+            final float force = distance * distance / ATTRACTION_CONSTANT;
+            for (int d = 0; d < dimensions; d++) {
+                displacements[offset + d] -= (coordinates[offset + d] - coordinates[neighbourOffset + d]) / distance * force;
+            }
+        }
+    }
+
+    /**
+     * Move a vertex by its displacement, limited by the temperature.
+     */
+    private void position(final int vertex, final float[] coordinates, final float[] displacements, final float temperature) {
+        final int offset = vertex * dimensions;
+        float lengthSquared = 0;
+        for (int d = 0; d < dimensions; d++) {
+            lengthSquared += displacements[offset + d] * displacements[offset + d];
+        }
+        final float length = Math.max(EPSILON, (float) Math.sqrt(lengthSquared));
+        final float scale = Math.min(length, temperature) / length;
+        for (int d = 0; d < dimensions; d++) {
+            coordinates[offset + d] += displacements[offset + d] * scale;
+        }
+    }
+
+    private void writeBackXYZ(final GraphWriteMethods graph, final float[] coordinates) {
+        final int xAttr = VisualConcept.VertexAttribute.X.get(graph);
+        final int yAttr = VisualConcept.VertexAttribute.Y.get(graph);
+        final int zAttr = VisualConcept.VertexAttribute.Z.get(graph);
+        if (VisualConcept.VertexAttribute.X2.get(graph) == Graph.NOT_FOUND) {
+            graph.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "x2", "x2", null, null);
+        }
+        if (VisualConcept.VertexAttribute.Y2.get(graph) == Graph.NOT_FOUND) {
+            graph.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "y2", "y2", null, null);
+        }
+        if (VisualConcept.VertexAttribute.Z2.get(graph) == Graph.NOT_FOUND) {
+            graph.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "z2", "z2", null, null);
+        }
+        final int x2Attr = VisualConcept.VertexAttribute.X2.get(graph);
+        final int y2Attr = VisualConcept.VertexAttribute.Y2.get(graph);
+        final int z2Attr = VisualConcept.VertexAttribute.Z2.get(graph);
+
+        final int vxCount = graph.getVertexCount();
+        for (int position = 0; position < vxCount; position++) {
+            final int vxId = graph.getVertex(position);
+
+            graph.setFloatValue(x2Attr, vxId, graph.getFloatValue(xAttr, vxId));
+            graph.setFloatValue(y2Attr, vxId, graph.getFloatValue(yAttr, vxId));
+            graph.setFloatValue(z2Attr, vxId, graph.getFloatValue(zAttr, vxId));
+
+            graph.setFloatValue(xAttr, vxId, coordinates[position * dimensions]);
+            graph.setFloatValue(yAttr, vxId, coordinates[position * dimensions + 1]);
+            graph.setFloatValue(zAttr, vxId, dimensions == 3 ? coordinates[position * dimensions + 2] : 0);
+        }
+    }
+
+    @Override
+    public void setMaintainMean(final boolean b) {
+        maintainMean = b;
+    }
+
+    /**
+     * One level of the multilevel schedule: a graph in compressed adjacency
+     * form where each vertex has a mass equal to the number of original
+     * vertices merged into it, and a mapping from each vertex of the next finer
+     * level to the vertex it was merged into.
+     */
+    private static class Level {
+
+        private final int vertexCount;
+        private final int[] offsets;
+        private final int[] neighbours;
+        private final float[] masses;
+        private int[] finerToCoarser;
+
+        /**
+         * Create the finest level from the graph, indexed by vertex position.
+         */
+        private Level(final GraphWriteMethods graph) {
+            vertexCount = graph.getVertexCount();
+            offsets = new int[vertexCount + 1];
+            masses = new float[vertexCount];
+            Arrays.fill(masses, 1);
+
+            int neighbourCount = 0;
+            int[] targets = new int[Math.max(16, graph.getLinkCount() * 2)];
+            for (int position = 0; position < vertexCount; position++) {
+                final int vxId = graph.getVertex(position);
+                offsets[position] = neighbourCount;
+                final int linkCount = graph.getVertexLinkCount(vxId);
+                for (int linkPosition = 0; linkPosition < linkCount; linkPosition++) {
+                    final int linkId = graph.getVertexLink(vxId, linkPosition);
+                    final int lowId = graph.getLinkLowVertex(linkId);
+                    final int neighbourId = lowId == vxId ? graph.getLinkHighVertex(linkId) : lowId;
+                    if (neighbourId != vxId) {
+                        if (neighbourCount == targets.length) {
+                            targets = Arrays.copyOf(targets, targets.length * 2);
+                        }
+                        targets[neighbourCount++] = graph.getVertexPosition(neighbourId);
+                    }
+                }
+            }
+            offsets[vertexCount] = neighbourCount;
+            neighbours = Arrays.copyOf(targets, neighbourCount);
+        }
+
+        private Level(final int vertexCount, final int[] offsets, final int[] neighbours, final float[] masses) {
+            this.vertexCount = vertexCount;
+            this.offsets = offsets;
+            this.neighbours = neighbours;
+            this.masses = masses;
+        }
+
+        /**
+         * Create a coarser level by matching each vertex with its lightest
+         * unmatched neighbour. A vertex whose neighbours are all matched
+         * joins the group of its first neighbour instead, so that stars and
+         * other poorly matched structures still shrink.
+         */
+        private Level coarsen(final SecureRandom r) {
+            final int[] order = new int[vertexCount];
+            for (int i = 0; i < vertexCount; i++) {
+                order[i] = i;
+            }
+            for (int i = vertexCount - 1; i > 0; i--) {
+                final int j = r.nextInt(i + 1);
+                final int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+
+            final int[] map = new int[vertexCount];
+            Arrays.fill(map, -1);
+            int coarseCount = 0;
+            for (final int vertex : order) {
+                if (map[vertex] != -1) {
+                    continue;
+                }
+                int match = -1;
+                for (int index = offsets[vertex]; index < offsets[vertex + 1]; index++) {
+                    final int neighbour = neighbours[index];
+                    if (map[neighbour] == -1 && (match == -1 || masses[neighbour] < masses[match])) {
+                        match = neighbour;
+                    }
+                }
+                if (match != -1) {
+                    map[vertex] = coarseCount;
+                    map[match] = coarseCount++;
+                } else if (offsets[vertex] < offsets[vertex + 1]) {
+                    map[vertex] = map[neighbours[offsets[vertex]]];
+                } else {
+                    map[vertex] = coarseCount++;
+                }
+            }
+
+            // group the finer vertices by the coarse vertex they were merged into
+            final int[] memberOffsets = new int[coarseCount + 1];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                memberOffsets[map[vertex] + 1]++;
+            }
+            for (int coarse = 0; coarse < coarseCount; coarse++) {
+                memberOffsets[coarse + 1] += memberOffsets[coarse];
+            }
+            final int[] members = new int[vertexCount];
+            final int[] next = Arrays.copyOf(memberOffsets, coarseCount);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                members[next[map[vertex]]++] = vertex;
+            }
+
+            // build the coarse adjacency, removing duplicate neighbours and merged connections
+            final float[] coarseMasses = new float[coarseCount];
+            final int[] coarseOffsets = new int[coarseCount + 1];
+            int[] coarseNeighbours = new int[neighbours.length];
+            final int[] lastSeen = new int[coarseCount];
+            Arrays.fill(lastSeen, -1);
+            int neighbourCount = 0;
+            for (int coarse = 0; coarse < coarseCount; coarse++) {
+                coarseOffsets[coarse] = neighbourCount;
+                lastSeen[coarse] = coarse;
+                for (int member = memberOffsets[coarse]; member < memberOffsets[coarse + 1]; member++) {
+                    final int vertex = members[member];
+                    coarseMasses[coarse] += masses[vertex];
+                    for (int index = offsets[vertex]; index < offsets[vertex + 1]; index++) {
+                        final int coarseNeighbour = map[neighbours[index]];
+                        if (lastSeen[coarseNeighbour] != coarse) {
+                            lastSeen[coarseNeighbour] = coarse;
+                            coarseNeighbours[neighbourCount++] = coarseNeighbour;
+                        }
+                    }
+                }
+            }
+            coarseOffsets[coarseCount] = neighbourCount;
+            coarseNeighbours = Arrays.copyOf(coarseNeighbours, neighbourCount);
+
+            final Level coarser = new Level(coarseCount, coarseOffsets, coarseNeighbours, coarseMasses);
+            coarser.finerToCoarser = map;
+            return coarser;
+        }
+
+        /**
+         * Place each vertex of the finer level near the coarse vertex it was
+         * merged into.
+         */
+        private float[] prolong(final Level finer, final float[] coordinates, final int dimensions, final SecureRandom r) {
+            final float[] finerCoordinates = new float[finer.vertexCount * dimensions];
+            for (int vertex = 0; vertex < finer.vertexCount; vertex++) {
+                final int coarse = finerToCoarser[vertex];
+                for (int d = 0; d < dimensions; d++) {
+                    finerCoordinates[vertex * dimensions + d] = coordinates[coarse * dimensions + d] + (r.nextFloat() - 0.5F);
+                }
+            }
+            return finerCoordinates;
+        }
+    }
+}
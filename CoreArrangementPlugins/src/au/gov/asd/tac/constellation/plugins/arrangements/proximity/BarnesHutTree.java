@@ -0,0 +1,285 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.arrangements.proximity;
+
+import java.util.Arrays;
+
+/**
+ * A Barnes-Hut space partitioning tree over a set of weighted points, used to
+ * approximate the repulsion a point receives from all other points. In two
+ * dimensions this is a quadtree and in three dimensions an octree.
+ * <p>
+ * The tree is stored in flat arrays so it can be rebuilt every iteration
+ * without allocating objects, and once built it is read only, so repulsion can
+ * be calculated for many points at once from different threads. Each thread
+ * must supply its own traversal stack, obtained from {@link #createStack()}.
+ *
+ * @author algol
+ */
+final class BarnesHutTree {
+
+    // points closer together than this are kept in the same leaf rather than splitting forever
+    private static final int MAX_DEPTH = 32;
+    private static final int EMPTY = -1;
+    private static final int INTERNAL = -2;
+    private static final float EPSILON = 0.000001F;
+
+    private final int dimensions;
+    private final int childCount;
+
+    private int nodeCount;
+    private float[] centres;
+    private float[] halfSizes;
+    private float[] masses;
+    private float[] massCentres;
+    private int[] children;
+    private int[] bodies;
+
+    /**
+     * Create an empty tree.
+     *
+     * @param dimensions the number of dimensions, either 2 or 3.
+     */
+    BarnesHutTree(final int dimensions) {
+        if (dimensions != 2 && dimensions != 3) {
+            throw new IllegalArgumentException("Barnes-Hut trees must have 2 or 3 dimensions");
+        }
+        this.dimensions = dimensions;
+        this.childCount = 1 << dimensions;
+        allocate(64);
+    }
+
+    private void allocate(final int capacity) {
+        centres = new float[capacity * dimensions];
+        halfSizes = new float[capacity];
+        masses = new float[capacity];
+        massCentres = new float[capacity * dimensions];
+        children = new int[capacity * childCount];
+        bodies = new int[capacity];
+    }
+
+    private void grow() {
+        final int capacity = halfSizes.length * 2;
+        centres = Arrays.copyOf(centres, capacity * dimensions);
+        halfSizes = Arrays.copyOf(halfSizes, capacity);
+        masses = Arrays.copyOf(masses, capacity);
+        massCentres = Arrays.copyOf(massCentres, capacity * dimensions);
+        children = Arrays.copyOf(children, capacity * childCount);
+        bodies = Arrays.copyOf(bodies, capacity);
+    }
+
+    /**
+     * Rebuild the tree over the given points.
+     *
+     * @param coordinates the coordinates of each point, stored consecutively.
+     * @param pointMasses the mass of each point.
+     * @param pointCount the number of points.
+     */
+    void build(final float[] coordinates, final float[] pointMasses, final int pointCount) {
+        nodeCount = 0;
+        if (pointCount == 0) {
+            return;
+        }
+
+        // the root is a square (or cube) enclosing every point
+        final float[] min = new float[dimensions];
+        final float[] max = new float[dimensions];
+        Arrays.fill(min, Float.POSITIVE_INFINITY);
+        Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        for (int point = 0; point < pointCount; point++) {
+            for (int d = 0; d < dimensions; d++) {
+                min[d] = Math.min(min[d], coordinates[point * dimensions + d]);
+                max[d] = Math.max(max[d], coordinates[point * dimensions + d]);
+            }
+        }
+        float halfSize = 0;
+        for (int d = 0; d < dimensions; d++) {
+            halfSize = Math.max(halfSize, (max[d] - min[d]) / 2);
+        }
+        final int root = createNode(Math.max(halfSize * 1.01F, 1));
+        for (int d = 0; d < dimensions; d++) {
+            centres[root * dimensions + d] = (min[d] + max[d]) / 2;
+        }
+
+        for (int point = 0; point < pointCount; point++) {
+            insert(coordinates, pointMasses, point);
+        }
+
+        // the mass centres were accumulated as weighted sums
+        for (int node = 0; node < nodeCount; node++) {
+            for (int d = 0; d < dimensions; d++) {
+                massCentres[node * dimensions + d] /= masses[node];
+            }
+        }
+    }
+
+    private int createNode(final float halfSize) {
+        if (nodeCount == halfSizes.length) {
+            grow();
+        }
+        final int node = nodeCount++;
+        halfSizes[node] = halfSize;
+        masses[node] = 0;
+        Arrays.fill(massCentres, node * dimensions, (node + 1) * dimensions, 0);
+        Arrays.fill(children, node * childCount, (node + 1) * childCount, EMPTY);
+        bodies[node] = EMPTY;
+        return node;
+    }
+
+    private int getChild(final int node, final float[] coordinates, final int point) {
+        int child = 0;
+        for (int d = 0; d < dimensions; d++) {
+            if (coordinates[point * dimensions + d] >= centres[node * dimensions + d]) {
+                child |= 1 << d;
+            }
+        }
+
+        int childNode = children[node * childCount + child];
+        if (childNode == EMPTY) {
+            final float halfSize = halfSizes[node] / 2;
+            childNode = createNode(halfSize);
+            for (int d = 0; d < dimensions; d++) {
+                centres[childNode * dimensions + d] = centres[node * dimensions + d] + ((child & (1 << d)) == 0 ? -halfSize : halfSize);
+            }
+            children[node * childCount + child] = childNode;
+        }
+        return childNode;
+    }
+
+    private void accumulate(final int node, final float[] coordinates, final float[] pointMasses, final int point) {
+        masses[node] += pointMasses[point];
+        for (int d = 0; d < dimensions; d++) {
+            massCentres[node * dimensions + d] += pointMasses[point] * coordinates[point * dimensions + d];
+        }
+    }
+
+    private void insert(final float[] coordinates, final float[] pointMasses, final int point) {
+        int node = 0;
+        int depth = 0;
+        while (true) {
+            accumulate(node, coordinates, pointMasses, point);
+
+            final int body = bodies[node];
+            if (body == EMPTY) {
+                bodies[node] = point;
+                return;
+            }
+
+            if (body != INTERNAL) {
+                if (depth >= MAX_DEPTH) {
+                    // the points are effectively coincident, so share the leaf
+                    return;
+                }
+
+                // push the existing point down so this node can become internal
+                bodies[node] = INTERNAL;
+                final int bodyChild = getChild(node, coordinates, body);
+                accumulate(bodyChild, coordinates, pointMasses, body);
+                bodies[bodyChild] = body;
+            }
+
+            node = getChild(node, coordinates, point);
+            depth++;
+        }
+    }
+
+    /**
+     * Create a traversal stack large enough for this tree.
+     *
+     * @return a new traversal stack.
+     */
+    int[] createStack() {
+        return new int[(MAX_DEPTH + 1) * childCount];
+    }
+
+    /**
+     * Calculate the Fruchterman-Reingold repulsion on a point from every other
+     * point in the tree, adding it to the given displacement.
+     * <p>
+     * A node of the tree is treated as a single point at its centre of mass if
+     * the point is outside the node and the ratio of the width of the node to
+     * its distance from the point is less than theta. A theta of 0 calculates
+     * the exact repulsion.
+     *
+     * @param coordinates the coordinates of each point.
+     * @param point the point to calculate the repulsion on.
+     * @param repulsionConstant the Fruchterman-Reingold repulsion constant.
+     * @param theta the Barnes-Hut opening criterion.
+     * @param stack a traversal stack obtained from {@link #createStack()}.
+     * @param displacement the displacement of each point, to which the
+     * repulsion is added.
+     */
+    void repulse(final float[] coordinates, final int point, final float repulsionConstant, final float theta,
+            final int[] stack, final float[] displacement) {
+        if (nodeCount == 0) {
+            return;
+        }
+
+        final float repulsionSquared = repulsionConstant * repulsionConstant;
+        final float thetaSquared = theta * theta;
+        final int offset = point * dimensions;
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+
+            float distanceSquared = 0;
+            for (int d = 0; d < dimensions; d++) {
+                final float delta = coordinates[offset + d] - massCentres[node * dimensions + d];
+                distanceSquared += delta * delta;
+            }
+
+            final boolean leaf = bodies[node] != INTERNAL;
+            final float width = halfSizes[node] * 2;
+            if (leaf || (width * width < thetaSquared * distanceSquared && !contains(node, coordinates, offset))) {
+                if (distanceSquared < EPSILON * EPSILON) {
+                    // this is the point itself, or points with no direction between them
+                    continue;
+                }
+                final float distance = (float) Math.sqrt(distanceSquared);
+                final float force = masses[node] * repulsionSquared / distance;
+                for (int d = 0; d < dimensions; d++) {
+                    displacement[offset + d] += (coordinates[offset + d] - massCentres[node * dimensions + d]) / distance * force;
+                }
+            } else {
+                for (int child = 0; child < childCount; child++) {
+                    final int childNode = children[node * childCount + child];
+                    if (childNode != EMPTY) {
+                        stack[top++] = childNode;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean contains(final int node, final float[] coordinates, final int offset) {
+        for (int d = 0; d < dimensions; d++) {
+            if (Math.abs(coordinates[offset + d] - centres[node * dimensions + d]) > halfSizes[node]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of nodes in the tree.
+     *
+     * @return the number of nodes.
+     */
+    int getNodeCount() {
+        return nodeCount;
+    }
+}
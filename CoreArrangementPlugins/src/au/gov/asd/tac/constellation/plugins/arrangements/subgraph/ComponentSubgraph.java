@@ -314,6 +314,16 @@ public class ComponentSubgraph implements GraphWriteMethods {
         return proxy.getValueModificationCounter(attribute);
     }
 
+    @Override
+    public long getValueChangeSequence() {
+        return proxy.getValueChangeSequence();
+    }
+
+    @Override
+    public int[] getChangedElements(final int attribute, final long sequence) {
+        return proxy.getChangedElements(attribute, sequence);
+    }
+
     @Override
     public int getEdgeCapacity() {
         return proxy.getEdgeCapacity();
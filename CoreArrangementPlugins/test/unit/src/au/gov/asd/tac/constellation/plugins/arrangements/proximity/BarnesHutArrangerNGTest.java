@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.arrangements.proximity;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
+import au.gov.asd.tac.constellation.graph.schema.visual.VisualSchemaFactory;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.plugins.PluginInteraction;
+import java.util.Arrays;
+import java.util.Random;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Barnes-Hut Arranger Test.
+ *
+ * @author algol
+ */
+public class BarnesHutArrangerNGTest {
+
+    /**
+     * Test of repulse method, of class BarnesHutTree. A theta of 0 should
+     * match the exact Fruchterman-Reingold repulsion.
+     */
+    @Test
+    public void testRepulseExact() {
+        System.out.println("repulseExact");
+
+        final int pointCount = 200;
+        final Random random = new Random(42);
+        for (final int dimensions : new int[]{2, 3}) {
+            final float[] coordinates = new float[pointCount * dimensions];
+            for (int i = 0; i < coordinates.length; i++) {
+                coordinates[i] = random.nextFloat() * 100;
+            }
+            final float[] masses = new float[pointCount];
+            Arrays.fill(masses, 1);
+
+            final BarnesHutTree tree = new BarnesHutTree(dimensions);
+            tree.build(coordinates, masses, pointCount);
+            final float[] displacements = new float[coordinates.length];
+            final int[] stack = tree.createStack();
+            for (int point = 0; point < pointCount; point++) {
+                tree.repulse(coordinates, point, 1.5F, 0, stack, displacements);
+            }
+
+            for (int point = 0; point < pointCount; point++) {
+                final float[] expected = new float[dimensions];
+                for (int other = 0; other < pointCount; other++) {
+                    if (other != point) {
+                        float distanceSquared = 0;
+                        for (int d = 0; d < dimensions; d++) {
+                            final float delta = coordinates[point * dimensions + d] - coordinates[other * dimensions + d];
+                            distanceSquared += delta * delta;
+                        }
+                        final float distance = (float) Math.sqrt(distanceSquared);
+                        for (int d = 0; d < dimensions; d++) {
+                            expected[d] += (coordinates[point * dimensions + d] - coordinates[other * dimensions + d]) / distance * (2.25F / distance);
+                        }
+                    }
+                }
+                for (int d = 0; d < dimensions; d++) {
+                    assertEquals(displacements[point * dimensions + d], expected[d], 0.0001F * (1 + Math.abs(expected[d])));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of arrange method, of class BarnesHutArranger, on a graph large
+     * enough to be coarsened.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testArrange() throws InterruptedException {
+        System.out.println("arrange");
+
+        for (final int dimensions : new int[]{2, 3}) {
+            final StoreGraph graph = new StoreGraph(SchemaFactoryUtilities.getSchemaFactory(VisualSchemaFactory.VISUAL_SCHEMA_ID).createSchema());
+            final int xAttribute = VisualConcept.VertexAttribute.X.ensure(graph);
+            final int yAttribute = VisualConcept.VertexAttribute.Y.ensure(graph);
+            final int zAttribute = VisualConcept.VertexAttribute.Z.ensure(graph);
+
+            // a long path, with a disconnected vertex at the end
+            final int vertexCount = 300;
+            final int[] vxIds = new int[vertexCount];
+            for (int i = 0; i < vertexCount; i++) {
+                vxIds[i] = graph.addVertex();
+                if (i > 0 && i < vertexCount - 1) {
+                    graph.addTransaction(vxIds[i - 1], vxIds[i], true);
+                }
+            }
+
+            new BarnesHutArranger(mock(PluginInteraction.class), dimensions, 20, BarnesHutArranger.DEFAULT_THETA).arrange(graph);
+
+            assertNotEquals(VisualConcept.VertexAttribute.X2.get(graph), Graph.NOT_FOUND);
+            for (final int vxId : vxIds) {
+                assertTrue(Float.isFinite(graph.getFloatValue(xAttribute, vxId)));
+                assertTrue(Float.isFinite(graph.getFloatValue(yAttribute, vxId)));
+                if (dimensions == 2) {
+                    assertEquals(graph.getFloatValue(zAttribute, vxId), 0F);
+                } else {
+                    assertTrue(Float.isFinite(graph.getFloatValue(zAttribute, vxId)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of constructor, of class BarnesHutArranger, with an unsupported
+     * number of dimensions.
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnsupportedDimensions() {
+        System.out.println("unsupportedDimensions");
+
+        new BarnesHutArranger(mock(PluginInteraction.class), 4);
+    }
+}
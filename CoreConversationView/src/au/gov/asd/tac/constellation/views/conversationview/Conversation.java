@@ -21,18 +21,22 @@ import au.gov.asd.tac.constellation.graph.GraphAttribute;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.attribute.ObjectAttributeDescription;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.TemporalConcept;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.update.GraphUpdateController;
 import au.gov.asd.tac.constellation.plugins.update.GraphUpdateManager;
 import au.gov.asd.tac.constellation.plugins.update.MultiAttributeUpdateComponent;
 import au.gov.asd.tac.constellation.plugins.update.UpdateComponent;
 import au.gov.asd.tac.constellation.plugins.update.UpdateController;
-import au.gov.asd.tac.constellation.views.conversationview.TextConversationContributionProvider.TextContribution;
+import au.gov.asd.tac.constellation.utilities.temporal.TimeZoneUtilities;
+import au.gov.asd.tac.constellation.utilities.text.StringUtilities;
 import au.gov.asd.tac.constellation.views.conversationview.state.ConversationState;
 import au.gov.asd.tac.constellation.views.conversationview.state.ConversationViewConcept;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +47,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 
 /**
  * A Conversation is model of the all the content for the Conversation View. It
@@ -55,11 +61,16 @@ import javafx.collections.ObservableList;
  * response to changes from both the graph and the conversation view GUI,
  * according to the following procedure.
  * {@link Conversation#messageProvider messageProvider} examines the current
- * selection on the graph and populates the list
- * {@link Conversation#allMessages allMessages} accordingly. A number of other
- * providers then proceed to filter this list of messages, adding formatting
- * details to the messages that survive at each stage. The output of this
- * process is {@link Conversation#resultMessages resultMessages}, a list that
+ * selection on the graph and a lightweight key for each resulting message is
+ * held, sorted by datetime, in {@link Conversation#messageIndex messageIndex}.
+ * The index is only rebuilt when the selection, graph structure or datetimes
+ * change. The keys of the whole conversation are then filtered, searched and
+ * paged using values read directly from the graph, and
+ * {@link ConversationMessage} objects are only created and formatted by the
+ * other providers for the messages on the current page, so that large
+ * conversations can be paged through without formatting every message. The
+ * output of this process is
+ * {@link Conversation#resultMessages resultMessages}, a list that
  * {@link ConversationBox} listens to in order to display the conversation.
  * <br><br>
  * A number of update components determine when the list of all messages needs
@@ -82,8 +93,6 @@ public class Conversation {
     
     private static final Logger LOGGER = Logger.getLogger(Conversation.class.getName());
 
-    private static final Comparator<ConversationMessage> TEMPORAL_COMPARATOR = (ConversationMessage o1, ConversationMessage o2) -> o1.getDatetime().compareTo(o2.getDatetime());
-
     private static final int LOCK_STAGE = 0;
     private static final int UPDATE_STAGE = 1;
     private static final int JAVAFX_STAGE = 2;
@@ -102,15 +111,19 @@ public class Conversation {
     private ConversationColorProvider colorProvider = new DefaultConversationColorProvider();
     private ConversationBackgroundProvider backgroundProvider = new DefaultConversationBackgroundProvider();
 
-    private final List<ConversationMessage> allMessages = new ArrayList<>();
-    private final List<ConversationMessage> contributingMessages = new ArrayList<>();
-    private final List<ConversationMessage> temporalMessages = new ArrayList<>();
-    private final List<ConversationMessage> senderMessages = new ArrayList<>();
+    private final ConversationMessageIndex messageIndex = new ConversationMessageIndex();
+    // The positions in the message index of the messages with a text contribution, in datetime order.
+    private final IntArrayList contributingPositions = new IntArrayList();
+    // The ranks in contributingPositions of the messages that introduce a new sender or a new day.
+    private final IntArrayList contextRanks = new IntArrayList();
+    private final List<ConversationMessage> pageMessages = new ArrayList<>();
     private final List<ConversationMessage> visibleMessages = new ArrayList<>();
     private int pageNumber = 0;
     private int totalMessageCount = 0;
     private int totalPages = 0;
     private int contentPerPage = 50;
+    private int resolvedPageNumber = -1;
+    private int resolvedContentPerPage = 0;
 
     private ObservableList<ConversationMessage> resultMessages = null;
     private ConversationContributionProviderListener contributorListener = null;
@@ -120,11 +133,8 @@ public class Conversation {
     private List<String> possibleSenderAttributes = new ArrayList<>();
 
     // Thread names.
-    private static final String CONVERSATION_VIEW_UPDATE_COLOR_THREAD_NAME = "Conversation View: Update Color Stage";
     private static final String CONVERSATION_VIEW_UPDATE_CONTRIBUTIONS_THREAD_NAME = "Conversation View: Update Contributions";
-    private static final String CONVERSATION_VIEW_UPDATE_DATETIME_THREAD_NAME = "Conversation View: Update Datetime";
     private static final String CONVERSATION_VIEW_UPDATE_MESSAGE_THREAD_NAME = "Conversation View: Update Message in Conversation";
-    private static final String CONVERSATION_VIEW_UPDATE_SENDER_THREAD_NAME = "Conversation View: Update Sender Attribute Stage";
     private static final String CONVERSATION_VIEW_VISIBILITY_THREAD_NAME = "Conversation View: Visibility Updater";
 
     /**
@@ -146,21 +156,15 @@ public class Conversation {
         contributionProviderUpdater.dependOn(graphUpdateController.getAttributeUpdateComponent());
 
         messageUpdater.dependOn(conversationExistanceUpdater);
+        messageUpdater.dependOn(graphUpdateController.getStructureUpdateComponent());
         messageUpdater.dependOn(graphUpdateController.createAttributeUpdateComponent(VisualConcept.VertexAttribute.SELECTED));
         messageUpdater.dependOn(graphUpdateController.createAttributeUpdateComponent(VisualConcept.TransactionAttribute.SELECTED));
+        messageUpdater.dependOn(graphUpdateController.createAttributeUpdateComponent(TemporalConcept.TransactionAttribute.DATETIME));
 
         contributionUpdater.dependOn(messageUpdater);
+        contributionUpdater.dependOn(senderAttributes);
 
-        datetimeUpdater.dependOn(contributionUpdater);
-
-        senderUpdater.dependOn(datetimeUpdater);
-        senderUpdater.dependOn(senderAttributes);
-
-        backgroundUpdater.dependOn(senderUpdater);
-        colorUpdater.dependOn(senderUpdater);
-
-        visibilityUpdater.dependOn(backgroundUpdater);
-        visibilityUpdater.dependOn(colorUpdater);
+        visibilityUpdater.dependOn(contributionUpdater);
 
         resultUpdater.dependOn(visibilityUpdater);
 
@@ -207,6 +211,12 @@ public class Conversation {
      */
     public List<ConversationMessage> updateMessages(final GraphReadMethods graph) {
         ConversationController.getDefault().getConversationBox().setInProgress();
+        try {
+            resolvePage(graph);
+        } catch (final InterruptedException ex) {
+            LOGGER.log(Level.SEVERE, "Message resolution was interrupted");
+            Thread.currentThread().interrupt();
+        }
         visibilityUpdater.update(graph);
         return visibleMessages;
     }
@@ -276,7 +286,7 @@ public class Conversation {
             if (!conversationState.getSenderAttributes().equals(newConversationState.getSenderAttributes())) {
 
                 senderAttributes.updateAttributes(GraphElementType.VERTEX, newConversationState.getSenderAttributes(), false);
-                updateController.registerChange(senderUpdater, false);
+                updateController.registerChange(contributionUpdater, false);
                 updateController.registerChange(senderAttributeUpdater, false);
             }
 
@@ -350,11 +360,13 @@ public class Conversation {
 
     /**
      * Updates the messages in this Conversation. Needs to update whenever the
-     * graph selection changes.
+     * graph selection, graph structure or transaction datetimes change, but
+     * only reports a change if the message index actually had to be rebuilt.
      */
     private UpdateComponent<GraphReadMethods> messageUpdater = new UpdateComponent<GraphReadMethods>("Messages", LOCK_STAGE) {
         @Override
         public boolean update(final GraphReadMethods graph) {
+            final boolean[] rebuilt = new boolean[1];
             try {
                 final CountDownLatch latch = new CountDownLatch(1);
 
@@ -362,13 +374,11 @@ public class Conversation {
                     @Override
                     public void run() {
                         ConversationController.getDefault().getConversationBox().setInProgress();
-                        messageProvider.getMessages(graph, allMessages);
-                        totalMessageCount = messageProvider.getTotalMessageCount();
-                        if (totalMessageCount != 0) {
-                            totalPages = (int) Math.ceil((double) totalMessageCount / contentPerPage);
-                        } else {
-                            totalPages = 1;
+                        rebuilt[0] = messageIndex.update(graph, messageProvider, datetimeProvider);
+                        if (!rebuilt[0]) {
+                            ConversationController.getDefault().getConversationBox().setProgressComplete();
                         }
+                        totalMessageCount = messageIndex.getTotalMessageCount();
                         latch.countDown();
                     }
                 };
@@ -381,54 +391,46 @@ public class Conversation {
                 return false;
             }
 
-            return true;
+            return rebuilt[0];
         }
     };
 
     /**
-     * Updates the contribution stage of filtering and formatting for messages.
-     * Needs to update whenever the graph selection changes.
+     * Filters the keys of every message in the message index using values
+     * read from the graph, then resolves the contributions, senders,
+     * backgrounds and colors for the messages on the current page. Other
+     * pages are resolved as they are paged in by
+     * {@link #updateMessages updateMessages}. Needs to update whenever the
+     * messages change, or the values of an attribute in the current list of
+     * senderAttributes changes.
      */
     private UpdateComponent<GraphReadMethods> contributionUpdater = new UpdateComponent<GraphReadMethods>("Contributions", LOCK_STAGE) {
         @Override
         public boolean update(final GraphReadMethods graph) {
             try {
                 final CountDownLatch latch = new CountDownLatch(1);
+                final InterruptedException[] interrupted = new InterruptedException[1];
 
                 final Thread thread = new Thread(CONVERSATION_VIEW_UPDATE_CONTRIBUTIONS_THREAD_NAME) {
                     @Override
                     public void run() {
-                        contributingMessages.clear();
-                        contributingContributionProviders.clear();
-
-                        if (!allMessages.isEmpty()) {
-                            Platform.runLater(() -> {
-                                for (final ConversationMessage message : allMessages) {
-                                    message.getAllContributions().clear();
-
-                                    for (final ConversationContributionProvider contributionProvider : compatibleContributionProviders) {
-                                        final ConversationContribution contribution = contributionProvider.createContribution(graph, message);
-                                        if (contribution != null) {
-                                            contributingContributionProviders.add(contributionProvider);
-                                            message.getAllContributions().add(contribution);
-                                        }
-                                    }
-
-                                    if (!message.getAllContributions().isEmpty()) {
-                                        contributingMessages.add(message);
-                                    }
-                                }
-                                latch.countDown();
-                            });
-                        } else {
+                        filterMessages(graph);
+                        resolvedPageNumber = -1;
+                        try {
+                            resolvePage(graph);
+                        } catch (final InterruptedException ex) {
+                            interrupted[0] = ex;
+                        } finally {
                             latch.countDown();
                         }
-                        
                     }
                 };
                 thread.start();
 
                 latch.await();
+                if (interrupted[0] != null) {
+                    throw interrupted[0];
+                }
             } catch (final InterruptedException ex) {
                 LOGGER.log(Level.SEVERE, "Message contributions update was interrupted");
                 Thread.currentThread().interrupt();
@@ -440,144 +442,162 @@ public class Conversation {
     };
 
     /**
-     * Updates the temporal stage of filtering and formatting for messages. This
-     * includes setting date times that are used to sort messages in this
-     * Conversation. Needs to update whenever the graph selection changes.
+     * Filters every message in the message index without creating it,
+     * keeping the messages that have a text contribution. The contribution
+     * providers that contribute to any message are recorded so that they can
+     * be toggled in the GUI.
+     * <br><br>
+     * Backgrounds and colors depend on the messages that came before, so the
+     * messages that introduce a new sender or a new day are also recorded.
+     * These are formatted along with each page so that its backgrounds and
+     * colors match those of the whole conversation.
+     *
+     * @param graph The graph to read message content from.
      */
-    private UpdateComponent<GraphReadMethods> datetimeUpdater = new UpdateComponent<GraphReadMethods>("Datetime", LOCK_STAGE) {
-        @Override
-        public boolean update(final GraphReadMethods graph) {
-            try {
-                final CountDownLatch latch = new CountDownLatch(1);
+    private void filterMessages(final GraphReadMethods graph) {
+        contributingPositions.clear();
+        contextRanks.clear();
+        contributingContributionProviders.clear();
+        if (graph == null || compatibleContributionProviders == null) {
+            updateTotalPages();
+            return;
+        }
 
-                final Thread thread = new Thread(CONVERSATION_VIEW_UPDATE_DATETIME_THREAD_NAME) {
-                    @Override
-                    public void run() {
-                        temporalMessages.clear();
-                        if (!contributingMessages.isEmpty()) {
-                            datetimeProvider.updateDatetimes(graph, contributingMessages);
-
-                            for (final ConversationMessage message : contributingMessages) {
-                                boolean thereIsTextContribution = false;
-
-                                if (message != null) {
-                                    for (final ConversationContribution cont : message.getAllContributions()) {
-                                        if (cont instanceof TextContribution) {
-                                            thereIsTextContribution = true;
-                                            break;
-                                        }
-                                    }
-
-                                    // We only want to add messages that contain any content in them.
-                                    if (message.getDatetime() != null && thereIsTextContribution) {
-                                        temporalMessages.add(message);
-                                    }
-                                }
-                            }
-                        }
-                        temporalMessages.sort(TEMPORAL_COMPARATOR);
+        final List<ConversationContributionProvider> textProviders = new ArrayList<>();
+        for (final ConversationContributionProvider contributionProvider : compatibleContributionProviders) {
+            if (contributionProvider instanceof TextConversationContributionProvider) {
+                textProviders.add(contributionProvider);
+            }
+            for (int position = 0; position < messageIndex.size(); position++) {
+                if (contributionProvider.hasContribution(graph, messageIndex.getTransaction(position))) {
+                    contributingContributionProviders.add(contributionProvider);
+                    break;
+                }
+            }
+        }
 
-                        latch.countDown();
-                    }
-                };
-                thread.start();
+        final BitSet senders = new BitSet();
+        long currentDay = Long.MIN_VALUE;
+        for (int position = 0; position < messageIndex.size(); position++) {
+            final int transaction = messageIndex.getTransaction(position);
 
-                latch.await();
-            } catch (final InterruptedException ex) {
-                LOGGER.log(Level.SEVERE, "Message datetimes update was interrupted");
-                Thread.currentThread().interrupt();
-                return false;
+            // We only want to add messages that contain any content in them.
+            boolean thereIsTextContribution = false;
+            for (final ConversationContributionProvider textProvider : textProviders) {
+                thereIsTextContribution |= textProvider.hasContribution(graph, transaction);
             }
 
-            return true;
+            if (thereIsTextContribution) {
+                final int sender = messageIndex.getSender(position);
+                final boolean newSender = !senders.get(sender);
+                senders.set(sender);
+                final long day = ZonedDateTime.of(messageIndex.getDatetime(position).getDate().toLocalDateTime(), TimeZoneUtilities.UTC).getLong(ChronoField.EPOCH_DAY);
+                if (newSender || day != currentDay) {
+                    contextRanks.add(contributingPositions.size());
+                }
+                currentDay = day;
+                contributingPositions.add(position);
+            }
         }
-    };
+        updateTotalPages();
+    }
+
+    private void updateTotalPages() {
+        totalPages = Math.max(1, (int) Math.ceil((double) contributingPositions.size() / contentPerPage));
+    }
 
     /**
-     * Updates the sender attribute stage of filtering and formatting for
-     * messages. Needs to update whenever the graph selection changes, or the
-     * values of an attribute in the current list of senderAttributes changes.
+     * Creates and formats the messages on the current page, unless they have
+     * already been resolved.
+     * <br><br>
+     * The contributions and senders are only resolved for the messages on the
+     * page, and a message is dropped if it has no sender. The backgrounds and
+     * colors are resolved for the page along with the earlier messages that
+     * introduce a new sender or day, as these are all that the backgrounds and
+     * colors of the page depend on.
+     *
+     * @param graph The graph to read message content from.
+     * @throws InterruptedException if interrupted while waiting for the
+     * contributions to be created on the JavaFX thread.
      */
-    private UpdateComponent<GraphReadMethods> senderUpdater = new UpdateComponent<GraphReadMethods>("Senders", LOCK_STAGE) {
-        @Override
-        public boolean update(final GraphReadMethods graph) {
-            try {
-                final CountDownLatch latch = new CountDownLatch(1);
+    private void resolvePage(final GraphReadMethods graph) throws InterruptedException {
+        if (resolvedPageNumber == pageNumber && resolvedContentPerPage == contentPerPage) {
+            return;
+        }
 
-                final Thread thread = new Thread(CONVERSATION_VIEW_UPDATE_SENDER_THREAD_NAME) {
-                    @Override
-                    public void run() {
-                        senderMessages.clear();
-                        if (!temporalMessages.isEmpty()) {
-                            senderProvider.updateMessageSenders(graph, temporalMessages, conversationState.getSenderAttributes());
-
-                            for (final ConversationMessage message : temporalMessages) {
-                                if (message.getSenderContent() != null) {
-                                    senderMessages.add(message);
-                                }
-                            }
-                        }
-                        latch.countDown();
-                    }
-                };
-                thread.start();
+        pageMessages.clear();
+        updateTotalPages();
+        final int start = Math.min(pageNumber * contentPerPage, contributingPositions.size());
+        final int end = Math.min(start + contentPerPage, contributingPositions.size());
+        if (start < end) {
+            final List<ConversationMessage> messages = new ArrayList<>(end - start);
+            for (int rank = start; rank < end; rank++) {
+                messages.add(messageIndex.createMessage(contributingPositions.get(rank)));
+            }
 
-                latch.await();
-            } catch (final InterruptedException ex) {
-                LOGGER.log(Level.SEVERE, "Message senders update was interrupted");
-                Thread.currentThread().interrupt();
-                return false;
+            resolveContributions(graph, messages);
+            senderProvider.updateMessageSenders(graph, messages, conversationState.getSenderAttributes());
+            for (final ConversationMessage message : messages) {
+                if (message.getSenderContent() != null) {
+                    pageMessages.add(message);
+                }
             }
 
-            return true;
+            final List<ConversationMessage> formattedMessages = new ArrayList<>();
+            for (int i = 0; i < contextRanks.size() && contextRanks.get(i) < start; i++) {
+                formattedMessages.add(messageIndex.createMessage(contributingPositions.get(contextRanks.get(i))));
+            }
+            formattedMessages.addAll(pageMessages);
+            if (!pageMessages.isEmpty()) {
+                backgroundProvider.updateMessageBackgrounds(graph, formattedMessages);
+                colorProvider.updateMessageColors(graph, formattedMessages);
+            }
         }
-    };
 
-    /**
-     * Updates the background stage of filtering and formatting for messages.
-     * Updates whenever the senderUpdater does.
-     */
-    private UpdateComponent<GraphReadMethods> backgroundUpdater = new UpdateComponent<GraphReadMethods>("Backgrounds", LOCK_STAGE) {
-        @Override
-        public boolean update(final GraphReadMethods graph) {
-            backgroundProvider.updateMessageBackgrounds(graph, senderMessages);
-            return true;
-        }
-    };
+        resolvedPageNumber = pageNumber;
+        resolvedContentPerPage = contentPerPage;
+    }
 
     /**
-     * Updates the color stage of filtering and formatting for messages. Updates
-     * whenever the senderUpdater does.
+     * Creates the contributions for the given messages on the JavaFX thread.
+     *
+     * @param graph The graph to read message content from.
+     * @param messages The messages to create contributions for.
+     * @throws InterruptedException if interrupted while waiting for the
+     * JavaFX thread.
      */
-    private UpdateComponent<GraphReadMethods> colorUpdater = new UpdateComponent<GraphReadMethods>(LOCK_STAGE) {
-        @Override
-        public boolean update(final GraphReadMethods graph) {
-            try {
-                final CountDownLatch latch = new CountDownLatch(1);
-
-                final Thread thread = new Thread(CONVERSATION_VIEW_UPDATE_COLOR_THREAD_NAME) {
-                    @Override
-                    public void run() {
-                        if (!senderMessages.isEmpty()) {
-                            colorProvider.updateMessageColors(graph, senderMessages);
-                        }
-                        latch.countDown();
+    private void resolveContributions(final GraphReadMethods graph, final List<ConversationMessage> messages) throws InterruptedException {
+        final Runnable resolver = () -> {
+            for (final ConversationMessage message : messages) {
+                message.getAllContributions().clear();
+                for (final ConversationContributionProvider contributionProvider : compatibleContributionProviders) {
+                    final ConversationContribution contribution = contributionProvider.createContribution(graph, message);
+                    if (contribution != null) {
+                        message.getAllContributions().add(contribution);
                     }
-                };
-                thread.start();
-                latch.await();
-            } catch (final InterruptedException ex) {
-                LOGGER.log(Level.SEVERE, "Message colors update was interrupted");
-                Thread.currentThread().interrupt();
-                return false;
+                }
             }
-            return true;
+        };
+
+        if (Platform.isFxApplicationThread()) {
+            resolver.run();
+        } else {
+            final CountDownLatch latch = new CountDownLatch(1);
+            Platform.runLater(() -> {
+                try {
+                    resolver.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+            latch.await();
         }
-    };
+    }
 
     /**
-     * Updates the visibility stage of filtering and formatting for messages.
-     * Updates whenever the senderUpdater does.
+     * Updates the visibility stage of filtering and formatting for messages,
+     * selecting the messages on the current page that have visible
+     * contributions. Updates whenever the contributionUpdater does.
      */
     private UpdateComponent<GraphReadMethods> visibilityUpdater = new UpdateComponent<GraphReadMethods>("Visibility", UPDATE_STAGE) {
 
@@ -594,18 +614,11 @@ public class Conversation {
         @Override
         public boolean update(final GraphReadMethods graph) {
             visibleMessages.clear();
-            int count = 0;
-            if (totalMessageCount > 0) {
-                for (final ConversationMessage message : senderMessages) {
-                    message.filterContributions(conversationState.getHiddenContributionProviders());
-                    final int minValue = pageNumber * contentPerPage;
-                    final int maxValue = minValue + contentPerPage;
-                    if (!message.getVisibleContributions().isEmpty() && visibleMessages.size() < contentPerPage && minValue <= count && count < maxValue) {
-                        visibleMessages.add(message);
-                    }
-                    count++;
+            for (final ConversationMessage message : pageMessages) {
+                message.filterContributions(conversationState.getHiddenContributionProviders());
+                if (!message.getVisibleContributions().isEmpty()) {
+                    visibleMessages.add(message);
                 }
-                totalPages = (int) Math.ceil((double) totalMessageCount / contentPerPage);
             }
 
             ConversationController.getDefault().getConversationBox().setProgressComplete();
@@ -615,7 +628,7 @@ public class Conversation {
 
     /**
      * Updates the final list of messages that will be actually displayed by the
-     * GUI. Updates whenever the senderUpdater does.
+     * GUI. Updates whenever the visibilityUpdater does.
      */
     private UpdateComponent<GraphReadMethods> resultUpdater = new UpdateComponent<GraphReadMethods>("Results", JAVAFX_STAGE) {
 
@@ -641,7 +654,7 @@ public class Conversation {
     /**
      * Informs the listener to contributors of both the contributors that are
      * active in messages currently in the conversation so that the listener can
-     * reflect this in the GUI. Update whenever the senderUpdater does.
+     * reflect this in the GUI. Update whenever the visibilityUpdater does.
      */
     private final UpdateComponent<GraphReadMethods> contributorUpdater = new UpdateComponent<GraphReadMethods>("Contributors", JAVAFX_STAGE) {
 
@@ -709,7 +722,58 @@ public class Conversation {
         return Collections.unmodifiableList(visibleMessages);
     }
     
-    protected List<ConversationMessage> getSenderMessages() {
-        return Collections.unmodifiableList(senderMessages);
+    /**
+     * Finds every occurrence of the given text in the visible contributions of
+     * the messages in the conversation. The text is read from the graph rather
+     * than from the contributions, so that messages on every page are
+     * searched without being created.
+     *
+     * @param graph The graph to read message content from.
+     * @param searchText The text to search for.
+     * @return The rank in datetime order of the message holding each
+     * occurrence, in order, where the rank divided by the content per page is
+     * the page of the message.
+     */
+    protected IntArrayList findMatches(final GraphReadMethods graph, final String searchText) {
+        final IntArrayList matches = new IntArrayList();
+        if (graph == null || compatibleContributionProviders == null || StringUtils.isBlank(searchText)) {
+            return matches;
+        }
+
+        final Set<String> hiddenContributionProviders = conversationState.getHiddenContributionProviders();
+        final List<ConversationContributionProvider> visibleContributionProviders = new ArrayList<>();
+        for (final ConversationContributionProvider contributionProvider : compatibleContributionProviders) {
+            if (hiddenContributionProviders == null || !hiddenContributionProviders.contains(contributionProvider.getName())) {
+                visibleContributionProviders.add(contributionProvider);
+            }
+        }
+
+        for (int rank = 0; rank < contributingPositions.size(); rank++) {
+            final int transaction = messageIndex.getTransaction(contributingPositions.get(rank));
+            if (!graph.transactionExists(transaction)) {
+                continue; // The graph has changed since the conversation was last updated.
+            }
+            for (final ConversationContributionProvider contributionProvider : visibleContributionProviders) {
+                final String text = contributionProvider.getContributionText(graph, transaction);
+                if (text != null) {
+                    final int count = StringUtilities.searchRange(text, searchText).size();
+                    for (int i = 0; i < count; i++) {
+                        matches.add(rank);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the transaction of the message with the given rank in datetime
+     * order, as returned by {@link #findMatches findMatches}.
+     *
+     * @param rank The rank of the message.
+     * @return The graph ID of the transaction.
+     */
+    protected int getMessageTransaction(final int rank) {
+        return messageIndex.getTransaction(contributingPositions.get(rank));
     }
 }
@@ -79,8 +79,7 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Callback;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
-import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.openide.util.HelpCtx;
 
 /**
@@ -382,47 +381,66 @@ public final class ConversationBox extends StackPane {
 
     /**
      * Highlights the currently visible regions in the Conversation View based on the text currently present in the
-     * searchTextField.
+     * searchTextField, and counts the matches in every message of the conversation, moving to the page of the current
+     * match if required.
      */
     private void highlightRegions(final boolean needsUpdate) {
-        foundCount = 0;
-
-        final MutableIntObjectMap<ConversationMessage> matches = new IntObjectHashMap<>();
+        final String searchText = searchTextField.getText();
         final List<ConversationMessage> visibleMessages = conversation.getVisibleMessages();
-        final List<ConversationMessage> senderMessages = conversation.getSenderMessages();
 
-        senderMessages.forEach(message -> {
+        visibleMessages.forEach(message -> {
             final List<ConversationContribution> visibleContributions = message.getVisibleContributions();
 
             visibleContributions.forEach(contribution -> {
                 final Region region = contribution.getContent(tipsPane);
 
                 if (region instanceof EnhancedTextArea enhancedTextArea) {
-                    foundCount += enhancedTextArea.highlightText(searchTextField.getText());
-                    matches.put(foundCount, message);
+                    enhancedTextArea.highlightText(searchText);
                 }
 
                 if (region instanceof GridPane gridPane) {
                     gridPane.getChildren().forEach(child -> {
                         if (child instanceof EnhancedTextArea textArea) {
-                            foundCount += textArea.highlightText(searchTextField.getText());
-                            matches.put(foundCount, message);
+                            textArea.highlightText(searchText);
                         }
                     });
                 }
             });
         });
+
+        // Messages on other pages have not been created, so the matches are found from the graph.
+        IntArrayList matches = new IntArrayList();
+        final Graph activeGraph = GraphManager.getDefault().getActiveGraph();
+        if (activeGraph != null && StringUtils.isNotBlank(searchText)) {
+            final ReadableGraph graph = activeGraph.getReadableGraph();
+            try {
+                matches = conversation.findMatches(graph, searchText);
+            } finally {
+                graph.release();
+            }
+        }
+
+        foundCount = matches.size();
         if (foundCount > 0) {
-            if (visibleMessages.contains(matches.get(searchCount))) {
+            if (searchCount >= foundCount) {
+                searchCount = 0;
+            }
+            final int rank = matches.get(searchCount);
+            final int transaction = conversation.getMessageTransaction(rank);
+            final ConversationMessage match = visibleMessages.stream()
+                    .filter(message -> message.getTransaction() == transaction)
+                    .findFirst()
+                    .orElse(null);
+            if (match != null) {
                 // If the current match is on the current page, scroll to the bubble
-                bubbles.scrollTo(matches.get(searchCount));
-            } else if (senderMessages.contains(matches.get(searchCount)) && needsUpdate) {
-                // If the next match is on a future page, swap to that page
-                final int indexOfSearch = senderMessages.indexOf(matches.get(searchCount));
-                final int pageNumber = (int) Math.ceil(indexOfSearch / contentPerPageChoiceBox.getValue());
-
-                pagination.setCurrentPageIndex(pageNumber);
-                bubbles.scrollTo(matches.get(searchCount));
+                bubbles.scrollTo(match);
+            } else if (needsUpdate) {
+                // If the current match is on another page, swap to that page, which scrolls to the bubble once its
+                // messages are shown
+                final int pageNumber = rank / conversation.getContentPerPage();
+                if (pageNumber != pagination.getCurrentPageIndex()) {
+                    pagination.setCurrentPageIndex(pageNumber);
+                }
             }
         }
     }
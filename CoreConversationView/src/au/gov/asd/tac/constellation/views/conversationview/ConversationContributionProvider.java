@@ -106,6 +106,36 @@ public abstract class ConversationContributionProvider implements Comparable<Con
      */
     public abstract ConversationContribution createContribution(final GraphReadMethods graph, final ConversationMessage message);
 
+    /**
+     * Returns whether or not {@link #createContribution createContribution}
+     * would create a contribution for the message of the given transaction.
+     * This allows messages to be filtered without creating their
+     * contributions, so implementations should only read values from the
+     * graph. The default implementation returns true, which suits providers
+     * that create a contribution for every message.
+     *
+     * @param graph The graph that the contribution would be created for.
+     * @param transaction The transaction of the message.
+     * @return True if a contribution would be created, false otherwise.
+     */
+    public boolean hasContribution(final GraphReadMethods graph, final int transaction) {
+        return true;
+    }
+
+    /**
+     * Returns the text that a contribution for the message of the given
+     * transaction would display, so that it can be searched without creating
+     * the contribution. The default implementation returns null, which suits
+     * providers whose contributions have no searchable text.
+     *
+     * @param graph The graph that the contribution would be created for.
+     * @param transaction The transaction of the message.
+     * @return The text of the contribution, or null if there is no text.
+     */
+    public String getContributionText(final GraphReadMethods graph, final int transaction) {
+        return null;
+    }
+
     /**
      * Get a list of all providers by using lookup. This will find all providers
      * that have been registered as service providers of
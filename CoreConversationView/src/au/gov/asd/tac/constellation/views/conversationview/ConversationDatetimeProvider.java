@@ -15,7 +15,9 @@
  */
 package au.gov.asd.tac.constellation.views.conversationview;
 
+import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,4 +29,31 @@ import java.util.List;
 public interface ConversationDatetimeProvider {
 
     public void updateDatetimes(final GraphReadMethods graph, final List<ConversationMessage> messages);
+
+    /**
+     * Gets the datetime of each of the given transactions without needing a
+     * message for each one.
+     * <br><br>
+     * The default implementation creates a message for each transaction and
+     * passes them to {@link #updateDatetimes updateDatetimes}. Providers
+     * should override this when they can read the datetimes directly.
+     *
+     * @param graph the graph to read the datetimes from.
+     * @param transactions the transactions to get the datetimes of.
+     * @return the datetime of each transaction, in the same order as the
+     * transactions, or null for a transaction without a datetime.
+     */
+    public default ConversationDatetime[] getDatetimes(final GraphReadMethods graph, final int[] transactions) {
+        final List<ConversationMessage> messages = new ArrayList<>(transactions.length);
+        for (final int transaction : transactions) {
+            messages.add(new ConversationMessage(transaction, Graph.NOT_FOUND, ConversationSide.LEFT));
+        }
+        updateDatetimes(graph, messages);
+
+        final ConversationDatetime[] datetimes = new ConversationDatetime[transactions.length];
+        for (int i = 0; i < datetimes.length; i++) {
+            datetimes[i] = messages.get(i).getDatetime();
+        }
+        return datetimes;
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.conversationview;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.TemporalConcept;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+
+/**
+ * A ConversationMessageIndex holds a lightweight key for each message for the
+ * current selection on the graph, sorted by datetime. Messages without a
+ * datetime are left out of the index.
+ * <br><br>
+ * The index is built once per selection and is only rebuilt when the
+ * selection, the structure of the graph, or the datetimes of its transactions
+ * change, as indicated by the graph's modification counters. Each key holds
+ * only the transaction, sender, side and datetime of a message, so that a
+ * {@link Conversation} can filter and search the whole conversation from graph
+ * values and create {@link ConversationMessage} objects only for the messages
+ * that are about to be displayed.
+ *
+ * @author sirius
+ */
+public class ConversationMessageIndex {
+
+    private static final Comparator<MessageKey> TEMPORAL_COMPARATOR = (MessageKey o1, MessageKey o2) -> o1.datetime().compareTo(o2.datetime());
+
+    private final List<MessageKey> keys = new ArrayList<>();
+    private int totalMessageCount = 0;
+
+    private String graphId = null;
+    private long[] modificationCounters = null;
+
+    /**
+     * Brings this index up to date with the given graph, rebuilding it only if
+     * the graph has changed in a way that could affect the messages or their
+     * order.
+     *
+     * @param graph The graph to index messages for, or null if there is no
+     * graph.
+     * @param messageProvider The provider that reports the messages for the
+     * current selection.
+     * @param datetimeProvider The provider that gets the datetime of each
+     * message.
+     * @return True if the index was rebuilt, false if it was already up to
+     * date.
+     */
+    public boolean update(final GraphReadMethods graph, final ConversationMessageProvider messageProvider, final ConversationDatetimeProvider datetimeProvider) {
+        final String newGraphId = graph == null ? null : graph.getId();
+        final long[] newModificationCounters = getModificationCounters(graph);
+        if (modificationCounters != null && Objects.equals(graphId, newGraphId) && Arrays.equals(modificationCounters, newModificationCounters)) {
+            return false;
+        }
+
+        keys.clear();
+        final IntArrayList transactions = new IntArrayList();
+        final IntArrayList senders = new IntArrayList();
+        final List<ConversationSide> conversationSides = new ArrayList<>();
+        messageProvider.getMessageKeys(graph, (transaction, sender, conversationSide) -> {
+            transactions.add(transaction);
+            senders.add(sender);
+            conversationSides.add(conversationSide);
+        });
+        totalMessageCount = messageProvider.getTotalMessageCount();
+        if (!transactions.isEmpty()) {
+            final ConversationDatetime[] datetimes = datetimeProvider.getDatetimes(graph, transactions.toArray());
+            for (int i = 0; i < datetimes.length; i++) {
+                if (datetimes[i] != null) {
+                    keys.add(new MessageKey(transactions.get(i), senders.get(i), conversationSides.get(i), datetimes[i]));
+                }
+            }
+
+            // List.sort is stable, so messages with the same datetime stay in the order they were provided.
+            keys.sort(TEMPORAL_COMPARATOR);
+        }
+
+        graphId = newGraphId;
+        modificationCounters = newModificationCounters;
+        return true;
+    }
+
+    private static long[] getModificationCounters(final GraphReadMethods graph) {
+        if (graph == null) {
+            return new long[0];
+        }
+
+        final int vertexSelectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
+        final int transactionSelectedAttribute = VisualConcept.TransactionAttribute.SELECTED.get(graph);
+        final int datetimeAttribute = TemporalConcept.TransactionAttribute.DATETIME.get(graph);
+        return new long[]{
+            graph.getStructureModificationCounter(),
+            graph.getAttributeModificationCounter(),
+            vertexSelectedAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(vertexSelectedAttribute),
+            transactionSelectedAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(transactionSelectedAttribute),
+            datetimeAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(datetimeAttribute)
+        };
+    }
+
+    /**
+     * Returns the number of messages in this index.
+     *
+     * @return The number of messages in this index.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Returns the transaction of the message at the given position in
+     * datetime order.
+     *
+     * @param position The position of the message.
+     * @return The graph ID of the transaction.
+     */
+    public int getTransaction(final int position) {
+        return keys.get(position).transaction();
+    }
+
+    /**
+     * Returns the sender of the message at the given position in datetime
+     * order.
+     *
+     * @param position The position of the message.
+     * @return The graph ID of the sender.
+     */
+    public int getSender(final int position) {
+        return keys.get(position).sender();
+    }
+
+    /**
+     * Returns the datetime of the message at the given position in datetime
+     * order.
+     *
+     * @param position The position of the message.
+     * @return The datetime of the message.
+     */
+    public ConversationDatetime getDatetime(final int position) {
+        return keys.get(position).datetime();
+    }
+
+    /**
+     * Creates a new message, with its datetime set, for the key at the given
+     * position in datetime order.
+     *
+     * @param position The position of the message.
+     * @return A new message for the given position.
+     */
+    public ConversationMessage createMessage(final int position) {
+        final MessageKey key = keys.get(position);
+        final ConversationMessage message = new ConversationMessage(key.transaction(), key.sender(), key.conversationSide());
+        message.setDatetime(key.datetime());
+        return message;
+    }
+
+    /**
+     * Returns the total number of messages reported by the message provider
+     * when this index was last built, including any messages that were left
+     * out of the index.
+     *
+     * @return The total number of messages.
+     */
+    public int getTotalMessageCount() {
+        return totalMessageCount;
+    }
+
+    private record MessageKey(int transaction, int sender, ConversationSide conversationSide, ConversationDatetime datetime) {
+    }
+}
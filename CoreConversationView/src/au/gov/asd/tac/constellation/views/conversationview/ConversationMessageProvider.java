@@ -16,6 +16,7 @@
 package au.gov.asd.tac.constellation.views.conversationview;
 
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,7 +34,35 @@ public interface ConversationMessageProvider {
      * @param messages the list of messages to populate.
      */
     public void getMessages(final GraphReadMethods graph, final List<ConversationMessage> messages);
-    
+
+    /**
+     * Reports the transaction, sender and side of each message for the
+     * provided graph, in the same order as {@link #getMessages getMessages},
+     * without creating the messages themselves.
+     * <br><br>
+     * The default implementation creates the messages and reports each one.
+     * Providers should override this when they can avoid creating a message
+     * for every transaction.
+     *
+     * @param graph the provided graph.
+     * @param consumer the consumer to report each message to.
+     */
+    public default void getMessageKeys(final GraphReadMethods graph, final MessageKeyConsumer consumer) {
+        final List<ConversationMessage> messages = new ArrayList<>();
+        getMessages(graph, messages);
+        for (final ConversationMessage message : messages) {
+            consumer.accept(message.getTransaction(), message.getSender(), message.getConversationSide());
+        }
+    }
+
     public int getTotalMessageCount();
-    
+
+    /**
+     * Receives the transaction, sender and side of a message.
+     */
+    @FunctionalInterface
+    public interface MessageKeyConsumer {
+
+        public void accept(final int transaction, final int sender, final ConversationSide conversationSide);
+    }
 }
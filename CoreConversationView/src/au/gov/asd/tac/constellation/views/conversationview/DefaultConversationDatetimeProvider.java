@@ -41,21 +41,31 @@ public class DefaultConversationDatetimeProvider implements ConversationDatetime
             return; // No messages means nothing to do.
         }
         final int datetimeAttribute = TemporalConcept.TransactionAttribute.DATETIME.get(graph);
-        if (datetimeAttribute == Graph.NOT_FOUND) {
-            for (ConversationMessage message : messages) {
-                message.setDatetime(null);
-            }
-        } else {
-            for (final ConversationMessage message : messages) {
-                final ZonedDateTime dateTime = (ZonedDateTime) graph.getObjectValue(datetimeAttribute, message.getTransaction());
-                if (dateTime == null) {
-                    message.setDatetime(null);
-                } else {
-                    message.setDatetime(new DefaultConversationDatetime(dateTime, TemporalFormatting.ZONED_DATE_TIME_FORMATTER));
-                }
-            }
+        for (final ConversationMessage message : messages) {
+            message.setDatetime(getDatetime(graph, datetimeAttribute, message.getTransaction()));
         }
+    }
 
+    @Override
+    public ConversationDatetime[] getDatetimes(final GraphReadMethods graph, final int[] transactions) {
+        assert !SwingUtilities.isEventDispatchThread();
+        final ConversationDatetime[] datetimes = new ConversationDatetime[transactions.length];
+        if (transactions.length == 0) {
+            return datetimes; // No transactions means nothing to do.
+        }
+        final int datetimeAttribute = TemporalConcept.TransactionAttribute.DATETIME.get(graph);
+        for (int i = 0; i < transactions.length; i++) {
+            datetimes[i] = getDatetime(graph, datetimeAttribute, transactions[i]);
+        }
+        return datetimes;
+    }
+
+    private static ConversationDatetime getDatetime(final GraphReadMethods graph, final int datetimeAttribute, final int transaction) {
+        if (datetimeAttribute == Graph.NOT_FOUND) {
+            return null;
+        }
+        final ZonedDateTime dateTime = (ZonedDateTime) graph.getObjectValue(datetimeAttribute, transaction);
+        return dateTime == null ? null : new DefaultConversationDatetime(dateTime, TemporalFormatting.ZONED_DATE_TIME_FORMATTER);
     }
 
     private static class DefaultConversationDatetime implements ConversationDatetime {
@@ -37,8 +37,13 @@ public class DefaultConversationMessageProvider implements ConversationMessagePr
 
     @Override
     public void getMessages(final GraphReadMethods graph, final List<ConversationMessage> messages) {
-        assert !SwingUtilities.isEventDispatchThread();
         messages.clear();
+        getMessageKeys(graph, (transaction, sender, conversationSide) -> messages.add(new ConversationMessage(transaction, sender, conversationSide)));
+    }
+
+    @Override
+    public void getMessageKeys(final GraphReadMethods graph, final MessageKeyConsumer consumer) {
+        assert !SwingUtilities.isEventDispatchThread();
         if (graph == null) {
             return; // Null graph means no messages.
         }
@@ -57,10 +62,8 @@ public class DefaultConversationMessageProvider implements ConversationMessagePr
                         if (graph.getTransactionDirection(transaction) != Graph.UNDIRECTED) {
                             final int sender = graph.getTransactionSourceVertex(transaction);
                             final ConversationSide conversationSide = sender == vertex ? ConversationSide.LEFT : ConversationSide.RIGHT;
-                            final ConversationMessage message = new ConversationMessage(transaction, sender, conversationSide);
-                            
                             totalMessageCount++;
-                            messages.add(message);
+                            consumer.accept(transaction, sender, conversationSide);
                         }
                     }
                     return;
@@ -110,8 +113,7 @@ public class DefaultConversationMessageProvider implements ConversationMessagePr
                 if (graph.getTransactionDirection(transaction) != Graph.UNDIRECTED) {
                     final int sender = graph.getTransactionSourceVertex(transaction);
                     final ConversationSide conversationSide = sender == leftSender ? ConversationSide.LEFT : ConversationSide.RIGHT;
-                    final ConversationMessage message = new ConversationMessage(transaction, sender, conversationSide);
-                    messages.add(message);
+                    consumer.accept(transaction, sender, conversationSide);
                 }
             }
         }
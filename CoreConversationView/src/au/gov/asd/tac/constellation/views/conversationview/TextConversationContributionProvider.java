@@ -57,6 +57,16 @@ public class TextConversationContributionProvider extends ConversationContributi
         return null;
     }
 
+    @Override
+    public boolean hasContribution(final GraphReadMethods graph, final int transaction) {
+        return graph.getStringValue(contentAttribute, transaction) != null;
+    }
+
+    @Override
+    public String getContributionText(final GraphReadMethods graph, final int transaction) {
+        return graph.getStringValue(contentAttribute, transaction);
+    }
+
     protected class TextContribution extends ConversationContribution {
 
         private final String text;
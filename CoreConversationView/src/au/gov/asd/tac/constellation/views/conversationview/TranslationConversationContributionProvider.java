@@ -71,6 +71,13 @@ public class TranslationConversationContributionProvider extends ConversationCon
         return new TranslationContribution(graph.getId(), message, text);
     }
 
+    @Override
+    public String getContributionText(final GraphReadMethods graph, final int transaction) {
+        // Blank translations are shown as a button rather than as text.
+        final String text = graph.getStringValue(contentAttribute, transaction);
+        return StringUtils.isBlank(text) ? null : text;
+    }
+
     private class TranslationContribution extends ConversationContribution {
 
         private final String graphId;
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.conversationview;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
+import au.gov.asd.tac.constellation.graph.schema.analytic.AnalyticSchemaFactory;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.TemporalConcept;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for ConversationMessageIndex
+ *
+ * @author sirius
+ */
+public class ConversationMessageIndexNGTest {
+
+    private Graph graph;
+
+    private int tnId1;
+    private int tnId2;
+    private int tnId3;
+    private int tnId4;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        graph = new DualGraph(SchemaFactoryUtilities.getSchemaFactory(AnalyticSchemaFactory.ANALYTIC_SCHEMA_ID).createSchema());
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int vertexSelectedAttribute = VisualConcept.VertexAttribute.SELECTED.ensure(wg);
+            final int datetimeAttribute = TemporalConcept.TransactionAttribute.DATETIME.ensure(wg);
+
+            final int vxId1 = wg.addVertex();
+            final int vxId2 = wg.addVertex();
+            tnId1 = wg.addTransaction(vxId1, vxId2, true);
+            tnId2 = wg.addTransaction(vxId2, vxId1, true);
+            tnId3 = wg.addTransaction(vxId1, vxId2, true);
+            tnId4 = wg.addTransaction(vxId2, vxId1, true);
+
+            // messages out of datetime order, with two sharing a datetime and one without a datetime
+            wg.setStringValue(datetimeAttribute, tnId1, "2000-01-03 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttribute, tnId2, "2000-01-01 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttribute, tnId3, "2000-01-03 00:00:00.000 +00:00 [UTC]");
+
+            wg.setBooleanValue(vertexSelectedAttribute, vxId1, true);
+        } finally {
+            wg.commit();
+        }
+    }
+
+    /**
+     * Test of update method, of class ConversationMessageIndex.
+     */
+    @Test
+    public void testUpdate() {
+        System.out.println("update");
+
+        final ConversationMessageIndex instance = new ConversationMessageIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertTrue(instance.update(rg, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider()));
+        }
+
+        assertEquals(instance.getTotalMessageCount(), 4);
+        assertEquals(instance.size(), 3);
+        assertEquals(instance.getTransaction(0), tnId2);
+        // messages with the same datetime stay in the order they were provided
+        assertEquals(instance.getTransaction(1), tnId1);
+        assertEquals(instance.getTransaction(2), tnId3);
+
+        final ConversationMessage message = instance.createMessage(1);
+        assertEquals(message.getTransaction(), tnId1);
+        assertEquals(message.getSender(), instance.getSender(1));
+        assertEquals(message.getConversationSide(), ConversationSide.LEFT);
+        assertSame(message.getDatetime(), instance.getDatetime(1));
+    }
+
+    /**
+     * Test of update method, of class ConversationMessageIndex, when the graph
+     * has or hasn't changed.
+     */
+    @Test
+    public void testUpdateUnchanged() throws Exception {
+        System.out.println("updateUnchanged");
+
+        final ConversationMessageIndex instance = new ConversationMessageIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider());
+            assertFalse(instance.update(rg, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider()));
+        }
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            wg.setStringValue(TemporalConcept.TransactionAttribute.DATETIME.get(wg), tnId4, "2000-01-02 00:00:00.000 +00:00 [UTC]");
+        } finally {
+            wg.commit();
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertTrue(instance.update(rg, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider()));
+        }
+        assertEquals(instance.size(), 4);
+        assertEquals(instance.getTransaction(1), tnId4);
+    }
+
+    /**
+     * Test of update method, of class ConversationMessageIndex, with no graph.
+     */
+    @Test
+    public void testUpdateNullGraph() {
+        System.out.println("updateNullGraph");
+
+        final ConversationMessageIndex instance = new ConversationMessageIndex();
+        assertTrue(instance.update(null, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider()));
+        assertFalse(instance.update(null, new DefaultConversationMessageProvider(), new DefaultConversationDatetimeProvider()));
+        assertEquals(instance.size(), 0);
+    }
+}
@@ -122,4 +122,28 @@ public class DefaultConversationMessageProviderNGTest {
         final int result = instance.getTotalMessageCount();
         assertEquals(result, expResult);
     }
+
+    /**
+     * Test of getMessageKeys method, of class DefaultConversationMessageProvider.
+     */
+    @Test
+    public void testGetMessageKeys() {
+        System.out.println("getMessageKeys");
+
+        final DefaultConversationMessageProvider instance = new DefaultConversationMessageProvider();
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            final List<ConversationMessage> messages = new ArrayList<>();
+            instance.getMessages(rg, messages);
+
+            final List<String> expResult = new ArrayList<>();
+            for (final ConversationMessage message : messages) {
+                expResult.add(message.getTransaction() + "," + message.getSender() + "," + message.getConversationSide());
+            }
+            final List<String> result = new ArrayList<>();
+            instance.getMessageKeys(rg, (transaction, sender, conversationSide) -> result.add(transaction + "," + sender + "," + conversationSide));
+            assertEquals(expResult, result);
+        }
+        assertEquals(instance.getTotalMessageCount(), 2);
+    }
 }
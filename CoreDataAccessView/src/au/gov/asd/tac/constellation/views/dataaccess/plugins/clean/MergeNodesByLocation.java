@@ -16,7 +16,6 @@
 package au.gov.asd.tac.constellation.views.dataaccess.plugins.clean;
 
 import au.gov.asd.tac.constellation.graph.Graph;
-import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.schema.analytic.concept.AnalyticConcept;
 import au.gov.asd.tac.constellation.graph.schema.analytic.concept.SpatialConcept;
@@ -31,19 +30,30 @@ import static au.gov.asd.tac.constellation.views.dataaccess.plugins.clean.MergeN
 import static au.gov.asd.tac.constellation.views.dataaccess.plugins.clean.MergeNodesPlugin.MERGE_TYPE_PARAMETER_ID;
 import static au.gov.asd.tac.constellation.views.dataaccess.plugins.clean.MergeNodesPlugin.SELECTED_PARAMETER_ID;
 import static au.gov.asd.tac.constellation.views.dataaccess.plugins.clean.MergeNodesPlugin.THRESHOLD_PARAMETER_ID;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.openide.util.lookup.ServiceProvider;
 
 /**
  * Merge nodes by location
+ * <p>
+ * Vertices are clustered when they are linked by a chain of locations which
+ * are each within the threshold distance of the next. Rather than measuring
+ * the distance between every pair of vertices, each location is placed in a
+ * grid of cells at least as wide as the threshold so that only locations in
+ * neighbouring cells need to be compared, and the clusters are tracked with a
+ * union-find structure which the comparisons update in parallel.
  *
  * @author cygnus_x-1
  */
@@ -52,6 +62,14 @@ public class MergeNodesByLocation implements MergeNodeType {
 
     private static final String MERGE_TYPE_NAME = "Geospatial Distance";
 
+    // the smallest width of a grid cell, which keeps the cell coordinates within 21 bits each
+    private static final double MINIMUM_CELL_SIZE = 1E-6;
+    // widens the grid cells slightly so that rounding can never hide a pair of locations within the threshold
+    private static final double CELL_PADDING = 1E-6;
+    private static final int CELL_BITS = 21;
+    private static final int PARALLEL_THRESHOLD = 10000;
+    private static final int TASKS_PER_WORKER = 8;
+
     @Override
     public String getName() {
         return MERGE_TYPE_NAME;
@@ -70,12 +88,13 @@ public class MergeNodesByLocation implements MergeNodeType {
 
     @Override
     public final Map<Integer, Set<Integer>> getNodesToMerge(final GraphWriteMethods graph, final Comparator<String> leadVertexChooser, final int threshold, final boolean selectedOnly) throws MergeException {
-        final Map<Integer, Set<Integer>> nodesToMerge = new HashMap<>();
+        final Map<Integer, Set<Integer>> nodesToMerge = new LinkedHashMap<>();
 
         final int identifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.get(graph);
         final int typeAttribute = AnalyticConcept.VertexAttribute.TYPE.get(graph);
         final int latitudeAttribute = SpatialConcept.VertexAttribute.LATITUDE.get(graph);
         final int longitudeAttribute = SpatialConcept.VertexAttribute.LONGITUDE.get(graph);
+        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
         int shapeAttribute = SpatialConcept.VertexAttribute.SHAPE.get(graph);
 
         // check if the attributes are defined
@@ -83,38 +102,48 @@ public class MergeNodesByLocation implements MergeNodeType {
             return nodesToMerge;
         }
 
-        // map the distances between every pair of vertices with valid locations
-        final Map<Integer, Map<Integer, Double>> distanceMap = calculateDistances(graph, null, selectedOnly);
-
-        // assign vertices to clusters based on their distance to other vertices
-        final Map<Integer, Set<Integer>> clusters = assignClusters(distanceMap, threshold);
-
-        // calculate the centroid of each cluster
-        final Map<Integer, Tuple<Float, Float>> centroids = calculateCentroids(graph, clusters);
-
-        // merge clusters if their centroids are within the threshold
-        final Map<Integer, Set<Integer>> mergedClusters = mergeClusters(clusters, centroids, threshold);
+        // collect the vertices with valid locations
+        final int vertexCount = graph.getVertexCount();
+        final int[] vertices = new int[vertexCount];
+        final float[] latitudes = new float[vertexCount];
+        final float[] longitudes = new float[vertexCount];
+        int locatedCount = 0;
+        for (int position = 0; position < vertexCount; position++) {
+            final int vertexId = graph.getVertex(position);
+            final Float latitude = graph.getObjectValue(latitudeAttribute, vertexId);
+            final Float longitude = graph.getObjectValue(longitudeAttribute, vertexId);
+            if (latitude != null && longitude != null && (!selectedOnly || graph.getBooleanValue(selectedAttribute, vertexId))) {
+                vertices[locatedCount] = vertexId;
+                latitudes[locatedCount] = latitude;
+                longitudes[locatedCount] = longitude;
+                locatedCount++;
+            }
+        }
 
-        // calculate the centroid of each merged cluster
-        final Map<Integer, Tuple<Float, Float>> mergedCentroids = calculateCentroids(graph, mergedClusters);
+        // assign vertices to clusters of locations within the threshold of each other
+        final double thresholdKilometers = threshold / 1000.0;
+        final List<int[]> clusters = mergeClusters(groupLocations(latitudes, longitudes, locatedCount, thresholdKilometers),
+                latitudes, longitudes, thresholdKilometers);
 
         // add vertices to the graph representing the clusters and assign their children to be merged
-        for (final Map.Entry<Integer, Set<Integer>> entry : mergedClusters.entrySet()) {
-            final String clusterId = String.format("Geospatial Cluster #%d", entry.getKey());
-            final Set<Integer> cluster = entry.getValue();
+        int clusterIndex = 0;
+        for (final int[] cluster : clusters) {
+            if (cluster.length > 1) {
+                final String clusterId = String.format("Geospatial Cluster #%d", ++clusterIndex);
+                final Tuple<Float, Float> centroid = calculateCentroid(cluster, latitudes, longitudes);
 
-            if (cluster.size() > 1) {
                 final int clusterNode = graph.addVertex();
                 graph.setStringValue(identifierAttribute, clusterNode, clusterId);
                 graph.setObjectValue(typeAttribute, clusterNode, AnalyticConcept.VertexType.LOCATION);
-                graph.setFloatValue(latitudeAttribute, clusterNode, mergedCentroids.get(entry.getKey()).getFirst());
-                graph.setFloatValue(longitudeAttribute, clusterNode, mergedCentroids.get(entry.getKey()).getSecond());
-
-                final List<Tuple<Double, Double>> clusterCoordinates = cluster.stream()
-                        .map(vertexId -> Tuple.create(
-                        (double) graph.getFloatValue(longitudeAttribute, vertexId),
-                        (double) graph.getFloatValue(latitudeAttribute, vertexId)))
-                        .collect(Collectors.toList());
+                graph.setFloatValue(latitudeAttribute, clusterNode, centroid.getFirst());
+                graph.setFloatValue(longitudeAttribute, clusterNode, centroid.getSecond());
+
+                final Set<Integer> clusterVertices = new HashSet<>();
+                final List<Tuple<Double, Double>> clusterCoordinates = new ArrayList<>(cluster.length);
+                for (final int member : cluster) {
+                    clusterVertices.add(vertices[member]);
+                    clusterCoordinates.add(Tuple.create((double) longitudes[member], (double) latitudes[member]));
+                }
                 try {
                     if (shapeAttribute == Graph.NOT_FOUND) {
                         shapeAttribute = SpatialConcept.VertexAttribute.SHAPE.ensure(graph);
@@ -124,184 +153,347 @@ public class MergeNodesByLocation implements MergeNodeType {
                     throw new MergeException("Error creating shape for location cluster.", ex);
                 }
 
-                nodesToMerge.put(clusterNode, cluster);
+                nodesToMerge.put(clusterNode, clusterVertices);
             }
         }
 
         return nodesToMerge;
     }
 
-    private Map<Integer, Map<Integer, Double>> calculateDistances(final GraphReadMethods graph, final Set<Integer> vertices, final boolean selectedOnly) {
-        final Map<Integer, Map<Integer, Double>> distances = new HashMap<>();
+    private static Tuple<Float, Float> calculateCentroid(final int[] cluster, final float[] latitudes, final float[] longitudes) {
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        for (final int member : cluster) {
+            latitudeSum += latitudes[member];
+            longitudeSum += longitudes[member];
+        }
+        return Tuple.create((float) (latitudeSum / cluster.length), (float) (longitudeSum / cluster.length));
+    }
 
-        final int latitudeAttribute = SpatialConcept.VertexAttribute.LATITUDE.get(graph);
-        final int longitudeAttribute = SpatialConcept.VertexAttribute.LONGITUDE.get(graph);
-        final int selectedAttribute = VisualConcept.VertexAttribute.SELECTED.get(graph);
+    /**
+     * Repeatedly merge clusters whose centroids are within the threshold of
+     * each other until no more clusters merge.
+     */
+    private static List<int[]> mergeClusters(final List<int[]> clusters, final float[] latitudes, final float[] longitudes, final double threshold) {
+        List<int[]> mergedClusters = clusters;
+        while (mergedClusters.size() > 1) {
+            final int clusterCount = mergedClusters.size();
+            final float[] centroidLatitudes = new float[clusterCount];
+            final float[] centroidLongitudes = new float[clusterCount];
+            for (int i = 0; i < clusterCount; i++) {
+                final Tuple<Float, Float> centroid = calculateCentroid(mergedClusters.get(i), latitudes, longitudes);
+                centroidLatitudes[i] = centroid.getFirst();
+                centroidLongitudes[i] = centroid.getSecond();
+            }
 
-        //if no vertices were provided, get all vertices from the graph
-        final Set<Integer> vertexIds;
-        if (vertices == null) {
-            vertexIds = new HashSet<>();
-            final int vertexCount = graph.getVertexCount();
-            for (int vertexOnePosition = 0; vertexOnePosition < vertexCount; vertexOnePosition++) {
-                final int vertexId = graph.getVertex(vertexOnePosition);
-                vertexIds.add(vertexId);
+            final List<int[]> centroidGroups = groupLocations(centroidLatitudes, centroidLongitudes, clusterCount, threshold);
+            if (centroidGroups.size() == clusterCount) {
+                break;
             }
-        } else {
-            vertexIds = new HashSet<>(vertices);
-        }
 
-        // for each vertex one...
-        for (int vertexOneId : vertexIds) {
-            final Float vertexOneLatitude = graph.getObjectValue(latitudeAttribute, vertexOneId);
-            final Float vertexOneLongitude = graph.getObjectValue(longitudeAttribute, vertexOneId);
-            final boolean vertexOneSelected = graph.getBooleanValue(selectedAttribute, vertexOneId);
-            // ...if vertex one has a location...
-            if (vertexOneLatitude != null && vertexOneLongitude != null && (!selectedOnly || vertexOneSelected)) {
-                Map<Integer, Double> vertexOneDistances = distances.get(vertexOneId);
-                if (vertexOneDistances == null) {
-                    vertexOneDistances = new HashMap<>();
-                    distances.put(vertexOneId, vertexOneDistances);
+            final List<int[]> previousClusters = mergedClusters;
+            mergedClusters = new ArrayList<>(centroidGroups.size());
+            for (final int[] group : centroidGroups) {
+                int size = 0;
+                for (final int clusterIndex : group) {
+                    size += previousClusters.get(clusterIndex).length;
                 }
-                // ...for each vertex two...
-                for (int vertexTwoId : vertexIds) {
-                    if (vertexTwoId == vertexOneId) {
-                        continue;
-                    }
-                    final Float vertexTwoLatitude = graph.getObjectValue(latitudeAttribute, vertexTwoId);
-                    final Float vertexTwoLongitude = graph.getObjectValue(longitudeAttribute, vertexTwoId);
-                    final boolean vertexTwoSelected = graph.getBooleanValue(selectedAttribute, vertexTwoId);
-                    // ...if vertex two has a location...
-                    if (vertexTwoLatitude != null && vertexTwoLongitude != null && (!selectedOnly || vertexTwoSelected)) {
-                        // ...calculate the distance between vertex one and vertex two and store it in the distances map
-                        final double distance = Distance.Haversine.estimateDistanceInKilometers(vertexOneLatitude, vertexOneLongitude, vertexTwoLatitude, vertexTwoLongitude);
-                        vertexOneDistances.put(vertexTwoId, distance);
-                    }
+                final int[] mergedCluster = new int[size];
+                int offset = 0;
+                for (final int clusterIndex : group) {
+                    final int[] cluster = previousClusters.get(clusterIndex);
+                    System.arraycopy(cluster, 0, mergedCluster, offset, cluster.length);
+                    offset += cluster.length;
                 }
+                Arrays.sort(mergedCluster);
+                mergedClusters.add(mergedCluster);
             }
         }
-
-        return distances;
+        return mergedClusters;
     }
 
-    private Map<Integer, Set<Integer>> assignClusters(final Map<Integer, Map<Integer, Double>> distanceMap, final int threshold) {
-        final Map<Integer, Set<Integer>> clusters = new HashMap<>();
+    /**
+     * Group locations that are linked by a chain of locations each within the
+     * threshold distance of the next.
+     * <p>
+     * Each location is converted to a point on the unit sphere, where the
+     * straight line distance between two points grows with the haversine
+     * distance between their locations, and placed in a grid of cells half as
+     * wide as the straight line distance of the threshold. Any two locations
+     * within the threshold are then at most two cells apart on each axis, and
+     * any two locations in the same cell are always within the threshold, so
+     * a pair of cells only needs to be measured until one pair of their
+     * locations is found within the threshold.
+     *
+     * @param latitudes the latitudes of the locations.
+     * @param longitudes the longitudes of the locations.
+     * @param count the number of locations.
+     * @param threshold the threshold distance in kilometers.
+     * @return the groups of location indices, each sorted and ordered by
+     * their smallest index.
+     */
+    static List<int[]> groupLocations(final float[] latitudes, final float[] longitudes, final int count, final double threshold) {
+        final LocationGrid grid = new LocationGrid(latitudes, longitudes, count, threshold);
+
+        // small grids are linked in a single task rather than split across the pool
+        final ForkJoinPool pool = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool();
+        final int cellCount = grid.getCellCount();
+        final int splitThreshold = count < PARALLEL_THRESHOLD ? cellCount : Math.max(1, cellCount / (pool.getParallelism() * TASKS_PER_WORKER));
+        pool.invoke(new LinkTask(grid, 0, cellCount, splitThreshold));
+
+        // the root of each set is its smallest location so each group is created before any of its other locations are seen
+        final DisjointSets sets = grid.sets;
+        final int[] groupSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            groupSizes[sets.find(i)]++;
+        }
+        final List<int[]> groups = new ArrayList<>();
+        final int[] groupIndices = new int[count];
+        final int[] groupOffsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            final int root = sets.find(i);
+            if (root == i) {
+                groupIndices[i] = groups.size();
+                groups.add(new int[groupSizes[i]]);
+            }
+            groups.get(groupIndices[root])[groupOffsets[root]++] = i;
+        }
+        return groups;
+    }
 
-        // for each vertex one with a location...
-        int clusterIndex = 0;
-        final Set<Integer> distanceKeys = new HashSet<>(distanceMap.keySet());
-        for (Integer vertexOneId : distanceKeys) {
-            // ...copy the map of distances between vertex one and all vertex two's...
-            if (distanceMap.containsKey(vertexOneId)) {
-                final Map<Integer, Double> vertexOneToVertexTwoDistances = new HashMap<>(distanceMap.get(vertexOneId));
-                if (vertexOneToVertexTwoDistances.size() > 0) {
-                    // ...then for each vertex two...
-                    final Set<Integer> cluster = new HashSet<>();
-                    cluster.add(vertexOneId);
-                    for (final Map.Entry<Integer, Double> entry : vertexOneToVertexTwoDistances.entrySet()) {
-                        final double vertexOneToVertexTwoDistance = entry.getValue();
-                        // ...if vertex two's distance to vertex one meets the threshold requirement...
-                        // ...check that vertex two doesn't have a closer vertex than vertex one...
-                        if (vertexOneToVertexTwoDistance <= (threshold / 1000) && distanceMap.containsKey(entry.getKey())) {
-                            boolean vertexTwoHasCloserVertex = false;
-                            final Map<Integer, Double> vertexTwoToOtherDistances = new HashMap<>(distanceMap.get(entry.getKey()));
-                            if (vertexTwoToOtherDistances.size() > 0) {
-                                for (final Map.Entry<Integer, Double> innerEntry : vertexTwoToOtherDistances.entrySet()) {
-                                    final double vertexTwoToOtherDistance = innerEntry.getValue();
-                                    if (vertexTwoToOtherDistance < vertexOneToVertexTwoDistance) {
-                                        vertexTwoHasCloserVertex = true;
-                                        break;
-                                    }
-                                }
-                                if (vertexTwoHasCloserVertex) {
-                                    // ...if it does, then remove vertex one from vertex two's distance map as it should merge into another local group
-                                    distanceMap.get(vertexOneId).remove(entry.getKey());
-                                    distanceMap.get(entry.getKey()).remove(vertexOneId);
-                                } else {
-                                    // ...if it does not, then remove vertex two's distances map altogether and register vertex two to the current local group
-                                    distanceMap.remove(entry.getKey());
-                                    cluster.add(entry.getKey());
-                                }
-                            }
-                        }
-                    }
+    /**
+     * The locations being grouped, laid out by the grid cell they fall in.
+     * <p>
+     * Cells are sorted by their x, y and z coordinates so that the
+     * neighbouring cells that follow a cell in each row of the grid can be
+     * found by walking forward through the cells rather than by a lookup.
+     */
+    private static final class LocationGrid {
+
+        private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+
+        // the rows of neighbouring cells that follow a cell, so that each pair of cells is only visited once
+        private static final int[][] ROW_OFFSETS = {
+            {0, 0}, {0, 1}, {0, 2},
+            {1, -2}, {1, -1}, {1, 0}, {1, 1}, {1, 2},
+            {2, -2}, {2, -1}, {2, 0}, {2, 1}, {2, 2}
+        };
+
+        private final float[] latitudes;
+        private final float[] longitudes;
+        private final double threshold;
+        private final boolean cellsWithinThreshold;
+        private final DisjointSets sets;
+
+        // the sorted keys of the occupied cells and the locations of each cell, stored contiguously in increasing order
+        private final long[] cellKeys;
+        private final int[] cellStarts;
+        private final int[] cellLocations;
+
+        private LocationGrid(final float[] latitudes, final float[] longitudes, final int count, final double threshold) {
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.threshold = threshold;
+            this.sets = new DisjointSets(count);
+
+            final double angle = Math.min(Math.PI, Distance.degreesToRadians(Distance.Haversine.kilometersToDecimalDegrees(Math.max(0, threshold))));
+            final double halfChord = Math.sin(angle / 2) * (1 + CELL_PADDING);
+            cellsWithinThreshold = halfChord >= MINIMUM_CELL_SIZE;
+            final double cellSize = Math.max(MINIMUM_CELL_SIZE, halfChord);
+
+            final long[] locationKeys = new long[count];
+            for (int i = 0; i < count; i++) {
+                final double latitude = Distance.degreesToRadians(latitudes[i]);
+                final double longitude = Distance.degreesToRadians(longitudes[i]);
+                locationKeys[i] = getCellKey(
+                        (int) ((Math.cos(latitude) * Math.cos(longitude) + 1) / cellSize),
+                        (int) ((Math.cos(latitude) * Math.sin(longitude) + 1) / cellSize),
+                        (int) ((Math.sin(latitude) + 1) / cellSize));
+            }
 
-                    // ...and store the calculated cluster in the cluster map
-                    clusters.put(++clusterIndex, cluster);
+            final long[] sortedKeys = locationKeys.clone();
+            Arrays.sort(sortedKeys);
+            int cellCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || sortedKeys[i] != sortedKeys[i - 1]) {
+                    sortedKeys[cellCount++] = sortedKeys[i];
                 }
             }
-        }
+            cellKeys = Arrays.copyOf(sortedKeys, cellCount);
 
-        return clusters;
-    }
+            final int[] locationCells = new int[count];
+            cellStarts = new int[cellCount + 1];
+            for (int i = 0; i < count; i++) {
+                locationCells[i] = Arrays.binarySearch(cellKeys, locationKeys[i]);
+                cellStarts[locationCells[i] + 1]++;
+            }
+            for (int cell = 0; cell < cellCount; cell++) {
+                cellStarts[cell + 1] += cellStarts[cell];
+            }
+            cellLocations = new int[count];
+            final int[] cellOffsets = Arrays.copyOf(cellStarts, cellCount);
+            for (int i = 0; i < count; i++) {
+                cellLocations[cellOffsets[locationCells[i]]++] = i;
+            }
 
-    private Map<Integer, Tuple<Float, Float>> calculateCentroids(final GraphReadMethods graph, final Map<Integer, Set<Integer>> clusters) {
-        final Map<Integer, Tuple<Float, Float>> centroids = new HashMap<>();
+            if (cellsWithinThreshold) {
+                for (int cell = 0; cell < cellCount; cell++) {
+                    for (int index = cellStarts[cell] + 1; index < cellStarts[cell + 1]; index++) {
+                        sets.union(cellLocations[cellStarts[cell]], cellLocations[index]);
+                    }
+                }
+            }
+        }
 
-        final int latitudeAttribute = SpatialConcept.VertexAttribute.LATITUDE.get(graph);
-        final int longitudeAttribute = SpatialConcept.VertexAttribute.LONGITUDE.get(graph);
+        private int getCellCount() {
+            return cellKeys.length;
+        }
 
-        // for each cluster...
-        for (final Map.Entry<Integer, Set<Integer>> entry : clusters.entrySet()) {
-            final Set<Integer> cluster = entry.getValue();
-            // ... calculate the average location for that cluster...
-            final float centroidLatitude = cluster.stream().map(memberId -> graph.getFloatValue(latitudeAttribute, memberId)).reduce((lat1, lat2) -> lat1 + lat2).get() / (float) cluster.size();
-            final float centroidLongitude = cluster.stream().map(memberId -> graph.getFloatValue(longitudeAttribute, memberId)).reduce((lon1, lon2) -> lon1 + lon2).get() / (float) cluster.size();
-            // ...and store that location in the centroids map
-            centroids.put(entry.getKey(), Tuple.create(centroidLatitude, centroidLongitude));
+        private static long getCellKey(final int x, final int y, final int z) {
+            return ((long) x << (2 * CELL_BITS)) | ((long) y << CELL_BITS) | z;
         }
 
-        return centroids;
-    }
+        /**
+         * Link the locations of a range of cells to the locations within the
+         * threshold in the same cell and in the neighbouring cells that
+         * follow it.
+         */
+        private void link(final int start, final int end) {
+            // the position of the first cell that could be in each row for the current cell, which only ever moves forward
+            final int[] positions = new int[ROW_OFFSETS.length];
+            Arrays.fill(positions, -1);
+
+            for (int cell = start; cell < end; cell++) {
+                if (!cellsWithinThreshold) {
+                    linkCells(cell, cell);
+                }
 
-    private Map<Integer, Set<Integer>> mergeClusters(final Map<Integer, Set<Integer>> clusters, final Map<Integer, Tuple<Float, Float>> centroids, final int threshold) {
-        Map<Integer, Set<Integer>> previousClusters = new HashMap<>();
-        Map<Integer, Set<Integer>> mergedClusters = new HashMap<>(clusters);
-
-        // while clusters are still merging...
-        while (!previousClusters.equals(mergedClusters)) {
-            previousClusters = new HashMap<>(mergedClusters);
-            mergedClusters.clear();
-
-            // ...calculate the distances between each cluster centroid...
-            final Map<Integer, Map<Integer, Double>> centroidDistanceMap = new HashMap<>();
-            for (int currentIndex : previousClusters.keySet()) {
-                final Map<Integer, Double> currentCentroidDistances = new HashMap<>();
-                final Tuple<Float, Float> currentCentroid = centroids.get(currentIndex);
-                for (int otherIndex : previousClusters.keySet()) {
-                    if (otherIndex == currentIndex) {
+                final long key = cellKeys[cell];
+                final int x = (int) (key >>> (2 * CELL_BITS));
+                final int y = (int) ((key >>> CELL_BITS) & CELL_MASK);
+                final int z = (int) (key & CELL_MASK);
+                for (int row = 0; row < ROW_OFFSETS.length; row++) {
+                    final int rowY = y + ROW_OFFSETS[row][1];
+                    if (rowY < 0) {
                         continue;
                     }
-                    final Tuple<Float, Float> otherCentroid = centroids.get(otherIndex);
-                    final double distanceBetweenClusters = Distance.Haversine.estimateDistanceInKilometers(currentCentroid.getFirst(), currentCentroid.getSecond(), otherCentroid.getFirst(), otherCentroid.getSecond());
-                    currentCentroidDistances.put(otherIndex, distanceBetweenClusters);
+                    final int rowX = x + ROW_OFFSETS[row][0];
+                    final long first = getCellKey(rowX, rowY, row == 0 ? z + 1 : Math.max(0, z - 2));
+                    final long last = getCellKey(rowX, rowY, z + 2);
+
+                    int position = positions[row];
+                    if (position == -1) {
+                        position = Arrays.binarySearch(cellKeys, first);
+                        position = position < 0 ? -position - 1 : position;
+                    } else {
+                        while (position < cellKeys.length && cellKeys[position] < first) {
+                            position++;
+                        }
+                    }
+                    positions[row] = position;
+
+                    for (int neighbour = position; neighbour < cellKeys.length && cellKeys[neighbour] <= last; neighbour++) {
+                        linkCells(cell, neighbour);
+                    }
                 }
-                centroidDistanceMap.put(currentIndex, currentCentroidDistances);
             }
+        }
 
-            // ...then assign clusters for those centroids...
-            final Map<Integer, Set<Integer>> reassignedClusters = assignClusters(centroidDistanceMap, threshold);
-            if (!reassignedClusters.isEmpty()) {
-                // ...if there are assigned clusters, then merge all the vertices of each corresponding centroid cluster
-                for (final Map.Entry<Integer, Set<Integer>> entry : reassignedClusters.entrySet()) {
-                    final Set<Integer> mergedClusterIndices = entry.getValue();
-                    if (mergedClusterIndices.size() > 1) {
-                        final Set<Integer> mergedCluster = new HashSet<>();
-                        for (int mergedClusterIndex : mergedClusterIndices) {
-                            mergedCluster.addAll(previousClusters.get(mergedClusterIndex));
+        private void linkCells(final int first, final int second) {
+            if (cellsWithinThreshold && sets.find(cellLocations[cellStarts[first]]) == sets.find(cellLocations[cellStarts[second]])) {
+                return;
+            }
+            for (int firstIndex = cellStarts[first]; firstIndex < cellStarts[first + 1]; firstIndex++) {
+                final int location = cellLocations[firstIndex];
+                final int secondStart = first == second ? firstIndex + 1 : cellStarts[second];
+                for (int secondIndex = secondStart; secondIndex < cellStarts[second + 1]; secondIndex++) {
+                    final int other = cellLocations[secondIndex];
+                    if (sets.find(location) != sets.find(other)
+                            && Distance.Haversine.estimateDistanceInKilometers(latitudes[location], longitudes[location],
+                                    latitudes[other], longitudes[other]) <= threshold) {
+                        sets.union(location, other);
+                        // every location in each cell is already grouped, so both cells are now fully linked
+                        if (cellsWithinThreshold) {
+                            return;
                         }
-                        mergedClusters.put(entry.getKey(), mergedCluster);
-                    } else {
-                        mergedClusters.put(entry.getKey(), previousClusters.get(new ArrayList<>(mergedClusterIndices).get(0)));
                     }
                 }
-            } else {
-                // ...otherwise we are done merging
-                mergedClusters = previousClusters;
-                break;
             }
         }
+    }
 
-        return mergedClusters;
+    /**
+     * Links the cells in a range of a grid to their neighbours.
+     */
+    private static final class LinkTask extends RecursiveAction {
+
+        private final LocationGrid grid;
+        private final int start;
+        private final int end;
+        private final int splitThreshold;
+
+        private LinkTask(final LocationGrid grid, final int start, final int end, final int splitThreshold) {
+            this.grid = grid;
+            this.start = start;
+            this.end = end;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= splitThreshold) {
+                grid.link(start, end);
+                return;
+            }
+
+            final int middle = (start + end) >>> 1;
+            invokeAll(new LinkTask(grid, start, middle, splitThreshold), new LinkTask(grid, middle, end, splitThreshold));
+        }
+    }
+
+    /**
+     * A union-find structure which can be updated from several threads at
+     * once. Sets are always linked from the larger root to the smaller root,
+     * so the root of each set is its smallest element and concurrent unions
+     * can never form a cycle.
+     */
+    private static final class DisjointSets {
+
+        private final AtomicIntegerArray parents;
+
+        private DisjointSets(final int size) {
+            parents = new AtomicIntegerArray(size);
+            for (int i = 0; i < size; i++) {
+                parents.set(i, i);
+            }
+        }
+
+        private int find(final int element) {
+            int current = element;
+            int parent = parents.get(current);
+            while (parent != current) {
+                // path halving only ever points an element further up its own tree, so losing the race is harmless
+                final int grandparent = parents.get(parent);
+                parents.compareAndSet(current, parent, grandparent);
+                current = grandparent;
+                parent = parents.get(current);
+            }
+            return current;
+        }
+
+        private void union(final int first, final int second) {
+            while (true) {
+                final int firstRoot = find(first);
+                final int secondRoot = find(second);
+                if (firstRoot == secondRoot) {
+                    return;
+                }
+                final int low = Math.min(firstRoot, secondRoot);
+                final int high = Math.max(firstRoot, secondRoot);
+                if (parents.compareAndSet(high, high, low)) {
+                    return;
+                }
+            }
+        }
     }
 }
@@ -409,6 +409,11 @@ public class ExtractWordsFromTextPlugin extends SimpleQueryPlugin implements Dat
         } else { // The original logic.
             final List<Pattern> patterns = patternsFromWords(words, useRegex, wholeWordOnly);
 
+            // Extract schema types from the content of every transaction at once, so the content can be processed in parallel
+            final Map<Integer, List<ExtractedVertexType>> extractedTypesByTransaction = types
+                    ? extractTypesFromTransactions(wg, transactionCount, transactionContentAttributeId, transactionTypeAttributeId, transactionSelectedAttributeId, selectedOnly)
+                    : Map.of();
+
             // Iterating over all the transactions in the graph
             final List<String> foundWords = new ArrayList<>();
             for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
@@ -447,7 +452,7 @@ public class ExtractWordsFromTextPlugin extends SimpleQueryPlugin implements Dat
                  Extracting Schema Types
                  */
                 if (types) {
-                    final List<ExtractedVertexType> extractedTypes = SchemaVertexTypeUtilities.extractVertexTypes(content);
+                    final List<ExtractedVertexType> extractedTypes = extractedTypesByTransaction.getOrDefault(transactionId, List.of());
 
                     final Map<String, SchemaVertexType> identifiers = new HashMap<>();
                     extractedTypes.forEach(extractedType -> identifiers.put(extractedType.getIdentifier(), extractedType.getType()));
@@ -578,6 +583,40 @@ public class ExtractWordsFromTextPlugin extends SimpleQueryPlugin implements Dat
         return patterns;
     }
 
+    /**
+     * Extract schema types from the content of each transaction that would be
+     * processed by this plugin.
+     *
+     * @return A map of transaction ids to the types extracted from their
+     * content.
+     */
+    private static Map<Integer, List<ExtractedVertexType>> extractTypesFromTransactions(final GraphWriteMethods wg, final int transactionCount,
+            final int transactionContentAttributeId, final int transactionTypeAttributeId, final int transactionSelectedAttributeId, final boolean selectedOnly) {
+        final List<Integer> transactionIds = new ArrayList<>();
+        final List<String> contents = new ArrayList<>();
+        for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
+            final int transactionId = wg.getTransaction(transactionPosition);
+            if (selectedOnly && !wg.getBooleanValue(transactionSelectedAttributeId, transactionId)) {
+                continue;
+            }
+
+            final String content = wg.getStringValue(transactionContentAttributeId, transactionId);
+            if (StringUtils.isBlank(content) || AnalyticConcept.TransactionType.REFERENCED.equals(wg.getObjectValue(transactionTypeAttributeId, transactionId))) {
+                continue;
+            }
+
+            transactionIds.add(transactionId);
+            contents.add(content);
+        }
+
+        final List<List<ExtractedVertexType>> extractedTypes = SchemaVertexTypeUtilities.extractVertexTypesFromTexts(contents);
+        final Map<Integer, List<ExtractedVertexType>> extractedTypesByTransaction = new HashMap<>();
+        for (int i = 0; i < transactionIds.size(); i++) {
+            extractedTypesByTransaction.put(transactionIds.get(i), extractedTypes.get(i));
+        }
+        return extractedTypesByTransaction;
+    }
+
     /*
      This cleans up words so that special regex characters are escaped
      */
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import static org.testng.Assert.assertEquals;
@@ -251,4 +252,25 @@ public class MergeNodesByLocationNGTest {
         Map<Integer, Set<Integer>> result = instance.getNodesToMerge(graph, leadVertexChooser, threshold, selectedOnly);
         assertEquals(result, expResult);
     }
+
+    /**
+     * Test of groupLocations method, of class MergeNodesByLocation, with
+     * locations either side of the antimeridian and near a pole
+     */
+    @Test
+    public void testGroupLocations() {
+        System.out.println("testGroupLocations");
+
+        final float[] latitudes = {0F, 0F, 0F, 0F, 89.9999F, 89.9999F};
+        final float[] longitudes = {179.996F, 179.999F, -179.998F, 0F, 0F, 180F};
+
+        final List<int[]> groups = MergeNodesByLocation.groupLocations(latitudes, longitudes, latitudes.length, 1);
+        assertEquals(groups.size(), 3);
+        assertEquals(groups.get(0), new int[]{0, 1, 2});
+        assertEquals(groups.get(1), new int[]{3});
+        assertEquals(groups.get(2), new int[]{4, 5});
+
+        // a threshold of zero only groups identical locations
+        assertEquals(MergeNodesByLocation.groupLocations(latitudes, longitudes, latitudes.length, 0).size(), 6);
+    }
 }
@@ -0,0 +1,592 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.file.io;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.NativeAttributeType;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.attribute.AttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.io.AbstractGraphIOProvider;
+import au.gov.asd.tac.constellation.graph.attribute.io.GraphByteReader;
+import au.gov.asd.tac.constellation.utilities.datastructure.ImmutableObjectCache;
+import au.gov.asd.tac.constellation.utilities.gui.IoProgress;
+import au.gov.asd.tac.constellation.utilities.json.JsonFactoryUtilities;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.commons.lang3.SystemUtils;
+
+/**
+ * Read a graph in binary columnar format.
+ * <p>
+ * The file is written by {@link GraphBinaryWriter}. The JSON header is read
+ * first to create the attributes, then the vertices and transactions are added
+ * with the ids they had when the graph was written, so no mapping of ids is
+ * needed. The columns of attributes with primitive native types and string
+ * attributes are then decoded in parallel, each straight into its attribute's
+ * {@link AttributeDescription} (see
+ * {@link StoreGraph#loadAttributeValues(Map)}). Other object attributes are
+ * read by their {@link AbstractGraphIOProvider} afterwards, parsing each
+ * distinct JSON fragment only once.
+ *
+ * @author sirius
+ */
+final class GraphBinaryReader {
+
+    private static final Logger LOGGER = Logger.getLogger(GraphBinaryReader.class.getName());
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private final Map<String, AbstractGraphIOProvider> providers;
+    private final GraphByteReader byteReader;
+    private final ImmutableObjectCache immutableObjectCache = new ImmutableObjectCache();
+    private final Map<Integer, Long> attrValCount = new HashMap<>();
+
+    /**
+     * Construct a new GraphBinaryReader.
+     *
+     * @param providers The IO providers of each attribute type.
+     * @param byteReader The reader for ancillary data read by the IO
+     * providers.
+     */
+    GraphBinaryReader(final Map<String, AbstractGraphIOProvider> providers, final GraphByteReader byteReader) {
+        this.providers = providers;
+        this.byteReader = byteReader;
+    }
+
+    /**
+     * The bytes of a graph in binary format.
+     */
+    @FunctionalInterface
+    interface ByteSource {
+
+        /**
+         * Read a range of bytes.
+         * <p>
+         * This may be called from several threads at once.
+         *
+         * @param offset The offset of the first byte.
+         * @param length The number of bytes.
+         *
+         * @return A little-endian buffer holding the bytes.
+         *
+         * @throws IOException If an I/O error occurs.
+         */
+        ByteBuffer read(final long offset, final int length) throws IOException;
+    }
+
+    /**
+     * A source of bytes held in memory.
+     *
+     * @param buffer The bytes of the graph.
+     *
+     * @return A source reading from the buffer.
+     */
+    static ByteSource fromBuffer(final ByteBuffer buffer) {
+        return (offset, length) -> buffer.duplicate().position((int) offset).limit((int) offset + length).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * A source of bytes in a region of a file.
+     * <p>
+     * Each range is memory mapped, so it is paged in as it is decoded rather
+     * than being copied first. Windows does not allow a file to be written
+     * while part of it is mapped, and a mapping is only released once it has
+     * been garbage collected, so on Windows the range is read instead;
+     * otherwise saving over the file that was just opened would fail.
+     *
+     * @param channel The file.
+     * @param base The offset of the graph in the file.
+     *
+     * @return A source reading from the file.
+     */
+    static ByteSource fromChannel(final FileChannel channel, final long base) {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            return (offset, length) -> {
+                final ByteBuffer buffer = ByteBuffer.allocate(length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, base + offset + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                }
+                return buffer.flip().order(ByteOrder.LITTLE_ENDIAN);
+            };
+        }
+        return (offset, length) -> channel.map(FileChannel.MapMode.READ_ONLY, base + offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Find the data of an entry if it is the first entry of a zip file and is
+     * stored rather than compressed, so that it can be read directly from the
+     * file.
+     *
+     * @param zipFile The zip file.
+     * @param entryName The name of the entry.
+     *
+     * @return The offset of the data of the entry in the file, or -1 if it is
+     * not the first entry or is compressed.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    static long findLeadingStoredEntry(final File zipFile, final String entryName) throws IOException {
+        final byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        final byte[] header = new byte[LOCAL_HEADER_SIZE + name.length];
+        try (final InputStream in = Files.newInputStream(zipFile.toPath())) {
+            if (in.readNBytes(header, 0, header.length) < header.length) {
+                return -1;
+            }
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        final boolean stored = buffer.getInt(0) == LOCAL_HEADER_SIGNATURE && buffer.getShort(8) == 0;
+        final int nameLength = Short.toUnsignedInt(buffer.getShort(26));
+        final int extraLength = Short.toUnsignedInt(buffer.getShort(28));
+        if (!stored || nameLength != name.length || !ByteBuffer.wrap(header, LOCAL_HEADER_SIZE, name.length).equals(ByteBuffer.wrap(name))) {
+            return -1;
+        }
+
+        return (long) LOCAL_HEADER_SIZE + nameLength + extraLength;
+    }
+
+    /**
+     * Read a graph.
+     *
+     * @param source The bytes of the graph.
+     * @param size The number of bytes.
+     * @param progress A progress indicator, or null.
+     *
+     * @return A new Graph.
+     *
+     * @throws IOException If an I/O error occurs.
+     * @throws GraphParseException If the graph is not in binary format or is
+     * corrupt.
+     */
+    Graph read(final ByteSource source, final long size, final IoProgress progress) throws IOException, GraphParseException {
+        if (size < GraphBinaryWriter.PREAMBLE_SIZE) {
+            throw new GraphParseException("Binary graph is too short");
+        }
+        final ByteBuffer preamble = source.read(0, GraphBinaryWriter.PREAMBLE_SIZE);
+        if (preamble.getInt() != GraphBinaryWriter.MAGIC) {
+            throw new GraphParseException("Binary graph does not start with the expected magic number");
+        }
+        final int formatVersion = preamble.getInt();
+        if (formatVersion != GraphBinaryWriter.FORMAT_VERSION) {
+            throw new GraphParseException(String.format("Binary format version %d is unknown.", formatVersion));
+        }
+        final long locationOffset = size - GraphBinaryWriter.TRAILER_SIZE;
+        if (locationOffset < GraphBinaryWriter.PREAMBLE_SIZE) {
+            throw new GraphParseException("Binary graph is too short");
+        }
+        final ByteBuffer location = source.read(locationOffset, GraphBinaryWriter.TRAILER_SIZE);
+        final long headerOffset = location.getLong();
+        final long headerLength = location.getLong();
+        if (headerOffset < GraphBinaryWriter.PREAMBLE_SIZE || headerLength > Integer.MAX_VALUE
+                || headerOffset + headerLength > locationOffset) {
+            throw new GraphParseException("Binary graph header is missing or truncated");
+        }
+
+        final ByteBuffer headerBuffer = source.read(headerOffset, (int) headerLength);
+        final byte[] headerBytes = new byte[(int) headerLength];
+        headerBuffer.get(headerBytes);
+        final JsonNode header;
+        try (final JsonParser jp = JsonFactoryUtilities.getMappingJsonFactory().createParser(headerBytes)) {
+            header = jp.readValueAsTree();
+        }
+
+        final int version = header.path("version").asInt(-1);
+        if (version < 0 || version > GraphJsonWriter.VERSION) {
+            throw new GraphParseException(String.format("Version number %d is unknown.", version));
+        }
+
+        final Map<String, Integer> versionedItems = new HashMap<>();
+        header.path("versionedItems").properties().forEach(item -> versionedItems.put(item.getKey(), item.getValue().asInt()));
+
+        final StoreGraph storeGraph = GraphJsonReader.createStoreGraph(header.path("schema").textValue(), versionedItems);
+
+        // The elements are added with the ids they were written with, so the ids in the file are the ids in the graph.
+        final Map<Integer, Integer> vertexMap = new ElementIdMap(storeGraph, GraphElementType.VERTEX);
+        final Map<Integer, Integer> transactionMap = new ElementIdMap(storeGraph, GraphElementType.TRANSACTION);
+
+        readSingleElement(storeGraph, GraphElementType.GRAPH, header, vertexMap, transactionMap, progress);
+        readColumns(storeGraph, GraphElementType.VERTEX, header, source, size, vertexMap, transactionMap, progress);
+        readColumns(storeGraph, GraphElementType.TRANSACTION, header, source, size, vertexMap, transactionMap, progress);
+        readSingleElement(storeGraph, GraphElementType.META, header, vertexMap, transactionMap, progress);
+
+        storeGraph.setModificationCounters(header.path("global_mod_count").asLong(),
+                header.path("structure_mod_count").asLong(), header.path("attribute_mod_count").asLong());
+        attrValCount.forEach(storeGraph::setValueModificationCounter);
+
+        final Graph graph = GraphJsonReader.updateGraph(storeGraph, versionedItems);
+
+        if (progress != null) {
+            progress.finish();
+        }
+
+        LOGGER.log(Level.FINE, "immutableObjectCache={0}", immutableObjectCache);
+
+        return graph;
+    }
+
+    /**
+     * Add the attributes of an element type to the graph.
+     *
+     * @return The id of each attribute that was added, keyed by label.
+     */
+    private Map<String, Integer> addAttributes(final StoreGraph graph, final GraphElementType elementType, final JsonNode node) throws GraphParseException {
+        final Map<String, Integer> attributes = new HashMap<>();
+        for (final JsonNode attrNode : node.path("attrs")) {
+            if (!attrNode.has("label") || !attrNode.has("type")) {
+                final String msg = String.format("Did not find %s attribute 'label' and 'type' in %s", IoUtilities.getGraphElementTypeString(elementType), attrNode);
+                throw new GraphParseException(msg);
+            }
+            final int attrId = GraphJsonReader.addAttribute(graph, elementType, attrNode);
+            if (attrId != Graph.NOT_FOUND) {
+                attributes.put(attrNode.get("label").textValue(), attrId);
+                attrValCount.put(attrId, attrNode.path("mod_count").asLong());
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Read the GRAPH or META element, which is held in the header as JSON.
+     */
+    private void readSingleElement(final StoreGraph graph, final GraphElementType elementType, final JsonNode header,
+            final Map<Integer, Integer> vertexMap, final Map<Integer, Integer> transactionMap, final IoProgress progress) throws IOException, GraphParseException {
+        final String elementTypeLabel = IoUtilities.getGraphElementTypeString(elementType);
+        final JsonNode node = header.get(elementTypeLabel);
+        if (node == null) {
+            if (elementType == GraphElementType.META) {
+                return;
+            }
+            throw new GraphParseException(String.format("Did not find '%s' in binary graph header", elementTypeLabel));
+        }
+
+        if (progress != null) {
+            progress.progress("Reading " + elementTypeLabel + " elements...");
+        }
+
+        final Map<String, Integer> attributes = addAttributes(graph, elementType, node);
+        for (final Map.Entry<String, JsonNode> entry : node.path("data").properties()) {
+            final Integer attrId = attributes.get(entry.getKey());
+            if (attrId != null) {
+                getIoProvider(graph, attrId).readObject(attrId, 0, entry.getValue(), graph, vertexMap, transactionMap, byteReader, immutableObjectCache);
+            }
+        }
+    }
+
+    /**
+     * Read the vertices or transactions and the columns of their attributes.
+     */
+    private void readColumns(final StoreGraph graph, final GraphElementType elementType, final JsonNode header, final ByteSource source, final long size,
+            final Map<Integer, Integer> vertexMap, final Map<Integer, Integer> transactionMap, final IoProgress progress) throws IOException, GraphParseException {
+        final String elementTypeLabel = IoUtilities.getGraphElementTypeString(elementType);
+        final JsonNode node = header.get(elementTypeLabel);
+        if (node == null) {
+            throw new GraphParseException(String.format("Did not find '%s' in binary graph header", elementTypeLabel));
+        }
+
+        if (progress != null) {
+            progress.progress("Reading " + elementTypeLabel + " elements...");
+        }
+
+        final Map<String, Integer> attributes = addAttributes(graph, elementType, node);
+
+        // The key is set before the elements are added, as it is when reading JSON.
+        if (node.has("key")) {
+            final int[] key = new int[node.get("key").size()];
+            for (int i = 0; i < key.length; i++) {
+                final String keyLabel = node.get("key").get(i).textValue();
+                if (!attributes.containsKey(keyLabel)) {
+                    throw new GraphParseException(String.format("Key '%s' is not a valid attribute", keyLabel));
+                }
+                key[i] = attributes.get(keyLabel);
+            }
+            graph.setPrimaryKey(elementType, key);
+        }
+
+        final int count = node.path(GraphBinaryWriter.COUNT_FIELD).asInt();
+        final int[] ids = readIntColumn(node, GraphBinaryWriter.IDS_FIELD, count, source, size);
+        if (elementType == GraphElementType.VERTEX) {
+            for (final int id : ids) {
+                graph.addVertex(id);
+            }
+        } else {
+            final int[] sources = readIntColumn(node, GraphBinaryWriter.SOURCES_FIELD, count, source, size);
+            final int[] destinations = readIntColumn(node, GraphBinaryWriter.DESTINATIONS_FIELD, count, source, size);
+            final ByteBuffer directions = readColumn(node.path(GraphBinaryWriter.DIRECTIONS_FIELD), count, source, size);
+            for (int i = 0; i < count; i++) {
+                graph.addTransaction(ids[i], sources[i], destinations[i], directions.get(i) != 0);
+            }
+        }
+
+        final Map<Integer, Consumer<AttributeDescription>> loaders = new HashMap<>();
+        final List<JsonNode> providerColumns = new ArrayList<>();
+        for (final JsonNode attrNode : node.path("attrs")) {
+            final Integer attrId = attributes.get(attrNode.get("label").textValue());
+            if (attrId == null) {
+                continue;
+            }
+            final String encoding = attrNode.path(GraphBinaryWriter.ENCODING_FIELD).asText();
+            if (GraphBinaryWriter.JSON_ENCODING.equals(encoding)) {
+                providerColumns.add(attrNode);
+            } else if (GraphBinaryWriter.STRING_ENCODING.equals(encoding)) {
+                checkColumn(attrNode, Integer.BYTES, size);
+                loaders.put(attrId, description -> {
+                    final ByteBuffer column = readAttributeColumn(attrNode, source);
+                    final String[] dictionary = readDictionary(column);
+                    final IntBuffer indices = column.asIntBuffer();
+                    for (int i = 0; i < ids.length; i++) {
+                        description.setString(ids[i], dictionary[indices.get(i)]);
+                    }
+                });
+            } else {
+                final NativeAttributeType nativeType;
+                try {
+                    nativeType = NativeAttributeType.valueOf(encoding);
+                } catch (final IllegalArgumentException ex) {
+                    throw new GraphParseException(String.format("Unknown encoding '%s' for attribute %s", encoding, attrNode.get("label").textValue()), ex);
+                }
+                readColumn(attrNode, count * getWidth(nativeType), null, size);
+                loaders.put(attrId, description -> loadPrimitiveColumn(description, nativeType, readAttributeColumn(attrNode, source), ids));
+            }
+        }
+
+        try {
+            graph.loadAttributeValues(loaders);
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        } catch (final IndexOutOfBoundsException | BufferUnderflowException | NegativeArraySizeException ex) {
+            throw new GraphParseException(String.format("Corrupt %s attribute column", elementTypeLabel), ex);
+        }
+
+        for (final JsonNode attrNode : providerColumns) {
+            final String label = attrNode.get("label").textValue();
+            final int attrId = attributes.get(label);
+            checkColumn(attrNode, Integer.BYTES, size);
+            final ByteBuffer column = readAttributeColumn(attrNode, source);
+            final String[] dictionary = readDictionary(column);
+
+            // Parse each distinct value once; it is read from the same node for every element with that value.
+            final JsonNode[] values = new JsonNode[dictionary.length];
+            for (int i = 0; i < dictionary.length; i++) {
+                try (final JsonParser jp = JsonFactoryUtilities.getMappingJsonFactory().createParser(dictionary[i])) {
+                    final JsonNode fragment = jp.readValueAsTree();
+                    values[i] = fragment.get(label);
+                }
+            }
+
+            final AbstractGraphIOProvider ioProvider = getIoProvider(graph, attrId);
+            final IntBuffer indices = column.asIntBuffer();
+            for (int i = 0; i < ids.length; i++) {
+                final int index = indices.get(i);
+                if (index != GraphBinaryWriter.NOT_WRITTEN && values[index] != null) {
+                    ioProvider.readObject(attrId, ids[i], values[index], graph, vertexMap, transactionMap, byteReader, immutableObjectCache);
+                }
+            }
+        }
+    }
+
+    private AbstractGraphIOProvider getIoProvider(final GraphReadMethods graph, final int attrId) throws IOException {
+        final String attrType = graph.getAttributeType(attrId);
+        final AbstractGraphIOProvider ioProvider = providers.get(attrType);
+        if (ioProvider == null) {
+            throw new IOException("No IO provider found for attribute type: " + attrType);
+        }
+        return ioProvider;
+    }
+
+    private static void loadPrimitiveColumn(final AttributeDescription description, final NativeAttributeType nativeType, final ByteBuffer column, final int[] ids) {
+        switch (nativeType) {
+            case BYTE -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setByte(ids[i], column.get(i));
+                }
+            }
+            case SHORT -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setShort(ids[i], column.getShort(i * Short.BYTES));
+                }
+            }
+            case INT -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setInt(ids[i], column.getInt(i * Integer.BYTES));
+                }
+            }
+            case LONG -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setLong(ids[i], column.getLong(i * Long.BYTES));
+                }
+            }
+            case FLOAT -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setFloat(ids[i], column.getFloat(i * Float.BYTES));
+                }
+            }
+            case DOUBLE -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setDouble(ids[i], column.getDouble(i * Double.BYTES));
+                }
+            }
+            case BOOLEAN -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setBoolean(ids[i], column.get(i) != 0);
+                }
+            }
+            case CHAR -> {
+                for (int i = 0; i < ids.length; i++) {
+                    description.setChar(ids[i], column.getChar(i * Character.BYTES));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unexpected native type: " + nativeType);
+        }
+    }
+
+    private static int getWidth(final NativeAttributeType nativeType) throws GraphParseException {
+        return switch (nativeType) {
+            case BYTE, BOOLEAN -> Byte.BYTES;
+            case SHORT -> Short.BYTES;
+            case CHAR -> Character.BYTES;
+            case INT -> Integer.BYTES;
+            case FLOAT -> Float.BYTES;
+            case LONG -> Long.BYTES;
+            case DOUBLE -> Double.BYTES;
+            default -> throw new GraphParseException("Unexpected native type: " + nativeType);
+        };
+    }
+
+    /**
+     * Read the dictionary at the start of a dictionary column, leaving the
+     * column positioned at the dictionary indices.
+     */
+    private static String[] readDictionary(final ByteBuffer column) {
+        final String[] dictionary = new String[column.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            final int length = column.getInt();
+            if (length >= 0) {
+                final byte[] bytes = new byte[length];
+                column.get(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        // the indices are aligned to 4 bytes
+        column.position((column.position() + Integer.BYTES - 1) / Integer.BYTES * Integer.BYTES);
+        return dictionary;
+    }
+
+    private static ByteBuffer readAttributeColumn(final JsonNode attrNode, final ByteSource source) {
+        try {
+            return source.read(attrNode.get(GraphBinaryWriter.OFFSET_FIELD).asLong(), attrNode.get(GraphBinaryWriter.LENGTH_FIELD).asInt());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Check that the location of a column is within the graph and is at least
+     * the given length.
+     */
+    private static void checkColumn(final JsonNode columnNode, final long minimumLength, final long size) throws GraphParseException {
+        final long offset = columnNode.path(GraphBinaryWriter.OFFSET_FIELD).asLong(-1);
+        final long length = columnNode.path(GraphBinaryWriter.LENGTH_FIELD).asLong(-1);
+        if (offset < GraphBinaryWriter.PREAMBLE_SIZE || length < minimumLength || length > Integer.MAX_VALUE || offset + length > size) {
+            throw new GraphParseException(String.format("Column %s is outside the binary graph", columnNode));
+        }
+    }
+
+    /**
+     * Check that a column has the given length, and read it if there is a
+     * source to read it from.
+     */
+    private static ByteBuffer readColumn(final JsonNode columnNode, final long length, final ByteSource source, final long size) throws IOException, GraphParseException {
+        checkColumn(columnNode, length, size);
+        if (columnNode.get(GraphBinaryWriter.LENGTH_FIELD).asLong() != length) {
+            throw new GraphParseException(String.format("Column %s should have length %d", columnNode, length));
+        }
+        return source == null ? null : source.read(columnNode.get(GraphBinaryWriter.OFFSET_FIELD).asLong(), (int) length);
+    }
+
+    private static int[] readIntColumn(final JsonNode node, final String field, final int count, final ByteSource source, final long size) throws IOException, GraphParseException {
+        final int[] values = new int[count];
+        readColumn(node.path(field), (long) count * Integer.BYTES, source, size).asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * A read-only view of element ids as a mapping from the id in the file to
+     * the id in the graph, for the IO providers that take such a mapping.
+     * Since the elements are added with the ids they were written with, each
+     * id maps to itself.
+     */
+    private static final class ElementIdMap extends AbstractMap<Integer, Integer> {
+
+        private final GraphReadMethods graph;
+        private final GraphElementType elementType;
+
+        ElementIdMap(final GraphReadMethods graph, final GraphElementType elementType) {
+            this.graph = graph;
+            this.elementType = elementType;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            if (key instanceof Integer id && id >= 0) {
+                return elementType == GraphElementType.VERTEX ? graph.vertexExists(id) : graph.transactionExists(id);
+            }
+            return false;
+        }
+
+        @Override
+        public Integer get(final Object key) {
+            return containsKey(key) ? (Integer) key : null;
+        }
+
+        @Override
+        public Set<Entry<Integer, Integer>> entrySet() {
+            // Rarely needed, so the entries are only built when asked for.
+            final Set<Entry<Integer, Integer>> entries = new LinkedHashSet<>();
+            final int count = elementType.getElementCount(graph);
+            for (int position = 0; position < count; position++) {
+                final int id = elementType.getElement(graph, position);
+                entries.add(Map.entry(id, id));
+            }
+            return entries;
+        }
+    }
+}
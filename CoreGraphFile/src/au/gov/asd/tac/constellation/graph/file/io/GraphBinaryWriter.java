@@ -0,0 +1,533 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.file.io;
+
+import au.gov.asd.tac.constellation.graph.Attribute;
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphAttribute;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.NativeAttributeType;
+import au.gov.asd.tac.constellation.graph.attribute.StringAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.io.AbstractGraphIOProvider;
+import au.gov.asd.tac.constellation.graph.attribute.io.GraphByteWriter;
+import au.gov.asd.tac.constellation.utilities.gui.IoProgress;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Write a graph in binary columnar format.
+ * <p>
+ * Vertices and transactions are written as columns rather than as one JSON
+ * object per element: a column of element ids, (for transactions) columns of
+ * source vertices, destination vertices and directions, and a column for each
+ * attribute. Attributes with a primitive native type are written as raw
+ * arrays. String attributes are written as a dictionary of their distinct
+ * values followed by an index into the dictionary for each element. Other
+ * object attributes are written the same way, except that the dictionary holds
+ * the distinct JSON fragments written by the attribute's
+ * {@link AbstractGraphIOProvider}.
+ * <p>
+ * Element and attribute ids are written as they are in the graph, so a graph
+ * read back from the file has the same ids as the graph that was written.
+ * <p>
+ * The attribute definitions, the GRAPH and META elements and the location of
+ * each column are written as a JSON header after the columns, so that the
+ * columns can be streamed out without knowing their sizes in advance. The
+ * file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, and ends with
+ * the offset and length of the header. The bytes are only ever appended, so
+ * the size and CRC-32 checksum of the file are known as soon as it has been
+ * written. All numbers are little-endian and every column starts on an 8 byte
+ * boundary so that it can be read from a memory mapped file. The file is read
+ * by {@link GraphBinaryReader}.
+ *
+ * @author sirius
+ */
+final class GraphBinaryWriter {
+
+    /**
+     * The first four bytes of the file: "CGBF" when read as little-endian.
+     */
+    static final int MAGIC = 0x46424743;
+
+    /**
+     * The current binary format version.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the fixed part of the file before the first column.
+     */
+    static final int PREAMBLE_SIZE = 8;
+
+    /**
+     * The size of the fixed part of the file after the header: the offset and
+     * length of the header.
+     */
+    static final int TRAILER_SIZE = 16;
+
+    static final String STRING_ENCODING = "STRING";
+    static final String JSON_ENCODING = "JSON";
+
+    static final String ID_FIELD = "id";
+    static final String ENCODING_FIELD = "encoding";
+    static final String OFFSET_FIELD = "offset";
+    static final String LENGTH_FIELD = "length";
+    static final String COUNT_FIELD = "count";
+    static final String IDS_FIELD = "ids";
+    static final String SOURCES_FIELD = "sources";
+    static final String DESTINATIONS_FIELD = "destinations";
+    static final String DIRECTIONS_FIELD = "directions";
+
+    /**
+     * The dictionary index of an element for which nothing was written.
+     */
+    static final int NOT_WRITTEN = -1;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int ALIGNMENT = 8;
+
+    private final Map<String, AbstractGraphIOProvider> graphIoProviders;
+    private final GraphByteWriter byteWriter;
+    private final IoProgress progress;
+    private final BooleanSupplier isCancelled;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final CRC32 crc = new CRC32();
+
+    private WritableByteChannel channel;
+    private ByteBuffer buffer;
+    private long written;
+    private int counter;
+
+    /**
+     * Construct a new GraphBinaryWriter.
+     *
+     * @param graphIoProviders The IO providers of each attribute type.
+     * @param byteWriter The writer for ancillary data written by the IO
+     * providers.
+     * @param progress A progress indicator, or null.
+     * @param isCancelled Whether the write has been cancelled.
+     */
+    GraphBinaryWriter(final Map<String, AbstractGraphIOProvider> graphIoProviders, final GraphByteWriter byteWriter,
+            final IoProgress progress, final BooleanSupplier isCancelled) {
+        this.graphIoProviders = graphIoProviders;
+        this.byteWriter = byteWriter;
+        this.progress = progress;
+        this.isCancelled = isCancelled;
+    }
+
+    /**
+     * Write a graph to a channel.
+     * <p>
+     * Only META attributes of type "object" are written, as for
+     * {@link GraphJsonWriter}. Once the write has finished, the number of
+     * bytes written and their checksum are available from {@link #getSize()}
+     * and {@link #getCrc()}.
+     *
+     * @param graph The graph to write.
+     * @param out The channel to write to.
+     *
+     * @return True if the write was cancelled, false otherwise.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    boolean write(final GraphReadMethods graph, final WritableByteChannel out) throws IOException {
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel = out;
+        crc.reset();
+        written = 0;
+        counter = 0;
+
+        if (progress != null) {
+            // one unit of work is one value of one vertex or transaction attribute
+            progress.start(graph.getVertexCount() * graph.getAttributeCount(GraphElementType.VERTEX)
+                    + graph.getTransactionCount() * graph.getAttributeCount(GraphElementType.TRANSACTION));
+        }
+
+        try {
+            buffer.putInt(MAGIC);
+            buffer.putInt(FORMAT_VERSION);
+
+            final ByteArrayOutputStream header = new ByteArrayOutputStream();
+            try (final JsonGenerator jg = jsonFactory.createGenerator(header, JsonEncoding.UTF8)) {
+                jg.writeStartObject();
+                GraphJsonWriter.writeHeaderFields(jg, graph);
+                for (final GraphElementType elementType : GraphJsonWriter.ELEMENT_TYPES_FILE_ORDER) {
+                    if (isCancelled.getAsBoolean()) {
+                        return true;
+                    }
+                    writeElements(jg, graph, elementType);
+                }
+                jg.writeEndObject();
+            }
+
+            final long headerOffset = align();
+            putBytes(header.toByteArray());
+            ensureRemaining(TRAILER_SIZE).putLong(headerOffset).putLong(header.size());
+            flush();
+        } finally {
+            channel = null;
+            buffer = null;
+
+            if (progress != null) {
+                progress.finish();
+            }
+        }
+
+        return isCancelled.getAsBoolean();
+    }
+
+    /**
+     * The number of bytes written by the last call to
+     * {@link #write(GraphReadMethods, WritableByteChannel)}.
+     *
+     * @return The number of bytes written.
+     */
+    long getSize() {
+        return written;
+    }
+
+    /**
+     * The CRC-32 checksum of the bytes written by the last call to
+     * {@link #write(GraphReadMethods, WritableByteChannel)}.
+     *
+     * @return The checksum of the bytes written.
+     */
+    long getCrc() {
+        return crc.getValue();
+    }
+
+    private void writeElements(final JsonGenerator jg, final GraphReadMethods graph, final GraphElementType elementType) throws IOException {
+        final String elementTypeLabel = IoUtilities.getGraphElementTypeString(elementType);
+
+        if (progress != null) {
+            progress.progress("Writing " + elementTypeLabel + " elements...");
+        }
+
+        final List<Attribute> attrs = new ArrayList<>();
+        for (int position = 0; position < graph.getAttributeCount(elementType); position++) {
+            final Attribute attr = new GraphAttribute(graph, graph.getAttribute(elementType, position));
+            // Don't write non-META object types; we don't know what they are.
+            if (!"object".equals(attr.getAttributeType()) || elementType == GraphElementType.META) {
+                attrs.add(attr);
+            }
+        }
+
+        jg.writeObjectFieldStart(elementTypeLabel);
+
+        if (elementType == GraphElementType.VERTEX || elementType == GraphElementType.TRANSACTION) {
+            final boolean isVertex = elementType == GraphElementType.VERTEX;
+            final int count = isVertex ? graph.getVertexCount() : graph.getTransactionCount();
+            final int[] ids = new int[count];
+            for (int position = 0; position < count; position++) {
+                ids[position] = isVertex ? graph.getVertex(position) : graph.getTransaction(position);
+            }
+
+            jg.writeNumberField(COUNT_FIELD, count);
+            jg.writeObjectFieldStart(IDS_FIELD);
+            writeIntColumn(jg, ids);
+            jg.writeEndObject();
+
+            if (!isVertex) {
+                final int[] sources = new int[count];
+                final int[] destinations = new int[count];
+                final byte[] directions = new byte[count];
+                for (int position = 0; position < count; position++) {
+                    sources[position] = graph.getTransactionSourceVertex(ids[position]);
+                    destinations[position] = graph.getTransactionDestinationVertex(ids[position]);
+                    directions[position] = graph.getTransactionDirection(ids[position]) != Graph.UNDIRECTED ? (byte) 1 : (byte) 0;
+                }
+                jg.writeObjectFieldStart(SOURCES_FIELD);
+                writeIntColumn(jg, sources);
+                jg.writeEndObject();
+                jg.writeObjectFieldStart(DESTINATIONS_FIELD);
+                writeIntColumn(jg, destinations);
+                jg.writeEndObject();
+                jg.writeObjectFieldStart(DIRECTIONS_FIELD);
+                final long start = align();
+                putBytes(directions);
+                writeLocation(jg, start);
+                jg.writeEndObject();
+            }
+
+            jg.writeArrayFieldStart("attrs");
+            for (final Attribute attr : attrs) {
+                if (isCancelled.getAsBoolean()) {
+                    return;
+                }
+                jg.writeStartObject();
+                GraphJsonWriter.writeAttributeFields(jg, graph, attr);
+                jg.writeNumberField(ID_FIELD, attr.getId());
+                writeAttributeColumn(jg, graph, attr, ids);
+                jg.writeEndObject();
+
+                counter += count;
+                if (progress != null) {
+                    progress.progress(counter);
+                }
+            }
+            jg.writeEndArray();
+
+            final int[] key = graph.getPrimaryKey(elementType);
+            if (key.length > 0) {
+                jg.writeArrayFieldStart("key");
+                for (final int keyAttribute : key) {
+                    jg.writeString(graph.getAttributeName(keyAttribute));
+                }
+                jg.writeEndArray();
+            }
+        } else {
+            jg.writeArrayFieldStart("attrs");
+            for (final Attribute attr : attrs) {
+                jg.writeStartObject();
+                GraphJsonWriter.writeAttributeFields(jg, graph, attr);
+                jg.writeNumberField(ID_FIELD, attr.getId());
+                jg.writeEndObject();
+            }
+            jg.writeEndArray();
+
+            jg.writeObjectFieldStart("data");
+            for (final Attribute attr : attrs) {
+                getIoProvider(attr).writeObject(attr, 0, jg, graph, byteWriter, false);
+            }
+            jg.writeEndObject();
+        }
+
+        jg.writeEndObject();
+    }
+
+    private AbstractGraphIOProvider getIoProvider(final Attribute attr) throws IOException {
+        final AbstractGraphIOProvider ioProvider = graphIoProviders.get(attr.getAttributeType());
+        if (ioProvider == null) {
+            throw new IOException("No IO provider found for attribute type: " + attr.getAttributeType());
+        }
+        return ioProvider;
+    }
+
+    /**
+     * Write the column of values of an attribute, and its location and
+     * encoding to the header.
+     */
+    private void writeAttributeColumn(final JsonGenerator jg, final GraphReadMethods graph, final Attribute attr, final int[] ids) throws IOException {
+        final int attrId = attr.getId();
+        final NativeAttributeType nativeType = graph.getNativeAttributeType(attrId);
+
+        if (nativeType != NativeAttributeType.OBJECT) {
+            jg.writeStringField(ENCODING_FIELD, nativeType.name());
+            final long start = align();
+            switch (nativeType) {
+                case BYTE -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Byte.BYTES).put(graph.getByteValue(attrId, id));
+                    }
+                }
+                case SHORT -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Short.BYTES).putShort(graph.getShortValue(attrId, id));
+                    }
+                }
+                case INT -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Integer.BYTES).putInt(graph.getIntValue(attrId, id));
+                    }
+                }
+                case LONG -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Long.BYTES).putLong(graph.getLongValue(attrId, id));
+                    }
+                }
+                case FLOAT -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Float.BYTES).putFloat(graph.getFloatValue(attrId, id));
+                    }
+                }
+                case DOUBLE -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Double.BYTES).putDouble(graph.getDoubleValue(attrId, id));
+                    }
+                }
+                case BOOLEAN -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Byte.BYTES).put(graph.getBooleanValue(attrId, id) ? (byte) 1 : (byte) 0);
+                    }
+                }
+                case CHAR -> {
+                    for (final int id : ids) {
+                        ensureRemaining(Character.BYTES).putChar(graph.getCharValue(attrId, id));
+                    }
+                }
+                default -> throw new IOException("Unexpected native type: " + nativeType);
+            }
+            writeLocation(jg, start);
+        } else if (StringAttributeDescription.ATTRIBUTE_NAME.equals(attr.getAttributeType())) {
+            jg.writeStringField(ENCODING_FIELD, STRING_ENCODING);
+            final DictionaryBuilder dictionary = new DictionaryBuilder(ids.length);
+            for (final int id : ids) {
+                final String value = graph.getStringValue(attrId, id);
+                dictionary.add(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+            }
+            writeDictionaryColumn(jg, dictionary);
+        } else {
+            jg.writeStringField(ENCODING_FIELD, JSON_ENCODING);
+            final AbstractGraphIOProvider ioProvider = getIoProvider(attr);
+            final DictionaryBuilder dictionary = new DictionaryBuilder(ids.length);
+            final ByteArrayOutputStream fragment = new ByteArrayOutputStream();
+            for (final int id : ids) {
+                // Each value is written as its own JSON object, so that identical values are stored once.
+                fragment.reset();
+                try (final JsonGenerator fg = jsonFactory.createGenerator(fragment, JsonEncoding.UTF8)) {
+                    fg.writeStartObject();
+                    ioProvider.writeObject(attr, id, fg, graph, byteWriter, false);
+                    fg.writeEndObject();
+                }
+                if (fragment.size() == 2) {
+                    // the provider didn't write anything, so there is only the empty object
+                    dictionary.skip();
+                } else {
+                    dictionary.add(fragment.toByteArray());
+                }
+            }
+            writeDictionaryColumn(jg, dictionary);
+        }
+    }
+
+    /**
+     * Write a dictionary column: the number of distinct values, the length in
+     * bytes (or -1 for null) and UTF-8 bytes of each distinct value, then
+     * (aligned to 4 bytes) the dictionary index of each element.
+     */
+    private void writeDictionaryColumn(final JsonGenerator jg, final DictionaryBuilder dictionary) throws IOException {
+        final long start = align();
+        ensureRemaining(Integer.BYTES).putInt(dictionary.values.size());
+        for (final byte[] value : dictionary.values) {
+            if (value == null) {
+                ensureRemaining(Integer.BYTES).putInt(-1);
+            } else {
+                ensureRemaining(Integer.BYTES).putInt(value.length);
+                putBytes(value);
+            }
+        }
+        pad(Integer.BYTES);
+        for (final int index : dictionary.indices) {
+            ensureRemaining(Integer.BYTES).putInt(index);
+        }
+        writeLocation(jg, start);
+    }
+
+    private void writeIntColumn(final JsonGenerator jg, final int[] values) throws IOException {
+        final long start = align();
+        for (final int value : values) {
+            ensureRemaining(Integer.BYTES).putInt(value);
+        }
+        writeLocation(jg, start);
+    }
+
+    private void writeLocation(final JsonGenerator jg, final long start) throws IOException {
+        jg.writeNumberField(OFFSET_FIELD, start);
+        jg.writeNumberField(LENGTH_FIELD, position() - start);
+    }
+
+    private long position() {
+        return written + buffer.position();
+    }
+
+    private long align() throws IOException {
+        pad(ALIGNMENT);
+        return position();
+    }
+
+    private void pad(final int alignment) throws IOException {
+        final int padding = (int) ((alignment - position() % alignment) % alignment);
+        for (int i = 0; i < padding; i++) {
+            ensureRemaining(1).put((byte) 0);
+        }
+    }
+
+    private ByteBuffer ensureRemaining(final int size) throws IOException {
+        if (buffer.remaining() < size) {
+            flush();
+        }
+        return buffer;
+    }
+
+    private void putBytes(final byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            final int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        written += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * The distinct values of a column in order of first appearance, already
+     * encoded as UTF-8, and the index of each element's value.
+     */
+    private static final class DictionaryBuilder {
+
+        // keyed by a buffer wrapping each distinct value, since buffers compare by content
+        private final Map<ByteBuffer, Integer> indexOf = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private final int[] indices;
+        private int size = 0;
+
+        DictionaryBuilder(final int count) {
+            indices = new int[count];
+        }
+
+        void add(final byte[] value) {
+            final ByteBuffer key = value == null ? null : ByteBuffer.wrap(value);
+            Integer index = indexOf.get(key);
+            if (index == null) {
+                index = values.size();
+                indexOf.put(key, index);
+                values.add(value);
+            }
+            indices[size++] = index;
+        }
+
+        void skip() {
+            indices[size++] = NOT_WRITTEN;
+        }
+    }
+}
@@ -34,6 +34,14 @@ public final class GraphFileConstants {
      * The file extensions for ZipEntry files.
      */
     public static final String FILE_EXTENSION = FileExtensionConstants.TEXT;
+    /**
+     * The name of the ZipEntry holding the graph in JSON format.
+     */
+    public static final String JSON_GRAPH_ENTRY = "graph" + FILE_EXTENSION;
+    /**
+     * The name of the ZipEntry holding the graph in binary columnar format.
+     */
+    public static final String BINARY_GRAPH_ENTRY = "graph" + FileExtensionConstants.BINARY;
     /**
      * The field separator in CSV files.
      */
@@ -43,11 +43,15 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.ZipEntry;
@@ -104,9 +108,29 @@ public final class GraphJsonReader {
     }
 
     public Graph readGraphZip(final File graphFile, final IoProgress progress) throws IOException, GraphParseException {
-        try (final InputStream in = new BufferedInputStream(new FileInputStream(graphFile))) {
-            return readGraphZip(graphFile.getPath(), in, progress);
+        final long binaryOffset = GraphBinaryReader.findLeadingStoredEntry(graphFile, GraphFileConstants.BINARY_GRAPH_ENTRY);
+        if (binaryOffset < 0) {
+            try (final InputStream in = new BufferedInputStream(new FileInputStream(graphFile))) {
+                return readGraphZip(graphFile.getPath(), in, progress);
+            }
         }
+
+        // The graph is in binary format at the start of the file, so it can be read directly from the file.
+        progress.start(100);
+        try (final ZipFile zFile = new ZipFile(graphFile); final FileChannel channel = FileChannel.open(graphFile.toPath(), StandardOpenOption.READ)) {
+            byteReader = new GraphByteReader(zFile, Set.of(GraphFileConstants.BINARY_GRAPH_ENTRY));
+            loadCustomIcons(zFile);
+
+            final long size = zFile.getEntry(GraphFileConstants.BINARY_GRAPH_ENTRY).getSize();
+            graph = new GraphBinaryReader(providers, byteReader).read(GraphBinaryReader.fromChannel(channel, binaryOffset), size, progress);
+        } catch (final IOException ex) {
+            progress.finish();
+            throw ex;
+        } finally {
+            byteReader = null;
+        }
+
+        return graph;
     }
 
     public Graph readGraphZip(final String name, final InputStream bin, final IoProgress progress) throws IOException, GraphParseException {
@@ -120,55 +144,22 @@ public final class GraphJsonReader {
             throw ex;
         }
 
-        boolean iconsUpdated = false;
         try {
             // Load the custom icons first
-            if (DefaultCustomIconProvider.getIconDirectory() != null) {                
-                final String directoryPath = DefaultCustomIconProvider.getIconDirectory().getAbsolutePath();
+            if (DefaultCustomIconProvider.getIconDirectory() != null) {
                 try (final ZipFile zFile = new ZipFile(name)) {
-                    for (final ZipEntry entry : Collections.list(zFile.entries())) {
-                        // Check for Icon entries in the source star/zip file
-                        if (entry.getName().startsWith(DefaultCustomIconProvider.USER_ICON_DIR) && !entry.isDirectory()) {
-                            final String iconName = entry.getName().substring(DefaultCustomIconProvider.USER_ICON_DIR.length());
-                            // prepare a link to an icon entry in the star/zip file
-                            final InputStream zin = zFile.getInputStream(entry);
-                            boolean saveCustomFile = true;
-                            final File file = new File(directoryPath + iconName);
-                            if (file.exists()) {
-                                if (entry.getLastModifiedTime().toMillis() < file.lastModified()) {
-                                    // do not overwrite current icon with an older icon
-                                    saveCustomFile = false;
-                                } else {
-                                    // the icon in the graph file is newer than the current constellation icon
-                                    // so we remove the current constellation icon
-                                    Files.delete(file.toPath());
-                                    if (!file.createNewFile()){
-                                        LOGGER.log(Level.WARNING, "Potential problem creating new image icon file.");
-                                    }
-                                }
-                            }
-                            if (saveCustomFile) {
-                                // copy the icon image from the zip file to the constellation user's icon directory
-                                try (final FileOutputStream os = new FileOutputStream(file)) {
-                                    for (int c = zin.read(); c != -1; c = zin.read()) {
-                                        os.write(c);
-                                    }
-                                }
-                                // new image file has now been written to the constellation folder
-                                // set a flag to have all icon images reloaded
-                                iconsUpdated = true;
-                            }
-                        }
-                    }
+                    loadCustomIcons(zFile);
                 }
             }
-            // reload the constellation icons if there have been any changes
-            if (iconsUpdated) {
-                DefaultCustomIconProvider.reloadIcons();
+
+            // Get the graph next, in binary format if it is there.
+            final ExtendedBuffer binary = byteReader.read(GraphFileConstants.BINARY_GRAPH_ENTRY);
+            if (binary != null) {
+                final byte[] data = binary.getData();
+                return graph = new GraphBinaryReader(providers, byteReader).read(GraphBinaryReader.fromBuffer(ByteBuffer.wrap(data)), data.length, progress);
             }
 
-            // Get the graph next.
-            final String graphEntry = "graph" + GraphFileConstants.FILE_EXTENSION;
+            final String graphEntry = GraphFileConstants.JSON_GRAPH_ENTRY;
             final ExtendedBuffer in = byteReader.read(graphEntry);
             if (in == null) {
                 final String msg = "Entry " + graphEntry + " not found in graph file";
@@ -192,6 +183,61 @@ public final class GraphJsonReader {
         return graph;
     }
 
+    /**
+     * Copy the custom icons in a graph file to the user's icon directory,
+     * unless the user already has a newer copy of an icon.
+     *
+     * @param zFile The graph file.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void loadCustomIcons(final ZipFile zFile) throws IOException {
+        if (DefaultCustomIconProvider.getIconDirectory() == null) {
+            return;
+        }
+
+        boolean iconsUpdated = false;
+        final String directoryPath = DefaultCustomIconProvider.getIconDirectory().getAbsolutePath();
+        for (final ZipEntry entry : Collections.list(zFile.entries())) {
+            // Check for Icon entries in the source star/zip file
+            if (entry.getName().startsWith(DefaultCustomIconProvider.USER_ICON_DIR) && !entry.isDirectory()) {
+                final String iconName = entry.getName().substring(DefaultCustomIconProvider.USER_ICON_DIR.length());
+                // prepare a link to an icon entry in the star/zip file
+                final InputStream zin = zFile.getInputStream(entry);
+                boolean saveCustomFile = true;
+                final File file = new File(directoryPath + iconName);
+                if (file.exists()) {
+                    if (entry.getLastModifiedTime().toMillis() < file.lastModified()) {
+                        // do not overwrite current icon with an older icon
+                        saveCustomFile = false;
+                    } else {
+                        // the icon in the graph file is newer than the current constellation icon
+                        // so we remove the current constellation icon
+                        Files.delete(file.toPath());
+                        if (!file.createNewFile()){
+                            LOGGER.log(Level.WARNING, "Potential problem creating new image icon file.");
+                        }
+                    }
+                }
+                if (saveCustomFile) {
+                    // copy the icon image from the zip file to the constellation user's icon directory
+                    try (final FileOutputStream os = new FileOutputStream(file)) {
+                        for (int c = zin.read(); c != -1; c = zin.read()) {
+                            os.write(c);
+                        }
+                    }
+                    // new image file has now been written to the constellation folder
+                    // set a flag to have all icon images reloaded
+                    iconsUpdated = true;
+                }
+            }
+        }
+        // reload the constellation icons if there have been any changes
+        if (iconsUpdated) {
+            DefaultCustomIconProvider.reloadIcons();
+        }
+    }
+
     /**
      * reads the graph level mod count.
      *
@@ -360,22 +406,7 @@ public final class GraphJsonReader {
             throw new GraphParseException(String.format(EXPECTED_END_OBJECT_FORMAT, current));
         }
 
-        SchemaFactory schemaFactory = SchemaFactoryUtilities.getSchemaFactory(schemaFactoryName);
-        if (schemaFactory == null) {
-            final SchemaFactory defaultSchemaFactory = SchemaFactoryUtilities.getDefaultSchemaFactory();
-            LOGGER.warning(String.format("Unknown schema factory '%s'; falling back to '%s'", schemaFactoryName, defaultSchemaFactory.getName()));
-            schemaFactory = defaultSchemaFactory;
-        }
-
-        storeGraph = new StoreGraph(schemaFactory.createSchema());
-        UpdateProviderManager.getRegisteredProviders().forEach((item, itemProviders) -> {
-            if (item.appliesToGraph(storeGraph)) {
-                final int currentVersion = versionedItems.containsKey(item.getName()) ? versionedItems.get(item.getName()) : UpdateProvider.DEFAULT_VERSION;
-                if (itemProviders.containsKey(currentVersion)) {
-                    itemProviders.get(currentVersion).configure(storeGraph);
-                }
-            }
-        });
+        storeGraph = createStoreGraph(schemaFactoryName, versionedItems);
 
         try {
             // Depending on the version number, different things could happen.
@@ -481,6 +512,60 @@ public final class GraphJsonReader {
             attrValCount.forEachKeyValue((key, value) -> storeGraph.setValueModificationCounter(key, value));
         }
 
+        graph = updateGraph(storeGraph, versionedItems);
+
+        if (progress != null) {
+            progress.finish();
+        }
+
+        LOGGER.log(Level.FINE, "immutableObjectCache={0}", immutableObjectCache);
+
+        return graph;
+    }
+
+    /**
+     * Create the graph that a graph file is read into.
+     * <p>
+     * If the schema factory is not known, the default schema factory is used
+     * instead. The update providers for the versioned items of the file are
+     * given the chance to configure the graph before it is filled.
+     *
+     * @param schemaFactoryName The name of the schema factory of the file.
+     * @param versionedItems The version of each versioned item in the file.
+     *
+     * @return A new empty graph.
+     */
+    static StoreGraph createStoreGraph(final String schemaFactoryName, final Map<String, Integer> versionedItems) {
+        SchemaFactory schemaFactory = SchemaFactoryUtilities.getSchemaFactory(schemaFactoryName);
+        if (schemaFactory == null) {
+            final SchemaFactory defaultSchemaFactory = SchemaFactoryUtilities.getDefaultSchemaFactory();
+            LOGGER.warning(String.format("Unknown schema factory '%s'; falling back to '%s'", schemaFactoryName, defaultSchemaFactory.getName()));
+            schemaFactory = defaultSchemaFactory;
+        }
+
+        final StoreGraph storeGraph = new StoreGraph(schemaFactory.createSchema());
+        UpdateProviderManager.getRegisteredProviders().forEach((item, itemProviders) -> {
+            if (item.appliesToGraph(storeGraph)) {
+                final int currentVersion = versionedItems.containsKey(item.getName()) ? versionedItems.get(item.getName()) : UpdateProvider.DEFAULT_VERSION;
+                if (itemProviders.containsKey(currentVersion)) {
+                    itemProviders.get(currentVersion).configure(storeGraph);
+                }
+            }
+        });
+
+        return storeGraph;
+    }
+
+    /**
+     * Bring a graph that has been read from a file up to date, and wrap it in
+     * a {@link DualGraph}.
+     *
+     * @param storeGraph The graph read from the file.
+     * @param versionedItems The version of each versioned item in the file.
+     *
+     * @return The updated graph.
+     */
+    static Graph updateGraph(final StoreGraph storeGraph, final Map<String, Integer> versionedItems) {
         try {
             // Allow any relevant version providers to update the graph if necessary.
             UpdateProviderManager.getRegisteredProviders().forEach((item, itemProviders) -> {
@@ -500,15 +585,7 @@ public final class GraphJsonReader {
             LOGGER.log(Level.WARNING, msg, ex);
         }
 
-        graph = new DualGraph(schemaFactory.createSchema(), storeGraph);
-
-        if (progress != null) {
-            progress.finish();
-        }
-
-        LOGGER.log(Level.FINE, "immutableObjectCache={0}", immutableObjectCache);
-
-        return graph;
+        return new DualGraph(storeGraph.getSchema().getFactory().createSchema(), storeGraph);
     }
 
     /**
@@ -569,25 +646,10 @@ public final class GraphJsonReader {
                 throw new GraphParseException(msg);
             }
 
-            final String attrLabel = node.get("label").textValue();
-            final String attrType = node.get("type").textValue();
-            final String attrDesc = node.has("descr") ? node.get("descr").textValue() : null;
-            final JsonNode dv = node.get("default");
-            final Object attrDefault;
-            if (dv == null || dv.isNull()) {
-                attrDefault = null;
-            } else if (dv.isNumber()) {
-                attrDefault = dv.numberValue();
-            } else {
-                attrDefault = dv.isBoolean() ? dv.booleanValue()
-                        : dv.textValue();
-            }
-
-            final String attributeMergerId = node.has("merger") ? node.get("merger").textValue() : null;
-
-            try {
-                final int attrId = graph.addAttribute(elementType, attrType, attrLabel, attrDesc, attrDefault, attributeMergerId);
-
+            final int attrId = addAttribute(graph, elementType, node);
+            if (attrId != Graph.NOT_FOUND) {
+                final String attrLabel = node.get("label").textValue();
+                final String attrType = node.get("type").textValue();
                 final Attribute attr = new GraphAttribute(graph, attrId);
                 final boolean isNumber = "integer".equals(attrType) || "float".equals(attrType);
                 final boolean isBoolean = "boolean".equals(attrType);
@@ -599,17 +661,6 @@ public final class GraphJsonReader {
                     final long modCount = node.get("mod_count").longValue();
                     attrValCount.put(attrId, modCount);
                 }
-            } catch (final IllegalArgumentException ex) {
-                // It's possible that we're reading a graph that contains an attribute type that we don't know about.
-                // This can happen when a module adds a new META type to a saved graph, and someone attempts to open
-                // that graph without that module (or an older version of that module).
-                // We don't want an exception to be thrown, because the rest of the META section won't be read, and data
-                // will be missing from the graph. Instead, we'll catch exceptions from addAttribute(), log them, and continue.
-                if (elementType != GraphElementType.META) {
-                    throw ex;
-                }
-
-                LOGGER.warning(String.format("While adding %s attribute: %s", elementType, ex.getMessage()));
             }
         }
 
@@ -759,6 +810,57 @@ public final class GraphJsonReader {
         }
     }
 
+    /**
+     * Add an attribute to a graph from its definition in a graph file.
+     * <p>
+     * The definition must have a label and a type.
+     *
+     * @param graph The graph being read.
+     * @param elementType The element type of the attribute.
+     * @param node The definition of the attribute.
+     *
+     * @return The id of the new attribute, or {@link Graph#NOT_FOUND} if it
+     * was a META attribute of an unknown type.
+     */
+    static int addAttribute(final GraphWriteMethods graph, final GraphElementType elementType, final JsonNode node) {
+        final String attrLabel = node.get("label").textValue();
+        final String attrType = node.get("type").textValue();
+        final String attrDesc = node.has("descr") ? node.get("descr").textValue() : null;
+        final JsonNode dv = node.get("default");
+        final Object attrDefault;
+        if (dv == null || dv.isNull()) {
+            attrDefault = null;
+        } else if (dv.isNumber()) {
+            attrDefault = dv.numberValue();
+        } else {
+            attrDefault = dv.isBoolean() ? dv.booleanValue()
+                    : dv.textValue();
+        }
+
+        final String attributeMergerId = node.has("merger") ? node.get("merger").textValue() : null;
+
+        // Binary graph files record attribute ids so that they can be kept.
+        final int attrId = node.path(GraphBinaryWriter.ID_FIELD).asInt(Graph.NOT_FOUND);
+
+        try {
+            return graph instanceof StoreGraph storeGraph
+                    ? storeGraph.addAttribute(elementType, attrType, attrLabel, attrDesc, attrDefault, attributeMergerId, attrId)
+                    : graph.addAttribute(elementType, attrType, attrLabel, attrDesc, attrDefault, attributeMergerId);
+        } catch (final IllegalArgumentException ex) {
+            // It's possible that we're reading a graph that contains an attribute type that we don't know about.
+            // This can happen when a module adds a new META type to a saved graph, and someone attempts to open
+            // that graph without that module (or an older version of that module).
+            // We don't want an exception to be thrown, because the rest of the META section won't be read, and data
+            // will be missing from the graph. Instead, we'll catch exceptions from addAttribute(), log them, and continue.
+            if (elementType != GraphElementType.META) {
+                throw ex;
+            }
+
+            LOGGER.warning(String.format("While adding %s attribute: %s", elementType, ex.getMessage()));
+            return Graph.NOT_FOUND;
+        }
+    }
+
     /**
      * Maintain attribute information.
      */
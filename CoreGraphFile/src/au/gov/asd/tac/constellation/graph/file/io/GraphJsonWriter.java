@@ -25,6 +25,7 @@ import au.gov.asd.tac.constellation.graph.attribute.io.GraphByteWriter;
 import au.gov.asd.tac.constellation.graph.schema.BareSchemaFactory;
 import au.gov.asd.tac.constellation.graph.schema.Schema;
 import au.gov.asd.tac.constellation.graph.versioning.UpdateProviderManager;
+import au.gov.asd.tac.constellation.preferences.ApplicationPreferenceKeys;
 import au.gov.asd.tac.constellation.utilities.file.FileExtensionConstants;
 import au.gov.asd.tac.constellation.utilities.gui.IoProgress;
 import au.gov.asd.tac.constellation.utilities.icon.ConstellationIcon;
@@ -41,19 +42,25 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.prefs.Preferences;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openide.util.Cancellable;
+import org.openide.util.NbPreferences;
 
 /**
  * Write a graph in JSON format.
@@ -68,7 +75,7 @@ public final class GraphJsonWriter implements Cancellable {
      * The current file format version.
      */
     public static final int VERSION = 2;
-    private static final List<GraphElementType> ELEMENT_TYPES_FILE_ORDER = Arrays.asList(GraphElementType.GRAPH, GraphElementType.VERTEX, GraphElementType.TRANSACTION, GraphElementType.META);
+    static final List<GraphElementType> ELEMENT_TYPES_FILE_ORDER = Arrays.asList(GraphElementType.GRAPH, GraphElementType.VERTEX, GraphElementType.TRANSACTION, GraphElementType.META);
     private static final int REPORT_INTERVAL = 10000;
     private IoProgress progress;
     private int counter;
@@ -80,16 +87,55 @@ public final class GraphJsonWriter implements Cancellable {
 
     private final List<String> customIconList = new ArrayList<>();
 
+    private final Map<String, byte[]> extraEntries = new LinkedHashMap<>();
+
+    private boolean binaryFormat;
+
     /**
      * Construct a new GraphJsonWriter.
      */
     public GraphJsonWriter() {
         byteWriter = new GraphByteWriter();
+        final Preferences prefs = NbPreferences.forModule(ApplicationPreferenceKeys.class);
+        binaryFormat = prefs.getBoolean(ApplicationPreferenceKeys.BINARY_GRAPH_FORMAT, ApplicationPreferenceKeys.BINARY_GRAPH_FORMAT_DEFAULT);
         for (final AbstractGraphIOProvider agiop : AbstractGraphIOProvider.getProviders()) {
             graphIoProviders.put(agiop.getName(), agiop);
         }
     }
 
+    /**
+     * Set whether graphs written to zip files use the binary columnar format.
+     * <p>
+     * By default, graphs are written as JSON, which can be read by older
+     * versions. If binary format is turned on, either here or with the
+     * {@link ApplicationPreferenceKeys#BINARY_GRAPH_FORMAT} preference, a graph
+     * with all of its elements is written to a zip file in binary columnar
+     * format (see {@link GraphBinaryWriter}), which is much faster to write and
+     * read than JSON. Graphs with only some element types (for example
+     * templates) are always written as JSON.
+     *
+     * @param binaryFormat True to write graphs to zip files in binary format,
+     * false to write them as JSON.
+     */
+    public void setBinaryFormat(final boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
+    /**
+     * Add an entry to be written to zip files after the graph and its
+     * ancillary files.
+     * <p>
+     * This is used to save small amounts of data that must stay with a
+     * particular saved graph, such as the autosave journal that belongs to it.
+     * The entry isn't written if the write is cancelled.
+     *
+     * @param name The name of the ZipEntry.
+     * @param content The content of the ZipEntry.
+     */
+    public void addZipEntry(final String name, final byte[] content) {
+        extraEntries.put(name, content);
+    }
+
     /**
      * Serialise a graph to a file with all elements written.
      * <p>
@@ -177,10 +223,14 @@ public final class GraphJsonWriter implements Cancellable {
         this.progress = progress;
 
         try (final ZipOutputStream zout = new ZipOutputStream(out)) {
-            final ZipEntry zentry = new ZipEntry("graph" + GraphFileConstants.FILE_EXTENSION);
-            zout.putNextEntry(zentry);
-            writeGraphToStream(graph, zout, false, elementTypes);
-            zout.closeEntry();
+            if (binaryFormat && elementTypes.containsAll(ELEMENT_TYPES_FILE_ORDER)) {
+                writeBinaryGraphEntry(graph, zout);
+            } else {
+                final ZipEntry zentry = new ZipEntry(GraphFileConstants.JSON_GRAPH_ENTRY);
+                zout.putNextEntry(zentry);
+                writeGraphToStream(graph, zout, false, elementTypes);
+                zout.closeEntry();
+            }
             try {
                 if (!isCancelled) {
                     for (final Entry<String, File> entry : byteWriter.getFileMap().entrySet()) {
@@ -211,6 +261,11 @@ public final class GraphJsonWriter implements Cancellable {
                             zout.closeEntry();
                         }
                     }
+                    for (final Entry<String, byte[]> entry : extraEntries.entrySet()) {
+                        zout.putNextEntry(new ZipEntry(entry.getKey()));
+                        zout.write(entry.getValue());
+                        zout.closeEntry();
+                    }
                 }
             } finally {
                 byteWriter.reset();
@@ -220,6 +275,65 @@ public final class GraphJsonWriter implements Cancellable {
         return isCancelled;
     }
 
+    /**
+     * Write a graph in binary columnar format as the first entry of a zip
+     * file.
+     * <p>
+     * The entry is stored rather than deflated so that it can be mapped into
+     * memory when it is read; see
+     * {@link GraphJsonReader#readGraphZip(File, IoProgress)}. A stored entry
+     * needs its size and checksum before its data, so the graph is written
+     * once to a temporary file, with the checksum calculated as it is
+     * written, and the file is then streamed into the zip.
+     *
+     * @param graph The graph to serialise.
+     * @param zout The zip file to write to.
+     *
+     * @throws IOException If there was a problem writing.
+     */
+    private void writeBinaryGraphEntry(final GraphReadMethods graph, final ZipOutputStream zout) throws IOException {
+        final File binaryFile = File.createTempFile("graph", FileExtensionConstants.BINARY);
+        try {
+            final GraphBinaryWriter binaryWriter = new GraphBinaryWriter(graphIoProviders, byteWriter, progress, () -> isCancelled);
+            try (final FileChannel channel = FileChannel.open(binaryFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (binaryWriter.write(graph, channel)) {
+                    return;
+                }
+            }
+
+            customIconList.clear();
+            final int iconAttr = graph.getAttribute(GraphElementType.VERTEX, "icon");
+            if (iconAttr != Graph.NOT_FOUND) {
+                for (int position = 0; position < graph.getVertexCount(); position++) {
+                    addCustomIcon(graph.getStringValue(iconAttr, graph.getVertex(position)));
+                }
+            }
+
+            final ZipEntry zentry = new ZipEntry(GraphFileConstants.BINARY_GRAPH_ENTRY);
+            zentry.setMethod(ZipEntry.STORED);
+            zentry.setSize(binaryWriter.getSize());
+            zentry.setCompressedSize(binaryWriter.getSize());
+            zentry.setCrc(binaryWriter.getCrc());
+            zout.putNextEntry(zentry);
+            Files.copy(binaryFile.toPath(), zout);
+            zout.closeEntry();
+        } finally {
+            Files.deleteIfExists(binaryFile.toPath());
+        }
+    }
+
+    /**
+     * Add an icon to the list of custom icons to save with the graph if it is
+     * a custom icon and isn't already in the list.
+     *
+     * @param iconName The name of an icon used by the graph.
+     */
+    private void addCustomIcon(final String iconName) {
+        if (!customIconList.contains(iconName) && DefaultCustomIconProvider.containsIcon(iconName)) {
+            customIconList.add(iconName);
+        }
+    }
+
     /**
      * Serialise a graph in JSON format to an OutputStream.
      * <p>
@@ -267,29 +381,7 @@ public final class GraphJsonWriter implements Cancellable {
             jg.writeStartArray();
 
             jg.writeStartObject();
-
-            // write version number
-            jg.writeNumberField("version", VERSION);
-
-            // write versioned items
-            jg.writeObjectFieldStart("versionedItems");
-            for (final Entry<String, Integer> itemVersion : UpdateProviderManager.getLatestVersions().entrySet()) {
-                jg.writeNumberField(itemVersion.getKey(), itemVersion.getValue());
-            }
-            jg.writeEndObject();
-
-            final Schema schema = graph.getSchema();
-
-            // write schema
-            jg.writeStringField("schema", schema == null ? new BareSchemaFactory().getName() : schema.getFactory().getName());
-
-            // write global modCounts
-            final long globalModCount = graph.getGlobalModificationCounter();
-            final long structModCount = graph.getStructureModificationCounter();
-            final long attrModCount = graph.getStructureModificationCounter();
-            jg.writeNumberField("global_mod_count", globalModCount);
-            jg.writeNumberField("structure_mod_count", structModCount);
-            jg.writeNumberField("attribute_mod_count", attrModCount);
+            writeHeaderFields(jg, graph);
             jg.writeEndObject();
             for (final GraphElementType elementType : ELEMENT_TYPES_FILE_ORDER) {
                 if (!isCancelled) {
@@ -311,6 +403,78 @@ public final class GraphJsonWriter implements Cancellable {
         return isCancelled;
     }
 
+    /**
+     * Write the fields describing a graph as a whole: the file format version,
+     * the versions of versioned items, the schema, and the modification
+     * counters.
+     *
+     * @param jg The JsonGenerator to use for writing.
+     * @param graph The graph.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeHeaderFields(final JsonGenerator jg, final GraphReadMethods graph) throws IOException {
+        // write version number
+        jg.writeNumberField("version", VERSION);
+
+        // write versioned items
+        jg.writeObjectFieldStart("versionedItems");
+        for (final Entry<String, Integer> itemVersion : UpdateProviderManager.getLatestVersions().entrySet()) {
+            jg.writeNumberField(itemVersion.getKey(), itemVersion.getValue());
+        }
+        jg.writeEndObject();
+
+        final Schema schema = graph.getSchema();
+
+        // write schema
+        jg.writeStringField("schema", schema == null ? new BareSchemaFactory().getName() : schema.getFactory().getName());
+
+        // write global modCounts
+        final long globalModCount = graph.getGlobalModificationCounter();
+        final long structModCount = graph.getStructureModificationCounter();
+        final long attrModCount = graph.getStructureModificationCounter();
+        jg.writeNumberField("global_mod_count", globalModCount);
+        jg.writeNumberField("structure_mod_count", structModCount);
+        jg.writeNumberField("attribute_mod_count", attrModCount);
+    }
+
+    /**
+     * Write the definition of an attribute: its label, type, description,
+     * default value, merger and modification counter.
+     *
+     * @param jg The JsonGenerator to use for writing.
+     * @param graph The graph.
+     * @param attr The attribute.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    static void writeAttributeFields(final JsonGenerator jg, final GraphReadMethods graph, final Attribute attr) throws IOException {
+        jg.writeStringField("label", attr.getName());
+        jg.writeStringField("type", attr.getAttributeType());
+
+        if (attr.getDescription() != null) {
+            jg.writeStringField("descr", attr.getDescription());
+        }
+
+        // TODO: this is really horrible. We should not just be getting the default value as whatever type the description feels like giving us and then writing out it as a number (after introspecting its type) or its toString() value.
+        // This should be done in a safe, extensible and verifiable manner, and more importantly, in a manner consistent with the way the attribute values themselves are written out (using IO providers). The long term solution to this
+        // is probably not to just change the code here (or add in some default writing/reading stuff in IO providers), but to actually integrate the getting and setting of defaults into the getting and setting of
+        // actual attribute values inside the attribute descriptions.
+        if (attr.getDefaultValue() != null && isNumeric(attr)) {
+            jg.writeNumberField(DEFAULT_FIELD, ((Number) attr.getDefaultValue()).doubleValue());
+        } else if (attr.getDefaultValue() != null && "boolean".equals(attr.getAttributeType())) {
+            jg.writeBooleanField(DEFAULT_FIELD, (Boolean) attr.getDefaultValue());
+        } else if (attr.getDefaultValue() != null) {
+            jg.writeStringField(DEFAULT_FIELD, attr.getDefaultValue().toString());
+        }
+
+        if (attr.getAttributeMerger() != null) {
+            jg.writeStringField("merger", attr.getAttributeMerger().getId());
+        }
+
+        jg.writeNumberField("mod_count", graph.getValueModificationCounter(attr.getId()));
+    }
+
     /**
      * Write elements of a Graph to JSON.
      *
@@ -352,31 +516,7 @@ public final class GraphJsonWriter implements Cancellable {
         // Write the attributes.
         for (final Attribute attr : attrs) {
             jg.writeStartObject();
-            jg.writeStringField("label", attr.getName());
-            jg.writeStringField("type", attr.getAttributeType());
-
-            if (attr.getDescription() != null) {
-                jg.writeStringField("descr", attr.getDescription());
-            }
-
-            // TODO: this is really horrible. We should not just be getting the default value as whatever type the description feels like giving us and then writing out it as a number (after introspecting its type) or its toString() value.
-            // This should be done in a safe, extensible and verifiable manner, and more importantly, in a manner consistent with the way the attribute values themselves are written out (using IO providers). The long term solution to this
-            // is probably not to just change the code here (or add in some default writing/reading stuff in IO providers), but to actually integrate the getting and setting of defaults into the getting and setting of
-            // actual attribute values inside the attribute descriptions.
-            if (attr.getDefaultValue() != null && isNumeric(attr)) {
-                jg.writeNumberField(DEFAULT_FIELD, ((Number) attr.getDefaultValue()).doubleValue());
-            } else if (attr.getDefaultValue() != null && "boolean".equals(attr.getAttributeType())) {
-                jg.writeBooleanField(DEFAULT_FIELD, (Boolean) attr.getDefaultValue());
-            } else if (attr.getDefaultValue() != null) {
-                jg.writeStringField(DEFAULT_FIELD, attr.getDefaultValue().toString());
-            }
-
-            if (attr.getAttributeMerger() != null) {
-                jg.writeStringField("merger", attr.getAttributeMerger().getId());
-            }
-
-            jg.writeNumberField("mod_count", graph.getValueModificationCounter(attr.getId()));
-
+            writeAttributeFields(jg, graph, attr);
             jg.writeEndObject();
         }
 
@@ -435,12 +575,7 @@ public final class GraphJsonWriter implements Cancellable {
                 for (final Attribute attr : attrs) {
                     if ("icon".equals(attr.getName())) {
                         // get each of the custom icon images present in the graph being saved
-                        final String attrData = graph.getStringValue(attr.getId(), vxId);
-                        if (!customIconList.contains(attrData) && DefaultCustomIconProvider.containsIcon(attrData)) {
-                            // confirmed that the icon is part of the custom set
-                            // store it in a custom list (no duplication)
-                            customIconList.add(attrData);
-                        }
+                        addCustomIcon(graph.getStringValue(attr.getId(), vxId));
                     }
                     final AbstractGraphIOProvider ioProvider = ioProviders[attr.getId()];
                     if (ioProvider != null) {
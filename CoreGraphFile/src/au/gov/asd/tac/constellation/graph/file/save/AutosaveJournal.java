@@ -0,0 +1,477 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.file.save;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.file.io.GraphJsonReader;
+import au.gov.asd.tac.constellation.graph.file.io.GraphJsonWriter;
+import au.gov.asd.tac.constellation.graph.file.io.GraphParseException;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.graph.locking.GraphEditListener;
+import au.gov.asd.tac.constellation.graph.locking.GraphOperationMode;
+import au.gov.asd.tac.constellation.graph.undo.UndoGraphEdit;
+import au.gov.asd.tac.constellation.utilities.file.FileExtensionConstants;
+import au.gov.asd.tac.constellation.utilities.gui.IoProgress;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A journal of the edits made to a graph since it was last autosaved in full.
+ * <p>
+ * Autosaving a large graph in full takes a long time, so after a graph has
+ * been saved in full (a snapshot) the edits made to it are recorded and
+ * appended to a journal file at each autosave instead. A graph is recovered
+ * by reading the snapshot and replaying the journal onto it. The snapshot
+ * must be saved in a format that keeps element and attribute ids, because the
+ * edits refer to them.
+ * <p>
+ * Each journal has a generation which is written at the start of the journal
+ * file and in an entry of the snapshot file. A journal is only replayed onto a
+ * snapshot with the same generation. A new snapshot and journal are written to
+ * temporary files and moved into place snapshot first, so a crash part way
+ * through saving a new snapshot leaves either the old pair, or the new
+ * snapshot with a journal that doesn't belong to it and is ignored. No edits
+ * are lost in that case, because none have been appended to the new journal.
+ *
+ * @author sirius
+ */
+public final class AutosaveJournal implements GraphEditListener {
+
+    private static final Logger LOGGER = Logger.getLogger(AutosaveJournal.class.getName());
+
+    /**
+     * The first four bytes of a journal file: "CGJF" when read as big-endian.
+     */
+    private static final int MAGIC = 0x43474A46;
+    private static final int VERSION = 1;
+
+    /**
+     * The name of the snapshot zip entry holding the journal generation.
+     */
+    private static final String GENERATION_ENTRY = "journal_generation" + FileExtensionConstants.TEXT;
+
+    private static final Map<String, AutosaveJournal> JOURNALS = new HashMap<>();
+
+    private final DualGraph graph;
+    private final File file;
+    private final long generation;
+    private final List<JournalEntry> pending = new ArrayList<>();
+    private GraphReadMethods snapshot;
+    private long entryCount = 0;
+    private long size;
+    private boolean valid = true;
+
+    private record JournalEntry(UndoGraphEdit edit, boolean undone) {
+
+    }
+
+    private AutosaveJournal(final DualGraph graph, final File file, final long generation) {
+        this.graph = graph;
+        this.file = file;
+        this.generation = generation;
+    }
+
+    /**
+     * Take a copy of a graph to save as a new snapshot, and start recording
+     * the edits made after it.
+     * <p>
+     * The copy is taken under a read lock and the journal starts listening
+     * before any further edit can be committed, so that no edits are missed
+     * or recorded twice. The journal doesn't replace the graph's current
+     * journal until {@link #saveSnapshot(File, IoProgress)} has succeeded.
+     *
+     * @param graph the graph to record edits for.
+     * @param file the journal file.
+     * @return the new journal.
+     * @throws InterruptedException if interrupted while waiting for a writer
+     * to finish.
+     */
+    public static AutosaveJournal create(final DualGraph graph, final File file) throws InterruptedException {
+        final AutosaveJournal journal = new AutosaveJournal(graph, file, ThreadLocalRandom.current().nextLong());
+        try (final ReadableGraph rg = graph.getReadableGraph(journal)) {
+            journal.snapshot = rg.copy();
+        }
+        return journal;
+    }
+
+    /**
+     * The copy of the graph taken when this journal was created, which is
+     * saved as the snapshot.
+     *
+     * @return the copy of the graph, or null once the snapshot has been saved.
+     */
+    public synchronized GraphReadMethods getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Save the snapshot that this journal starts from, and make this the
+     * graph's journal.
+     * <p>
+     * If the snapshot can't be saved, this journal and the graph's previous
+     * journal both stop recording edits, so that the next autosave saves a new
+     * snapshot.
+     *
+     * @param snapshotFile the autosaved graph file.
+     * @param progress the progress of writing the snapshot.
+     * @throws IOException if the snapshot or the journal could not be written.
+     */
+    public void saveSnapshot(final File snapshotFile, final IoProgress progress) throws IOException {
+        final GraphReadMethods state;
+        synchronized (this) {
+            state = snapshot;
+            snapshot = null;
+        }
+        if (state == null) {
+            throw new IllegalStateException("The snapshot for this journal has already been saved");
+        }
+
+        final File snapshotTemp = AutosaveUtilities.getTempFile(snapshotFile);
+        final File journalTemp = AutosaveUtilities.getTempFile(file);
+        try {
+            writeHeader(state, journalTemp);
+
+            final GraphJsonWriter writer = new GraphJsonWriter();
+            writer.addZipEntry(GENERATION_ENTRY, Long.toString(generation).getBytes(StandardCharsets.UTF_8));
+            if (writer.writeGraphToZip(state, snapshotTemp.getPath(), progress)) {
+                throw new IOException("Autosave was cancelled");
+            }
+
+            Files.move(snapshotTemp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(journalTemp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            stopRecording();
+            stop(graph.getId());
+            Files.deleteIfExists(snapshotTemp.toPath());
+            Files.deleteIfExists(journalTemp.toPath());
+            throw ex;
+        }
+
+        final AutosaveJournal previous;
+        synchronized (JOURNALS) {
+            previous = JOURNALS.put(graph.getId(), this);
+        }
+        if (previous != null) {
+            previous.stopRecording();
+        }
+    }
+
+    private void writeHeader(final GraphReadMethods state, final File headerFile) throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(headerFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+
+            // Record the attribute ids that the edits will refer to so that
+            // recovery can check that the snapshot was read with the same ids.
+            final List<Integer> attributes = new ArrayList<>();
+            for (final GraphElementType elementType : GraphElementType.values()) {
+                for (int position = 0; position < state.getAttributeCount(elementType); position++) {
+                    attributes.add(state.getAttribute(elementType, position));
+                }
+            }
+            out.writeInt(attributes.size());
+            for (final int attribute : attributes) {
+                out.writeInt(attribute);
+                out.writeByte(state.getAttributeElementType(attribute).ordinal());
+                out.writeUTF(state.getAttributeName(attribute));
+            }
+            out.flush();
+            synchronized (this) {
+                size = out.size();
+            }
+        }
+    }
+
+    /**
+     * Get the journal currently recording edits for a graph.
+     *
+     * @param graphId the id of the graph.
+     * @return the journal for the graph, or null if there isn't one.
+     */
+    public static AutosaveJournal getJournal(final String graphId) {
+        synchronized (JOURNALS) {
+            return JOURNALS.get(graphId);
+        }
+    }
+
+    /**
+     * Stop recording edits for a graph.
+     * <p>
+     * The journal file is left alone; it is deleted with the rest of the
+     * graph's autosave files.
+     *
+     * @param graphId the id of the graph.
+     */
+    public static void stop(final String graphId) {
+        final AutosaveJournal journal;
+        synchronized (JOURNALS) {
+            journal = JOURNALS.remove(graphId);
+        }
+        if (journal != null) {
+            journal.stopRecording();
+        }
+    }
+
+    private void stopRecording() {
+        graph.removeGraphEditListener(this);
+        synchronized (this) {
+            pending.clear();
+            snapshot = null;
+            valid = false;
+        }
+    }
+
+    @Override
+    public synchronized void editApplied(final UndoGraphEdit edit, final boolean undone) {
+        if (valid) {
+            pending.add(new JournalEntry(edit, undone));
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * The size of the journal file, which grows as edits are appended.
+     *
+     * @return the size of the journal file in bytes.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Whether there are edits in the journal file, meaning that the snapshot
+     * is out of date.
+     *
+     * @return true if edits have been appended to the journal file.
+     */
+    public synchronized boolean hasEntries() {
+        return entryCount > 0;
+    }
+
+    /**
+     * Whether there are edits that have not yet been appended to the journal
+     * file.
+     *
+     * @return true if there are edits waiting to be appended.
+     */
+    public synchronized boolean hasPendingEdits() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Append the edits made since the last append to the journal file.
+     * <p>
+     * If an edit can't be written, for example because it refers to an object
+     * that can't be serialised or the file can't be written, the journal
+     * becomes invalid and false is returned: the graph must then be saved in
+     * full to start a new journal.
+     *
+     * @return true if the journal is still valid.
+     */
+    public boolean append() {
+        final List<JournalEntry> entries;
+        synchronized (this) {
+            if (!valid) {
+                return false;
+            }
+            entries = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final DataOutputStream entryOut = new DataOutputStream(buffer);
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            for (final JournalEntry entry : entries) {
+                buffer.reset();
+                entry.edit().write(entryOut);
+
+                out.writeInt(buffer.size());
+                out.writeBoolean(entry.undone());
+                buffer.writeTo(out);
+            }
+            synchronized (this) {
+                size += out.size();
+                entryCount += entries.size();
+            }
+        } catch (final IOException ex) {
+            synchronized (this) {
+                valid = false;
+            }
+            LOGGER.log(Level.INFO, "Unable to append to autosave journal, a full autosave will be made instead", ex);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Read an autosaved graph, replaying its journal if there is one.
+     * <p>
+     * If the journal doesn't belong to the snapshot, or can't be replayed, the
+     * snapshot is returned as it was saved.
+     *
+     * @param snapshot the autosaved graph file.
+     * @param journalFile the journal file, which need not exist.
+     * @param progress the progress of reading the snapshot.
+     * @return the recovered graph.
+     * @throws IOException if the snapshot could not be read.
+     * @throws GraphParseException if the snapshot could not be parsed.
+     */
+    public static Graph recover(final File snapshot, final File journalFile, final IoProgress progress) throws IOException, GraphParseException {
+        final Graph savedGraph = new GraphJsonReader().readGraphZip(snapshot, progress);
+        final Long generation = readGeneration(snapshot);
+        if (generation == null || !journalFile.exists()) {
+            return savedGraph;
+        }
+
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != generation) {
+                LOGGER.log(Level.INFO, "Autosave journal {0} does not belong to {1}", new Object[]{journalFile, snapshot});
+                return savedGraph;
+            }
+
+            final StoreGraph storeGraph;
+            try (final ReadableGraph rg = savedGraph.getReadableGraph()) {
+                final int attributeCount = in.readInt();
+                for (int i = 0; i < attributeCount; i++) {
+                    final int attribute = in.readInt();
+                    final GraphElementType elementType = GraphElementType.values()[in.readByte()];
+                    final String label = in.readUTF();
+                    if (rg.getAttribute(elementType, label) != attribute) {
+                        LOGGER.log(Level.WARNING, "Autosave journal {0} can''t be replayed because attribute ids have changed", journalFile);
+                        return savedGraph;
+                    }
+                }
+                storeGraph = (StoreGraph) rg.copy();
+            }
+
+            int replayed = 0;
+            while (true) {
+                final byte[] entry;
+                final boolean undone;
+                try {
+                    entry = new byte[in.readInt()];
+                    undone = in.readBoolean();
+                    in.readFully(entry);
+                } catch (final EOFException ex) {
+                    // The end of the journal, or an entry that was only partly written before a crash.
+                    break;
+                }
+
+                final UndoGraphEdit edit = new UndoGraphEdit(new DataInputStream(new ByteArrayInputStream(entry)));
+                if (undone) {
+                    storeGraph.setOperationMode(GraphOperationMode.UNDO);
+                    edit.undo(storeGraph);
+                } else {
+                    storeGraph.setOperationMode(GraphOperationMode.REDO);
+                    edit.execute(storeGraph);
+                }
+                storeGraph.setOperationMode(GraphOperationMode.EXECUTE);
+                replayed++;
+            }
+            storeGraph.validateKeys();
+
+            LOGGER.log(Level.INFO, "Replayed {0} edits from autosave journal {1}", new Object[]{replayed, journalFile});
+            return new DualGraph(savedGraph.getSchema(), storeGraph);
+        } catch (final Exception ex) {
+            LOGGER.log(Level.WARNING, String.format("Unable to replay autosave journal %s", journalFile), ex);
+            return savedGraph;
+        }
+    }
+
+    /**
+     * Replay the journal of an autosaved graph and save the result over the
+     * autosaved graph, so that the autosaved graph file can be used on its
+     * own.
+     * <p>
+     * The compacted graph is saved without a journal generation, so if the
+     * journal can't be deleted it is ignored rather than replayed again.
+     *
+     * @param snapshot the autosaved graph file.
+     * @param progress the progress of reading and writing the graph.
+     * @throws IOException if the graph could not be read or written.
+     * @throws GraphParseException if the snapshot could not be parsed.
+     */
+    public static void compact(final File snapshot, final IoProgress progress) throws IOException, GraphParseException {
+        final File journalFile = AutosaveUtilities.getJournalFile(snapshot);
+        if (!journalFile.exists()) {
+            return;
+        }
+
+        final Graph recovered = recover(snapshot, journalFile, progress);
+        final File snapshotTemp = AutosaveUtilities.getTempFile(snapshot);
+        try (final ReadableGraph rg = recovered.getReadableGraph()) {
+            if (new GraphJsonWriter().writeGraphToZip(rg, snapshotTemp.getPath(), progress)) {
+                Files.deleteIfExists(snapshotTemp.toPath());
+                return;
+            }
+        }
+        Files.move(snapshotTemp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(journalFile.toPath());
+    }
+
+    /**
+     * Read the generation of the journal that belongs to a snapshot.
+     *
+     * @param snapshot the autosaved graph file.
+     * @return the journal generation, or null if the snapshot has no journal.
+     * @throws IOException if the snapshot could not be read.
+     */
+    static Long readGeneration(final File snapshot) throws IOException {
+        try (final ZipFile zipFile = new ZipFile(snapshot)) {
+            final ZipEntry entry = zipFile.getEntry(GENERATION_ENTRY);
+            if (entry == null) {
+                return null;
+            }
+            try (final InputStream in = zipFile.getInputStream(entry)) {
+                return Long.valueOf(new String(in.readAllBytes(), StandardCharsets.UTF_8).trim());
+            } catch (final NumberFormatException ex) {
+                LOGGER.log(Level.WARNING, "Invalid autosave journal generation in {0}", snapshot);
+                return null;
+            }
+        }
+    }
+}
@@ -48,6 +48,7 @@ public final class AutosaveUtilities {
     public static final String DT = "dt";
     private static final Logger LOGGER = Logger.getLogger(AutosaveUtilities.class.getName());
     private static final String AUTOSAVE_DIR = "Autosave";
+    private static final String TEMP_SUFFIX = "_tmp";
 
     private AutosaveUtilities() {
         throw new IllegalStateException("Utility class");
@@ -96,16 +97,40 @@ public final class AutosaveUtilities {
      * @param id The id of the graph from ReadableGraph.getId().
      */
     public static void deleteAutosave(final String id) {
+        AutosaveJournal.stop(id);
         final File dir = getAutosaveDir();
         final File f = new File(dir, id + FileExtensionConstants.STAR_AUTOSAVE);
         deleteAutosave(f);
     }
 
+    /**
+     * Get the journal file that goes with an autosaved graph.
+     *
+     * @param star The autosaved .star file.
+     *
+     * @return The matching .star_journal file, which may not exist.
+     */
+    public static File getJournalFile(final File star) {
+        return new File(star.getPath() + "_journal");
+    }
+
+    /**
+     * Get the temporary file that an autosave file is written to before it is
+     * moved into place.
+     *
+     * @param f The autosave file.
+     *
+     * @return The matching temporary file.
+     */
+    public static File getTempFile(final File f) {
+        return new File(f.getPath() + TEMP_SUFFIX);
+    }
+
     /**
      * Delete a pair of autosave files.
      * <p>
      * If the .star is given, the matching .star_auto will be deleted, and vice
-     * versa.
+     * versa. The matching .star_journal is deleted as well.
      *
      * @param f A .star or .star_auto to be deleted.
      */
@@ -118,10 +143,13 @@ public final class AutosaveUtilities {
         }
 
         String filepath = null;
+        String starpath = null;
         if (path.endsWith(FileExtensionConstants.STAR)) {
             filepath = path + "_auto";
+            starpath = path;
         } else if (path.endsWith(FileExtensionConstants.STAR_AUTOSAVE)) {
             filepath = path.substring(0, path.length() - 5);
+            starpath = filepath;
         }
 
         if (filepath != null) {
@@ -130,6 +158,12 @@ public final class AutosaveUtilities {
             } catch (final IOException ex) {
                 //TODO: Handle case where file not successfully deleted
             }
+
+            try {
+                Files.deleteIfExists(getJournalFile(new File(starpath)).toPath());
+            } catch (final IOException ex) {
+                //TODO: Handle case where file not successfully deleted
+            }
         }
     }
 
@@ -233,6 +267,28 @@ public final class AutosaveUtilities {
             }
         }
 
+        // Find .star_journal files without a .star.
+        for (final File journal : getAutosaves(FileExtensionConstants.STAR_JOURNAL)) {
+            final String journals = journal.getPath();
+            final File star = new File(journals.substring(0, journals.length() - 8));
+            if (!star.exists()) {
+                try {
+                    Files.delete(Path.of(journals));
+                } catch (final IOException ex) {
+                    //TODO: Handle case where file not successfully deleted
+                }
+            }
+        }
+
+        // Find temporary files left by an autosave that didn't finish.
+        for (final File temp : getAutosaves(TEMP_SUFFIX)) {
+            try {
+                Files.delete(Path.of(temp.getPath()));
+            } catch (final IOException ex) {
+                //TODO: Handle case where file not successfully deleted
+            }
+        }
+
         // Find .star_auto files without a .star.
         for (final File auto : getAutosaves(FileExtensionConstants.STAR_AUTOSAVE)) {
             final String autos = auto.getPath();
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.file.io;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.attribute.BooleanAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.StringAttributeDescription;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.utilities.gui.TextIoProgress;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test saving and loading graphs in the binary graph file format.
+ *
+ * @author sirius
+ */
+public class GraphBinaryNGTest {
+
+    private Graph graph;
+    private File graphFile;
+
+    private int vxId1;
+    private int vxId2;
+    private int vxId3;
+    private int txId1;
+    private int txId2;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        graphFile = File.createTempFile("binary", ".star");
+        graph = new DualGraph(null);
+        final WritableGraph wg = graph.getWritableGraph("add", true);
+        try {
+            final int attrX = wg.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "x", "x", 0.0F, null);
+            final int vNameAttr = wg.addAttribute(GraphElementType.VERTEX, StringAttributeDescription.ATTRIBUTE_NAME, "name", "descr", "", null);
+            final int vSelAttr = wg.addAttribute(GraphElementType.VERTEX, BooleanAttributeDescription.ATTRIBUTE_NAME, "selected", "selected", false, null);
+            final int tNameAttr = wg.addAttribute(GraphElementType.TRANSACTION, StringAttributeDescription.ATTRIBUTE_NAME, "name", "descr", "", null);
+            wg.setPrimaryKey(GraphElementType.VERTEX, vNameAttr);
+
+            vxId1 = wg.addVertex();
+            wg.setFloatValue(attrX, vxId1, 1.5F);
+            wg.setStringValue(vNameAttr, vxId1, "name1");
+            wg.setBooleanValue(vSelAttr, vxId1, true);
+
+            vxId2 = wg.addVertex();
+            wg.setFloatValue(attrX, vxId2, -2.5F);
+            wg.setStringValue(vNameAttr, vxId2, "name2");
+
+            vxId3 = wg.addVertex();
+            wg.setStringValue(vNameAttr, vxId3, null);
+
+            txId1 = wg.addTransaction(vxId1, vxId2, true);
+            wg.setStringValue(tNameAttr, txId1, "name1");
+
+            txId2 = wg.addTransaction(vxId2, vxId3, false);
+            wg.setStringValue(tNameAttr, txId2, "name1");
+        } finally {
+            wg.commit();
+        }
+    }
+
+    @AfterMethod
+    public void tearDownMethod() {
+        graph = null;
+        graphFile.delete();
+    }
+
+    /**
+     * The binary graph entry is stored uncompressed at the start of the file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBinaryEntryIsFirstAndStored() throws Exception {
+        System.out.println("testBinaryEntryIsFirstAndStored");
+
+        writeGraph(true);
+
+        try (final ZipInputStream zin = new ZipInputStream(new FileInputStream(graphFile))) {
+            final ZipEntry entry = zin.getNextEntry();
+            assertNotNull(entry);
+            assertEquals(entry.getName(), GraphFileConstants.BINARY_GRAPH_ENTRY);
+            assertEquals(entry.getMethod(), ZipEntry.STORED);
+        }
+        assertTrue(GraphBinaryReader.findLeadingStoredEntry(graphFile, GraphFileConstants.BINARY_GRAPH_ENTRY) > 0);
+    }
+
+    /**
+     * Graphs read from a binary graph file are the same as the graphs that
+     * were written.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testWriteReadBinaryGraph() throws Exception {
+        System.out.println("testWriteReadBinaryGraph");
+
+        writeGraph(true);
+        assertGraphRead(new GraphJsonReader().readGraphZip(graphFile, new TextIoProgress(false)));
+    }
+
+    /**
+     * Binary graph files can also be read from a stream rather than a file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testWriteReadBinaryGraphFromStream() throws Exception {
+        System.out.println("testWriteReadBinaryGraphFromStream");
+
+        writeGraph(true);
+        try (final InputStream in = new FileInputStream(graphFile)) {
+            assertGraphRead(new GraphJsonReader().readGraphZip(graphFile.getPath(), in, new TextIoProgress(false)));
+        }
+    }
+
+    /**
+     * Graphs can still be written and read in the JSON format.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testWriteReadJsonGraph() throws Exception {
+        System.out.println("testWriteReadJsonGraph");
+
+        writeGraph(false);
+        try (final ZipFile zipFile = new ZipFile(graphFile)) {
+            assertNotNull(zipFile.getEntry(GraphFileConstants.JSON_GRAPH_ENTRY));
+            assertNull(zipFile.getEntry(GraphFileConstants.BINARY_GRAPH_ENTRY));
+        }
+        assertEquals(GraphBinaryReader.findLeadingStoredEntry(graphFile, GraphFileConstants.BINARY_GRAPH_ENTRY), -1L);
+        assertGraphRead(new GraphJsonReader().readGraphZip(graphFile, new TextIoProgress(false)));
+    }
+
+    private void writeGraph(final boolean binaryFormat) throws Exception {
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            final GraphJsonWriter writer = new GraphJsonWriter();
+            writer.setBinaryFormat(binaryFormat);
+            assertTrue(writer.writeGraphToZip(rg, graphFile.getPath(), new TextIoProgress(false)));
+        }
+    }
+
+    private void assertGraphRead(final Graph readGraph) {
+        try (final ReadableGraph rg = readGraph.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), 3);
+            assertEquals(rg.getTransactionCount(), 2);
+
+            final int attrX = rg.getAttribute(GraphElementType.VERTEX, "x");
+            final int vNameAttr = rg.getAttribute(GraphElementType.VERTEX, "name");
+            final int vSelAttr = rg.getAttribute(GraphElementType.VERTEX, "selected");
+            final int tNameAttr = rg.getAttribute(GraphElementType.TRANSACTION, "name");
+
+            assertEquals(rg.getFloatValue(attrX, vxId1), 1.5F);
+            assertEquals(rg.getFloatValue(attrX, vxId2), -2.5F);
+            assertEquals(rg.getFloatValue(attrX, vxId3), 0.0F);
+            assertEquals(rg.getStringValue(vNameAttr, vxId1), "name1");
+            assertEquals(rg.getStringValue(vNameAttr, vxId2), "name2");
+            assertNull(rg.getStringValue(vNameAttr, vxId3));
+            assertTrue(rg.getBooleanValue(vSelAttr, vxId1));
+            assertFalse(rg.getBooleanValue(vSelAttr, vxId2));
+
+            assertEquals(rg.getTransactionSourceVertex(txId1), vxId1);
+            assertEquals(rg.getTransactionDestinationVertex(txId1), vxId2);
+            assertTrue(rg.getTransactionDirection(txId1) != Graph.UNDIRECTED);
+            assertEquals(rg.getTransactionSourceVertex(txId2), vxId2);
+            assertEquals(rg.getTransactionDestinationVertex(txId2), vxId3);
+            assertEquals(rg.getTransactionDirection(txId2), Graph.UNDIRECTED);
+            assertEquals(rg.getStringValue(tNameAttr, txId1), "name1");
+            assertEquals(rg.getStringValue(tNameAttr, txId2), "name1");
+
+            final int[] key = rg.getPrimaryKey(GraphElementType.VERTEX);
+            assertEquals(key.length, 1);
+            assertEquals(key[0], vNameAttr);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.file.save;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.attribute.StringAttributeDescription;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.utilities.gui.TextIoProgress;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import org.apache.commons.io.FileUtils;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test recovering autosaved graphs from a snapshot and a journal.
+ *
+ * @author sirius
+ */
+public class AutosaveJournalNGTest {
+
+    private File dir;
+    private File snapshotFile;
+    private File journalFile;
+    private DualGraph graph;
+
+    private int nameAttr;
+    private int vxId1;
+    private int vxId2;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        dir = Files.createTempDirectory("autosave").toFile();
+        snapshotFile = new File(dir, "graph.star");
+        journalFile = AutosaveUtilities.getJournalFile(snapshotFile);
+
+        graph = new DualGraph(null);
+        final WritableGraph wg = graph.getWritableGraph("add", true);
+        try {
+            nameAttr = wg.addAttribute(GraphElementType.VERTEX, StringAttributeDescription.ATTRIBUTE_NAME, "name", "descr", "", null);
+            vxId1 = wg.addVertex();
+            wg.setStringValue(nameAttr, vxId1, "name1");
+            vxId2 = wg.addVertex();
+            wg.setStringValue(nameAttr, vxId2, "name2");
+        } finally {
+            wg.commit();
+        }
+    }
+
+    @AfterMethod
+    public void tearDownMethod() throws Exception {
+        AutosaveJournal.stop(graph.getId());
+        graph = null;
+        FileUtils.deleteDirectory(dir);
+    }
+
+    /**
+     * The edits appended to a journal are replayed onto its snapshot.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRecover() throws Exception {
+        System.out.println("testRecover");
+
+        final AutosaveJournal journal = AutosaveJournal.create(graph, journalFile);
+        journal.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        assertEquals(AutosaveJournal.readGeneration(snapshotFile), Long.valueOf(journal.getGeneration()));
+        assertFalse(AutosaveUtilities.getTempFile(snapshotFile).exists());
+        assertFalse(AutosaveUtilities.getTempFile(journalFile).exists());
+
+        final int vxId3 = editGraph();
+        assertTrue(journal.hasPendingEdits());
+        assertTrue(journal.append());
+        assertTrue(journal.hasEntries());
+
+        final Graph recovered = AutosaveJournal.recover(snapshotFile, journalFile, new TextIoProgress(false));
+        try (final ReadableGraph rg = recovered.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), 3);
+            assertEquals(rg.getStringValue(nameAttr, vxId1), "renamed");
+            assertEquals(rg.getStringValue(nameAttr, vxId2), "name2");
+            assertEquals(rg.getStringValue(nameAttr, vxId3), "name3");
+        }
+    }
+
+    /**
+     * A journal is not replayed onto a snapshot with a different generation,
+     * as happens after a crash between moving a new snapshot into place and
+     * moving its journal into place.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRecoverGenerationMismatch() throws Exception {
+        System.out.println("testRecoverGenerationMismatch");
+
+        final AutosaveJournal journal1 = AutosaveJournal.create(graph, journalFile);
+        journal1.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        final int vxId3 = editGraph();
+        assertTrue(journal1.append());
+        final File oldJournalFile = new File(dir, "old_journal");
+        Files.copy(journalFile.toPath(), oldJournalFile.toPath());
+
+        final AutosaveJournal journal2 = AutosaveJournal.create(graph, journalFile);
+        journal2.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        assertNotEquals(journal2.getGeneration(), journal1.getGeneration());
+        Files.copy(oldJournalFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        final Graph recovered = AutosaveJournal.recover(snapshotFile, journalFile, new TextIoProgress(false));
+        try (final ReadableGraph rg = recovered.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), 3);
+            assertEquals(rg.getStringValue(nameAttr, vxId1), "renamed");
+            assertEquals(rg.getStringValue(nameAttr, vxId3), "name3");
+        }
+    }
+
+    /**
+     * Saving a new snapshot replaces the graph's journal, and the previous
+     * journal stops recording edits.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSaveSnapshotReplacesJournal() throws Exception {
+        System.out.println("testSaveSnapshotReplacesJournal");
+
+        final AutosaveJournal journal1 = AutosaveJournal.create(graph, journalFile);
+        journal1.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        assertSame(AutosaveJournal.getJournal(graph.getId()), journal1);
+
+        final AutosaveJournal journal2 = AutosaveJournal.create(graph, journalFile);
+        // The new journal records edits made while its snapshot is being saved.
+        editGraph();
+        assertSame(AutosaveJournal.getJournal(graph.getId()), journal1);
+        assertTrue(journal2.hasPendingEdits());
+
+        journal2.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        assertSame(AutosaveJournal.getJournal(graph.getId()), journal2);
+        assertNull(journal2.getSnapshot());
+        assertFalse(journal1.append());
+
+        assertTrue(journal2.append());
+        final Graph recovered = AutosaveJournal.recover(snapshotFile, journalFile, new TextIoProgress(false));
+        try (final ReadableGraph rg = recovered.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), 3);
+            assertEquals(rg.getStringValue(nameAttr, vxId1), "renamed");
+        }
+    }
+
+    /**
+     * Compacting replays the journal into the snapshot and deletes the
+     * journal.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompact() throws Exception {
+        System.out.println("testCompact");
+
+        final AutosaveJournal journal = AutosaveJournal.create(graph, journalFile);
+        journal.saveSnapshot(snapshotFile, new TextIoProgress(false));
+        final int vxId3 = editGraph();
+        assertTrue(journal.append());
+
+        AutosaveJournal.compact(snapshotFile, new TextIoProgress(false));
+        assertFalse(journalFile.exists());
+        assertNull(AutosaveJournal.readGeneration(snapshotFile));
+
+        final Graph recovered = AutosaveJournal.recover(snapshotFile, journalFile, new TextIoProgress(false));
+        try (final ReadableGraph rg = recovered.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), 3);
+            assertEquals(rg.getStringValue(nameAttr, vxId1), "renamed");
+            assertEquals(rg.getStringValue(nameAttr, vxId3), "name3");
+        }
+    }
+
+    private int editGraph() throws InterruptedException {
+        final WritableGraph wg = graph.getWritableGraph("edit", true);
+        try {
+            wg.setStringValue(nameAttr, vxId1, "renamed");
+            final int vxId3 = wg.addVertex();
+            wg.setStringValue(nameAttr, vxId3, "name3");
+            return vxId3;
+        } finally {
+            wg.commit();
+        }
+    }
+}
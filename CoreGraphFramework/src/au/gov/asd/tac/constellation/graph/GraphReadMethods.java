@@ -267,6 +267,41 @@ public interface GraphReadMethods extends GraphConstants {
      */
     long getValueModificationCounter(final int attribute);
 
+    /**
+     * Returns the value change sequence of this graph. Unlike the modification
+     * counters, this sequence never decreases, even when changes are undone.
+     * A reader can remember this sequence and later pass it to
+     * {@link #getChangedElements(int, long)} to find which elements have
+     * changed since, allowing it to update only those elements rather than
+     * every element of the graph.
+     * <p>
+     * The sequence is only meaningful when passed back to this graph or a
+     * later version of it, such as the next graph returned by
+     * {@link Graph#getReadableGraph()} on the same graph.
+     *
+     * @return the value change sequence of this graph.
+     */
+    long getValueChangeSequence();
+
+    /**
+     * Returns the ids of the elements whose value for the specified attribute
+     * has changed since the specified value change sequence. Only a bounded
+     * number of changes are remembered for each attribute, so if many elements
+     * have changed, or the changes happened in a way that is not tied to
+     * individual elements, null is returned and the caller should assume that
+     * every element has changed. Changes to the structure of the graph and its
+     * attributes are not tracked and should be detected using
+     * {@link #getStructureModificationCounter()} and
+     * {@link #getAttributeModificationCounter()}.
+     *
+     * @param attribute the attribute.
+     * @param sequence a sequence previously returned by
+     * {@link #getValueChangeSequence()}.
+     * @return the ids of the changed elements in ascending order, or null if
+     * they are not known.
+     */
+    int[] getChangedElements(final int attribute, final long sequence);
+
     /**
      * Creates a complete deep copy of the graph that has the same id as this
      * graph. The copy is represented by a GraphReadMethods object meaning that
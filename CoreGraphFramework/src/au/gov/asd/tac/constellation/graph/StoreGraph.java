@@ -29,6 +29,7 @@ import au.gov.asd.tac.constellation.graph.undo.GraphEdit;
 import au.gov.asd.tac.constellation.graph.value.readables.IntReadable;
 import au.gov.asd.tac.constellation.utilities.datastructure.IntHashSet;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import java.io.Serializable;
 import java.lang.ref.Cleaner;
 import java.lang.reflect.InvocationTargetException;
@@ -37,6 +38,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
@@ -68,18 +70,18 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
     private static final int[] CATEGORY_TO_STATE = new int[]{6, 4, 5, 1, 3, 7, 2};
     private static final int[] STATE_TO_CATEGORY = new int[]{-1, 3, 6, 4, 1, 2, 0, 5};
 
-    private final ElementStore vStore;
-    private final ElementStore lStore;
-    private final ElementStore eStore;
-    private final ElementStore tStore;
-    private final ElementStore aStore;
+    private ElementStore vStore;
+    private ElementStore lStore;
+    private ElementStore eStore;
+    private ElementStore tStore;
+    private ElementStore aStore;
 
-    private final ListStore vertexLinks;
-    private final ListStore linkTransactions;
-    private final ListStore vertexTransactions;
-    private final ListStore linkEdges;
-    private final ListStore vertexEdges;
-    private final ListStore typeAttributes;
+    private ListStore vertexLinks;
+    private ListStore linkTransactions;
+    private ListStore vertexTransactions;
+    private ListStore linkEdges;
+    private ListStore vertexEdges;
+    private ListStore typeAttributes;
 
     private int linkHashLength;
     private int linkHashMask;
@@ -93,6 +95,8 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
     private GraphIndex[] attributeIndices;
     private final Map<String, int[]> attributeNames;
     private long[] attributeModificationCounters;
+    private ValueChangeLog[] valueChangeLogs;
+    private long valueChangeSequence;
     private AttributeRegistry attributeRegistry;
     private long globalModificationCounter = 0;
     private long attributeModificationCounter = 0;
@@ -189,6 +193,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
         attributes = new GraphAttribute[attributeCapacity];
         attributeNames = new HashMap<>();
         attributeModificationCounters = new long[attributeCapacity];
+        valueChangeLogs = new ValueChangeLog[attributeCapacity];
 
         attributeIndices = new GraphIndex[attributeCapacity];
         Arrays.fill(attributeIndices, AttributeDescription.NULL_GRAPH_INDEX);
@@ -290,6 +295,62 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
         this.id = id;
         this.schema = schema;
 
+        this.attributeNames = new HashMap<>();
+        this.primaryKeys = new int[original.primaryKeys.length][];
+        this.primaryKeyIndices = new ElementKeySet[original.primaryKeyIndices.length];
+        this.graphElementMerger = schema == null ? null : schema.getFactory().getGraphElementMerger();
+        copyState(original);
+
+        // changes made to the original are not known by the copy
+        this.valueChangeLogs = new ValueChangeLog[original.valueChangeLogs.length];
+        for (int i = 0; i < valueChangeLogs.length; i++) {
+            if (original.valueChangeLogs[i] != null) {
+                valueChangeLogs[i] = new ValueChangeLog(false);
+            }
+        }
+        this.valueChangeSequence = ValueChangeLog.getLatestSequence();
+
+        MemoryManager.newObject(StoreGraph.class);
+        cleaner.register(this, cleanupAction);
+    }
+
+    /**
+     * Makes this StoreGraph an exact copy of another StoreGraph with the same
+     * schema, including its modification counters and value change logs. This
+     * is used to bring the reading graph of a
+     * {@link au.gov.asd.tac.constellation.graph.locking.DualGraph} up to date
+     * after a large edit, where copying the committed graph is cheaper than
+     * replaying the edit.
+     *
+     * @param source the StoreGraph to copy, which must not be modified while
+     * the copy is made.
+     */
+    @Override
+    public void copyFrom(final LockingTarget source) {
+        final StoreGraph original = (StoreGraph) source;
+        copyState(original);
+
+        // the copy has the same history as the original
+        this.valueChangeLogs = new ValueChangeLog[original.valueChangeLogs.length];
+        for (int i = 0; i < valueChangeLogs.length; i++) {
+            if (original.valueChangeLogs[i] != null) {
+                valueChangeLogs[i] = new ValueChangeLog(original.valueChangeLogs[i]);
+            }
+        }
+        this.valueChangeSequence = original.valueChangeSequence;
+    }
+
+    @Override
+    public long getCopyCost() {
+        // every element is copied once for its structure and once for each of its attributes
+        return (long) vStore.getCapacity() * (getAttributeCount(GraphElementType.VERTEX) + 1)
+                + (long) lStore.getCapacity() * (getAttributeCount(GraphElementType.LINK) + 1)
+                + (long) eStore.getCapacity() * (getAttributeCount(GraphElementType.EDGE) + 1)
+                + (long) tStore.getCapacity() * (getAttributeCount(GraphElementType.TRANSACTION) + 1)
+                + aStore.getCapacity();
+    }
+
+    private void copyState(final StoreGraph original) {
         this.vStore = new ElementStore(original.vStore);
         this.lStore = new ElementStore(original.lStore);
         this.eStore = new ElementStore(original.eStore);
@@ -330,21 +391,21 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             this.attributes[i] = ia != null ? new GraphAttribute(ia) : null;
         }
 
-        attributeNames = new HashMap<>();
+        attributeNames.clear();
         for (final Entry<String, int[]> e : original.attributeNames.entrySet()) {
             this.attributeNames.put(e.getKey(), Arrays.copyOf(e.getValue(), e.getValue().length));
         }
         this.attributeModificationCounters = Arrays.copyOf(original.attributeModificationCounters, original.attributeModificationCounters.length);
 
-        this.primaryKeys = new int[original.primaryKeys.length][];
         for (int i = 0; i < this.primaryKeys.length; i++) {
             this.primaryKeys[i] = Arrays.copyOf(original.primaryKeys[i], original.primaryKeys[i].length);
         }
 
         this.primaryKeyLookup = Arrays.copyOf(original.primaryKeyLookup, original.primaryKeyLookup.length);
-        this.primaryKeyIndices = new ElementKeySet[original.primaryKeyIndices.length];
+        this.removedFromKeys = new ElementList[GraphElementType.values().length];
         for (int i = 0; i < this.primaryKeyIndices.length; i++) {
             final ElementKeySet ks = original.primaryKeyIndices[i];
+            this.primaryKeyIndices[i] = null;
             if (ks != null) {
                 if (ks instanceof TransactionKeySet tks) {
                     this.primaryKeyIndices[i] = new TransactionKeySet(tks);
@@ -357,8 +418,6 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
 
         this.operationMode = original.operationMode;
 
-        graphElementMerger = schema == null ? null : schema.getFactory().getGraphElementMerger();
-
         this.attributeIndexTypes = new GraphIndexType[original.attributeIndexTypes.length];
         Arrays.fill(this.attributeIndexTypes, GraphIndexType.NONE);
         this.attributeIndices = new GraphIndex[original.attributeIndices.length];
@@ -370,9 +429,6 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
                 StoreGraph.this.setAttributeIndexType(attribute, original.attributeIndexTypes[attribute]);
             }
         }
-
-        MemoryManager.newObject(StoreGraph.class);
-        cleaner.register(this, cleanupAction);
     }
 
     @Override
@@ -390,6 +446,51 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
         attributeModificationCounters[attribute] = modificationCounter;
     }
 
+    /**
+     * Load the values of several attributes in bulk.
+     * <p>
+     * Each loader is given the {@link AttributeDescription} of its attribute
+     * and sets the values of the attribute's elements on it directly. The
+     * loaders are run in parallel on the shared fork-join pool, so each loader
+     * must only touch its own description. Because the values are not set through the graph, the
+     * per-value bookkeeping is done once per attribute afterwards: indices are
+     * rebuilt, the changed elements are removed from the primary key index,
+     * and the value change log is truncated.
+     * <p>
+     * This is intended for filling a newly built graph, such as one being read
+     * from a file, and cannot be used while edits are being recorded.
+     *
+     * @param loaders The loader for each attribute, keyed by attribute id.
+     *
+     * @throws IllegalStateException If edits are being recorded.
+     */
+    public void loadAttributeValues(final Map<Integer, Consumer<AttributeDescription>> loaders) {
+        if (graphEdit != null) {
+            throw new IllegalStateException("Attribute values cannot be loaded in bulk while edits are being recorded");
+        }
+
+        ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().submit(() -> loaders.entrySet().parallelStream()
+                .forEach(loader -> loader.getValue().accept(attributeDescriptions[loader.getKey()]))).join();
+
+        for (final int attribute : loaders.keySet()) {
+            if (attributeIndexTypes[attribute] != GraphIndexType.NONE) {
+                // every value may have changed so the index is rebuilt rather than updated
+                createAttributeIndex(attribute);
+            }
+            final int keyType = primaryKeyLookup[attribute];
+            if (keyType >= 0) {
+                final GraphElementType elementType = attributes[attribute].getElementType();
+                final int elementCount = elementType.getElementCount(this);
+                for (int i = 0; i < elementCount; i++) {
+                    removeFromIndex(keyType, elementType.getElement(this, i));
+                }
+            }
+            attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            valueChangeSequence = valueChangeLogs[attribute].truncate();
+            globalModificationCounter += operationMode.getModificationIncrement();
+        }
+    }
+
     @Override
     public long getModificationCounter() {
         return getGlobalModificationCounter();
@@ -555,6 +656,20 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
         return attributeModificationCounters[attribute];
     }
 
+    @Override
+    public long getValueChangeSequence() {
+        return valueChangeSequence;
+    }
+
+    @Override
+    public int[] getChangedElements(final int attribute, final long sequence) {
+        return valueChangeLogs[attribute].getChangedElements(sequence);
+    }
+
+    private void recordValueChange(final int attribute, final int id) {
+        valueChangeSequence = valueChangeLogs[attribute].record(id, attributes[attribute].getElementType().getElementCount(this));
+    }
+
     @Override
     public int getVertexCapacity() {
         return vStore.getCapacity();
@@ -1380,6 +1495,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions = Arrays.copyOf(attributeDescriptions, aStore.getCapacity());
             attributes = Arrays.copyOf(attributes, aStore.getCapacity());
             attributeModificationCounters = Arrays.copyOf(attributeModificationCounters, aStore.getCapacity());
+            valueChangeLogs = Arrays.copyOf(valueChangeLogs, aStore.getCapacity());
 
             attributeIndices = Arrays.copyOf(attributeIndices, aStore.getCapacity());
             Arrays.fill(attributeIndices, oldAttributeCapacity, aStore.getCapacity(), AttributeDescription.NULL_GRAPH_INDEX);
@@ -1515,6 +1631,30 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
     @Override
     public int addAttribute(final GraphElementType elementType, final String attributeType, final String label,
             final String description, final Object defaultValue, final String attributeMergerId) {
+        return addAttribute(elementType, attributeType, label, description, defaultValue, attributeMergerId, NOT_FOUND);
+    }
+
+    /**
+     * Add a new attribute to the graph with a specified id.
+     * <p>
+     * This is the same as
+     * {@link #addAttribute(GraphElementType, String, String, String, Object, String)}
+     * except that the new attribute will be given the specified id if it is
+     * not already in use, so that a graph can be rebuilt with the same
+     * attribute ids as the graph it was saved from.
+     *
+     * @param elementType the element type of the attribute.
+     * @param attributeType the type of the attribute.
+     * @param label the label of the attribute.
+     * @param description a description of the attribute.
+     * @param defaultValue the default value for the attribute.
+     * @param attributeMergerId the id of the merger for the attribute.
+     * @param attribute the id to give the attribute, or a negative value to
+     * allocate the next available id.
+     * @return the id of the attribute.
+     */
+    public int addAttribute(final GraphElementType elementType, final String attributeType, final String label,
+            final String description, final Object defaultValue, final String attributeMergerId, final int attribute) {
         final Class<? extends AttributeDescription> dataType = attributeRegistry.getAttributes().get(attributeType);
         if (dataType == null) {
             throw new IllegalArgumentException("No attribute description found for attribute type: " + attributeType);
@@ -1530,9 +1670,9 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
 
         int[] existingAttributes = attributeNames.get(label);
         if (existingAttributes != null && existingAttributes[elementType.ordinal()] >= 0) {
-            final int attribute = existingAttributes[elementType.ordinal()];
-            if (attributes[attribute].getAttributeType().equals(attributeType)) {
-                return attribute;
+            final int existingAttribute = existingAttributes[elementType.ordinal()];
+            if (attributes[existingAttribute].getAttributeType().equals(attributeType)) {
+                return existingAttribute;
             }
             throw new IllegalArgumentException("Attempt to create a " + elementType + " attribute with a duplicate label: " + label);
         }
@@ -1557,15 +1697,23 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             throw new IllegalStateException(msg, ex);
         }
 
-        ensureAttributeCapacity(aStore.getCount() + 1);
+        final int attributeId;
+        if (attribute < 0 || aStore.elementExists(attribute)) {
+            ensureAttributeCapacity(aStore.getCount() + 1);
+            attributeId = aStore.add();
+        } else {
+            ensureAttributeCapacity(Math.max(aStore.getCount(), attribute) + 1);
+            aStore.add(attribute);
+            attributeId = attribute;
+        }
 
         attributeModificationCounter += operationMode.getModificationIncrement();
         globalModificationCounter += operationMode.getModificationIncrement();
 
-        final int attributeId = aStore.add();
         aStore.setUID(attributeId, globalModificationCounter);
 
         attributeModificationCounters[attributeId] = 0;
+        valueChangeLogs[attributeId] = new ValueChangeLog(true);
 
         typeAttributes.addElement(elementType.ordinal(), attributeId, 0);
 
@@ -1788,6 +1936,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].clear(id);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1803,6 +1952,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1818,6 +1968,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setByte(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1833,6 +1984,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1848,6 +2000,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setShort(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1863,6 +2016,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1878,6 +2032,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setInt(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1893,6 +2048,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1908,6 +2064,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setLong(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1923,6 +2080,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1938,6 +2096,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setFloat(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1953,6 +2112,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1968,6 +2128,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setDouble(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -1983,6 +2144,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -1998,6 +2160,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setBoolean(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -2013,6 +2176,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -2029,6 +2193,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setChar(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -2044,6 +2209,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -2059,6 +2225,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setString(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -2074,6 +2241,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -2089,6 +2257,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             attributeDescriptions[attribute].setObject(id, value);
             attributeIndices[attribute].updateElement(id);
             attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+            recordValueChange(attribute, id);
             globalModificationCounter += operationMode.getModificationIncrement();
             final int keyType = primaryKeyLookup[attribute];
             if (keyType >= 0) {
@@ -2104,6 +2273,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             if (nativeType.addEdit(this, graphEdit, attribute, id, oldValue)) {
                 attributeIndices[attribute].updateElement(id);
                 attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+                recordValueChange(attribute, id);
                 globalModificationCounter += operationMode.getModificationIncrement();
                 final int keyType = primaryKeyLookup[attribute];
                 if (keyType >= 0) {
@@ -2280,6 +2450,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
     protected void restore(final int attribute, final int id, final ParameterReadAccess access) {
         attributeDescriptions[attribute].restore(id, access);
         attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+        recordValueChange(attribute, id);
         globalModificationCounter += operationMode.getModificationIncrement();
     }
 
@@ -2289,7 +2460,12 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
 
     protected void restoreData(final int attribute, final Object savedData) {
         attributeDescriptions[attribute].restoreData(savedData);
+        if (attributeIndexTypes[attribute] != GraphIndexType.NONE) {
+            // every value may have changed so the index is rebuilt rather than updated
+            createAttributeIndex(attribute);
+        }
         attributeModificationCounters[attribute] += operationMode.getModificationIncrement();
+        valueChangeSequence = valueChangeLogs[attribute].truncate();
         globalModificationCounter += operationMode.getModificationIncrement();
     }
 
@@ -2327,14 +2503,7 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
             final AttributeDescription attributeDescription = attributeDescriptions[attribute];
             if (attributeDescription.supportsIndexType(indexType)) {
                 attributeIndexTypes[attribute] = indexType;
-                final GraphIndex index = attributeIndices[attribute] = attributeDescription.createIndex(indexType);
-
-                final GraphElementType elementType = attributes[attribute].getElementType();
-                final int elementCount = elementType.getElementCount(this);
-                for (int i = 0; i < elementCount; i++) {
-                    final int element = elementType.getElement(this, i);
-                    index.addElement(element);
-                }
+                createAttributeIndex(attribute);
 
                 if (graphEdit != null) {
                     graphEdit.setAttributeIndexType(attribute, oldIndexType, indexType);
@@ -2343,6 +2512,17 @@ public class StoreGraph extends LockingTarget implements GraphWriteMethods, Seri
         }
     }
 
+    private void createAttributeIndex(final int attribute) {
+        final GraphIndex index = attributeIndices[attribute] = attributeDescriptions[attribute].createIndex(attributeIndexTypes[attribute]);
+
+        final GraphElementType elementType = attributes[attribute].getElementType();
+        final int elementCount = elementType.getElementCount(this);
+        for (int i = 0; i < elementCount; i++) {
+            final int element = elementType.getElement(this, i);
+            index.addElement(element);
+        }
+    }
+
     public AttributeRegistry getAttributeRegistry() {
         return attributeRegistry;
     }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded log of the elements whose value has changed for a single
+ * attribute.
+ * <p>
+ * Every change is stamped with a value change sequence number drawn from a
+ * single counter shared by all graphs. Unlike the modification counters, this
+ * sequence only ever increases, even when changes are undone, so a reader can
+ * remember the sequence at which it last looked at a graph and later ask for
+ * the elements that have changed since then. Because the counter is shared,
+ * the sequence remembered from one graph can also be used to query the other
+ * graph of a {@link au.gov.asd.tac.constellation.graph.locking.DualGraph}.
+ * <p>
+ * Once the log grows past its limit it is truncated, and any query for changes
+ * from before the truncation returns null, telling the reader that it must
+ * assume that every element has changed.
+ *
+ * @author sirius
+ */
+final class ValueChangeLog {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    // the smallest limit, so that small graphs are not truncated after only a few changes
+    private static final int MINIMUM_LIMIT = 64;
+
+    // the log is truncated once it holds more changes than 1 / LIMIT_DIVISOR of the elements
+    private static final int LIMIT_DIVISOR = 8;
+
+    private int[] elements = new int[0];
+    private long[] sequences = new long[0];
+    private int size = 0;
+    private long start;
+
+    /**
+     * Creates a new empty ValueChangeLog.
+     *
+     * @param complete true if the attribute has just been created, so that
+     * there are no earlier changes, or false if changes made before the log
+     * was created are unknown.
+     */
+    ValueChangeLog(final boolean complete) {
+        start = complete ? Long.MIN_VALUE : SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Creates a new ValueChangeLog holding the same changes as the specified
+     * original ValueChangeLog.
+     *
+     * @param original the ValueChangeLog to copy.
+     */
+    ValueChangeLog(final ValueChangeLog original) {
+        this.elements = Arrays.copyOf(original.elements, original.size);
+        this.sequences = Arrays.copyOf(original.sequences, original.size);
+        this.size = original.size;
+        this.start = original.start;
+    }
+
+    /**
+     * Returns the latest value change sequence number issued to any log.
+     *
+     * @return the latest value change sequence number.
+     */
+    static long getLatestSequence() {
+        return SEQUENCE.get();
+    }
+
+    /**
+     * Records a change to the value of an element.
+     *
+     * @param element the id of the element whose value has changed.
+     * @param elementCount the number of elements of the attribute's element
+     * type, used to decide when the log is too large to be useful.
+     * @return the sequence number of the change.
+     */
+    long record(final int element, final int elementCount) {
+        if (size >= Math.max(MINIMUM_LIMIT, elementCount / LIMIT_DIVISOR)) {
+            return truncate();
+        }
+
+        if (size == elements.length) {
+            final int capacity = Math.max(16, size * 2);
+            elements = Arrays.copyOf(elements, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+        }
+
+        final long sequence = SEQUENCE.incrementAndGet();
+        elements[size] = element;
+        sequences[size++] = sequence;
+        return sequence;
+    }
+
+    /**
+     * Forgets every change recorded so far. This is used when the values of an
+     * attribute change in a way that is not tied to individual elements.
+     *
+     * @return the sequence number of the truncation.
+     */
+    long truncate() {
+        size = 0;
+        start = SEQUENCE.incrementAndGet();
+        return start;
+    }
+
+    /**
+     * Returns the ids of the elements whose value has changed since the given
+     * sequence number, in ascending order and without duplicates.
+     *
+     * @param sequence a sequence number previously returned by
+     * {@link StoreGraph#getValueChangeSequence()}.
+     * @return the ids of the changed elements, or null if the changes since
+     * that sequence are no longer known.
+     */
+    int[] getChangedElements(final long sequence) {
+        if (sequence < start) {
+            return null;
+        }
+
+        // the sequences are recorded in increasing order
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sequences[middle] <= sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        final int[] changed = Arrays.copyOfRange(elements, low, size);
+        if (changed.length < 2) {
+            return changed;
+        }
+        Arrays.sort(changed);
+        int distinct = 1;
+        for (int i = 1; i < changed.length; i++) {
+            if (changed[i] != changed[distinct - 1]) {
+                changed[distinct++] = changed[i];
+            }
+        }
+        return distinct == changed.length ? changed : Arrays.copyOf(changed, distinct);
+    }
+}
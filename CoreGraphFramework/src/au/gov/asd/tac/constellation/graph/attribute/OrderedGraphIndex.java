@@ -0,0 +1,364 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.attribute;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphIndex;
+import au.gov.asd.tac.constellation.graph.GraphIndexResult;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link GraphIndex} that keeps the elements of an attribute sorted by their
+ * value so that both exact and range queries can be answered with a binary
+ * search.
+ * <p>
+ * Values are compared through a primitive long key. Attribute descriptions
+ * provide a function that returns the key of an element's current value and a
+ * function that converts a query value into a key; both must order keys in the
+ * same way as the values they represent. Where a key can't hold the full value,
+ * such as a datetime keyed by its millisecond, distinct values may share a key
+ * and an {@link ElementComparator} gives their exact order: elements whose key
+ * equals the key of a query bound are checked against it.
+ * <p>
+ * Additions, removals and updates only mark the element as dirty. The sorted
+ * arrays are brought up to date on the next query by dropping the stale
+ * entries of the dirty elements, sorting the dirty elements and merging them
+ * back in, so a batch of changes costs a single pass over the index no matter
+ * how many elements changed. Query results are copied out of the index, so
+ * later changes to the graph don't affect results that are still being read.
+ *
+ * @author sirius
+ */
+public final class OrderedGraphIndex implements GraphIndex {
+
+    private final IntToLongFunction elementKey;
+    private final ToLongFunction<Object> valueKey;
+    private final ElementComparator exactComparator;
+
+    private boolean[] present;
+    private boolean[] dirty;
+    private int[] dirtyElements = new int[16];
+    private int dirtyCount = 0;
+
+    // the indexed elements and their keys, sorted by key and then by element
+    private int[] ids = new int[0];
+    private long[] keys = new long[0];
+    private int size = 0;
+
+    /**
+     * Creates a new OrderedGraphIndex.
+     *
+     * @param capacity the current element capacity of the attribute.
+     * @param elementKey a function returning the key of the current value of
+     * an element.
+     * @param valueKey a function returning the key of a value passed to a
+     * query. A null value passed to a range query is never converted as it
+     * means that the range is unbounded at that end.
+     */
+    public OrderedGraphIndex(final int capacity, final IntToLongFunction elementKey, final ToLongFunction<Object> valueKey) {
+        this(capacity, elementKey, valueKey, null);
+    }
+
+    /**
+     * Creates a new OrderedGraphIndex whose keys only order values
+     * approximately.
+     *
+     * @param capacity the current element capacity of the attribute.
+     * @param elementKey a function returning the key of the current value of
+     * an element.
+     * @param valueKey a function returning the key of a value passed to a
+     * query.
+     * @param exactComparator a comparator giving the exact order of elements
+     * and query values that share a key, or null if keys are exact.
+     */
+    public OrderedGraphIndex(final int capacity, final IntToLongFunction elementKey, final ToLongFunction<Object> valueKey, final ElementComparator exactComparator) {
+        this.elementKey = elementKey;
+        this.valueKey = valueKey;
+        this.exactComparator = exactComparator;
+        this.present = new boolean[capacity];
+        this.dirty = new boolean[capacity];
+    }
+
+    /**
+     * Returns a long key that orders double values in the same way as
+     * {@link Double#compare}.
+     *
+     * @param value the double value.
+     * @return a key for the value.
+     */
+    public static long getDoubleKey(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    @Override
+    public void addElement(final int element) {
+        present[element] = true;
+        markDirty(element);
+    }
+
+    @Override
+    public void removeElement(final int element) {
+        present[element] = false;
+        markDirty(element);
+    }
+
+    @Override
+    public void updateElement(final int element) {
+        markDirty(element);
+    }
+
+    @Override
+    public GraphIndexResult getElementsWithAttributeValue(final Object value) {
+        final Bound bound = new Bound(valueKey.applyAsLong(value), value, false);
+        return getResult(bound, bound);
+    }
+
+    @Override
+    public GraphIndexResult getElementsWithAttributeValueRange(final Object start, final Object end) {
+        final Bound startBound = start == null ? null : new Bound(valueKey.applyAsLong(start), start, false);
+        final Bound endBound = end == null ? null : new Bound(valueKey.applyAsLong(end), end, true);
+        return getResult(startBound, endBound);
+    }
+
+    @Override
+    public void expandCapacity(final int newCapacity) {
+        present = Arrays.copyOf(present, newCapacity);
+        dirty = Arrays.copyOf(dirty, newCapacity);
+    }
+
+    private void markDirty(final int element) {
+        if (!dirty[element]) {
+            dirty[element] = true;
+            if (dirtyCount == dirtyElements.length) {
+                dirtyElements = Arrays.copyOf(dirtyElements, dirtyCount * 2);
+            }
+            dirtyElements[dirtyCount++] = element;
+        }
+    }
+
+    /**
+     * Returns the elements between the specified bounds, where a null bound
+     * means that the range is unbounded at that end.
+     */
+    private GraphIndexResult getResult(final Bound start, final Bound end) {
+        // several readers may share a graph so they must not update the index at the same time
+        synchronized (this) {
+            update();
+
+            // with an exact comparator, elements sharing a bound's key are checked individually
+            final int from = start == null ? 0 : findPosition(start.key(), start.exclusive() && exactComparator == null);
+            final int to = end == null ? size : Math.max(from, findPosition(end.key(), !end.exclusive() || exactComparator != null));
+            if (exactComparator == null) {
+                return new IndexResult(Arrays.copyOfRange(ids, from, to));
+            }
+
+            final int[] result = new int[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (isAfter(ids[i], keys[i], start) && isBefore(ids[i], keys[i], end)) {
+                    result[count++] = ids[i];
+                }
+            }
+            return new IndexResult(count == result.length ? result : Arrays.copyOf(result, count));
+        }
+    }
+
+    private boolean isAfter(final int element, final long key, final Bound start) {
+        if (start == null || key != start.key()) {
+            return true;
+        }
+        final int comparison = exactComparator.compare(element, start.value());
+        return comparison > 0 || (comparison == 0 && !start.exclusive());
+    }
+
+    private boolean isBefore(final int element, final long key, final Bound end) {
+        if (end == null || key != end.key()) {
+            return true;
+        }
+        final int comparison = exactComparator.compare(element, end.value());
+        return comparison < 0 || (comparison == 0 && !end.exclusive());
+    }
+
+    /**
+     * Returns the position of the first key greater than the specified key,
+     * or greater than or equal to it if it is not exclusive.
+     */
+    private int findPosition(final long key, final boolean exclusive) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (keys[middle] < key || (exclusive && keys[middle] == key)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void update() {
+        if (dirtyCount == 0) {
+            return;
+        }
+
+        // drop the entries of the dirty elements as their keys may be stale
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            final int id = ids[i];
+            if (!dirty[id]) {
+                ids[kept] = id;
+                keys[kept++] = keys[i];
+            }
+        }
+
+        // collect the dirty elements that are still present along with their current keys
+        int[] addedIds = new int[dirtyCount];
+        long[] addedKeys = new long[dirtyCount];
+        int addedCount = 0;
+        for (int i = 0; i < dirtyCount; i++) {
+            final int element = dirtyElements[i];
+            dirty[element] = false;
+            if (present[element]) {
+                addedIds[addedCount] = element;
+                addedKeys[addedCount++] = elementKey.applyAsLong(element);
+            }
+        }
+        dirtyCount = 0;
+        if (dirtyElements.length > 16 && dirtyElements.length > present.length / 4) {
+            dirtyElements = new int[16];
+        }
+
+        sort(addedIds, addedKeys, addedCount);
+
+        // merge from the back so that the existing entries can be shifted in place
+        final int newSize = kept + addedCount;
+        if (newSize > ids.length) {
+            final int capacity = Math.max(newSize, Math.min(ids.length * 2, present.length));
+            ids = Arrays.copyOf(ids, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        int i = kept - 1;
+        int j = addedCount - 1;
+        int k = newSize - 1;
+        while (j >= 0) {
+            if (i >= 0 && compare(keys[i], ids[i], addedKeys[j], addedIds[j]) > 0) {
+                ids[k] = ids[i];
+                keys[k--] = keys[i--];
+            } else {
+                ids[k] = addedIds[j];
+                keys[k--] = addedKeys[j--];
+            }
+        }
+        size = newSize;
+    }
+
+    private static int compare(final long key1, final int id1, final long key2, final int id2) {
+        final int result = Long.compare(key1, key2);
+        return result != 0 ? result : Integer.compare(id1, id2);
+    }
+
+    /**
+     * Sorts the first count entries of the parallel id and key arrays by key
+     * and then by id using a bottom-up merge sort.
+     */
+    private static void sort(final int[] ids, final long[] keys, final int count) {
+        int[] sourceIds = ids;
+        long[] sourceKeys = keys;
+        int[] targetIds = new int[count];
+        long[] targetKeys = new long[count];
+
+        for (int width = 1; width < count; width *= 2) {
+            for (int start = 0; start < count; start += 2 * width) {
+                final int middle = Math.min(start + width, count);
+                final int end = Math.min(start + 2 * width, count);
+                int i = start;
+                int j = middle;
+                for (int k = start; k < end; k++) {
+                    if (j >= end || (i < middle && compare(sourceKeys[i], sourceIds[i], sourceKeys[j], sourceIds[j]) <= 0)) {
+                        targetIds[k] = sourceIds[i];
+                        targetKeys[k] = sourceKeys[i++];
+                    } else {
+                        targetIds[k] = sourceIds[j];
+                        targetKeys[k] = sourceKeys[j++];
+                    }
+                }
+            }
+            final int[] swapIds = sourceIds;
+            sourceIds = targetIds;
+            targetIds = swapIds;
+            final long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+        }
+
+        if (sourceIds != ids) {
+            System.arraycopy(sourceIds, 0, ids, 0, count);
+            System.arraycopy(sourceKeys, 0, keys, 0, count);
+        }
+    }
+
+    /**
+     * Compares the value of an element with a value passed to a query.
+     */
+    @FunctionalInterface
+    public interface ElementComparator {
+
+        /**
+         * Compares the current value of an element with a query value.
+         *
+         * @param element the element.
+         * @param value the query value.
+         * @return a negative number, zero or a positive number as the value of
+         * the element is less than, equal to or greater than the query value.
+         */
+        int compare(final int element, final Object value);
+    }
+
+    /**
+     * One end of a query, being the key of the query value and the value
+     * itself.
+     */
+    private record Bound(long key, Object value, boolean exclusive) {
+
+    }
+
+    private static class IndexResult implements GraphIndexResult {
+
+        private final int[] ids;
+        private int position = 0;
+
+        public IndexResult(final int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public int getCount() {
+            return ids.length - position;
+        }
+
+        @Override
+        public int getNextElement() {
+            if (position == ids.length) {
+                return Graph.NOT_FOUND;
+            }
+            return ids[position++];
+        }
+    }
+}
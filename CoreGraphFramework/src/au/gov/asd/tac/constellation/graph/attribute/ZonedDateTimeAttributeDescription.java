@@ -15,6 +15,8 @@
  */
 package au.gov.asd.tac.constellation.graph.attribute;
 
+import au.gov.asd.tac.constellation.graph.GraphIndex;
+import au.gov.asd.tac.constellation.graph.GraphIndexType;
 import au.gov.asd.tac.constellation.utilities.temporal.TemporalConstants;
 import au.gov.asd.tac.constellation.utilities.temporal.TemporalFormatting;
 import au.gov.asd.tac.constellation.utilities.temporal.TimeZoneUtilities;
@@ -147,4 +149,39 @@ public final class ZonedDateTimeAttributeDescription extends AbstractObjectAttri
     public int hashCode(final int id) {
         return data[id] == null ? 0 : ((ZonedDateTime) data[id]).toInstant().hashCode();
     }
+
+    @Override
+    public boolean supportsIndexType(final GraphIndexType indexType) {
+        return true;
+    }
+
+    @Override
+    public GraphIndex createIndex(final GraphIndexType indexType) {
+        return indexType == GraphIndexType.NONE ? NULL_GRAPH_INDEX
+                : new OrderedGraphIndex(data.length, id -> getKey(data[id]), value -> getKey(convertFromObject(value)),
+                        (id, value) -> compareValues(data[id], convertFromObject(value)));
+    }
+
+    /**
+     * Returns the key used to order ZonedDateTime values in an index, being the
+     * number of milliseconds since the epoch, with null values ordered first.
+     * Values within the same millisecond share a key, and are told apart by
+     * {@link #compareValues(Object, Object)}.
+     */
+    private static long getKey(final Object value) {
+        return value == null ? Long.MIN_VALUE : ((ZonedDateTime) value).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Compares two ZonedDateTime values exactly, with null values ordered first.
+     */
+    private static int compareValues(final Object value1, final Object value2) {
+        if (value1 == null) {
+            return value2 == null ? 0 : -1;
+        }
+        if (value2 == null) {
+            return 1;
+        }
+        return ((ZonedDateTime) value1).toInstant().compareTo(((ZonedDateTime) value2).toInstant());
+    }
 }
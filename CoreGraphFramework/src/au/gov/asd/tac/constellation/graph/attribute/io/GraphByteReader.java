@@ -18,9 +18,12 @@ package au.gov.asd.tac.constellation.graph.attribute.io;
 import au.gov.asd.tac.constellation.utilities.stream.ExtendedBuffer;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 /**
@@ -54,6 +57,32 @@ public class GraphByteReader {
         }
     }
 
+    /**
+     * Read the entries of a zip file, other than the given excluded entries.
+     * <p>
+     * This allows a large entry that is read separately (for example by
+     * mapping it into memory) to be left out rather than being copied.
+     *
+     * @param zipFile The zip file to read the entries of.
+     * @param excludedEntries The names of the entries not to read.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public GraphByteReader(final ZipFile zipFile, final Set<String> excludedEntries) throws IOException {
+        for (final ZipEntry entry : Collections.list(zipFile.entries())) {
+            if (entry.isDirectory() || excludedEntries.contains(entry.getName())) {
+                continue;
+            }
+            final ExtendedBuffer out = new ExtendedBuffer(1 << 16);
+            try (final InputStream in = zipFile.getInputStream(entry)) {
+                GraphByteWriter.copy(in, out.getOutputStream());
+                contents.put(entry.getName(), out);
+            } finally {
+                out.getOutputStream().close();
+            }
+        }
+    }
+
     /**
      * Read the data from the specified file in the zip file and return a byte
      * array.
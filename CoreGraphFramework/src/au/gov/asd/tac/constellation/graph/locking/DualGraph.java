@@ -110,6 +110,7 @@ public class DualGraph implements Graph, Serializable {
         MemoryManager.newObject(DualGraph.class);
         // Setup cleaner
         cleaner.register(this, cleanupAction);
+        cleaner.register(this, lockingManager.getUndoSpillFile()::close);
     }
 
     public DualGraph(final Schema schema, final StoreGraph target) {
@@ -142,6 +143,7 @@ public class DualGraph implements Graph, Serializable {
         MemoryManager.newObject(DualGraph.class);
         // Setup cleaner
         cleaner.register(this, cleanupAction);
+        cleaner.register(this, lockingManager.getUndoSpillFile()::close);
     }
 
     @Override
@@ -177,6 +179,20 @@ public class DualGraph implements Graph, Serializable {
         return lockingManager.startReading();
     }
 
+    /**
+     * Get a read lock on this graph and register a listener for every edit
+     * applied after the state that can be read, with no edits in between.
+     *
+     * @param listener the listener to register.
+     * @return the readable graph, which must be released as usual.
+     * @throws InterruptedException if interrupted while waiting for a writer
+     * to finish.
+     * @see LockingManager#startReading(GraphEditListener)
+     */
+    public ReadableGraph getReadableGraph(final GraphEditListener listener) throws InterruptedException {
+        return lockingManager.startReading(listener);
+    }
+
     @Override
     public WritableGraph getWritableGraph(final String name, final boolean significant) throws InterruptedException {
         return getWritableGraph(name, significant, null);
@@ -211,4 +227,49 @@ public class DualGraph implements Graph, Serializable {
     public void setUndoManager(final UndoManager undoManager) {
         lockingManager.setUndoManager(undoManager);
     }
+
+    /**
+     * Register a listener to be told about every edit applied to this graph.
+     *
+     * @param listener the listener to register.
+     * @see LockingManager#addGraphEditListener(GraphEditListener)
+     */
+    public void addGraphEditListener(final GraphEditListener listener) {
+        lockingManager.addGraphEditListener(listener);
+    }
+
+    public void removeGraphEditListener(final GraphEditListener listener) {
+        lockingManager.removeGraphEditListener(listener);
+    }
+
+    /**
+     * Set the number of bytes that the undo history of this graph may hold in
+     * memory before older edits are spilled to disk.
+     *
+     * @param undoMemoryBudget the undo memory budget in bytes.
+     * @see LockingManager#setUndoMemoryBudget(long)
+     */
+    public void setUndoMemoryBudget(final long undoMemoryBudget) {
+        lockingManager.setUndoMemoryBudget(undoMemoryBudget);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory held by the undo
+     * history of this graph.
+     *
+     * @return the undo memory in bytes.
+     */
+    public long getUndoMemory() {
+        return lockingManager.getUndoMemory();
+    }
+
+    /**
+     * Returns the number of bytes of the undo history of this graph that have
+     * been spilled to disk.
+     *
+     * @return the spilled undo memory in bytes.
+     */
+    public long getSpilledUndoMemory() {
+        return lockingManager.getSpilledUndoMemory();
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.locking;
+
+import au.gov.asd.tac.constellation.graph.undo.UndoGraphEdit;
+
+/**
+ * A GraphEditListener is registered against a {@link DualGraph} and is told
+ * about every edit that changes the graph, in the order the edits were made.
+ * <p>
+ * Replaying the edits in order on a copy of the graph taken when the listener
+ * was registered will bring the copy up to date with the graph: committed and
+ * redone edits are executed, and undone edits are undone. Replayed edits
+ * should be executed in {@link GraphOperationMode#REDO} mode and undone in
+ * {@link GraphOperationMode#UNDO} mode, because each edit already includes
+ * the changes that were made as a side effect of its operations.
+ *
+ * @author sirius
+ */
+public interface GraphEditListener {
+
+    /**
+     * This method is called while the graph's write lock is still held, so it
+     * should do no more than take note of the edit. The edit is finished and
+     * will not change.
+     *
+     * @param edit the edit that was applied to the graph.
+     * @param undone true if the edit was undone, false if it was executed.
+     */
+    public void editApplied(final UndoGraphEdit edit, final boolean undone);
+}
@@ -20,9 +20,14 @@ import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.reporting.UndoRedoReport;
 import au.gov.asd.tac.constellation.graph.reporting.UndoRedoReportManager;
 import au.gov.asd.tac.constellation.graph.undo.UndoGraphEdit;
+import au.gov.asd.tac.constellation.graph.undo.UndoSpillFile;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
@@ -56,9 +61,23 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
     private LockingEdit currentEdit = null;
     private LockingEdit initialEdit = null;
     private UndoManager undoManager;
+    private final List<GraphEditListener> editListeners = new CopyOnWriteArrayList<>();
     public static final String UNDO = "Undo";
     public static final String REDO = "Redo";
 
+    /**
+     * The default number of bytes that the undo history of a graph may hold in
+     * memory before older edits are spilled to disk.
+     */
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    // The undoable edits whose state is in memory, least recently used first.
+    private final Deque<LockingEdit> undoHistory = new ArrayDeque<>();
+    // Created when first needed, as it isn't kept when the manager is serialised.
+    private transient UndoSpillFile undoSpillFile = null;
+    private long undoMemoryBudget = DEFAULT_UNDO_MEMORY_BUDGET;
+    private long undoMemory = 0;
+
     public void setTargets(final T targetA, final T targetB) {
         a = readContext = new Context(targetA);
         b = writeContext = new Context(targetB);
@@ -70,6 +89,159 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
         this.undoManager = undoManager;
     }
 
+    /**
+     * Register a listener to be told about every edit applied to the targets
+     * from now on.
+     * <p>
+     * To be sure that no edits are missed between taking a copy of the graph
+     * and registering the listener, use {@link #startReading(GraphEditListener)}
+     * instead.
+     *
+     * @param listener the listener to register.
+     */
+    public void addGraphEditListener(final GraphEditListener listener) {
+        if (listener != null && !editListeners.contains(listener)) {
+            editListeners.add(listener);
+        }
+    }
+
+    public void removeGraphEditListener(final GraphEditListener listener) {
+        editListeners.remove(listener);
+    }
+
+    /**
+     * Set the number of bytes that the undo history may hold in memory. When
+     * the history grows past this budget, the least recently used edits are
+     * written to a temporary file and read back when they are undone or
+     * redone. The new budget takes effect from the next commit.
+     *
+     * @param undoMemoryBudget the undo memory budget in bytes.
+     */
+    public void setUndoMemoryBudget(final long undoMemoryBudget) {
+        synchronized (undoHistory) {
+            this.undoMemoryBudget = undoMemoryBudget;
+        }
+    }
+
+    public long getUndoMemoryBudget() {
+        synchronized (undoHistory) {
+            return undoMemoryBudget;
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory held by the undo
+     * history.
+     *
+     * @return the undo memory in bytes.
+     */
+    public long getUndoMemory() {
+        synchronized (undoHistory) {
+            return undoMemory;
+        }
+    }
+
+    /**
+     * Returns the number of bytes of undo history that have been spilled to
+     * disk.
+     *
+     * @return the spilled undo memory in bytes.
+     */
+    public long getSpilledUndoMemory() {
+        return getUndoSpillFile().getSize();
+    }
+
+    /**
+     * Returns the file that undo edits are spilled to. It should be closed
+     * once the targets are no longer in use.
+     *
+     * @return the undo spill file.
+     */
+    public UndoSpillFile getUndoSpillFile() {
+        synchronized (undoHistory) {
+            if (undoSpillFile == null) {
+                undoSpillFile = new UndoSpillFile();
+            }
+            return undoSpillFile;
+        }
+    }
+
+    private void addToUndoHistory(final LockingEdit edit) {
+        synchronized (undoHistory) {
+            undoHistory.addLast(edit);
+            edit.undoMemory = edit.graphEdit.getSizeInBytes();
+            undoMemory += edit.undoMemory;
+        }
+    }
+
+    private void removeFromUndoHistory(final LockingEdit edit) {
+        synchronized (undoHistory) {
+            if (undoHistory.remove(edit)) {
+                undoMemory -= edit.undoMemory;
+            }
+        }
+    }
+
+    /**
+     * Take the least recently used edits out of the undo history until it fits
+     * in its memory budget, and hand them to a background writer to be spilled
+     * to disk. This is called with the global write lock held, so nothing is
+     * written to disk here.
+     */
+    private void enforceUndoMemoryBudget() {
+        final List<LockingEdit> edits = new ArrayList<>();
+        synchronized (undoHistory) {
+            while (undoMemory > undoMemoryBudget && !undoHistory.isEmpty()) {
+                final LockingEdit edit = undoHistory.pollFirst();
+                undoMemory -= edit.undoMemory;
+                edits.add(edit);
+            }
+        }
+        if (!edits.isEmpty()) {
+            ConstellationGlobalThreadPool.getThreadPool().getCachedThreadPool().execute(() -> spill(edits));
+        }
+    }
+
+    /**
+     * Write the given edits to the spill file, then take the global write lock
+     * only to drop their state from memory, so that no edit loses its state
+     * while it is being applied. Edits that can't be written go back into the
+     * undo history and stay in memory.
+     *
+     * @param edits the edits to spill, least recently used first.
+     */
+    private void spill(final List<LockingEdit> edits) {
+        final UndoSpillFile file = getUndoSpillFile();
+        final List<LockingEdit> written = new ArrayList<>();
+        final List<LockingEdit> unspillable = new ArrayList<>();
+        for (final LockingEdit edit : edits) {
+            if (edit.graphEdit.writeSpill(file)) {
+                written.add(edit);
+            } else {
+                unspillable.add(edit);
+            }
+        }
+
+        if (!written.isEmpty()) {
+            globalWriteLock.lock();
+            try {
+                written.forEach(edit -> edit.graphEdit.dropState());
+            } finally {
+                globalWriteLock.unlock();
+            }
+        }
+
+        synchronized (undoHistory) {
+            for (int i = unspillable.size() - 1; i >= 0; i--) {
+                final LockingEdit edit = unspillable.get(i);
+                if (edit.alive && !undoHistory.contains(edit)) {
+                    undoHistory.addFirst(edit);
+                    undoMemory += edit.undoMemory;
+                }
+            }
+        }
+    }
+
     private final class Context {
 
         private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
@@ -139,6 +311,34 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
         }
     }
 
+    /**
+     * Acquire a read lock on the committed state of the targets and register
+     * a listener for every edit applied after that state, as one step.
+     * <p>
+     * No edit can be committed between registering the listener and taking
+     * the read lock, so a copy taken through the returned target plus the
+     * edits seen by the listener always adds up to the current state. This
+     * can't be called while holding the write lock.
+     *
+     * @param listener the listener to register.
+     * @return the target to read from, which must be released as usual.
+     * @throws InterruptedException if interrupted while waiting for a writer
+     * to finish.
+     */
+    public T startReading(final GraphEditListener listener) throws InterruptedException {
+        if (globalWriteLock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("startReading: can't register an edit listener while holding the write lock");
+        }
+        globalWriteLock.lockInterruptibly();
+        try {
+            addGraphEditListener(listener);
+            readContext.lock.readLock().lock();
+            return readContext.target;
+        } finally {
+            globalWriteLock.unlock();
+        }
+    }
+
     public T startReading() {
         final Context c = globalWriteLock.isHeldByCurrentThread() ? writeContext : readContext;
         c.lock.readLock().lock();
@@ -209,6 +409,9 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
 
         private UndoGraphEdit graphEdit = new UndoGraphEdit();
 
+        // The memory counted against the undo memory budget for this edit.
+        private long undoMemory = 0;
+
         private void finished() {
             graphEdit.finish();
         }
@@ -223,6 +426,73 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
             }
         }
 
+        private long getOperationCount() {
+            long operationCount = graphEdit.getOperationCount();
+            if (followingChildren != null) {
+                for (final LockingEdit followingChild : followingChildren) {
+                    operationCount += followingChild.getOperationCount();
+                }
+            }
+            return operationCount;
+        }
+
+        /**
+         * Large edits, such as imports and arrangements, can be brought across
+         * to the other target faster by copying the target they were made on
+         * than by replaying every operation.
+         *
+         * @param source the target the edit has already been applied to.
+         * @return true if the other target should copy the source rather than
+         * replay this edit.
+         */
+        private boolean isCheaperToCopy(final T source) {
+            return getOperationCount() > source.getCopyCost();
+        }
+
+        /**
+         * Tell the edit listeners about this edit and its following children,
+         * in the order that they were applied to the targets.
+         *
+         * @param undone true if the edit was undone, false if it was executed.
+         */
+        private void fireEditApplied(final boolean undone) {
+            if (editListeners.isEmpty()) {
+                return;
+            }
+
+            if (undone && followingChildren != null) {
+                for (int i = followingChildren.size() - 1; i >= 0; i--) {
+                    followingChildren.get(i).fireEditApplied(true);
+                }
+            }
+
+            for (final GraphEditListener listener : editListeners) {
+                listener.editApplied(graphEdit, undone);
+            }
+
+            if (!undone && followingChildren != null) {
+                for (final LockingEdit followingChild : followingChildren) {
+                    followingChild.fireEditApplied(false);
+                }
+            }
+        }
+
+        /**
+         * Read this edit and its following children back into memory if they
+         * have been spilled to disk, so that they are read once rather than
+         * once per target.
+         */
+        private void load() {
+            if (graphEdit.load()) {
+                addToUndoHistory(this);
+            }
+            if (followingChildren != null) {
+                for (final LockingEdit followingChild : followingChildren) {
+                    followingChild.load();
+                }
+            }
+        }
+
         private void undo(final T target) {
             if (followingChildren != null) {
                 for (int i = followingChildren.size() - 1; i >= 0; i--) {
@@ -249,6 +519,7 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
                 // Get the global write lock because we will change the graph
                 globalWriteLock.lock();
                 try {
+                    load();
                     writeContext.target.setOperationMode(GraphOperationMode.UNDO);
                     undo(writeContext.target);
                     writeContext.target.validateKeys();
@@ -261,7 +532,11 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
                     originalReadContext.lock.writeLock().lock();
                     try {
                         originalReadContext.target.setOperationMode(GraphOperationMode.UNDO);
-                        undo(originalReadContext.target);
+                        if (isCheaperToCopy(readContext.target)) {
+                            originalReadContext.target.copyFrom(readContext.target);
+                        } else {
+                            undo(originalReadContext.target);
+                        }
                         originalReadContext.target.validateKeys();
                         originalReadContext.target.setOperationMode(GraphOperationMode.EXECUTE);
                     } finally {
@@ -270,6 +545,8 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
 
                     // Switch the write context
                     writeContext = originalReadContext;
+                    fireEditApplied(true);
+                    enforceUndoMemoryBudget();
                 } finally {
                     // Unlock the global write lock so new write requests can begin on the new write context
                     globalWriteLock.unlock();
@@ -302,6 +579,7 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
                 // Get the global write lock because we will change the graph
                 globalWriteLock.lock();
                 try {
+                    load();
                     writeContext.target.setOperationMode(GraphOperationMode.REDO);
                     execute(writeContext.target);
                     writeContext.target.validateKeys();
@@ -314,7 +592,11 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
                     originalReadContext.lock.writeLock().lock();
                     try {
                         originalReadContext.target.setOperationMode(GraphOperationMode.REDO);
-                        execute(originalReadContext.target);
+                        if (isCheaperToCopy(readContext.target)) {
+                            originalReadContext.target.copyFrom(readContext.target);
+                        } else {
+                            execute(originalReadContext.target);
+                        }
                         originalReadContext.target.validateKeys();
                         originalReadContext.target.setOperationMode(GraphOperationMode.EXECUTE);
                     } finally {
@@ -323,6 +605,8 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
 
                     // Switch the write context
                     writeContext = originalReadContext;
+                    fireEditApplied(false);
+                    enforceUndoMemoryBudget();
                 } finally {
                     // Unlock the global write lock so new write requests can begin on the new write context
                     globalWriteLock.unlock();
@@ -341,6 +625,13 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
         @Override
         public void die() {
             alive = false;
+            removeFromUndoHistory(this);
+            graphEdit.discard();
+            if (followingChildren != null) {
+                for (final LockingEdit followingChild : followingChildren) {
+                    followingChild.die();
+                }
+            }
         }
 
         @Override
@@ -406,15 +697,22 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
 
                 originalReadContext.lock.writeLock().lock();
                 try {
-                    execute(originalReadContext.target);
+                    if (isCheaperToCopy(readContext.target)) {
+                        originalReadContext.target.copyFrom(readContext.target);
+                    } else {
+                        execute(originalReadContext.target);
+                    }
                     originalReadContext.target.validateKeys();
                 } finally {
                     originalReadContext.lock.writeLock().unlock();
                 }
 
                 writeContext = originalReadContext;
+                fireEditApplied(false);
 
                 if (undoManager != null && addToUndo) {
+                    addToUndoHistory(this);
+                    enforceUndoMemoryBudget();
                     SwingUtilities.invokeLater(() -> undoManager.undoableEditHappened(new UndoableEditEvent(LockingManager.this, LockingEdit.this)));
                 }
                 currentEdit = null;
@@ -447,15 +745,22 @@ public class LockingManager<T extends LockingTarget> implements Serializable {
 
                 originalReadContext.lock.writeLock().lock();
                 try {
-                    execute(originalReadContext.target);
+                    if (isCheaperToCopy(readContext.target)) {
+                        originalReadContext.target.copyFrom(readContext.target);
+                    } else {
+                        execute(originalReadContext.target);
+                    }
                     originalReadContext.target.validateKeys();
                 } finally {
                     originalReadContext.lock.writeLock().unlock();
                 }
 
                 writeContext = originalReadContext;
+                fireEditApplied(false);
 
                 if (undoManager != null) {
+                    addToUndoHistory(this);
+                    enforceUndoMemoryBudget();
                     SwingUtilities.invokeLater(() -> undoManager.undoableEditHappened(new UndoableEditEvent(LockingManager.this, LockingEdit.this)));
                 }
                 currentEdit = new LockingEdit(name, false, editor);
@@ -52,6 +52,29 @@ public abstract class LockingTarget implements ReadingInterface {
 
     public abstract void setGraphEdit(final GraphEdit graphEdit);
 
+    /**
+     * Returns an estimate of the cost of making this target a copy of another
+     * target using {@link #copyFrom(LockingTarget)}, measured in the same units
+     * as the number of operations in an edit. This allows the
+     * {@link LockingManager} to decide whether to bring its reading target up
+     * to date by replaying an edit or by copying the committed target.
+     *
+     * @return the estimated cost of a copy, or {@link Long#MAX_VALUE} if
+     * copying is not supported.
+     */
+    public long getCopyCost() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Makes this target an exact copy of another target of the same type.
+     *
+     * @param source the target to copy.
+     */
+    public void copyFrom(final LockingTarget source) {
+        throw new UnsupportedOperationException("Copying is not supported by " + getClass().getName());
+    }
+
     public void setOperationMode(final GraphOperationMode operationMode) {
         this.operationMode = operationMode;
     }
@@ -22,6 +22,7 @@ import au.gov.asd.tac.constellation.graph.GraphElementMerger;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
+import au.gov.asd.tac.constellation.graph.NativeAttributeType;
 import au.gov.asd.tac.constellation.graph.mergers.PrioritySurvivingGraphElementMerger;
 import au.gov.asd.tac.constellation.graph.processing.Record;
 import au.gov.asd.tac.constellation.graph.schema.type.SchemaTransactionType;
@@ -41,6 +42,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
@@ -95,10 +97,10 @@ public class GraphRecordStoreUtilities {
     private static final List<String> ApprovedTypes = SchemaVertexTypeUtilities.getTypes().stream().map(i -> i.getName()).collect(Collectors.toList());
     private static final GraphElementMerger mergerAfterTransactions = new PrioritySurvivingGraphElementMerger();
 
-    private static int addVertex(final GraphWriteMethods graph, final Map<String, String> values,
+    private static int addVertex(final GraphWriteMethods graph, final Map<String, Object> values,
             final Map<String, Integer> vertexMap, final boolean initializeWithSchema, boolean completeWithSchema,
             final List<Integer> newVertices, final Set<Integer> ghostVertices, final List<String> vertexIdAttributes) {
-        String idValue = values.remove(ID);
+        String idValue = Objects.toString(values.remove(ID), null);
 
         // If the idValue has not been set and we have vertexIdAttributes then create an idValue automatically
         if (idValue == null && vertexIdAttributes != null) {
@@ -107,10 +109,10 @@ public class GraphRecordStoreUtilities {
 
             // If the vertexIdAttributes is not null but empty then use all attributes of the vertex
             if (vertexIdAttributes.isEmpty()) {
-                for (final Entry<String, String> e : values.entrySet()) {
+                for (final Entry<String, Object> e : values.entrySet()) {
                     idBuilder.append(delimiter).append(e.getKey()).append("=");
                     if (e.getValue() != null) {
-                        for (final byte b : e.getValue().getBytes(UTF8)) {
+                        for (final byte b : e.getValue().toString().getBytes(UTF8)) {
                             int i = b;
                             if (i < 0) {
                                 i += 256;
@@ -125,10 +127,10 @@ public class GraphRecordStoreUtilities {
                 }
             } else { // Otherwise use the specified attributes to create the idValue
                 for (final String attribute : vertexIdAttributes) {
-                    final String value = values.get(attribute);
+                    final Object value = values.get(attribute);
                     if (value != null) {
                         idBuilder.append(delimiter).append(attribute).append("=");
-                        for (final byte b : value.getBytes(UTF8)) {
+                        for (final byte b : value.toString().getBytes(UTF8)) {
                             int i = b;
                             if (i < 0) {
                                 i += 256;
@@ -157,7 +159,7 @@ public class GraphRecordStoreUtilities {
             ghostVertices.add(vertex);
         }
 
-        final String completeWithSchemaValue = values.remove(COMPLETE_WITH_SCHEMA_KEY);
+        final String completeWithSchemaValue = Objects.toString(values.remove(COMPLETE_WITH_SCHEMA_KEY), null);
         if (completeWithSchemaValue != null) {
             completeWithSchema = Boolean.parseBoolean(completeWithSchemaValue);
         }
@@ -215,10 +217,10 @@ public class GraphRecordStoreUtilities {
     }
 
     private static int addTransaction(final GraphWriteMethods graph, final int source, final int destination,
-            final Map<String, String> values, final Map<String, Integer> transactionMap,
+            final Map<String, Object> values, final Map<String, Integer> transactionMap,
             final boolean initializeWithSchema, boolean completeWithSchema) {
-        final String type = values.get(TYPE_KEY);
-        final String directedValue = values.get(DIRECTED_KEY);
+        final String type = Objects.toString(values.get(TYPE_KEY), null);
+        final String directedValue = Objects.toString(values.get(DIRECTED_KEY), null);
         boolean directed = true;
         if (directedValue != null) {
             directed = !"False".equalsIgnoreCase(directedValue);
@@ -228,19 +230,19 @@ public class GraphRecordStoreUtilities {
                 directed = transactionType.isDirected();
             } else {
                 // When its an Unknown transaction type we should use the current directed setting if available.
-                final String directedCurrentValue = values.get(DIRECTED_VALUE_KEY);
+                final String directedCurrentValue = Objects.toString(values.get(DIRECTED_VALUE_KEY), null);
                 if (directedCurrentValue != null) {
                     directed = !"False".equalsIgnoreCase(directedCurrentValue);
                 }
             }
         }
 
-        final String completeWithSchemaValue = values.remove(COMPLETE_WITH_SCHEMA_KEY);
+        final String completeWithSchemaValue = Objects.toString(values.remove(COMPLETE_WITH_SCHEMA_KEY), null);
         if (completeWithSchemaValue != null) {
             completeWithSchema = Boolean.parseBoolean(completeWithSchemaValue);
         }
 
-        final String idValue = values.remove(ID);
+        final String idValue = Objects.toString(values.remove(ID), null);
         final int transaction = getTransaction(graph, idValue, source, destination, directed, transactionMap, initializeWithSchema);
 
         if (values.remove(DELETE_KEY) != null) {
@@ -305,14 +307,14 @@ public class GraphRecordStoreUtilities {
     }
 
     private static void copyValues(final GraphWriteMethods graph, final GraphElementType elementType, final int element,
-            final Map<String, String> values) {
+            final Map<String, Object> values) {
         /**
          * check whether a transaction type is inconsistent with the direction attribute, if so make a custom type
          */
         if (GraphElementType.TRANSACTION.equals(elementType)) {
-            final String requestedDirected = values.remove(DIRECTED_KEY);
+            final String requestedDirected = Objects.toString(values.remove(DIRECTED_KEY), null);
             if (requestedDirected != null) {
-                final String type = values.get(TYPE_KEY);
+                final String type = Objects.toString(values.get(TYPE_KEY), null);
                 final SchemaTransactionType currentType = SchemaTransactionTypeUtilities.getType(type);
                 if (currentType != null) {
                     final boolean directed = Boolean.parseBoolean(requestedDirected);
@@ -353,7 +355,7 @@ public class GraphRecordStoreUtilities {
             }
 
             try {
-                graph.setStringValue(attribute, element, entry.getValue());
+                setValue(graph, attribute, element, entry.getValue());
             } catch (final Exception ex) {
                 // keeping this as an Exception to catch broad exceptions that can be thrown due to bad data
                 LOGGER.log(Level.SEVERE, "Discarding unexpected value {0} seen in attribute {1}", new Object[]{entry.getValue(), graph.getAttributeName(attribute)});
@@ -361,6 +363,43 @@ public class GraphRecordStoreUtilities {
         });
     }
 
+    /**
+     * Set a value read from a {@link RecordStore} on the graph. Primitive values read from a {@link TypedRecordStore}
+     * are set directly, falling back to their string form if the attribute does not accept that primitive type.
+     * Floats set on a double attribute are widened through their decimal form so that, for example, 0.1 is stored as
+     * 0.1 rather than the nearest double to the float 0.1.
+     */
+    private static void setValue(final GraphWriteMethods graph, final int attribute, final int element, final Object value) {
+        try {
+            switch (value) {
+                case Integer intValue ->
+                    graph.setIntValue(attribute, element, intValue);
+                case Long longValue ->
+                    graph.setLongValue(attribute, element, longValue);
+                case Float floatValue -> {
+                    if (graph.getNativeAttributeType(attribute) == NativeAttributeType.DOUBLE) {
+                        graph.setDoubleValue(attribute, element, Double.parseDouble(floatValue.toString()));
+                    } else {
+                        graph.setFloatValue(attribute, element, floatValue);
+                    }
+                }
+                case Double doubleValue ->
+                    graph.setDoubleValue(attribute, element, doubleValue);
+                case Boolean booleanValue ->
+                    graph.setBooleanValue(attribute, element, booleanValue);
+                case null ->
+                    graph.setStringValue(attribute, element, null);
+                default ->
+                    graph.setStringValue(attribute, element, value.toString());
+            }
+        } catch (final IllegalArgumentException ex) {
+            if (value == null || value instanceof String) {
+                throw ex;
+            }
+            graph.setStringValue(attribute, element, value.toString());
+        }
+    }
+
     /**
      * Adds the contents of the specified {@link RecordStore} to the specified graph.
      *
@@ -405,8 +444,15 @@ public class GraphRecordStoreUtilities {
         boolean transactionsAdded = false;
 
         recordStore.reset();
-        final List<String> keys = recordStore instanceof GraphRecordStore graphRecordStore
-                ? graphRecordStore.keysWithType() : recordStore.keys();
+        final TypedRecordStore typedRecordStore = recordStore instanceof TypedRecordStore typed ? typed : null;
+        final List<String> keys;
+        if (typedRecordStore != null) {
+            keys = typedRecordStore.keysWithType();
+        } else if (recordStore instanceof GraphRecordStore graphRecordStore) {
+            keys = graphRecordStore.keysWithType();
+        } else {
+            keys = recordStore.keys();
+        }
 
         if (vertexMap == null) {
             vertexMap = new HashMap<>();
@@ -416,12 +462,13 @@ public class GraphRecordStoreUtilities {
         }
 
         while (recordStore.next()) {
-            final Map<String, String> sourceValues = new TreeMap<>();
-            final Map<String, String> destinationValues = new TreeMap<>();
-            final Map<String, String> transactionValues = new TreeMap<>();
+            final Map<String, Object> sourceValues = new TreeMap<>();
+            final Map<String, Object> destinationValues = new TreeMap<>();
+            final Map<String, Object> transactionValues = new TreeMap<>();
             for (final String key : keys) {
                 if (recordStore.hasValue(key)) {
-                    String value = recordStore.get(key);
+                    // typed record stores hand over primitive values so they don't need to be parsed again
+                    Object value = typedRecordStore != null ? typedRecordStore.getObject(key) : recordStore.get(key);
                     final int dividerPosition = key.indexOf('.');
 
                     if (dividerPosition > 0) {
@@ -430,8 +477,8 @@ public class GraphRecordStoreUtilities {
                         final String[] parts = keyDescriptor.split("\\.");
                         final String label = key.split("<")[0];
 
-                        if (LabelTypes.indexOf(label) > -1) {
-                            value = normalizeType(value);
+                        if (LabelTypes.indexOf(label) > -1 && value instanceof String stringValue) {
+                            value = normalizeType(stringValue);
                         }
 
                         switch (parts[0]) {
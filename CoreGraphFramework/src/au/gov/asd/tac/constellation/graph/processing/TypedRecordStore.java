@@ -0,0 +1,838 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.processing;
+
+import au.gov.asd.tac.constellation.graph.attribute.BooleanAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.DoubleAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.IntegerAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.LongAttributeDescription;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * An implementation of {@link RecordStore} which stores each column in a
+ * primitive array matching the type given in its key.
+ * <p>
+ * Keys follow the same convention as {@link GraphRecordStore}: a key may end
+ * with the attribute type of its values in angle brackets, for example
+ * <code>source.x&lt;float&gt;</code>, and keys without a type are treated as
+ * strings. Columns of type integer, long, float, double and boolean keep their
+ * values in primitive arrays with bit sets recording which records have a
+ * value and which of those values are null. All other columns are dictionary
+ * encoded so that each distinct string is only stored once.
+ * <p>
+ * Values can be set and retrieved as strings like any other
+ * {@link RecordStore}, in which case they are parsed and formatted on the way
+ * in and out, or as primitives using the typed setters and
+ * {@link #getObject(int, String)}, which
+ * {@link GraphRecordStoreUtilities#addRecordStoreToGraph} uses to write values
+ * to a graph without converting them to strings. If a string is set that
+ * cannot be represented by the type of its column, the column is converted to
+ * a string column so that no value is ever lost.
+ *
+ * @author sirius
+ */
+public class TypedRecordStore implements RecordStore {
+
+    private final Map<String, Column> typedColumns = new LinkedHashMap<>();
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private int size = 0;
+    private int currentRecord = -1;
+
+    /**
+     * Get the column for a key, with or without its type.
+     *
+     * @param key the key of the column.
+     * @return the column for the key, or null if there is no such column.
+     */
+    private Column getColumn(final String key) {
+        final Column column = typedColumns.get(key);
+        return column != null ? column : columns.get(key);
+    }
+
+    /**
+     * Get the column for a key, creating it if it does not already exist.
+     *
+     * @param key the key of the column.
+     * @return the column for the key.
+     */
+    private Column ensureColumn(final String key) {
+        final Column existing = getColumn(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        final String typedKey;
+        final String untypedKey;
+        final String type;
+        final int typeIndex = key.indexOf('<');
+        if (typeIndex == -1) {
+            untypedKey = key;
+            typedKey = key + "<string>";
+            type = "string";
+        } else {
+            typedKey = key;
+            untypedKey = key.substring(0, typeIndex);
+            type = key.endsWith(">") ? key.substring(typeIndex + 1, key.length() - 1) : key.substring(typeIndex + 1);
+        }
+
+        final Column column = switch (type) {
+            case IntegerAttributeDescription.ATTRIBUTE_NAME ->
+                new IntColumn(typedKey, untypedKey);
+            case LongAttributeDescription.ATTRIBUTE_NAME ->
+                new LongColumn(typedKey, untypedKey);
+            case FloatAttributeDescription.ATTRIBUTE_NAME ->
+                new FloatColumn(typedKey, untypedKey);
+            case DoubleAttributeDescription.ATTRIBUTE_NAME ->
+                new DoubleColumn(typedKey, untypedKey);
+            case BooleanAttributeDescription.ATTRIBUTE_NAME ->
+                new BooleanColumn(typedKey, untypedKey);
+            default ->
+                new StringColumn(typedKey, untypedKey);
+        };
+        typedColumns.put(typedKey, column);
+        columns.put(untypedKey, column);
+        return column;
+    }
+
+    /**
+     * Replace a typed column with a string column holding the same values.
+     *
+     * @param column the column to replace.
+     * @return the new string column.
+     */
+    private Column convertToStringColumn(final Column column) {
+        final StringColumn stringColumn = new StringColumn(column.typedKey, column.untypedKey);
+        for (int record = 0; record < size; record++) {
+            if (column.hasValue(record)) {
+                if (column.isNull(record)) {
+                    stringColumn.setNull(record);
+                } else {
+                    stringColumn.setString(record, column.getString(record));
+                }
+            }
+        }
+        typedColumns.put(column.typedKey, stringColumn);
+        if (columns.get(column.untypedKey) == column) {
+            columns.put(column.untypedKey, stringColumn);
+        }
+        return stringColumn;
+    }
+
+    private void checkRecord(final int record, final String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+        if (record < 0 || record >= size) {
+            throw new IllegalArgumentException("Invalid record: " + record);
+        }
+    }
+
+    @Override
+    public int add() {
+        currentRecord = size++;
+        return currentRecord;
+    }
+
+    @Override
+    public void add(final RecordStore recordStore) {
+        if (recordStore instanceof TypedRecordStore typedRecordStore) {
+            final List<String> keys = typedRecordStore.keysWithType();
+            for (int record = 0; record < typedRecordStore.size(); record++) {
+                final int newRecord = add();
+                for (final String key : keys) {
+                    if (typedRecordStore.hasValue(record, key)) {
+                        set(newRecord, key, typedRecordStore.getObject(record, key));
+                    }
+                }
+            }
+        } else {
+            final List<String> keys = recordStore instanceof GraphRecordStore graphRecordStore
+                    ? graphRecordStore.keysWithType() : recordStore.keys();
+            for (int record = 0; record < recordStore.size(); record++) {
+                final int newRecord = add();
+                for (final String key : keys) {
+                    final String value = recordStore.get(record, key);
+                    if (value != null) {
+                        set(newRecord, key, value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int index() {
+        return currentRecord;
+    }
+
+    @Override
+    public final boolean next() {
+        if (++currentRecord >= size) {
+            currentRecord = size;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        currentRecord = -1;
+    }
+
+    @Override
+    public void close() {
+        // the dictionaries used to encode new strings are no longer needed
+        for (final Column column : typedColumns.values()) {
+            if (column instanceof StringColumn stringColumn) {
+                stringColumn.index = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasValue(final String key) {
+        return hasValue(currentRecord, key);
+    }
+
+    @Override
+    public boolean hasValue(final int record, final String key) {
+        final Column column = getColumn(key);
+        return column != null && record >= 0 && column.hasValue(record);
+    }
+
+    @Override
+    public String get(final String key) {
+        return get(currentRecord, key);
+    }
+
+    @Override
+    public String get(final int record, final String key) {
+        final Column column = getColumn(key);
+        if (column == null || record < 0 || !column.hasValue(record) || column.isNull(record)) {
+            return null;
+        }
+        return column.getString(record);
+    }
+
+    /**
+     * Get a value from the current record in the native type of its column.
+     *
+     * @param key The key to lookup.
+     * @return an Integer, Long, Float, Double, Boolean or String depending on
+     * the type of the column, or null if the record has no value for the key.
+     */
+    public Object getObject(final String key) {
+        return getObject(currentRecord, key);
+    }
+
+    /**
+     * Get a value from the specified record in the native type of its column.
+     *
+     * @param record The index of the record.
+     * @param key The key to lookup.
+     * @return an Integer, Long, Float, Double, Boolean or String depending on
+     * the type of the column, or null if the record has no value for the key.
+     */
+    public Object getObject(final int record, final String key) {
+        final Column column = getColumn(key);
+        if (column == null || record < 0 || !column.hasValue(record) || column.isNull(record)) {
+            return null;
+        }
+        return column.getObject(record);
+    }
+
+    @Override
+    public void set(final String key, final String value) {
+        set(currentRecord, key, value);
+    }
+
+    @Override
+    public void set(final String key, final Object value) {
+        set(currentRecord, key, value);
+    }
+
+    @Override
+    public void set(final int record, final String key, final String value) {
+        checkRecord(record, key);
+        final Column column = ensureColumn(key);
+        if (value == null) {
+            column.setNull(record);
+        } else if (!column.setString(record, value)) {
+            convertToStringColumn(column).setString(record, value);
+        }
+    }
+
+    /**
+     * Set a key/value pair for the specified record. Integer, Long, Float,
+     * Double and Boolean values are stored without being converted to a string
+     * when the column has the same type.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    @Override
+    public void set(final int record, final String key, final Object value) {
+        switch (value) {
+            case Integer intValue ->
+                setInt(record, key, intValue);
+            case Long longValue ->
+                setLong(record, key, longValue);
+            case Float floatValue ->
+                setFloat(record, key, floatValue);
+            case Double doubleValue ->
+                setDouble(record, key, doubleValue);
+            case Boolean booleanValue ->
+                setBoolean(record, key, booleanValue);
+            case null ->
+                set(record, key, (String) null);
+            default ->
+                set(record, key, value.toString());
+        }
+    }
+
+    /**
+     * Set an int value for the specified record.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    public void setInt(final int record, final String key, final int value) {
+        checkRecord(record, key);
+        if (ensureColumn(key) instanceof IntColumn column) {
+            column.setInt(record, value);
+        } else {
+            set(record, key, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a long value for the specified record.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    public void setLong(final int record, final String key, final long value) {
+        checkRecord(record, key);
+        if (ensureColumn(key) instanceof LongColumn column) {
+            column.setLong(record, value);
+        } else {
+            set(record, key, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a float value for the specified record.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    public void setFloat(final int record, final String key, final float value) {
+        checkRecord(record, key);
+        if (ensureColumn(key) instanceof FloatColumn column) {
+            column.setFloat(record, value);
+        } else {
+            set(record, key, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a double value for the specified record.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    public void setDouble(final int record, final String key, final double value) {
+        checkRecord(record, key);
+        if (ensureColumn(key) instanceof DoubleColumn column) {
+            column.setDouble(record, value);
+        } else {
+            set(record, key, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Set a boolean value for the specified record.
+     *
+     * @param record The index of the record
+     * @param key The key whose value is being set
+     * @param value The value to set.
+     */
+    public void setBoolean(final int record, final String key, final boolean value) {
+        checkRecord(record, key);
+        if (ensureColumn(key) instanceof BooleanColumn column) {
+            column.setBoolean(record, value);
+        } else {
+            set(record, key, String.valueOf(value));
+        }
+    }
+
+    @Override
+    public List<String> values() {
+        return values(currentRecord);
+    }
+
+    @Override
+    public List<String> values(final int record) {
+        final List<String> values = new ArrayList<>(typedColumns.size());
+        for (final String key : typedColumns.keySet()) {
+            values.add(get(record, key));
+        }
+        return values;
+    }
+
+    @Override
+    public List<String> keys() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * Return the keys which contain the type
+     * <p>
+     * For example Source.Identifier&lt;String&gt;
+     *
+     * @return Return the keys which contain the type
+     */
+    public List<String> keysWithType() {
+        return new ArrayList<>(typedColumns.keySet());
+    }
+
+    @Override
+    public List<String> getAll(final String key) {
+        final List<String> result = new ArrayList<>(size);
+        for (int record = 0; record < size; record++) {
+            result.add(get(record, key));
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "Record Store with " + size + " rows and " + columns.size() + " columns.";
+    }
+
+    @Override
+    public String toStringVerbose() {
+        final StringBuilder out = new StringBuilder();
+        for (int record = 0; record < size; record++) {
+            boolean first = true;
+            for (final Entry<String, Column> e : typedColumns.entrySet()) {
+                if (e.getValue().hasValue(record)) {
+                    if (!first) {
+                        out.append(", ");
+                    } else {
+                        first = false;
+                    }
+                    out.append(e.getKey());
+                    out.append(" = ");
+                    out.append(get(record, e.getKey()));
+                }
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns a new capacity large enough to hold the specified record.
+     */
+    private static int grow(final int capacity, final int record) {
+        return Math.max(record + 1, Math.max(16, capacity * 2));
+    }
+
+    /**
+     * A column of values of a single type.
+     */
+    private abstract static class Column {
+
+        final String typedKey;
+        final String untypedKey;
+
+        Column(final String typedKey, final String untypedKey) {
+            this.typedKey = typedKey;
+            this.untypedKey = untypedKey;
+        }
+
+        abstract boolean hasValue(final int record);
+
+        abstract boolean isNull(final int record);
+
+        abstract void setNull(final int record);
+
+        abstract String getString(final int record);
+
+        abstract Object getObject(final int record);
+
+        /**
+         * Set a value from a string.
+         *
+         * @return false if the string cannot be represented by this column.
+         */
+        abstract boolean setString(final int record, final String value);
+    }
+
+    /**
+     * A column of primitive values with bit sets recording which records have
+     * a value and which of those values are null.
+     */
+    private abstract static class PrimitiveColumn extends Column {
+
+        private long[] present = new long[0];
+        private long[] nulls = new long[0];
+
+        PrimitiveColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        final boolean hasValue(final int record) {
+            final int word = record >>> 6;
+            return word < present.length && (present[word] & (1L << record)) != 0;
+        }
+
+        @Override
+        final boolean isNull(final int record) {
+            final int word = record >>> 6;
+            return word < nulls.length && (nulls[word] & (1L << record)) != 0;
+        }
+
+        @Override
+        final void setNull(final int record) {
+            mark(record, true);
+        }
+
+        /**
+         * Record that the specified record has a value, making sure that there
+         * is room to store it.
+         */
+        final void mark(final int record, final boolean isNull) {
+            final int word = record >>> 6;
+            if (word >= present.length) {
+                final int words = grow(present.length, word);
+                present = Arrays.copyOf(present, words);
+                nulls = Arrays.copyOf(nulls, words);
+            }
+            present[word] |= 1L << record;
+            if (isNull) {
+                nulls[word] |= 1L << record;
+            } else {
+                nulls[word] &= ~(1L << record);
+            }
+            ensureCapacity(record);
+        }
+
+        abstract void ensureCapacity(final int record);
+    }
+
+    private static final class IntColumn extends PrimitiveColumn {
+
+        private int[] values = new int[0];
+
+        IntColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        void ensureCapacity(final int record) {
+            if (record >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, record));
+            }
+        }
+
+        void setInt(final int record, final int value) {
+            mark(record, false);
+            values[record] = value;
+        }
+
+        @Override
+        String getString(final int record) {
+            return String.valueOf(values[record]);
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return values[record];
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            try {
+                setInt(record, Integer.parseInt(value));
+                return true;
+            } catch (final NumberFormatException ex) {
+                return false;
+            }
+        }
+    }
+
+    private static final class LongColumn extends PrimitiveColumn {
+
+        private long[] values = new long[0];
+
+        LongColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        void ensureCapacity(final int record) {
+            if (record >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, record));
+            }
+        }
+
+        void setLong(final int record, final long value) {
+            mark(record, false);
+            values[record] = value;
+        }
+
+        @Override
+        String getString(final int record) {
+            return String.valueOf(values[record]);
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return values[record];
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            try {
+                setLong(record, Long.parseLong(value));
+                return true;
+            } catch (final NumberFormatException ex) {
+                return false;
+            }
+        }
+    }
+
+    private static final class FloatColumn extends PrimitiveColumn {
+
+        private float[] values = new float[0];
+
+        FloatColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        void ensureCapacity(final int record) {
+            if (record >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, record));
+            }
+        }
+
+        void setFloat(final int record, final float value) {
+            mark(record, false);
+            values[record] = value;
+        }
+
+        @Override
+        String getString(final int record) {
+            return String.valueOf(values[record]);
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return values[record];
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            try {
+                setFloat(record, Float.parseFloat(value));
+                return true;
+            } catch (final NumberFormatException ex) {
+                return false;
+            }
+        }
+    }
+
+    private static final class DoubleColumn extends PrimitiveColumn {
+
+        private double[] values = new double[0];
+
+        DoubleColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        void ensureCapacity(final int record) {
+            if (record >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, record));
+            }
+        }
+
+        void setDouble(final int record, final double value) {
+            mark(record, false);
+            values[record] = value;
+        }
+
+        @Override
+        String getString(final int record) {
+            return String.valueOf(values[record]);
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return values[record];
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            try {
+                setDouble(record, Double.parseDouble(value));
+                return true;
+            } catch (final NumberFormatException ex) {
+                return false;
+            }
+        }
+    }
+
+    private static final class BooleanColumn extends PrimitiveColumn {
+
+        private long[] values = new long[0];
+
+        BooleanColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        @Override
+        void ensureCapacity(final int record) {
+            final int word = record >>> 6;
+            if (word >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, word));
+            }
+        }
+
+        void setBoolean(final int record, final boolean value) {
+            mark(record, false);
+            if (value) {
+                values[record >>> 6] |= 1L << record;
+            } else {
+                values[record >>> 6] &= ~(1L << record);
+            }
+        }
+
+        @Override
+        String getString(final int record) {
+            return String.valueOf(getObject(record));
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return (values[record >>> 6] & (1L << record)) != 0;
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            if ("true".equalsIgnoreCase(value)) {
+                setBoolean(record, true);
+            } else if ("false".equalsIgnoreCase(value)) {
+                setBoolean(record, false);
+            } else {
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A column of strings where each distinct string is stored once and
+     * records hold a code into the dictionary of strings.
+     */
+    private static final class StringColumn extends Column {
+
+        // codes of records without a value and of records with a null value
+        private static final int ABSENT = 0;
+        private static final int NULL = 1;
+        private static final int FIRST_STRING = 2;
+
+        private int[] codes = new int[0];
+        private final List<String> dictionary = new ArrayList<>();
+        private Map<String, Integer> index = new HashMap<>();
+
+        StringColumn(final String typedKey, final String untypedKey) {
+            super(typedKey, untypedKey);
+        }
+
+        private void setCode(final int record, final int code) {
+            if (record >= codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length, record));
+            }
+            codes[record] = code;
+        }
+
+        @Override
+        boolean hasValue(final int record) {
+            return record < codes.length && codes[record] != ABSENT;
+        }
+
+        @Override
+        boolean isNull(final int record) {
+            return codes[record] == NULL;
+        }
+
+        @Override
+        void setNull(final int record) {
+            setCode(record, NULL);
+        }
+
+        @Override
+        String getString(final int record) {
+            return dictionary.get(codes[record] - FIRST_STRING);
+        }
+
+        @Override
+        Object getObject(final int record) {
+            return getString(record);
+        }
+
+        @Override
+        boolean setString(final int record, final String value) {
+            if (index == null) {
+                // the index was dropped when the record store was closed
+                index = new HashMap<>();
+                for (int i = 0; i < dictionary.size(); i++) {
+                    index.put(dictionary.get(i), i + FIRST_STRING);
+                }
+            }
+            Integer code = index.get(value);
+            if (code == null) {
+                code = dictionary.size() + FIRST_STRING;
+                dictionary.add(value);
+                index.put(value, code);
+            }
+            setCode(record, code);
+            return true;
+        }
+    }
+}
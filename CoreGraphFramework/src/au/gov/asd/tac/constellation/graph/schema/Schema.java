@@ -117,6 +117,22 @@ public class Schema {
     public void completeVertex(final GraphWriteMethods graph, final int vertexId) {
     }
 
+    /**
+     * Complete each of the given vertices as per
+     * {@link Schema#completeVertex(au.gov.asd.tac.constellation.graph.GraphWriteMethods, int)}.
+     * Schemas can override this to share work across the vertices, such as
+     * looking up attributes and resolving types, when many vertices are
+     * completed at once. Each vertex should appear only once.
+     *
+     * @param graph the graph holding the vertices.
+     * @param vertexIds the ids of the vertices to complete.
+     */
+    public void completeVertices(final GraphWriteMethods graph, final int[] vertexIds) {
+        for (final int vertexId : vertexIds) {
+            completeVertex(graph, vertexId);
+        }
+    }
+
     /**
      * Given a prospective type name as a {@link String}, infer the matching
      * {@link SchemaVertexType}.
@@ -158,6 +174,22 @@ public class Schema {
     public void completeTransaction(final GraphWriteMethods graph, final int transactionId) {
     }
 
+    /**
+     * Complete each of the given transactions as per
+     * {@link Schema#completeTransaction(au.gov.asd.tac.constellation.graph.GraphWriteMethods, int)}.
+     * Schemas can override this to share work across the transactions, such
+     * as looking up attributes and resolving types, when many transactions
+     * are completed at once. Each transaction should appear only once.
+     *
+     * @param graph the {@link GraphWriteMethods} holding the transactions.
+     * @param transactionIds the ids of the transactions to complete.
+     */
+    public void completeTransactions(final GraphWriteMethods graph, final int[] transactionIds) {
+        for (final int transactionId : transactionIds) {
+            completeTransaction(graph, transactionId);
+        }
+    }
+
     /**
      * Given a prospective type name as a {@link String}, infer the matching
      * {@link SchemaTransactionType}.
@@ -17,10 +17,10 @@ package au.gov.asd.tac.constellation.graph.schema.type;
 
 import au.gov.asd.tac.constellation.graph.schema.concept.SchemaConcept;
 import au.gov.asd.tac.constellation.graph.schema.concept.SchemaConceptUtilities;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,7 +31,6 @@ import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import org.apache.commons.collections4.CollectionUtils;
 
 /**
  * A collection of utilities for interrogation of all available
@@ -48,6 +47,8 @@ public class SchemaVertexTypeUtilities {
     private static final Map<Set<Class<? extends SchemaConcept>>, Collection<SchemaVertexType>> SCHEMA_VERTEX_TYPE_CACHE = new HashMap<>();
 
     private static final Set<Class<? extends SchemaConcept>> GET_ALL_TYPES = null;
+
+    private static VertexTypeExtractor extractor = null;
     
     private SchemaVertexTypeUtilities() {
         throw new IllegalStateException("Utility class");
@@ -325,83 +326,41 @@ public class SchemaVertexTypeUtilities {
      * matched types in the text.
      */
     public static List<ExtractedVertexType> extractVertexTypes(final String text, final List<ExtractedVertexType> previouslyExtracted) {
-        final List<ExtractedVertexType> extractedTypes = new ArrayList<>();
-
-        if (CollectionUtils.isNotEmpty(previouslyExtracted)) {
-            extractedTypes.addAll(previouslyExtracted);
-        }
-
-        final Collection<SchemaVertexType> schematypes = getTypes();
-        // text to process (longest matching extracted type text is removed each iteration)
-        String runningText = text;
-        // final list of ExtractedVertexType
-        final List<ExtractedVertexType> finalExtractedTypesList = new ArrayList<>();
-        // map of matching identifiers and ExtractedVertexType
-        List<ExtractedVertexType> extractedTypesList;
-
-        // while there are still matching schema types, process then remove from text    
-        while (!(extractedTypesList = getExtractedTypesFromText(schematypes, runningText, extractedTypes)).isEmpty()) {
-            final Map<String, ExtractedVertexType> extractedTypesMap = new HashMap<>();
-            extractedTypesList.forEach(value -> extractedTypesMap.put(value.getIdentifier(), value));
-
-            // identify the longest text and add the matching type to final list
-            final String longest = extractedTypesMap.keySet().stream()
-                    .max(Comparator.comparingInt(String::length))
-                    .orElse("");
-
-            finalExtractedTypesList.add(extractedTypesMap.get(longest));
-            // remove the longest text from text and process for next longest matching identifier
-            runningText = runningText.replaceAll(longest, "");
-            extractedTypes.clear();
-        }
+        return Collections.unmodifiableList(getExtractor().extract(text, previouslyExtracted));
+    }
 
-        return Collections.unmodifiableList(finalExtractedTypesList);
+    /**
+     * Given many pieces of text, find the components of each piece of text
+     * which match against the most specific detection regular expression of
+     * all {@link SchemaVertexType} for all registered {@link SchemaConcept}, as
+     * per {@link #extractVertexTypes(java.lang.String)}. The pieces of text are
+     * processed in parallel.
+     *
+     * @param texts A {@link List} of {@link String} from which to find
+     * {@link SchemaVertexType} matches.
+     * @return A {@link List} holding a {@link List} of
+     * {@link ExtractedVertexType} for each piece of text, in the same order as
+     * the given text.
+     */
+    public static List<List<ExtractedVertexType>> extractVertexTypesFromTexts(final List<String> texts) {
+        final VertexTypeExtractor currentExtractor = getExtractor();
+        return ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().submit(() -> texts.parallelStream()
+                .map(text -> Collections.unmodifiableList(currentExtractor.extract(text, null)))
+                .toList()).join();
     }
 
     /**
-     * Method to extract matching SchemaTypes in the form of ExtractedVertexType
-     * from the text that is passed in.
-     * @param schematypes List of SchemaTypes to match
-     * @param text Source text to extract SchemaTypes from
-     * @param extractedTypes List of existing extracted types
-     * @return 
+     * Get the extractor compiled for the currently registered types,
+     * compiling a new one if the registered types have changed.
+     *
+     * @return A {@link VertexTypeExtractor} for the registered types.
      */
-    protected static List<ExtractedVertexType> getExtractedTypesFromText(
-            final Collection<SchemaVertexType> schematypes, final String text, final List<ExtractedVertexType> extractedTypes) {
-        schematypes.forEach(schemaVertexType -> {
-            final Pattern regex = schemaVertexType.getDetectionRegex();
-            if (regex != null && text != null) {
-                final Matcher matcher = regex.matcher(text);
-                while (matcher.find()) {
-                    final String identifier = matcher.group();
-                    if (identifier.length() > 0) {
-                        final ExtractedVertexType currentExtractedType = new ExtractedVertexType(identifier, schemaVertexType, text, matcher.start(), matcher.end());
-                        final List<ExtractedVertexType> deficientResults = new ArrayList<>();
-                        boolean isDeficientResult = false;
-                        final Comparator comparator = VertexDominanceCalculator.getDefault().getComparator();
-                        for (final ExtractedVertexType extractedType : extractedTypes) {
-                            // do compare only if identifiers are the same or new identifier is a substring of the existing extractedType
-                            if (identifier.equalsIgnoreCase(extractedType.identifier)) {
-                                // ignore current extracted type if existing extracted type is higher in the list (lower number)
-                                if (comparator.compare(extractedType.getType(), currentExtractedType.getType()) < 0) {
-                                    isDeficientResult = true;
-                                    break;
-                                } else if (comparator.compare(extractedType.getType(), currentExtractedType.getType()) > 0
-                                        || currentExtractedType.compareTo(extractedType) < 0) {
-                                    deficientResults.add(extractedType);
-                                }
-                            }
-                        }
-                        // if there are deficientResults, replace it with the more dominant extractedType
-                        if (!isDeficientResult) {
-                            extractedTypes.removeAll(deficientResults);
-                            extractedTypes.add(currentExtractedType);
-                        }
-                    }
-                }
-            }
-        });
-        return extractedTypes;
+    private static synchronized VertexTypeExtractor getExtractor() {
+        final Collection<SchemaVertexType> schemaTypes = getTypes();
+        if (extractor == null || !extractor.isFor(schemaTypes)) {
+            extractor = new VertexTypeExtractor(schemaTypes);
+        }
+        return extractor;
     }
 
     /**
@@ -431,6 +390,11 @@ public class SchemaVertexTypeUtilities {
 
         // a custom type was added and the cache is out of date, remove the entry
         SCHEMA_VERTEX_TYPE_CACHE.remove(GET_ALL_TYPES);
+        clearExtractor();
+    }
+
+    private static synchronized void clearExtractor() {
+        extractor = null;
     }
 
     /**
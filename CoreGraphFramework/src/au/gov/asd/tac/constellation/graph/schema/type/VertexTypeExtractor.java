@@ -0,0 +1,320 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.schema.type;
+
+import au.gov.asd.tac.constellation.graph.schema.type.SchemaVertexTypeUtilities.ExtractedVertexType;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+/**
+ * Extracts {@link SchemaVertexType} matches from text using the detection
+ * regular expressions of a fixed collection of types.
+ * <p>
+ * The detection regular expressions are compiled once into a single
+ * alternation, which is used to find the positions in the text where any type
+ * could match in one pass over the text. Only at those positions are the
+ * individual types tried, so the cost of extraction grows with the length of
+ * the text and the number of matches rather than with the length of the text
+ * times the number of types. A type whose detection regular expression cannot
+ * be combined with the others (for example, one using back references or
+ * flags without an inline form) is matched against the text on its own.
+ * <p>
+ * For long texts, the positions found by the combined regular expression are
+ * collected first and the individual types are tried at those positions in
+ * parallel, in chunks on the shared fork join pool. The results are then used
+ * by the same single pass over the text, so the matches found are the same as
+ * for a short text.
+ * <p>
+ * Matches are resolved into non-overlapping spans, preferring the match which
+ * starts first, then the longest match, then the most dominant type as decided
+ * by the default {@link VertexDominanceCalculator}. Each identifier is
+ * extracted once, at its first occurrence in the text.
+ * <p>
+ * An extractor holds no mutable state, so it can be used from many threads at
+ * once.
+ *
+ * @author sirius
+ */
+final class VertexTypeExtractor {
+
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+    private static final int NON_INLINE_FLAGS = Pattern.LITERAL | Pattern.CANON_EQ | Pattern.UNICODE_CHARACTER_CLASS;
+    private static final int PARALLEL_TEXT_LENGTH = 1 << 16;
+    private static final int PARALLEL_CHUNK_SIZE = 256;
+
+    private final List<SchemaVertexType> types;
+    private final List<SchemaVertexType> combinedTypes = new ArrayList<>();
+    private final List<Pattern> combinedPatterns = new ArrayList<>();
+    private final List<Integer> combinedRanks = new ArrayList<>();
+    private final List<SchemaVertexType> separateTypes = new ArrayList<>();
+    private final List<Pattern> separatePatterns = new ArrayList<>();
+    private final List<Integer> separateRanks = new ArrayList<>();
+    private final Pattern combinedPattern;
+
+    /**
+     * Compile an extractor for the given types.
+     *
+     * @param types The types to extract, in the order they were registered.
+     */
+    VertexTypeExtractor(final Collection<SchemaVertexType> types) {
+        this.types = List.copyOf(types);
+
+        // order the types by dominance so the most dominant type wins a tie
+        final List<SchemaVertexType> orderedTypes = new ArrayList<>(this.types);
+        orderedTypes.sort(VertexDominanceCalculator.getDefault().getComparator());
+
+        final StringBuilder combined = new StringBuilder();
+        for (int rank = 0; rank < orderedTypes.size(); rank++) {
+            final SchemaVertexType type = orderedTypes.get(rank);
+            final Pattern regex = type.getDetectionRegex();
+            if (regex == null) {
+                continue;
+            }
+
+            final String source = regex.pattern();
+            if ((regex.flags() & NON_INLINE_FLAGS) != 0 || BACK_REFERENCE.matcher(source).find()) {
+                separateTypes.add(type);
+                separatePatterns.add(regex);
+                separateRanks.add(rank);
+            } else {
+                if (!combinedTypes.isEmpty()) {
+                    combined.append('|');
+                }
+                combined.append("(?").append(getInlineFlags(regex.flags())).append(":").append(source).append(')');
+                combinedTypes.add(type);
+                combinedPatterns.add(regex);
+                combinedRanks.add(rank);
+            }
+        }
+
+        Pattern pattern = null;
+        if (!combinedTypes.isEmpty()) {
+            try {
+                pattern = Pattern.compile(combined.toString());
+            } catch (final PatternSyntaxException ex) {
+                // the patterns could not be combined, so match all of them separately
+                separateTypes.addAll(combinedTypes);
+                separatePatterns.addAll(combinedPatterns);
+                separateRanks.addAll(combinedRanks);
+                combinedTypes.clear();
+                combinedPatterns.clear();
+                combinedRanks.clear();
+            }
+        }
+        combinedPattern = pattern;
+    }
+
+    private static String getInlineFlags(final int flags) {
+        final StringBuilder inlineFlags = new StringBuilder();
+        if ((flags & Pattern.UNIX_LINES) != 0) {
+            inlineFlags.append('d');
+        }
+        if ((flags & Pattern.CASE_INSENSITIVE) != 0) {
+            inlineFlags.append('i');
+        }
+        if ((flags & Pattern.COMMENTS) != 0) {
+            inlineFlags.append('x');
+        }
+        if ((flags & Pattern.MULTILINE) != 0) {
+            inlineFlags.append('m');
+        }
+        if ((flags & Pattern.DOTALL) != 0) {
+            inlineFlags.append('s');
+        }
+        if ((flags & Pattern.UNICODE_CASE) != 0) {
+            inlineFlags.append('u');
+        }
+        return inlineFlags.toString();
+    }
+
+    /**
+     * Whether this extractor was compiled for the given types.
+     *
+     * @param types The types currently registered.
+     * @return True if this extractor was compiled for the same types in the
+     * same order, false otherwise.
+     */
+    boolean isFor(final Collection<SchemaVertexType> types) {
+        return this.types.equals(new ArrayList<>(types));
+    }
+
+    /**
+     * Extract the non-overlapping type matches from the given text.
+     *
+     * @param text The text to extract types from.
+     * @param previouslyExtracted Types previously extracted from this text,
+     * which take part in resolving overlapping matches, or null.
+     * @return A {@link List} of {@link ExtractedVertexType} in the order they
+     * appear in the text.
+     */
+    List<ExtractedVertexType> extract(final String text, final List<ExtractedVertexType> previouslyExtracted) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+
+        final List<Candidate> candidates = new ArrayList<>();
+        if (previouslyExtracted != null) {
+            previouslyExtracted.forEach(extractedType -> candidates.add(new Candidate(extractedType, -1)));
+        }
+
+        if (combinedPattern != null) {
+            final Matcher[] typeMatchers = new Matcher[combinedPatterns.size()];
+            final Matcher matcher = combinedPattern.matcher(text);
+
+            // for a long text, try the types at the positions found ahead of time in parallel
+            final int[] positions = text.length() >= PARALLEL_TEXT_LENGTH ? findPositions(matcher, text) : new int[0];
+            final long[] matches = matchInParallel(text, positions);
+
+            int next = 0;
+            int from = 0;
+            while (from <= text.length() && matcher.find(from)) {
+                final int start = matcher.start();
+                while (next < positions.length && positions[next] < start) {
+                    next++;
+                }
+                final long match = next < positions.length && positions[next] == start ? matches[next] : matchAt(typeMatchers, text, start);
+
+                if (match < 0) {
+                    from = start + 1;
+                } else {
+                    final int best = (int) (match >>> 32);
+                    final int bestEnd = (int) match;
+                    candidates.add(new Candidate(new ExtractedVertexType(text.substring(start, bestEnd), combinedTypes.get(best), text, start, bestEnd), combinedRanks.get(best)));
+                    from = bestEnd;
+                }
+            }
+        }
+
+        for (int i = 0; i < separatePatterns.size(); i++) {
+            final Matcher matcher = separatePatterns.get(i).matcher(text);
+            while (matcher.find()) {
+                final String identifier = matcher.group();
+                if (!identifier.isEmpty()) {
+                    candidates.add(new Candidate(new ExtractedVertexType(identifier, separateTypes.get(i), text, matcher.start(), matcher.end()), separateRanks.get(i)));
+                }
+            }
+        }
+
+        return resolve(candidates);
+    }
+
+    /**
+     * Try each combined type at the given position, keeping the longest match.
+     *
+     * @param typeMatchers The matchers for each combined type, created as they
+     * are needed.
+     * @param text The text being extracted from.
+     * @param start The position in the text to match at.
+     * @return The index of the matching type in the upper 32 bits and the end
+     * of the match in the lower 32 bits, or -1 if no type matches.
+     */
+    private long matchAt(final Matcher[] typeMatchers, final String text, final int start) {
+        int best = -1;
+        int bestEnd = start;
+        for (int i = 0; i < combinedPatterns.size(); i++) {
+            if (typeMatchers[i] == null) {
+                typeMatchers[i] = combinedPatterns.get(i).matcher(text)
+                        .useAnchoringBounds(false)
+                        .useTransparentBounds(true);
+            }
+            final Matcher typeMatcher = typeMatchers[i].region(start, text.length());
+            if (typeMatcher.lookingAt() && typeMatcher.end() > bestEnd) {
+                best = i;
+                bestEnd = typeMatcher.end();
+            }
+        }
+        return best < 0 ? -1 : ((long) best << 32) | bestEnd;
+    }
+
+    /**
+     * Find the positions in the text where any combined type could match,
+     * without skipping over the matches found.
+     */
+    private static int[] findPositions(final Matcher matcher, final String text) {
+        int[] positions = new int[PARALLEL_CHUNK_SIZE];
+        int count = 0;
+        int from = 0;
+        while (from <= text.length() && matcher.find(from)) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = matcher.start();
+            from = Math.max(matcher.end(), matcher.start() + 1);
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Try the combined types at each of the given positions, in chunks on the
+     * shared fork join pool.
+     */
+    private long[] matchInParallel(final String text, final int[] positions) {
+        final long[] matches = new long[positions.length];
+        final int chunks = (positions.length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        if (chunks > 0) {
+            ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                final Matcher[] typeMatchers = new Matcher[combinedPatterns.size()];
+                final int end = Math.min(positions.length, (chunk + 1) * PARALLEL_CHUNK_SIZE);
+                for (int i = chunk * PARALLEL_CHUNK_SIZE; i < end; i++) {
+                    matches[i] = matchAt(typeMatchers, text, positions[i]);
+                }
+            })).join();
+        }
+        return matches;
+    }
+
+    /**
+     * Keep the candidates which do not overlap an earlier, longer or more
+     * dominant candidate, and only the first occurrence of each identifier.
+     */
+    private static List<ExtractedVertexType> resolve(final List<Candidate> candidates) {
+        candidates.sort(Comparator.comparingInt((Candidate candidate) -> candidate.extractedType.getStartIndex())
+                .thenComparing(Comparator.comparingInt((Candidate candidate) -> candidate.extractedType.getIdentifier().length()).reversed())
+                .thenComparingInt(candidate -> candidate.rank));
+
+        final List<ExtractedVertexType> extractedTypes = new ArrayList<>();
+        final Set<String> identifiers = new HashSet<>();
+        int end = Integer.MIN_VALUE;
+        for (final Candidate candidate : candidates) {
+            final ExtractedVertexType extractedType = candidate.extractedType;
+            if (extractedType.getStartIndex() >= end || extractedType.getEndIndex() <= extractedType.getStartIndex()) {
+                end = Math.max(end, extractedType.getEndIndex());
+                if (identifiers.add(extractedType.getIdentifier())) {
+                    extractedTypes.add(extractedType);
+                }
+            }
+        }
+        return extractedTypes;
+    }
+
+    /**
+     * A match found in the text, along with the dominance rank of its type.
+     */
+    private record Candidate(ExtractedVertexType extractedType, int rank) {
+
+    }
+}
@@ -19,8 +19,12 @@ import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphIndexType;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.operations.GraphOperation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,7 +39,12 @@ public class UndoGraphEdit implements GraphEdit {
 
     private static final boolean VERBOSE = false;
 
-    private final UndoGraphEditState state;
+    private UndoGraphEditState state;
+
+    // Where the state was written when it was moved out of memory.
+    private UndoSpillFile spillFile = null;
+    private UndoSpillFile.Entry spillEntry = null;
+    private boolean discarded = false;
 
     public UndoGraphEdit() {
         state = new UndoGraphEditState();
@@ -59,12 +68,172 @@ public class UndoGraphEdit implements GraphEdit {
 
     @Override
     public void execute(final GraphWriteMethods graph) {
-        state.execute(graph);
+        getState().execute(graph);
     }
 
     @Override
     public void undo(final GraphWriteMethods graph) {
-        state.undo(graph);
+        getState().undo(graph);
+    }
+
+    /**
+     * Returns the number of operations that will be performed when this edit
+     * is executed, including the operations of any child edits.
+     *
+     * @return the number of operations in this edit.
+     */
+    public synchronized long getOperationCount() {
+        try {
+            return (state != null ? state : readSpilledState()).getOperationCount();
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Unable to read spilled undo edit", ex);
+        }
+    }
+
+    /**
+     * Returns an estimate of the heap used by this edit, or 0 if the edit has
+     * been spilled to disk.
+     *
+     * @return the estimated size of this edit in bytes.
+     */
+    public synchronized long getSizeInBytes() {
+        return state == null ? 0 : state.getSizeInBytes();
+    }
+
+    /**
+     * Returns true if the state of this edit is currently held on disk rather
+     * than in memory.
+     *
+     * @return true if this edit has been spilled to disk.
+     */
+    public synchronized boolean isSpilled() {
+        return state == null;
+    }
+
+    /**
+     * Move the state of this finished edit out of memory and into the given
+     * spill file. The state is read back transparently the next time the edit
+     * is executed or undone, or eagerly with {@link #load()}.
+     * <p>
+     * An edit that has been spilled before is not written again. Edits that
+     * refer to objects that can't be written, such as graph operations, stay
+     * in memory.
+     *
+     * @param file the file to spill the edit to.
+     * @return true if the edit is now spilled, false if it had to stay in
+     * memory.
+     */
+    public boolean spill(final UndoSpillFile file) {
+        return writeSpill(file) && dropState();
+    }
+
+    /**
+     * Write the state of this finished edit to the given spill file, keeping
+     * it in memory until {@link #dropState()} is called. The lock on this edit
+     * isn't held while the state is written, so the edit can still be executed
+     * or undone in the meantime.
+     *
+     * @param file the file to write the edit to.
+     * @return true if the state is now held on disk, false if it couldn't be
+     * written or the edit has been discarded.
+     */
+    public boolean writeSpill(final UndoSpillFile file) {
+        final UndoGraphEditState currentState;
+        synchronized (this) {
+            if (state == null || spillEntry != null) {
+                return true;
+            }
+            if (discarded) {
+                return false;
+            }
+            currentState = state;
+        }
+
+        final UndoSpillFile.Entry entry;
+        try {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (final DataOutputStream out = new DataOutputStream(buffer)) {
+                currentState.write(out);
+            }
+            entry = file.append(buffer.toByteArray());
+        } catch (final IOException ex) {
+            LOGGER.log(Level.FINE, "Unable to spill undo edit", ex);
+            return false;
+        }
+
+        synchronized (this) {
+            if (discarded || spillEntry != null) {
+                file.release(entry);
+                return !discarded;
+            }
+            spillEntry = entry;
+            spillFile = file;
+            return true;
+        }
+    }
+
+    /**
+     * Drop the state of this edit from memory once it has been written with
+     * {@link #writeSpill(UndoSpillFile)}.
+     *
+     * @return true if the state is now only held on disk, false if it hasn't
+     * been written.
+     */
+    public synchronized boolean dropState() {
+        if (spillEntry == null) {
+            return state == null;
+        }
+        state = null;
+        return true;
+    }
+
+    /**
+     * Read the state of this edit back into memory if it has been spilled.
+     *
+     * @return true if the state was read, false if it was already in memory.
+     */
+    public synchronized boolean load() {
+        if (state != null) {
+            return false;
+        }
+        try {
+            state = readSpilledState();
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Unable to reload spilled undo edit", ex);
+        }
+        return true;
+    }
+
+    /**
+     * Release the copy of this edit's state held on disk, once the edit has
+     * been discarded from the undo history and won't be undone or redone
+     * again. If the state is only held on disk, the edit can no longer be
+     * used.
+     */
+    public synchronized void discard() {
+        discarded = true;
+        if (spillEntry != null) {
+            spillFile.release(spillEntry);
+            spillEntry = null;
+        }
+    }
+
+    private UndoGraphEditState readSpilledState() throws IOException {
+        if (spillEntry == null) {
+            throw new IOException("Spilled undo edit has been discarded");
+        }
+        try {
+            return new UndoGraphEditState(new DataInputStream(new ByteArrayInputStream(spillFile.read(spillEntry))));
+        } catch (final IOException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new IOException("Unable to read spilled undo edit", ex);
+        }
+    }
+
+    private synchronized UndoGraphEditState getState() {
+        load();
+        return state;
     }
 
     @Override
@@ -321,7 +490,23 @@ public class UndoGraphEdit implements GraphEdit {
                 state.getCurrentId(), state.getCurrentInt(), state.getCurrentLong(), objectIndex);
     }
 
-    public void write(final DataOutputStream out) throws Exception {
-        state.write(out);
+    /**
+     * Write this edit so that it can be read back with
+     * {@link #UndoGraphEdit(DataInputStream)}.
+     *
+     * @param out the stream to write the edit to.
+     * @throws IOException if the edit could not be written, including when
+     * it refers to objects that cannot be written.
+     */
+    public synchronized void write(final DataOutput out) throws IOException {
+        if (state != null) {
+            state.write(out);
+        } else {
+            // the spilled bytes are exactly what the state would write, so copy them without reloading the edit
+            if (spillEntry == null) {
+                throw new IOException("Spilled undo edit has been discarded");
+            }
+            out.write(spillFile.read(spillEntry));
+        }
     }
 }
@@ -18,6 +18,7 @@ package au.gov.asd.tac.constellation.graph.undo;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphIndexType;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
 import au.gov.asd.tac.constellation.graph.operations.GraphOperation;
 import au.gov.asd.tac.constellation.graph.undo.access.AttributeValueUpdater2;
 import au.gov.asd.tac.constellation.graph.undo.access.AttributeValueUpdater3;
@@ -78,7 +79,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void execute(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addVertex();
+            graph.addVertex(state.getCurrentId());
         }
 
         @Override
@@ -112,7 +113,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void undo(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addVertex();
+            graph.addVertex(state.getCurrentId());
         }
 
         @Override
@@ -136,7 +137,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void execute(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addTransaction(state.getCurrentObject(), state.getCurrentInt(), true);
+            graph.addTransaction(state.getCurrentId(), state.getCurrentObject(), state.getCurrentInt(), true);
         }
 
         @Override
@@ -171,7 +172,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void execute(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addTransaction(state.getCurrentObject(), state.getCurrentInt(), false);
+            graph.addTransaction(state.getCurrentId(), state.getCurrentObject(), state.getCurrentInt(), false);
         }
 
         @Override
@@ -211,7 +212,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void undo(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addTransaction(state.getCurrentObject(), state.getCurrentInt(), true);
+            graph.addTransaction(state.getCurrentId(), state.getCurrentObject(), state.getCurrentInt(), true);
         }
 
         @Override
@@ -246,7 +247,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void undo(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            graph.addTransaction(state.getCurrentObject(), state.getCurrentInt(), false);
+            graph.addTransaction(state.getCurrentId(), state.getCurrentObject(), state.getCurrentInt(), false);
         }
 
         @Override
@@ -352,8 +353,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void execute(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            final Object[] params = (Object[]) state.getObjectStack()[state.getCurrentObject()];
-            graph.addAttribute((GraphElementType) params[0], (String) params[1], (String) params[2], (String) params[3], params[4], (String) params[5]);
+            addAttribute(state, graph);
         }
 
         @Override
@@ -390,8 +390,7 @@ public enum UndoGraphEditOperation {
 
         @Override
         public void undo(final UndoGraphEditState state, final GraphWriteMethods graph) {
-            final Object[] params = (Object[]) state.getObjectStack()[state.getCurrentObject()];
-            graph.addAttribute((GraphElementType) params[0], (String) params[1], (String) params[2], (String) params[3], params[4], (String) params[5]);
+            addAttribute(state, graph);
         }
 
         @Override
@@ -1132,6 +1131,23 @@ public enum UndoGraphEditOperation {
         AttributeValueUpdater2.INSTANCE.updateUndo(state, instruction >>> OPERATION_SHIFT);
     }
 
+    /**
+     * Add the attribute described by the current object, giving it the id it
+     * had when the edit was recorded where the graph allows it so that
+     * replaying an edit on a copy of a graph gives the same attribute ids.
+     *
+     * @param state the edit state.
+     * @param graph the graph to add the attribute to.
+     */
+    private static void addAttribute(final UndoGraphEditState state, final GraphWriteMethods graph) {
+        final Object[] params = (Object[]) state.getObjectStack()[state.getCurrentObject()];
+        if (graph instanceof StoreGraph storeGraph) {
+            storeGraph.addAttribute((GraphElementType) params[0], (String) params[1], (String) params[2], (String) params[3], params[4], (String) params[5], state.getCurrentAttribute());
+        } else {
+            graph.addAttribute((GraphElementType) params[0], (String) params[1], (String) params[2], (String) params[3], params[4], (String) params[5]);
+        }
+    }
+
     public abstract void execute(final UndoGraphEditState state, final GraphWriteMethods graph);
 
     public abstract void undo(final UndoGraphEditState state, final GraphWriteMethods graph);
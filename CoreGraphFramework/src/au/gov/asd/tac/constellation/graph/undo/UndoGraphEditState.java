@@ -20,14 +20,10 @@ import au.gov.asd.tac.constellation.graph.operations.GraphOperation;
 import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
 import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
-import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
 import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 
 /**
@@ -38,8 +34,6 @@ public class UndoGraphEditState {
 
     private static final Logger LOGGER = Logger.getLogger(UndoGraphEditState.class.getName());
 
-    private static final Charset UTF8 = StandardCharsets.UTF_8;
-
     private static final boolean PRINT_STATS = false;
 
     private static final int REPEAT_MASK = 3;
@@ -93,6 +87,12 @@ public class UndoGraphEditState {
         // do nothing
     }
 
+    /**
+     * Read a finished edit state written by {@link #write(DataOutput)}.
+     *
+     * @param in the stream to read the state from.
+     * @throws Exception if the state could not be read.
+     */
     public UndoGraphEditState(final DataInputStream in) throws Exception {
         operationCount = in.readInt();
         operationStack = new short[operationCount];
@@ -102,9 +102,7 @@ public class UndoGraphEditState {
 
         byteCount = in.readInt();
         byteStack = new byte[byteCount];
-        for (int i = 0; i < byteCount; i++) {
-            byteStack[i] = in.readByte();
-        }
+        in.readFully(byteStack);
 
         shortCount = in.readInt();
         shortStack = new short[shortCount];
@@ -124,31 +122,21 @@ public class UndoGraphEditState {
             longStack[i] = in.readLong();
         }
 
-        final MutableIntObjectMap<Class<?>> classMap = new IntObjectHashMap<>();
-        classMap.put(0, null);
+        finalAttribute = in.readInt();
+        finalId = in.readInt();
+        finalInt = in.readInt();
+        finalObject = in.readInt();
+        finalFloat = in.readInt();
+        finalLong = in.readLong();
+        finalDouble = in.readLong();
 
         objectCount = in.readInt();
-        byte[] buffer = new byte[1024];
+        objectStack = new Object[objectCount];
         for (int i = 0; i < objectCount; i++) {
-            final int objectClassIndex = in.readInt();
-            final Class<?> objectClass;
-            if (classMap.containsKey(objectClassIndex)) {
-                objectClass = classMap.get(objectClassIndex);
-            } else {
-                final int classLength = in.readInt();
-                if (classLength > buffer.length) {
-                    buffer = Arrays.copyOf(buffer, classLength);
-                }
-                in.read(buffer, 0, classLength);
-                final String objectName = new String(buffer, 0, classLength, UTF8);
-                objectClass = Class.forName(objectName);
-            }
-            classMap.put(objectClassIndex, objectClass);
-            objectMap.put(objectClass, objectClassIndex);
+            objectStack[i] = UndoObjectCodec.read(in);
         }
 
-        objectStack = new Object[objectCount];
-        Arrays.setAll(objectStack, classMap::get);
+        objectMap = null;
     }
 
     public byte[] getByteStack() {
@@ -470,6 +458,58 @@ public class UndoGraphEditState {
         }
     }
 
+    /**
+     * Returns the number of operations that will be performed when this edit
+     * is executed, including the operations of any child edits.
+     *
+     * @return the number of operations in this edit.
+     */
+    public long getOperationCount() {
+        long count = 0;
+        for (int operationIndex = 0; operationIndex < operationCount; operationIndex++) {
+            count += ((operationStack[operationIndex] >>> REPEAT_SHIFT) & REPEAT_MASK) + 1;
+        }
+        for (int objectIndex = 0; objectIndex < objectCount; objectIndex++) {
+            if (objectStack[objectIndex] instanceof UndoGraphEdit childEdit) {
+                count += childEdit.getOperationCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the heap used by this edit state, including the
+     * states of any child edits. Objects other than strings and child edits
+     * are counted as a reference only.
+     *
+     * @return the estimated size of this edit state in bytes.
+     */
+    public long getSizeInBytes() {
+        long size = (operationStack.length * 2L) + byteStack.length + (shortStack.length * 2L)
+                + (intStack.length * 4L) + (longStack.length * 8L) + (objectStack.length * 8L);
+        for (int objectIndex = 0; objectIndex < objectCount; objectIndex++) {
+            switch (objectStack[objectIndex]) {
+                case UndoGraphEdit childEdit -> size += childEdit.getSizeInBytes();
+                case String string -> size += 40L + string.length();
+                case null, default -> {
+                    // Only the reference is counted.
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Write this edit state so that it can be read back with
+     * {@link #UndoGraphEditState(DataInputStream)}.
+     * <p>
+     * The state must have been finished. Objects on the object stack are
+     * written with {@link UndoObjectCodec}; if any of them cannot be written
+     * a {@link java.io.NotSerializableException} is thrown.
+     *
+     * @param out the stream to write the state to.
+     * @throws IOException if the state could not be written.
+     */
     public void write(final DataOutput out) throws IOException {
         out.writeInt(operationCount);
         for (int i = 0; i < operationCount; i++) {
@@ -477,9 +517,7 @@ public class UndoGraphEditState {
         }
 
         out.writeInt(byteCount);
-        for (int i = 0; i < byteCount; i++) {
-            out.writeByte(byteStack[i]);
-        }
+        out.write(byteStack, 0, byteCount);
 
         out.writeInt(shortCount);
         for (int i = 0; i < shortCount; i++) {
@@ -496,25 +534,17 @@ public class UndoGraphEditState {
             out.writeLong(longStack[i]);
         }
 
-        final MutableObjectIntMap<Class<?>> classMap = new ObjectIntHashMap<>();
-        classMap.put(null, 0);
+        out.writeInt(finalAttribute);
+        out.writeInt(finalId);
+        out.writeInt(finalInt);
+        out.writeInt(finalObject);
+        out.writeInt(finalFloat);
+        out.writeLong(finalLong);
+        out.writeLong(finalDouble);
 
         out.writeInt(objectCount);
         for (int i = 0; i < objectCount; i++) {
-            final Object object = objectStack[i];
-            final Class<?> objectClass = object == null ? null : object.getClass();
-            if (classMap.containsKey(objectClass)) {
-                out.writeInt(classMap.get(objectClass));
-            } else {
-                out.writeInt(classMap.size());
-                if (objectClass != null) {
-                    final String className = objectClass.getCanonicalName();
-                    byte[] utf8 = className.getBytes(UTF8);
-                    out.write(utf8.length);
-                    out.write(utf8);
-                }
-                classMap.put(objectClass, classMap.size());
-            }
+            UndoObjectCodec.write(out, objectStack[i]);
         }
     }
 }
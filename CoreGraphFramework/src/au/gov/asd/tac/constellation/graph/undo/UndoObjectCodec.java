@@ -0,0 +1,195 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.undo;
+
+import au.gov.asd.tac.constellation.utilities.icon.ConstellationIcon;
+import au.gov.asd.tac.constellation.utilities.icon.IconManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import org.openide.util.Lookup;
+
+/**
+ * Writes and reads the objects referenced by an {@link UndoGraphEditState}.
+ * <p>
+ * The objects an edit refers to are attribute values, attribute parameters,
+ * primary keys and child edits. The common cases are written compactly and
+ * anything else that is {@link Serializable} is written with Java
+ * serialisation. Objects that can't be written at all, such as graph
+ * operations, cause a {@link NotSerializableException} so that callers can
+ * fall back to saving the whole graph.
+ *
+ * @author sirius
+ */
+final class UndoObjectCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte EDIT = 2;
+    private static final byte OBJECT_ARRAY = 3;
+    private static final byte INT_ARRAY = 4;
+    private static final byte ENUM = 5;
+    private static final byte ICON = 6;
+    private static final byte SERIALIZED = 7;
+
+    private UndoObjectCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void write(final DataOutput out, final Object object) throws IOException {
+        switch (object) {
+            case null -> out.writeByte(NULL);
+            case String string -> {
+                out.writeByte(STRING);
+                writeString(out, string);
+            }
+            case UndoGraphEdit edit -> {
+                out.writeByte(EDIT);
+                edit.write(out);
+            }
+            case Object[] array -> {
+                out.writeByte(OBJECT_ARRAY);
+                out.writeInt(array.length);
+                for (final Object element : array) {
+                    write(out, element);
+                }
+            }
+            case int[] array -> {
+                out.writeByte(INT_ARRAY);
+                out.writeInt(array.length);
+                for (final int element : array) {
+                    out.writeInt(element);
+                }
+            }
+            case Enum<?> constant -> {
+                out.writeByte(ENUM);
+                writeString(out, constant.getDeclaringClass().getName());
+                writeString(out, constant.name());
+            }
+            case ConstellationIcon icon -> {
+                out.writeByte(ICON);
+                writeString(out, icon.getExtendedName());
+            }
+            case Serializable serializable -> {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                try (final ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+                    oos.writeObject(serializable);
+                }
+                out.writeByte(SERIALIZED);
+                out.writeInt(buffer.size());
+                out.write(buffer.toByteArray());
+            }
+            default -> throw new NotSerializableException(object.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"}) // The enum class is checked when it is loaded.
+    static Object read(final DataInputStream in) throws Exception {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case NULL -> {
+                return null;
+            }
+            case STRING -> {
+                return readString(in);
+            }
+            case EDIT -> {
+                return new UndoGraphEdit(in);
+            }
+            case OBJECT_ARRAY -> {
+                final Object[] array = new Object[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = read(in);
+                }
+                return array;
+            }
+            case INT_ARRAY -> {
+                final int[] array = new int[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readInt();
+                }
+                return array;
+            }
+            case ENUM -> {
+                final Class<?> enumClass = Class.forName(readString(in), false, getClassLoader());
+                if (!enumClass.isEnum()) {
+                    throw new StreamCorruptedException("Not an enum: " + enumClass.getName());
+                }
+                return Enum.valueOf((Class<? extends Enum>) enumClass, readString(in));
+            }
+            case ICON -> {
+                return IconManager.getIcon(readString(in));
+            }
+            case SERIALIZED -> {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (final ObjectInputStream ois = new ModuleObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return ois.readObject();
+                }
+            }
+            default -> throw new StreamCorruptedException("Unknown object tag: " + tag);
+        }
+    }
+
+    private static void writeString(final DataOutput out, final String string) throws IOException {
+        final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Attribute values and enums may belong to any module, so classes are
+     * loaded with the system class loader rather than this module's.
+     *
+     * @return the class loader to load classes with.
+     */
+    private static ClassLoader getClassLoader() {
+        final ClassLoader classLoader = Lookup.getDefault().lookup(ClassLoader.class);
+        return classLoader != null ? classLoader : UndoObjectCodec.class.getClassLoader();
+    }
+
+    private static final class ModuleObjectInputStream extends ObjectInputStream {
+
+        ModuleObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, getClassLoader());
+            } catch (final ClassNotFoundException ex) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
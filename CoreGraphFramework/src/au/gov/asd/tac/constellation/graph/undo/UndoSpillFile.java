@@ -0,0 +1,245 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.undo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A temporary file that holds the states of undo edits that have been moved
+ * out of memory.
+ * <p>
+ * Edit states are appended to the file as entries and are not rewritten when
+ * they are reloaded, so an edit that is reloaded and later spilled again keeps
+ * its original entry. An entry is released when its edit is discarded from
+ * the undo history. Once the released entries take up more of the file than
+ * the live ones, the live entries are copied to a new file and the old one is
+ * deleted, so the file doesn't keep growing over a long session. The file is
+ * created when the first edit is spilled and is deleted when it is closed or
+ * when the application exits.
+ *
+ * @author sirius
+ */
+public final class UndoSpillFile {
+
+    private static final Logger LOGGER = Logger.getLogger(UndoSpillFile.class.getName());
+
+    /**
+     * The file isn't compacted until it holds at least this many bytes of
+     * released entries.
+     */
+    private static final long MIN_COMPACTION_SIZE = 16L * 1024 * 1024;
+
+    private File file = null;
+    private RandomAccessFile raf = null;
+    private boolean closed = false;
+    private final Set<Entry> entries = new HashSet<>();
+    private long liveSize = 0;
+
+    /**
+     * The location of bytes appended to a spill file. The offset changes when
+     * the file is compacted.
+     */
+    public static final class Entry {
+
+        private long offset;
+        private final int length;
+
+        private Entry(final long offset, final int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Append bytes to the end of the file.
+     *
+     * @param bytes the bytes to append.
+     * @return the entry holding the bytes.
+     * @throws IOException if the file could not be created or written, or if
+     * it has been closed.
+     */
+    public synchronized Entry append(final byte[] bytes) throws IOException {
+        if (closed) {
+            throw new IOException("Undo spill file is closed");
+        }
+        if (raf == null) {
+            file = createFile();
+            raf = new RandomAccessFile(file, "rw");
+        }
+        final long offset = raf.length();
+        raf.seek(offset);
+        raf.write(bytes);
+
+        final Entry entry = new Entry(offset, bytes.length);
+        entries.add(entry);
+        liveSize += bytes.length;
+        return entry;
+    }
+
+    /**
+     * Read the bytes held by an entry.
+     *
+     * @param entry the entry returned by {@link #append(byte[])}.
+     * @return the bytes.
+     * @throws IOException if the bytes could not be read, or if the entry has
+     * been released.
+     */
+    public synchronized byte[] read(final Entry entry) throws IOException {
+        if (raf == null) {
+            throw new IOException("Undo spill file is closed");
+        }
+        if (!entries.contains(entry)) {
+            throw new IOException("Undo spill file entry has been released");
+        }
+        final byte[] bytes = new byte[entry.length];
+        raf.seek(entry.offset);
+        raf.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Release an entry that will no longer be read, compacting the file if
+     * most of it is now taken up by released entries.
+     *
+     * @param entry the entry returned by {@link #append(byte[])}.
+     */
+    public synchronized void release(final Entry entry) {
+        if (!entries.remove(entry)) {
+            return;
+        }
+        liveSize -= entry.length;
+
+        final long releasedSize = getSize() - liveSize;
+        if (releasedSize >= MIN_COMPACTION_SIZE && releasedSize > liveSize) {
+            try {
+                compact();
+            } catch (final IOException ex) {
+                LOGGER.log(Level.WARNING, "Unable to compact undo spill file", ex);
+            }
+        }
+    }
+
+    /**
+     * Copy the live entries to a new file and delete the old one.
+     *
+     * @throws IOException if the new file could not be written.
+     */
+    synchronized void compact() throws IOException {
+        if (raf == null) {
+            return;
+        }
+
+        final File newFile = createFile();
+        final RandomAccessFile newRaf = new RandomAccessFile(newFile, "rw");
+        final List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort((entry1, entry2) -> Long.compare(entry1.offset, entry2.offset));
+        final long[] newOffsets = new long[sorted.size()];
+        try {
+            long offset = 0;
+            byte[] buffer = new byte[0];
+            for (int i = 0; i < sorted.size(); i++) {
+                final Entry entry = sorted.get(i);
+                if (buffer.length < entry.length) {
+                    buffer = new byte[entry.length];
+                }
+                raf.seek(entry.offset);
+                raf.readFully(buffer, 0, entry.length);
+                newRaf.write(buffer, 0, entry.length);
+                newOffsets[i] = offset;
+                offset += entry.length;
+            }
+        } catch (final IOException ex) {
+            newRaf.close();
+            if (!newFile.delete()) {
+                LOGGER.log(Level.FINE, "Unable to delete undo spill file {0}", newFile);
+            }
+            throw ex;
+        }
+
+        // Only move the entries once the new file is complete.
+        for (int i = 0; i < sorted.size(); i++) {
+            sorted.get(i).offset = newOffsets[i];
+        }
+        deleteFile();
+        file = newFile;
+        raf = newRaf;
+    }
+
+    /**
+     * Returns the number of bytes written to this file so far.
+     *
+     * @return the size of this file in bytes.
+     */
+    public synchronized long getSize() {
+        try {
+            return raf == null ? 0 : raf.length();
+        } catch (final IOException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of bytes in entries that have not been released.
+     *
+     * @return the size of the live entries in bytes.
+     */
+    public synchronized long getLiveSize() {
+        return liveSize;
+    }
+
+    /**
+     * Close and delete the file. Edits spilled to this file can no longer be
+     * reloaded, so this should only be called when the graph they belong to
+     * is no longer in use.
+     */
+    public synchronized void close() {
+        closed = true;
+        deleteFile();
+        entries.clear();
+        liveSize = 0;
+    }
+
+    private static File createFile() throws IOException {
+        final File newFile = File.createTempFile("constellation-undo", ".tmp");
+        newFile.deleteOnExit();
+        return newFile;
+    }
+
+    private void deleteFile() {
+        if (raf != null) {
+            try {
+                raf.close();
+            } catch (final IOException ex) {
+                LOGGER.log(Level.WARNING, "Unable to close undo spill file", ex);
+            }
+            raf = null;
+        }
+        if (file != null) {
+            if (!file.delete()) {
+                LOGGER.log(Level.FINE, "Unable to delete undo spill file {0}", file);
+            }
+            file = null;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.utilities;
+
+import au.gov.asd.tac.constellation.graph.GraphConstants;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of the connectivity of a graph in compressed sparse row
+ * form. Vertices are identified by their position in the graph at the time the
+ * snapshot was taken, and the neighbours of the vertex at position
+ * {@code p} occupy the indices from {@link #getNeighbourStart(int)} to
+ * {@link #getNeighbourEnd(int)} (exclusive) of the neighbour arrays. Each
+ * neighbour appears at most once per vertex, regardless of the number of
+ * transactions between them, and loops are not included.
+ * <p>
+ * The connections included in a snapshot are determined by direction:
+ * outgoing connections are followed from their source to their destination,
+ * incoming connections from their destination to their source, and undirected
+ * connections are followed in both directions if they are treated as
+ * bidirectional, otherwise they are followed in the direction they were
+ * recorded. Optionally, each neighbour carries a weight which is the sum of a
+ * float transaction attribute over the included transactions.
+ * <p>
+ * A snapshot can be built in time proportional to the number of vertices and
+ * transactions, and since it holds only primitive arrays it can be shared
+ * safely between threads.
+ * <p>
+ * Snapshots are not cached between uses: the modification counters of a graph
+ * go back down when an edit is undone, and copies of a graph share its id and
+ * counters, so neither identifies a particular state of a graph. An analytic
+ * should build the snapshots it needs once per run, and use
+ * {@link #transpose()} rather than a second build when it needs the same
+ * connections in both directions.
+ *
+ * @author cygnus_x-1
+ */
+public final class CompressedGraphSnapshot {
+
+    private final int[] vertexIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final float[] weights;
+    private final long structureModificationCounter;
+
+    private CompressedGraphSnapshot(final int[] vertexIds, final int[] offsets, final int[] targets, final float[] weights,
+            final long structureModificationCounter) {
+        this.vertexIds = vertexIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.structureModificationCounter = structureModificationCounter;
+    }
+
+    /**
+     * Build a snapshot of the given graph.
+     *
+     * @param graph the graph to take a snapshot of.
+     * @param includeIncoming whether to follow incoming connections.
+     * @param includeOutgoing whether to follow outgoing connections.
+     * @param treatUndirectedBidirectional whether to follow undirected
+     * connections in both directions.
+     * @param weightAttribute the id of a float transaction attribute to weight
+     * neighbours by, or {@link GraphConstants#NOT_FOUND} for an unweighted
+     * snapshot.
+     * @return a snapshot of the graph.
+     */
+    public static CompressedGraphSnapshot build(final GraphReadMethods graph, final boolean includeIncoming, final boolean includeOutgoing,
+            final boolean treatUndirectedBidirectional, final int weightAttribute) {
+        final boolean weighted = weightAttribute != GraphConstants.NOT_FOUND;
+        final int vertexCount = graph.getVertexCount();
+        final int[] vertexIds = new int[vertexCount];
+        final int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[Math.max(16, graph.getLinkCount() * 2)];
+        float[] weights = weighted ? new float[targets.length] : null;
+
+        int neighbourCount = 0;
+        for (int position = 0; position < vertexCount; position++) {
+            final int vertexId = graph.getVertex(position);
+            vertexIds[position] = vertexId;
+            offsets[position] = neighbourCount;
+
+            final int linkCount = graph.getVertexLinkCount(vertexId);
+            for (int linkPosition = 0; linkPosition < linkCount; linkPosition++) {
+                final int linkId = graph.getVertexLink(vertexId, linkPosition);
+                final int lowVertexId = graph.getLinkLowVertex(linkId);
+                final int neighbourId = lowVertexId == vertexId ? graph.getLinkHighVertex(linkId) : lowVertexId;
+                if (neighbourId == vertexId) {
+                    continue;
+                }
+
+                boolean included = false;
+                float weight = 0;
+                final int edgeCount = graph.getLinkEdgeCount(linkId);
+                for (int edgePosition = 0; edgePosition < edgeCount; edgePosition++) {
+                    final int edgeId = graph.getLinkEdge(linkId, edgePosition);
+                    if (isFollowed(graph, edgeId, vertexId, includeIncoming, includeOutgoing, treatUndirectedBidirectional)) {
+                        included = true;
+                        if (!weighted) {
+                            break;
+                        }
+                        final int transactionCount = graph.getEdgeTransactionCount(edgeId);
+                        for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
+                            weight += graph.getFloatValue(weightAttribute, graph.getEdgeTransaction(edgeId, transactionPosition));
+                        }
+                    }
+                }
+
+                if (included) {
+                    if (neighbourCount == targets.length) {
+                        targets = Arrays.copyOf(targets, targets.length * 2);
+                        if (weighted) {
+                            weights = Arrays.copyOf(weights, targets.length);
+                        }
+                    }
+                    targets[neighbourCount] = graph.getVertexPosition(neighbourId);
+                    if (weighted) {
+                        weights[neighbourCount] = weight;
+                    }
+                    neighbourCount++;
+                }
+            }
+        }
+        offsets[vertexCount] = neighbourCount;
+
+        return new CompressedGraphSnapshot(vertexIds, offsets, Arrays.copyOf(targets, neighbourCount),
+                weighted ? Arrays.copyOf(weights, neighbourCount) : null,
+                graph.getStructureModificationCounter());
+    }
+
+    private static boolean isFollowed(final GraphReadMethods graph, final int edgeId, final int vertexId,
+            final boolean includeIncoming, final boolean includeOutgoing, final boolean treatUndirectedBidirectional) {
+        return (treatUndirectedBidirectional && graph.getEdgeDirection(edgeId) == GraphConstants.UNDIRECTED)
+                || (includeOutgoing && graph.getEdgeSourceVertex(edgeId) == vertexId)
+                || (includeIncoming && graph.getEdgeDestinationVertex(edgeId) == vertexId);
+    }
+
+    /**
+     * Create a snapshot with every connection reversed, so that the neighbours
+     * of each vertex become the vertices which it was a neighbour of. This is
+     * useful for algorithms which pull values along incoming connections.
+     * <p>
+     * Transposing a snapshot of the outgoing connections gives the same
+     * neighbours and weights as building a snapshot of the incoming
+     * connections (and vice versa), in time proportional to the number of
+     * neighbour entries rather than by walking the graph again.
+     *
+     * @return the transposed snapshot.
+     */
+    public CompressedGraphSnapshot transpose() {
+        final int vertexCount = vertexIds.length;
+        final int[] transposedOffsets = new int[vertexCount + 1];
+        for (final int target : targets) {
+            transposedOffsets[target + 1]++;
+        }
+        for (int position = 0; position < vertexCount; position++) {
+            transposedOffsets[position + 1] += transposedOffsets[position];
+        }
+
+        final int[] next = Arrays.copyOf(transposedOffsets, vertexCount);
+        final int[] transposedTargets = new int[targets.length];
+        final float[] transposedWeights = weights == null ? null : new float[weights.length];
+        for (int position = 0; position < vertexCount; position++) {
+            for (int index = offsets[position]; index < offsets[position + 1]; index++) {
+                final int transposedIndex = next[targets[index]]++;
+                transposedTargets[transposedIndex] = position;
+                if (transposedWeights != null) {
+                    transposedWeights[transposedIndex] = weights[index];
+                }
+            }
+        }
+
+        return new CompressedGraphSnapshot(vertexIds, transposedOffsets, transposedTargets, transposedWeights,
+                structureModificationCounter);
+    }
+
+    /**
+     * Get the number of vertices in the snapshot.
+     *
+     * @return the number of vertices.
+     */
+    public int getVertexCount() {
+        return vertexIds.length;
+    }
+
+    /**
+     * Get the id of the vertex at the given position in the graph.
+     *
+     * @param position the position of the vertex.
+     * @return the id of the vertex.
+     */
+    public int getVertexId(final int position) {
+        return vertexIds[position];
+    }
+
+    /**
+     * Get the total number of neighbour entries across all vertices.
+     *
+     * @return the number of neighbour entries.
+     */
+    public int getNeighbourEntryCount() {
+        return targets.length;
+    }
+
+    /**
+     * Get the number of neighbours of the vertex at the given position.
+     *
+     * @param position the position of the vertex.
+     * @return the number of neighbours.
+     */
+    public int getNeighbourCount(final int position) {
+        return offsets[position + 1] - offsets[position];
+    }
+
+    /**
+     * Get the index of the first neighbour entry for the vertex at the given
+     * position.
+     *
+     * @param position the position of the vertex.
+     * @return the index of the first neighbour entry.
+     */
+    public int getNeighbourStart(final int position) {
+        return offsets[position];
+    }
+
+    /**
+     * Get the index after the last neighbour entry for the vertex at the given
+     * position.
+     *
+     * @param position the position of the vertex.
+     * @return the index after the last neighbour entry.
+     */
+    public int getNeighbourEnd(final int position) {
+        return offsets[position + 1];
+    }
+
+    /**
+     * Get the position of the neighbour at the given neighbour entry index.
+     *
+     * @param index the neighbour entry index.
+     * @return the position of the neighbour.
+     */
+    public int getNeighbour(final int index) {
+        return targets[index];
+    }
+
+    /**
+     * Whether this snapshot carries neighbour weights.
+     *
+     * @return true if the snapshot is weighted, false otherwise.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Get the weight of the neighbour at the given neighbour entry index. An
+     * unweighted snapshot gives every neighbour a weight of 1.
+     *
+     * @param index the neighbour entry index.
+     * @return the weight of the neighbour.
+     */
+    public float getWeight(final int index) {
+        return weights == null ? 1 : weights[index];
+    }
+
+    /**
+     * Get the structure modification counter of the graph when this snapshot
+     * was taken.
+     *
+     * @return the structure modification counter.
+     */
+    public long getStructureModificationCounter() {
+        return structureModificationCounter;
+    }
+}
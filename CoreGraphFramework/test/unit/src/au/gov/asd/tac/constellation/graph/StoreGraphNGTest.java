@@ -15,6 +15,8 @@
  */
 package au.gov.asd.tac.constellation.graph;
 
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.MockedStatic;
@@ -56,4 +58,83 @@ public class StoreGraphNGTest {
             assertEquals(stats.getCurrentCount(), 0);
         }
     }
+
+    /**
+     * Test of getChangedElements method, of class StoreGraph.
+     */
+    @Test
+    public void testGetChangedElements() {
+        System.out.println("getChangedElements");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "x", null, null, null);
+        final int vxId0 = graph.addVertex();
+        final int vxId1 = graph.addVertex();
+        final int vxId2 = graph.addVertex();
+
+        // a new attribute has every change since it was created
+        final long sequence = graph.getValueChangeSequence();
+        assertEquals(graph.getChangedElements(attribute, Long.MIN_VALUE), new int[0]);
+        assertEquals(graph.getChangedElements(attribute, sequence), new int[0]);
+
+        graph.setFloatValue(attribute, vxId2, 1F);
+        graph.setFloatValue(attribute, vxId0, 2F);
+        graph.setFloatValue(attribute, vxId2, 3F);
+        assertEquals(graph.getChangedElements(attribute, sequence), new int[]{vxId0, vxId2});
+        assertEquals(graph.getChangedElements(attribute, graph.getValueChangeSequence()), new int[0]);
+
+        // too many changes to be worth remembering
+        for (int i = 0; i < 100; i++) {
+            graph.setFloatValue(attribute, vxId1, i);
+        }
+        assertNull(graph.getChangedElements(attribute, sequence));
+
+        // a copy does not know what changed in the original
+        final StoreGraph copy = new StoreGraph(graph);
+        assertNull(copy.getChangedElements(attribute, sequence));
+        final long copySequence = copy.getValueChangeSequence();
+        copy.setFloatValue(attribute, vxId1, 4F);
+        assertEquals(copy.getChangedElements(attribute, copySequence), new int[]{vxId1});
+    }
+
+    /**
+     * Test of getChangedElements method, of class StoreGraph, when reading
+     * successive versions of a DualGraph.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testGetChangedElementsDualGraph() throws InterruptedException {
+        System.out.println("getChangedElementsDualGraph");
+
+        final DualGraph graph = new DualGraph(null);
+        final int attribute;
+        final int vxId0;
+        final int vxId1;
+        WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            attribute = wg.addAttribute(GraphElementType.VERTEX, FloatAttributeDescription.ATTRIBUTE_NAME, "x", null, null, null);
+            vxId0 = wg.addVertex();
+            vxId1 = wg.addVertex();
+        } finally {
+            wg.commit();
+        }
+
+        final long sequence;
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            sequence = rg.getValueChangeSequence();
+        }
+
+        wg = graph.getWritableGraph("", true);
+        try {
+            wg.setFloatValue(attribute, vxId1, 1F);
+        } finally {
+            wg.commit();
+        }
+
+        // the sequence read from one graph can be used with the graph that replaced it
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertEquals(rg.getChangedElements(attribute, sequence), new int[]{vxId1});
+        }
+    }
 }
@@ -159,6 +159,16 @@ public final class StoreGraphValidator implements GraphWriteMethods {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public long getValueChangeSequence() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public int[] getChangedElements(final int attribute, final long sequence) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     @Override
     public void setPrimaryKey(final GraphElementType elementType, final int... attributes) {
         throw new UnsupportedOperationException("Not supported yet.");
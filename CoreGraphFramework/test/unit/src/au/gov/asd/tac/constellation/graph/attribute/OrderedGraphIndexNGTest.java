@@ -0,0 +1,208 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.attribute;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphIndexResult;
+import au.gov.asd.tac.constellation.graph.GraphIndexType;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test of OrderedGraphIndex and the attribute descriptions that use it.
+ *
+ * @author sirius
+ */
+public class OrderedGraphIndexNGTest {
+
+    private static List<Integer> getElements(final GraphIndexResult result) {
+        final List<Integer> elements = new ArrayList<>();
+        final int count = result.getCount();
+        for (int i = 0; i < count; i++) {
+            elements.add(result.getNextElement());
+        }
+        assertEquals(result.getNextElement(), Graph.NOT_FOUND);
+        return elements;
+    }
+
+    /**
+     * Test of supportsIndexType for the ordered attribute descriptions.
+     */
+    @Test
+    public void testSupportsIndexType() {
+        System.out.println("supportsIndexType");
+
+        final AttributeDescription[] descriptions = {
+            new IntegerAttributeDescription(),
+            new LongAttributeDescription(),
+            new FloatAttributeDescription(),
+            new DoubleAttributeDescription(),
+            new DateAttributeDescription(),
+            new ZonedDateTimeAttributeDescription(),
+            new LocalDateTimeAttributeDescription()
+        };
+        for (final AttributeDescription description : descriptions) {
+            for (final GraphIndexType indexType : GraphIndexType.values()) {
+                assertTrue(description.supportsIndexType(indexType), description.getName() + " " + indexType);
+            }
+            assertEquals(description.createIndex(GraphIndexType.NONE), AttributeDescription.NULL_GRAPH_INDEX);
+        }
+    }
+
+    /**
+     * Test of range queries on an ordered integer index as the graph changes.
+     */
+    @Test
+    public void testIntegerRange() {
+        System.out.println("integerRange");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+        graph.setAttributeIndexType(attribute, GraphIndexType.ORDERED);
+
+        final int[] vertices = new int[10];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = graph.addVertex();
+            graph.setIntValue(attribute, vertices[i], 9 - i);
+        }
+
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, 2, 5)), List.of(vertices[7], vertices[6], vertices[5]));
+        assertEquals(getElements(graph.getElementsWithAttributeValue(attribute, 4)), List.of(vertices[5]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, null, 2)), List.of(vertices[9], vertices[8]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, 8, null)), List.of(vertices[1], vertices[0]));
+        assertEquals(graph.getElementsWithAttributeValueRange(attribute, 5, 2).getCount(), 0);
+
+        graph.setIntValue(attribute, vertices[0], 3);
+        graph.removeVertex(vertices[6]);
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, 2, 5)), List.of(vertices[7], vertices[0]));
+        assertEquals(getElements(graph.getElementsWithAttributeValue(attribute, 3)), List.of(vertices[0]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, 8, null)), List.of(vertices[1]));
+
+        // the index must be built correctly when it is set on existing values
+        final StoreGraph copy = new StoreGraph(graph);
+        assertEquals(getElements(copy.getElementsWithAttributeValueRange(attribute, 2, 5)), List.of(vertices[7], vertices[0]));
+    }
+
+    /**
+     * Test of range queries on an ordered double index holding negative
+     * values.
+     */
+    @Test
+    public void testDoubleRange() {
+        System.out.println("doubleRange");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.VERTEX, DoubleAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+
+        final double[] values = {-2.5, 1.0, -0.5, 0.0, 3.25, -10.0};
+        final int[] vertices = new int[values.length];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = graph.addVertex();
+            graph.setDoubleValue(attribute, vertices[i], values[i]);
+        }
+        graph.setAttributeIndexType(attribute, GraphIndexType.ORDERED);
+
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, -3.0, 1.0)), List.of(vertices[0], vertices[2], vertices[3]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute, null, null)),
+                List.of(vertices[5], vertices[0], vertices[2], vertices[3], vertices[1], vertices[4]));
+    }
+
+    /**
+     * Test of range queries on an ordered datetime index holding null values.
+     */
+    @Test
+    public void testZonedDateTimeRange() {
+        System.out.println("zonedDateTimeRange");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.TRANSACTION, ZonedDateTimeAttributeDescription.ATTRIBUTE_NAME, "time", null, null, null);
+        graph.setAttributeIndexType(attribute, GraphIndexType.ORDERED);
+
+        final int vertex = graph.addVertex();
+        final int[] transactions = new int[4];
+        for (int i = 0; i < transactions.length; i++) {
+            transactions[i] = graph.addTransaction(vertex, vertex, true);
+        }
+        graph.setObjectValue(attribute, transactions[0], ZonedDateTime.parse("2020-01-03T00:00:00Z"));
+        graph.setObjectValue(attribute, transactions[1], ZonedDateTime.parse("2020-01-01T00:00:00Z"));
+        graph.setObjectValue(attribute, transactions[2], ZonedDateTime.parse("2020-01-02T00:00:00Z"));
+
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute,
+                ZonedDateTime.parse("2020-01-01T12:00:00Z"), ZonedDateTime.parse("2020-01-03T00:00:00Z"))), List.of(transactions[2]));
+        assertEquals(getElements(graph.getElementsWithAttributeValue(attribute, null)), List.of(transactions[3]));
+    }
+
+    /**
+     * Test of queries on an ordered datetime index holding values within the
+     * same millisecond.
+     */
+    @Test
+    public void testZonedDateTimePrecision() {
+        System.out.println("zonedDateTimePrecision");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.TRANSACTION, ZonedDateTimeAttributeDescription.ATTRIBUTE_NAME, "time", null, null, null);
+        graph.setAttributeIndexType(attribute, GraphIndexType.ORDERED);
+
+        final int vertex = graph.addVertex();
+        final int[] transactions = new int[3];
+        for (int i = 0; i < transactions.length; i++) {
+            transactions[i] = graph.addTransaction(vertex, vertex, true);
+        }
+        graph.setObjectValue(attribute, transactions[0], ZonedDateTime.parse("2020-01-01T00:00:00.000000300Z"));
+        graph.setObjectValue(attribute, transactions[1], ZonedDateTime.parse("2020-01-01T00:00:00.000000100Z"));
+        graph.setObjectValue(attribute, transactions[2], ZonedDateTime.parse("2020-01-01T00:00:00.000000200Z"));
+
+        assertEquals(getElements(graph.getElementsWithAttributeValue(attribute, ZonedDateTime.parse("2020-01-01T00:00:00.000000200Z"))),
+                List.of(transactions[2]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute,
+                ZonedDateTime.parse("2020-01-01T00:00:00.000000200Z"), ZonedDateTime.parse("2020-01-01T00:00:00.000000300Z"))),
+                List.of(transactions[2]));
+        assertEquals(getElements(graph.getElementsWithAttributeValueRange(attribute,
+                ZonedDateTime.parse("2020-01-01T00:00:00.000000150Z"), null)), List.of(transactions[0], transactions[2]));
+    }
+
+    /**
+     * Test that a query result is not changed by later changes to the graph.
+     */
+    @Test
+    public void testResultIsCopied() {
+        System.out.println("resultIsCopied");
+
+        final StoreGraph graph = new StoreGraph();
+        final int attribute = graph.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+        graph.setAttributeIndexType(attribute, GraphIndexType.ORDERED);
+
+        final int[] vertices = new int[3];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = graph.addVertex();
+            graph.setIntValue(attribute, vertices[i], i);
+        }
+
+        final GraphIndexResult result = graph.getElementsWithAttributeValueRange(attribute, 1, null);
+        graph.setIntValue(attribute, vertices[0], 5);
+        graph.setIntValue(attribute, vertices[1], -1);
+        assertEquals(graph.getElementsWithAttributeValueRange(attribute, 1, null).getCount(), 2);
+
+        assertEquals(getElements(result), List.of(vertices[1], vertices[2]));
+    }
+}
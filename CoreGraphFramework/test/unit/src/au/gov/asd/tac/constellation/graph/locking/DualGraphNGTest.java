@@ -15,13 +15,30 @@
  */
 package au.gov.asd.tac.constellation.graph.locking;
 
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.attribute.IntegerAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.StringAttributeDescription;
+import au.gov.asd.tac.constellation.graph.undo.UndoGraphEdit;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.times;
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 import org.testng.annotations.Test;
 
 /**
@@ -55,4 +72,152 @@ public class DualGraphNGTest {
             assertEquals(stats.getCurrentCount(), 0);
         }
     }
+
+    /**
+     * Test that a large edit, which the reading graph copies rather than
+     * replays, leaves both graphs identical.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testCommitLargeEdit() throws InterruptedException {
+        System.out.println("testCommitLargeEdit");
+        final int vertexCount = 2000;
+
+        final DualGraph graph = new DualGraph(null);
+        final int attribute;
+        WritableGraph wg = graph.getWritableGraph("large edit", true);
+        try {
+            attribute = wg.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+            wg.setPrimaryKey(GraphElementType.VERTEX, attribute);
+            for (int i = 0; i < vertexCount; i++) {
+                final int vxId = wg.addVertex();
+                // enough operations that copying the graph is cheaper than replaying them
+                wg.setIntValue(attribute, vxId, -i);
+                wg.setIntValue(attribute, vxId, i);
+            }
+        } finally {
+            wg.commit();
+        }
+
+        final long modificationCounter;
+        final long valueModificationCounter;
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertEquals(vertexCount, rg.getVertexCount());
+            modificationCounter = rg.getGlobalModificationCounter();
+            valueModificationCounter = rg.getValueModificationCounter(attribute);
+        }
+
+        // the write graph is the previous reading graph, which should now match
+        wg = graph.getWritableGraph("small edit", true);
+        try {
+            assertEquals(vertexCount, wg.getVertexCount());
+            assertEquals(modificationCounter, wg.getGlobalModificationCounter());
+            assertEquals(valueModificationCounter, wg.getValueModificationCounter(attribute));
+            for (int position = 0; position < vertexCount; position++) {
+                final int vxId = wg.getVertex(position);
+                assertEquals(vxId, wg.getIntValue(attribute, vxId));
+            }
+            wg.setIntValue(attribute, wg.getVertex(0), -1);
+        } finally {
+            wg.commit();
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertEquals(-1, rg.getIntValue(attribute, rg.getVertex(0)));
+        }
+    }
+
+    /**
+     * Test that the edits reported to a graph edit listener can be written,
+     * read back and replayed on a copy of the graph to bring it up to date.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGraphEditListenerReplay() throws Exception {
+        System.out.println("testGraphEditListenerReplay");
+
+        final DualGraph graph = new DualGraph(null);
+        final int removedAttribute;
+        final int vx0;
+        final int vx1;
+        WritableGraph wg = graph.getWritableGraph("setup", true);
+        try {
+            removedAttribute = wg.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "removed", null, null, null);
+            vx0 = wg.addVertex();
+            vx1 = wg.addVertex();
+            wg.addTransaction(vx0, vx1, true);
+        } finally {
+            wg.commit();
+        }
+
+        final StoreGraph copy;
+        final List<byte[]> edits = new ArrayList<>();
+        final List<Boolean> undone = new ArrayList<>();
+        wg = graph.getWritableGraph("listen", false);
+        try {
+            copy = (StoreGraph) wg.copy();
+            graph.addGraphEditListener((edit, isUndone) -> {
+                try {
+                    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    edit.write(new DataOutputStream(buffer));
+                    edits.add(buffer.toByteArray());
+                    undone.add(isUndone);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } finally {
+            wg.rollBack();
+        }
+
+        final int attribute;
+        final int stringAttribute;
+        wg = graph.getWritableGraph("edit", true);
+        try {
+            wg.removeAttribute(removedAttribute);
+            attribute = wg.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+            stringAttribute = wg.addAttribute(GraphElementType.VERTEX, StringAttributeDescription.ATTRIBUTE_NAME, "name", null, null, null);
+            wg.removeVertex(vx0);
+            final int vx2 = wg.addVertex();
+            wg.addTransaction(vx1, vx2, false);
+            wg.setIntValue(attribute, vx1, 42);
+            wg.setStringValue(stringAttribute, vx2, "vx2");
+        } finally {
+            wg.commit();
+        }
+
+        assertEquals(1, edits.size());
+        for (int i = 0; i < edits.size(); i++) {
+            final UndoGraphEdit edit = new UndoGraphEdit(new DataInputStream(new ByteArrayInputStream(edits.get(i))));
+            copy.setOperationMode(undone.get(i) ? GraphOperationMode.UNDO : GraphOperationMode.REDO);
+            if (undone.get(i)) {
+                edit.undo(copy);
+            } else {
+                edit.execute(copy);
+            }
+            copy.setOperationMode(GraphOperationMode.EXECUTE);
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertEquals(rg.getVertexCount(), copy.getVertexCount());
+            assertEquals(rg.getTransactionCount(), copy.getTransactionCount());
+            assertEquals(Graph.NOT_FOUND, copy.getAttribute(GraphElementType.VERTEX, "removed"));
+            assertEquals(attribute, copy.getAttribute(GraphElementType.VERTEX, "value"));
+            assertEquals(stringAttribute, copy.getAttribute(GraphElementType.VERTEX, "name"));
+            for (int position = 0; position < rg.getVertexCount(); position++) {
+                final int vxId = rg.getVertex(position);
+                assertTrue(copy.vertexExists(vxId));
+                assertEquals(rg.getIntValue(attribute, vxId), copy.getIntValue(attribute, vxId));
+                assertEquals(rg.getStringValue(stringAttribute, vxId), copy.getStringValue(stringAttribute, vxId));
+            }
+            for (int position = 0; position < rg.getTransactionCount(); position++) {
+                final int txId = rg.getTransaction(position);
+                assertTrue(copy.transactionExists(txId));
+                assertEquals(rg.getTransactionSourceVertex(txId), copy.getTransactionSourceVertex(txId));
+                assertEquals(rg.getTransactionDestinationVertex(txId), copy.getTransactionDestinationVertex(txId));
+            }
+        }
+    }
 }
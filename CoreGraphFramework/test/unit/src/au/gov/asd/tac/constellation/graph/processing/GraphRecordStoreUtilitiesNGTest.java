@@ -18,6 +18,7 @@ package au.gov.asd.tac.constellation.graph.processing;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.StoreGraph;
 import au.gov.asd.tac.constellation.graph.attribute.BooleanAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.DoubleAttributeDescription;
 import au.gov.asd.tac.constellation.graph.schema.BareSchemaFactory;
 import au.gov.asd.tac.constellation.graph.schema.Schema;
 import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
@@ -282,4 +283,18 @@ public class GraphRecordStoreUtilitiesNGTest {
         assertEquals(vx1, newGraph.getTransactionSourceVertex(tx1));
     }
 
+    @Test
+    public void addRecordStoreToGraphWithFloatsOnDoubleAttribute() {
+        final StoreGraph newGraph = new StoreGraph(schema);
+        final int weightAttribute = newGraph.addAttribute(GraphElementType.VERTEX, DoubleAttributeDescription.ATTRIBUTE_NAME, "weight", "", null, null);
+        final TypedRecordStore recordStore = new TypedRecordStore();
+        recordStore.add();
+        recordStore.set(GraphRecordStoreUtilities.SOURCE + "Idenfitier", "vx0");
+        recordStore.set(GraphRecordStoreUtilities.SOURCE + "weight<float>", 0.1F);
+
+        final List<Integer> veritices = GraphRecordStoreUtilities.addRecordStoreToGraph(newGraph, recordStore, false, false, new ArrayList<>(), new HashMap<>(), new HashMap<>());
+        assertEquals(veritices.size(), 1);
+        assertEquals(newGraph.getDoubleValue(weightAttribute, newGraph.getVertex(0)), 0.1);
+    }
+
 }
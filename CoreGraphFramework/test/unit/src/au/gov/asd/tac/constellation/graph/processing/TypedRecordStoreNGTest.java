@@ -0,0 +1,149 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.processing;
+
+import java.util.Arrays;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Typed RecordStore Test.
+ *
+ * @author sirius
+ */
+public class TypedRecordStoreNGTest {
+
+    private TypedRecordStore instance;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        instance = new TypedRecordStore();
+        instance.add();
+        instance.set("source.Label", "a");
+        instance.set("source.x<float>", 1.5F);
+        instance.set("source.count<integer>", "7");
+        instance.set("transaction.flag<boolean>", true);
+        instance.add();
+        instance.set("source.Label", "b");
+        instance.set("source.x<float>", "2");
+        instance.set("source.count<integer>", null);
+    }
+
+    /**
+     * Test of get method, of class TypedRecordStore.
+     */
+    @Test
+    public void testGet() {
+        System.out.println("get");
+
+        assertEquals(instance.get(0, "source.Label"), "a");
+        assertEquals(instance.get(0, "source.Label<string>"), "a");
+        assertEquals(instance.get(0, "source.x<float>"), "1.5");
+        assertEquals(instance.get(0, "source.x"), "1.5");
+        assertEquals(instance.get(0, "transaction.flag<boolean>"), "true");
+        assertEquals(instance.get(1, "source.x<float>"), "2.0");
+        assertNull(instance.get(1, "source.count<integer>"));
+        assertNull(instance.get(1, "transaction.flag<boolean>"));
+        assertNull(instance.get(0, "missing"));
+    }
+
+    /**
+     * Test of getObject method, of class TypedRecordStore.
+     */
+    @Test
+    public void testGetObject() {
+        System.out.println("getObject");
+
+        assertEquals(instance.getObject(0, "source.x<float>"), 1.5F);
+        assertEquals(instance.getObject(0, "source.count<integer>"), 7);
+        assertEquals(instance.getObject(0, "transaction.flag<boolean>"), true);
+        assertEquals(instance.getObject(0, "source.Label"), "a");
+        assertNull(instance.getObject(1, "source.count<integer>"));
+    }
+
+    /**
+     * Test of hasValue method, of class TypedRecordStore.
+     */
+    @Test
+    public void testHasValue() {
+        System.out.println("hasValue");
+
+        assertTrue(instance.hasValue(0, "transaction.flag<boolean>"));
+        assertFalse(instance.hasValue(1, "transaction.flag<boolean>"));
+        // a null value is still a value
+        assertTrue(instance.hasValue(1, "source.count<integer>"));
+        assertFalse(instance.hasValue(0, "missing"));
+    }
+
+    /**
+     * Test that a column which is given a value it cannot parse becomes a
+     * string column without losing its existing values.
+     */
+    @Test
+    public void testSetUnparseableValue() {
+        System.out.println("setUnparseableValue");
+
+        instance.set(1, "source.count<integer>", "many");
+        assertEquals(instance.get(0, "source.count<integer>"), "7");
+        assertEquals(instance.get(1, "source.count"), "many");
+        assertEquals(instance.getObject(0, "source.count<integer>"), "7");
+        assertEquals(instance.keysWithType(), Arrays.asList("source.Label<string>", "source.x<float>", "source.count<integer>", "transaction.flag<boolean>"));
+    }
+
+    /**
+     * Test of keys, keysWithType and values methods, of class
+     * TypedRecordStore.
+     */
+    @Test
+    public void testKeysAndValues() {
+        System.out.println("keysAndValues");
+
+        assertEquals(instance.keys(), Arrays.asList("source.Label", "source.x", "source.count", "transaction.flag"));
+        assertEquals(instance.keysWithType(), Arrays.asList("source.Label<string>", "source.x<float>", "source.count<integer>", "transaction.flag<boolean>"));
+        assertEquals(instance.values(0), Arrays.asList("a", "1.5", "7", "true"));
+        assertEquals(instance.getAll("source.Label"), Arrays.asList("a", "b"));
+        assertEquals(instance.size(), 2);
+    }
+
+    /**
+     * Test of add method with another RecordStore, of class TypedRecordStore.
+     */
+    @Test
+    public void testAddRecordStore() {
+        System.out.println("addRecordStore");
+
+        final GraphRecordStore other = new GraphRecordStore();
+        other.add();
+        other.set("source.x<float>", "3.25");
+        other.set("source.Label", "c");
+
+        final TypedRecordStore copy = new TypedRecordStore();
+        copy.add(instance);
+        copy.add(other);
+
+        assertEquals(copy.size(), 3);
+        assertEquals(copy.getObject(0, "source.count<integer>"), 7);
+        assertTrue(copy.hasValue(1, "source.count<integer>"));
+        assertEquals(copy.getObject(2, "source.x<float>"), 3.25F);
+        final List<String> labels = copy.getAll("source.Label");
+        assertEquals(labels, Arrays.asList("a", "b", "c"));
+    }
+}
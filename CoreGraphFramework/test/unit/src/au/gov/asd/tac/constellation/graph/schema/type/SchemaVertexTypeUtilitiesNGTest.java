@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -45,55 +44,48 @@ import org.testng.annotations.Test;
 public class SchemaVertexTypeUtilitiesNGTest {
         
     @Test
-    public void getExtractedTypesFromTextTest() {
-         System.out.println("getExtractedTypesFromText");
+    public void extractVertexTypesTest() {
+         System.out.println("extractVertexTypes");
          try (final MockedStatic<SchemaVertexTypeUtilities> mockedSchemaVertexTypeUtilities = mockStatic(SchemaVertexTypeUtilities.class, Mockito.CALLS_REAL_METHODS);
                  final MockedStatic<VertexDominanceCalculator> mockedCalculator = mockStatic(VertexDominanceCalculator.class)) {
              
              final SchemaVertexType schematype1 = mock(SchemaVertexType.class);
              final VertexDominanceCalculator mockedCalculatorDefault = mock(VertexDominanceCalculator.class);
-             final Pattern mockRegex = mock(Pattern.class);             
-             final Matcher mockMatcher = mock(Matcher.class);
              final String text = "test.com";
              mockedCalculator.when(() -> VertexDominanceCalculator.getDefault()).thenReturn(mockedCalculatorDefault);
-             when(schematype1.getDetectionRegex()).thenReturn(mockRegex);
-             when(mockRegex.matcher(Mockito.any())).thenReturn(mockMatcher);
-             when(mockMatcher.find()).thenReturn(Boolean.TRUE, Boolean.FALSE);
-             when(mockMatcher.group()).thenReturn(text);
+             when(mockedCalculatorDefault.getComparator()).thenReturn((type1, type2) -> 0);
+             when(schematype1.getDetectionRegex()).thenReturn(Pattern.compile("test\\.com"));
              
-             final List<ExtractedVertexType> extractedTypes = new ArrayList<>();
              final List<SchemaVertexType> schemaTypes = new ArrayList<>();
              schemaTypes.add(schematype1);
+             mockedSchemaVertexTypeUtilities.when(() -> SchemaVertexTypeUtilities.getTypes()).thenReturn(schemaTypes);
                           
-             final Collection<SchemaVertexType> schematypesCollection = Collections.unmodifiableCollection(schemaTypes) ;
-             final List<ExtractedVertexType> extractedTypesFromText = SchemaVertexTypeUtilities.getExtractedTypesFromText(schematypesCollection, text, extractedTypes);
+             final List<ExtractedVertexType> extractedTypesFromText = SchemaVertexTypeUtilities.extractVertexTypes(text);
              assertEquals(extractedTypesFromText.get(0).getType(), schematype1);
          }
     }
-    
+
     @Test
-    public void extractVertexTypesTest() {
-         System.out.println("extractVertexTypes");
+    public void extractVertexTypesFromTextsTest() {
+         System.out.println("extractVertexTypesFromTexts");
          try (final MockedStatic<SchemaVertexTypeUtilities> mockedSchemaVertexTypeUtilities = mockStatic(SchemaVertexTypeUtilities.class, Mockito.CALLS_REAL_METHODS);
                  final MockedStatic<VertexDominanceCalculator> mockedCalculator = mockStatic(VertexDominanceCalculator.class)) {
-             
+
              final SchemaVertexType schematype1 = mock(SchemaVertexType.class);
              final VertexDominanceCalculator mockedCalculatorDefault = mock(VertexDominanceCalculator.class);
-             final Pattern mockRegex = mock(Pattern.class);             
-             final Matcher mockMatcher = mock(Matcher.class);
-             final String text = "test.com";
              mockedCalculator.when(() -> VertexDominanceCalculator.getDefault()).thenReturn(mockedCalculatorDefault);
-             when(schematype1.getDetectionRegex()).thenReturn(mockRegex);
-             when(mockRegex.matcher(Mockito.any())).thenReturn(mockMatcher);
-             when(mockMatcher.find()).thenReturn(Boolean.TRUE, Boolean.FALSE);
-             when(mockMatcher.group()).thenReturn(text);
-             
+             when(mockedCalculatorDefault.getComparator()).thenReturn((type1, type2) -> 0);
+             when(schematype1.getDetectionRegex()).thenReturn(Pattern.compile("test\\.com"));
+
              final List<SchemaVertexType> schemaTypes = new ArrayList<>();
              schemaTypes.add(schematype1);
              mockedSchemaVertexTypeUtilities.when(() -> SchemaVertexTypeUtilities.getTypes()).thenReturn(schemaTypes);
-                          
-             final List<ExtractedVertexType> extractedTypesFromText = SchemaVertexTypeUtilities.extractVertexTypes(text);
-             assertEquals(extractedTypesFromText.get(0).getType(), schematype1);
+
+             final List<List<ExtractedVertexType>> extractedTypesFromTexts = SchemaVertexTypeUtilities.extractVertexTypesFromTexts(List.of("test.com", "nothing", "at test.com"));
+             assertEquals(extractedTypesFromTexts.size(), 3);
+             assertEquals(extractedTypesFromTexts.get(0).get(0).getType(), schematype1);
+             assertTrue(extractedTypesFromTexts.get(1).isEmpty());
+             assertEquals(extractedTypesFromTexts.get(2).get(0).getStartIndex(), 3);
          }
     }
     
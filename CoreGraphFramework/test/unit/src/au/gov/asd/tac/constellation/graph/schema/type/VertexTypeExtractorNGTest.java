@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.schema.type;
+
+import au.gov.asd.tac.constellation.graph.schema.type.SchemaVertexTypeUtilities.ExtractedVertexType;
+import java.util.List;
+import java.util.regex.Pattern;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Vertex Type Extractor Test.
+ *
+ * @author sirius
+ */
+public class VertexTypeExtractorNGTest {
+
+    private static SchemaVertexType buildType(final String name, final String regex) {
+        return new SchemaVertexType.Builder(name)
+                .setDetectionRegex(Pattern.compile(regex))
+                .build();
+    }
+
+    /**
+     * Test of extract method, of class VertexTypeExtractor.
+     */
+    @Test
+    public void testExtract() {
+        System.out.println("extract");
+
+        final SchemaVertexType email = buildType("Email", "[a-z]+@[a-z]+\\.com");
+        final SchemaVertexType domain = buildType("Domain", "[a-z]+\\.com");
+        // back references can't be combined with other patterns, so this is matched separately
+        final SchemaVertexType repeated = buildType("Repeated", "([0-9])\\1");
+
+        final VertexTypeExtractor instance = new VertexTypeExtractor(List.of(email, domain, repeated));
+        final String text = "mail bob@example.com or example.com, example.com and test.com 77";
+        final List<ExtractedVertexType> result = instance.extract(text, null);
+
+        assertEquals(result.size(), 4);
+        assertEquals(result.get(0).getIdentifier(), "bob@example.com");
+        assertEquals(result.get(0).getType(), email);
+        assertEquals(result.get(0).getStartIndex(), 5);
+        assertEquals(result.get(0).getEndIndex(), 20);
+        // the domain inside the email isn't extracted, but the same domain on its own is, and only once
+        assertEquals(result.get(1).getIdentifier(), "example.com");
+        assertEquals(result.get(1).getType(), domain);
+        assertEquals(result.get(1).getStartIndex(), 24);
+        assertEquals(result.get(2).getIdentifier(), "test.com");
+        assertEquals(result.get(3).getIdentifier(), "77");
+        assertEquals(result.get(3).getType(), repeated);
+    }
+
+    /**
+     * Test of extract method, of class VertexTypeExtractor, with overlapping
+     * matches.
+     */
+    @Test
+    public void testExtractOverlapping() {
+        System.out.println("extractOverlapping");
+
+        final SchemaVertexType shortType = buildType("Short", "ab");
+        final SchemaVertexType longType = buildType("Long", "abc");
+        final SchemaVertexType sameType = buildType("Same", "ab");
+
+        final VertexTypeExtractor instance = new VertexTypeExtractor(List.of(shortType, longType, sameType));
+
+        // the longest match wins
+        List<ExtractedVertexType> result = instance.extract("xabcx", null);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getType(), longType);
+
+        // for matches of the same length, the first type wins
+        result = instance.extract("xabx", null);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).getType(), shortType);
+
+        assertTrue(instance.extract("xyz", null).isEmpty());
+        assertTrue(instance.extract(null, null).isEmpty());
+    }
+
+    /**
+     * Test of extract method, of class VertexTypeExtractor, with a text long
+     * enough to be matched in parallel.
+     */
+    @Test
+    public void testExtractLongText() {
+        System.out.println("extractLongText");
+
+        final SchemaVertexType email = buildType("Email", "[a-z0-9]+@[a-z]+\\.com");
+        final SchemaVertexType domain = buildType("Domain", "[a-z0-9]+\\.com");
+
+        final VertexTypeExtractor instance = new VertexTypeExtractor(List.of(email, domain));
+        final StringBuilder text = new StringBuilder();
+        final int count = 3000;
+        for (int i = 0; i < count; i++) {
+            text.append("mail bob").append(i).append("@example.com and test").append(i).append(".com\n");
+        }
+        final List<ExtractedVertexType> result = instance.extract(text.toString(), null);
+
+        assertEquals(result.size(), count * 2);
+        for (int i = 0; i < count; i++) {
+            assertEquals(result.get(i * 2).getIdentifier(), "bob" + i + "@example.com");
+            assertEquals(result.get(i * 2).getType(), email);
+            assertEquals(result.get(i * 2 + 1).getIdentifier(), "test" + i + ".com");
+            assertEquals(result.get(i * 2 + 1).getType(), domain);
+        }
+    }
+
+    /**
+     * Test of isFor method, of class VertexTypeExtractor.
+     */
+    @Test
+    public void testIsFor() {
+        System.out.println("isFor");
+
+        final SchemaVertexType first = buildType("First", "a");
+        final SchemaVertexType second = buildType("Second", "b");
+
+        final VertexTypeExtractor instance = new VertexTypeExtractor(List.of(first, second));
+        assertTrue(instance.isFor(List.of(first, second)));
+        assertFalse(instance.isFor(List.of(first)));
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.undo;
+
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.attribute.IntegerAttributeDescription;
+import au.gov.asd.tac.constellation.graph.attribute.StringAttributeDescription;
+import au.gov.asd.tac.constellation.graph.locking.GraphOperationMode;
+import au.gov.asd.tac.constellation.graph.operations.GraphOperation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test spilling undo edits to disk and reading them back.
+ *
+ * @author sirius
+ */
+public class UndoGraphEditNGTest {
+
+    private UndoSpillFile spillFile;
+
+    @BeforeMethod
+    public void setUpMethod() {
+        spillFile = new UndoSpillFile();
+    }
+
+    @AfterMethod
+    public void tearDownMethod() {
+        spillFile.close();
+    }
+
+    /**
+     * A spilled edit can still be undone and redone.
+     */
+    @Test
+    public void testSpillAndReload() {
+        System.out.println("testSpillAndReload");
+
+        final StoreGraph graph = new StoreGraph();
+        final UndoGraphEdit edit = new UndoGraphEdit();
+        graph.setGraphEdit(edit);
+        final int intAttribute = graph.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+        final int stringAttribute = graph.addAttribute(GraphElementType.VERTEX, StringAttributeDescription.ATTRIBUTE_NAME, "name", null, null, null);
+        final int vxId1 = graph.addVertex();
+        final int vxId2 = graph.addVertex();
+        final int txId = graph.addTransaction(vxId1, vxId2, true);
+        graph.setIntValue(intAttribute, vxId1, 7);
+        graph.setStringValue(stringAttribute, vxId2, "vx2");
+        graph.setGraphEdit(null);
+        edit.finish();
+
+        final long size = edit.getSizeInBytes();
+        assertTrue(size > 0);
+        assertFalse(edit.isSpilled());
+
+        assertTrue(edit.spill(spillFile));
+        assertTrue(edit.isSpilled());
+        assertEquals(edit.getSizeInBytes(), 0L);
+        final long spilledSize = spillFile.getSize();
+        assertTrue(spilledSize > 0);
+
+        graph.setOperationMode(GraphOperationMode.UNDO);
+        edit.undo(graph);
+        graph.setOperationMode(GraphOperationMode.EXECUTE);
+        assertFalse(edit.isSpilled());
+        assertEquals(edit.getSizeInBytes(), size);
+        assertEquals(graph.getVertexCount(), 0);
+        assertEquals(graph.getAttributeCount(GraphElementType.VERTEX), 0);
+
+        // An edit that has been spilled before is not written again.
+        assertTrue(edit.spill(spillFile));
+        assertEquals(spillFile.getSize(), spilledSize);
+
+        graph.setOperationMode(GraphOperationMode.REDO);
+        edit.execute(graph);
+        graph.setOperationMode(GraphOperationMode.EXECUTE);
+        assertEquals(graph.getVertexCount(), 2);
+        assertEquals(graph.getTransactionCount(), 1);
+        assertEquals(graph.getIntValue(intAttribute, vxId1), 7);
+        assertEquals(graph.getStringValue(stringAttribute, vxId2), "vx2");
+        assertEquals(graph.getTransactionSourceVertex(txId), vxId1);
+        assertEquals(graph.getTransactionDestinationVertex(txId), vxId2);
+    }
+
+    /**
+     * An edit written to the spill file stays in memory until its state is
+     * dropped, and a discarded edit isn't written.
+     */
+    @Test
+    public void testWriteSpillThenDropState() {
+        System.out.println("testWriteSpillThenDropState");
+
+        final StoreGraph graph = new StoreGraph();
+        final UndoGraphEdit edit = new UndoGraphEdit();
+        graph.setGraphEdit(edit);
+        graph.addVertex();
+        graph.setGraphEdit(null);
+        edit.finish();
+
+        final UndoGraphEdit discardedEdit = new UndoGraphEdit();
+        graph.setGraphEdit(discardedEdit);
+        graph.addVertex();
+        graph.setGraphEdit(null);
+        discardedEdit.finish();
+
+        final long operationCount = edit.getOperationCount();
+
+        // A state that hasn't been written can't be dropped.
+        assertFalse(edit.dropState());
+        assertFalse(edit.isSpilled());
+
+        assertTrue(edit.writeSpill(spillFile));
+        assertFalse(edit.isSpilled());
+        final long spilledSize = spillFile.getSize();
+        assertTrue(spilledSize > 0);
+
+        assertTrue(edit.dropState());
+        assertTrue(edit.isSpilled());
+        assertEquals(edit.getOperationCount(), operationCount);
+
+        discardedEdit.discard();
+        assertFalse(discardedEdit.writeSpill(spillFile));
+        assertFalse(discardedEdit.isSpilled());
+        assertEquals(spillFile.getSize(), spilledSize);
+    }
+
+    /**
+     * Edits that refer to objects that can't be written stay in memory.
+     */
+    @Test
+    public void testUnspillableEditStaysInMemory() {
+        System.out.println("testUnspillableEditStaysInMemory");
+
+        final StoreGraph graph = new StoreGraph();
+        final UndoGraphEdit operationEdit = new UndoGraphEdit();
+        graph.setGraphEdit(operationEdit);
+        graph.executeGraphOperation(new GraphOperation() {
+            @Override
+            public void execute(final GraphWriteMethods graph) {
+                // Do nothing
+            }
+
+            @Override
+            public void undo(final GraphWriteMethods graph) {
+                // Do nothing
+            }
+        });
+        graph.setGraphEdit(null);
+        operationEdit.finish();
+        assertFalse(operationEdit.spill(spillFile));
+        assertFalse(operationEdit.isSpilled());
+    }
+
+    /**
+     * A spilled edit is written from its spilled bytes without being reloaded.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testWriteSpilledEdit() throws Exception {
+        System.out.println("testWriteSpilledEdit");
+
+        final StoreGraph graph = new StoreGraph();
+        final UndoGraphEdit edit = new UndoGraphEdit();
+        graph.setGraphEdit(edit);
+        final int attribute = graph.addAttribute(GraphElementType.VERTEX, IntegerAttributeDescription.ATTRIBUTE_NAME, "value", null, null, null);
+        graph.setIntValue(attribute, graph.addVertex(), 7);
+        graph.setGraphEdit(null);
+        edit.finish();
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        edit.write(new DataOutputStream(expected));
+
+        assertTrue(edit.spill(spillFile));
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        edit.write(new DataOutputStream(actual));
+        assertTrue(edit.isSpilled());
+        assertEquals(actual.toByteArray(), expected.toByteArray());
+        assertEquals(edit.getOperationCount(), new UndoGraphEdit(new DataInputStream(new ByteArrayInputStream(expected.toByteArray()))).getOperationCount());
+        assertTrue(edit.isSpilled());
+
+        // A discarded edit that is only held on disk can't be written.
+        edit.discard();
+        assertEquals(spillFile.getLiveSize(), 0L);
+        assertThrows(IOException.class, () -> edit.write(new DataOutputStream(new ByteArrayOutputStream())));
+    }
+
+    /**
+     * Compacting the spill file keeps the live entries and drops the released
+     * ones.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompact() throws Exception {
+        System.out.println("testCompact");
+
+        final UndoSpillFile.Entry entry1 = spillFile.append(new byte[]{1, 2, 3});
+        final UndoSpillFile.Entry entry2 = spillFile.append(new byte[]{4, 5, 6, 7});
+        final UndoSpillFile.Entry entry3 = spillFile.append(new byte[]{8, 9});
+        assertEquals(spillFile.getSize(), 9L);
+
+        spillFile.release(entry2);
+        assertEquals(spillFile.getLiveSize(), 5L);
+        assertThrows(IOException.class, () -> spillFile.read(entry2));
+
+        spillFile.compact();
+        assertEquals(spillFile.getSize(), 5L);
+        assertEquals(spillFile.read(entry1), new byte[]{1, 2, 3});
+        assertEquals(spillFile.read(entry3), new byte[]{8, 9});
+
+        final UndoSpillFile.Entry entry4 = spillFile.append(new byte[]{10});
+        assertEquals(spillFile.read(entry4), new byte[]{10});
+        assertEquals(spillFile.getSize(), 6L);
+    }
+}
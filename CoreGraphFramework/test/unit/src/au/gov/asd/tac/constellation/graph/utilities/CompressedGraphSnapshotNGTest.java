@@ -0,0 +1,156 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.graph.utilities;
+
+import au.gov.asd.tac.constellation.graph.GraphConstants;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.graph.attribute.FloatAttributeDescription;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Compressed Graph Snapshot Test.
+ *
+ * @author cygnus_x-1
+ */
+public class CompressedGraphSnapshotNGTest {
+
+    private StoreGraph graph;
+    private int weightAttribute;
+    private int vxId0;
+    private int vxId1;
+    private int vxId2;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        graph = new StoreGraph();
+        weightAttribute = graph.addAttribute(GraphElementType.TRANSACTION, FloatAttributeDescription.ATTRIBUTE_NAME, "weight", null, null, null);
+
+        vxId0 = graph.addVertex();
+        vxId1 = graph.addVertex();
+        vxId2 = graph.addVertex();
+
+        final int txId0 = graph.addTransaction(vxId0, vxId1, true);
+        final int txId1 = graph.addTransaction(vxId0, vxId1, true);
+        final int txId2 = graph.addTransaction(vxId1, vxId2, false);
+        final int txId3 = graph.addTransaction(vxId2, vxId2, true);
+        graph.setFloatValue(weightAttribute, txId0, 1.5F);
+        graph.setFloatValue(weightAttribute, txId1, 2.5F);
+        graph.setFloatValue(weightAttribute, txId2, 4F);
+        graph.setFloatValue(weightAttribute, txId3, 8F);
+    }
+
+    /**
+     * Test of build method, of class CompressedGraphSnapshot, following only
+     * outgoing connections.
+     */
+    @Test
+    public void testBuildOutgoing() {
+        System.out.println("buildOutgoing");
+
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, false, true, true, GraphConstants.NOT_FOUND);
+
+        assertEquals(snapshot.getVertexCount(), 3);
+        assertFalse(snapshot.isWeighted());
+
+        // the two transactions from vertex 0 to vertex 1 are collapsed into a single neighbour
+        final int position0 = graph.getVertexPosition(vxId0);
+        assertEquals(snapshot.getNeighbourCount(position0), 1);
+        assertEquals(snapshot.getNeighbour(snapshot.getNeighbourStart(position0)), graph.getVertexPosition(vxId1));
+        assertEquals(snapshot.getWeight(snapshot.getNeighbourStart(position0)), 1F);
+
+        // the undirected transaction is followed both ways, the loop is ignored
+        assertEquals(snapshot.getNeighbourCount(graph.getVertexPosition(vxId1)), 1);
+        assertEquals(snapshot.getNeighbourCount(graph.getVertexPosition(vxId2)), 1);
+        assertEquals(snapshot.getNeighbourEntryCount(), 3);
+    }
+
+    /**
+     * Test of build method, of class CompressedGraphSnapshot, with weights.
+     */
+    @Test
+    public void testBuildWeighted() {
+        System.out.println("buildWeighted");
+
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, true, true, true, weightAttribute);
+
+        assertTrue(snapshot.isWeighted());
+
+        final int position0 = graph.getVertexPosition(vxId0);
+        assertEquals(snapshot.getWeight(snapshot.getNeighbourStart(position0)), 4F);
+
+        final int position2 = graph.getVertexPosition(vxId2);
+        assertEquals(snapshot.getNeighbourCount(position2), 1);
+        assertEquals(snapshot.getWeight(snapshot.getNeighbourStart(position2)), 4F);
+    }
+
+    /**
+     * Test of transpose method, of class CompressedGraphSnapshot.
+     */
+    @Test
+    public void testTranspose() {
+        System.out.println("transpose");
+
+        final CompressedGraphSnapshot snapshot = CompressedGraphSnapshot.build(graph, false, true, false, weightAttribute);
+        final CompressedGraphSnapshot transposed = snapshot.transpose();
+
+        final int position0 = graph.getVertexPosition(vxId0);
+        final int position1 = graph.getVertexPosition(vxId1);
+        assertEquals(transposed.getNeighbourEntryCount(), snapshot.getNeighbourEntryCount());
+        assertEquals(transposed.getNeighbourCount(position0), 0);
+        assertEquals(transposed.getNeighbour(transposed.getNeighbourStart(position1)), position0);
+        assertEquals(transposed.getWeight(transposed.getNeighbourStart(position1)), 4F);
+    }
+
+    /**
+     * Test of transpose method, of class CompressedGraphSnapshot, giving the
+     * same neighbours and weights as building the opposite direction.
+     */
+    @Test
+    public void testTransposeMatchesBuild() {
+        System.out.println("transposeMatchesBuild");
+
+        for (final boolean treatUndirectedBidirectional : new boolean[]{false, true}) {
+            final CompressedGraphSnapshot outgoing = CompressedGraphSnapshot.build(graph, false, true, treatUndirectedBidirectional, weightAttribute);
+            final CompressedGraphSnapshot incoming = CompressedGraphSnapshot.build(graph, true, false, treatUndirectedBidirectional, weightAttribute);
+            assertEquals(getNeighbours(outgoing.transpose()), getNeighbours(incoming));
+            assertEquals(getNeighbours(incoming.transpose()), getNeighbours(outgoing));
+        }
+    }
+
+    /**
+     * Describe the neighbours of each vertex, ignoring their order.
+     */
+    private static List<Set<String>> getNeighbours(final CompressedGraphSnapshot snapshot) {
+        final List<Set<String>> neighbours = new ArrayList<>();
+        for (int position = 0; position < snapshot.getVertexCount(); position++) {
+            final Set<String> vertexNeighbours = new HashSet<>();
+            for (int index = snapshot.getNeighbourStart(position); index < snapshot.getNeighbourEnd(position); index++) {
+                vertexNeighbours.add(snapshot.getNeighbour(index) + ":" + snapshot.getWeight(index));
+            }
+            neighbours.add(vertexNeighbours);
+        }
+        return neighbours;
+    }
+}
@@ -17,8 +17,10 @@ package au.gov.asd.tac.constellation.graph.node;
 
 import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.file.GraphDataObject;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
 import au.gov.asd.tac.constellation.graph.manager.GraphManager;
 import au.gov.asd.tac.constellation.graph.manager.GraphManagerListener;
+import au.gov.asd.tac.constellation.preferences.ApplicationPreferenceKeys;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager;
 import au.gov.asd.tac.constellation.utilities.visual.VisualManager;
 import com.jogamp.opengl.awt.GLCanvas;
@@ -41,6 +43,7 @@ import org.openide.nodes.Node;
 import org.openide.nodes.PropertySupport;
 import org.openide.nodes.Sheet;
 import org.openide.util.HelpCtx;
+import org.openide.util.NbPreferences;
 import org.openide.util.lookup.AbstractLookup;
 import org.openide.util.lookup.InstanceContent;
 import org.openide.windows.TopComponent;
@@ -172,6 +175,11 @@ public class GraphNode extends AbstractNode {
         this.tc = tc;
 
         graph.setUndoManager(undoRedoManager);
+        if (graph instanceof DualGraph dualGraph) {
+            final int undoMemoryBudget = NbPreferences.forModule(ApplicationPreferenceKeys.class)
+                    .getInt(ApplicationPreferenceKeys.UNDO_MEMORY_BUDGET, ApplicationPreferenceKeys.UNDO_MEMORY_BUDGET_DEFAULT);
+            dualGraph.setUndoMemoryBudget(undoMemoryBudget * 1024L * 1024L);
+        }
 
         GRAPHS.put(graph.getId(), GraphNode.this);
 
@@ -15,6 +15,7 @@
  */
 package au.gov.asd.tac.constellation.views.histogram;
 
+import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
@@ -27,6 +28,7 @@ import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,12 @@ import java.util.Map;
 /**
  * A BinCollection represents all the bins in a single histogram. All elements in the graph will exist in exactly one
  * bin unless they have been excluded through a filter.
+ * <p>
+ * When vertices or transactions are binned, the collection also remembers the bin and selection state of each element
+ * so that changes to the values or selection of a few elements can be applied to the bins without binning every
+ * element again. The recorded selection state is what the selected counts of the bins were last calculated from, and
+ * it only changes along with those counts, when the graph is read. Selecting elements through the histogram writes to
+ * the graph only, and the new selection is applied to the counts when the graph change is read.
  *
  * @author sirius
  */
@@ -46,6 +54,15 @@ public class BinCollection {
 
     private final BinSelector binSelector = new BinSelector();
 
+    // the state needed to update the bins incrementally, which is null when the element type does not support it
+    private Map<Bin, Bin> binMap;
+    private ElementSet filter;
+    private Bin[] elementBins;
+    private int[] previousElements;
+    private BitSet selectedElements;
+    private Bin prototype;
+    private int binnedAttributeId = Graph.NOT_FOUND;
+
     /**
      * Returns the element type that is currently being binned.
      *
@@ -109,14 +126,158 @@ public class BinCollection {
             int position = bin.getFirstElement();
             while (position >= 0) {
                 final int element = elementType.getElement(graph, position);
-                if (binSelector.isSelected(graph, element)) {
+                final boolean selected = binSelector.isSelected(graph, element);
+                if (selected) {
                     bin.setSelectedCount(bin.getSelectedCount() + 1);
                 }
+                if (selectedElements != null) {
+                    selectedElements.set(position, selected);
+                }
                 position = binElements[position];
             }
         }
     }
 
+    /**
+     * Updates the selected counts of the bins for only the elements whose selection has changed.
+     *
+     * @param graph the graph.
+     * @param changedElements the ids of the elements whose selection may have changed, as returned by
+     * {@link GraphReadMethods#getChangedElements(int, long)}.
+     * @return true if the selected counts were updated, or false if the changed elements are not known or this
+     * collection cannot be updated incrementally, in which case {@link #updateSelection(GraphReadMethods)} should be
+     * called instead.
+     */
+    public boolean updateSelection(final GraphReadMethods graph, final int[] changedElements) {
+        if (changedElements == null || selectedElements == null) {
+            return false;
+        }
+
+        binSelector.setElementType(graph, elementType);
+
+        for (final int element : changedElements) {
+            final int position = getPosition(graph, element);
+            if (position >= 0 && position < elementBins.length && elementBins[position] != null) {
+                setSelected(elementBins[position], position, binSelector.isSelected(graph, element));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves only the elements whose binned values have changed to their new bins, creating bins for new values and
+     * removing bins that are left empty. The bins should be sorted again afterwards.
+     *
+     * @param graph the graph.
+     * @param changedElements the ids of the elements whose binned values may have changed, as returned by
+     * {@link GraphReadMethods#getChangedElements(int, long)}.
+     * @return true if the bins were updated, or false if the changed elements are not known or this collection cannot
+     * be updated incrementally, in which case a new collection should be created.
+     */
+    public boolean updateBins(final GraphReadMethods graph, final int[] changedElements) {
+        if (changedElements == null || prototype == null) {
+            return false;
+        }
+
+        binSelector.setElementType(graph, elementType);
+
+        boolean binsChanged = false;
+        for (final int element : changedElements) {
+            final int position = getPosition(graph, element);
+            if (position < 0 || position >= elementBins.length) {
+                continue;
+            }
+
+            final Bin oldBin = elementBins[position];
+            if (oldBin == null && filter != null && !filter.contains(graph, element)) {
+                continue;
+            }
+
+            prototype.setKey(graph, binnedAttributeId, element);
+            Bin newBin = binMap.get(prototype);
+            if (newBin == null && !prototype.isOnlyNullElements()) {
+                newBin = prototype;
+                newBin.prepareForPresentation();
+                prototype = newBin.create();
+                binMap.put(newBin, newBin);
+                binsChanged = true;
+            }
+
+            if (newBin != oldBin) {
+                // only elements in a bin have a recorded selection state, so an element that wasn't in a bin
+                // starts with the selection of the graph
+                final boolean selected = oldBin != null ? selectedElements.get(position) : binSelector.isSelected(graph, element);
+                if (oldBin != null) {
+                    removeElement(oldBin, position, selected);
+                    if (oldBin.getElementCount() == 0) {
+                        binMap.remove(oldBin);
+                        binsChanged = true;
+                    }
+                }
+                if (newBin != null) {
+                    addElement(newBin, position, selected);
+                }
+                selectedElements.set(position, newBin != null && selected);
+                elementBins[position] = newBin;
+            }
+        }
+
+        if (binsChanged) {
+            bins = binMap.keySet().toArray(new Bin[binMap.size()]);
+        }
+        maxElementCount = -1;
+        return true;
+    }
+
+    private void addElement(final Bin bin, final int position, final boolean selected) {
+        final int firstElement = bin.getFirstElement();
+        binElements[position] = firstElement;
+        previousElements[position] = -1;
+        if (firstElement >= 0) {
+            previousElements[firstElement] = position;
+        }
+        bin.setFirstElement(position);
+        bin.setElementCount(bin.getElementCount() + 1);
+        if (selected) {
+            bin.setSelectedCount(bin.getSelectedCount() + 1);
+        }
+    }
+
+    private void removeElement(final Bin bin, final int position, final boolean selected) {
+        final int nextElement = binElements[position];
+        final int previousElement = previousElements[position];
+        if (previousElement < 0) {
+            bin.setFirstElement(nextElement);
+        } else {
+            binElements[previousElement] = nextElement;
+        }
+        if (nextElement >= 0) {
+            previousElements[nextElement] = previousElement;
+        }
+        bin.setElementCount(bin.getElementCount() - 1);
+        if (selected) {
+            bin.setSelectedCount(bin.getSelectedCount() - 1);
+        }
+    }
+
+    /**
+     * Records the selection state of a binned element, updating the selected count of its bin to match.
+     */
+    private void setSelected(final Bin bin, final int position, final boolean selected) {
+        if (selected != selectedElements.get(position)) {
+            selectedElements.set(position, selected);
+            bin.setSelectedCount(bin.getSelectedCount() + (selected ? 1 : -1));
+        }
+    }
+
+    private int getPosition(final GraphReadMethods graph, final int element) {
+        return elementType == GraphElementType.VERTEX ? graph.getVertexPosition(element) : graph.getTransactionPosition(element);
+    }
+
+    private void select(final GraphWriteMethods graph, final int element, final boolean selected) {
+        binSelector.select(graph, element, selected);
+    }
+
     public void selectOnlyBins(final GraphWriteMethods graph, final int firstBin, final int lastBin) {
         binSelector.setElementType(graph, elementType);
         for (int binPosition = 0; binPosition < bins.length; binPosition++) {
@@ -127,7 +288,7 @@ public class BinCollection {
             int position = bin.getFirstElement();
             while (position >= 0) {
                 int element = elementType.getElement(graph, position);
-                binSelector.select(graph, element, select);
+                select(graph, element, select);
                 position = binElements[position];
             }
         }
@@ -141,7 +302,7 @@ public class BinCollection {
             int position = bin.getFirstElement();
             while (position >= 0) {
                 int element = elementType.getElement(graph, position);
-                binSelector.select(graph, element, select);
+                select(graph, element, select);
                 position = binElements[position];
             }
         }
@@ -155,7 +316,7 @@ public class BinCollection {
             int position = bin.getFirstElement();
             while (position >= 0) {
                 int element = elementType.getElement(graph, position);
-                binSelector.select(graph, element, !binSelector.isSelected(graph, element));
+                select(graph, element, !binSelector.isSelected(graph, element));
                 position = binElements[position];
             }
         }
@@ -171,7 +332,7 @@ public class BinCollection {
             int position = bin.getFirstElement();
             while (position >= 0) {
                 int element = elementType.getElement(graph, position);
-                binSelector.select(graph, element, select);
+                select(graph, element, select);
                 position = binElements[position];
             }
         }
@@ -181,11 +342,10 @@ public class BinCollection {
         binSelector.setElementType(graph, elementType);
         for (final Bin bin : bins) {
             if (!bin.getIsActivated()) {
-                bin.setSelectedCount(0);
                 int position = bin.getFirstElement();
                 while (position >= 0) {
                     int element = elementType.getElement(graph, position);
-                    binSelector.select(graph, element, false);
+                    select(graph, element, false);
                     position = binElements[position];
                 }
             }
@@ -198,11 +358,10 @@ public class BinCollection {
         for (final Bin bin : bins) {
             if (bin.getIsActivated()) {
                 bin.setIsActivated(false);
-                bin.setSelectedCount(bin.getElementCount());
                 int position = bin.getFirstElement();
                 while (position >= 0) {
                     int element = elementType.getElement(graph, position);
-                    binSelector.select(graph, element, true);
+                    select(graph, element, true);
                     position = binElements[position];
                 }
             }
@@ -251,9 +410,46 @@ public class BinCollection {
         binCollection.bins = bins.keySet().toArray(new Bin[bins.size()]);
         binCollection.binElements = binElements;
 
+        // the selection of edges and links is spread over their transactions, so only vertices and transactions can be updated incrementally
+        if (elementType == GraphElementType.VERTEX || elementType == GraphElementType.TRANSACTION) {
+            binCollection.binMap = bins;
+            binCollection.filter = filter;
+            binCollection.indexElements(graph);
+            if (binCreator.supportsIncrementalBinning(elementType)) {
+                binCollection.binnedAttributeId = binCreator.getBinnedAttribute(graph, elementType, attribute);
+                if (binCollection.binnedAttributeId != Graph.NOT_FOUND) {
+                    binCollection.prototype = binCreator.createPrototype(graph, elementType, attribute, formatter, binFormatterParameters);
+                }
+            }
+        }
+
         return binCollection;
     }
 
+    /**
+     * Records the bin, the previous element in the bin and the selection state of each binned element.
+     */
+    private void indexElements(final GraphReadMethods graph) {
+        elementBins = new Bin[binElements.length];
+        previousElements = new int[binElements.length];
+        selectedElements = new BitSet(binElements.length);
+
+        final int selectedAttributeId = graph.getAttribute(elementType.getSelectionElementType(), "selected");
+        for (final Bin bin : bins) {
+            int previousElement = -1;
+            int position = bin.getFirstElement();
+            while (position >= 0) {
+                elementBins[position] = bin;
+                previousElements[position] = previousElement;
+                if (selectedAttributeId != Graph.NOT_FOUND && elementType.isSelected(graph, elementType.getElement(graph, position), selectedAttributeId)) {
+                    selectedElements.set(position);
+                }
+                previousElement = position;
+                position = binElements[position];
+            }
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder out = new StringBuilder();
@@ -21,16 +21,32 @@ import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.utilities.ElementSet;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.views.histogram.formats.BinFormatter;
+import au.gov.asd.tac.constellation.views.histogram.representatives.IdentityRepresentative;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * A BinCreator is the class that actually creates a collection of bins from the elements in the graph. Most of the hard
  * work is passed to the bin itself.
+ * <p>
+ * Large graphs are binned in parallel by splitting the elements into contiguous partitions, binning each partition into
+ * its own map of bins, and then merging the maps in partition order so that the result is the same as binning the
+ * elements one after another.
  *
  * @author sirius
  */
 public class BinCreator {
 
+    // graphs with fewer elements than this are binned on the calling thread
+    static final int PARALLEL_THRESHOLD = 65536;
+
+    // the smallest partition worth handing to another thread
+    private static final int MINIMUM_PARTITION_SIZE = 16384;
+
     protected final boolean attributeBased;
     protected final GraphElementType attributeElementType;
     protected final ElementRepresentative representative;
@@ -55,25 +71,105 @@ public class BinCreator {
         return bin;
     }
 
+    /**
+     * Returns true if the bin of an element depends only on the value of the binned attribute for that element, so
+     * that when the values of some elements change, only those elements need to be binned again.
+     *
+     * @param elementType the element type being binned.
+     * @return true if changed elements can be binned again without binning every element.
+     */
+    public boolean supportsIncrementalBinning(final GraphElementType elementType) {
+        return attributeBased && representative instanceof IdentityRepresentative
+                && (attributeElementType == null || attributeElementType == elementType);
+    }
+
+    /**
+     * Returns the id of the attribute holding the values that are binned.
+     *
+     * @param graph the graph.
+     * @param elementType the element type being binned.
+     * @param binnedAttribute the name of the binned attribute, or null if the bins are not attribute based.
+     * @return the id of the binned attribute, or {@link Graph#NOT_FOUND}.
+     */
+    public int getBinnedAttribute(final GraphReadMethods graph, final GraphElementType elementType, final String binnedAttribute) {
+        if (binnedAttribute == null || representative == null) {
+            return Graph.NOT_FOUND;
+        }
+        return graph.getAttribute(representative.getRepresentativeElementType(elementType), binnedAttribute);
+    }
+
+    /**
+     * Creates an initialised bin, formatted by the specified formatter, whose key can be set to find the bin of an
+     * element. New bins are created from the prototype with {@link Bin#create()}.
+     *
+     * @param graph the graph.
+     * @param elementType the element type being binned.
+     * @param binnedAttribute the name of the binned attribute, or null if the bins are not attribute based.
+     * @param formatter the formatter applied to the bins, or null.
+     * @param binFormatterParameters the parameters of the formatter.
+     * @return a prototype bin, or null if this BinCreator does not create bins.
+     */
+    public Bin createPrototype(final GraphReadMethods graph, final GraphElementType elementType, final String binnedAttribute, final BinFormatter formatter, final PluginParameters binFormatterParameters) {
+        if (representative == null) {
+            return null;
+        }
+        final int binnedAttributeId = getBinnedAttribute(graph, elementType, binnedAttribute);
+        Bin prototype = bin.create();
+        prototype.init(graph, binnedAttributeId);
+        if (formatter != null) {
+            prototype = formatter.createBin(graph, binnedAttributeId, binFormatterParameters, prototype);
+        }
+        return prototype;
+    }
+
     public void createBins(GraphReadMethods graph, GraphElementType elementType, String attribute, Map<Bin, Bin> bins, int[] binElements, ElementSet filter, BinFormatter formatter, PluginParameters binFormatterParameters) {
         if (representative != null) {
-            createElementBins(graph, representative, bin.create(), elementType, attribute, bins, binElements, filter, formatter, binFormatterParameters);
+            final int elementCount = elementType.getElementCount(graph);
+            final int partitionCount = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, elementCount / MINIMUM_PARTITION_SIZE);
+            if (elementCount >= PARALLEL_THRESHOLD && partitionCount > 1 && (formatter == null || formatter.supportsConcurrentBinning())) {
+                createElementBinsInParallel(graph, elementType, attribute, bins, binElements, filter, formatter, binFormatterParameters, partitionCount);
+            } else {
+                final Bin prototype = createPrototype(graph, elementType, attribute, formatter, binFormatterParameters);
+                createElementBins(graph, representative, prototype, elementType, getBinnedAttribute(graph, elementType, attribute), bins, binElements, filter, 0, elementCount, null);
+            }
         }
     }
 
-    private static void createElementBins(GraphReadMethods graph, ElementRepresentative representative, Bin bin, GraphElementType elementType, String binnedAttribute, Map<Bin, Bin> bins, int[] binElements, ElementSet filter, BinFormatter formatter, PluginParameters binFormatterParameters) {
-        final GraphElementType representativeElementType = representative.getRepresentativeElementType(elementType);
-        final int binnedAttributeId = binnedAttribute == null ? Graph.NOT_FOUND : graph.getAttribute(representativeElementType, binnedAttribute);
-        bin.init(graph, binnedAttributeId);
-
-        final int selectedAttributeId = graph.getAttribute(elementType.getSelectionElementType(), "selected");
+    private void createElementBinsInParallel(final GraphReadMethods graph, final GraphElementType elementType, final String attribute, final Map<Bin, Bin> bins, final int[] binElements, final ElementSet filter, final BinFormatter formatter, final PluginParameters binFormatterParameters, final int partitionCount) {
         final int elementCount = elementType.getElementCount(graph);
+        final int binnedAttributeId = getBinnedAttribute(graph, elementType, attribute);
 
-        if (formatter != null) {
-            bin = formatter.createBin(graph, binnedAttributeId, binFormatterParameters, bin);
+        // each partition writes only its own positions of binElements, and records the last element of each of its
+        // bins so that the linked lists of equal bins can be joined when the partitions are merged
+        final List<Partition> partitions = IntStream.range(0, partitionCount).parallel().mapToObj(partition -> {
+            final int start = (int) ((long) elementCount * partition / partitionCount);
+            final int end = (int) ((long) elementCount * (partition + 1) / partitionCount);
+            final Partition result = new Partition();
+            final Bin prototype = createPrototype(graph, elementType, attribute, formatter, binFormatterParameters);
+            createElementBins(graph, representative, prototype, elementType, binnedAttributeId, result.bins, binElements, filter, start, end, result.lastElements);
+            return result;
+        }).toList();
+
+        // merging in partition order gives every bin the same elements in the same order as binning sequentially
+        for (final Partition partition : partitions) {
+            for (final Bin partitionBin : partition.bins.keySet()) {
+                final Bin currentBin = bins.get(partitionBin);
+                if (currentBin == null) {
+                    bins.put(partitionBin, partitionBin);
+                } else {
+                    currentBin.setElementCount(currentBin.getElementCount() + partitionBin.getElementCount());
+                    currentBin.setSelectedCount(currentBin.getSelectedCount() + partitionBin.getSelectedCount());
+                    binElements[partition.lastElements.get(partitionBin)] = currentBin.getFirstElement();
+                    currentBin.setFirstElement(partitionBin.getFirstElement());
+                }
+            }
         }
+    }
 
-        for (int position = 0; position < elementCount; position++) {
+    private static void createElementBins(GraphReadMethods graph, ElementRepresentative representative, Bin bin, GraphElementType elementType, int binnedAttributeId, Map<Bin, Bin> bins, int[] binElements, ElementSet filter, int start, int end, Map<Bin, Integer> lastElements) {
+        final int selectedAttributeId = graph.getAttribute(elementType.getSelectionElementType(), "selected");
+
+        for (int position = start; position < end; position++) {
             final int element = elementType.getElement(graph, position);
 
             if (filter == null || filter.contains(graph, element)) {
@@ -84,6 +180,9 @@ public class BinCreator {
                     currentBin.prepareForPresentation();
                     bin = currentBin.create();
                     bins.put(currentBin, currentBin);
+                    if (lastElements != null) {
+                        lastElements.put(currentBin, position);
+                    }
                 }
                 if (currentBin != null) {
                     currentBin.setElementCount(currentBin.getElementCount() + 1);
@@ -96,4 +195,13 @@ public class BinCreator {
             }
         }
     }
+
+    /**
+     * The bins created from one partition of the elements when binning in parallel.
+     */
+    private static class Partition {
+
+        private final Map<Bin, Bin> bins = new HashMap<>();
+        private final Map<Bin, Integer> lastElements = new IdentityHashMap<>();
+    }
 }
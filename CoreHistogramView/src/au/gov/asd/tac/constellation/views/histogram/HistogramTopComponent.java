@@ -103,11 +103,13 @@ public final class HistogramTopComponent extends TopComponent implements GraphMa
     private long currentBinnedModificationCount = Long.MIN_VALUE;
     private static final int CURRENT_TIME_ZONE_ATTRIBUTE = Graph.NOT_FOUND;
     private long currentTimeZoneModificationCount = Long.MIN_VALUE;
+    private long currentValueChangeSequence = Long.MIN_VALUE;
     private final Map<String, BinCreator> binCreators = new LinkedHashMap<>();
     private int histogramStateAttribute = Graph.NOT_FOUND;
     private HistogramState currentHistogramState = new HistogramState();
     private int binnedAttribute = Graph.NOT_FOUND;
     private BinCollection currentBinCollection = null;
+    private BinIconMode currentBinIconMode = BinIconMode.NONE;
     private int selectedAttribute = Graph.NOT_FOUND;
     private long latestGraphChangeID = 0;
     private ElementSet currentFilter;
@@ -212,6 +214,9 @@ public final class HistogramTopComponent extends TopComponent implements GraphMa
                     long oldStructureModificationCount = currentStructureModificationCount;
                     currentStructureModificationCount = rg.getStructureModificationCounter();
 
+                    final long oldValueChangeSequence = currentValueChangeSequence;
+                    currentValueChangeSequence = rg.getValueChangeSequence();
+
                     if (currentGlobalModificationCount != oldGlobalModificationCount) {
 
                         if (currentAttributeModificationCount != oldAttributeModificationCount
@@ -230,8 +235,13 @@ public final class HistogramTopComponent extends TopComponent implements GraphMa
                             long oldBinnedModificationCount = currentBinnedModificationCount;
                             currentBinnedModificationCount = rg.getValueModificationCounter(binnedAttribute);
                             if (currentBinnedModificationCount != oldBinnedModificationCount) {
-                                reset();
-                                return;
+                                // only the elements whose values changed need to be binned again, unless the changes are not known
+                                if (currentBinCollection == null || !currentBinCollection.updateBins(rg, rg.getChangedElements(binnedAttribute, oldValueChangeSequence))) {
+                                    reset();
+                                    return;
+                                }
+                                currentBinCollection.sort(currentHistogramState.getBinComparator());
+                                display.setBinCollection(currentBinCollection, currentBinIconMode);
                             }
                         }
 
@@ -287,7 +297,9 @@ public final class HistogramTopComponent extends TopComponent implements GraphMa
                             long oldSelectedModificationCount = currentSelectedModificationCount;
                             currentSelectedModificationCount = rg.getValueModificationCounter(selectedAttribute);
                             if (currentSelectedModificationCount != oldSelectedModificationCount && currentBinCollection != null) {
-                                currentBinCollection.updateSelection(rg);
+                                if (!currentBinCollection.updateSelection(rg, rg.getChangedElements(selectedAttribute, oldValueChangeSequence))) {
+                                    currentBinCollection.updateSelection(rg);
+                                }
                                 if (currentHistogramState.getBinComparator().usesSelection()) {
                                     currentBinCollection.sort(currentHistogramState.getBinComparator());
                                 }
@@ -395,6 +407,8 @@ public final class HistogramTopComponent extends TopComponent implements GraphMa
                 currentBinCollection.sort(currentHistogramState.getBinComparator());
             }
         }
+        currentBinIconMode = binIconMode;
+        currentValueChangeSequence = graph.getValueChangeSequence();
         display.setBinCollection(currentBinCollection, binIconMode);
     }
 
@@ -203,6 +203,20 @@ public class BinFormatter implements Comparable<BinFormatter> {
         return bin;
     }
 
+    /**
+     * Returns true if the bins created by this BinFormatter can be keyed on
+     * several threads at once, provided that each thread uses a bin returned
+     * by its own call to {@link #createBin}. This allows the histogram to bin
+     * the elements of large graphs in parallel. The default behaviour is to
+     * return true.
+     *
+     * @return true if the bins created by this BinFormatter can be keyed on
+     * several threads at once.
+     */
+    public boolean supportsConcurrentBinning() {
+        return true;
+    }
+
     public static void init() {
         if (FORMATTER_LIST.isEmpty()) {
             for (BinFormatter formatter : Lookup.getDefault().lookupAll(BinFormatter.class)) {
@@ -90,6 +90,12 @@ public class ScriptFormatter extends BinFormatter {
         return new ScriptFormatBin(bin, bindings, compiledScript);
     }
 
+    @Override
+    public boolean supportsConcurrentBinning() {
+        // script engines are not guaranteed to be thread safe, and compiling the script for each thread would cost more than it saves
+        return false;
+    }
+
     private class ScriptFormatBin extends ObjectBin {
 
         private final Bin bin;
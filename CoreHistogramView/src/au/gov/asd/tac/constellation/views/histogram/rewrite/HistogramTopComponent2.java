@@ -113,11 +113,13 @@ public final class HistogramTopComponent2 extends JavaFxTopComponent<HistogramPa
     private long currentBinnedModificationCount = Long.MIN_VALUE;
     private static final int CURRENT_TIME_ZONE_ATTRIBUTE = Graph.NOT_FOUND;
     private long currentTimeZoneModificationCount = Long.MIN_VALUE;
+    private long currentValueChangeSequence = Long.MIN_VALUE;
     private final Map<String, BinCreator> binCreators = new LinkedHashMap<>();
     private int histogramStateAttribute = Graph.NOT_FOUND;
     private HistogramState currentHistogramState = new HistogramState();
     private int binnedAttribute = Graph.NOT_FOUND;
     private BinCollection currentBinCollection = null;
+    private BinIconMode currentBinIconMode = BinIconMode.NONE;
     private int selectedAttribute = Graph.NOT_FOUND;
     private long latestGraphChangeID = 0;
     private ElementSet currentFilter;
@@ -231,6 +233,9 @@ public final class HistogramTopComponent2 extends JavaFxTopComponent<HistogramPa
             final long oldStructureModificationCount = currentStructureModificationCount;
             currentStructureModificationCount = rg.getStructureModificationCounter();
 
+            final long oldValueChangeSequence = currentValueChangeSequence;
+            currentValueChangeSequence = rg.getValueChangeSequence();
+
             if (currentAttributeModificationCount != oldAttributeModificationCount
                     || currentStructureModificationCount != oldStructureModificationCount) {
                 reset(rg);
@@ -247,8 +252,13 @@ public final class HistogramTopComponent2 extends JavaFxTopComponent<HistogramPa
                 long oldBinnedModificationCount = currentBinnedModificationCount;
                 currentBinnedModificationCount = rg.getValueModificationCounter(binnedAttribute);
                 if (currentBinnedModificationCount != oldBinnedModificationCount) {
-                    reset();
-                    return;
+                    // only the elements whose values changed need to be binned again, unless the changes are not known
+                    if (currentBinCollection == null || !currentBinCollection.updateBins(rg, rg.getChangedElements(binnedAttribute, oldValueChangeSequence))) {
+                        reset();
+                        return;
+                    }
+                    currentBinCollection.sort(currentHistogramState.getBinComparator());
+                    histogramPane.setBinCollection(currentBinCollection, currentBinIconMode);
                 }
             }
 
@@ -303,7 +313,9 @@ public final class HistogramTopComponent2 extends JavaFxTopComponent<HistogramPa
                 final long oldSelectedModificationCount = currentSelectedModificationCount;
                 currentSelectedModificationCount = rg.getValueModificationCounter(selectedAttribute);
                 if (currentSelectedModificationCount != oldSelectedModificationCount && currentBinCollection != null) {
-                    currentBinCollection.updateSelection(rg);
+                    if (!currentBinCollection.updateSelection(rg, rg.getChangedElements(selectedAttribute, oldValueChangeSequence))) {
+                        currentBinCollection.updateSelection(rg);
+                    }
                     if (currentHistogramState.getBinComparator().usesSelection()) {
                         currentBinCollection.sort(currentHistogramState.getBinComparator());
                     }
@@ -402,6 +414,8 @@ public final class HistogramTopComponent2 extends JavaFxTopComponent<HistogramPa
                 currentBinCollection.sort(currentHistogramState.getBinComparator());
             }
         }
+        currentBinIconMode = binIconMode;
+        currentValueChangeSequence = graph.getValueChangeSequence();
         histogramPane.setBinCollection(currentBinCollection, binIconMode);
     }
 
@@ -15,10 +15,15 @@
  */
 package au.gov.asd.tac.constellation.views.histogram;
 
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.StoreGraph;
+import au.gov.asd.tac.constellation.views.histogram.bins.IntBin;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -94,4 +99,153 @@ public class BinCollectionNGTest {
         // Check that no bins are selected
         assertEquals(expResult2.length, result2.length);
     }
+
+    private static StoreGraph createGraph(final int vertexCount, final int modulus) {
+        final StoreGraph graph = new StoreGraph();
+        final int valueAttribute = graph.addAttribute(GraphElementType.VERTEX, "integer", "value", "value", 0, null);
+        graph.addAttribute(GraphElementType.VERTEX, "boolean", "selected", "selected", false, null);
+        for (int i = 0; i < vertexCount; i++) {
+            final int vertex = graph.addVertex();
+            graph.setIntValue(valueAttribute, vertex, i % modulus);
+        }
+        return graph;
+    }
+
+    private static BinCollection createBinCollection(final StoreGraph graph) {
+        final BinCollection binCollection = BinCollection.createBinCollection(graph, GraphElementType.VERTEX, "value", DefaultBinCreators.INT_ATTRIBUTE_BIN_CREATOR, null, null, null);
+        binCollection.sort(BinComparator.KEY_NUMBER);
+        return binCollection;
+    }
+
+    /**
+     * Walks the linked list of elements in each bin, checking that it holds the
+     * number of elements the bin counts.
+     */
+    private static void assertBinElementsConsistent(final BinCollection binCollection) {
+        final int[] binElements = binCollection.getBinElements();
+        for (final Bin bin : binCollection.getBins()) {
+            int count = 0;
+            int position = bin.getFirstElement();
+            while (position >= 0) {
+                count++;
+                position = binElements[position];
+            }
+            assertEquals(count, bin.getElementCount());
+        }
+    }
+
+    /**
+     * Test of updateBins method, of class BinCollection.
+     */
+    @Test
+    public void testUpdateBins() {
+        System.out.println("updateBins");
+
+        final StoreGraph graph = createGraph(10, 3);
+        final int valueAttribute = graph.getAttribute(GraphElementType.VERTEX, "value");
+        final int selectedAttribute = graph.getAttribute(GraphElementType.VERTEX, "selected");
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(0), true);
+
+        final BinCollection instance = createBinCollection(graph);
+        assertEquals(instance.toString(), "BinCollection[0=1/4, 1=0/3, 2=0/3]");
+
+        final long sequence = graph.getValueChangeSequence();
+        // move a selected element to a new bin, and empty the bin for 2
+        graph.setIntValue(valueAttribute, graph.getVertex(0), 5);
+        for (int position = 2; position < 10; position += 3) {
+            graph.setIntValue(valueAttribute, graph.getVertex(position), 1);
+        }
+
+        assertTrue(instance.updateBins(graph, graph.getChangedElements(valueAttribute, sequence)));
+        instance.sort(BinComparator.KEY_NUMBER);
+        assertEquals(instance.toString(), "BinCollection[0=0/3, 1=0/6, 5=1/1]");
+        assertEquals(instance.getMaxElementCount(), 6);
+        assertBinElementsConsistent(instance);
+        assertEquals(instance.toString(), createBinCollection(graph).toString());
+
+        // unknown changes can't be applied incrementally
+        assertFalse(instance.updateBins(graph, null));
+    }
+
+    /**
+     * Test of updateSelection method, of class BinCollection, with the changed
+     * elements.
+     */
+    @Test
+    public void testUpdateSelectionChangedElements() {
+        System.out.println("updateSelectionChangedElements");
+
+        final StoreGraph graph = createGraph(10, 3);
+        final int selectedAttribute = graph.getAttribute(GraphElementType.VERTEX, "selected");
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(0), true);
+
+        final BinCollection instance = createBinCollection(graph);
+
+        final long sequence = graph.getValueChangeSequence();
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(0), false);
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(1), true);
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(4), true);
+        // setting a value to what it already is shouldn't change the counts
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(2), false);
+
+        assertTrue(instance.updateSelection(graph, graph.getChangedElements(selectedAttribute, sequence)));
+        assertEquals(instance.toString(), "BinCollection[0=0/4, 1=2/3, 2=0/3]");
+        assertEquals(instance.toString(), createBinCollection(graph).toString());
+
+        assertFalse(instance.updateSelection(graph, null));
+    }
+
+    /**
+     * Test of updateSelection method, of class BinCollection, after elements
+     * are selected through the bins. The selection written to the graph is
+     * applied to the selected counts when the changes are read.
+     */
+    @Test
+    public void testUpdateSelectionAfterSelectBins() {
+        System.out.println("updateSelectionAfterSelectBins");
+
+        final StoreGraph graph = createGraph(10, 3);
+        final int selectedAttribute = graph.getAttribute(GraphElementType.VERTEX, "selected");
+        graph.setBooleanValue(selectedAttribute, graph.getVertex(0), true);
+
+        final BinCollection instance = createBinCollection(graph);
+
+        final long sequence = graph.getValueChangeSequence();
+        instance.selectOnlyBins(graph, 1, 1);
+        assertEquals(instance.toString(), "BinCollection[0=1/4, 1=0/3, 2=0/3]");
+
+        assertTrue(instance.updateSelection(graph, graph.getChangedElements(selectedAttribute, sequence)));
+        assertEquals(instance.toString(), "BinCollection[0=0/4, 1=3/3, 2=0/3]");
+        assertEquals(instance.toString(), createBinCollection(graph).toString());
+    }
+
+    /**
+     * Test of createBinCollection method, of class BinCollection, with enough
+     * elements to be binned in parallel.
+     */
+    @Test
+    public void testCreateBinCollectionParallel() {
+        System.out.println("createBinCollectionParallel");
+
+        final int vertexCount = BinCreator.PARALLEL_THRESHOLD * 2;
+        final StoreGraph graph = createGraph(vertexCount, 7);
+
+        final BinCollection instance = createBinCollection(graph);
+        final Bin[] bins = instance.getBins();
+        assertEquals(bins.length, 7);
+        for (final Bin bin : bins) {
+            assertEquals(bin.getElementCount(), vertexCount / 7 + (((IntBin) bin).getKey() < vertexCount % 7 ? 1 : 0));
+        }
+        assertBinElementsConsistent(instance);
+
+        // the elements of each bin are in the same order as when binned sequentially
+        final int[] binElements = instance.getBinElements();
+        for (final Bin bin : bins) {
+            int position = bin.getFirstElement();
+            while (binElements[position] >= 0) {
+                assertEquals(binElements[position], position - 7);
+                position = binElements[position];
+            }
+        }
+    }
 }
@@ -62,6 +62,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.application.Platform;
 import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import org.openide.awt.NotificationDisplayer;
 import org.openide.util.NbBundle;
@@ -90,6 +91,7 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
 
     public static final String IMPORTED_ROWS = "IMPORTED_ROWS";
     public static final String SKIPPED_ROWS = "SKIPPED_ROWS";
+    private static final int ROW_COUNT_UNKNOWN = -1;
 
     @Override
     public PluginParameters createParameters() {
@@ -257,13 +259,53 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
 
         for (final File file : files) {
             interaction.setProgress(0, 0, "Reading File: " + file.getName(), true);
-            List<String[]> data = null;
             int importedRowsPerFile = 0;
             int skippedRowsPerFile = 0;
 
+            // the vertices added from this file, so that they can be removed if
+            // the file can't be read to the end
+            final IntArrayList fileVertices = new IntArrayList();
+
+            // the number of rows in the file is only known once it has been read
+            int rowCount = ROW_COUNT_UNKNOWN;
+
             try {
-                data = parser.parse(new InputSource(file), parserParameters);
-                dataSize = filesIncludeHeaders ? data.size() - 1 : data.size();
+                // the file is streamed once per definition rather than held in memory between them
+                for (final ImportDefinition definition : definitions) {
+                    results = null;
+                    try (final ImportRowReader rows = new ImportRowReader(parser.open(new InputSource(file), parserParameters))) {
+                        if (definition.getDefinitions(AttributeType.SOURCE_VERTEX).isEmpty()) {
+                            // No source vertex definitions are set, the only option left is destination vertexes being mapped.
+                            // Process destination vertexes if defintions are defined, otherwise there is nothing to do.
+                            if (!definition.getDefinitions(AttributeType.DESTINATION_VERTEX).isEmpty()) {
+                                results = processDestinationVertices(definition, graph, rows, rowCount, fileVertices, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
+                            }
+                        } else if (definition.getDefinitions(AttributeType.DESTINATION_VERTEX).isEmpty()) {
+                            // Source defintions exist, but no destination definitions exist. Process the source definitions.
+                            results = processSourceVertices(definition, graph, rows, rowCount, fileVertices, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
+                        } else {
+                            // Both source and destination defintions exist, process them.
+                            results = processTransactions(definition, graph, rows, rowCount, fileVertices, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
+                        }
+                        if (results != null) {
+                            rowCount = rows.getRowIndex() + 1;
+                        }
+                    }
+
+                    if (results != null) {
+                        importedRowsPerFile += results.get(IMPORTED_ROWS);
+                        skippedRowsPerFile += results.get(SKIPPED_ROWS);
+                    }
+
+                    // Determine if a positional attribute has been defined, if so update the overall flag
+                    final boolean isPositional = attributeDefintionIsPositional(definition.getDefinitions(AttributeType.SOURCE_VERTEX), definition.getDefinitions(AttributeType.DESTINATION_VERTEX));
+                    positionalAtrributesExist = (positionalAtrributesExist || isPositional);
+                }
+
+                if (rowCount == ROW_COUNT_UNKNOWN) {
+                    rowCount = countRows(parser, file, parserParameters);
+                }
+                dataSize = filesIncludeHeaders ? rowCount - 1 : rowCount;
                 totalRows = totalRows + Integer.max(0, dataSize);
 
                 if (dataSize > 0) {
@@ -283,35 +325,12 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
                 final String errorMsg = file.getPath() + " could not be parsed. Removing file during import.";
                 LOGGER.log(Level.INFO, errorMsg);
                 invalidFiles.add(file.getName());
-            }
-
-            if (data != null) {
-                for (final ImportDefinition definition : definitions) {
-
-                    if (definition.getDefinitions(AttributeType.SOURCE_VERTEX).isEmpty()) {
-                        // No source vertex definitions are set, the only option left is destination vertexes being mapped.
-                        // Process destination vertexes if defintions are defined, otherwise there is nothing to do.
-                        if (!definition.getDefinitions(AttributeType.DESTINATION_VERTEX).isEmpty()) {
-                            results = processDestinationVertices(definition, graph, data, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
-                            importedRowsPerFile += results.get(IMPORTED_ROWS);
-                            skippedRowsPerFile += results.get(SKIPPED_ROWS);
-                        }
-                    } else if (definition.getDefinitions(AttributeType.DESTINATION_VERTEX).isEmpty()) {
-                        // Source defintions exist, but no destination definitions exist. Process the source definitions.
-                        results = processSourceVertices(definition, graph, data, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
-                        importedRowsPerFile += results.get(IMPORTED_ROWS);
-                        skippedRowsPerFile += results.get(SKIPPED_ROWS);
-                    } else {
-                        // Both source and destination defintions exist, process them.
-                        results = processTransactions(definition, graph, data, initialiseWithSchema, skipInvalidRows, interaction, file.getName());
-                        importedRowsPerFile += results.get(IMPORTED_ROWS);
-                        skippedRowsPerFile += results.get(SKIPPED_ROWS);
-                    }
 
-                    // Determine if a positional attribute has been defined, if so update the overall flag
-                    final boolean isPositional = attributeDefintionIsPositional(definition.getDefinitions(AttributeType.SOURCE_VERTEX), definition.getDefinitions(AttributeType.DESTINATION_VERTEX));
-                    positionalAtrributesExist = (positionalAtrributesExist || isPositional);
-                }
+                // remove the rows that were imported from the file before the error,
+                // so that a file is imported completely or not at all
+                removeVertices(graph, fileVertices);
+                importedRowsPerFile = 0;
+                skippedRowsPerFile = 0;
             }
             totalImportedRows += importedRowsPerFile;
             totalSkippedRows += skippedRowsPerFile;
@@ -349,6 +368,42 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
         }
     }
 
+    /**
+     * Count the rows in a file that had no definitions to import it with.
+     *
+     * @param parser the parser used to read the file
+     * @param file the file to count the rows of
+     * @param parserParameters the parameters that configure the parser
+     * @return the number of rows in the file, including any header row
+     * @throws IOException if an error occurred while reading the file
+     * @throws InterruptedException if the import was cancelled
+     */
+    private static int countRows(final ImportFileParser parser, final File file, final PluginParameters parserParameters) throws IOException, InterruptedException {
+        try (final ImportRowReader rows = new ImportRowReader(parser.open(new InputSource(file), parserParameters))) {
+            while (rows.next() != null) {
+                // Only the number of rows is needed
+            }
+            return rows.getRowIndex() + 1;
+        }
+    }
+
+    /**
+     * Remove vertices added by an import, along with their transactions. IDs
+     * of vertices removed because their row was invalid may have been reused
+     * by later vertices, or no longer exist.
+     *
+     * @param graph the graph the vertices were added to
+     * @param vertices the IDs of the vertices added
+     */
+    private static void removeVertices(final GraphWriteMethods graph, final IntArrayList vertices) {
+        for (int i = 0; i < vertices.size(); i++) {
+            final int vertexId = vertices.get(i);
+            if (graph.vertexExists(vertexId)) {
+                graph.removeVertex(vertexId);
+            }
+        }
+    }
+
     // If src or destination attribute definitions have been supplied, check them and return true if any of the positional attributes ('x', 'y', or 'z') are included. Positional
     // arguments allow the import to define where nodes will be placed on graph. If src or destination definitons do not exist then an empty list should be supplied.
     private static boolean attributeDefintionIsPositional(List<ImportAttributeDefinition> srcAttributeDefinitions, List<ImportAttributeDefinition> destAttributeDefinitions) {
@@ -361,18 +416,18 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
         return destAttributeDefinitions.stream().map(attribute -> attribute.getAttribute().getName()).anyMatch(name -> (VisualConcept.VertexAttribute.X.getName().equals(name) || VisualConcept.VertexAttribute.Y.getName().equals(name) || VisualConcept.VertexAttribute.Z.getName().equals(name)));
     }
 
-    private static MutableObjectIntMap<String> processSourceVertices(final ImportDefinition definition, final GraphWriteMethods graph, final List<String[]> data, final boolean initialiseWithSchema,
-            final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException {
-        return processVertices(definition, graph, data, AttributeType.SOURCE_VERTEX, initialiseWithSchema, skipInvalidRows, interaction, source);
+    private static MutableObjectIntMap<String> processSourceVertices(final ImportDefinition definition, final GraphWriteMethods graph, final ImportRowReader rows, final int rowCount, final IntArrayList addedVertices,
+            final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException, IOException {
+        return processVertices(definition, graph, rows, rowCount, addedVertices, AttributeType.SOURCE_VERTEX, initialiseWithSchema, skipInvalidRows, interaction, source);
     }
 
-    private static MutableObjectIntMap<String> processDestinationVertices(final ImportDefinition definition, final GraphWriteMethods graph, final List<String[]> data, final boolean initialiseWithSchema,
-            final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException {
-        return processVertices(definition, graph, data, AttributeType.DESTINATION_VERTEX, initialiseWithSchema, skipInvalidRows, interaction, source);
+    private static MutableObjectIntMap<String> processDestinationVertices(final ImportDefinition definition, final GraphWriteMethods graph, final ImportRowReader rows, final int rowCount, final IntArrayList addedVertices,
+            final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException, IOException {
+        return processVertices(definition, graph, rows, rowCount, addedVertices, AttributeType.DESTINATION_VERTEX, initialiseWithSchema, skipInvalidRows, interaction, source);
     }
 
-    private static MutableObjectIntMap<String> processVertices(final ImportDefinition definition, final GraphWriteMethods graph, final List<String[]> data, final AttributeType attributeType,
-            final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException {
+    private static MutableObjectIntMap<String> processVertices(final ImportDefinition definition, final GraphWriteMethods graph, final ImportRowReader rows, final int rowCount, final IntArrayList addedVertices, final AttributeType attributeType,
+            final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException, IOException {
         final List<ImportAttributeDefinition> attributeDefinitions = definition.getDefinitions(attributeType);
 
         addAttributes(graph, GraphElementType.VERTEX, attributeDefinitions);
@@ -381,14 +436,17 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
         int importedRows = 0;
         int skippedRow = 0;
         final MutableObjectIntMap<String> results = new ObjectIntHashMap<>();
-        final int totalRows = data.size() - definition.getFirstRow();
+        // the rows are only counted by the first definition to read the file
+        final int totalRows = rowCount == ROW_COUNT_UNKNOWN ? -1 : rowCount - definition.getFirstRow();
 
         final RowFilter filter = definition.getRowFilter();
 
-        for (int i = definition.getFirstRow(); i < data.size(); i++) {
+        for (String[] row = rows.next(); row != null; row = rows.next()) {
+            final int i = rows.getRowIndex();
+            if (i < definition.getFirstRow()) {
+                continue;
+            }
             interaction.setProgress(++currentRow, totalRows, "Importing Vertices: " + source, true);
-
-            final String[] row = data.get(i);
             int vertexId = -1;
 
             try {
@@ -396,6 +454,7 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
                 if (filter == null || filter.passesFilter(i - 1, row)) {
 
                     vertexId = graph.addVertex();
+                    addedVertices.add(vertexId);
                     for (final ImportAttributeDefinition attributeDefinition : attributeDefinitions) {
                         attributeDefinition.setValue(graph, vertexId, row, (i - 1));
                     }
@@ -426,7 +485,8 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
         return results;
     }
 
-    private static MutableObjectIntMap<String> processTransactions(final ImportDefinition definition, final GraphWriteMethods graph, final List<String[]> data, final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException {
+    private static MutableObjectIntMap<String> processTransactions(final ImportDefinition definition, final GraphWriteMethods graph, final ImportRowReader rows, final int rowCount, final IntArrayList addedVertices,
+            final boolean initialiseWithSchema, final boolean skipInvalidRows, final PluginInteraction interaction, final String source) throws InterruptedException, PluginException, IOException {
         final List<ImportAttributeDefinition> sourceVertexDefinitions = definition.getDefinitions(AttributeType.SOURCE_VERTEX);
         final List<ImportAttributeDefinition> destinationVertexDefinitions = definition.getDefinitions(AttributeType.DESTINATION_VERTEX);
         final List<ImportAttributeDefinition> transactionDefinitions = definition.getDefinitions(AttributeType.TRANSACTION);
@@ -447,19 +507,24 @@ public class ImportDelimitedPlugin extends SimpleEditPlugin {
         int importedRows = 0;
         int skippedRow = 0;
         final MutableObjectIntMap<String> results = new ObjectIntHashMap<>();
-        final int totalRows = data.size() - definition.getFirstRow();
+        // the rows are only counted by the first definition to read the file
+        final int totalRows = rowCount == ROW_COUNT_UNKNOWN ? -1 : rowCount - definition.getFirstRow();
 
         final RowFilter filter = definition.getRowFilter();
 
-        for (int i = definition.getFirstRow(); i < data.size(); i++) {
+        for (String[] row = rows.next(); row != null; row = rows.next()) {
+            final int i = rows.getRowIndex();
+            if (i < definition.getFirstRow()) {
+                continue;
+            }
             interaction.setProgress(++currentRow, totalRows, "Importing Transactions: " + source, true);
 
-            final String[] row = data.get(i);
-
             if (filter == null || filter.passesFilter(i - 1, row)) {
 
                 final int sourceVertexId = graph.addVertex();
                 final int destinationVertexId = graph.addVertex();
+                addedVertices.add(sourceVertexId);
+                addedVertices.add(destinationVertexId);
 
                 final boolean isDirected = directedIx == ImportConstants.ATTRIBUTE_NOT_ASSIGNED_TO_COLUMN || Boolean.parseBoolean(row[directedIx]);
                 final int transactionId = graph.addTransaction(sourceVertexId, destinationVertexId, isDirected);
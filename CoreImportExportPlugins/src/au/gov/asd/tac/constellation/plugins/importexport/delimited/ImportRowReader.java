@@ -0,0 +1,154 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.delimited;
+
+import au.gov.asd.tac.constellation.plugins.importexport.delimited.parser.ImportRowCursor;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+
+/**
+ * An ImportRowReader reads rows from an {@link ImportRowCursor} on a background
+ * thread and hands them to the importing thread in batches.
+ * <p>
+ * Only a fixed number of batches can be waiting at any time, so the parser is
+ * held back whenever the graph falls behind and the memory used by an import
+ * stays constant regardless of the size of the file, while the parsing of one
+ * batch still overlaps the import of the previous one.
+ *
+ * @author sirius
+ */
+final class ImportRowReader implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int QUEUE_CAPACITY = 4;
+
+    private static final Batch END = new Batch(List.of(), null);
+
+    private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Future<?> future;
+
+    private List<String[]> rows = List.of();
+    private int position = 0;
+    private int rowIndex = -1;
+    private boolean finished = false;
+
+    /**
+     * Creates a new ImportRowReader and starts reading rows from the cursor.
+     * The cursor is closed by the reader once all of its rows have been read
+     * or the reader has been closed.
+     *
+     * @param cursor the cursor to read rows from.
+     */
+    ImportRowReader(final ImportRowCursor cursor) {
+        future = ConstellationGlobalThreadPool.getThreadPool().getCachedThreadPool().submit(() -> readRows(cursor));
+    }
+
+    private void readRows(final ImportRowCursor cursor) {
+        List<String[]> batch = new ArrayList<>(BATCH_SIZE);
+        Batch last = END;
+        try (cursor) {
+            String[] row = cursor.next();
+            while (row != null) {
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    queue.put(new Batch(batch, null));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+                row = cursor.next();
+            }
+        } catch (final InterruptedException ex) {
+            // The reader has been closed so nobody is waiting for the remaining rows
+            Thread.currentThread().interrupt();
+            return;
+        } catch (final IOException | RuntimeException ex) {
+            // The rows read before the failure are still returned before it is reported
+            last = new Batch(List.of(), ex);
+        }
+
+        try {
+            if (!batch.isEmpty()) {
+                queue.put(new Batch(batch, null));
+            }
+            queue.put(last);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the next row, waiting for it to be parsed if necessary.
+     *
+     * @return the next row, or null if there are no more rows.
+     * @throws IOException if an error occurred while reading the file.
+     * @throws InterruptedException if the thread was interrupted while
+     * waiting.
+     */
+    String[] next() throws IOException, InterruptedException {
+        while (position == rows.size()) {
+            if (finished) {
+                return null;
+            }
+
+            final Batch batch = queue.take();
+            if (batch.failure() != null || batch == END) {
+                finished = true;
+                if (batch.failure() instanceof IOException ioException) {
+                    throw ioException;
+                } else if (batch.failure() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else {
+                    return null;
+                }
+            }
+
+            rows = batch.rows();
+            position = 0;
+        }
+
+        rowIndex++;
+        return rows.get(position++);
+    }
+
+    /**
+     * Returns the index in the file of the row most recently returned by
+     * {@link #next()}, starting from 0.
+     *
+     * @return the index of the current row.
+     */
+    int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * Stops reading rows. Any rows that have been parsed but not yet returned
+     * are discarded.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        future.cancel(true);
+        queue.clear();
+    }
+
+    private record Batch(List<String[]> rows, Exception failure) {
+
+    }
+}
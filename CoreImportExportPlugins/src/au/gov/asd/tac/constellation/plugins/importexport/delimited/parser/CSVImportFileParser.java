@@ -20,8 +20,10 @@ import au.gov.asd.tac.constellation.utilities.file.FileExtensionConstants;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import javax.swing.filechooser.FileFilter;
 import org.apache.commons.csv.CSVFormat;
@@ -92,6 +94,27 @@ public class CSVImportFileParser extends ImportFileParser {
         return results;
     }
 
+    @Override
+    public ImportRowCursor open(final InputSource input, final PluginParameters parameters) throws IOException {
+        final CSVParser csvFileParser = getCSVParser(input);
+        final Iterator<CSVRecord> records = csvFileParser.iterator();
+        return new ImportRowCursor() {
+            @Override
+            public String[] next() throws IOException {
+                try {
+                    return records.hasNext() ? records.next().values() : null;
+                } catch (final UncheckedIOException ex) {
+                    throw ex.getCause();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                csvFileParser.close();
+            }
+        };
+    }
+
     /**
      * Returns the file filter to use when browsing for files of this type.
      *
@@ -21,6 +21,7 @@ import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -170,4 +171,33 @@ public abstract class ImportFileParser {
      */
     public abstract List<String[]> preview(final InputSource input, final PluginParameters parameters, final int limit) throws IOException;
 
+    /**
+     * Opens a cursor that reads the file one row at a time, in the same order
+     * and with the same content as the rows returned by
+     * {@link #parse(InputSource, PluginParameters)}.
+     * <p>
+     * The default implementation parses the entire file up front; parsers
+     * that can read their format incrementally should override this so that
+     * large files can be imported in constant memory.
+     *
+     * @param input Input file
+     * @param parameters the parameters that configure the parse operation.
+     * @return a cursor over the rows of the file, which the caller must close.
+     * @throws IOException if an error occurred while reading the file.
+     */
+    public ImportRowCursor open(final InputSource input, final PluginParameters parameters) throws IOException {
+        final Iterator<String[]> rows = parse(input, parameters).iterator();
+        return new ImportRowCursor() {
+            @Override
+            public String[] next() {
+                return rows.hasNext() ? rows.next() : null;
+            }
+
+            @Override
+            public void close() {
+                // Nothing to close as the file has already been read
+            }
+        };
+    }
+
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.delimited.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * An ImportRowCursor reads the rows of a file one at a time so that a file can
+ * be imported without holding all of its rows in memory.
+ *
+ * @author sirius
+ */
+public interface ImportRowCursor extends Closeable {
+
+    /**
+     * Reads the next row of the file.
+     *
+     * @return the next row of the file, or null if there are no more rows.
+     * @throws IOException if an error occurred while reading the file.
+     */
+    public String[] next() throws IOException;
+}
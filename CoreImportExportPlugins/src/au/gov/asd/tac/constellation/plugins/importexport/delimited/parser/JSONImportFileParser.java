@@ -326,13 +326,13 @@ public class JSONImportFileParser extends ImportFileParser {
     }
 
     /**
-     * Top level processing function. This function is called by both the
-     * overloaded base class functions parse and preview to avoid code
-     * duplication. This function uses the other private functions found in this
-     * class to do the following: 1. identify the best available list within the
-     * overall JSON file to use 2. for the identified list, recursively build up
-     * a list of candidate columns 3. loop through each list entry and extract
-     * values into a list of data to return.
+     * Top level processing function. This function is called by open, parse
+     * and preview to avoid code duplication. This function uses the other
+     * private functions found in this class to do the following: 1. identify
+     * the best available list within the overall JSON file to use 2. for the
+     * identified list, recursively build up a list of candidate columns 3.
+     * return a cursor that loops through each list entry and extracts its
+     * values into a row.
      *
      * Key Considerations: Refer to the following sample JSON example to
      * demonstrate key processing considerations.
@@ -367,15 +367,17 @@ public class JSONImportFileParser extends ImportFileParser {
      * -32.2809 - address.longitude              <null> 149.13 As can be seen above, if a
      * filed doesn't exist in a particular row it is nulled. This handles the
      * case with individual rows have incomplete or differing fields.
+     * <p>
+     * Rows are only built from the list as they are read from the returned
+     * cursor so that the whole table never needs to be held in memory on top
+     * of the JSON tree itself.
      *
      * @param input Input file
-     * @param limit How many rows to return
-     * @return a List of String arrays, each of which represents a row in the
-     * resulting table.
+     * @return a cursor over the rows of the resulting table, starting with the
+     * heading row.
      */
-    private List<String[]> getResults(final InputSource input, final int limit) throws IOException {
+    private ImportRowCursor getCursor(final InputSource input) throws IOException {
         try {
-            final ArrayList<String[]> results = new ArrayList<>();
             ObjectMapper mapper = new ObjectMapper();
             InputStream in = input.getInputStream();
 
@@ -411,39 +413,48 @@ public class JSONImportFileParser extends ImportFileParser {
             }
             lookForChildArrays(root, "", 0);
 
-            if (selectedList != null) {
-
-                // A valid list is found, extract its fully qualified column
-                // names and store them in a dictionary mapping them to column
-                // number.
-                ArrayList<String> columns = extractAllColNames(selectedList, null, "");
-                final MutableObjectIntMap<String> columnMap = new ObjectIntHashMap<>();
-                columns.forEach(column -> columnMap.put(column, columnMap.size()));
-
-                // Add a heading row to the return data
-                String[] headings = new String[columns.size()];
-                headings = columns.toArray(headings);
-                results.add(headings);
+            if (selectedList == null) {
+                throw new IOException(WARN_NO_VALID_LIST);
+            }
 
-                // Now process all records and add them to the return data based
-                // on column indexes
-                for (final JsonNode listNode : selectedList) {
-                    if (listNode.isObject() || listNode != selectedList.get(0)) {
+            // A valid list is found, extract its fully qualified column
+            // names and store them in a dictionary mapping them to column
+            // number.
+            ArrayList<String> columns = extractAllColNames(selectedList, null, "");
+            final MutableObjectIntMap<String> columnMap = new ObjectIntHashMap<>();
+            columns.forEach(column -> columnMap.put(column, columnMap.size()));
+
+            // The heading row is returned first, followed by all records
+            // based on column indexes
+            final String[] headings = columns.toArray(new String[columns.size()]);
+            final JsonNode list = selectedList;
+            final Iterator<JsonNode> listNodes = list.iterator();
+            return new ImportRowCursor() {
+                private boolean headingsRead = false;
+
+                @Override
+                public String[] next() {
+                    if (!headingsRead) {
+                        headingsRead = true;
+                        return headings;
+                    }
+                    while (listNodes.hasNext()) {
+                        final JsonNode listNode = listNodes.next();
 
                         // If we are dealing with a list of lists, the first row is used
                         // as column headings, so skip over it.
-                        final String[] line = getLineContent(listNode, columnMap, "", null);
-                        results.add(line);
-
-                        if (results.size() > limit && limit > 0) {
-                            break;
+                        if (listNode.isObject() || listNode != list.get(0)) {
+                            return getLineContent(listNode, columnMap, "", null);
                         }
                     }
+                    return null;
                 }
-            } else {
-                throw new IOException(WARN_NO_VALID_LIST);
-            }
-            return results;
+
+                @Override
+                public void close() {
+                    // Nothing to close as the JSON tree has already been read
+                }
+            };
         } catch (final JsonParseException ex) {
             // Catch case whre invalid JSON file has been supplied gracefully
             throw new IOException(WARN_INVALID_JSON);
@@ -454,6 +465,31 @@ public class JSONImportFileParser extends ImportFileParser {
         }
     }
 
+    /**
+     * Reads rows from the cursor returned by {@link #getCursor(InputSource)}.
+     * This function is called by both the overloaded base class functions
+     * parse and preview to avoid code duplication.
+     *
+     * @param input Input file
+     * @param limit How many rows to return
+     * @return a List of String arrays, each of which represents a row in the
+     * resulting table.
+     */
+    private List<String[]> getResults(final InputSource input, final int limit) throws IOException {
+        final ArrayList<String[]> results = new ArrayList<>();
+        try (final ImportRowCursor cursor = getCursor(input)) {
+            String[] line = cursor.next();
+            while (line != null) {
+                results.add(line);
+                if (results.size() > limit && limit > 0) {
+                    break;
+                }
+                line = cursor.next();
+            }
+        }
+        return results;
+    }
+
     /**
      * Reads the entire file and returns a List of String arrays, each of which
      * represents a row in the resulting table.
@@ -485,6 +521,11 @@ public class JSONImportFileParser extends ImportFileParser {
         return getResults(input, limit);
     }
 
+    @Override
+    public ImportRowCursor open(final InputSource input, final PluginParameters parameters) throws IOException {
+        return getCursor(input);
+    }
+
     /**
      * Returns the file filter to use when browsing for files of this type.
      *
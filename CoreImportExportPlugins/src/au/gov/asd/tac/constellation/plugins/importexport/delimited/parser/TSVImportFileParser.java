@@ -78,6 +78,23 @@ public class TSVImportFileParser extends ImportFileParser {
         return result;
     }
 
+    @Override
+    public ImportRowCursor open(final InputSource input, final PluginParameters parameters) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(input.getInputStream(), StandardCharsets.UTF_8.name()));
+        return new ImportRowCursor() {
+            @Override
+            public String[] next() throws IOException {
+                final String line = reader.readLine();
+                return line != null ? line.split(SeparatorConstants.TAB, -1) : null;
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
     /**
      * Returns the file filter to use when browsing for files of this type.
      *
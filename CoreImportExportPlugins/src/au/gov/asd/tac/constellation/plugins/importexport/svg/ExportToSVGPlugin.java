@@ -15,7 +15,6 @@
  */
 package au.gov.asd.tac.constellation.plugins.importexport.svg;
 
-import au.gov.asd.tac.constellation.utilities.svg.SVGData;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginException;
@@ -43,6 +42,7 @@ import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
 import au.gov.asd.tac.constellation.utilities.file.FileExtensionConstants;
 import au.gov.asd.tac.constellation.utilities.visual.AxisConstants;
 import au.gov.asd.tac.constellation.utilities.visual.DrawFlags;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -82,6 +82,11 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
     public static final String SHOW_CONNECTION_LABELS_PARAMETER_ID = PluginParameter.buildId(ExportToSVGPlugin.class, "show_transaction_labels");
     public static final String SHOW_BLAZES_PARAMETER_ID = PluginParameter.buildId(ExportToSVGPlugin.class, "show_blazes");
     public static final String EXPORT_PERSPECTIVE_PARAMETER_ID = PluginParameter.buildId(ExportToSVGPlugin.class, "export_perspective");
+    public static final String REDUCE_DETAIL_PARAMETER_ID = PluginParameter.buildId(ExportToSVGPlugin.class, "reduce_detail");
+    
+    // Level of detail thresholds in screen units, applied when reduced detail is requested
+    private static final float REDUCED_DETAIL_MINIMUM_LABEL_SIZE = 4F;
+    private static final float REDUCED_DETAIL_MINIMUM_LINK_LENGTH = 16F;
 
     private static final Logger LOGGER = Logger.getLogger(ExportToSVGPlugin.class.getName());
 
@@ -161,6 +166,11 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
         showBlazesParam.setDescription("Include blazes in the export");
         parameters.addParameter(showBlazesParam);
 
+        final PluginParameter<BooleanParameterValue> reduceDetailParam = BooleanParameterType.build(REDUCE_DETAIL_PARAMETER_ID);
+        reduceDetailParam.setName("Reduce Detail");
+        reduceDetailParam.setDescription("Leave out labels too small to read and draw a single connection between nodes that are close together");
+        parameters.addParameter(reduceDetailParam);
+
         final PluginParameter<SingleChoiceParameterValue> exportPerspectiveParam = SingleChoiceParameterType.build(EXPORT_PERSPECTIVE_PARAMETER_ID);
         exportPerspectiveParam.setName("Export Perspective");
         exportPerspectiveParam.setDescription("The perspective the exported graph will be viewed from");
@@ -190,6 +200,7 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
         final boolean showConnectionLabels = parameters.getBooleanValue(SHOW_CONNECTION_LABELS_PARAMETER_ID);
         final boolean showBlazes = parameters.getBooleanValue(SHOW_BLAZES_PARAMETER_ID);
         final String exportPerspective = parameters.getStringValue(EXPORT_PERSPECTIVE_PARAMETER_ID);
+        final boolean reduceDetail = parameters.getBooleanValue(REDUCE_DETAIL_PARAMETER_ID);
 
         if (StringUtils.isBlank(fnam)) {
             throw new PluginException(PluginNotificationLevel.ERROR, "File location has not been specified.");
@@ -227,8 +238,8 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
         }
 
         try {
-            // Build a SVG representation of the graph
-            final SVGData svg = new SVGGraphBuilder()
+            // Build a SVG representation of the graph and stream it to the file
+            final SVGGraphBuilder builder = new SVGGraphBuilder()
                     .withInteraction(interaction)
                     .withTitle(title)
                     .withReadableGraph(graph)
@@ -237,10 +248,12 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
                     .withDrawFlags(new DrawFlags(showNodes, showConnections, showNodeLabels, showConnectionLabels, showBlazes))
                     .fromPerspective(AxisConstants.getReference(exportPerspective))
                     .withAssetDirectory(assetDirectory)
-                    .withCores(cores)
-                    .build();
+                    .withCores(cores);
+            if (reduceDetail) {
+                builder.withDetailThresholds(REDUCED_DETAIL_MINIMUM_LABEL_SIZE, REDUCED_DETAIL_MINIMUM_LINK_LENGTH);
+            }
 
-            exportToSVG(exportedGraph, svg, interaction);
+            exportToSVG(exportedGraph, builder, interaction);
             interaction.setProgress(1, 0, "Finished", true);
 
             // Catch exceptions for mising paramter values and issues writing to files
@@ -250,23 +263,16 @@ public class ExportToSVGPlugin extends SimpleReadPlugin {
     }
 
     /**
-     * Exports a single SVGData object to a specified file.
+     * Streams the SVG built by a {@link SVGGraphBuilder} to a specified file.
      *
      * @param file
-     * @param data
+     * @param builder
      * @throws IOException
      */
-    private void exportToSVG(final File file, final SVGData data, final PluginInteraction interaction) throws IOException, InterruptedException {
+    private void exportToSVG(final File file, final SVGGraphBuilder builder, final PluginInteraction interaction) throws IOException, InterruptedException {
         final boolean fileOverwritten = file.createNewFile();
-        try (final FileWriter writer = new FileWriter(file)) {
-            final List<String> lines = data.toLines();
-            final int totalLines = lines.size();
-            interaction.setExecutionStage(0, totalLines, "Exporting Graph", "Writing data to file", true);
-            for (int i = 0; i < totalLines; i++) {
-                writer.write(lines.get(i));
-                interaction.setProgress(i, totalLines, true);
-            }
-            writer.flush();
+        try (final BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            builder.buildTo(writer);
             if (fileOverwritten) {
                 interaction.setProgress(0, -1, String.format("File %s has been overwritten", file.getName()), false);
             } else {
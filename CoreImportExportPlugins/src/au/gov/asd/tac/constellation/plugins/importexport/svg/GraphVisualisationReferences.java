@@ -47,6 +47,8 @@ public class GraphVisualisationReferences {
     private final DrawFlags drawFlags;
     public final boolean selectedElementsOnly;
     public final File directory;
+    private float minimumLabelSize = 0;
+    private float minimumLinkLength = 0;
     
     /**
      * Creates a local copy of all parameters
@@ -104,6 +106,45 @@ public class GraphVisualisationReferences {
         access.endUpdate();
     }
     
+    /**
+     * Sets the level of detail thresholds used to reduce the size of the export.
+     * Labels smaller than the minimum label size are not exported, 
+     * and links shorter than the minimum link length are exported as a single connection without labels.
+     * A threshold of zero exports every element in full detail.
+     * @param minimumLabelSize the minimum font size of an exported label, in screen units.
+     * @param minimumLinkLength the minimum distance between vertex centers for a link to be exported in full detail, in screen units.
+     */
+    public void setDetailThresholds(final float minimumLabelSize, final float minimumLinkLength) {
+        this.minimumLabelSize = minimumLabelSize;
+        this.minimumLinkLength = minimumLinkLength;
+    }
+    
+    /**
+     * Determines if a label of the given size is large enough to be exported.
+     * @param screenSize the font size of the label in screen units.
+     * @return 
+     */
+    public boolean isLabelReadable(final float screenSize) {
+        return minimumLabelSize <= 0 || screenSize >= minimumLabelSize;
+    }
+    
+    /**
+     * Determines if all connections and labels of a link should be exported.
+     * Links between vertices that are close together on screen can not be told apart, 
+     * so only one of their connections needs to be exported.
+     * @param highIndex
+     * @param lowIndex
+     * @return 
+     */
+    public boolean isLinkDetailed(final int highIndex, final int lowIndex) {
+        if (minimumLinkLength <= 0) {
+            return true;
+        }
+        final Vector4f highPosition = getVertexPosition(highIndex);
+        final Vector4f lowPosition = getVertexPosition(lowIndex);
+        return Math.hypot(highPosition.getX() - lowPosition.getX(), highPosition.getY() - lowPosition.getY()) >= minimumLinkLength;
+    }
+    
     // <editor-fold defaultstate="collapsed" desc="Vertex Access Functions">         
     /**
      * Gets the normalized position of the vertex.
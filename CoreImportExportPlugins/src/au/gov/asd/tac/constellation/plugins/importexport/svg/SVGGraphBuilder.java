@@ -33,6 +33,8 @@ import au.gov.asd.tac.constellation.plugins.importexport.svg.resources.SVGObject
 import au.gov.asd.tac.constellation.plugins.importexport.svg.resources.SVGTemplateConstants;
 import au.gov.asd.tac.constellation.plugins.importexport.svg.tasks.GenerateSVGBlazesTask;
 import au.gov.asd.tac.constellation.plugins.importexport.svg.tasks.GenerateSVGConnectionsTask;
+import au.gov.asd.tac.constellation.plugins.importexport.svg.tasks.GenerateSVGFragmentsTask;
+import au.gov.asd.tac.constellation.plugins.importexport.svg.tasks.SVGFragmentQueue;
 import au.gov.asd.tac.constellation.plugins.MultiTaskInteraction;
 import au.gov.asd.tac.constellation.utilities.camera.BoundingBox;
 import au.gov.asd.tac.constellation.utilities.camera.Camera;
@@ -44,16 +46,23 @@ import au.gov.asd.tac.constellation.utilities.graphics.Frustum;
 import au.gov.asd.tac.constellation.utilities.graphics.Matrix44f;
 import au.gov.asd.tac.constellation.utilities.graphics.Vector3f;
 import au.gov.asd.tac.constellation.utilities.svg.SVGTypeConstants;
+import au.gov.asd.tac.constellation.utilities.text.SeparatorConstants;
 import au.gov.asd.tac.constellation.utilities.text.StringUtilities;
 import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import au.gov.asd.tac.constellation.utilities.visual.AxisConstants;
 import au.gov.asd.tac.constellation.utilities.visual.DrawFlags;
 import au.gov.asd.tac.constellation.utilities.visual.VisualManager;
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -70,6 +79,10 @@ public class SVGGraphBuilder {
     
     private static final String BUILDING_REPORT_MESSAGE = "Building Graph";
     
+    // The number of elements built into each streamed fragment, and the number of fragments that each core may build ahead of the writer
+    private static final int FRAGMENT_SIZE = 256;
+    private static final int FRAGMENTS_PER_CORE = 2;
+    
     // Variables specified when the Builder class is instantiated
     private final Matrix44f modelViewProjectionMatrix = new Matrix44f();
     private final VisualManager visualManager;
@@ -79,6 +92,9 @@ public class SVGGraphBuilder {
     private DrawFlags drawFlags = new DrawFlags(true, true, true, true, true);
     private boolean selectedElementsOnly = false;
     private ConstellationColor backgroundColor = VisualGraphDefaults.DEFAULT_BACKGROUND_COLOR;
+    private int cores = 1;
+    private float minimumLabelSize = 0;
+    private float minimumLinkLength = 0;
         
     // Variables without default values, customisable by the builder pattern 
     private GraphReadMethods readableGraph = null;
@@ -125,10 +141,27 @@ public class SVGGraphBuilder {
      * @return 
      */
     public SVGGraphBuilder withCores(final int cores) {
+        this.cores = cores;
         threadPool = ConstellationGlobalThreadPool.getThreadPool().getFixedThreadPool("SVG Export", cores);
         return this;
     }
     
+    /**
+     * Specifies the level of detail thresholds used to reduce the size of the export.
+     * Labels with a font size smaller than the minimum label size are not exported.
+     * Links with vertices closer together than the minimum link length are exported as a single connection without labels.
+     * Both thresholds are in screen units and default to zero, which exports every element in full detail.
+     * 
+     * @param minimumLabelSize
+     * @param minimumLinkLength
+     * @return 
+     */
+    public SVGGraphBuilder withDetailThresholds(final float minimumLabelSize, final float minimumLinkLength) {
+        this.minimumLabelSize = minimumLabelSize;
+        this.minimumLinkLength = minimumLinkLength;
+        return this;
+    }
+    
     /**
      * Specifies the {@link GraphReadMethods} representing the current active graph.
      * @param graph used to define the bounding box of the graph
@@ -228,6 +261,71 @@ public class SVGGraphBuilder {
         return svgGraph.toSVGData();
     }       
 
+    /**
+     * Builds the SVG representing the provided graph and streams it to a writer.
+     * Unlike {@link #build()}, the full SVG is never held in memory. 
+     * Elements outside of the view port are culled before any SVG is generated,
+     * the remaining elements are built into fragments by concurrent tasks
+     * and the fragments are written in drawing order as they are completed.
+     * @param writer the writer to stream the SVG to.
+     * @throws InterruptedException
+     * @throws IOException if the SVG could not be written or an element could not be built.
+     */
+    public void buildTo(final Writer writer) throws InterruptedException, IOException {
+        final SVGObject svgGraph = SVGTemplateConstants.LAYOUT.getSVGObject();
+        SVGFragmentQueue queue = null;
+        try {
+            preBuild();
+            buildLayout(svgGraph);
+
+            interaction.setExecutionStage(0, -1, BUILDING_REPORT_MESSAGE, "Culling Elements", true);
+            queue = new SVGFragmentQueue(cullElements(), FRAGMENT_SIZE, cores * FRAGMENTS_PER_CORE);
+
+            // Start the tasks that build the fragments. Each task has its own references as they are not thread safe.
+            final String contentPrefix = SeparatorConstants.TAB + SeparatorConstants.TAB;
+            final Map<String, SVGObject> colorFilters = new ConcurrentHashMap<>();
+            for (int i = 0; i < cores; i++) {
+                final GraphVisualisationReferences graph = createReferences();
+                CompletableFuture.runAsync(new GenerateSVGFragmentsTask(graph, queue, colorFilters, contentPrefix), threadPool);
+            }
+
+            final SVGData svgRoot = svgGraph.toSVGData();
+            final SVGData svgContent = SVGObjectConstants.CONTENT.findIn(svgGraph).toSVGData();
+            final SVGObject svgDefinitions = SVGObjectConstants.DEFINITIONS.findIn(svgGraph);
+            svgRoot.cleanAttributes();
+            svgRoot.writeHeader(writer, null);
+            for (final SVGData child : svgRoot.getAllChildren()) {
+                if (child == svgContent) {
+                    svgContent.writeHeader(writer, SeparatorConstants.TAB);
+                    final int chunkCount = queue.getChunkCount();
+                    interaction.setExecutionStage(0, chunkCount, "Exporting Graph", "Writing data to file", true);
+                    for (int chunk = 0; chunk < chunkCount; chunk++) {
+                        writer.write(queue.take(chunk));
+                        interaction.setProgress(chunk + 1, chunkCount, true);
+                    }
+                    svgContent.writeFooter(writer, SeparatorConstants.TAB);
+
+                    // Color filters are only known once every node has been built, so definitions are written after the content.
+                    svgDefinitions.setChildren(new ArrayList<>(colorFilters.values()));
+                    svgDefinitions.toSVGData().cleanAttributes();
+                    svgDefinitions.toSVGData().write(writer, SeparatorConstants.TAB);
+                } else if (child != svgDefinitions.toSVGData()) {
+                    child.write(writer, SeparatorConstants.TAB);
+                }
+            }
+            svgRoot.writeFooter(writer, null);
+            writer.flush();
+        } catch (final ExecutionException ex) {
+            throw new IOException("Unable to build SVG element", ex.getCause());
+        } finally {
+            // Release any tasks still waiting to build fragments before the thread pool is closed
+            if (queue != null) {
+                queue.cancel();
+            }
+            postBuild();
+        }
+    }
+
     /**
      * Sets up the Builder control attributes and reference utilities. 
      */
@@ -293,6 +391,78 @@ public class SVGGraphBuilder {
         viewPort = new int[] {Math.round(transformedCameraEye.getX()), Math.round(transformedCameraEye.getY()), paneWidth, paneHeight};
     }
     
+    /**
+     * Creates references to the graph for use by a single task.
+     * @return 
+     */
+    private GraphVisualisationReferences createReferences() {
+        final GraphVisualisationReferences graph = new GraphVisualisationReferences(viewFrustum, modelViewProjectionMatrix, viewPort, camera, drawFlags, selectedElementsOnly, assetDirectoty);
+        graph.setDetailThresholds(minimumLabelSize, minimumLinkLength);
+        return graph;
+    }
+    
+    /**
+     * Determines which elements of the graph may be visible in the export and the order they are drawn in.
+     * Nodes and blazes are culled with the same test used to build them.
+     * Links are culled with a sphere that contains all of their connections, 
+     * so that only links which could pass through the view frustum are built.
+     * @return the encoded elements, sorted from the furthest from the camera to the closest.
+     */
+    private long[] cullElements() {
+        final GraphVisualisationReferences graph = createReferences();
+        graph.initialise();
+        try {
+            final int vertexCount = access.getVertexCount();
+            final int linkCount = drawFlags.drawConnections() ? access.getLinkCount() : 0;
+            final long[] elements = new long[(drawFlags.drawNodes() ? vertexCount : 0) + (drawFlags.drawBlazes() ? vertexCount : 0) + linkCount];
+            int candidates = linkCount;
+            int count = 0;
+
+            for (int vertexIndex = 0; vertexIndex < vertexCount; vertexIndex++) {
+                final boolean drawNode = drawFlags.drawNodes();
+                final boolean drawBlaze = drawFlags.drawBlazes() && graph.isBlazed(vertexIndex);
+                if (!drawNode && !drawBlaze) {
+                    continue;
+                }
+                candidates += (drawNode ? 1 : 0) + (drawBlaze ? 1 : 0);
+                if (graph.inView(vertexIndex) && (!selectedElementsOnly || graph.isVertexSelected(vertexIndex)) && graph.getVertexVisibility(vertexIndex) > 0) {
+                    if (drawNode) {
+                        elements[count++] = SVGFragmentQueue.encode(graph.getVertexPosition(vertexIndex).getW(), vertexIndex, SVGFragmentQueue.NODE);
+                    }
+                    // Blazes have a fixed sort order so that they are drawn over all other elements
+                    if (drawBlaze) {
+                        elements[count++] = SVGFragmentQueue.encode(0, vertexIndex, SVGFragmentQueue.BLAZE);
+                    }
+                }
+            }
+
+            for (int linkIndex = 0; linkIndex < linkCount; linkIndex++) {
+                final int highIndex = graph.getLinkHighVertex(linkIndex);
+                final int lowIndex = graph.getLinkLowVertex(linkIndex);
+                final Vector3f highPosition = graph.getVertexWorldPosition(highIndex);
+                final Vector3f lowPosition = graph.getVertexWorldPosition(lowIndex);
+                
+                // The bounding sphere covers the vertices, loops and the spread of parallel connections
+                final Vector3f center = Vector3f.add(highPosition, lowPosition);
+                center.scale(0.5F);
+                final float radius = Vector3f.subtract(highPosition, lowPosition).getLength() / 2
+                        + Math.max(graph.getRadius(highIndex), graph.getRadius(lowIndex)) * 2 
+                        + 0.15F * (graph.getLinkConnectionCount(linkIndex) / 2F + 1);
+                if (graph.inView(center, radius)) {
+                    final float depth = (graph.getScreenPosition(highPosition).getW() + graph.getScreenPosition(lowPosition).getW()) / 2F;
+                    elements[count++] = SVGFragmentQueue.encode(depth, linkIndex, SVGFragmentQueue.LINK);
+                }
+            }
+
+            final long[] culled = Arrays.copyOf(elements, count);
+            Arrays.parallelSort(culled);
+            interaction.setProgress(0, -1, String.format("Culled %s of %s elements", candidates - count, candidates), true);
+            return culled;
+        } finally {
+            graph.terminate();
+        }
+    }
+    
     /**
      * Tears down the Builder design pattern reference utilities. 
      */
@@ -330,7 +500,7 @@ public class SVGGraphBuilder {
 
             // Create a task for each set of inputLists with an unique list for their generated output
             for (final List<Integer> threadInput : threadInputLists) {
-                final GraphVisualisationReferences graph = new GraphVisualisationReferences(viewFrustum, modelViewProjectionMatrix, viewPort, camera, drawFlags, selectedElementsOnly, assetDirectoty);
+                final GraphVisualisationReferences graph = createReferences();
                 final List<SVGObject> output = new ArrayList<>();
                 final GenerateSVGNodesTask task = new GenerateSVGNodesTask(graph, threadInput, output);
                 mti.addTask(task);
@@ -388,6 +558,7 @@ public class SVGGraphBuilder {
         // Create a task for each set of inputLists with an unique list for their generated output
         for (final List<Integer> threadInput : threadInputLists) {
             final GraphVisualisationReferences giu = new GraphVisualisationReferences(viewFrustum, modelViewProjectionMatrix, viewPort, camera, drawFlags, selectedElementsOnly);
+            giu.setDetailThresholds(minimumLabelSize, minimumLinkLength);
             final List<SVGObject> output = new ArrayList<>();
             final GenerateSVGConnectionsTask task = new GenerateSVGConnectionsTask(giu, threadInput, output);
             mti.addTask(task);
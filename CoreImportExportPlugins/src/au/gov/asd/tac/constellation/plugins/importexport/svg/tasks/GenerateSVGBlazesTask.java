@@ -46,28 +46,22 @@ public class GenerateSVGBlazesTask implements SharedInteractionRunnable {
         this.totalSteps = vertexIndicies.size();
     }
 
+    /**
+     * Creates a task that builds blazes one at a time with {@link #buildBlaze(int)}.
+     * The caller is responsible for initialising and terminating the graph references.
+     * @param graph 
+     */
+    public GenerateSVGBlazesTask(final GraphVisualisationReferences graph) {
+        this(graph, new ArrayList<>(), new ArrayList<>());
+    }
+
     @Override
     public void run() {
         try {
             graph.initialise();
             vertexIndicies.forEach(vertexIndex -> {
-                if (graph.inView(vertexIndex) && graph.isBlazed(vertexIndex)&& (!graph.selectedElementsOnly || graph.isVertexSelected(vertexIndex)) && graph.getVertexVisibility(vertexIndex) > 0) {
-
-                    // Get relevant variables
-                    final int blazeAngle = graph.getBlazeAngle(vertexIndex);
-                    final float blazeSize = graph.getBlazeSize();
-                    final float blazeWidth = 512 * blazeSize;
-                    final float blazeHeight = 128 * blazeSize;
-                    final Vector4f edgePosition = graph.offsetPosition(graph.getVertexPosition(vertexIndex), graph.getVertexScaledRadius(vertexIndex), Math.toRadians(blazeAngle + 90D));
-
-                    // Build the blaze
-                    final SVGObject svgBlaze = SVGTemplateConstants.BLAZE.getSVGObject();
-                    svgBlaze.setID(String.format("blaze-%s", vertexIndex));
-                    svgBlaze.setSortOrderValue(0);
-                    svgBlaze.setFillColor(graph.getBlazeColor(vertexIndex));
-                    svgBlaze.setOpacity(graph.getBlazeOpacity());svgBlaze.setDimension(blazeWidth, blazeHeight);
-                    svgBlaze.setPosition(edgePosition.getX() , edgePosition.getY() - blazeHeight / 2);
-                    SVGObjectConstants.INDICATOR.findIn(svgBlaze).setTransformation(String.format("rotate(%s %s %s)", blazeAngle - 90, 0, 16));
+                final SVGObject svgBlaze = buildBlaze(vertexIndex);
+                if (svgBlaze != null) {
                     output.add(svgBlaze);
                 }
                 currentStep++;
@@ -78,6 +72,35 @@ public class GenerateSVGBlazesTask implements SharedInteractionRunnable {
         }
     }
 
+    /**
+     * Builds the SVG representation of the blaze of a single vertex.
+     * The graph references must be initialised before this method is called.
+     * @param vertexIndex
+     * @return the SVGObject representing the blaze, or null if the vertex has no exported blaze.
+     */
+    public SVGObject buildBlaze(final int vertexIndex) {
+        if (!graph.inView(vertexIndex) || !graph.isBlazed(vertexIndex) || (graph.selectedElementsOnly && !graph.isVertexSelected(vertexIndex)) || graph.getVertexVisibility(vertexIndex) <= 0) {
+            return null;
+        }
+
+        // Get relevant variables
+        final int blazeAngle = graph.getBlazeAngle(vertexIndex);
+        final float blazeSize = graph.getBlazeSize();
+        final float blazeWidth = 512 * blazeSize;
+        final float blazeHeight = 128 * blazeSize;
+        final Vector4f edgePosition = graph.offsetPosition(graph.getVertexPosition(vertexIndex), graph.getVertexScaledRadius(vertexIndex), Math.toRadians(blazeAngle + 90D));
+
+        // Build the blaze
+        final SVGObject svgBlaze = SVGTemplateConstants.BLAZE.getSVGObject();
+        svgBlaze.setID(String.format("blaze-%s", vertexIndex));
+        svgBlaze.setSortOrderValue(0);
+        svgBlaze.setFillColor(graph.getBlazeColor(vertexIndex));
+        svgBlaze.setOpacity(graph.getBlazeOpacity());svgBlaze.setDimension(blazeWidth, blazeHeight);
+        svgBlaze.setPosition(edgePosition.getX() , edgePosition.getY() - blazeHeight / 2);
+        SVGObjectConstants.INDICATOR.findIn(svgBlaze).setTransformation(String.format("rotate(%s %s %s)", blazeAngle - 90, 0, 16));
+        return svgBlaze;
+    }
+
     @Override
     public int getTotalSteps() {
         return totalSteps;
@@ -55,198 +55,230 @@ public class GenerateSVGConnectionsTask implements Runnable, SharedInteractionRu
         this.totalSteps = linkIndicies.size();
     }
 
+    /**
+     * Creates a task that builds links one at a time with {@link #buildLink(int)}.
+     * The caller is responsible for initialising and terminating the graph references.
+     * @param graph 
+     */
+    public GenerateSVGConnectionsTask(final GraphVisualisationReferences graph) {
+        this(graph, new ArrayList<>(), new ArrayList<>());
+    }
+
     @Override
     public void run() {
         try {
             graph.initialise();
             connectionIndicies.forEach(linkIndex -> {
-                // Create a SVGObject to represent the current link
-                final SVGObject svgLink = SVGTemplateConstants.LINK.getSVGObject();
-                svgLink.setID(String.format("link-%s", linkIndex));
-
-                // Get source and destination vertex references for the current link
-                final int highIndex = graph.getLinkHighVertex(linkIndex);
-                final int lowIndex = graph.getLinkLowVertex(linkIndex);
-
-                // Determine the world references for the center of the vertices
-                final Vector3f highCenterPosition = graph.getVertexWorldPosition(highIndex);
-                final Vector3f lowCenterPosition = graph.getVertexWorldPosition(lowIndex);     
-
-                // Build all of the connections in the current link 
-                final SVGObject svgConnections = SVGObjectConstants.CONNECTIONS.findIn(svgLink);
-                final SVGObject svgLabels = SVGObjectConstants.LABELS.findIn(svgLink);
-                for (int connectionIndex = 0; connectionIndex < graph.getLinkConnectionCount(linkIndex); connectionIndex++) {
-
-                    // Get the reference to the current connection
-                    final int connection = graph.getLinkConnection(linkIndex, connectionIndex);
-
-                    // Do not export the conection if only selected element are being exported and the connection is not selected
-                    // Do not export the connection if it is invisable 
-                    if((graph.selectedElementsOnly && !graph.isConnectionSelected(connection)) || graph.getConnectionVisibility(connection) == 0) {
-                        continue;
-                    }
+                final SVGObject svgLink = buildLink(linkIndex);
+                if (svgLink != null) {
+                    output.add(svgLink);
+                }
+                currentStep++;                
+            });
+        } finally {
+            graph.terminate();
+            complete = true;
+        }
+    }
+
+    /**
+     * Builds the SVG representation of a single link and all of its connections.
+     * The graph references must be initialised before this method is called.
+     * @param linkIndex
+     * @return the SVGObject representing the link, or null if none of its connections are exported.
+     */
+    public SVGObject buildLink(final int linkIndex) {
+        // Create a SVGObject to represent the current link
+        final SVGObject svgLink = SVGTemplateConstants.LINK.getSVGObject();
+        svgLink.setID(String.format("link-%s", linkIndex));
+
+        // Get source and destination vertex references for the current link
+        final int highIndex = graph.getLinkHighVertex(linkIndex);
+        final int lowIndex = graph.getLinkLowVertex(linkIndex);
+
+        // Determine the world references for the center of the vertices
+        final Vector3f highCenterPosition = graph.getVertexWorldPosition(highIndex);
+        final Vector3f lowCenterPosition = graph.getVertexWorldPosition(lowIndex);     
+
+        // Set the sort order as an average of the distance of the source and destination vertex distance from the camera.
+        // This is the same depth that SVGGraphBuilder uses to order links when streaming.
+        svgLink.setSortOrderValue((graph.getScreenPosition(highCenterPosition).getW() + graph.getScreenPosition(lowCenterPosition).getW()) / 2F);
+
+        // Build all of the connections in the current link 
+        final SVGObject svgConnections = SVGObjectConstants.CONNECTIONS.findIn(svgLink);
+        final SVGObject svgLabels = SVGObjectConstants.LABELS.findIn(svgLink);
+        
+        // Links that are too short on screen to be distinguished are reduced to a single connection without labels
+        final boolean detailed = graph.isLinkDetailed(highIndex, lowIndex);
+        for (int connectionIndex = 0; connectionIndex < graph.getLinkConnectionCount(linkIndex); connectionIndex++) {
 
-                    // Build Looped Connection
-                    if (highIndex == lowIndex) {
+            // Get the reference to the current connection
+            final int connection = graph.getLinkConnection(linkIndex, connectionIndex);
 
-                        // Get the unit vectors for translation fom the node center to the nodes north west corner
-                        final Vector3f upTranslation = graph.getUpVector();
-                        final Vector3f rightTranslation = graph.getRightVector();
+            // Do not export the conection if only selected element are being exported and the connection is not selected
+            // Do not export the connection if it is invisable 
+            if((graph.selectedElementsOnly && !graph.isConnectionSelected(connection)) || graph.getConnectionVisibility(connection) == 0) {
+                continue;
+            }
 
-                        // Scale the translation to the radius length          
-                        upTranslation.scale(graph.getRadius(highIndex));
-                        rightTranslation.scale(graph.getRadius(highIndex));
+            // Build Looped Connection
+            if (highIndex == lowIndex) {
 
-                        // Apply the tranlsation
-                        final Vector3f loopWorldCenterPosition = Vector3f.add(highCenterPosition, upTranslation, rightTranslation);
+                // Get the unit vectors for translation fom the node center to the nodes north west corner
+                final Vector3f upTranslation = graph.getUpVector();
+                final Vector3f rightTranslation = graph.getRightVector();
 
-                        // Do not export the loop if it is not in view
-                        if (!graph.inView(loopWorldCenterPosition, 0.25F)){
-                            continue;
-                        }
+                // Scale the translation to the radius length          
+                upTranslation.scale(graph.getRadius(highIndex));
+                rightTranslation.scale(graph.getRadius(highIndex));
 
-                        final Vector4f loopScreenCenterPosition = graph.getScreenPosition(loopWorldCenterPosition);
-                        final float loopSize = graph.getDepthScaleFactor(loopWorldCenterPosition) * 128;
-
-                        // Create the loopedConnection
-                        final SVGObject svgLoop = SVGTemplateConstants.CONNECTION_LOOP.getSVGObject();
-                        svgLoop.setID(graph.getConnectionId(connection));
-                        svgLoop.setDimension(loopSize, loopSize);
-                        svgLoop.setPosition(loopScreenCenterPosition.getX() - (loopSize/2) , loopScreenCenterPosition.getY() - (loopSize/2));
-                        svgLoop.setParent(svgConnections);
-                        svgLink.setSortOrderValue(loopScreenCenterPosition.getW());
-
-                        // Generate the SVG Loop Image
-                        final ConnectionDirection direction = graph.getConnectionDirection(connection);
-                        final SVGData svgloopImage = switch (direction) {
-                            case LOW_TO_HIGH, HIGH_TO_LOW -> DefaultIconProvider.LOOP_DIRECTED.buildSVG(graph.getConnectionColor(connection).getJavaColor());
-                            default -> DefaultIconProvider.LOOP_UNDIRECTED.buildSVG(graph.getConnectionColor(connection).getJavaColor());
-                        };
-                        svgloopImage.setParent(svgLoop);
-
-                        //Loop labels have not been implementd
-                        SVGObjectConstants.LABELS.removeFrom(svgLink);
-
-                    // Build Linear Connection
-                    } else {
-                        // Get references to SVG Objects being built
-                        final SVGObject svgConnection = SVGTemplateConstants.CONNECTION_LINEAR.getSVGObject();
-                        final SVGObject svgArrowShaft = SVGObjectConstants.ARROW_SHAFT.findIn(svgConnection);
-                        final SVGObject svgArrowHeadHigh = SVGTemplateConstants.ARROW_HEAD.getSVGObject();
-                        final SVGObject svgArrowHeadLow = SVGTemplateConstants.ARROW_HEAD.getSVGObject();         
-
-                        // Determine the direction vectors of the link from the perspective of each vertex
-                        final Vector3f lowDirectionVector = Vector3f.subtract(highCenterPosition, lowCenterPosition);
-                        final Vector3f highDirectionVector = Vector3f.subtract(lowCenterPosition, highCenterPosition);
-
-                        // Get the coordinates of the points where the connection intersects the node circumferences
-                        final Vector3f highCircumferencePosition = graph.offsetPosition(highCenterPosition, graph.getRadius(highIndex), highDirectionVector);
-                        final Vector3f lowCircumferencePosition = graph.offsetPosition(lowCenterPosition, graph.getRadius(lowIndex), lowDirectionVector);
-
-                        // Get the direction vector of the line parallell to the viewing plane and perpendicular to the connection
-                        final Vector3f vertexTagentDirection = new Vector3f();
-                        vertexTagentDirection.crossProduct(graph.getForwardVector(), highDirectionVector);
-
-                        // Determine the perpendicular offset distance of the current connection from the center line joing the source and destination node
-                        final float perpendicularOffsetDistance = (connectionIndex / 2F + ((connectionIndex % 2 == 0) ? 0 : 1)) * 0.15F;
-
-                        // Determine if this conection should be positioned above or below the center line joing the source and destination node
-                        final float perpendicularOffsetDirection = ((Double) Math.pow(-1, connectionIndex)).floatValue();
-
-                        // Determine the unique world corrdinates for end positions for the individual connection.
-                        final Vector3f highEndPoint = graph.offsetPosition(highCircumferencePosition, perpendicularOffsetDistance * perpendicularOffsetDirection, vertexTagentDirection);
-                        final Vector3f lowEndPoint = graph.offsetPosition(lowCircumferencePosition, perpendicularOffsetDistance * perpendicularOffsetDirection, vertexTagentDirection);
-
-                        // Get the world corrdinates of the points where the conection passes through the frustum
-                        final Vector3f lowFrustumEntryPoint = graph.getEntryPoint(lowEndPoint, highEndPoint);
-                        final Vector3f highFrustumEntryPoint = graph.getEntryPoint(highEndPoint, lowEndPoint);
-
-                        // The connection does not pass through the view frustum
-                        if (lowFrustumEntryPoint == null || highFrustumEntryPoint == null){
-                            continue;
-                        }   
-
-                        // Get the world coordinates of the point where the shaft will join the arrow head.
-                        final Vector3f highArowHeadConnectionPoint = graph.offsetPosition(highEndPoint, 0.65F, highDirectionVector);
-                        final Vector3f lowArowHeadConnectionPoint = graph.offsetPosition(lowEndPoint, 0.65F, lowDirectionVector);
-
-                        // Assign the positional values of shaft and arrow head/s based on the direction of the Transaction/Edge/Link
-                        final Vector3f highArrowShaftPosition = new Vector3f(highFrustumEntryPoint);
-                        final Vector3f lowArrowShaftPosition = new Vector3f(lowFrustumEntryPoint);
-                        final VisualAccess.ConnectionDirection direction = graph.getConnectionDirection(connection); 
-                        switch (direction) {
-                            case BIDIRECTED -> {
-                                // Generate new arrow base for diamond arrow heads
-                                final Vector3f highArrowHeadBasePoint = graph.offsetPosition(highEndPoint, 1.0F, highDirectionVector);
-                                final Vector3f lowArowHeadBasePoint = graph.offsetPosition(lowEndPoint, 1.0F, lowDirectionVector);
-
-                                // Only build the high arrow head if the high arrow head has not been cropped
-                                if (highFrustumEntryPoint.equals(highEndPoint)) {
-                                    buildArrowHead(svgArrowHeadHigh, highEndPoint, highArrowHeadBasePoint, highArowHeadConnectionPoint, vertexTagentDirection);
-                                    svgArrowHeadHigh.setParent(svgConnection);
-                                    highArrowShaftPosition.set(highArowHeadConnectionPoint);
-                                }
-
-                                // Only build the low arrow head if the low arrow head has not been cropped
-                                if (lowFrustumEntryPoint.equals(lowEndPoint)) {
-                                    buildArrowHead(svgArrowHeadLow, lowEndPoint, lowArowHeadBasePoint, lowArowHeadConnectionPoint, vertexTagentDirection);
-                                    svgArrowHeadLow.setParent(svgConnection);
-                                    lowArrowShaftPosition.set(lowArowHeadConnectionPoint);
-                                }
-                            }
-                            case LOW_TO_HIGH -> {
-                                // Only build the high arrow head if the high arrow head has not been cropped
-                                if (highFrustumEntryPoint.equals(highEndPoint)) {
-                                    buildArrowHead(svgArrowHeadHigh, highEndPoint, highArowHeadConnectionPoint, highArowHeadConnectionPoint, vertexTagentDirection);
-                                    svgArrowHeadHigh.setParent(svgConnection);
-                                    highArrowShaftPosition.set(highArowHeadConnectionPoint);
-                                }
-                                // The high arrow head is not in view
-                            }
-                            case HIGH_TO_LOW -> {
-                                // Only build the low arrow head if the high arrow head has not been cropped
-                                if (lowFrustumEntryPoint.equals(lowEndPoint)) {
-                                    buildArrowHead(svgArrowHeadLow, lowEndPoint, lowArowHeadConnectionPoint, lowArowHeadConnectionPoint, vertexTagentDirection);
-                                    svgArrowHeadLow.setParent(svgConnection);
-                                    lowArrowShaftPosition.set(lowArowHeadConnectionPoint);
-                                }
-                                // The low arrow head is not in view
-                            }
-                            default -> {
-                                //Do Nothing
-                            }
+                // Apply the tranlsation
+                final Vector3f loopWorldCenterPosition = Vector3f.add(highCenterPosition, upTranslation, rightTranslation);
+
+                // Do not export the loop if it is not in view
+                if (!graph.inView(loopWorldCenterPosition, 0.25F)){
+                    continue;
+                }
+
+                final Vector4f loopScreenCenterPosition = graph.getScreenPosition(loopWorldCenterPosition);
+                final float loopSize = graph.getDepthScaleFactor(loopWorldCenterPosition) * 128;
+
+                // Create the loopedConnection
+                final SVGObject svgLoop = SVGTemplateConstants.CONNECTION_LOOP.getSVGObject();
+                svgLoop.setID(graph.getConnectionId(connection));
+                svgLoop.setDimension(loopSize, loopSize);
+                svgLoop.setPosition(loopScreenCenterPosition.getX() - (loopSize/2) , loopScreenCenterPosition.getY() - (loopSize/2));
+                svgLoop.setParent(svgConnections);
+
+                // Generate the SVG Loop Image
+                final ConnectionDirection direction = graph.getConnectionDirection(connection);
+                final SVGData svgloopImage = switch (direction) {
+                    case LOW_TO_HIGH, HIGH_TO_LOW -> DefaultIconProvider.LOOP_DIRECTED.buildSVG(graph.getConnectionColor(connection).getJavaColor());
+                    default -> DefaultIconProvider.LOOP_UNDIRECTED.buildSVG(graph.getConnectionColor(connection).getJavaColor());
+                };
+                svgloopImage.setParent(svgLoop);
+
+                //Loop labels have not been implementd
+                SVGObjectConstants.LABELS.removeFrom(svgLink);
+
+            // Build Linear Connection
+            } else {
+                // Get references to SVG Objects being built
+                final SVGObject svgConnection = SVGTemplateConstants.CONNECTION_LINEAR.getSVGObject();
+                final SVGObject svgArrowShaft = SVGObjectConstants.ARROW_SHAFT.findIn(svgConnection);
+                final SVGObject svgArrowHeadHigh = SVGTemplateConstants.ARROW_HEAD.getSVGObject();
+                final SVGObject svgArrowHeadLow = SVGTemplateConstants.ARROW_HEAD.getSVGObject();         
+
+                // Determine the direction vectors of the link from the perspective of each vertex
+                final Vector3f lowDirectionVector = Vector3f.subtract(highCenterPosition, lowCenterPosition);
+                final Vector3f highDirectionVector = Vector3f.subtract(lowCenterPosition, highCenterPosition);
+
+                // Get the coordinates of the points where the connection intersects the node circumferences
+                final Vector3f highCircumferencePosition = graph.offsetPosition(highCenterPosition, graph.getRadius(highIndex), highDirectionVector);
+                final Vector3f lowCircumferencePosition = graph.offsetPosition(lowCenterPosition, graph.getRadius(lowIndex), lowDirectionVector);
+
+                // Get the direction vector of the line parallell to the viewing plane and perpendicular to the connection
+                final Vector3f vertexTagentDirection = new Vector3f();
+                vertexTagentDirection.crossProduct(graph.getForwardVector(), highDirectionVector);
+
+                // Determine the perpendicular offset distance of the current connection from the center line joing the source and destination node
+                final float perpendicularOffsetDistance = (connectionIndex / 2F + ((connectionIndex % 2 == 0) ? 0 : 1)) * 0.15F;
+
+                // Determine if this conection should be positioned above or below the center line joing the source and destination node
+                final float perpendicularOffsetDirection = ((Double) Math.pow(-1, connectionIndex)).floatValue();
+
+                // Determine the unique world corrdinates for end positions for the individual connection.
+                final Vector3f highEndPoint = graph.offsetPosition(highCircumferencePosition, perpendicularOffsetDistance * perpendicularOffsetDirection, vertexTagentDirection);
+                final Vector3f lowEndPoint = graph.offsetPosition(lowCircumferencePosition, perpendicularOffsetDistance * perpendicularOffsetDirection, vertexTagentDirection);
+
+                // Get the world corrdinates of the points where the conection passes through the frustum
+                final Vector3f lowFrustumEntryPoint = graph.getEntryPoint(lowEndPoint, highEndPoint);
+                final Vector3f highFrustumEntryPoint = graph.getEntryPoint(highEndPoint, lowEndPoint);
+
+                // The connection does not pass through the view frustum
+                if (lowFrustumEntryPoint == null || highFrustumEntryPoint == null){
+                    continue;
+                }   
+
+                // Get the world coordinates of the point where the shaft will join the arrow head.
+                final Vector3f highArowHeadConnectionPoint = graph.offsetPosition(highEndPoint, 0.65F, highDirectionVector);
+                final Vector3f lowArowHeadConnectionPoint = graph.offsetPosition(lowEndPoint, 0.65F, lowDirectionVector);
+
+                // Assign the positional values of shaft and arrow head/s based on the direction of the Transaction/Edge/Link
+                final Vector3f highArrowShaftPosition = new Vector3f(highFrustumEntryPoint);
+                final Vector3f lowArrowShaftPosition = new Vector3f(lowFrustumEntryPoint);
+                final VisualAccess.ConnectionDirection direction = graph.getConnectionDirection(connection); 
+                switch (direction) {
+                    case BIDIRECTED -> {
+                        // Generate new arrow base for diamond arrow heads
+                        final Vector3f highArrowHeadBasePoint = graph.offsetPosition(highEndPoint, 1.0F, highDirectionVector);
+                        final Vector3f lowArowHeadBasePoint = graph.offsetPosition(lowEndPoint, 1.0F, lowDirectionVector);
+
+                        // Only build the high arrow head if the high arrow head has not been cropped
+                        if (highFrustumEntryPoint.equals(highEndPoint)) {
+                            buildArrowHead(svgArrowHeadHigh, highEndPoint, highArrowHeadBasePoint, highArowHeadConnectionPoint, vertexTagentDirection);
+                            svgArrowHeadHigh.setParent(svgConnection);
+                            highArrowShaftPosition.set(highArowHeadConnectionPoint);
                         }
 
-                        buildLinearArrowShaft(svgArrowShaft, highArrowShaftPosition, lowArrowShaftPosition, vertexTagentDirection);
-
-                        // Set the attributes of the connection and add it to the connections conatainer  
-                        final ConstellationColor color = graph.getConnectionColor(connection);
-                        svgConnection.setID(String.format("Connection-%s", connection));
-                        svgConnection.setFillColor(color);
-                        svgConnection.setStrokeColor(color);
-                        svgConnection.setStrokeStyle(graph.getConnectionLineStyle(connection));
-                        svgConnection.setParent(svgConnections);
-
-                        // Create the connection labels if required
-                        if (graph.exportConnectionLabels()) {
-                            addConnectionLabels(svgLabels, highEndPoint, lowEndPoint, connectionIndex, graph.getLinkConnectionCount(linkIndex));
-                        } else {
-                            SVGObjectConstants.LABELS.removeFrom(svgLink);
+                        // Only build the low arrow head if the low arrow head has not been cropped
+                        if (lowFrustumEntryPoint.equals(lowEndPoint)) {
+                            buildArrowHead(svgArrowHeadLow, lowEndPoint, lowArowHeadBasePoint, lowArowHeadConnectionPoint, vertexTagentDirection);
+                            svgArrowHeadLow.setParent(svgConnection);
+                            lowArrowShaftPosition.set(lowArowHeadConnectionPoint);
                         }
-                        // Set the sort order as an average of the distance of the source and destination vertex distance from the camera.
-                        svgLink.setSortOrderValue((graph.getScreenPosition(highArrowShaftPosition).getW() + graph.getScreenPosition(lowArrowShaftPosition).getW())/2F);
                     }
-                } 
-                // Add the link to the output if any connections were made.
-                if (!SVGObjectConstants.CONNECTIONS.findIn(svgLink).toSVGData().getAllChildren().isEmpty()){
-                    output.add(svgLink);
+                    case LOW_TO_HIGH -> {
+                        // Only build the high arrow head if the high arrow head has not been cropped
+                        if (highFrustumEntryPoint.equals(highEndPoint)) {
+                            buildArrowHead(svgArrowHeadHigh, highEndPoint, highArowHeadConnectionPoint, highArowHeadConnectionPoint, vertexTagentDirection);
+                            svgArrowHeadHigh.setParent(svgConnection);
+                            highArrowShaftPosition.set(highArowHeadConnectionPoint);
+                        }
+                        // The high arrow head is not in view
+                    }
+                    case HIGH_TO_LOW -> {
+                        // Only build the low arrow head if the high arrow head has not been cropped
+                        if (lowFrustumEntryPoint.equals(lowEndPoint)) {
+                            buildArrowHead(svgArrowHeadLow, lowEndPoint, lowArowHeadConnectionPoint, lowArowHeadConnectionPoint, vertexTagentDirection);
+                            svgArrowHeadLow.setParent(svgConnection);
+                            lowArrowShaftPosition.set(lowArowHeadConnectionPoint);
+                        }
+                        // The low arrow head is not in view
+                    }
+                    default -> {
+                        //Do Nothing
+                    }
                 }
-                currentStep++;                
-            });
-        } finally {
-            graph.terminate();
-            complete = true;
+
+                buildLinearArrowShaft(svgArrowShaft, highArrowShaftPosition, lowArrowShaftPosition, vertexTagentDirection);
+
+                // Set the attributes of the connection and add it to the connections conatainer  
+                final ConstellationColor color = graph.getConnectionColor(connection);
+                svgConnection.setID(String.format("Connection-%s", connection));
+                svgConnection.setFillColor(color);
+                svgConnection.setStrokeColor(color);
+                svgConnection.setStrokeStyle(graph.getConnectionLineStyle(connection));
+                svgConnection.setParent(svgConnections);
+
+                // Create the connection labels if required
+                if (graph.exportConnectionLabels() && detailed) {
+                    addConnectionLabels(svgLabels, highEndPoint, lowEndPoint, connectionIndex, graph.getLinkConnectionCount(linkIndex));
+                } else {
+                    SVGObjectConstants.LABELS.removeFrom(svgLink);
+                }
+            }
+            
+            // A connection has been built so the remaining connections are not needed if the link is not detailed
+            if (!detailed) {
+                break;
+            }
+        } 
+        // Only return the link if any connections were made.
+        if (SVGObjectConstants.CONNECTIONS.findIn(svgLink).toSVGData().getAllChildren().isEmpty()){
+            return null;
         }
+        return svgLink;
     }
 
     /**
@@ -286,10 +318,11 @@ public class GenerateSVGConnectionsTask implements Runnable, SharedInteractionRu
             for (int labelIndex = 0; labelIndex < graph.getConnectionLabelCount(connectionIndex); labelIndex++) {
                 final String labelString = graph.getConnectionLabelText(connectionIndex, labelIndex);
 
-                // Only add the label if the label value exists.
-                if (labelString != null) {
+                final float size = graph.getConnectionLabelSize(labelIndex) * 64 * scaleFactor;
+
+                // Only add the label if the label value exists and is large enough to be read.
+                if (labelString != null && graph.isLabelReadable(size)) {
                     final SVGObject svgLabel = SVGTemplateConstants.LABEL.getSVGObject();
-                    final float size = graph.getConnectionLabelSize(labelIndex) * 64 * scaleFactor;
                     svgLabel.setPosition(screenPosition.getX(), screenPosition.getY() + offset);
                     svgLabel.setFontSize(size);
                     svgLabel.setFillColor(graph.getConnectionLabelColor(labelIndex));
@@ -0,0 +1,89 @@
+/*
+* Copyright 2010-2025 Australian Signals Directorate
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.svg.tasks;
+
+import au.gov.asd.tac.constellation.plugins.importexport.svg.GraphVisualisationReferences;
+import au.gov.asd.tac.constellation.utilities.svg.SVGData;
+import au.gov.asd.tac.constellation.utilities.svg.SVGObject;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A runnable task that builds chunks of graph elements from a {@link SVGFragmentQueue} into SVG text.
+ * Several of these tasks run concurrently, each building whichever chunk is next in the queue.
+ * The elements are built with the node, connection and blaze tasks and are
+ * written to text as soon as they are built so that only the text of each chunk is kept.
+ *
+ * @author sirius
+ */
+public class GenerateSVGFragmentsTask implements Runnable {
+
+    private final GraphVisualisationReferences graph;
+    private final SVGFragmentQueue queue;
+    private final String prefix;
+    private final GenerateSVGNodesTask nodes;
+    private final GenerateSVGConnectionsTask connections;
+    private final GenerateSVGBlazesTask blazes;
+
+    /**
+     * Creates a task to build fragments from the queue.
+     * @param graph references used only by this task.
+     * @param queue the queue shared by all tasks and the writer.
+     * @param colorFilters a thread safe map of the color filters referenced by the built nodes.
+     * @param prefix the indentation prefix of the elements.
+     */
+    public GenerateSVGFragmentsTask(final GraphVisualisationReferences graph, final SVGFragmentQueue queue, final Map<String, SVGObject> colorFilters, final String prefix) {
+        this.graph = graph;
+        this.queue = queue;
+        this.prefix = prefix;
+        this.nodes = new GenerateSVGNodesTask(graph, colorFilters);
+        this.connections = new GenerateSVGConnectionsTask(graph);
+        this.blazes = new GenerateSVGBlazesTask(graph);
+    }
+
+    @Override
+    public void run() {
+        try {
+            graph.initialise();
+            int chunk;
+            while ((chunk = queue.claim()) >= 0) {
+                final StringBuilder fragment = new StringBuilder();
+                for (int position = queue.getChunkStart(chunk); position < queue.getChunkEnd(chunk); position++) {
+                    final long element = queue.getElement(position);
+                    final int index = SVGFragmentQueue.getIndex(element);
+                    final SVGObject svgElement = switch (SVGFragmentQueue.getType(element)) {
+                        case SVGFragmentQueue.NODE -> nodes.buildNode(index);
+                        case SVGFragmentQueue.LINK -> connections.buildLink(index);
+                        default -> blazes.buildBlaze(index);
+                    };
+                    if (svgElement != null) {
+                        final SVGData svgData = svgElement.toSVGData();
+                        svgData.cleanAttributes();
+                        svgData.write(fragment, prefix);
+                    }
+                }
+                queue.complete(chunk, fragment.toString());
+            }
+        } catch (final InterruptedException ex) {
+            queue.fail(ex);
+            Thread.currentThread().interrupt();
+        } catch (final IOException | RuntimeException ex) {
+            queue.fail(ex);
+        } finally {
+            graph.terminate();
+        }
+    }
+}
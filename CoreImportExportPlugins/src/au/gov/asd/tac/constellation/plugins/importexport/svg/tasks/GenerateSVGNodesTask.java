@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.util.List;
 import javax.imageio.ImageIO;
 import au.gov.asd.tac.constellation.plugins.MultiTaskInteraction.SharedInteractionRunnable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,7 +50,7 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
     private final GraphVisualisationReferences graph;
     private final List<Integer> vertexIndicies;
     private final List<SVGObject> output;
-    private final Map<String, SVGObject> colorFilters = new HashMap<>();
+    private final Map<String, SVGObject> colorFilters;
     private final int totalSteps;
     private int currentStep;
     private boolean complete = false;
@@ -60,68 +61,33 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
         this.graph = graph;
         this.vertexIndicies = List.copyOf(vertexIndicies);
         this.output = output;
+        this.colorFilters = new HashMap<>();
         this.totalSteps = vertexIndicies.size();
     }
 
+    /**
+     * Creates a task that builds nodes one at a time with {@link #buildNode(int)}.
+     * The caller is responsible for initialising and terminating the graph references, 
+     * and for exporting the color filters collected in the provided map.
+     * The map may be shared between tasks running concurrently if it is thread safe.
+     * @param graph
+     * @param colorFilters 
+     */
+    public GenerateSVGNodesTask(final GraphVisualisationReferences graph, final Map<String, SVGObject> colorFilters) {
+        this.graph = graph;
+        this.vertexIndicies = List.of();
+        this.output = new ArrayList<>();
+        this.colorFilters = colorFilters;
+        this.totalSteps = 0;
+    }
+
     @Override
     public void run() {
         try {
             graph.initialise();
             vertexIndicies.forEach(vertexIndex -> {
-                if (graph.inView(vertexIndex) && (!graph.selectedElementsOnly || graph.isVertexSelected(vertexIndex)) && graph.getVertexVisibility(vertexIndex) > 0) {
-
-                    // Retrieve values of relevent vertex attributes
-                    final Vector4f position = graph.getVertexPosition(vertexIndex);
-                    final float radius = graph.getVertexScaledRadius(vertexIndex);
-                    final ConstellationColor color = graph.getVertexColor(vertexIndex);
-                    final ConstellationIcon backgroundIcon = IconManager.getIcon(graph.getBackgroundIcon(vertexIndex));
-                    final ConstellationIcon foregroundIcon = IconManager.getIcon(graph.getForegroundIcon(vertexIndex));
-
-                    // Build the SVGobject representing the Node
-                    final SVGObject svgNode = SVGObject.loadFromTemplate(SVGTemplateConstants.NODE);
-                    svgNode.setPosition(position.getX() - radius, position.getY() - radius);
-                    svgNode.setID(String.format("node-%s", graph.getVertexId(vertexIndex)));
-                    svgNode.setSortOrderValue(position.getW());
-                    svgNode.setDimension(radius * 2, radius * 2);
-
-                    // Add labels to the Node if required
-                    if (graph.exportNodeLabels()) {
-                        buildTopLabel(vertexIndex, svgNode);
-                        buildBottomLabel(vertexIndex, svgNode);
-                    } else {
-                        SVGObjectConstants.TOP_LABELS.removeFrom(svgNode);
-                        SVGObjectConstants.BOTTOM_LABELS.removeFrom(svgNode);
-                    }          
-
-                    // Add background image to the node
-                    final SVGData svgBackgroundImage = getSVGIcon(backgroundIcon, color.getJavaColor()); 
-                    if (svgBackgroundImage != null) {
-                        svgBackgroundImage.setParent(SVGObjectConstants.BACKGROUND_IMAGE.findIn(svgNode));
-                    } else {
-                        SVGObjectConstants.BACKGROUND_IMAGE.removeFrom(svgNode);
-                    }
-
-                    // Add foreground image to the node
-                    final SVGData svgForegroundImage = getSVGIcon(foregroundIcon, null);
-                    if (svgForegroundImage != null) {
-                        svgForegroundImage.setParent(SVGObjectConstants.FOREGROUND_IMAGE.findIn(svgNode));
-                    } else {
-                        SVGObjectConstants.FOREGROUND_IMAGE.removeFrom(svgNode);
-                    }
-
-                    // Add decorators to the node       
-                    this.buildDecorator(SVGObjectConstants.NORTH_WEST_DECORATOR.findIn(svgNode), graph.getNWDecorator(vertexIndex));
-                    this.buildDecorator(SVGObjectConstants.NORTH_EAST_DECORATOR.findIn(svgNode), graph.getNEDecorator(vertexIndex));
-                    this.buildDecorator(SVGObjectConstants.SOUTH_WEST_DECORATOR.findIn(svgNode), graph.getSWDecorator(vertexIndex));
-                    this.buildDecorator(SVGObjectConstants.SOUTH_EAST_DECORATOR.findIn(svgNode), graph.getSEDecorator(vertexIndex));
-
-                    // Add dimmed property if dimmed
-                    // Note, this implementation is not a precice sollution, luminocity to alpha conversion would be better
-                    if (graph.isVertexDimmed(vertexIndex)) {
-                        SVGObjectConstants.NODE_IMAGES.findIn(svgNode).applyGrayScaleFilter();
-                        SVGObjectConstants.BACKGROUND_IMAGE.findIn(svgNode).setOpacity(0.5F);
-                    }
-                    
+                final SVGObject svgNode = buildNode(vertexIndex);
+                if (svgNode != null) {
                     output.add(svgNode);
                 }
                 currentStep++;
@@ -135,6 +101,75 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
             complete = true;
         }
     }
+    
+    /**
+     * Builds the SVG representation of a single node.
+     * The graph references must be initialised before this method is called.
+     * @param vertexIndex
+     * @return the SVGObject representing the node, or null if the node is not exported.
+     */
+    public SVGObject buildNode(final int vertexIndex) {
+        if (!graph.inView(vertexIndex) || (graph.selectedElementsOnly && !graph.isVertexSelected(vertexIndex)) || graph.getVertexVisibility(vertexIndex) <= 0) {
+            return null;
+        }
+
+        // Retrieve values of relevent vertex attributes
+        final Vector4f position = graph.getVertexPosition(vertexIndex);
+        final float radius = graph.getVertexScaledRadius(vertexIndex);
+        final ConstellationColor color = graph.getVertexColor(vertexIndex);
+        final ConstellationIcon backgroundIcon = IconManager.getIcon(graph.getBackgroundIcon(vertexIndex));
+        final ConstellationIcon foregroundIcon = IconManager.getIcon(graph.getForegroundIcon(vertexIndex));
+
+        // Build the SVGobject representing the Node
+        final SVGObject svgNode = SVGObject.loadFromTemplate(SVGTemplateConstants.NODE);
+        svgNode.setPosition(position.getX() - radius, position.getY() - radius);
+        svgNode.setID(String.format("node-%s", graph.getVertexId(vertexIndex)));
+        svgNode.setSortOrderValue(position.getW());
+        svgNode.setDimension(radius * 2, radius * 2);
+
+        // Add labels to the Node if required
+        if (graph.exportNodeLabels()) {
+            // Labels are sized in node template units, which are scaled to the size of the node on screen
+            final float labelScale = radius * 2 / 256;
+            buildTopLabel(vertexIndex, svgNode, labelScale);
+            buildBottomLabel(vertexIndex, svgNode, labelScale);
+        } else {
+            SVGObjectConstants.TOP_LABELS.removeFrom(svgNode);
+            SVGObjectConstants.BOTTOM_LABELS.removeFrom(svgNode);
+        }          
+
+        // Add background image to the node
+        final SVGData svgBackgroundImage = getSVGIcon(backgroundIcon, color.getJavaColor()); 
+        if (svgBackgroundImage != null) {
+            svgBackgroundImage.setParent(SVGObjectConstants.BACKGROUND_IMAGE.findIn(svgNode));
+        } else {
+            SVGObjectConstants.BACKGROUND_IMAGE.removeFrom(svgNode);
+        }
+
+        // Add foreground image to the node
+        final SVGData svgForegroundImage = getSVGIcon(foregroundIcon, null);
+        if (svgForegroundImage != null) {
+            svgForegroundImage.setParent(SVGObjectConstants.FOREGROUND_IMAGE.findIn(svgNode));
+        } else {
+            SVGObjectConstants.FOREGROUND_IMAGE.removeFrom(svgNode);
+        }
+
+        // Add decorators to the node       
+        this.buildDecorator(SVGObjectConstants.NORTH_WEST_DECORATOR.findIn(svgNode), graph.getNWDecorator(vertexIndex));
+        this.buildDecorator(SVGObjectConstants.NORTH_EAST_DECORATOR.findIn(svgNode), graph.getNEDecorator(vertexIndex));
+        this.buildDecorator(SVGObjectConstants.SOUTH_WEST_DECORATOR.findIn(svgNode), graph.getSWDecorator(vertexIndex));
+        this.buildDecorator(SVGObjectConstants.SOUTH_EAST_DECORATOR.findIn(svgNode), graph.getSEDecorator(vertexIndex));
+
+        // Add dimmed property if dimmed
+        // Note, this implementation is not a precice sollution, luminocity to alpha conversion would be better
+        if (graph.isVertexDimmed(vertexIndex)) {
+            SVGObjectConstants.NODE_IMAGES.findIn(svgNode).applyGrayScaleFilter();
+            SVGObjectConstants.BACKGROUND_IMAGE.findIn(svgNode).setOpacity(0.5F);
+        }
+        
+        return svgNode;
+    }
+    
     /**
      * Generates decorator images for Nodes.
      * @param svgDecorator
@@ -155,9 +190,10 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
      * Constructs bottom label SVG elements for a given vertex.
      * This method considers the bottom label requirements for nodes.
      * @param vertexIndex
-     * @param svgBottomLabels
+     * @param svgNode
+     * @param labelScale the ratio of the size of the node on screen to its template size.
      */
-    private void buildBottomLabel(final int vertexIndex, final SVGObject svgNode) {    
+    private void buildBottomLabel(final int vertexIndex, final SVGObject svgNode, final float labelScale) {
         
         final SVGObject svgBottomLabels = SVGObjectConstants.BOTTOM_LABELS.findIn(svgNode);
         
@@ -166,10 +202,11 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
         for (int labelIndex = 0; labelIndex < graph.getBottomLabelCount(); labelIndex++) {
             final String labelString = graph.getVertexBottomLabelText(vertexIndex, labelIndex);
             
-            // Only add the label if the label value exists.
-            if (labelString != null) {
+            final float size = graph.getBottomLabelSize(labelIndex) * 64;
+            
+            // Only add the label if the label value exists and is large enough to be read.
+            if (labelString != null && graph.isLabelReadable(size * labelScale)) {
                 final SVGObject svgLabel = SVGTemplateConstants.LABEL.getSVGObject();
-                final float size = graph.getBottomLabelSize(labelIndex) * 64;
                 svgLabel.setFontSize(size);
                 svgLabel.setYPosition(offset);
                 svgLabel.setFillColor(graph.getBottomLabelColor(labelIndex));
@@ -186,9 +223,10 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
      * Constructs top label SVG elements for a given vertex.
      * This method considers the bottom label requirements for nodes.
      * @param vertexIndex
-     * @param svgTopLabels
+     * @param svgNode
+     * @param labelScale the ratio of the size of the node on screen to its template size.
      */
-    private void buildTopLabel(final int vertexIndex, final SVGObject svgNode) {
+    private void buildTopLabel(final int vertexIndex, final SVGObject svgNode, final float labelScale) {
         
         final SVGObject svgTopLabels = SVGObjectConstants.TOP_LABELS.findIn(svgNode);
         
@@ -197,10 +235,11 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
         for (int labelIndex = 0; labelIndex < graph.getTopLabelCount(); labelIndex++) {
             final String labelString = graph.getVertexTopLabelText(vertexIndex, labelIndex);
             
-            // Only add the label if the label value exists.
-            if (labelString != null) {
+            final float size = graph.getTopLabelSize(labelIndex) * 64;
+            
+            // Only add the label if the label value exists and is large enough to be read.
+            if (labelString != null && graph.isLabelReadable(size * labelScale)) {
                 final SVGObject svgLabel = SVGTemplateConstants.LABEL.getSVGObject();
-                final float size = graph.getTopLabelSize(labelIndex) * 64;
                 svgLabel.setFontSize(size);
                 svgLabel.setYPosition(offset);
                 svgLabel.setFillColor(graph.getTopLabelColor(labelIndex));
@@ -258,13 +297,13 @@ public class GenerateSVGNodesTask implements Runnable, SharedInteractionRunnable
     private String generateSVGColorFilterReference(final Color color) {
 
         final String htmlColor = ConstellationColor.fromJavaColor(color).getHtmlColor();
-        if (!colorFilters.containsKey(htmlColor)){
+        colorFilters.computeIfAbsent(htmlColor, key -> {
             final SVGObject filter = SVGObject.loadFromTemplate(SVGTemplateConstants.FILTER);
-            filter.setID(htmlColor);
+            filter.setID(key);
             final SVGObject colorMatrix = SVGObjectConstants.COLOR_MATRIX.findIn(filter);
             colorMatrix.setFeColor(color);
-            colorFilters.put(htmlColor, filter);
-        }
+            return filter;
+        });
         return String.format("url(#%s)", htmlColor);
     }
     
@@ -0,0 +1,185 @@
+/*
+* Copyright 2010-2025 Australian Signals Directorate
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.svg.tasks;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue of SVG fragments passed from {@link GenerateSVGFragmentsTask} workers to a single writer.
+ * The graph elements to export are held in drawing order and split into chunks.
+ * Workers claim chunks in order and build the SVG text of each chunk,
+ * while the writer takes the finished chunks in the same order and writes them out.
+ * Workers can only get a limited number of chunks ahead of the writer,
+ * so the amount of SVG held in memory does not depend on the size of the graph.
+ * <p>
+ * Each element is encoded in a long so that sorting the elements puts them in drawing order.
+ * The high 32 bits hold the depth of the element, with the furthest element first,
+ * and the low 32 bits hold the element type and index.
+ * Elements at the same depth are ordered nodes first, then links, then blazes, and then by index,
+ * which is the order {@link au.gov.asd.tac.constellation.plugins.importexport.svg.SVGGraphBuilder#build()} draws them in.
+ *
+ * @author sirius
+ */
+public class SVGFragmentQueue {
+
+    public static final int NODE = 0;
+    public static final int LINK = 1;
+    public static final int BLAZE = 2;
+
+    private static final int INDEX_MASK = 0x3fffffff;
+
+    private final long[] elements;
+    private final int chunkSize;
+    private final int chunkCount;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final Semaphore capacity;
+    private final AtomicReferenceArray<CompletableFuture<String>> fragments;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Creates a queue of the given elements.
+     * @param elements the encoded elements in drawing order, as created by {@link #encode(float, int, int)}.
+     * @param chunkSize the number of elements built into each fragment.
+     * @param capacity the maximum number of fragments that can be built ahead of the writer.
+     */
+    public SVGFragmentQueue(final long[] elements, final int chunkSize, final int capacity) {
+        this.elements = elements;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (elements.length + chunkSize - 1) / chunkSize;
+        this.capacity = new Semaphore(capacity);
+        this.fragments = new AtomicReferenceArray<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            fragments.set(chunk, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Encodes a graph element so that sorting encoded elements orders them from the furthest to the closest.
+     * @param depth the distance of the element from the camera.
+     * @param index the vertex or link index of the element.
+     * @param type the type of the element.
+     * @return the encoded element.
+     */
+    public static long encode(final float depth, final int index, final int type) {
+        // Flip the bits of negative floats so that they sort correctly as integers
+        int bits = Float.floatToIntBits(-depth);
+        bits ^= (bits >> 31) & 0x7fffffff;
+        return ((long) bits << 32) | ((long) type << 30) | index;
+    }
+
+    /**
+     * Gets the vertex or link index of an encoded element.
+     * @param element
+     * @return
+     */
+    public static int getIndex(final long element) {
+        return (int) element & INDEX_MASK;
+    }
+
+    /**
+     * Gets the type of an encoded element.
+     * @param element
+     * @return one of {@link #NODE}, {@link #LINK} or {@link #BLAZE}.
+     */
+    public static int getType(final long element) {
+        return ((int) element >>> 30) & 3;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public int getChunkStart(final int chunk) {
+        return chunk * chunkSize;
+    }
+
+    public int getChunkEnd(final int chunk) {
+        return Math.min(elements.length, (chunk + 1) * chunkSize);
+    }
+
+    public long getElement(final int position) {
+        return elements[position];
+    }
+
+    /**
+     * Claims the next chunk to be built, waiting while the queue is full.
+     * @return the claimed chunk, or -1 if all chunks have been claimed or the queue has been cancelled.
+     * @throws InterruptedException
+     */
+    public int claim() throws InterruptedException {
+        capacity.acquire();
+        final int chunk = cancelled ? -1 : nextChunk.getAndIncrement();
+        if (chunk < 0 || chunk >= chunkCount) {
+            // Pass the permit on so that any other waiting workers can also finish
+            capacity.release();
+            return -1;
+        }
+        return chunk;
+    }
+
+    /**
+     * Provides the SVG text of a claimed chunk to the writer.
+     * @param chunk
+     * @param fragment
+     */
+    public void complete(final int chunk, final String fragment) {
+        fragments.get(chunk).complete(fragment);
+    }
+
+    /**
+     * Stops the export because a worker could not build a chunk.
+     * The writer will receive the exception when it reaches a chunk that has not been built.
+     * @param ex the reason the chunk could not be built.
+     */
+    public void fail(final Throwable ex) {
+        cancelled = true;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final CompletableFuture<String> fragment = fragments.get(chunk);
+            if (fragment != null) {
+                fragment.completeExceptionally(ex);
+            }
+        }
+        capacity.release();
+    }
+
+    /**
+     * Stops any workers from claiming more chunks.
+     * To be called by the writer if it stops before taking every chunk.
+     */
+    public void cancel() {
+        fail(new CancellationException("SVG export cancelled"));
+    }
+
+    /**
+     * Waits for a chunk to be built and removes it from the queue.
+     * Chunks must be taken in order.
+     * @param chunk
+     * @return the SVG text of the chunk.
+     * @throws InterruptedException
+     * @throws ExecutionException if a worker failed before the chunk was built.
+     */
+    public String take(final int chunk) throws InterruptedException, ExecutionException {
+        final String fragment = fragments.get(chunk).get();
+        fragments.set(chunk, null);
+        capacity.release();
+        return fragment;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.delimited;
+
+import au.gov.asd.tac.constellation.plugins.importexport.delimited.parser.ImportRowCursor;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for ImportRowReader.
+ *
+ * @author sirius
+ */
+public class ImportRowReaderNGTest {
+
+    /**
+     * Creates a cursor returning the specified number of rows, each holding
+     * its own index, and then optionally failing.
+     */
+    private static ImportRowCursor createCursor(final int rowCount, final boolean fail, final AtomicBoolean closed) {
+        return new ImportRowCursor() {
+            private int row = 0;
+
+            @Override
+            public String[] next() throws IOException {
+                if (row < rowCount) {
+                    return new String[]{Integer.toString(row++)};
+                } else if (fail) {
+                    throw new IOException("Test failure");
+                } else {
+                    return null;
+                }
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+    }
+
+    /**
+     * Test that all rows are returned in order across several batches.
+     *
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testNext() throws IOException, InterruptedException {
+        System.out.println("testNext");
+
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final int rowCount = 5000;
+        try (final ImportRowReader reader = new ImportRowReader(createCursor(rowCount, false, closed))) {
+            for (int i = 0; i < rowCount; i++) {
+                final String[] row = reader.next();
+                assertEquals(row[0], Integer.toString(i));
+                assertEquals(reader.getRowIndex(), i);
+            }
+            assertNull(reader.next());
+            assertNull(reader.next());
+            assertEquals(reader.getRowIndex(), rowCount - 1);
+        }
+        assertTrue(closed.get());
+    }
+
+    /**
+     * Test that a failure while parsing is thrown once the rows before it have
+     * been read.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testNextFailure() throws InterruptedException {
+        System.out.println("testNextFailure");
+
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        try (final ImportRowReader reader = new ImportRowReader(createCursor(3, true, closed))) {
+            int rows = 0;
+            try {
+                while (reader.next() != null) {
+                    rows++;
+                }
+                fail("Expected an IOException");
+            } catch (final IOException ex) {
+                assertEquals(ex.getMessage(), "Test failure");
+            }
+            assertEquals(rows, 3);
+        }
+        assertTrue(closed.get());
+    }
+}
@@ -34,7 +34,9 @@ import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -174,6 +176,33 @@ public class CSVImportFileParserNGTest {
         assertThat(result3).usingRecursiveComparison().isEqualTo(expResult3);
     }
 
+    /**
+     * Test of open method, of class CSVImportFileParser.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testOpen() throws IOException {
+        System.out.println("testOpen");
+
+        final CSVImportFileParser instance = spy(new CSVImportFileParser());
+        doCallRealMethod().when(instance).open(any(InputSource.class), any(PluginParameters.class));
+
+        doReturn(csvParserMock).when(instance).getCSVParser(inputSourceMock);
+        doReturn(iteratorMock).when(csvParserMock).iterator();
+        doReturn(true, true, false).when(iteratorMock).hasNext();
+        doReturn(csvRecordMock, csvRecordMock).when(iteratorMock).next();
+        doReturn(new String[]{"test"}).when(csvRecordMock).values();
+
+        // Rows are read one at a time until the file is exhausted.
+        try (final ImportRowCursor cursor = instance.open(inputSourceMock, pluginParametersMock)) {
+            assertEquals(cursor.next(), new String[]{"test"});
+            assertEquals(cursor.next(), new String[]{"test"});
+            assertNull(cursor.next());
+        }
+        verify(csvParserMock).close();
+    }
+
     /**
      * Test of getFileFilter method, of class CSVImportFileParser.
      *
@@ -62,7 +62,7 @@ public class ExportToSVGPluginNGTest {
         PluginParameters result = new ExportToSVGPlugin().createParameters();
         
         // Ensure that all parameters have been created
-        assertEquals(result.getParameters().size(), 12);
+        assertEquals(result.getParameters().size(), 13);
         
         // Ensure defaultvalues are as expected
         assertNull(result.getObjectValue(ExportToSVGPlugin.GRAPH_TITLE_PARAMETER_ID));
@@ -77,5 +77,6 @@ public class ExportToSVGPluginNGTest {
         assertNotNull(result.getObjectValue(ExportToSVGPlugin.SHOW_CONNECTION_LABELS_PARAMETER_ID));
         assertNotNull(result.getObjectValue(ExportToSVGPlugin.SHOW_NODES_PARAMETER_ID));
         assertNotNull(result.getObjectValue(ExportToSVGPlugin.SHOW_NODE_LABELS_PARAMETER_ID));
+        assertNotNull(result.getObjectValue(ExportToSVGPlugin.REDUCE_DETAIL_PARAMETER_ID));
     }  
 }
@@ -23,6 +23,7 @@ import au.gov.asd.tac.constellation.graph.node.plugins.DefaultPluginInteraction;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
 import au.gov.asd.tac.constellation.testing.construction.TestableGraphBuilder;
 import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
+import au.gov.asd.tac.constellation.utilities.svg.SVGData;
 import au.gov.asd.tac.constellation.utilities.svg.SVGObject;
 import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import au.gov.asd.tac.constellation.utilities.visual.AxisConstants;
@@ -30,8 +31,14 @@ import au.gov.asd.tac.constellation.utilities.visual.DrawFlags;
 import au.gov.asd.tac.constellation.utilities.visual.VisualManager;
 import java.awt.Component;
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.MockedStatic;
@@ -39,8 +46,10 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -341,4 +350,113 @@ public class SVGGraphBuilderNGTest {
         assertNotNull(result.getChild(String.format("%s", 0)));
         assertNotNull(result.getChild(String.format("node-%s", 0)));
     }  
+    
+    /**
+     * Test of buildTo method, of class SVGGraphBuilder.
+     * @throws java.lang.InterruptedException
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testBuildToOutput_allVisualElements() throws IllegalArgumentException, InterruptedException, IOException {
+        System.out.println("buildTo");
+        final SVGGraphBuilder instance = new SVGGraphBuilder()
+                .withAssetDirectory(nonExistantFileMock)
+                .withInteraction(interactionMock)
+                .withReadableGraph(graph.getReadableGraph())
+                .withTitle(graphName)
+                .fromPerspective(AxisConstants.Z_POSITIVE)
+                .withSelectedElementsOnly(false)
+                .withDrawFlags(drawAllVisualElementsFlag)
+                .withCores(2);
+        
+        final StringWriter writer = new StringWriter();
+        instance.buildTo(writer);
+        final String result = writer.toString();
+        assertTrue(result.trim().startsWith("<svg"));
+        assertTrue(result.endsWith("</svg>"));
+        assertTrue(result.contains(String.format("id=\"node-%s\"", 0)));
+        assertTrue(result.contains("id=\"content\""));
+        assertTrue(result.contains("id=\"definitions\""));
+        assertTrue(result.contains(String.format("id=\"%s\"", 0)));
+    }
+    
+    /**
+     * Test of buildTo method with level of detail thresholds, of class SVGGraphBuilder.
+     * @throws java.lang.InterruptedException
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testBuildToOutput_reducedDetail() throws IllegalArgumentException, InterruptedException, IOException {
+        System.out.println("buildTo");
+        final SVGGraphBuilder instance = new SVGGraphBuilder()
+                .withAssetDirectory(nonExistantFileMock)
+                .withInteraction(interactionMock)
+                .withReadableGraph(graph.getReadableGraph())
+                .withTitle(graphName)
+                .fromPerspective(AxisConstants.Z_POSITIVE)
+                .withSelectedElementsOnly(false)
+                .withDrawFlags(drawAllVisualElementsFlag)
+                .withDetailThresholds(Float.MAX_VALUE, Float.MAX_VALUE)
+                .withCores(2);
+        
+        final StringWriter writer = new StringWriter();
+        instance.buildTo(writer);
+        final String result = writer.toString();
+        assertTrue(result.contains(String.format("id=\"node-%s\"", 0)));
+        assertFalse(result.contains("top-label-"));
+        assertFalse(result.contains("bottom-label-"));
+    }
+    
+    /**
+     * Test that buildTo draws the elements in the same order as build, of class SVGGraphBuilder.
+     * @throws java.lang.InterruptedException
+     * @throws java.io.IOException
+     */
+    @Test
+    public void testBuildToOutput_sameOrderAsBuild() throws IllegalArgumentException, InterruptedException, IOException {
+        System.out.println("buildTo");
+        final SVGData built = new SVGGraphBuilder()
+                .withAssetDirectory(nonExistantFileMock)
+                .withInteraction(interactionMock)
+                .withReadableGraph(graph.getReadableGraph())
+                .withTitle(graphName)
+                .fromPerspective(AxisConstants.Z_POSITIVE)
+                .withSelectedElementsOnly(false)
+                .withDrawFlags(drawAllVisualElementsFlag)
+                .withCores(2)
+                .build();
+        final StringWriter builtWriter = new StringWriter();
+        built.cleanAttributes();
+        built.write(builtWriter, null);
+        
+        // The previous build closed its thread pool
+        doReturn(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())).when(globalThreadPoolMock).getFixedThreadPool(anyString(), anyInt());
+        final StringWriter streamedWriter = new StringWriter();
+        new SVGGraphBuilder()
+                .withAssetDirectory(nonExistantFileMock)
+                .withInteraction(interactionMock)
+                .withReadableGraph(graph.getReadableGraph())
+                .withTitle(graphName)
+                .fromPerspective(AxisConstants.Z_POSITIVE)
+                .withSelectedElementsOnly(false)
+                .withDrawFlags(drawAllVisualElementsFlag)
+                .withCores(2)
+                .buildTo(streamedWriter);
+        
+        final List<String> builtOrder = getElementOrder(builtWriter.toString());
+        assertFalse(builtOrder.isEmpty());
+        assertEquals(getElementOrder(streamedWriter.toString()), builtOrder);
+    }
+    
+    /**
+     * Gets the ids of the nodes, links and blazes in the order they appear in the SVG.
+     */
+    private static List<String> getElementOrder(final String svg) {
+        final List<String> order = new ArrayList<>();
+        final Matcher matcher = Pattern.compile(" id=\"((?:node|link|blaze)-\\d+)\"").matcher(svg);
+        while (matcher.find()) {
+            order.add(matcher.group(1));
+        }
+        return order;
+    }
 }
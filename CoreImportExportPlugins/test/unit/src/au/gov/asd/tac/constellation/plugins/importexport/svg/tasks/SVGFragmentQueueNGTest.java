@@ -0,0 +1,146 @@
+/*
+* Copyright 2010-2025 Australian Signals Directorate
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+ */
+package au.gov.asd.tac.constellation.plugins.importexport.svg.tasks;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test for {@link SVGFragmentQueue}
+ *
+ * @author sirius
+ */
+public class SVGFragmentQueueNGTest {
+
+    /**
+     * Test of encode, getIndex and getType methods, of class SVGFragmentQueue.
+     */
+    @Test
+    public void testEncode() {
+        System.out.println("encode");
+        final long[] elements = {
+            SVGFragmentQueue.encode(-1F, 7, SVGFragmentQueue.BLAZE),
+            SVGFragmentQueue.encode(-1F, 3, SVGFragmentQueue.LINK),
+            SVGFragmentQueue.encode(-1F, 9, SVGFragmentQueue.NODE),
+            SVGFragmentQueue.encode(-5F, 2, SVGFragmentQueue.NODE),
+            SVGFragmentQueue.encode(4F, 1, SVGFragmentQueue.NODE)
+        };
+        Arrays.sort(elements);
+
+        // Furthest first, then nodes, links and blazes at the same depth
+        assertEquals(SVGFragmentQueue.getIndex(elements[0]), 1);
+        assertEquals(SVGFragmentQueue.getIndex(elements[1]), 9);
+        assertEquals(SVGFragmentQueue.getType(elements[1]), SVGFragmentQueue.NODE);
+        assertEquals(SVGFragmentQueue.getIndex(elements[2]), 3);
+        assertEquals(SVGFragmentQueue.getType(elements[2]), SVGFragmentQueue.LINK);
+        assertEquals(SVGFragmentQueue.getIndex(elements[3]), 7);
+        assertEquals(SVGFragmentQueue.getType(elements[3]), SVGFragmentQueue.BLAZE);
+        assertEquals(SVGFragmentQueue.getIndex(elements[4]), 2);
+    }
+
+    /**
+     * Test that chunks completed out of order are taken in order, of class SVGFragmentQueue.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testTakeOutOfOrderCompletion() throws Exception {
+        System.out.println("take");
+        final SVGFragmentQueue queue = new SVGFragmentQueue(new long[5], 2, 3);
+        assertEquals(queue.getChunkCount(), 3);
+        assertEquals(queue.claim(), 0);
+        assertEquals(queue.claim(), 1);
+        assertEquals(queue.claim(), 2);
+        assertEquals(queue.getChunkEnd(2), 5);
+
+        queue.complete(2, "c");
+        queue.complete(0, "a");
+        assertEquals(queue.take(0), "a");
+
+        // The writer waits for the missing chunk even though a later one is ready
+        final CompletableFuture<String> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.take(1);
+            } catch (final InterruptedException | ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(taken.isDone());
+        queue.complete(1, "b");
+        assertEquals(taken.get(5, TimeUnit.SECONDS), "b");
+        assertEquals(queue.take(2), "c");
+        assertEquals(queue.claim(), -1);
+    }
+
+    /**
+     * Test that a failed chunk is reported to the writer, of class SVGFragmentQueue.
+     * @throws java.lang.Exception
+     */
+    @Test
+    public void testTakeFailed() throws Exception {
+        System.out.println("take");
+        final SVGFragmentQueue queue = new SVGFragmentQueue(new long[6], 2, 3);
+        assertEquals(queue.claim(), 0);
+        assertEquals(queue.claim(), 1);
+        queue.complete(0, "a");
+
+        final IllegalStateException failure = new IllegalStateException("build failed");
+        queue.fail(failure);
+
+        // Chunks built before the failure are still written, no more chunks can be claimed
+        assertEquals(queue.take(0), "a");
+        assertEquals(queue.claim(), -1);
+        try {
+            queue.take(1);
+            fail("Expected the failure to be propagated");
+        } catch (final ExecutionException ex) {
+            assertSame(ex.getCause(), failure);
+        }
+    }
+
+    /**
+     * Test of cancel method, of class SVGFragmentQueue.
+     * @throws java.lang.Exception
+     */
+    @Test(expectedExceptions = CancellationException.class)
+    public void testCancel() throws Exception {
+        System.out.println("cancel");
+        final SVGFragmentQueue queue = new SVGFragmentQueue(new long[4], 1, 1);
+        assertEquals(queue.claim(), 0);
+
+        // A worker waiting for capacity is released by the cancellation
+        final CompletableFuture<Integer> claimed = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.claim();
+            } catch (final InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(claimed.isDone());
+        queue.cancel();
+        assertEquals(claimed.get(5, TimeUnit.SECONDS).intValue(), -1);
+        queue.take(0);
+    }
+}
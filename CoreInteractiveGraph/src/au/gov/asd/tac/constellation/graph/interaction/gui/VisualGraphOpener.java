@@ -22,6 +22,7 @@ import au.gov.asd.tac.constellation.graph.file.GraphObjectUtilities;
 import au.gov.asd.tac.constellation.graph.file.io.GraphJsonReader;
 import au.gov.asd.tac.constellation.graph.file.io.GraphParseException;
 import au.gov.asd.tac.constellation.graph.file.opener.GraphOpener;
+import au.gov.asd.tac.constellation.graph.file.save.AutosaveJournal;
 import au.gov.asd.tac.constellation.graph.file.save.AutosaveUtilities;
 import au.gov.asd.tac.constellation.plugins.PluginException;
 import au.gov.asd.tac.constellation.plugins.PluginExecution;
@@ -134,6 +135,9 @@ public final class VisualGraphOpener extends GraphOpener {
                         // Backup the current actual file and replace it with the autosave file.
                         final File autosaved = new File(AutosaveUtilities.getAutosaveDir(), props.getProperty(AutosaveUtilities.ID) + FileExtensionConstants.STAR);
                         try {
+                            // bring the autosaved file up to date with its journal before it replaces the actual file
+                            AutosaveJournal.compact(autosaved, new HandleIoProgress("Recovering autosave..."));
+
                             // make temp copy of any backup file that exists to try if we find both autosave and main file are corrupt
                             final File toBak = new File(f.getPath() + FileExtensionConstants.BACKUP);
                             if (toBak.exists()) {
@@ -149,7 +153,7 @@ public final class VisualGraphOpener extends GraphOpener {
                                 AutosaveUtilities.copyFile(autosaved, f);
                             }
 
-                        } catch (final IOException ex) {
+                        } catch (final GraphParseException | IOException ex) {
                             LOGGER.log(Level.WARNING, "Copying autosaved file", ex);
                         }
                     }
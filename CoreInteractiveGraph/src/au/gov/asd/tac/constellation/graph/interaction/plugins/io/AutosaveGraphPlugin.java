@@ -19,9 +19,10 @@ import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.ReadableGraph;
 import au.gov.asd.tac.constellation.graph.file.io.GraphJsonWriter;
+import au.gov.asd.tac.constellation.graph.file.save.AutosaveJournal;
 import au.gov.asd.tac.constellation.graph.file.save.AutosaveUtilities;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
 import au.gov.asd.tac.constellation.graph.node.GraphNode;
-import au.gov.asd.tac.constellation.graph.processing.GraphRecordStoreUtilities;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginException;
@@ -41,7 +42,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -53,6 +58,14 @@ import org.openide.util.lookup.ServiceProvider;
  * Autosave a single graph.
  * <p>
  * The caller has to go through the graphs and pass them one by one.
+ * <p>
+ * The first autosave of a graph saves it in full (a snapshot) and starts an
+ * {@link AutosaveJournal} recording the edits made to it. Later autosaves only
+ * append the edits made since the previous autosave to the journal, so that
+ * their cost depends on what has changed rather than on the size of the graph.
+ * A new snapshot is saved when the journal has grown large compared to the
+ * snapshot, when an edit can't be written to the journal, or when the graph
+ * has been idle since the previous autosave.
  *
  * @author algol
  */
@@ -63,6 +76,13 @@ public final class AutosaveGraphPlugin extends SimplePlugin {
 
     private static final Logger LOGGER = Logger.getLogger(AutosaveGraphPlugin.class.getName());
 
+    /**
+     * A new snapshot is saved once the journal is this fraction of the size of
+     * the snapshot, when replaying the journal starts to cost as much as
+     * reading the snapshot.
+     */
+    private static final double MAX_JOURNAL_RATIO = 0.5;
+
     @Override
     public void execute(final PluginGraphs graphs, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException, PluginException {
         final Graph graph = graphs.getGraph();
@@ -73,26 +93,51 @@ public final class AutosaveGraphPlugin extends SimplePlugin {
         if (gnode != null) {
             interaction.setProgress(-1, -1, "Autosaving: " + graphId, true, parameters);
 
-            // We don't want to hold the user up while we're reading from a graph they might be using.
-            // Make a copy of the graph so that we can release the read lock as soon as possible.
-            GraphReadMethods copy;
-            try (final ReadableGraph rg = graph.getReadableGraph()) {
-                copy = rg.copy();
-            }
-
-            interaction.setProgress(1, 0, "Finished", true);
-
             final File saveDir = AutosaveUtilities.getAutosaveDir();
+            final String gname = graph.getId() + FileExtensionConstants.STAR;
+            final File saveFile = new File(saveDir, gname);
+            final File journalFile = AutosaveUtilities.getJournalFile(saveFile);
 
             try {
-                final String gname = graph.getId() + FileExtensionConstants.STAR;
                 StatusDisplayer.getDefault().setStatusText(String.format("Auto saving %s as %s at %s...", graphId, gname, new Date()));
-                final File saveFile = new File(saveDir, gname);
-                new GraphJsonWriter().writeGraphToZip(copy, saveFile.getPath(), new HandleIoProgress("Autosaving..."));
+
+                final AutosaveJournal journal = AutosaveJournal.getJournal(graphId);
+                final boolean snapshot;
+                if (journal == null || !saveFile.exists()) {
+                    snapshot = true;
+                } else if (journal.hasPendingEdits()) {
+                    snapshot = !journal.append() || journal.getSize() > saveFile.length() * MAX_JOURNAL_RATIO;
+                } else {
+                    // Nothing has changed since the last autosave, so this is a good time to save a new snapshot.
+                    snapshot = journal.hasEntries();
+                }
+
+                final Collection<String> labels;
+                if (snapshot) {
+                    // We don't want to hold the user up while we're reading from a graph they might be using.
+                    // Make a copy of the graph so that we can release the lock as soon as possible.
+                    final GraphReadMethods copy;
+                    if (graph instanceof DualGraph dualGraph) {
+                        // The journal starts recording edits from the moment the copy is taken.
+                        final AutosaveJournal newJournal = AutosaveJournal.create(dualGraph, journalFile);
+                        copy = newJournal.getSnapshot();
+                        newJournal.saveSnapshot(saveFile, new HandleIoProgress("Autosaving..."));
+                    } else {
+                        try (final ReadableGraph rg = graph.getReadableGraph()) {
+                            copy = rg.copy();
+                        }
+                        new GraphJsonWriter().writeGraphToZip(copy, saveFile.getPath(), new HandleIoProgress("Autosaving..."));
+                    }
+                    labels = getVertexLabels(copy);
+                } else {
+                    labels = Collections.emptyList();
+                }
+
+                interaction.setProgress(1, 0, "Finished", true);
 
                 ConstellationLoggerHelper.exportPropertyBuilder(
                         this,
-                        GraphRecordStoreUtilities.getVertices(copy, false, false, false).getAll(GraphRecordStoreUtilities.SOURCE + VisualConcept.VertexAttribute.LABEL),
+                        labels,
                         saveFile,
                         ConstellationLoggerHelper.SUCCESS
                 );
@@ -111,4 +156,30 @@ public final class AutosaveGraphPlugin extends SimplePlugin {
             }
         }
     }
+
+    /**
+     * Whether a graph has edits in its autosave journal that could be saved in
+     * a new snapshot while the graph is idle.
+     *
+     * @param graphId the id of the graph.
+     * @return true if the graph's autosave journal has edits in it.
+     */
+    static boolean hasJournalEntries(final String graphId) {
+        final AutosaveJournal journal = AutosaveJournal.getJournal(graphId);
+        return journal != null && journal.hasEntries();
+    }
+
+    private static List<String> getVertexLabels(final GraphReadMethods graph) {
+        final int labelAttribute = VisualConcept.VertexAttribute.LABEL.get(graph);
+        if (labelAttribute == Graph.NOT_FOUND) {
+            return Collections.emptyList();
+        }
+
+        final int vertexCount = graph.getVertexCount();
+        final List<String> labels = new ArrayList<>(vertexCount);
+        for (int position = 0; position < vertexCount; position++) {
+            labels.add(graph.getStringValue(labelAttribute, graph.getVertex(position)));
+        }
+        return labels;
+    }
 }
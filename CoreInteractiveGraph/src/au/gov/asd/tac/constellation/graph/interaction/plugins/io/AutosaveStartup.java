@@ -16,9 +16,9 @@
 package au.gov.asd.tac.constellation.graph.interaction.plugins.io;
 
 import au.gov.asd.tac.constellation.graph.Graph;
-import au.gov.asd.tac.constellation.graph.file.io.GraphJsonReader;
 import au.gov.asd.tac.constellation.graph.file.io.GraphParseException;
 import au.gov.asd.tac.constellation.graph.file.opener.GraphOpener;
+import au.gov.asd.tac.constellation.graph.file.save.AutosaveJournal;
 import au.gov.asd.tac.constellation.graph.file.save.AutosaveUtilities;
 import au.gov.asd.tac.constellation.utilities.file.FileExtensionConstants;
 import au.gov.asd.tac.constellation.utilities.gui.HandleIoProgress;
@@ -89,7 +89,8 @@ public final class AutosaveStartup implements Runnable {
                                         // Remove the "_auto" from the end and load the matching graph.
                                         String path = f.getPath();
                                         path = path.substring(0, path.length() - 5);
-                                        final Graph g = new GraphJsonReader().readGraphZip(new File(path), new HandleIoProgress(loading));
+                                        final File star = new File(path);
+                                        final Graph g = AutosaveJournal.recover(star, AutosaveUtilities.getJournalFile(star), new HandleIoProgress(loading));
                                         GraphOpener.getDefault().openGraph(g, name, false);
 
                                         AutosaveUtilities.deleteAutosave(f);
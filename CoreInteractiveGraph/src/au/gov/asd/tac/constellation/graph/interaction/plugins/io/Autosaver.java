@@ -107,7 +107,9 @@ public final class Autosaver implements Runnable {
                         newAutosaveModificationCounter = rg.getGlobalModificationCounter();
                     }
 
-                    if (lastAutosaveModificationCounter == null || lastAutosaveModificationCounter != newAutosaveModificationCounter) {
+                    // If the graph hasn't changed, it might still be worth saving its journal in a new snapshot while it is idle.
+                    if (lastAutosaveModificationCounter == null || lastAutosaveModificationCounter != newAutosaveModificationCounter
+                            || AutosaveGraphPlugin.hasJournalEntries(id)) {
                         LAST_AUTOSAVE.put(id, newAutosaveModificationCounter);
 
                         try {
@@ -39,6 +39,11 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
     private float clusterRadius = 0;
     private int clusterSize = 0;
 
+    // the precomputed extent of the cluster, if known, so that drawing need not visit every marker
+    private Location clusterLocation = null;
+    private Location clusterTopLeft = null;
+    private Location clusterBottomRight = null;
+
     protected final List<ConstellationAbstractMarker> markers = new ArrayList<>();
 
     public ConstellationClusterMarker() {
@@ -67,6 +72,23 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
         this.markers.addAll(markers);
     }
 
+    /**
+     * Set the precomputed location and extent of this cluster. Once set, the
+     * cluster is drawn from these locations alone rather than from the
+     * locations of all of its markers.
+     *
+     * @param location the centroid of the markers in this cluster.
+     * @param topLeft the top left corner of the bounding box of the markers in
+     * this cluster.
+     * @param bottomRight the bottom right corner of the bounding box of the
+     * markers in this cluster.
+     */
+    public void setBounds(final Location location, final Location topLeft, final Location bottomRight) {
+        this.clusterLocation = location;
+        this.clusterTopLeft = topLeft;
+        this.clusterBottomRight = bottomRight;
+    }
+
     public void addMarkers(final List<ConstellationAbstractMarker> markers) {
         this.markers.addAll(markers);
     }
@@ -77,6 +99,9 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
 
     @Override
     public Location getLocation() {
+        if (clusterLocation != null) {
+            return clusterLocation;
+        }
         final Location center = new Location(0, 0);
         markers.forEach(marker -> center.add(marker.getLocation()));
         center.div(markers.size());
@@ -153,9 +178,22 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
 
     @Override
     public void draw(final UnfoldingMap map) {
+        final PGraphics graphics = map.mapDisplay.getOuterPG();
+        if (clusterLocation != null) {
+            if (isHidden()) {
+                return;
+            }
+            clusterSize = markers.size();
+            final MapPosition topLeft = new MapPosition(map.mapDisplay.getObjectFromLocation(clusterTopLeft));
+            final MapPosition bottomRight = new MapPosition(map.mapDisplay.getObjectFromLocation(clusterBottomRight));
+            final double diameter = clusterSize > 1 ? Math.sqrt(Math.pow((bottomRight.x - topLeft.x), 2)
+                    + Math.pow((bottomRight.y - topLeft.y), 2)) : 0;
+            drawCluster(graphics, new MapPosition(map.mapDisplay.getObjectFromLocation(clusterLocation)), diameter);
+            return;
+        }
+
         clusterSize = getCentroidLocations().size();
 
-        final PGraphics graphics = map.mapDisplay.getOuterPG();
         final List<MapPosition> positions = getLocations().stream()
                 .map(location -> new MapPosition(map.mapDisplay.getObjectFromLocation(location)))
                 .toList();
@@ -168,10 +206,10 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
             return false;
         }
 
-        clusterCenter = new MapPosition();
+        final MapPosition center = new MapPosition();
         positions.forEach(position -> 
-            clusterCenter.add(position));
-        clusterCenter.div(positions.size());
+            center.add(position));
+        center.div(positions.size());
 
         double diameter = 0;
         if (positions.size() > 1) {
@@ -188,6 +226,13 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
             diameter = Math.sqrt(Math.pow((maxPosition.x - minPosition.x), 2)
                     + Math.pow((maxPosition.y - minPosition.y), 2));
         }
+        drawCluster(graphics, center, diameter);
+
+        return true;
+    }
+
+    private void drawCluster(final PGraphics graphics, final MapPosition center, final double diameter) {
+        clusterCenter = center;
         clusterRadius = Math.max((float) diameter / 2, MIN_RADIUS);
 
         graphics.strokeWeight(size == MarkerUtilities.DEFAULT_SIZE ? strokeWeight : size);
@@ -202,8 +247,6 @@ public class ConstellationClusterMarker extends ConstellationAbstractMarker {
         graphics.text(clusterLabel,
                 clusterCenter.x - (CHAR_WIDTH * clusterLabel.length() * 0.6F),
                 clusterCenter.y + (FONT_SIZE * 0.35F));
-
-        return true;
     }
 
     @Override
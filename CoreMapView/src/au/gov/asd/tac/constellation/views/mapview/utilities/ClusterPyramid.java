@@ -0,0 +1,552 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.mapview.utilities;
+
+import de.fhpotsdam.unfolding.geo.Location;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A hierarchy of clusters of items on a map, with one level of clusters for
+ * each zoom level.
+ * <p>
+ * Item locations are projected into Web Mercator world coordinates, where the
+ * whole world spans the unit square and a zoom level of z displays the world
+ * 256 &times; 2<sup>z</sup> pixels wide. Starting from the items themselves,
+ * each level is built by greedily grouping the nodes of the level below that
+ * lie within the cluster radius of a seed node at that zoom level, so every
+ * cluster is the parent of the clusters it was built from. Each level keeps a
+ * grid index of its nodes, so the clusters visible in a viewport are found by
+ * looking up the cells the viewport covers rather than by visiting every
+ * item.
+ * <p>
+ * The pyramid can also be updated in place when only a few items have been
+ * added or removed: a removed item is subtracted from each of its ancestors,
+ * and an added item joins the nearest cluster within range at the finest
+ * level it can, creating new clusters below that level as required.
+ *
+ * @param <T> the type of the items being clustered.
+ * @author sirius
+ */
+final class ClusterPyramid<T> {
+
+    private static final int TILE_SIZE = 256;
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    // the fraction of items which may change before the pyramid should be rebuilt rather than updated
+    private static final int INCREMENTAL_DIVISOR = 4;
+    private static final int MINIMUM_INCREMENTAL_CHANGES = 16;
+
+    private final Function<T, Location> locator;
+    private final int maxZoom;
+
+    // levels 0 to maxZoom hold clusters and level maxZoom + 1 holds the items themselves
+    private final Level[] levels;
+    // the clusters which have been returned for each level, so they can be returned again until they change
+    private final List<Map<Integer, Cluster<T>>> clusters = new ArrayList<>();
+    // the item at each leaf, which is null for leaves that have been removed
+    private final List<T> items = new ArrayList<>();
+    private int size = 0;
+    private int changeCount = 0;
+
+    /**
+     * Build a cluster pyramid.
+     *
+     * @param items the items to cluster.
+     * @param locator a function returning the location of an item, or null if
+     * the item has no location.
+     * @param radius the distance in pixels within which items are clustered.
+     * @param maxZoom the finest zoom level to build clusters for. Items are
+     * returned individually at zoom levels beyond this.
+     */
+    ClusterPyramid(final Collection<? extends T> items, final Function<T, Location> locator, final float radius, final int maxZoom) {
+        this.locator = locator;
+        this.maxZoom = maxZoom;
+        this.levels = new Level[maxZoom + 2];
+        for (int level = 0; level < levels.length; level++) {
+            levels[level] = new Level(radius / (TILE_SIZE * Math.pow(2, level)));
+            clusters.add(new HashMap<>());
+        }
+
+        final Level leaves = levels[maxZoom + 1];
+        for (final T item : items) {
+            final Location location = locator.apply(item);
+            if (location != null) {
+                leaves.addNode(getX(location), getY(location), 1);
+                this.items.add(item);
+                size++;
+            }
+        }
+
+        for (int level = maxZoom; level >= 0; level--) {
+            buildLevel(level);
+        }
+    }
+
+    /**
+     * Returns the number of items in this pyramid.
+     *
+     * @return the number of items in this pyramid.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the finest zoom level that clusters were built for.
+     *
+     * @return the finest zoom level that clusters were built for.
+     */
+    int getMaxZoom() {
+        return maxZoom;
+    }
+
+    /**
+     * Update this pyramid to hold exactly the specified items, provided the
+     * number of items added and removed is small enough for an update to be
+     * cheaper than a rebuild. Items are matched to the items already in the
+     * pyramid by equality, so an item whose location has changed should no
+     * longer be equal to its previous version.
+     *
+     * @param newItems the items the pyramid should hold.
+     * @return true if the pyramid was updated, or false if it was left
+     * unchanged because it should be rebuilt instead.
+     */
+    boolean update(final Collection<? extends T> newItems) {
+        final Map<T, Integer> leaves = new HashMap<>();
+        final List<Integer> removed = new ArrayList<>();
+        for (int leaf = 0; leaf < items.size(); leaf++) {
+            final T item = items.get(leaf);
+            if (item != null && leaves.putIfAbsent(item, leaf) != null) {
+                removed.add(leaf);
+            }
+        }
+
+        final List<T> added = new ArrayList<>();
+        final Map<Integer, T> replaced = new HashMap<>();
+        for (final T item : newItems) {
+            final Integer leaf = leaves.remove(item);
+            if (leaf == null) {
+                if (locator.apply(item) != null) {
+                    added.add(item);
+                }
+            } else if (items.get(leaf) != item) {
+                replaced.put(leaf, item);
+            }
+        }
+        removed.addAll(leaves.values());
+
+        final int changes = added.size() + removed.size();
+        if (changeCount + changes > Math.max(MINIMUM_INCREMENTAL_CHANGES, size / INCREMENTAL_DIVISOR)) {
+            return false;
+        }
+        changeCount += changes;
+
+        // clusters hold the items themselves, so any cluster may now refer to a replaced item
+        if (!replaced.isEmpty()) {
+            replaced.forEach(items::set);
+            clusters.forEach(Map::clear);
+        }
+        removed.forEach(this::removeItem);
+        added.forEach(this::addItem);
+        return true;
+    }
+
+    /**
+     * Returns the clusters at a zoom level whose centres are within a
+     * viewport. Clusters are returned as the same objects until they are
+     * changed by an update.
+     *
+     * @param zoom the zoom level.
+     * @param topLeft the location of the top left corner of the viewport.
+     * @param bottomRight the location of the bottom right corner of the
+     * viewport.
+     * @return the clusters within the viewport.
+     */
+    List<Cluster<T>> getClusters(final int zoom, final Location topLeft, final Location bottomRight) {
+        final int levelIndex = Math.max(0, Math.min(zoom, maxZoom + 1));
+        final Level level = levels[levelIndex];
+
+        // include a margin of one cell so that clusters whose centres are just off screen are still drawn
+        final double minX = Math.min(getX(topLeft), getX(bottomRight)) - level.cellSize;
+        final double maxX = Math.max(getX(topLeft), getX(bottomRight)) + level.cellSize;
+        final double minY = Math.min(getY(topLeft), getY(bottomRight)) - level.cellSize;
+        final double maxY = Math.max(getY(topLeft), getY(bottomRight)) + level.cellSize;
+
+        final List<Cluster<T>> visibleClusters = new ArrayList<>();
+        level.forEachNodeWithin(minX, minY, maxX, maxY, node -> visibleClusters.add(getCluster(levelIndex, node)));
+        return visibleClusters;
+    }
+
+    private Cluster<T> getCluster(final int levelIndex, final int node) {
+        final Level level = levels[levelIndex];
+        Cluster<T> cluster = clusters.get(levelIndex).get(node);
+        if (cluster == null) {
+            final List<T> clusterItems = new ArrayList<>(level.count[node]);
+            final double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+            collectItems(levelIndex, node, clusterItems, bounds);
+            cluster = new Cluster<>(clusterItems,
+                    getLocation(level.x[node], level.y[node]),
+                    getLocation(bounds[0], bounds[1]),
+                    getLocation(bounds[2], bounds[3]));
+            clusters.get(levelIndex).put(node, cluster);
+        }
+        return cluster;
+    }
+
+    private void collectItems(final int levelIndex, final int node, final List<T> clusterItems, final double[] bounds) {
+        final Level level = levels[levelIndex];
+        if (levelIndex == maxZoom + 1) {
+            clusterItems.add(items.get(node));
+            bounds[0] = Math.min(bounds[0], level.x[node]);
+            bounds[1] = Math.min(bounds[1], level.y[node]);
+            bounds[2] = Math.max(bounds[2], level.x[node]);
+            bounds[3] = Math.max(bounds[3], level.y[node]);
+            return;
+        }
+        final Level children = levels[levelIndex + 1];
+        for (int child = level.firstChild[node]; child != -1; child = children.nextSibling[child]) {
+            collectItems(levelIndex + 1, child, clusterItems, bounds);
+        }
+    }
+
+    /**
+     * Build a level of clusters from the nodes of the level below it.
+     */
+    private void buildLevel(final int levelIndex) {
+        final Level level = levels[levelIndex];
+        final Level children = levels[levelIndex + 1];
+        final double radiusSquared = level.cellSize * level.cellSize;
+
+        for (int seed = 0; seed < children.size; seed++) {
+            if (children.count[seed] == 0 || children.parent[seed] != -1) {
+                continue;
+            }
+
+            final double seedX = children.x[seed];
+            final double seedY = children.y[seed];
+            final int node = level.addNode(0, 0, 0);
+            final double[] sums = new double[3];
+            // the cluster radius at this level spans two cells of the level below
+            children.forEachNodeWithin(seedX - level.cellSize, seedY - level.cellSize, seedX + level.cellSize, seedY + level.cellSize, child -> {
+                final double dx = children.x[child] - seedX;
+                final double dy = children.y[child] - seedY;
+                if (children.parent[child] == -1 && dx * dx + dy * dy <= radiusSquared) {
+                    final int weight = children.count[child];
+                    sums[0] += children.x[child] * weight;
+                    sums[1] += children.y[child] * weight;
+                    sums[2] += weight;
+                    level.addChild(node, children, child);
+                }
+            });
+            level.moveNode(node, sums[0] / sums[2], sums[1] / sums[2], (int) sums[2]);
+        }
+    }
+
+    private void removeItem(final int leaf) {
+        items.set(leaf, null);
+        size--;
+
+        final Level leaves = levels[maxZoom + 1];
+        final double x = leaves.x[leaf];
+        final double y = leaves.y[leaf];
+        int levelIndex = maxZoom + 1;
+        int node = leaf;
+        while (node != -1) {
+            final Level level = levels[levelIndex];
+            final int parent = level.parent[node];
+            final int count = level.count[node] - 1;
+            if (count == 0) {
+                level.removeNode(node);
+                if (parent != -1) {
+                    levels[levelIndex - 1].removeChild(parent, level, node);
+                }
+            } else {
+                level.moveNode(node, (level.x[node] * (count + 1) - x) / count, (level.y[node] * (count + 1) - y) / count, count);
+            }
+            clusters.get(levelIndex).remove(node);
+            node = parent;
+            levelIndex--;
+        }
+    }
+
+    private void addItem(final T item) {
+        final Location location = locator.apply(item);
+        final double x = getX(location);
+        final double y = getY(location);
+
+        final Level leaves = levels[maxZoom + 1];
+        int child = leaves.addNode(x, y, 1);
+        items.add(item);
+        size++;
+
+        // join the nearest cluster in range at the finest level possible, creating new clusters below it
+        for (int levelIndex = maxZoom; levelIndex >= 0; levelIndex--) {
+            final Level level = levels[levelIndex];
+            final int nearest = level.findNearest(x, y, level.cellSize);
+            if (nearest != -1) {
+                level.addChild(nearest, levels[levelIndex + 1], child);
+                for (int ancestorLevel = levelIndex, ancestor = nearest; ancestor != -1; ancestorLevel--) {
+                    final Level current = levels[ancestorLevel];
+                    final int count = current.count[ancestor] + 1;
+                    current.moveNode(ancestor, (current.x[ancestor] * (count - 1) + x) / count, (current.y[ancestor] * (count - 1) + y) / count, count);
+                    clusters.get(ancestorLevel).remove(ancestor);
+                    ancestor = current.parent[ancestor];
+                }
+                return;
+            }
+            final int node = level.addNode(x, y, 1);
+            level.addChild(node, levels[levelIndex + 1], child);
+            child = node;
+        }
+    }
+
+    /**
+     * Project a longitude into Web Mercator world coordinates.
+     */
+    private static double getX(final Location location) {
+        return (location.getLon() + 180.0) / 360.0;
+    }
+
+    /**
+     * Project a latitude into Web Mercator world coordinates.
+     */
+    private static double getY(final Location location) {
+        final double latitude = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, location.getLat())));
+        return 0.5 - Math.log(Math.tan(Math.PI / 4 + latitude / 2)) / (2 * Math.PI);
+    }
+
+    private static Location getLocation(final double x, final double y) {
+        final double latitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+        return new Location(latitude, x * 360.0 - 180.0);
+    }
+
+    /**
+     * A cluster of items at one zoom level of a {@link ClusterPyramid}.
+     *
+     * @param <T> the type of the items being clustered.
+     */
+    static final class Cluster<T> {
+
+        private final List<T> items;
+        private final Location location;
+        private final Location topLeft;
+        private final Location bottomRight;
+
+        private Cluster(final List<T> items, final Location location, final Location topLeft, final Location bottomRight) {
+            this.items = Collections.unmodifiableList(items);
+            this.location = location;
+            this.topLeft = topLeft;
+            this.bottomRight = bottomRight;
+        }
+
+        List<T> getItems() {
+            return items;
+        }
+
+        Location getLocation() {
+            return location;
+        }
+
+        Location getTopLeft() {
+            return topLeft;
+        }
+
+        Location getBottomRight() {
+            return bottomRight;
+        }
+    }
+
+    private interface NodeConsumer {
+
+        void accept(final int node);
+    }
+
+    /**
+     * The nodes of one level of the pyramid, stored in parallel arrays and
+     * indexed by a grid of cells as wide as the cluster radius of the level.
+     */
+    private static final class Level {
+
+        private final double cellSize;
+        private int size = 0;
+        private double[] x = new double[16];
+        private double[] y = new double[16];
+        // the number of items beneath each node, which is 0 for nodes that have been removed
+        private int[] count = new int[16];
+        // the parent of each node in the level above, and the first child and next sibling in the level below
+        private int[] parent = new int[16];
+        private int[] firstChild = new int[16];
+        private int[] nextSibling = new int[16];
+        private final Map<Long, int[]> cells = new HashMap<>();
+
+        private Level(final double cellSize) {
+            this.cellSize = cellSize;
+        }
+
+        private int addNode(final double nodeX, final double nodeY, final int nodeCount) {
+            if (size == x.length) {
+                final int capacity = size * 2;
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                count = Arrays.copyOf(count, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+            }
+            final int node = size++;
+            x[node] = nodeX;
+            y[node] = nodeY;
+            count[node] = nodeCount;
+            parent[node] = -1;
+            firstChild[node] = -1;
+            nextSibling[node] = -1;
+            addToCell(node);
+            return node;
+        }
+
+        private void moveNode(final int node, final double nodeX, final double nodeY, final int nodeCount) {
+            final long oldCell = getCell(x[node], y[node]);
+            final long newCell = getCell(nodeX, nodeY);
+            if (oldCell != newCell) {
+                removeFromCell(node);
+            }
+            x[node] = nodeX;
+            y[node] = nodeY;
+            count[node] = nodeCount;
+            if (oldCell != newCell) {
+                addToCell(node);
+            }
+        }
+
+        private void removeNode(final int node) {
+            removeFromCell(node);
+            count[node] = 0;
+        }
+
+        private void addChild(final int node, final Level children, final int child) {
+            children.parent[child] = node;
+            children.nextSibling[child] = firstChild[node];
+            firstChild[node] = child;
+        }
+
+        private void removeChild(final int node, final Level children, final int child) {
+            if (firstChild[node] == child) {
+                firstChild[node] = children.nextSibling[child];
+            } else {
+                int previous = firstChild[node];
+                while (children.nextSibling[previous] != child) {
+                    previous = children.nextSibling[previous];
+                }
+                children.nextSibling[previous] = children.nextSibling[child];
+            }
+            children.parent[child] = -1;
+            children.nextSibling[child] = -1;
+        }
+
+        private int findNearest(final double nodeX, final double nodeY, final double distance) {
+            final double[] nearestDistance = {distance * distance};
+            final int[] nearest = {-1};
+            forEachNodeWithin(nodeX - distance, nodeY - distance, nodeX + distance, nodeY + distance, node -> {
+                final double dx = x[node] - nodeX;
+                final double dy = y[node] - nodeY;
+                final double nodeDistance = dx * dx + dy * dy;
+                if (nodeDistance <= nearestDistance[0]) {
+                    nearestDistance[0] = nodeDistance;
+                    nearest[0] = node;
+                }
+            });
+            return nearest[0];
+        }
+
+        /**
+         * Visit every node whose position is within a rectangle, looking up
+         * only the cells the rectangle covers unless there are fewer occupied
+         * cells than that.
+         */
+        private void forEachNodeWithin(final double minX, final double minY, final double maxX, final double maxY, final NodeConsumer consumer) {
+            final long minCellX = (long) Math.floor(minX / cellSize);
+            final long minCellY = (long) Math.floor(minY / cellSize);
+            final long maxCellX = (long) Math.floor(maxX / cellSize);
+            final long maxCellY = (long) Math.floor(maxY / cellSize);
+            if ((maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > cells.size()) {
+                for (final int[] cell : cells.values()) {
+                    visitCell(cell, minX, minY, maxX, maxY, consumer);
+                }
+            } else {
+                for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+                    for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+                        final int[] cell = cells.get(getCellKey(cellX, cellY));
+                        if (cell != null) {
+                            visitCell(cell, minX, minY, maxX, maxY, consumer);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void visitCell(final int[] cell, final double minX, final double minY, final double maxX, final double maxY, final NodeConsumer consumer) {
+            // the first element of a cell is the number of nodes it holds
+            for (int i = 1; i <= cell[0]; i++) {
+                final int node = cell[i];
+                if (x[node] >= minX && x[node] <= maxX && y[node] >= minY && y[node] <= maxY) {
+                    consumer.accept(node);
+                }
+            }
+        }
+
+        private long getCell(final double nodeX, final double nodeY) {
+            return getCellKey((long) Math.floor(nodeX / cellSize), (long) Math.floor(nodeY / cellSize));
+        }
+
+        private static long getCellKey(final long cellX, final long cellY) {
+            // multiplying by an odd constant keeps keys unique while spreading neighbouring cells across the hash table
+            return ((cellX << 32) ^ (cellY & 0xFFFFFFFFL)) * 0x9E3779B97F4A7C15L;
+        }
+
+        private void addToCell(final int node) {
+            final long key = getCell(x[node], y[node]);
+            int[] cell = cells.get(key);
+            if (cell == null) {
+                cell = new int[4];
+            } else if (cell[0] == cell.length - 1) {
+                cell = Arrays.copyOf(cell, cell.length * 2);
+            }
+            cell[++cell[0]] = node;
+            cells.put(key, cell);
+        }
+
+        private void removeFromCell(final int node) {
+            final long key = getCell(x[node], y[node]);
+            final int[] cell = cells.get(key);
+            for (int i = 1; i <= cell[0]; i++) {
+                if (cell[i] == node) {
+                    cell[i] = cell[cell[0]--];
+                    break;
+                }
+            }
+            if (cell[0] == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
 import au.gov.asd.tac.constellation.utilities.datastructure.ObjectCache;
 import au.gov.asd.tac.constellation.utilities.geospatial.Shape;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import au.gov.asd.tac.constellation.views.mapview.features.ConstellationAbstractFeature;
 import au.gov.asd.tac.constellation.views.mapview.features.ConstellationPointFeature;
 import au.gov.asd.tac.constellation.views.mapview.markers.ConstellationAbstractMarker;
@@ -34,23 +35,24 @@ import au.gov.asd.tac.constellation.views.mapview.markers.ConstellationMarkerFac
 import au.gov.asd.tac.constellation.views.mapview.markers.ConstellationMultiMarker;
 import au.gov.asd.tac.constellation.views.mapview.markers.ConstellationPointMarker;
 import au.gov.asd.tac.constellation.views.mapview.markers.ConstellationPolygonMarker;
+import au.gov.asd.tac.constellation.views.mapview.providers.MapProvider;
 import de.fhpotsdam.unfolding.UnfoldingMap;
 import de.fhpotsdam.unfolding.data.GeoJSONReader;
 import de.fhpotsdam.unfolding.geo.Location;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import javax.swing.SwingUtilities;
-import org.apache.commons.math3.ml.clustering.Cluster;
-import org.apache.commons.math3.ml.clustering.DBSCANClusterer;
-import org.apache.commons.math3.ml.clustering.DoublePoint;
 import org.openide.util.Lookup;
 
 /**
@@ -68,6 +70,13 @@ public abstract class MarkerCache extends ObjectCache<ConstellationAbstractMarke
 
     protected final Object lock = new Object();
 
+    // the clusters of the markers in this cache, which are rebuilt whenever the version of the markers changes
+    private final AtomicInteger markerVersion = new AtomicInteger();
+    private volatile ClusterPyramid<ConstellationAbstractMarker> clusterPyramid = null;
+    private volatile int clusterPyramidVersion = -1;
+    private Future<?> clusterPyramidBuild = null;
+    private final Map<ClusterPyramid.Cluster<ConstellationAbstractMarker>, ConstellationClusterMarker> clusterMarkers = new HashMap<>();
+
     public static MarkerCache getDefault() {
         return Lookup.getDefault().lookup(MarkerCache.class);
     }
@@ -165,50 +174,98 @@ public abstract class MarkerCache extends ObjectCache<ConstellationAbstractMarke
     public Set<ConstellationClusterMarker> buildClusters(final UnfoldingMap map, final ConstellationMarkerFactory markerFactory, final MarkerState markerState) {
         assert !SwingUtilities.isEventDispatchThread();
 
-        // clear cache of cluster markers
-        final Set<ConstellationAbstractMarker> oldClusterMarkers = cache.keySet().stream()
-                .filter(ConstellationClusterMarker.class::isInstance)
-                .collect(Collectors.toSet());
-        oldClusterMarkers.forEach(marker -> cache.remove(marker));
-
-        final Set<ConstellationClusterMarker> clusterMarkers = new HashSet<>();
-        if (markerState.isShowClusterMarkers()) {
-            // generate points for clusters
-            final Map<DoublePoint, List<ConstellationAbstractMarker>> markerPoints = new HashMap<>();
-            cache.keySet().forEach(marker -> {
-                final DoublePoint point = new DoublePoint(
-                        new double[]{
-                            map.getScreenPosition(marker.getLocation()).x,
-                            map.getScreenPosition(marker.getLocation()).y});
-                if (!markerPoints.containsKey(point)) {
-                    markerPoints.put(point, new ArrayList<>());
+        final Map<ClusterPyramid.Cluster<ConstellationAbstractMarker>, ConstellationClusterMarker> visibleClusterMarkers = new HashMap<>();
+        synchronized (clusterMarkers) {
+            if (markerState.isShowClusterMarkers()) {
+                final int maxZoom = ((MapProvider) map.mapDisplay.getMapProvider()).zoomLevels();
+                final ClusterPyramid<ConstellationAbstractMarker> pyramid = updateClusterPyramid(maxZoom);
+                if (pyramid != null) {
+                    // only clusters which are visible need markers, and clusters which are still visible keep theirs
+                    pyramid.getClusters(map.getZoomLevel(), map.getTopLeftBorder(), map.getBottomRightBorder()).forEach(cluster -> {
+                        ConstellationClusterMarker clusterMarker = clusterMarkers.remove(cluster);
+                        if (clusterMarker == null) {
+                            clusterMarker = new ConstellationClusterMarker();
+                            clusterMarker.setColor(MarkerUtilities.DEFAULT_CLUSTER_COLOR);
+                            clusterMarker.setMarkers(cluster.getItems());
+                            clusterMarker.setBounds(cluster.getLocation(), cluster.getTopLeft(), cluster.getBottomRight());
+                            super.add(clusterMarker, GraphElement.NON_ELEMENT);
+                        }
+                        visibleClusterMarkers.put(cluster, clusterMarker);
+                    });
                 }
-                markerPoints.get(point).add(marker);
-            });
+            }
 
-            // calculate new clusters
-            final DBSCANClusterer<DoublePoint> clusterer = new DBSCANClusterer<>(CLUSTER_DISTANCE, 0);
-            final List<Cluster<DoublePoint>> clusters = clusterer.cluster(markerPoints.keySet());
+            // clear cache of cluster markers which are no longer visible
+            clusterMarkers.values().forEach(super::remove);
+            clusterMarkers.clear();
+            clusterMarkers.putAll(visibleClusterMarkers);
+        }
 
-            // build new cluster markers
-            clusters.forEach(cluster -> {
-                try {
-                    final List<ConstellationAbstractMarker> markersInCluster = cluster.getPoints().stream()
-                            .map(markerPoints::get)
-                            .flatMap(List::stream)
-                            .toList();
-                    final ConstellationClusterMarker clusterMarker = new ConstellationClusterMarker();
-                    clusterMarker.setColor(MarkerUtilities.DEFAULT_CLUSTER_COLOR);
-                    clusterMarker.setMarkers(markersInCluster);
-                    clusterMarkers.add(clusterMarker);
-                    add(clusterMarker, GraphElement.NON_ELEMENT);
-                } catch (final Exception ex) {
-                    LOGGER.log(Level.SEVERE, ex.getLocalizedMessage(), ex);
-                }
-            });
+        final Set<ConstellationClusterMarker> visibleMarkers = Collections.newSetFromMap(new IdentityHashMap<>());
+        visibleMarkers.addAll(visibleClusterMarkers.values());
+        return visibleMarkers;
+    }
+
+    /**
+     * Bring the cluster pyramid up to date with the markers in this cache. A
+     * small change to the markers is applied to the current pyramid, while a
+     * larger change causes the pyramid to be rebuilt in the background, with
+     * the current pyramid being used until the new one is ready.
+     *
+     * @param maxZoom the finest zoom level to build clusters for.
+     * @return the current cluster pyramid, or null if there is not one yet.
+     */
+    private ClusterPyramid<ConstellationAbstractMarker> updateClusterPyramid(final int maxZoom) {
+        final int version = markerVersion.get();
+        final ClusterPyramid<ConstellationAbstractMarker> pyramid = clusterPyramid;
+        if ((version == clusterPyramidVersion && pyramid != null && pyramid.getMaxZoom() == maxZoom)
+                || (clusterPyramidBuild != null && !clusterPyramidBuild.isDone())) {
+            return pyramid;
+        }
+
+        final List<ConstellationAbstractMarker> markers = cache.keySet().stream()
+                .filter(marker -> !(marker instanceof ConstellationClusterMarker))
+                .toList();
+        if (pyramid != null && pyramid.getMaxZoom() == maxZoom && pyramid.update(markers)) {
+            clusterPyramidVersion = version;
+            return pyramid;
         }
 
-        return clusterMarkers;
+        clusterPyramidBuild = ConstellationGlobalThreadPool.getThreadPool().getCachedThreadPool().submit(() -> {
+            try {
+                clusterPyramid = new ClusterPyramid<>(markers, ConstellationAbstractMarker::getLocation, CLUSTER_DISTANCE, maxZoom);
+                clusterPyramidVersion = version;
+            } catch (final Exception ex) {
+                LOGGER.log(Level.SEVERE, ex.getLocalizedMessage(), ex);
+            }
+        });
+        return pyramid;
+    }
+
+    @Override
+    public void add(final ConstellationAbstractMarker marker, final GraphElement element) {
+        if (!(marker instanceof ConstellationClusterMarker) && !contains(marker)) {
+            markerVersion.incrementAndGet();
+        }
+        super.add(marker, element);
+    }
+
+    @Override
+    public Set<GraphElement> remove(final ConstellationAbstractMarker marker) {
+        final Set<GraphElement> elements = super.remove(marker);
+        if (elements != null && !(marker instanceof ConstellationClusterMarker)) {
+            markerVersion.incrementAndGet();
+        }
+        return elements;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        markerVersion.incrementAndGet();
+        synchronized (clusterMarkers) {
+            clusterMarkers.clear();
+        }
     }
 
     public void styleMarkers(final Graph graph, final MarkerState markerState) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.mapview.utilities;
+
+import de.fhpotsdam.unfolding.geo.Location;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Cluster Pyramid Test.
+ *
+ * @author sirius
+ */
+public class ClusterPyramidNGTest {
+
+    private static final Location WORLD_TOP_LEFT = new Location(85F, -180F);
+    private static final Location WORLD_BOTTOM_RIGHT = new Location(-85F, 180F);
+
+    private List<Location> locations;
+    private ClusterPyramid<Location> instance;
+
+    @BeforeMethod
+    public void setUpMethod() {
+        // two tight groups around Canberra and London, and a lone point near Sydney
+        locations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            locations.add(new Location(-35.28F + i * 0.001F, 149.13F));
+            locations.add(new Location(51.51F, -0.13F + i * 0.001F));
+        }
+        locations.add(new Location(-33.87F, 151.21F));
+        instance = new ClusterPyramid<>(locations, location -> location, 80, 6);
+    }
+
+    /**
+     * Test that every item belongs to exactly one cluster at every zoom level.
+     */
+    @Test
+    public void testGetClustersCoversAllItems() {
+        System.out.println("getClustersCoversAllItems");
+
+        assertEquals(instance.size(), 11);
+        for (int zoom = 0; zoom <= 7; zoom++) {
+            int total = 0;
+            for (final ClusterPyramid.Cluster<Location> cluster : instance.getClusters(zoom, WORLD_TOP_LEFT, WORLD_BOTTOM_RIGHT)) {
+                total += cluster.getItems().size();
+            }
+            assertEquals(total, 11);
+        }
+    }
+
+    /**
+     * Test that clusters separate as the zoom level increases.
+     */
+    @Test
+    public void testGetClustersByZoom() {
+        System.out.println("getClustersByZoom");
+
+        // Canberra and Sydney are about 250km apart, which is within 80 pixels at zoom level 1 but not at zoom level 6
+        assertEquals(instance.getClusters(1, WORLD_TOP_LEFT, WORLD_BOTTOM_RIGHT).size(), 2);
+        assertEquals(instance.getClusters(6, WORLD_TOP_LEFT, WORLD_BOTTOM_RIGHT).size(), 3);
+
+        // beyond the finest zoom level every item is its own cluster
+        final List<ClusterPyramid.Cluster<Location>> leaves = instance.getClusters(7, WORLD_TOP_LEFT, WORLD_BOTTOM_RIGHT);
+        assertEquals(leaves.size(), 11);
+        leaves.forEach(cluster -> assertEquals(cluster.getItems().size(), 1));
+    }
+
+    /**
+     * Test that only clusters within the viewport are returned.
+     */
+    @Test
+    public void testGetClustersInViewport() {
+        System.out.println("getClustersInViewport");
+
+        final List<ClusterPyramid.Cluster<Location>> clusters = instance.getClusters(6, new Location(52F, -1F), new Location(51F, 1F));
+        assertEquals(clusters.size(), 1);
+        assertEquals(clusters.get(0).getItems().size(), 5);
+        assertEquals(clusters.get(0).getLocation().getLat(), 51.51F, 0.001F);
+        assertEquals(clusters.get(0).getLocation().getLon(), -0.128F, 0.001F);
+
+        // clusters are returned as the same objects until they change
+        assertTrue(clusters.get(0) == instance.getClusters(6, new Location(52F, -1F), new Location(51F, 1F)).get(0));
+    }
+
+    /**
+     * Test of update method, of class ClusterPyramid.
+     */
+    @Test
+    public void testUpdate() {
+        System.out.println("update");
+
+        final List<Location> updated = new ArrayList<>(locations);
+        updated.remove(locations.size() - 1);
+        updated.add(new Location(40.71F, -74.01F));
+        assertTrue(instance.update(updated));
+        assertEquals(instance.size(), 11);
+
+        final List<ClusterPyramid.Cluster<Location>> clusters = instance.getClusters(6, new Location(-30F, 140F), new Location(-40F, 160F));
+        assertEquals(clusters.size(), 1);
+        assertEquals(clusters.get(0).getItems().size(), 5);
+        assertEquals(instance.getClusters(6, new Location(41F, -75F), new Location(40F, -73F)).size(), 1);
+
+        // replacing most of the items should call for a rebuild instead
+        final List<Location> replaced = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            replaced.add(new Location(i, i));
+        }
+        assertFalse(instance.update(replaced));
+        assertEquals(instance.size(), 11);
+    }
+}
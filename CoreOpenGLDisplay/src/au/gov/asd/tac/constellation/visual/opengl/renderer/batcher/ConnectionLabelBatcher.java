@@ -19,6 +19,7 @@ import au.gov.asd.tac.constellation.graph.visual.framework.VisualGraphDefaults;
 import au.gov.asd.tac.constellation.utilities.camera.Camera;
 import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
 import au.gov.asd.tac.constellation.utilities.graphics.Matrix44f;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import au.gov.asd.tac.constellation.utilities.visual.VisualAccess;
 import au.gov.asd.tac.constellation.visual.opengl.renderer.GLRenderable.GLRenderableUpdateTask;
 import au.gov.asd.tac.constellation.visual.opengl.renderer.TextureUnits;
@@ -32,6 +33,7 @@ import java.io.IOException;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  *
@@ -78,6 +80,9 @@ public class ConnectionLabelBatcher implements SceneBatcher {
     private static final int FLOAT_BUFFER_WIDTH = 4;
     private static final int INT_BUFFER_WIDTH = 4;
 
+    // The number of links whose labels are shaped together by one thread
+    private static final int CHUNK_SIZE = 1024;
+
     public ConnectionLabelBatcher() {
         // Create the batch
         labelBatch = new Batch(GL.GL_POINTS);
@@ -167,20 +172,35 @@ public class ConnectionLabelBatcher implements SceneBatcher {
     }
 
     private void fillLabels(final VisualAccess access, ConnectionGlyphStream glyphStream) throws InterruptedException {
-        final ConnectionGlyphStreamContext context = new ConnectionGlyphStreamContext();
-
-        for (int link = 0; link < access.getLinkCount(); link++) {
-            final int connectionCount = access.getLinkConnectionCount(link);
-            setCurrentConnection(access.getLinkLowVertex(link), access.getLinkHighVertex(link), connectionCount, context);
-            for (int pos = 0; pos < connectionCount; pos++) {
-                final int connection = access.getLinkConnection(link, pos);
-                nextParallelConnection((int) (LabelUtilities.NRADIUS_TO_LINE_WIDTH_UNITS * Math.min(LabelUtilities.MAX_TRANSACTION_WIDTH, access.getConnectionWidth(connection))), context);
-                final Matrix44f currentLabelInfo = access.isLabelSummary(connection) ? summaryLabelInfo : attributeLabelInfoReference;
-                bufferLabel(connection, access, glyphStream, currentLabelInfo, context);
+        // Chunks of links are shaped in parallel on the shared fork-join pool
+        // into their own glyph streams, which are then appended in order so the
+        // buffered labels are the same as if they were shaped one by one. The
+        // context is reset for each link, so each chunk can use its own.
+        // The pool's threads read the access without a lock of their own. This
+        // is safe because batches are only created while the visual processor
+        // holds the access open between beginUpdate() and endUpdate(), so the
+        // graph's read lock is held and no writer can change it, and this thread
+        // waits for every chunk before returning and releasing it.
+        final int linkCount = access.getLinkCount();
+        final int chunkCount = (linkCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final List<ConnectionGlyphStream> chunkStreams = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().submit(() -> IntStream.range(0, chunkCount).parallel().mapToObj(chunk -> {
+            final ConnectionGlyphStream chunkStream = new ConnectionGlyphStream();
+            final ConnectionGlyphStreamContext context = new ConnectionGlyphStreamContext();
+            final int end = Math.min(linkCount, (chunk + 1) * CHUNK_SIZE);
+            for (int link = chunk * CHUNK_SIZE; link < end; link++) {
+                final int connectionCount = access.getLinkConnectionCount(link);
+                setCurrentConnection(access.getLinkLowVertex(link), access.getLinkHighVertex(link), connectionCount, context);
+                for (int pos = 0; pos < connectionCount; pos++) {
+                    final int connection = access.getLinkConnection(link, pos);
+                    nextParallelConnection((int) (LabelUtilities.NRADIUS_TO_LINE_WIDTH_UNITS * Math.min(LabelUtilities.MAX_TRANSACTION_WIDTH, access.getConnectionWidth(connection))), context);
+                    final Matrix44f currentLabelInfo = access.isLabelSummary(connection) ? summaryLabelInfo : attributeLabelInfoReference;
+                    bufferLabel(connection, access, chunkStream, currentLabelInfo, context);
+                }
             }
+            return chunkStream;
+        }).toList()).join();
 
-        }
-
+        chunkStreams.forEach(glyphStream::append);
         glyphStream.trimToSize();
     }
 
@@ -18,6 +18,7 @@ package au.gov.asd.tac.constellation.visual.opengl.renderer.batcher;
 import au.gov.asd.tac.constellation.utilities.camera.Camera;
 import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
 import au.gov.asd.tac.constellation.utilities.graphics.Matrix44f;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import au.gov.asd.tac.constellation.utilities.visual.VisualAccess;
 import au.gov.asd.tac.constellation.visual.opengl.renderer.GLRenderable.GLRenderableUpdateTask;
 import au.gov.asd.tac.constellation.visual.opengl.renderer.TextureUnits;
@@ -33,6 +34,7 @@ import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  *
@@ -81,6 +83,9 @@ public class NodeLabelBatcher implements SceneBatcher {
     private static final int FLOAT_BUFFERS_WIDTH = 4;
     private static final int INT_BUFFERS_WIDTH = 4;
 
+    // The number of vertices whose labels are shaped together by one thread
+    private static final int CHUNK_SIZE = 1024;
+
     public NodeLabelBatcher() {
         // Create the batches
         topBatch = new Batch(GL.GL_POINTS);
@@ -167,20 +172,49 @@ public class NodeLabelBatcher implements SceneBatcher {
     }
 
     private void fillTopLabels(final VisualAccess access, NodeGlyphStream glyphStream) throws InterruptedException {
-        for (int pos = 0; pos < access.getVertexCount(); pos++) {
-            bufferTopLabel(pos, access, glyphStream);
-        }
-        glyphStream.trimToSize();
+        fillLabels(access, glyphStream, this::bufferTopLabel);
     }
 
     private void fillBottomLabels(final VisualAccess access, NodeGlyphStream glyphStream) throws InterruptedException {
-        for (int pos = 0; pos < access.getVertexCount(); pos++) {
-            bufferBottomLabel(pos, access, glyphStream);
-        }
+        fillLabels(access, glyphStream, this::bufferBottomLabel);
+    }
 
+    /**
+     * Buffer the labels of every vertex. Chunks of vertices are shaped in
+     * parallel on the shared fork-join pool into their own glyph streams,
+     * which are then appended in order so the buffered labels are the same as
+     * if they were shaped one by one.
+     * <p>
+     * The pool's threads read labels from the access without taking a lock of
+     * their own. This is safe because batches are only created while the
+     * visual processor holds the access open between beginUpdate() and
+     * endUpdate(), so the graph's read lock is held and no writer can change
+     * it, and this thread waits for every chunk before returning and releasing
+     * it. The access only reads from the locked graph and from arrays it
+     * computed before batching began, so concurrent reads do not interfere.
+     */
+    private void fillLabels(final VisualAccess access, final NodeGlyphStream glyphStream, final LabelBufferer bufferer) {
+        final int vertexCount = access.getVertexCount();
+        final int chunkCount = (vertexCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final List<NodeGlyphStream> chunkStreams = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool().submit(() -> IntStream.range(0, chunkCount).parallel().mapToObj(chunk -> {
+            final NodeGlyphStream chunkStream = new NodeGlyphStream();
+            final int end = Math.min(vertexCount, (chunk + 1) * CHUNK_SIZE);
+            for (int pos = chunk * CHUNK_SIZE; pos < end; pos++) {
+                bufferer.bufferLabel(pos, access, chunkStream);
+            }
+            return chunkStream;
+        }).toList()).join();
+
+        chunkStreams.forEach(glyphStream::append);
         glyphStream.trimToSize();
     }
 
+    @FunctionalInterface
+    private interface LabelBufferer {
+
+        void bufferLabel(final int pos, final VisualAccess access, final NodeGlyphStream glyphStream);
+    }
+
     private void bufferBottomLabel(final int pos, final VisualAccess access, NodeGlyphStream glyphStream) {
         final float visibility = access.getVertexVisibility(pos);
         int totalScale = LabelUtilities.NRADIUS_TO_LABEL_UNITS;
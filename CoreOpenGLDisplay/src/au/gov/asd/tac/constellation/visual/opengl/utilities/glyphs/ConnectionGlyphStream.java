@@ -72,4 +72,21 @@ public class ConnectionGlyphStream implements GlyphManager.GlyphStream {
             currentInts.trimToSize();
         }
     }
+
+    /**
+     * Appends the glyphs of another stream to the end of this stream.
+     * <p>
+     * This allows separate ranges of connections to be buffered into their own
+     * streams by different threads and then joined in order.
+     *
+     * @param other the stream whose glyphs are appended.
+     */
+    public void append(final ConnectionGlyphStream other) {
+        synchronized (addLock) {
+            synchronized (other.addLock) {
+                currentFloats.addAll(other.currentFloats);
+                currentInts.addAll(other.currentInts);
+            }
+        }
+    }
 }
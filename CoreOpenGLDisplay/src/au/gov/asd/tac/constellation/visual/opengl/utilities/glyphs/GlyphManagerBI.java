@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.imageio.ImageIO;
@@ -122,10 +123,22 @@ public final class GlyphManagerBI implements GlyphManager {
         }
     }
 
+    /**
+     * The maximum number of shaped strings held in the ligature cache. Large graphs will have more distinct labels
+     * than this, in which case the least recently used strings are shaped again when they are next needed.
+     */
+    public static final int LIGATURE_CACHE_SIZE = 131_072;
+
+    /**
+     * The number of separately locked segments in the ligature cache, so label batchers can shape text on several
+     * threads at once.
+     */
+    private static final int LIGATURE_CACHE_SEGMENTS = 64;
+
     /**
      * Cache the bulk of the work renderTextAsLigature does to greatly improve performance.
      */
-    private static Map<String, LigatureContext> cache = new HashMap<>();
+    private final LigatureCache<String, LigatureContext> cache = new LigatureCache<>(LIGATURE_CACHE_SIZE, LIGATURE_CACHE_SEGMENTS);
 
     /**
      * A default no-op GlyphStream to use when the user specifies null.
@@ -246,7 +259,11 @@ public final class GlyphManagerBI implements GlyphManager {
         }).mapToInt(i -> i).max().orElseThrow(NoSuchElementException::new);
         g2d.dispose();
 
+        // The cached ligatures refer to positions in the texture buffer and
+        // were measured with the old fonts.
+        //
         textureBuffer.reset();
+        cache.clear();
     }
 
     /**
@@ -321,6 +338,9 @@ public final class GlyphManagerBI implements GlyphManager {
      * Hashes of the contents of the rectangles are used to determine if the glyph image has already been drawn. If it
      * has, the same rectangle is reused.
      *
+     * <p>
+     * This method may be called from several threads at once, as long as each thread uses its own glyph stream.
+     *
      * @param text The text top be rendered.
      * @param context
      */
@@ -336,15 +356,12 @@ public final class GlyphManagerBI implements GlyphManager {
 
         // Retrieve the LigatureContext from the cache to greatly speed up
         // building these ligatures which are built every time the graph is
-        // loaded or when the graph structure changes. Note that items are not
-        // purged from this cache so there is a small build up of memory over
-        // time. Guava caching was attempted though it was slower and negating
-        // the performance improvements of caching.
+        // loaded or when the graph structure changes. The cache is bounded,
+        // so the least recently used ligatures are purged and rebuilt if they
+        // are needed again. Rebuilding a ligature doesn't grow the texture
+        // buffer because its glyph images are already there.
         //
-        if (!cache.containsKey(text)) {
-            cache.put(text, buildLigature(text));
-        }
-        final LigatureContext ligature = cache.get(text);
+        final LigatureContext ligature = cache.get(text, this::buildLigature);
 
         // Add the background for this text.
         //
@@ -507,6 +524,33 @@ public final class GlyphManagerBI implements GlyphManager {
         return new LigatureContext(glyphRectangles[0], left, right, top, bottom);
     }
 
+    /**
+     * Return the number of times shaped text was found in the ligature cache.
+     *
+     * @return The number of ligature cache hits.
+     */
+    public long getLigatureCacheHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Return the number of times text had to be shaped because it was not in the ligature cache.
+     *
+     * @return The number of ligature cache misses.
+     */
+    public long getLigatureCacheMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Return the number of shaped strings currently held in the ligature cache.
+     *
+     * @return The size of the ligature cache.
+     */
+    public int getLigatureCacheSize() {
+        return cache.size();
+    }
+
     @Override
     public int getGlyphCount() {
         return textureBuffer.getRectangleCount();
@@ -612,12 +656,12 @@ public final class GlyphManagerBI implements GlyphManager {
         /**
          * Cache the Rectangles to prevent duplicate objects
          */
-        private static final Map<FourTuple<Integer, Integer, Integer, Integer>, Rectangle> rectangleCache = new HashMap<>();
+        private static final Map<FourTuple<Integer, Integer, Integer, Integer>, Rectangle> rectangleCache = new ConcurrentHashMap<>();
 
         /**
          * Cache the GlyphRectangle to prevent duplicate objects
          */
-        private static final Map<ThreeTuple<Integer, Integer, Integer>, GlyphRectangle> glyphRectangleCache = new HashMap<>();
+        private static final Map<ThreeTuple<Integer, Integer, Integer>, GlyphRectangle> glyphRectangleCache = new ConcurrentHashMap<>();
 
         public static GlyphRectangle create(final int position, final Rectangle rect, final int ascent) {
             // Note that the Rectangle hashCode() is not unique so using the
@@ -626,13 +670,7 @@ public final class GlyphManagerBI implements GlyphManager {
                     = FourTuple.create(rect.x, rect.y, rect.width, rect.height);
 
             final ThreeTuple key = ThreeTuple.create(position, rectangleKey, ascent);
-            final GlyphRectangle rectangle = glyphRectangleCache.get(key);
-            if (rectangle == null) {
-                rectangleCache.putIfAbsent(rectangleKey, rect);
-                glyphRectangleCache.put(key, new GlyphRectangle(position, rectangleCache.get(rectangleKey), ascent));
-            }
-
-            return glyphRectangleCache.get(key);
+            return glyphRectangleCache.computeIfAbsent(key, k -> new GlyphRectangle(position, rectangleCache.computeIfAbsent(rectangleKey, rk -> rect), ascent));
         }
 
     }
@@ -134,11 +134,11 @@ final class GlyphRectangleBuffer {
         return rectangleCount;
     }
 
-    public float[] getRectangleCoordinates() {
+    public synchronized float[] getRectangleCoordinates() {
         return rectTextureCoordinates.clone();
     }
 
-    public void reset() {
+    public synchronized void reset() {
         // Start with room for an arbitrary number of rectangles
         // so we don't have to grow the array too quickly.
         //
@@ -344,7 +344,7 @@ final class GlyphRectangleBuffer {
         return true;
     }
 
-    private int getHashcode(final int hashCode, final BufferedImage img, final int extra, final int w, final int h) {
+    private synchronized int getHashcode(final int hashCode, final BufferedImage img, final int extra, final int w, final int h) {
         final int rectIndex;
         if (memory.containsKey(hashCode)) {
             rectIndex = memory.get(hashCode);
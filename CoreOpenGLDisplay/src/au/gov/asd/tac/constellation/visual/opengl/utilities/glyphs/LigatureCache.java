@@ -0,0 +1,167 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.visual.opengl.utilities.glyphs;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A size-bounded, thread safe cache of shaped text used by
+ * {@link GlyphManagerBI}.
+ * <p>
+ * The cache is split into segments by the hash code of the key, and each
+ * segment is a least recently used map guarded by its own lock, so threads
+ * shaping different labels rarely wait for each other. Values are built
+ * outside of the lock, but each key is only built once: the first thread to
+ * miss stores a pending value and builds it, and any other thread asking for
+ * the same key waits for that value rather than building its own. This
+ * matters because building a ligature adds its glyphs to the texture buffer.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ *
+ * @author sirius
+ */
+final class LigatureCache<K, V> {
+
+    private final Map<K, CompletableFuture<V>>[] segments;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new cache.
+     *
+     * @param capacity the maximum number of values held by the cache.
+     * @param segmentCount the number of separately locked segments, which is
+     * rounded up to a power of two.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // generic arrays can't be created directly
+    LigatureCache(final int capacity, final int segmentCount) {
+        if (capacity < 1 || segmentCount < 1) {
+            throw new IllegalArgumentException("Capacity and segment count must be positive");
+        }
+        final int count = Integer.highestOneBit(Math.min(segmentCount, capacity) * 2 - 1);
+        final int segmentCapacity = (capacity + count - 1) / count;
+        this.capacity = segmentCapacity * count;
+        segments = new Map[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new LinkedHashMap<>(16, 0.75F, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, CompletableFuture<V>> eldest) {
+                    return size() > segmentCapacity;
+                }
+            };
+        }
+    }
+
+    /**
+     * Get the value for a key, building and caching it if it is not present.
+     * If another thread is already building the value, this waits for it and
+     * counts as a hit.
+     *
+     * @param key the key.
+     * @param builder the function that builds the value if it is not cached.
+     * It must not get values from this cache.
+     * @return the cached or newly built value.
+     */
+    V get(final K key, final Function<K, V> builder) {
+        final Map<K, CompletableFuture<V>> segment = getSegment(key);
+        final CompletableFuture<V> pending = new CompletableFuture<>();
+        final CompletableFuture<V> existing;
+        synchronized (segment) {
+            existing = segment.putIfAbsent(key, pending);
+        }
+        if (existing != null) {
+            hits.increment();
+            try {
+                return existing.join();
+            } catch (final CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+
+        misses.increment();
+        try {
+            final V value = builder.apply(key);
+            pending.complete(value);
+            return value;
+        } catch (final RuntimeException ex) {
+            // let the next request for this key try again
+            synchronized (segment) {
+                segment.remove(key, pending);
+            }
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Remove all values from the cache. The hit and miss counts are kept.
+     */
+    void clear() {
+        for (final Map<K, CompletableFuture<V>> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Return the number of values currently held by the cache.
+     *
+     * @return the number of values currently held by the cache.
+     */
+    int size() {
+        int size = 0;
+        for (final Map<K, CompletableFuture<V>> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Return the maximum number of values held by the cache. This may be
+     * slightly larger than the requested capacity so that it divides evenly
+     * between the segments.
+     *
+     * @return the maximum number of values held by the cache.
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    private Map<K, CompletableFuture<V>> getSegment(final K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+}
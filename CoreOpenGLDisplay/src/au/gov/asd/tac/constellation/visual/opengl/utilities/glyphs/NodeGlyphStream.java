@@ -67,4 +67,17 @@ public class NodeGlyphStream implements GlyphManager.GlyphStream {
         currentInts.trimToSize();
     }
 
+    /**
+     * Appends the glyphs of another stream to the end of this stream.
+     * <p>
+     * This allows separate ranges of nodes to be buffered into their own
+     * streams by different threads and then joined in order.
+     *
+     * @param other the stream whose glyphs are appended.
+     */
+    public void append(final NodeGlyphStream other) {
+        currentFloats.addAll(other.currentFloats);
+        currentInts.addAll(other.currentInts);
+    }
+
 }
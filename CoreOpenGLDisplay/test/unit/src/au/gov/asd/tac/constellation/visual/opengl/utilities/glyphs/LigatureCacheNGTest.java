@@ -0,0 +1,172 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.visual.opengl.utilities.glyphs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test the bounded cache used to hold shaped text.
+ *
+ * @author sirius
+ */
+public class LigatureCacheNGTest {
+
+    /**
+     * Cached values are returned without being built again, and hits and
+     * misses are counted.
+     */
+    @Test
+    public void testGet() {
+        System.out.println("testGet");
+
+        final LigatureCache<String, String> instance = new LigatureCache<>(10, 1);
+        final AtomicInteger builds = new AtomicInteger();
+
+        final String value = instance.get("a", key -> {
+            builds.incrementAndGet();
+            return key + key;
+        });
+        assertEquals(value, "aa");
+        assertSame(instance.get("a", key -> key), value);
+        assertEquals(builds.get(), 1);
+        assertEquals(instance.getHitCount(), 1L);
+        assertEquals(instance.getMissCount(), 1L);
+        assertEquals(instance.size(), 1);
+
+        instance.clear();
+        assertEquals(instance.size(), 0);
+        assertEquals(instance.get("a", key -> key), "a");
+        assertEquals(instance.getMissCount(), 2L);
+    }
+
+    /**
+     * The least recently used values are removed once the cache is full.
+     */
+    @Test
+    public void testEviction() {
+        System.out.println("testEviction");
+
+        final LigatureCache<String, String> instance = new LigatureCache<>(2, 1);
+        instance.get("a", key -> key);
+        instance.get("b", key -> key);
+        instance.get("a", key -> key);
+        instance.get("c", key -> key);
+        assertEquals(instance.size(), 2);
+
+        // "b" was the least recently used, so it must be built again
+        final long misses = instance.getMissCount();
+        instance.get("a", key -> key);
+        instance.get("c", key -> key);
+        assertEquals(instance.getMissCount(), misses);
+        instance.get("b", key -> key);
+        assertEquals(instance.getMissCount(), misses + 1);
+    }
+
+    /**
+     * The cache stays within its capacity when used from many threads.
+     */
+    @Test
+    public void testConcurrentGet() {
+        System.out.println("testConcurrentGet");
+
+        final LigatureCache<Integer, String> instance = new LigatureCache<>(100, 8);
+        assertEquals(instance.getCapacity(), 104);
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            final int key = i % 500;
+            assertEquals(instance.get(key, String::valueOf), String.valueOf(key));
+        });
+        assertTrue(instance.size() <= instance.getCapacity());
+        assertEquals(instance.getHitCount() + instance.getMissCount(), 10_000L);
+    }
+
+    /**
+     * A value requested by several threads at once is only built once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrentMissBuildsOnce() throws Exception {
+        System.out.println("testConcurrentMissBuildsOnce");
+
+        final LigatureCache<String, String> instance = new LigatureCache<>(10, 1);
+        final AtomicInteger builds = new AtomicInteger();
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> instance.get("a", key -> {
+                builds.incrementAndGet();
+                building.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return key + key;
+            })));
+            building.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> instance.get("a", key -> {
+                    builds.incrementAndGet();
+                    return key;
+                })));
+            }
+            release.countDown();
+
+            for (final Future<String> result : results) {
+                assertEquals(result.get(5, TimeUnit.SECONDS), "aa");
+            }
+            assertEquals(builds.get(), 1);
+            assertEquals(instance.getMissCount(), 1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A value that fails to build is not cached.
+     */
+    @Test
+    public void testGetFailed() {
+        System.out.println("testGetFailed");
+
+        final LigatureCache<String, String> instance = new LigatureCache<>(10, 1);
+        try {
+            instance.get("a", key -> {
+                throw new IllegalStateException("build failed");
+            });
+            fail("Expected the build failure to be thrown");
+        } catch (final IllegalStateException ex) {
+            assertEquals(ex.getMessage(), "build failed");
+        }
+        assertEquals(instance.size(), 0);
+        assertEquals(instance.get("a", key -> key), "a");
+    }
+}
@@ -81,6 +81,18 @@ public final class ApplicationPreferenceKeys {
     public static final String AUTOSAVE_SCHEDULE = "autosaveSchedule";
     public static final int AUTOSAVE_SCHEDULE_DEFAULT = 5;
 
+    /**
+     * Undo memory budget per graph, in megabytes.
+     */
+    public static final String UNDO_MEMORY_BUDGET = "undoMemoryBudget";
+    public static final int UNDO_MEMORY_BUDGET_DEFAULT = 256;
+
+    /**
+     * Save graphs in binary columnar format rather than JSON.
+     */
+    public static final String BINARY_GRAPH_FORMAT = "binaryGraphFormat";
+    public static final boolean BINARY_GRAPH_FORMAT_DEFAULT = false;
+
     /**
      * Whats New window.
      */
@@ -16,17 +16,22 @@
 package au.gov.asd.tac.constellation.views.qualitycontrol.daemon;
 
 import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.ReadableGraph;
 import au.gov.asd.tac.constellation.graph.manager.GraphManager;
 import au.gov.asd.tac.constellation.graph.manager.GraphManagerListener;
 import au.gov.asd.tac.constellation.graph.monitor.GraphChangeEvent;
 import au.gov.asd.tac.constellation.graph.monitor.GraphChangeListener;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.AnalyticConcept;
+import au.gov.asd.tac.constellation.graph.schema.attribute.SchemaAttribute;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.PluginExecution;
 import au.gov.asd.tac.constellation.views.qualitycontrol.rules.QualityControlRule;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
@@ -47,17 +52,27 @@ public final class QualityControlAutoVetter implements GraphManagerListener, Gra
     private static QualityControlAutoVetter instance = null;
     private static final List<QualityControlAutoVetterListener> buttonListeners = new ArrayList<>();
 
+    // The vertex attributes whose values quality control depends on.
+    private static final List<SchemaAttribute> RELEVANT_ATTRIBUTES = List.of(
+            VisualConcept.VertexAttribute.SELECTED,
+            VisualConcept.VertexAttribute.IDENTIFIER,
+            AnalyticConcept.VertexAttribute.TYPE,
+            AnalyticConcept.VertexAttribute.RAW
+    );
+
     private QualityControlState state;
 
     private Graph currentGraph;
     private long lastGlobalModificationCounter;
     private long lastCameraModificationCounter;
     private long lastAttributeModificationCounter;
+    private long[] lastRelevantModificationCounters;
 
     private final List<QualityControlListener> listeners;
 
     private static List<QualityControlRule> rules = null;
     private static List<QualityControlRule> uRules = null;
+    private static final QualityControlRuleCache ruleCache = new QualityControlRuleCache();
 
     /**
      * Constructor for QualityControlAutoVetter.
@@ -130,7 +145,9 @@ public final class QualityControlAutoVetter implements GraphManagerListener, Gra
      * The graph has changed, so we might have to re-vet quality control.
      * <p>
      * Rather than just check the graph every time it changes, we do some optimisation; we only update quality control
-     * if something (possibly) relevant has changed. For instance, changing colors has no effect on quality control.
+     * if something (possibly) relevant has changed. For instance, changing colors, positions or the camera has no effect
+     * on quality control, so only changes to the structure, the attributes, or the values of the selected, identifier,
+     * type and raw attributes are considered relevant.
      * <p>
      * <b>IMPORTANT</b>: the set of attributes checked here MUST contain the attributes that are checked in
      * {@link #updateQualityControlState} below, otherwise changes of relevant values won't cause a quality control
@@ -154,22 +171,43 @@ public final class QualityControlAutoVetter implements GraphManagerListener, Gra
             final long thisGlobalModificationCounter = readableGraph.getGlobalModificationCounter();
             final long thisCameraModificationCounter = readableGraph.getValueModificationCounter(cameraAttribute);
             final long thisAttributeModificationCounter = readableGraph.getAttributeModificationCounter();
+            final long[] thisRelevantModificationCounters = getRelevantModificationCounters(readableGraph);
 
             if (thisGlobalModificationCounter == lastGlobalModificationCounter) {
                 return;
             }
             
-            if (lastGlobalModificationCounter == -1 || lastCameraModificationCounter == thisCameraModificationCounter || lastAttributeModificationCounter != thisAttributeModificationCounter) {
+            if (lastGlobalModificationCounter == -1 || lastAttributeModificationCounter != thisAttributeModificationCounter || !Arrays.equals(lastRelevantModificationCounters, thisRelevantModificationCounters)) {
                 updateQualityControlState(graph);
             }
 
             lastGlobalModificationCounter = thisGlobalModificationCounter;
             lastCameraModificationCounter = thisCameraModificationCounter;
             lastAttributeModificationCounter = thisAttributeModificationCounter;
+            lastRelevantModificationCounters = thisRelevantModificationCounters;
 
         }
     }
 
+    /**
+     * Collect the modification counters of everything quality control depends on: the structure of the graph and the
+     * values of each relevant attribute. The counters are compared as a whole rather than combined, so a change to any
+     * one of them is seen even if others have gone down, for example when an attribute is removed and added again.
+     *
+     * @param graph The graph to read the modification counters from.
+     * @return The structure modification counter followed by the value modification counter of each relevant
+     * attribute, or -1 for an attribute which is not on the graph.
+     */
+    private static long[] getRelevantModificationCounters(final GraphReadMethods graph) {
+        final long[] relevantModificationCounters = new long[RELEVANT_ATTRIBUTES.size() + 1];
+        relevantModificationCounters[0] = graph.getStructureModificationCounter();
+        for (int i = 0; i < RELEVANT_ATTRIBUTES.size(); i++) {
+            final int attributeId = RELEVANT_ATTRIBUTES.get(i).get(graph);
+            relevantModificationCounters[i + 1] = attributeId == Graph.NOT_FOUND ? -1 : graph.getValueModificationCounter(attributeId);
+        }
+        return relevantModificationCounters;
+    }
+
     protected Graph getCurrentGraph() {
         return currentGraph;
     }
@@ -236,6 +274,24 @@ public final class QualityControlAutoVetter implements GraphManagerListener, Gra
         return uRules;
     }
 
+    /**
+     * The cache of rule outcomes used when updating the quality control state.
+     *
+     * @return The cache of rule outcomes.
+     */
+    protected static QualityControlRuleCache getRuleCache() {
+        return ruleCache;
+    }
+
+    /**
+     * The time taken by each rule the last time it was executed.
+     *
+     * @return A map of rules to the time in milliseconds each took to execute.
+     */
+    public static Map<QualityControlRule, Long> getRuleExecutionTimes() {
+        return ruleCache.getExecutionTimes();
+    }
+
     /**
      * The current quality control state.
      *
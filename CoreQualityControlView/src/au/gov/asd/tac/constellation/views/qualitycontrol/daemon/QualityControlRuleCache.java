@@ -0,0 +1,191 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.qualitycontrol.daemon;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.AnalyticConcept;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import au.gov.asd.tac.constellation.views.qualitycontrol.rules.QualityControlRule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of the outcome of each {@link QualityControlRule} for each vertex in the current graph.
+ * <p>
+ * Rules depend only on the identifier, type and raw values of a vertex, so the cached outcomes for a vertex remain
+ * valid until one of those values changes. When the value modification counters of these attributes have not moved
+ * since the last run, no vertex needs checking at all; otherwise only the vertices whose values actually differ from
+ * those recorded are checked again. Adding or removing attributes, or switching graphs, discards the whole cache.
+ * <p>
+ * Rules are independent of each other, so each rule is executed as a separate task against the same read lock. The
+ * time taken by each rule in the most recent run is recorded.
+ *
+ * @author sirius
+ */
+public class QualityControlRuleCache {
+
+    private String graphId = null;
+    private long attributeModificationCounter = Long.MIN_VALUE;
+    private long[] valueModificationCounters = null;
+
+    // The identifier, type and raw values of each vertex at the time its outcomes were cached.
+    private Object[] identifiers = new Object[0];
+    private Object[] types = new Object[0];
+    private Object[] raws = new Object[0];
+
+    // The vertices whose recorded values are known to match the graph as of the recorded modification counters.
+    private final BitSet current = new BitSet();
+
+    private final Map<QualityControlRule, RuleOutcomes> outcomes = new HashMap<>();
+    private final Map<QualityControlRule, Long> executionTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Execute the given rules against the given vertices, reusing the cached outcome for any vertex that has not
+     * changed since it was last checked. The results of each rule are replaced with the vertices that matched it.
+     *
+     * @param graph The graph to execute the rules on.
+     * @param vertexIds The ids of the vertices to execute the rules on.
+     * @param rules The rules to execute.
+     * @throws InterruptedException if interrupted while waiting for the rules to finish.
+     * @throws ExecutionException if one of the rules fails, wrapping the exception it threw.
+     */
+    public synchronized void executeRules(final GraphReadMethods graph, final int[] vertexIds, final List<QualityControlRule> rules) throws InterruptedException, ExecutionException {
+        if (!Objects.equals(graphId, graph.getId()) || attributeModificationCounter != graph.getAttributeModificationCounter()) {
+            clear();
+            graphId = graph.getId();
+            attributeModificationCounter = graph.getAttributeModificationCounter();
+        }
+
+        invalidateChangedVertices(graph, vertexIds);
+
+        final List<Callable<Void>> tasks = new ArrayList<>(rules.size());
+        for (final QualityControlRule rule : rules) {
+            final RuleOutcomes ruleOutcomes = outcomes.computeIfAbsent(rule, r -> new RuleOutcomes());
+            tasks.add(() -> {
+                final long start = System.nanoTime();
+                rule.clearResults();
+                for (final int vertexId : vertexIds) {
+                    if (!ruleOutcomes.evaluated.get(vertexId)) {
+                        // only record the outcome once the rule has returned, so a failed check is not cached
+                        ruleOutcomes.matched.set(vertexId, rule.matches(graph, vertexId));
+                        ruleOutcomes.evaluated.set(vertexId);
+                    }
+                    if (ruleOutcomes.matched.get(vertexId)) {
+                        rule.addResult(vertexId);
+                    }
+                }
+                executionTimes.put(rule, System.nanoTime() - start);
+                return null;
+            });
+        }
+
+        for (final Future<Void> future : ConstellationGlobalThreadPool.getThreadPool().getFixedThreadPool().invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    /**
+     * Compare the recorded values of each of the given vertices against the graph, discarding the cached outcomes of
+     * any vertex whose values have changed.
+     */
+    private void invalidateChangedVertices(final GraphReadMethods graph, final int[] vertexIds) {
+        final int identifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.get(graph);
+        final int typeAttribute = AnalyticConcept.VertexAttribute.TYPE.get(graph);
+        final int rawAttribute = AnalyticConcept.VertexAttribute.RAW.get(graph);
+
+        final long[] newValueModificationCounters = new long[]{
+            graph.getStructureModificationCounter(),
+            identifierAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(identifierAttribute),
+            typeAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(typeAttribute),
+            rawAttribute == Graph.NOT_FOUND ? Graph.NOT_FOUND : graph.getValueModificationCounter(rawAttribute)
+        };
+        if (!Arrays.equals(valueModificationCounters, newValueModificationCounters)) {
+            current.clear();
+            valueModificationCounters = newValueModificationCounters;
+        }
+
+        final int capacity = graph.getVertexCapacity();
+        if (identifiers.length < capacity) {
+            identifiers = Arrays.copyOf(identifiers, capacity);
+            types = Arrays.copyOf(types, capacity);
+            raws = Arrays.copyOf(raws, capacity);
+        }
+
+        for (final int vertexId : vertexIds) {
+            if (!current.get(vertexId)) {
+                final Object identifier = identifierAttribute == Graph.NOT_FOUND ? null : graph.getStringValue(identifierAttribute, vertexId);
+                final Object type = typeAttribute == Graph.NOT_FOUND ? null : graph.getObjectValue(typeAttribute, vertexId);
+                final Object raw = rawAttribute == Graph.NOT_FOUND ? null : graph.getStringValue(rawAttribute, vertexId);
+                if (!Objects.equals(identifiers[vertexId], identifier) || !Objects.equals(types[vertexId], type) || !Objects.equals(raws[vertexId], raw)) {
+                    identifiers[vertexId] = identifier;
+                    types[vertexId] = type;
+                    raws[vertexId] = raw;
+                    for (final RuleOutcomes ruleOutcomes : outcomes.values()) {
+                        ruleOutcomes.evaluated.clear(vertexId);
+                    }
+                }
+                current.set(vertexId);
+            }
+        }
+    }
+
+    /**
+     * Discard all cached outcomes.
+     */
+    public synchronized void clear() {
+        graphId = null;
+        attributeModificationCounter = Long.MIN_VALUE;
+        valueModificationCounters = null;
+        identifiers = new Object[0];
+        types = new Object[0];
+        raws = new Object[0];
+        current.clear();
+        outcomes.clear();
+    }
+
+    /**
+     * The time taken by each rule the last time it was executed.
+     *
+     * @return A map of rules to the time in milliseconds each took to execute.
+     */
+    public Map<QualityControlRule, Long> getExecutionTimes() {
+        final Map<QualityControlRule, Long> executionTimesMillis = new HashMap<>();
+        executionTimes.forEach((rule, nanos) -> executionTimesMillis.put(rule, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        return Collections.unmodifiableMap(executionTimesMillis);
+    }
+
+    /**
+     * The cached outcomes of a single rule, indexed by vertex id.
+     */
+    private static class RuleOutcomes {
+
+        private final BitSet evaluated = new BitSet();
+        private final BitSet matched = new BitSet();
+    }
+}
@@ -23,6 +23,7 @@ import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.PluginException;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
 import au.gov.asd.tac.constellation.plugins.PluginInteraction;
+import au.gov.asd.tac.constellation.plugins.PluginNotificationLevel;
 import au.gov.asd.tac.constellation.plugins.PluginType;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
@@ -30,8 +31,10 @@ import au.gov.asd.tac.constellation.plugins.templates.SimpleReadPlugin;
 import au.gov.asd.tac.constellation.views.qualitycontrol.QualityControlEvent;
 import au.gov.asd.tac.constellation.views.qualitycontrol.rules.QualityControlRule;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  *
@@ -45,7 +48,8 @@ public class QualityControlStateUpdater extends SimpleReadPlugin {
     @Override
     public void read(final GraphReadMethods graph, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException, PluginException {
         final List<QualityControlRule> registeredRules = new ArrayList<>();
-        final List<Integer> vertexList = new ArrayList<>();
+        int[] vertexList = new int[0];
+        int vertexCount = 0;
         final List<String> identifierList = new ArrayList<>();
         final List<SchemaVertexType> typeList = new ArrayList<>();
 
@@ -58,6 +62,7 @@ public class QualityControlStateUpdater extends SimpleReadPlugin {
                     && identifierAttribute != Graph.NOT_FOUND
                     && typeAttribute != Graph.NOT_FOUND) {
                 final int vxCount = graph.getVertexCount();
+                vertexList = new int[vxCount];
                 for (int position = 0; position < vxCount; position++) {
                     final int vertex = graph.getVertex(position);
                     final String identifier = graph.getStringValue(identifierAttribute, vertex);
@@ -65,22 +70,27 @@ public class QualityControlStateUpdater extends SimpleReadPlugin {
                     final boolean selected = graph.getBooleanValue(selectedAttribute, vertex);
 
                     if (selected) {
-                        vertexList.add(vertex);
+                        vertexList[vertexCount++] = vertex;
                         identifierList.add(identifier);
                         typeList.add(type);
                     }
                 }
             }
 
-            // Set up and run each rule.
-            if (!vertexList.isEmpty()) {
+            // Set up and run each rule, reusing the outcomes of previous runs for unchanged vertices.
+            if (vertexCount > 0) {
                 for (final QualityControlRule rule : QualityControlAutoVetter.getRules()) {
-                    rule.clearResults();
                     if (rule.isEnabled()) {
-                        rule.executeRule(graph, vertexList);
                         registeredRules.add(rule);
+                    } else {
+                        rule.clearResults();
                     }
                 }
+                try {
+                    QualityControlAutoVetter.getRuleCache().executeRules(graph, Arrays.copyOf(vertexList, vertexCount), registeredRules);
+                } catch (final ExecutionException ex) {
+                    throw new PluginException(PluginNotificationLevel.ERROR, ex.getCause());
+                }
             }
 
             final List<QualityControlRule> uRegisteredRules = Collections.unmodifiableList(registeredRules);
@@ -88,9 +98,9 @@ public class QualityControlStateUpdater extends SimpleReadPlugin {
             // Build quality control events based on results of rules.
             // Sort by descending risk.
             final List<QualityControlEvent> qualityControlEvents = new ArrayList<>();
-            for (int i = 0; i < vertexList.size(); i++) {
+            for (int i = 0; i < vertexCount; i++) {
                 final QualityControlEvent qualityControlEvent = new QualityControlEvent(
-                        vertexList.get(i),
+                        vertexList[i],
                         identifierList.get(i), typeList.get(i),
                         uRegisteredRules
                 );
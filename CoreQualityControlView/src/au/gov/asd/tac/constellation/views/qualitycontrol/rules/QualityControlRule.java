@@ -27,6 +27,9 @@ import org.openide.util.Lookup;
 
 /**
  * A Rule is a class defining a test to be run by the Quality Control View.
+ * <p>
+ * The Quality Control View caches the outcome of each Rule for each vertex, and only checks a vertex again when its
+ * identifier, type or raw value changes. A Rule should therefore only depend on these attributes of a vertex.
  *
  * @author cygnus_x-1
  */
@@ -147,6 +150,28 @@ public abstract class QualityControlRule {
         });
     }
 
+    /**
+     * Check a single vertex against this Rule without adding it to the results of this Rule.
+     *
+     * @param graph A {@link GraphReadMethods} on which to execute this Rule.
+     * @param vertexId The id of the vertex on which to execute this Rule.
+     * @return True if the vertex matched this Rule, false otherwise.
+     */
+    public boolean matches(final GraphReadMethods graph, final int vertexId) {
+        return executeRule(graph, vertexId);
+    }
+
+    /**
+     * Add a vertex to the results of this Rule.
+     * <p>
+     * This allows the outcome of a previous check of the vertex to be reused, rather than checking it again.
+     *
+     * @param vertexId The id of a vertex which matched this Rule.
+     */
+    public void addResult(final int vertexId) {
+        results.add(vertexId);
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.qualitycontrol.daemon;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.AnalyticConcept;
+import au.gov.asd.tac.constellation.graph.schema.visual.VisualSchemaFactory;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.views.qualitycontrol.rules.QualityControlRule;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Quality Control Rule Cache Test.
+ *
+ * @author sirius
+ */
+public class QualityControlRuleCacheNGTest {
+
+    private Graph graph;
+    private int identifierAttribute;
+    private int vxId1;
+    private int vxId2;
+    private int vxId3;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        graph = new DualGraph(SchemaFactoryUtilities.getSchemaFactory(VisualSchemaFactory.VISUAL_SCHEMA_ID).createSchema());
+        final WritableGraph wg = graph.getWritableGraph("Add Elements", true);
+        try {
+            identifierAttribute = VisualConcept.VertexAttribute.IDENTIFIER.ensure(wg);
+            AnalyticConcept.VertexAttribute.TYPE.ensure(wg);
+
+            vxId1 = wg.addVertex();
+            vxId2 = wg.addVertex();
+            vxId3 = wg.addVertex();
+            wg.setStringValue(identifierAttribute, vxId1, "bad1");
+            wg.setStringValue(identifierAttribute, vxId2, "good2");
+            wg.setStringValue(identifierAttribute, vxId3, "bad3");
+        } finally {
+            wg.commit();
+        }
+    }
+
+    /**
+     * Test of executeRules method, of class QualityControlRuleCache.
+     */
+    @Test
+    public void testExecuteRules() throws Exception {
+        System.out.println("executeRules");
+
+        final CountingRule rule = new CountingRule();
+        final QualityControlRuleCache instance = new QualityControlRuleCache();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+        }
+        assertEquals(rule.getResults(), Set.of(vxId1));
+        assertEquals(rule.count, 2);
+        assertTrue(instance.getExecutionTimes().containsKey(rule));
+    }
+
+    /**
+     * Test of executeRules method, of class QualityControlRuleCache, reusing
+     * outcomes for unchanged vertices.
+     */
+    @Test
+    public void testExecuteRulesReusesOutcomes() throws Exception {
+        System.out.println("executeRulesReusesOutcomes");
+
+        final CountingRule rule = new CountingRule();
+        final QualityControlRuleCache instance = new QualityControlRuleCache();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+
+            // nothing has changed, so only the newly requested vertex is checked
+            instance.executeRules(rg, new int[]{vxId1, vxId2, vxId3}, List.of(rule));
+        }
+        assertEquals(rule.getResults(), Set.of(vxId1, vxId3));
+        assertEquals(rule.count, 3);
+
+        final WritableGraph wg = graph.getWritableGraph("Change Identifier", true);
+        try {
+            wg.setStringValue(identifierAttribute, vxId2, "bad2");
+        } finally {
+            wg.commit();
+        }
+
+        // only the vertex whose identifier changed is checked again
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.executeRules(rg, new int[]{vxId1, vxId2, vxId3}, List.of(rule));
+        }
+        assertEquals(rule.getResults(), Set.of(vxId1, vxId2, vxId3));
+        assertEquals(rule.count, 4);
+    }
+
+    /**
+     * Test of clear method, of class QualityControlRuleCache.
+     */
+    @Test
+    public void testClear() throws Exception {
+        System.out.println("clear");
+
+        final CountingRule rule = new CountingRule();
+        final QualityControlRuleCache instance = new QualityControlRuleCache();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+            instance.clear();
+            instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+        }
+        assertEquals(rule.getResults(), Set.of(vxId1));
+        assertEquals(rule.count, 4);
+    }
+
+    /**
+     * Test of executeRules method, of class QualityControlRuleCache, when a
+     * rule fails.
+     */
+    @Test
+    public void testExecuteRulesFailed() throws Exception {
+        System.out.println("executeRulesFailed");
+
+        final CountingRule rule = new CountingRule();
+        rule.failing = true;
+        final QualityControlRuleCache instance = new QualityControlRuleCache();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            try {
+                instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+                fail("Expected the rule to fail");
+            } catch (final ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof IllegalStateException);
+            }
+
+            // the failed check was not cached, so the vertex is checked again
+            rule.failing = false;
+            instance.executeRules(rg, new int[]{vxId1, vxId2}, List.of(rule));
+        }
+        assertEquals(rule.getResults(), Set.of(vxId1));
+        assertEquals(rule.count, 2);
+    }
+
+    /**
+     * A rule matching identifiers starting with "bad", which counts how many
+     * vertices it has checked, and which can be made to fail.
+     */
+    private static class CountingRule extends QualityControlRule {
+
+        private int count = 0;
+        private boolean failing = false;
+
+        @Override
+        public String getName() {
+            return "Counting Rule";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Counting Rule";
+        }
+
+        @Override
+        public int getQuality(final int vertexId) {
+            return 1;
+        }
+
+        @Override
+        protected boolean executeRule(final GraphReadMethods graph, final int vertexId) {
+            if (failing) {
+                throw new IllegalStateException("Rule failed");
+            }
+            count++;
+            final String identifier = graph.getStringValue(VisualConcept.VertexAttribute.IDENTIFIER.get(graph), vertexId);
+            return identifier != null && identifier.startsWith("bad");
+        }
+    }
+}
@@ -35,6 +35,7 @@ import au.gov.asd.tac.constellation.views.tableview.state.TableViewConcept;
 import au.gov.asd.tac.constellation.views.tableview.state.TableViewState;
 import au.gov.asd.tac.constellation.views.tableview.tasks.TriggerDataUpdateTask;
 import au.gov.asd.tac.constellation.views.tableview.tasks.TriggerSelectionUpdateTask;
+import au.gov.asd.tac.constellation.views.tableview.tasks.TriggerValueUpdateTask;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -397,12 +398,12 @@ public final class TableViewTopComponent extends JavaFxTopComponent<TablePane> {
 
         // Add attribute handlers that detect changes to the graph attributes that
         // represent visible columns in the table. When these attributes change,
-        // the table should have its data refreshed
+        // the table should have its values refreshed
         if (currentState != null && currentState.getColumnAttributes() != null && !addedColumnAttributes.isEmpty()) {
             addedColumnAttributes.forEach(attributeTuple
                     -> columnAttributeMonitors.add(addAttributeValueChangeHandler(attributeTuple.getSecond().getElementType(),
                             attributeTuple.getSecond().getName(),
-                            g -> executorService.submit(new TriggerDataUpdateTask(pane, g, getCurrentState())))
+                            g -> executorService.submit(new TriggerValueUpdateTask(pane, g, getCurrentState())))
                     )
             );
         }
@@ -18,11 +18,14 @@ package au.gov.asd.tac.constellation.views.tableview.components;
 import au.gov.asd.tac.constellation.views.tableview.panes.TablePane;
 import au.gov.asd.tac.constellation.utilities.icon.UserInterfaceIconProvider;
 import au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities;
+import java.util.List;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.geometry.Side;
 import javafx.scene.control.MenuButton;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.TableView;
 import javafx.scene.image.ImageView;
 
 /**
@@ -155,9 +158,14 @@ public class CopyMenu {
          */
         @Override
         public void handle(final ActionEvent event) {
-            final String data = TableViewUtilities.getTableData(tablePane.getTable().getTableView(),
-                    tablePane.getActiveTableReference().getPagination(), false, selected);
-            TableViewUtilities.copyToClipboard(data);
+            // The rows are gathered from the pages of the table here, but their
+            // cells are read from the graph in the background
+            final TableView<ObservableList<String>> tableView = tablePane.getTable().getTableView();
+            final List<ObservableList<String>> rows = TableViewUtilities.getTableRows(tableView,
+                    tablePane.getActiveTableReference().getPagination(), selected);
+            final int[] columns = TableViewUtilities.getVisibleColumnIndices(tableView);
+            TableViewUtilities.copyToClipboard(() -> TableViewUtilities.getTableData(null, rows, columns),
+                    tablePane.getParentComponent().getExecutorService());
             event.consume();
         }
     }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.tableview.components;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * A row of the table representing a single vertex or transaction in the graph.
+ * <p/>
+ * The row only holds the ID of its element. The text of its cells is read from
+ * the graph by its {@link TableRowModel} when the cells are requested, so a row
+ * costs the same amount of memory no matter how many columns the table has.
+ * <p/>
+ * Rows are unmodifiable and are compared by identity rather than by the text of
+ * their cells, so that they can be used as keys in the
+ * {@link au.gov.asd.tac.constellation.views.tableview.api.ActiveTableReference}
+ * maps without reading their cells.
+ *
+ * @author sirius
+ */
+public final class ElementRow extends ObservableListBase<String> {
+
+    private final TableRowModel model;
+    private final int elementId;
+    private final int position;
+
+    /**
+     * Creates a new row. Rows should be created with
+     * {@link TableRowModel#createRow(int)}.
+     *
+     * @param model the model that reads the cells of this row
+     * @param elementId the ID of the vertex or transaction this row represents
+     * @param position the position of this row in the model
+     */
+    ElementRow(final TableRowModel model, final int elementId, final int position) {
+        this.model = model;
+        this.elementId = elementId;
+        this.position = position;
+    }
+
+    /**
+     * Gets the model that reads the cells of this row.
+     *
+     * @return the row model
+     */
+    public TableRowModel getModel() {
+        return model;
+    }
+
+    /**
+     * Gets the ID of the vertex or transaction this row represents.
+     *
+     * @return the element ID
+     */
+    public int getElementId() {
+        return elementId;
+    }
+
+    /**
+     * Gets the position of this row in the order the rows were created by its
+     * model.
+     *
+     * @return the position of the row
+     */
+    int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String get(final int index) {
+        return model.getCellText(this, index);
+    }
+
+    @Override
+    public int size() {
+        return model.getColumnCount();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
@@ -17,11 +17,15 @@ package au.gov.asd.tac.constellation.views.tableview.components;
 
 import au.gov.asd.tac.constellation.utilities.text.SeparatorConstants;
 import au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TableCell;
+import javafx.scene.control.TableView;
 
 /**
  * Creates a context menu that will appear when right clicking in a table cell.
@@ -82,20 +86,13 @@ public class RightClickContextMenu {
 
         copyColumn = new MenuItem(COPY_COLUMN);
         copyColumn.setOnAction(e -> {
-            final String columnData = table.getTableView().getItems().stream()
-                    .map(item -> cell.getTableColumn().getCellObservableValue(item).getValue())
-                    .reduce((cell1, cell2) -> cell1 + SeparatorConstants.COMMA + cell2).get();
-            TableViewUtilities.copyToClipboard(columnData);
+            copyColumn(cell, false);
             e.consume();
         });
 
         copyColumnUnique = new MenuItem(COPY_COLUMN_UNIQUE);
         copyColumnUnique.setOnAction(e -> {
-            final String uniqueColumnData = table.getTableView().getItems().stream()
-                    .map(item -> cell.getTableColumn().getCellObservableValue(item).getValue())
-                    .collect(Collectors.toSet()).stream()
-                    .reduce((cell1, cell2) -> cell1 + SeparatorConstants.COMMA + cell2).get();
-            TableViewUtilities.copyToClipboard(uniqueColumnData);
+            copyColumn(cell, true);
             e.consume();
         });
 
@@ -103,6 +100,27 @@ public class RightClickContextMenu {
         contextMenu.getItems().addAll(copyCell, copyRow, copyColumn, copyColumnUnique);
     }
 
+    /**
+     * Copies the values in the column of the given cell to the OS clipboard.
+     * The rows of the table are gathered here, but their cells are read from
+     * the graph in the background so that the JavaFX thread does not wait for
+     * a lock on the graph.
+     *
+     * @param cell the table cell that was clicked
+     * @param unique true if each value should only be copied once
+     */
+    private void copyColumn(final TableCell<ObservableList<String>, String> cell, final boolean unique) {
+        final TableView<ObservableList<String>> tableView = table.getTableView();
+        final List<ObservableList<String>> rows = new ArrayList<>(tableView.getItems());
+        final int[] columns = {tableView.getColumns().indexOf(cell.getTableColumn())};
+        TableViewUtilities.copyToClipboard(() -> {
+            final Stream<String> values = TableRowModel.getRowText(rows, columns).stream()
+                    .map(rowText -> rowText[0]);
+            return (unique ? values.distinct() : values)
+                    .collect(Collectors.joining(SeparatorConstants.COMMA));
+        }, table.getParentComponent().getParentComponent().getExecutorService());
+    }
+
     /**
      * Get the context menu containing the copy options.
      *
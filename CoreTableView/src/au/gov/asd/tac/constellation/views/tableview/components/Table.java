@@ -19,10 +19,9 @@ import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.GraphAttribute;
 import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.ReadableGraph;
-import au.gov.asd.tac.constellation.graph.attribute.interaction.AbstractAttributeInteraction;
 import au.gov.asd.tac.constellation.graph.processing.GraphRecordStoreUtilities;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
-import au.gov.asd.tac.constellation.utilities.datastructure.ImmutableObjectCache;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
 import static au.gov.asd.tac.constellation.views.tableview.TableViewTopComponent.TABLE_LOCK;
 import au.gov.asd.tac.constellation.views.tableview.api.ActiveTableReference;
 import au.gov.asd.tac.constellation.views.tableview.api.Column;
@@ -47,7 +46,6 @@ import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.value.ChangeListener;
-import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -79,10 +77,16 @@ public class Table {
     private final ListChangeListener selectedOnlySelectionListener;
 
     /**
-     * Cache strings used in table cells to significantly reduce memory used by
-     * the same string repeated in columns and rows.
+     * Reads the cells of the current rows from the graph as they are displayed.
      */
-    private final ImmutableObjectCache displayTextCache;
+    private volatile TableRowModel rowModel;
+
+    /**
+     * The positions in the column index of the columns the table is sorted by.
+     * The sort order belongs to the JavaFX thread, so it is copied here when it
+     * changes for the row model to read from other threads.
+     */
+    private volatile int[] sortedColumns = new int[0];
 
     private final UpdateColumnsTask updateColumnsTask;
 
@@ -100,8 +104,6 @@ public class Table {
         this.tableView.setPadding(new Insets(5));
         this.tableView.setCache(false);
 
-        this.displayTextCache = new ImmutableObjectCache();
-
         this.updateColumnsTask = new UpdateColumnsTask(this);
 
         this.tableSelectionListener = new TableSelectionListener(this);
@@ -111,6 +113,9 @@ public class Table {
                 .addListener(tableSelectionListener);
         this.tableView.getSelectionModel().getSelectedItems()
                 .addListener(selectedOnlySelectionListener);
+
+        this.tableView.getSortOrder().addListener((ListChangeListener<TableColumn<ObservableList<String>, ?>>) change -> updateSortedColumns());
+        this.tableView.getColumns().addListener((ListChangeListener<TableColumn<ObservableList<String>, ?>>) change -> updateSortedColumns());
     }
 
     /**
@@ -202,14 +207,21 @@ public class Table {
                 getColumnIndex().sort(new ColumnIndexSort(state));
 
                 // Style and format columns in columnIndex
-                getColumnIndex().forEach(columnTuple -> {
-                    final TableColumn<ObservableList<String>, String> column = columnTuple.getTableColumn();
+                final List<Column> columnIndex = getColumnIndex();
+                for (int i = 0; i < columnIndex.size(); i++) {
+                    final TableColumn<ObservableList<String>, String> column = columnIndex.get(i).getTableColumn();
 
-                    // assign cells to columns
+                    // assign cells to columns. The cells of a row are in the order of the
+                    // column index, which stays the same when the user moves the columns.
+                    final int cellIndex = i;
                     column.setCellValueFactory(cellData -> {
-                        final int cellIndex = tableView.getColumns().indexOf(cellData.getTableColumn());
-                        if (cellIndex < cellData.getValue().size()) {
-                            return new SimpleStringProperty(cellData.getValue().get(cellIndex));
+                        final ObservableList<String> row = cellData.getValue();
+                        if (cellIndex < row.size()) {
+                            // Cells that have not been read from the graph yet are left
+                            // empty until the row model has read them in the background
+                            return new SimpleStringProperty(row instanceof ElementRow elementRow
+                                    ? elementRow.getModel().getLoadedCellText(elementRow, cellIndex)
+                                    : row.get(cellIndex));
                         } else {
                             return null;
                         }
@@ -217,7 +229,7 @@ public class Table {
 
                     // Assign values and styles to cells
                     column.setCellFactory(cellColumn -> new TableCellFactory(cellColumn, this));
-                });
+                }
 
                 // If the update has been cancelled then don't update the UI with the
                 // calculated column changes
@@ -265,9 +277,13 @@ public class Table {
                 getActiveTableReference().getElementIdToRowIndex().clear();
                 getActiveTableReference().getRowToElementIdIndex().clear();
 
-                // Build table data based on attribute values on the graph
+                // Build table rows from the elements of the graph. The cells of each
+                // row are read from the graph by the row model when they are displayed
+                rowModel = createRowModel(graph, state.getElementType());
                 final List<ObservableList<String>> rows = new ArrayList<>();
                 try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+                    rowModel.setBaseline(readableGraph);
+
                     if (state.getElementType() == GraphElementType.TRANSACTION) {
                         final int selectedAttributeId = VisualConcept.TransactionAttribute.SELECTED.get(readableGraph);
                         final int transactionCount = readableGraph.getTransactionCount();
@@ -312,6 +328,10 @@ public class Table {
                 // that cancelled this one will run through, complete and remove the progress
                 // bar.
                 if (!Thread.currentThread().isInterrupted()) {
+                    // Read the columns the table is sorted by now, so that the new rows
+                    // can be sorted as soon as they are displayed
+                    rowModel.loadSortedColumns();
+
                     final UpdateDataTask updateDataTask = new UpdateDataTask(this, rows);
                     Platform.runLater(updateDataTask);
 
@@ -327,6 +347,49 @@ public class Table {
         }
     }
 
+    /**
+     * Update the values displayed in the table after attribute values in the
+     * graph have changed.
+     * <p/>
+     * The rows of the table stay the same and only the cells of the elements
+     * that have changed are read from the graph again. If the rows themselves
+     * may have changed, because the structure of the graph or the columns have
+     * changed, or the values of a column the table is sorted by have changed,
+     * then the whole table is updated with
+     * {@link #updateData(Graph, TableViewState, ProgressBar)} instead.
+     * <p/>
+     * The entire method is synchronized so it should be thread safe.
+     *
+     * @param graph the graph to retrieve data from.
+     * @param state the current table view state.
+     * @param progressBar the progress bar to display if the whole table needs
+     * to be updated
+     */
+    public void updateValues(final Graph graph, final TableViewState state, final ProgressBar progressBar) {
+        synchronized (TABLE_LOCK) {
+            if (graph != null && state != null) {
+                if (Platform.isFxApplicationThread()) {
+                    throw new IllegalStateException(ATTEMPT_PROCESS_JAVAFX);
+                }
+
+                if (SwingUtilities.isEventDispatchThread()) {
+                    throw new IllegalStateException(ATTEMPT_PROCESS_EDT);
+                }
+
+                final TableRowModel model = getRowModel();
+                if (model != null && model.isFor(graph, state.getElementType(), getColumnIndex())
+                        && model.updateValues(graph)) {
+                    // Don't want to trigger the UI update if the update has been cancelled
+                    if (!Thread.currentThread().isInterrupted()) {
+                        Platform.runLater(tableView::refresh);
+                    }
+                } else {
+                    updateData(graph, state, progressBar);
+                }
+            }
+        }
+    }
+
     /**
      * Update the table selection using the graph and state. The selection will
      * only be updated if the graph and state are not null.
@@ -461,27 +524,86 @@ public class Table {
     }
 
     /**
-     * For a given vertex on the graph construct a row for the table give the
-     * current column settings. If the column is a transaction column then a
-     * null value will be inserted for that element of the row.
+     * Gets the model that reads the cells of the current rows from the graph.
+     *
+     * @return the current row model, or null if the table has not been
+     * populated
+     */
+    protected TableRowModel getRowModel() {
+        return rowModel;
+    }
+
+    /**
+     * Creates the model that will read the cells of the rows of the table from
+     * the graph, using the current column index.
+     *
+     * @param graph the graph to read the cells from
+     * @param elementType the type of element each row represents
+     * @return the new row model
+     */
+    protected TableRowModel createRowModel(final Graph graph, final GraphElementType elementType) {
+        return new TableRowModel(graph, elementType, getColumnIndex(), this::getSortedColumns,
+                TableRowModel.DEFAULT_CACHE_SIZE, ConstellationGlobalThreadPool.getThreadPool().getCachedThreadPool(),
+                this::cellsLoaded);
+    }
+
+    /**
+     * Gets the positions in the column index of the columns the table is sorted
+     * by. This can be called from any thread.
+     *
+     * @return the positions of the sorted columns
+     */
+    private int[] getSortedColumns() {
+        return sortedColumns;
+    }
+
+    /**
+     * Copies the sort order of the table so that it can be read by the row
+     * model from other threads. This is called on the JavaFX thread whenever
+     * the sort order or the columns change.
+     */
+    private void updateSortedColumns() {
+        final List<Column> columnIndex = getColumnIndex();
+        sortedColumns = tableView.getSortOrder().stream()
+                .mapToInt(sortColumn -> IntStream.range(0, columnIndex.size())
+                .filter(i -> columnIndex.get(i).getTableColumn() == sortColumn)
+                .findFirst()
+                .orElse(-1))
+                .filter(i -> i >= 0)
+                .toArray();
+    }
+
+    /**
+     * Displays cells that the row model has read in the background. If a
+     * column the table is sorted by was read, the rows are sorted again as
+     * they were sorted before its values were known.
+     *
+     * @param sortedColumnLoaded true if a sorted column was read
+     */
+    private void cellsLoaded(final boolean sortedColumnLoaded) {
+        Platform.runLater(() -> {
+            if (sortedColumnLoaded) {
+                tableView.sort();
+            }
+            tableView.refresh();
+        });
+    }
+
+    /**
+     * For a given vertex on the graph construct a row for the table given the
+     * current column settings. The row only holds the ID of the vertex, its
+     * cells are read from the graph by the current {@link TableRowModel} when
+     * they are displayed.
+     * <p/>
+     * During this the {@link ActiveTableReference#elementIdToRowIndex} and
+     * {@link ActiveTableReference#rowToElementIdIndex} maps are populated.
      *
      * @param readableGraph the graph to build the row from
      * @param vertexId the ID of the vertex in the graph to build the row from
      * @return the built row
      */
     protected ObservableList<String> getRowDataForVertex(final ReadableGraph readableGraph, final int vertexId) {
-        final ObservableList<String> rowData = FXCollections.observableArrayList();
-
-        getColumnIndex().forEach(column -> {
-            final int attributeId = readableGraph
-                    .getAttribute(column.getAttribute().getElementType(), column.getAttribute().getName());
-            final AbstractAttributeInteraction<?> interaction = AbstractAttributeInteraction
-                    .getInteraction(column.getAttribute().getAttributeType());
-            final Object attributeValue = readableGraph.getObjectValue(attributeId, vertexId);
-            final String displayableValue = interaction.getDisplayText(attributeValue);
-
-            rowData.add(displayableValue);
-        });
+        final ObservableList<String> rowData = getRowModel().createRow(vertexId);
 
         getActiveTableReference().getElementIdToRowIndex().put(vertexId, rowData);
         getActiveTableReference().getRowToElementIdIndex().put(rowData, vertexId);
@@ -491,9 +613,11 @@ public class Table {
 
     /**
      * For a given transaction on the graph construct a row for the table given
-     * the current column settings. In the case of source and destination
-     * columns the value entered will be sourced from the source and destination
-     * vertices respectively.
+     * the current column settings. The row only holds the ID of the
+     * transaction, its cells are read from the graph by the current
+     * {@link TableRowModel} when they are displayed. In the case of source and
+     * destination columns the value displayed will be sourced from the source
+     * and destination vertices respectively.
      * <p/>
      * During this the {@link ActiveTableReference#elementIdToRowIndex} and
      * {@link ActiveTableReference#rowToElementIdIndex} maps are populated.
@@ -504,38 +628,7 @@ public class Table {
      * @return the built row
      */
     protected ObservableList<String> getRowDataForTransaction(final ReadableGraph readableGraph, final int transactionId) {
-        final ObservableList<String> rowData = FXCollections.observableArrayList();
-
-        getColumnIndex().forEach(column -> {
-            final int attributeId = readableGraph.getAttribute(
-                    column.getAttribute().getElementType(),
-                    column.getAttribute().getName()
-            );
-            final AbstractAttributeInteraction<?> interaction = AbstractAttributeInteraction
-                    .getInteraction(column.getAttribute().getAttributeType());
-
-            final Object attributeValue;
-            if (attributeId != Graph.NOT_FOUND) {
-                attributeValue = switch (column.getAttributeNamePrefix()) {
-                    case GraphRecordStoreUtilities.SOURCE -> {
-                        final int sourceVertexId = readableGraph.getTransactionSourceVertex(transactionId);
-                        yield readableGraph.getObjectValue(attributeId, sourceVertexId);
-                    }
-                    case GraphRecordStoreUtilities.TRANSACTION -> readableGraph.getObjectValue(attributeId, transactionId);
-                    case GraphRecordStoreUtilities.DESTINATION -> {
-                        final int destinationVertexId = readableGraph.getTransactionDestinationVertex(transactionId);
-                        yield readableGraph.getObjectValue(attributeId, destinationVertexId);
-                    }
-                    default -> null;
-                };
-            } else {
-                attributeValue = null;
-            }
-            
-            // avoid duplicate strings objects and make a massivse saving on memory use
-            final String displayableValue = displayTextCache.deduplicate(interaction.getDisplayText(attributeValue));
-            rowData.add(displayableValue);
-        });
+        final ObservableList<String> rowData = getRowModel().createRow(transactionId);
 
         getActiveTableReference().getElementIdToRowIndex().put(transactionId, rowData);
         getActiveTableReference().getRowToElementIdIndex().put(rowData, transactionId);
@@ -37,14 +37,18 @@ public class TableDataComparator implements Comparator<String>, Serializable{
             return 1;
         }
         
-        try {
-            // if both strings are numeric we can do a numeric comparison
-            final Double dbl0 = Double.valueOf(str0);
-            final Double dbl1 = Double.valueOf(str1);
-            return dbl0.compareTo(dbl1);
-        } catch (final NumberFormatException nfe) {
-            // when one or both of the strings are not numeric,
-            // proceed to the next step in the comparator
+        // sorting compares every row, so avoid the cost of an exception for
+        // strings which obviously aren't numeric
+        if (mightBeNumeric(str0) && mightBeNumeric(str1)) {
+            try {
+                // if both strings are numeric we can do a numeric comparison
+                final Double dbl0 = Double.valueOf(str0);
+                final Double dbl1 = Double.valueOf(str1);
+                return dbl0.compareTo(dbl1);
+            } catch (final NumberFormatException nfe) {
+                // when one or both of the strings are not numeric,
+                // proceed to the next step in the comparator
+            }
         }
         // if both strings start with the same letter, we can strip the first character and sort on the remaining string,
         // which may be entirely numeric, in which case they can be sorted numerically
@@ -54,5 +58,28 @@ public class TableDataComparator implements Comparator<String>, Serializable{
         }
         // default functionality: do a standard string comparison
         return str0.compareTo(str1);
-    }    
+    }
+
+    /**
+     * A quick check of whether a string could be parsed by
+     * {@link Double#valueOf(String)}, based on its first and last characters.
+     * Strings for which this returns true may still not be numeric.
+     *
+     * @param str the string to check
+     * @return false if the string is definitely not numeric, true otherwise
+     */
+    private static boolean mightBeNumeric(final String str) {
+        final String trimmed = str.trim();
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        final char first = trimmed.charAt(0);
+        final char last = trimmed.charAt(trimmed.length() - 1);
+        // allow for signs, "NaN", "Infinity" and float or double suffixes
+        final boolean validFirst = Character.isDigit(first) || first == '-' || first == '+' || first == '.'
+                || first == 'N' || first == 'I';
+        final boolean validLast = Character.isDigit(last) || last == '.' || last == 'N' || last == 'y'
+                || last == 'd' || last == 'D' || last == 'f' || last == 'F';
+        return validFirst && validLast;
+    }
 }
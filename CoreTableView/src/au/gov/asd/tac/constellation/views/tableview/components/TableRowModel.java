@@ -0,0 +1,652 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.tableview.components;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.attribute.interaction.AbstractAttributeInteraction;
+import au.gov.asd.tac.constellation.graph.processing.GraphRecordStoreUtilities;
+import au.gov.asd.tac.constellation.utilities.datastructure.ImmutableObjectCache;
+import au.gov.asd.tac.constellation.views.tableview.api.Column;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javafx.collections.ObservableList;
+
+/**
+ * Reads the cells of the rows of the table from the graph as they are needed.
+ * <p/>
+ * Each row of the table is an {@link ElementRow} holding only the ID of the
+ * vertex or transaction it represents. When the cells of a row are first
+ * requested, which is usually when the {@link javafx.scene.control.TableView}
+ * lays out the row, the whole row is formatted under a single read lock of the
+ * graph and kept in a bounded cache of recently used rows. The memory used by
+ * cell text is therefore proportional to the number of rows on screen rather
+ * than the number of elements in the graph.
+ * <p/>
+ * Sorting compares a column across every row, so when a column that the table
+ * is sorted by is requested, that one column is formatted for every row in a
+ * single pass and kept until the column is no longer sorted or its values
+ * change.
+ * <p/>
+ * The JavaFX thread must not wait for a lock on the graph, so it reads cells
+ * with {@link #getLoadedCellText(ElementRow, int)}, which only returns text
+ * that has already been read and otherwise reads the row or column in the
+ * background and notifies the table when it is ready.
+ * <p/>
+ * Copying and exporting the table read many rows at once, so they use
+ * {@link #getCellText(List, int[])}, which reads every row that is not cached
+ * under a single read lock of the graph.
+ * <p/>
+ * Changes to attribute values can be applied with
+ * {@link #updateValues(Graph)}, which uses the changes recorded by the graph to
+ * discard only the cached text of the elements that have changed.
+ * <p/>
+ * The lock on this model is never held while waiting for a read lock on the
+ * graph. Text read from the graph is only kept if no values have changed since
+ * it was read.
+ *
+ * @author sirius
+ */
+public class TableRowModel {
+
+    /**
+     * The number of formatted rows to keep. This is twice the largest page size
+     * so that moving between two pages does not need to read the graph again.
+     */
+    static final int DEFAULT_CACHE_SIZE = 2000;
+
+    private final Graph graph;
+    private final GraphElementType elementType;
+    private final List<Column> columns;
+    private final Supplier<int[]> sortedColumns;
+    private final Executor loader;
+    private final Consumer<Boolean> onLoaded;
+
+    /**
+     * Cache strings used in table cells to significantly reduce memory used by
+     * the same string repeated in columns and rows. This is only used while
+     * holding its own lock, as cells are formatted outside the lock on this
+     * model.
+     */
+    private final ImmutableObjectCache displayTextCache = new ImmutableObjectCache();
+
+    private final List<ElementRow> rows = new ArrayList<>();
+    private final Map<ElementRow, String[]> formattedRows;
+    private final Map<Integer, String[]> formattedColumns = new HashMap<>();
+
+    private final Set<ElementRow> requestedRows = new LinkedHashSet<>();
+    private final Set<Integer> requestedColumns = new HashSet<>();
+    private boolean loadScheduled;
+
+    /**
+     * Incremented whenever cached text is discarded, so that text read from
+     * the graph before the values changed is not kept.
+     */
+    private long version;
+
+    private long structureModificationCounter;
+    private long attributeModificationCounter;
+    private long valueChangeSequence;
+
+    /**
+     * Creates a new row model which reads cells requested by
+     * {@link #getLoadedCellText(ElementRow, int)} in the calling thread.
+     *
+     * @param graph the graph the cells are read from
+     * @param elementType the type of element each row represents,
+     * {@link GraphElementType#VERTEX} or {@link GraphElementType#TRANSACTION}
+     * @param columns the columns of the table, in the order of the cells in
+     * each row
+     * @param sortedColumns supplies the positions of the columns the table is
+     * currently sorted by
+     * @param cacheSize the number of formatted rows to keep
+     */
+    public TableRowModel(final Graph graph, final GraphElementType elementType, final List<Column> columns,
+            final Supplier<int[]> sortedColumns, final int cacheSize) {
+        this(graph, elementType, columns, sortedColumns, cacheSize, Runnable::run, sortedColumnLoaded -> {
+        });
+    }
+
+    /**
+     * Creates a new row model.
+     *
+     * @param graph the graph the cells are read from
+     * @param elementType the type of element each row represents,
+     * {@link GraphElementType#VERTEX} or {@link GraphElementType#TRANSACTION}
+     * @param columns the columns of the table, in the order of the cells in
+     * each row
+     * @param sortedColumns supplies the positions of the columns the table is
+     * currently sorted by
+     * @param cacheSize the number of formatted rows to keep
+     * @param loader runs the reads requested by
+     * {@link #getLoadedCellText(ElementRow, int)}
+     * @param onLoaded called by the loader after requested cells have been
+     * read, with true if a column the table is sorted by was read
+     */
+    public TableRowModel(final Graph graph, final GraphElementType elementType, final List<Column> columns,
+            final Supplier<int[]> sortedColumns, final int cacheSize, final Executor loader,
+            final Consumer<Boolean> onLoaded) {
+        this.graph = graph;
+        this.elementType = elementType;
+        this.columns = List.copyOf(columns);
+        this.sortedColumns = sortedColumns;
+        this.loader = loader;
+        this.onLoaded = onLoaded;
+        this.formattedRows = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ElementRow, String[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Records the state of the graph the rows were created from, so that later
+     * changes can be applied by {@link #updateValues(Graph)}.
+     *
+     * @param readableGraph the graph the rows were created from
+     */
+    public void setBaseline(final GraphReadMethods readableGraph) {
+        structureModificationCounter = readableGraph.getStructureModificationCounter();
+        attributeModificationCounter = readableGraph.getAttributeModificationCounter();
+        valueChangeSequence = readableGraph.getValueChangeSequence();
+    }
+
+    /**
+     * Creates the row for a vertex or transaction. Rows must all be created
+     * before they are handed to the table.
+     *
+     * @param elementId the ID of the vertex or transaction
+     * @return the new row
+     */
+    public ElementRow createRow(final int elementId) {
+        final ElementRow row = new ElementRow(this, elementId, rows.size());
+        rows.add(row);
+        return row;
+    }
+
+    /**
+     * Whether this model reads the given columns of the given element type from
+     * the given graph.
+     *
+     * @param graph the graph
+     * @param elementType the element type of the table
+     * @param columns the columns of the table
+     * @return true if this model can continue to be used for the table
+     */
+    public boolean isFor(final Graph graph, final GraphElementType elementType, final List<Column> columns) {
+        if (this.graph != graph || this.elementType != elementType || this.columns.size() != columns.size()) {
+            return false;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (this.columns.get(i) != columns.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of cells in each row.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Gets the text of a cell, reading it from the graph if it is not cached.
+     * This waits for a read lock on the graph, so it should not be used by the
+     * JavaFX thread to display cells.
+     *
+     * @param row the row of the cell
+     * @param column the position of the column of the cell
+     * @return the display text of the cell
+     */
+    public String getCellText(final ElementRow row, final int column) {
+        Objects.checkIndex(column, columns.size());
+
+        final long readVersion;
+        synchronized (this) {
+            final String[] cells = formattedRows.get(row);
+            if (cells != null) {
+                return cells[column];
+            }
+            final String[] columnText = formattedColumns.get(column);
+            if (columnText != null) {
+                return columnText[row.getPosition()];
+            }
+            readVersion = version;
+        }
+
+        if (isSorted(column)) {
+            final String[] columnText;
+            try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+                columnText = formatColumn(readableGraph, column);
+            }
+            store(List.of(), List.of(), List.of(column), List.<String[]>of(columnText), readVersion);
+            return columnText[row.getPosition()];
+        }
+
+        final String[] rowText;
+        try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+            rowText = formatRow(readableGraph, row.getElementId());
+        }
+        store(List.of(row), List.<String[]>of(rowText), List.of(), List.of(), readVersion);
+        return rowText[column];
+    }
+
+    /**
+     * Gets the text of the given columns of the given rows, for copying or
+     * exporting the table. Rows that are not cached are read from the graph
+     * under a single read lock and are not added to the cache, so that reading
+     * every row of a large table does not evict the rows on screen. This waits
+     * for a read lock on the graph, so it should not be used by the JavaFX
+     * thread.
+     *
+     * @param rowsToRead the rows to read
+     * @param columnsToRead the positions of the columns to read
+     * @return the display text of the given columns of each row, in the order
+     * of the rows
+     */
+    public List<String[]> getCellText(final List<ElementRow> rowsToRead, final int[] columnsToRead) {
+        for (final int column : columnsToRead) {
+            Objects.checkIndex(column, columns.size());
+        }
+
+        final String[][] text = new String[rowsToRead.size()][];
+        final List<Integer> missing = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < text.length; i++) {
+                final String[] cells = formattedRows.get(rowsToRead.get(i));
+                if (cells == null) {
+                    missing.add(i);
+                } else {
+                    text[i] = new String[columnsToRead.length];
+                    for (int j = 0; j < columnsToRead.length; j++) {
+                        text[i][j] = cells[columnsToRead[j]];
+                    }
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+                final int[] attributeIds = new int[columnsToRead.length];
+                final AbstractAttributeInteraction<?>[] interactions = new AbstractAttributeInteraction<?>[columnsToRead.length];
+                for (int j = 0; j < columnsToRead.length; j++) {
+                    final Column column = columns.get(columnsToRead[j]);
+                    attributeIds[j] = getAttributeId(readableGraph, column);
+                    interactions[j] = AbstractAttributeInteraction.getInteraction(column.getAttribute().getAttributeType());
+                }
+                for (final int i : missing) {
+                    final int elementId = rowsToRead.get(i).getElementId();
+                    text[i] = new String[columnsToRead.length];
+                    for (int j = 0; j < columnsToRead.length; j++) {
+                        text[i][j] = formatCell(readableGraph, elementId, columns.get(columnsToRead[j]), attributeIds[j], interactions[j]);
+                    }
+                }
+            }
+        }
+        return Arrays.asList(text);
+    }
+
+    /**
+     * Gets the text of the given columns of the given rows. Rows belonging to a
+     * {@link TableRowModel} are read with
+     * {@link #getCellText(List, int[])}, taking a single read lock on the graph
+     * for each model, and any other rows are read directly.
+     *
+     * @param rowsToRead the rows to read
+     * @param columnsToRead the positions of the columns to read
+     * @return the display text of the given columns of each row, in the order
+     * of the rows
+     */
+    public static List<String[]> getRowText(final List<? extends ObservableList<String>> rowsToRead, final int[] columnsToRead) {
+        final String[][] text = new String[rowsToRead.size()][];
+        final Map<TableRowModel, List<Integer>> modelRows = new LinkedHashMap<>();
+        for (int i = 0; i < text.length; i++) {
+            final ObservableList<String> row = rowsToRead.get(i);
+            if (row instanceof ElementRow elementRow) {
+                modelRows.computeIfAbsent(elementRow.getModel(), model -> new ArrayList<>()).add(i);
+            } else {
+                text[i] = new String[columnsToRead.length];
+                for (int j = 0; j < columnsToRead.length; j++) {
+                    text[i][j] = row.get(columnsToRead[j]);
+                }
+            }
+        }
+
+        modelRows.forEach((model, positions) -> {
+            final List<ElementRow> elementRows = new ArrayList<>(positions.size());
+            for (final int i : positions) {
+                elementRows.add((ElementRow) rowsToRead.get(i));
+            }
+            final List<String[]> modelText = model.getCellText(elementRows, columnsToRead);
+            for (int k = 0; k < positions.size(); k++) {
+                text[positions.get(k)] = modelText.get(k);
+            }
+        });
+        return Arrays.asList(text);
+    }
+
+    /**
+     * Gets the text of a cell if it has already been read from the graph. If it
+     * has not, the row, or the whole column if the table is sorted by it, is
+     * read by the loader and null is returned until then. This never waits for
+     * a lock on the graph, so it is used by the JavaFX thread to display cells.
+     *
+     * @param row the row of the cell
+     * @param column the position of the column of the cell
+     * @return the display text of the cell, or null if it has not been read
+     */
+    public synchronized String getLoadedCellText(final ElementRow row, final int column) {
+        Objects.checkIndex(column, columns.size());
+
+        final String[] cells = formattedRows.get(row);
+        if (cells != null) {
+            return cells[column];
+        }
+        final String[] columnText = formattedColumns.get(column);
+        if (columnText != null) {
+            return columnText[row.getPosition()];
+        }
+
+        if (isSorted(column)) {
+            requestedColumns.add(column);
+        } else {
+            requestedRows.add(row);
+        }
+        scheduleLoad();
+        return null;
+    }
+
+    /**
+     * Requests the cells of any of the given rows that are not cached, so that
+     * they are read by the loader under a single read lock of the graph. This
+     * is used before a page of rows is displayed so that the graph is not
+     * locked once for each row.
+     *
+     * @param pageRows the rows about to be displayed
+     */
+    public synchronized void prefetch(final List<? extends ObservableList<String>> pageRows) {
+        for (final ObservableList<String> pageRow : pageRows) {
+            if (pageRow instanceof ElementRow elementRow && elementRow.getModel() == this
+                    && !formattedRows.containsKey(elementRow)) {
+                requestedRows.add(elementRow);
+            }
+        }
+
+        if (!requestedRows.isEmpty()) {
+            scheduleLoad();
+        }
+    }
+
+    /**
+     * Reads every column the table is sorted by that is not cached. This is
+     * used before new rows are handed to the table, so that they can be sorted
+     * without waiting for the loader.
+     */
+    public void loadSortedColumns() {
+        final List<Integer> missing = new ArrayList<>();
+        final long readVersion;
+        synchronized (this) {
+            for (final int column : sortedColumns.get()) {
+                if (column >= 0 && column < columns.size() && !formattedColumns.containsKey(column)) {
+                    missing.add(column);
+                }
+            }
+            readVersion = version;
+        }
+
+        if (!missing.isEmpty()) {
+            load(List.of(), missing, readVersion);
+        }
+    }
+
+    /**
+     * Reads the cells of any of the given rows that are not cached. The rows
+     * may belong to any model, or not be {@link ElementRow}s at all, in which
+     * case they are ignored.
+     *
+     * @param pageRows the rows about to be displayed
+     */
+    public static void prefetchRows(final List<? extends ObservableList<String>> pageRows) {
+        if (!pageRows.isEmpty() && pageRows.get(0) instanceof ElementRow elementRow) {
+            elementRow.getModel().prefetch(pageRows);
+        }
+    }
+
+    /**
+     * Discards the cached text of the elements whose values have changed since
+     * the rows were created or last updated. The rows themselves stay the same,
+     * so this can only be used when the structure of the graph, its attributes
+     * and the order of the rows have not changed.
+     *
+     * @param graph the graph to read the changes from
+     * @return true if the changes were applied, false if the rows need to be
+     * created again, because the structure of the graph changed or a column the
+     * table is sorted by changed
+     */
+    public boolean updateValues(final Graph graph) {
+        try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+            final long lastValueChangeSequence;
+            synchronized (this) {
+                if (readableGraph.getStructureModificationCounter() != structureModificationCounter
+                        || readableGraph.getAttributeModificationCounter() != attributeModificationCounter) {
+                    return false;
+                }
+                lastValueChangeSequence = valueChangeSequence;
+            }
+
+            final int[] sorted = sortedColumns.get();
+            final Set<Integer> changedElements = new HashSet<>();
+            final Set<Integer> changedColumns = new HashSet<>();
+            boolean allChanged = false;
+            for (int column = 0; column < columns.size(); column++) {
+                final int attributeId = getAttributeId(readableGraph, columns.get(column));
+                if (attributeId == Graph.NOT_FOUND) {
+                    continue;
+                }
+
+                final int[] changed = readableGraph.getChangedElements(attributeId, lastValueChangeSequence);
+                if (changed == null || changed.length > 0) {
+                    // the rows would need to be sorted again
+                    if (contains(sorted, column)) {
+                        return false;
+                    }
+                    changedColumns.add(column);
+                }
+                if (changed == null) {
+                    allChanged = true;
+                } else {
+                    addChangedElements(readableGraph, columns.get(column), changed, changedElements);
+                }
+            }
+
+            synchronized (this) {
+                if (allChanged) {
+                    formattedRows.clear();
+                } else if (!changedElements.isEmpty()) {
+                    formattedRows.keySet().removeIf(row -> changedElements.contains(row.getElementId()));
+                } else {
+                    // Do nothing
+                }
+                formattedColumns.keySet().removeAll(changedColumns);
+                if (allChanged || !changedElements.isEmpty() || !changedColumns.isEmpty()) {
+                    version++;
+                }
+                valueChangeSequence = readableGraph.getValueChangeSequence();
+            }
+            return true;
+        }
+    }
+
+    private void addChangedElements(final GraphReadMethods readableGraph, final Column column, final int[] changed, final Set<Integer> changedElements) {
+        if (elementType == GraphElementType.TRANSACTION && column.getAttribute().getElementType() == GraphElementType.VERTEX) {
+            // a vertex value appears in the rows of every transaction of the vertex
+            for (final int vertexId : changed) {
+                if (readableGraph.vertexExists(vertexId)) {
+                    final int transactionCount = readableGraph.getVertexTransactionCount(vertexId);
+                    for (int position = 0; position < transactionCount; position++) {
+                        changedElements.add(readableGraph.getVertexTransaction(vertexId, position));
+                    }
+                }
+            }
+        } else {
+            for (final int elementId : changed) {
+                changedElements.add(elementId);
+            }
+        }
+    }
+
+    private synchronized void scheduleLoad() {
+        if (!loadScheduled) {
+            loadScheduled = true;
+            loader.execute(this::loadRequested);
+        }
+    }
+
+    private void loadRequested() {
+        final List<ElementRow> rowsToLoad;
+        final List<Integer> columnsToLoad;
+        final long readVersion;
+        synchronized (this) {
+            rowsToLoad = new ArrayList<>(requestedRows);
+            columnsToLoad = new ArrayList<>(requestedColumns);
+            requestedRows.clear();
+            requestedColumns.clear();
+            loadScheduled = false;
+            readVersion = version;
+        }
+
+        load(rowsToLoad, columnsToLoad, readVersion);
+        onLoaded.accept(!columnsToLoad.isEmpty());
+    }
+
+    private void load(final List<ElementRow> rowsToLoad, final List<Integer> columnsToLoad, final long readVersion) {
+        final List<String[]> rowText = new ArrayList<>(rowsToLoad.size());
+        final List<String[]> columnText = new ArrayList<>(columnsToLoad.size());
+        try (final ReadableGraph readableGraph = graph.getReadableGraph()) {
+            for (final ElementRow row : rowsToLoad) {
+                rowText.add(formatRow(readableGraph, row.getElementId()));
+            }
+            for (final int column : columnsToLoad) {
+                columnText.add(formatColumn(readableGraph, column));
+            }
+        }
+        store(rowsToLoad, rowText, columnsToLoad, columnText, readVersion);
+    }
+
+    private synchronized void store(final List<ElementRow> rowsToStore, final List<String[]> rowText,
+            final List<Integer> columnsToStore, final List<String[]> columnText, final long readVersion) {
+        // the values may have changed since the text was read
+        if (version != readVersion) {
+            return;
+        }
+
+        for (int i = 0; i < rowsToStore.size(); i++) {
+            formattedRows.put(rowsToStore.get(i), rowText.get(i));
+        }
+        if (!columnsToStore.isEmpty()) {
+            // columns that are no longer sorted are not needed
+            formattedColumns.keySet().removeIf(column -> !isSorted(column));
+            for (int i = 0; i < columnsToStore.size(); i++) {
+                formattedColumns.put(columnsToStore.get(i), columnText.get(i));
+            }
+        }
+    }
+
+    private boolean isSorted(final int column) {
+        return contains(sortedColumns.get(), column);
+    }
+
+    private static boolean contains(final int[] values, final int value) {
+        for (final int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String[] formatColumn(final GraphReadMethods readableGraph, final int column) {
+        final String[] columnText = new String[rows.size()];
+        final Column tableColumn = columns.get(column);
+        final int attributeId = getAttributeId(readableGraph, tableColumn);
+        final AbstractAttributeInteraction<?> interaction = AbstractAttributeInteraction
+                .getInteraction(tableColumn.getAttribute().getAttributeType());
+        for (final ElementRow row : rows) {
+            columnText[row.getPosition()] = formatCell(readableGraph, row.getElementId(), tableColumn, attributeId, interaction);
+        }
+        return columnText;
+    }
+
+    private String[] formatRow(final GraphReadMethods readableGraph, final int elementId) {
+        final String[] cells = new String[columns.size()];
+        for (int i = 0; i < cells.length; i++) {
+            final Column column = columns.get(i);
+            final AbstractAttributeInteraction<?> interaction = AbstractAttributeInteraction
+                    .getInteraction(column.getAttribute().getAttributeType());
+            cells[i] = formatCell(readableGraph, elementId, column, getAttributeId(readableGraph, column), interaction);
+        }
+        return cells;
+    }
+
+    private String formatCell(final GraphReadMethods readableGraph, final int elementId, final Column column,
+            final int attributeId, final AbstractAttributeInteraction<?> interaction) {
+        final Object attributeValue;
+        if (attributeId == Graph.NOT_FOUND) {
+            attributeValue = null;
+        } else if (elementType == GraphElementType.VERTEX) {
+            attributeValue = readableGraph.getObjectValue(attributeId, elementId);
+        } else {
+            attributeValue = switch (column.getAttributeNamePrefix()) {
+                case GraphRecordStoreUtilities.SOURCE ->
+                    readableGraph.getObjectValue(attributeId, readableGraph.getTransactionSourceVertex(elementId));
+                case GraphRecordStoreUtilities.TRANSACTION ->
+                    readableGraph.getObjectValue(attributeId, elementId);
+                case GraphRecordStoreUtilities.DESTINATION ->
+                    readableGraph.getObjectValue(attributeId, readableGraph.getTransactionDestinationVertex(elementId));
+                default -> null;
+            };
+        }
+
+        // avoid duplicate strings objects and make a massive saving on memory use
+        final String displayText = interaction.getDisplayText(attributeValue);
+        synchronized (displayTextCache) {
+            return displayTextCache.deduplicate(displayText);
+        }
+    }
+
+    private static int getAttributeId(final GraphReadMethods readableGraph, final Column column) {
+        return readableGraph.getAttribute(column.getAttribute().getElementType(), column.getAttribute().getName());
+    }
+}
@@ -16,6 +16,7 @@
 package au.gov.asd.tac.constellation.views.tableview.factory;
 
 import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.views.tableview.components.TableRowModel;
 import au.gov.asd.tac.constellation.views.tableview.panes.TablePane;
 import au.gov.asd.tac.constellation.views.tableview.listeners.TableComparatorListener;
 import au.gov.asd.tac.constellation.views.tableview.listeners.TableSortTypeListener;
@@ -140,9 +141,14 @@ public class TableViewPageFactory implements Callback<Integer, Node> {
             final int fromIndex = pageIndex * maxRowsPerPage;
             final int toIndex = Math.min(fromIndex + maxRowsPerPage, allTableRows.size());
 
+            // Read the cells of the new page from the graph in one go rather than
+            // as each row is laid out
+            final List<ObservableList<String>> pageRows = allTableRows.subList(fromIndex, toIndex);
+            TableRowModel.prefetchRows(pageRows);
+
             // Set the new page
             tablePane.getTable().getTableView()
-                    .setItems(FXCollections.observableArrayList(allTableRows.subList(fromIndex, toIndex)));
+                    .setItems(FXCollections.observableArrayList(pageRows));
 
             // Restore the sort details
             restoreSort(sortBackup);
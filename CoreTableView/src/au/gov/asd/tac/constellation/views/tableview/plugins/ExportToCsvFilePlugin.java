@@ -25,10 +25,14 @@ import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimplePlugin;
 import static au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities.getTableData;
+import static au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities.getTableRows;
+import static au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities.getVisibleColumnHeaders;
+import static au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities.getVisibleColumnIndices;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Pagination;
 import javafx.scene.control.TableView;
@@ -70,15 +74,18 @@ public class ExportToCsvFilePlugin extends SimplePlugin {
     public void execute(final PluginGraphs graphs, final PluginInteraction interaction, 
             final PluginParameters parameters) throws InterruptedException, PluginException {
 
-        // Extract all the rows from the table as CSV
-        final String csvData = getTableData(table, pagination, true, selectedOnly);
+        // Gather the rows from the pages of the table, their cells are read
+        // from the graph while the file is being written
+        final List<String> header = getVisibleColumnHeaders(table);
+        final List<ObservableList<String>> rows = getTableRows(table, pagination, selectedOnly);
+        final int[] columns = getVisibleColumnIndices(table);
 
         // Write the CSV data to file
         final Thread outputThread = new Thread("Export to CSV File: Writing File") {
             @Override
             public void run() {
                 try (final FileWriter fileWriter = new FileWriter(getFile(), StandardCharsets.UTF_8)) {
-                    fileWriter.write(csvData);
+                    fileWriter.write(getTableData(header, rows, columns));
                 } catch (final IOException ex) {
                     interaction.notify(PluginNotificationLevel.ERROR, ex.getLocalizedMessage());
                 }
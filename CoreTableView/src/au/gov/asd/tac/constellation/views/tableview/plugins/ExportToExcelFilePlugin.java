@@ -24,6 +24,7 @@ import au.gov.asd.tac.constellation.plugins.PluginType;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimplePlugin;
+import au.gov.asd.tac.constellation.views.tableview.components.TableRowModel;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -244,13 +245,14 @@ public class ExportToExcelFilePlugin extends SimplePlugin {
     private static void writeRecords(final Sheet sheet, final ImmutableIntList visibleIndices,
             final List<ObservableList<String>> data, final int startIndex) {
         final AtomicInteger rowIndex = new AtomicInteger(startIndex);
-        data.forEach(item -> {
+        // read the cells of the whole page from the graph at once
+        TableRowModel.getRowText(data, visibleIndices.toArray()).forEach(rowText -> {
             final Row itemRow = sheet.createRow(rowIndex.getAndIncrement());
 
-            visibleIndices.forEach(index -> {
-                final Cell itemCell = itemRow.createCell(visibleIndices.indexOf(index));
-                itemCell.setCellValue(item.get(index));
-            });
+            for (int i = 0; i < rowText.length; i++) {
+                final Cell itemCell = itemRow.createCell(i);
+                itemCell.setCellValue(rowText[i]);
+            }
         });
     }
 }
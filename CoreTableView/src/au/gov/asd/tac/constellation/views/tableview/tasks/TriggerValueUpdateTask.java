@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.tableview.tasks;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.views.tableview.components.ProgressBar;
+import au.gov.asd.tac.constellation.views.tableview.components.Table;
+import au.gov.asd.tac.constellation.views.tableview.panes.TablePane;
+import au.gov.asd.tac.constellation.views.tableview.state.TableViewState;
+
+/**
+ * Triggers an update of the values that the table is currently displaying
+ * after attribute values in the graph have changed. Only the cells of the
+ * elements that have changed are read from the graph again, unless the rows of
+ * the table also need to be updated.
+ *
+ * @author sirius
+ * @see Table#updateValues(Graph, TableViewState, ProgressBar)
+ */
+public class TriggerValueUpdateTask implements Runnable {
+
+    private final TablePane tablePane;
+    private final Graph graph;
+    private final TableViewState tableViewState;
+
+    /**
+     * Creates a new trigger value update task.
+     *
+     * @param tablePane the pane that holds the table
+     * @param graph the current graph
+     * @param tableViewState the current table state
+     */
+    public TriggerValueUpdateTask(final TablePane tablePane, final Graph graph, final TableViewState tableViewState) {
+        this.tablePane = tablePane;
+        this.graph = graph;
+        this.tableViewState = tableViewState;
+    }
+
+    @Override
+    public void run() {
+        tablePane.getTable().updateValues(graph, tableViewState, tablePane.getProgressBar());
+    }
+}
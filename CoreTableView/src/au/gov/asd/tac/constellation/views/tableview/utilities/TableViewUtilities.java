@@ -21,13 +21,16 @@ import au.gov.asd.tac.constellation.graph.ReadableGraph;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.PluginExecution;
 import au.gov.asd.tac.constellation.utilities.text.SeparatorConstants;
+import au.gov.asd.tac.constellation.views.tableview.components.TableRowModel;
 import au.gov.asd.tac.constellation.views.tableview.plugins.SelectionToGraphPlugin;
 import au.gov.asd.tac.constellation.views.tableview.state.TableViewState;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Pagination;
 import javafx.scene.control.TableView;
@@ -47,6 +50,12 @@ public class TableViewUtilities {
 
     /**
      * Retrieve data from the given table as comma-separated values.
+     * <p/>
+     * This walks the pages of the table, so it must be called on the JavaFX
+     * thread, and then waits for a read lock on the graph to read the rows. Use
+     * {@link #getTableRows(TableView, Pagination, boolean)} and
+     * {@link #getTableData(List, List, int[])} to read the rows on another
+     * thread.
      *
      * @param table the table to retrieve data from.
      * @param pagination the current pagination of the table
@@ -58,51 +67,101 @@ public class TableViewUtilities {
      */
     public static String getTableData(final TableView<ObservableList<String>> table, final Pagination pagination,
             final boolean includeHeader, final boolean selectedOnly) {
-        final List<Integer> visibleIndices = table.getVisibleLeafColumns().stream()
-                .map(column -> table.getColumns().indexOf(column))
-                .toList();
+        return getTableData(includeHeader ? getVisibleColumnHeaders(table) : null,
+                getTableRows(table, pagination, selectedOnly), getVisibleColumnIndices(table));
+    }
 
+    /**
+     * Format the given columns of the given rows as comma-separated values.
+     * The rows are read from the graph under a single read lock, so this
+     * should not be called on the JavaFX thread.
+     *
+     * @param header the column headers to include in the output, or null if
+     * there should be no header.
+     * @param rows the rows to retrieve data from.
+     * @param columns the positions of the cells in each row to include in the
+     * output.
+     * @return a String of comma-separated values representing the rows.
+     */
+    public static String getTableData(final List<String> header, final List<? extends ObservableList<String>> rows,
+            final int[] columns) {
         final StringBuilder data = new StringBuilder();
-        if (includeHeader) {
-            data.append(visibleIndices.stream()
-                    .filter(Objects::nonNull)
-                    .map(index -> table.getColumns().get(index).getText())
-                    .reduce((header1, header2) -> header1 + SeparatorConstants.COMMA + header2)
-                    .get());
+        if (header != null) {
+            data.append(String.join(SeparatorConstants.COMMA, header));
+            data.append(SeparatorConstants.NEWLINE);
+        }
+        for (final String[] row : TableRowModel.getRowText(rows, columns)) {
+            data.append(String.join(SeparatorConstants.COMMA, row));
             data.append(SeparatorConstants.NEWLINE);
         }
+        return data.toString();
+    }
+
+    /**
+     * Retrieve the rows of every page of the given table. This walks the pages
+     * of the table, so it must be called on the JavaFX thread, but does not
+     * read the cells of the rows.
+     *
+     * @param table the table to retrieve rows from.
+     * @param pagination the current pagination of the table
+     * @param selectedOnly if true, only the selected rows in the table will be
+     * retrieved.
+     * @return the rows of the table, in page order.
+     */
+    public static List<ObservableList<String>> getTableRows(final TableView<ObservableList<String>> table,
+            final Pagination pagination, final boolean selectedOnly) {
+        final List<ObservableList<String>> rows = new ArrayList<>();
 
         // get the current page index so we can go back to it afterwards
         final int currentPage = pagination.getCurrentPageIndex();
-        if (selectedOnly) {
-            for (int i = 0; i < pagination.getPageCount(); i++) {
-                final TableView<ObservableList<String>> page = (TableView<ObservableList<String>>) pagination.getPageFactory().call(i);
-                page.getSelectionModel().getSelectedItems().forEach(selectedItem -> {
-                    data.append(visibleIndices.stream()
-                            .filter(Objects::nonNull)
-                            .map(index -> selectedItem.get(index))
-                            .reduce((cell1, cell2) -> cell1 + SeparatorConstants.COMMA + cell2)
-                            .get());
-                    data.append(SeparatorConstants.NEWLINE);
-                });
-            }
-        } else {
-            for (int i = 0; i < pagination.getPageCount(); i++) {
-                final TableView<ObservableList<String>> page = (TableView<ObservableList<String>>) pagination.getPageFactory().call(i);
-                page.getItems().forEach(item -> {
-                    data.append(visibleIndices.stream()
-                            .filter(Objects::nonNull)
-                            .map(index -> item.get(index))
-                            .reduce((cell1, cell2) -> cell1 + SeparatorConstants.COMMA + cell2)
-                            .get());
-                    data.append(SeparatorConstants.NEWLINE);
-                });
-            }
+        for (int i = 0; i < pagination.getPageCount(); i++) {
+            final TableView<ObservableList<String>> page = (TableView<ObservableList<String>>) pagination.getPageFactory().call(i);
+            rows.addAll(selectedOnly ? page.getSelectionModel().getSelectedItems() : page.getItems());
         }
         // Call the page factory function once more to go back to the original page index
         pagination.getPageFactory().call(currentPage);
 
-        return data.toString();
+        return rows;
+    }
+
+    /**
+     * Get the headers of the visible columns of the given table, in the order
+     * they are displayed.
+     *
+     * @param table the table to retrieve the headers from.
+     * @return the visible column headers.
+     */
+    public static List<String> getVisibleColumnHeaders(final TableView<ObservableList<String>> table) {
+        return table.getVisibleLeafColumns().stream()
+                .map(column -> column.getText())
+                .toList();
+    }
+
+    /**
+     * Get the positions of the cells of the visible columns of the given table
+     * in each row, in the order the columns are displayed.
+     *
+     * @param table the table to retrieve the positions from.
+     * @return the positions of the visible columns.
+     */
+    public static int[] getVisibleColumnIndices(final TableView<ObservableList<String>> table) {
+        return table.getVisibleLeafColumns().stream()
+                .mapToInt(column -> table.getColumns().indexOf(column))
+                .toArray();
+    }
+
+    /**
+     * Read text on the given executor and then copy it to the system
+     * clipboard on the JavaFX thread. This is used to copy table data without
+     * waiting for a lock on the graph on the JavaFX thread.
+     *
+     * @param text reads the text to copy.
+     * @param executor the executor to read the text on.
+     * @return a future that completes when the text has been copied.
+     */
+    public static CompletableFuture<Void> copyToClipboard(final Supplier<String> text, final Executor executor) {
+        return CompletableFuture.supplyAsync(text, executor)
+                .thenAcceptAsync(TableViewUtilities::copyToClipboard, Platform::runLater);
     }
 
     /**
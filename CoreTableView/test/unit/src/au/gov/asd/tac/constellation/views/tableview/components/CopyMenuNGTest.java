@@ -15,12 +15,15 @@
  */
 package au.gov.asd.tac.constellation.views.tableview.components;
 
+import au.gov.asd.tac.constellation.views.tableview.TableViewTopComponent;
 import au.gov.asd.tac.constellation.views.tableview.panes.TablePane;
 import au.gov.asd.tac.constellation.utilities.icon.UserInterfaceIconProvider;
 import au.gov.asd.tac.constellation.views.tableview.api.ActiveTableReference;
 import au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.collections.FXCollections;
@@ -32,8 +35,10 @@ import javafx.scene.control.Pagination;
 import javafx.scene.control.TableView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,6 +65,7 @@ public class CopyMenuNGTest {
     private ActiveTableReference activeTableReference;
     private Table table;
     private Pagination pagination;
+    private ExecutorService executorService;
 
     private CopyMenu copyMenu;
 
@@ -90,6 +96,11 @@ public class CopyMenuNGTest {
         when(tablePane.getActiveTableReference()).thenReturn(activeTableReference);
         when(activeTableReference.getPagination()).thenReturn(pagination);
 
+        final TableViewTopComponent tableTopComponent = mock(TableViewTopComponent.class);
+        executorService = mock(ExecutorService.class);
+        when(tablePane.getParentComponent()).thenReturn(tableTopComponent);
+        when(tableTopComponent.getExecutorService()).thenReturn(executorService);
+
         copyMenu = new CopyMenu(tablePane);
     }
 
@@ -147,13 +158,22 @@ public class CopyMenuNGTest {
             when(table.getTableView()).thenReturn(tableView);
 
             final String tableData = "Row1Column1,Row1Column2\nRow2Column2,Row2Column2";
+            final List<ObservableList<String>> rows = List.of(
+                    FXCollections.observableArrayList("Row1Column1", "Row1Column2"),
+                    FXCollections.observableArrayList("Row2Column2", "Row2Column2"));
+            final int[] columns = {0, 1};
 
-            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getTableData(tableView, pagination,
-                    false, expectedCopyOnlySelectedRows)).thenReturn(tableData);
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getTableRows(tableView, pagination,
+                    expectedCopyOnlySelectedRows)).thenReturn(rows);
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getVisibleColumnIndices(tableView)).thenReturn(columns);
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getTableData(null, rows, columns)).thenReturn(tableData);
 
             eventHandler.handle(actionEvent);
 
-            tableViewUtilsMockedStatic.verify(() -> TableViewUtilities.copyToClipboard(tableData));
+            // The table data is read by the table's executor
+            final ArgumentCaptor<Supplier<String>> textCaptor = ArgumentCaptor.forClass(Supplier.class);
+            tableViewUtilsMockedStatic.verify(() -> TableViewUtilities.copyToClipboard(textCaptor.capture(), same(executorService)));
+            assertEquals(textCaptor.getValue().get(), tableData);
             verify(actionEvent).consume();
         }
     }
@@ -15,12 +15,15 @@
  */
 package au.gov.asd.tac.constellation.views.tableview.components;
 
+import au.gov.asd.tac.constellation.views.tableview.TableViewTopComponent;
+import au.gov.asd.tac.constellation.views.tableview.panes.TablePane;
 import au.gov.asd.tac.constellation.views.tableview.utilities.TableViewUtilities;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -29,8 +32,10 @@ import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +59,7 @@ public class RightClickContextMenuNGTest {
 
     private Table table;
     private TableView<ObservableList<String>> tableView;
+    private ExecutorService executorService;
 
     private RightClickContextMenu rightClickContextMenu;
 
@@ -80,6 +86,13 @@ public class RightClickContextMenuNGTest {
 
         when(table.getTableView()).thenReturn(tableView);
 
+        final TablePane tablePane = mock(TablePane.class);
+        final TableViewTopComponent tableTopComponent = mock(TableViewTopComponent.class);
+        executorService = mock(ExecutorService.class);
+        when(table.getParentComponent()).thenReturn(tablePane);
+        when(tablePane.getParentComponent()).thenReturn(tableTopComponent);
+        when(tableTopComponent.getExecutorService()).thenReturn(executorService);
+
         rightClickContextMenu = new RightClickContextMenu(table);
     }
 
@@ -103,8 +116,6 @@ public class RightClickContextMenuNGTest {
         final TableRow<ObservableList<String>> row = mock(TableRow.class);
         final TableColumn<ObservableList<String>, String> column = mock(TableColumn.class);
 
-        final int column2Index = 1;
-
         final ObservableList<String> row1 = FXCollections.observableList(
                 List.of("row1Column1", "row1Column2", "row1Column3"));
         final ObservableList<String> row2 = FXCollections.observableList(
@@ -120,16 +131,14 @@ public class RightClickContextMenuNGTest {
                 List.of(row1, row2, row3, row4)
         ));
 
-        when(cell.getItem()).thenReturn(row2.get(column2Index)); // a.k.a row2Column2
+        when(cell.getItem()).thenReturn(row2.get(1)); // a.k.a row2Column2
 
         when(cell.getTableRow()).thenReturn(row);
         when(row.getItem()).thenReturn(FXCollections.observableList(row2));
 
         when(cell.getTableColumn()).thenReturn(column);
-        when(column.getCellObservableValue(row1)).thenReturn(new SimpleStringProperty(row1.get(column2Index)));
-        when(column.getCellObservableValue(row2)).thenReturn(new SimpleStringProperty(row2.get(column2Index)));
-        when(column.getCellObservableValue(row3)).thenReturn(new SimpleStringProperty(row3.get(column2Index)));
-        when(column.getCellObservableValue(row4)).thenReturn(new SimpleStringProperty(row4.get(column2Index)));
+        when(tableView.getColumns()).thenReturn(FXCollections.observableArrayList(
+                mock(TableColumn.class), column, mock(TableColumn.class)));
 
         rightClickContextMenu.init(cell);
 
@@ -159,11 +168,11 @@ public class RightClickContextMenuNGTest {
                 "row2Column1,row2Column2,row2Column3");
 
         assertEquals("Copy Column", rightClickContextMenu.getCopyColumn().getText());
-        verifyCopyAction(rightClickContextMenu.getCopyColumn().getOnAction(),
+        verifyCopyLaterAction(rightClickContextMenu.getCopyColumn().getOnAction(),
                 "row1Column2,row2Column2,row3Column2,row3Column2");
 
         assertEquals("Copy Column (Unique)", rightClickContextMenu.getCopyColumnUnique().getText());
-        verifyCopyAction(rightClickContextMenu.getCopyColumnUnique().getOnAction(),
+        verifyCopyLaterAction(rightClickContextMenu.getCopyColumnUnique().getOnAction(),
                 "row1Column2,row2Column2,row3Column2");
     }
 
@@ -187,4 +196,28 @@ public class RightClickContextMenuNGTest {
             verify(actionEvent).consume();
         }
     }
+
+    /**
+     * Verify that the passed event handler reads the correct table cells in
+     * CSV form using the table's executor and then copies them to the OS
+     * clipboard.
+     *
+     * @param eventHandler the handler to test
+     * @param expectedClipboardText the expected CSV copied to the clipboard
+     */
+    private void verifyCopyLaterAction(final EventHandler<ActionEvent> eventHandler, final String expectedClipboardText) {
+
+        try (MockedStatic<TableViewUtilities> tableViewUtilsMockedStatic = Mockito.mockStatic(TableViewUtilities.class)) {
+            final ActionEvent actionEvent = mock(ActionEvent.class);
+
+            eventHandler.handle(actionEvent);
+
+            final ArgumentCaptor<Supplier<String>> textCaptor = ArgumentCaptor.forClass(Supplier.class);
+            tableViewUtilsMockedStatic.verify(() -> TableViewUtilities
+                    .copyToClipboard(textCaptor.capture(), same(executorService)));
+            assertEquals(textCaptor.getValue().get(), expectedClipboardText);
+
+            verify(actionEvent).consume();
+        }
+    }
 }
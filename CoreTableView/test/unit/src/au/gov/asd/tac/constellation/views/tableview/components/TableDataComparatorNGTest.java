@@ -66,4 +66,17 @@ public class TableDataComparatorNGTest {
         result = tdc.compare("ABD", "123");
         assertTrue(result > 0);
     }
+
+    @Test
+    public void testSpecialNumberStrings() {
+        TableDataComparator tdc = new TableDataComparator();
+        int result = tdc.compare(" -2.5 ", "1e3");
+        assertEquals(-1, result);
+        result = tdc.compare("Infinity", "10");
+        assertEquals(1, result);
+        result = tdc.compare("3d", "2f");
+        assertEquals(1, result);
+        result = tdc.compare(".5", "0.25");
+        assertEquals(1, result);
+    }
 }
@@ -63,6 +63,7 @@ import org.mockito.Mockito;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -789,6 +790,46 @@ public class TableNGTest {
         testUpdateData(GraphElementType.VERTEX, true, null, null, row1, row2, List.of(row2));
     }
 
+    @Test
+    public void updateValuesNoRowModel() {
+        final TableViewState tableViewState = new TableViewState();
+        tableViewState.setElementType(GraphElementType.VERTEX);
+
+        final ProgressBar progressBar = mock(ProgressBar.class);
+
+        doNothing().when(table).updateData(graph, tableViewState, progressBar);
+
+        table.updateValues(graph, tableViewState, progressBar);
+
+        verify(table).updateData(graph, tableViewState, progressBar);
+    }
+
+    @Test
+    public void updateValuesRowModelUpToDate() {
+        final TableViewState tableViewState = new TableViewState();
+        tableViewState.setElementType(GraphElementType.VERTEX);
+
+        final ProgressBar progressBar = mock(ProgressBar.class);
+
+        final ReadableGraph readableGraph = mock(ReadableGraph.class);
+        when(graph.getReadableGraph()).thenReturn(readableGraph);
+
+        when(table.getColumnIndex()).thenReturn(new CopyOnWriteArrayList<>());
+
+        final TableRowModel rowModel = table.createRowModel(graph, GraphElementType.VERTEX);
+        rowModel.setBaseline(readableGraph);
+        doReturn(rowModel).when(table).getRowModel();
+
+        try (final MockedStatic<Platform> platformMockedStatic = Mockito.mockStatic(Platform.class)) {
+            table.updateValues(graph, tableViewState, progressBar);
+
+            // Only the cells are refreshed, the rows stay the same
+            platformMockedStatic.verify(() -> Platform.runLater(any(Runnable.class)));
+        }
+
+        verify(table, times(0)).updateData(graph, tableViewState, progressBar);
+    }
+
     @Test
     public void getRowDataForVertex() {
         final ReadableGraph readableGraph = mock(ReadableGraph.class);
@@ -817,16 +858,26 @@ public class TableNGTest {
 
         when(table.getColumnIndex()).thenReturn(columnIndex);
 
+        // The cells of the row are read from the graph by the row model
+        when(graph.getReadableGraph()).thenReturn(readableGraph);
+        final TableRowModel rowModel = table.createRowModel(graph, GraphElementType.VERTEX);
+        doReturn(rowModel).when(table).getRowModel();
+
         try (final MockedStatic<AbstractAttributeInteraction> attrInteractionMockedStatic = Mockito.mockStatic(AbstractAttributeInteraction.class)) {
             final AbstractAttributeInteraction<?> interaction = mock(AbstractAttributeInteraction.class);
             attrInteractionMockedStatic.when(() -> AbstractAttributeInteraction.getInteraction("string")).thenReturn(interaction);
 
             when(interaction.getDisplayText(objectValue1)).thenReturn("column1Value");
 
-            assertEquals(FXCollections.observableArrayList("column1Value"), table.getRowDataForVertex(readableGraph, vertexId));
+            final ObservableList<String> row = table.getRowDataForVertex(readableGraph, vertexId);
+
+            // Nothing is read until the cells are requested
+            verify(readableGraph, never()).getObjectValue(anyInt(), anyInt());
+
+            assertEquals(FXCollections.observableArrayList("column1Value"), row);
 
-            assertEquals(Map.of(vertexId, FXCollections.observableArrayList("column1Value")), elementIdToRowIndex);
-            assertEquals(Map.of(FXCollections.observableArrayList("column1Value"), vertexId), rowToElementIdIndex);
+            assertEquals(Map.of(vertexId, row), elementIdToRowIndex);
+            assertEquals(Map.of(row, vertexId), rowToElementIdIndex);
         }
     }
 
@@ -869,6 +920,11 @@ public class TableNGTest {
 
         when(table.getColumnIndex()).thenReturn(columnIndex);
 
+        // The cells of the row are read from the graph by the row model
+        when(graph.getReadableGraph()).thenReturn(readableGraph);
+        final TableRowModel rowModel = table.createRowModel(graph, GraphElementType.TRANSACTION);
+        doReturn(rowModel).when(table).getRowModel();
+
         // When looking at a source vertex column, it gets the source vertex of
         // the transaction and extracts the value for the column from that vertex
         final Object sourceVertexCoulmnValue = new Object();
@@ -893,14 +949,17 @@ public class TableNGTest {
             when(interaction.getDisplayText(destinationVertexCoulmnValue)).thenReturn("destinationVertext_COLUMN_1_Value");
             when(interaction.getDisplayText(transactionCoulmnValue)).thenReturn("transaction_COLUMN_2_Value");
 
+            final ObservableList<String> row = table.getRowDataForTransaction(readableGraph, transactionId);
+
+            // Nothing is read until the cells are requested
+            verify(readableGraph, never()).getObjectValue(anyInt(), anyInt());
+
             assertEquals(FXCollections.observableArrayList("sourceVertex_COLUMN_1_Value", "destinationVertext_COLUMN_1_Value", "transaction_COLUMN_2_Value"),
-                    table.getRowDataForTransaction(readableGraph, transactionId));
+                    row);
 
-            assertEquals(Map.of(transactionId, FXCollections.observableArrayList("sourceVertex_COLUMN_1_Value", "destinationVertext_COLUMN_1_Value", "transaction_COLUMN_2_Value")), 
-                    elementIdToRowIndex);
+            assertEquals(Map.of(transactionId, row), elementIdToRowIndex);
 
-            assertEquals(Map.of(FXCollections.observableArrayList("sourceVertex_COLUMN_1_Value", "destinationVertext_COLUMN_1_Value", "transaction_COLUMN_2_Value"), transactionId),
-                    rowToElementIdIndex);
+            assertEquals(Map.of(row, transactionId), rowToElementIdIndex);
         }
     }
 
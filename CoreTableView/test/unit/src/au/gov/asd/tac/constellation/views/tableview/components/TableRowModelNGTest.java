@@ -0,0 +1,371 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.tableview.components;
+
+import au.gov.asd.tac.constellation.graph.Attribute;
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.attribute.interaction.AbstractAttributeInteraction;
+import au.gov.asd.tac.constellation.graph.processing.GraphRecordStoreUtilities;
+import au.gov.asd.tac.constellation.views.tableview.api.Column;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for TableRowModel.
+ *
+ * @author sirius
+ */
+public class TableRowModelNGTest {
+
+    private static final int NAME_ATTRIBUTE = 1;
+    private static final int WEIGHT_ATTRIBUTE = 2;
+
+    private Graph graph;
+    private ReadableGraph readableGraph;
+    private List<Column> columns;
+    private MockedStatic<AbstractAttributeInteraction> attrInteractionMockedStatic;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        graph = mock(Graph.class);
+        readableGraph = mock(ReadableGraph.class);
+        when(graph.getReadableGraph()).thenReturn(readableGraph);
+
+        columns = List.of(
+                createColumn(NAME_ATTRIBUTE, "Name"),
+                createColumn(WEIGHT_ATTRIBUTE, "Weight"));
+
+        // Every value is displayed as its string representation
+        final AbstractAttributeInteraction<?> interaction = mock(AbstractAttributeInteraction.class);
+        when(interaction.getDisplayText(any())).then(invocation -> String.valueOf((Object) invocation.getArgument(0)));
+        attrInteractionMockedStatic = Mockito.mockStatic(AbstractAttributeInteraction.class);
+        attrInteractionMockedStatic.when(() -> AbstractAttributeInteraction.getInteraction("string")).thenReturn(interaction);
+
+        for (final int vertexId : new int[]{10, 11, 12}) {
+            when(readableGraph.getObjectValue(NAME_ATTRIBUTE, vertexId)).thenReturn("name" + vertexId);
+            when(readableGraph.getObjectValue(WEIGHT_ATTRIBUTE, vertexId)).thenReturn(vertexId * 2);
+        }
+    }
+
+    @AfterMethod
+    public void tearDownMethod() throws Exception {
+        attrInteractionMockedStatic.close();
+    }
+
+    private Column createColumn(final int attributeId, final String name) {
+        final Attribute attribute = mock(Attribute.class);
+        when(attribute.getElementType()).thenReturn(GraphElementType.VERTEX);
+        when(attribute.getName()).thenReturn(name);
+        when(attribute.getAttributeType()).thenReturn("string");
+        when(readableGraph.getAttribute(GraphElementType.VERTEX, name)).thenReturn(attributeId);
+        return new Column(GraphRecordStoreUtilities.SOURCE, attribute, null);
+    }
+
+    /**
+     * Test of getCellText method, of class TableRowModel. A row is read once
+     * and then served from the cache.
+     */
+    @Test
+    public void testGetCellText() {
+        System.out.println("getCellText");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        final ElementRow row = instance.createRow(10);
+
+        assertEquals(row.size(), 2);
+        assertEquals(row.get(0), "name10");
+        assertEquals(row.get(1), "20");
+        assertEquals(row.get(0), "name10");
+
+        verify(graph, times(1)).getReadableGraph();
+        verify(readableGraph, times(1)).getObjectValue(NAME_ATTRIBUTE, 10);
+    }
+
+    /**
+     * Test of getCellText method, of class TableRowModel, when the cache is
+     * full.
+     */
+    @Test
+    public void testGetCellTextEvicted() {
+        System.out.println("getCellTextEvicted");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 1);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+
+        assertEquals(row1.get(0), "name10");
+        assertEquals(row2.get(0), "name11");
+        assertEquals(row1.get(0), "name10");
+
+        verify(readableGraph, times(2)).getObjectValue(NAME_ATTRIBUTE, 10);
+        verify(readableGraph, times(1)).getObjectValue(NAME_ATTRIBUTE, 11);
+    }
+
+    /**
+     * Test of getCellText method, of class TableRowModel, for many rows. Rows
+     * that are not cached are read under a single read lock and are not cached.
+     */
+    @Test
+    public void testGetCellTextRows() {
+        System.out.println("getCellTextRows");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+        final ElementRow row3 = instance.createRow(12);
+        assertEquals(row2.get(0), "name11");
+
+        final List<String[]> text = instance.getCellText(List.of(row1, row2, row3), new int[]{1, 0});
+        assertEquals(text.size(), 3);
+        assertEquals(text.get(0), new String[]{"20", "name10"});
+        assertEquals(text.get(1), new String[]{"22", "name11"});
+        assertEquals(text.get(2), new String[]{"24", "name12"});
+
+        // One lock for the cached row and one for the rest
+        verify(graph, times(2)).getReadableGraph();
+        verify(readableGraph, times(1)).getObjectValue(NAME_ATTRIBUTE, 11);
+
+        // The rows read in bulk are not cached
+        assertNull(instance.getLoadedCellText(row1, 0));
+    }
+
+    /**
+     * Test of getRowText method, of class TableRowModel, for rows that do not
+     * belong to a model.
+     */
+    @Test
+    public void testGetRowText() {
+        System.out.println("getRowText");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        final List<ObservableList<String>> rows = List.of(
+                FXCollections.observableArrayList("a", "b"),
+                instance.createRow(10));
+
+        final List<String[]> text = TableRowModel.getRowText(rows, new int[]{1});
+        assertEquals(text.get(0), new String[]{"b"});
+        assertEquals(text.get(1), new String[]{"20"});
+    }
+
+    /**
+     * Test of getCellText method, of class TableRowModel, for a sorted column.
+     * The whole column is read at once.
+     */
+    @Test
+    public void testGetCellTextSorted() {
+        System.out.println("getCellTextSorted");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[]{1}, 10);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+        final ElementRow row3 = instance.createRow(12);
+
+        assertEquals(row2.get(1), "22");
+        assertEquals(row1.get(1), "20");
+        assertEquals(row3.get(1), "24");
+
+        verify(graph, times(1)).getReadableGraph();
+        verify(readableGraph, times(1)).getObjectValue(WEIGHT_ATTRIBUTE, 12);
+        verify(readableGraph, times(0)).getObjectValue(NAME_ATTRIBUTE, 12);
+    }
+
+    /**
+     * Test of prefetch method, of class TableRowModel.
+     */
+    @Test
+    public void testPrefetch() {
+        System.out.println("prefetch");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+
+        TableRowModel.prefetchRows(List.of(row1, row2));
+        assertEquals(row1.get(1), "20");
+        assertEquals(row2.get(0), "name11");
+
+        verify(graph, times(1)).getReadableGraph();
+    }
+
+    /**
+     * Test of getLoadedCellText method, of class TableRowModel. The graph is
+     * only read by the loader, which reads every requested row at once.
+     */
+    @Test
+    public void testGetLoadedCellText() {
+        System.out.println("getLoadedCellText");
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Boolean> loaded = new ArrayList<>();
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10,
+                tasks::add, loaded::add);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+
+        assertNull(instance.getLoadedCellText(row1, 0));
+        assertNull(instance.getLoadedCellText(row1, 1));
+        assertNull(instance.getLoadedCellText(row2, 0));
+        verify(graph, times(0)).getReadableGraph();
+        assertEquals(tasks.size(), 1);
+
+        tasks.remove(0).run();
+        assertEquals(loaded, List.of(false));
+        assertEquals(instance.getLoadedCellText(row1, 1), "20");
+        assertEquals(instance.getLoadedCellText(row2, 0), "name11");
+        verify(graph, times(1)).getReadableGraph();
+        assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Test of getLoadedCellText method, of class TableRowModel, for a sorted
+     * column. The whole column is read by the loader.
+     */
+    @Test
+    public void testGetLoadedCellTextSorted() {
+        System.out.println("getLoadedCellTextSorted");
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Boolean> loaded = new ArrayList<>();
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[]{1}, 10,
+                tasks::add, loaded::add);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+
+        assertNull(instance.getLoadedCellText(row2, 1));
+        tasks.remove(0).run();
+        assertEquals(loaded, List.of(true));
+        assertEquals(instance.getLoadedCellText(row1, 1), "20");
+        assertEquals(instance.getLoadedCellText(row2, 1), "22");
+        verify(readableGraph, times(0)).getObjectValue(NAME_ATTRIBUTE, 10);
+    }
+
+    /**
+     * Test of getLoadedCellText method, of class TableRowModel, when the values
+     * change while the loader is reading them. The text read before the change
+     * is not kept.
+     */
+    @Test
+    public void testGetLoadedCellTextChanged() {
+        System.out.println("getLoadedCellTextChanged");
+        final List<Runnable> tasks = new ArrayList<>();
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10,
+                tasks::add, sortedColumnLoaded -> {
+                });
+        instance.setBaseline(readableGraph);
+        final ElementRow row = instance.createRow(10);
+        assertNull(instance.getLoadedCellText(row, 0));
+
+        // the name changes while the loader is reading the row
+        when(readableGraph.getChangedElements(NAME_ATTRIBUTE, 0L)).thenReturn(new int[]{10});
+        when(readableGraph.getChangedElements(WEIGHT_ATTRIBUTE, 0L)).thenReturn(new int[0]);
+        when(readableGraph.getObjectValue(NAME_ATTRIBUTE, 10)).then(invocation -> {
+            assertTrue(instance.updateValues(graph));
+            return "name10";
+        }).thenReturn("renamed");
+
+        tasks.remove(0).run();
+        assertNull(instance.getLoadedCellText(row, 0));
+        tasks.remove(0).run();
+        assertEquals(instance.getLoadedCellText(row, 0), "renamed");
+    }
+
+    /**
+     * Test of updateValues method, of class TableRowModel. Only the changed
+     * rows are read again.
+     */
+    @Test
+    public void testUpdateValues() {
+        System.out.println("updateValues");
+        when(readableGraph.getValueChangeSequence()).thenReturn(5L);
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        instance.setBaseline(readableGraph);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(11);
+        assertEquals(row1.get(0), "name10");
+        assertEquals(row2.get(0), "name11");
+
+        when(readableGraph.getChangedElements(NAME_ATTRIBUTE, 5L)).thenReturn(new int[]{10});
+        when(readableGraph.getChangedElements(WEIGHT_ATTRIBUTE, 5L)).thenReturn(new int[0]);
+        when(readableGraph.getObjectValue(NAME_ATTRIBUTE, 10)).thenReturn("renamed");
+        assertTrue(instance.updateValues(graph));
+
+        assertEquals(row1.get(0), "renamed");
+        assertEquals(row2.get(0), "name11");
+        verify(readableGraph, times(1)).getObjectValue(NAME_ATTRIBUTE, 11);
+    }
+
+    /**
+     * Test of updateValues method, of class TableRowModel, when the rows need
+     * to be created again.
+     */
+    @Test
+    public void testUpdateValuesRowsChanged() {
+        System.out.println("updateValuesRowsChanged");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        instance.setBaseline(readableGraph);
+
+        // A sorted column has changed
+        final TableRowModel sortedInstance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[]{0}, 10);
+        sortedInstance.setBaseline(readableGraph);
+        when(readableGraph.getChangedElements(NAME_ATTRIBUTE, 0L)).thenReturn(new int[]{10});
+        assertFalse(sortedInstance.updateValues(graph));
+        assertTrue(instance.updateValues(graph));
+
+        // The structure has changed
+        when(readableGraph.getStructureModificationCounter()).thenReturn(1L);
+        assertFalse(instance.updateValues(graph));
+    }
+
+    /**
+     * Test of isFor method, of class TableRowModel.
+     */
+    @Test
+    public void testIsFor() {
+        System.out.println("isFor");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+
+        assertTrue(instance.isFor(graph, GraphElementType.VERTEX, columns));
+        assertFalse(instance.isFor(graph, GraphElementType.TRANSACTION, columns));
+        assertFalse(instance.isFor(mock(Graph.class), GraphElementType.VERTEX, columns));
+        assertFalse(instance.isFor(graph, GraphElementType.VERTEX, List.of(columns.get(0))));
+    }
+
+    /**
+     * Test of equals method, of class ElementRow. Rows are only equal to
+     * themselves.
+     */
+    @Test
+    public void testRowEquals() {
+        System.out.println("rowEquals");
+        final TableRowModel instance = new TableRowModel(graph, GraphElementType.VERTEX, columns, () -> new int[0], 10);
+        final ElementRow row1 = instance.createRow(10);
+        final ElementRow row2 = instance.createRow(10);
+
+        assertTrue(row1.equals(row1));
+        assertFalse(row1.equals(row2));
+        assertEquals(row1.getElementId(), 10);
+    }
+}
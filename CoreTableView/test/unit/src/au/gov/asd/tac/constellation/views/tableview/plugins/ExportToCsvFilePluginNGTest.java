@@ -22,9 +22,11 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Pagination;
 import javafx.scene.control.TableView;
@@ -73,7 +75,14 @@ public class ExportToCsvFilePluginNGTest {
             tmpFile = File.createTempFile("constellationTest", ".csv");
             final String csv = "COLUMN_1,COLUMN_2\nrow1Column1,row1Column2\nrow2Column1,row2Column2\n";
 
-            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getTableData(table, pagination, true, true)).thenReturn(csv);
+            // The rows are gathered by the plugin and read while the file is written
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getVisibleColumnHeaders(table))
+                    .thenReturn(List.of("COLUMN_1", "COLUMN_2"));
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getTableRows(table, pagination, true))
+                    .thenReturn(List.of(
+                            FXCollections.observableArrayList("row1Column1", "row1Column2", "row1InvisibleColumn3"),
+                            FXCollections.observableArrayList("row2Column1", "row2Column2", "row2InvisibleColumn3")));
+            tableViewUtilsMockedStatic.when(() -> TableViewUtilities.getVisibleColumnIndices(table)).thenReturn(new int[]{0, 1});
 
             final ExportToCsvFilePlugin plugin = new ExportToCsvFilePlugin(tmpFile, table, pagination, true);
             plugin.execute(null, pluginInteraction, null);
@@ -15,12 +15,16 @@
  */
 package au.gov.asd.tac.constellation.testing.memory;
 
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.graph.node.GraphNode;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManager.ClassStats;
 import au.gov.asd.tac.constellation.utilities.memory.MemoryManagerListener;
 import au.gov.asd.tac.constellation.utilities.text.SeparatorConstants;
 import java.util.Map;
 import java.util.Map.Entry;
+import javax.swing.Timer;
 import org.netbeans.api.settings.ConvertAsProperties;
 import org.openide.awt.ActionID;
 import org.openide.awt.ActionReference;
@@ -59,6 +63,12 @@ import org.openide.windows.TopComponent;
 })
 public final class MemoryManagerTopComponent extends TopComponent implements MemoryManagerListener {
 
+    private static final int UNDO_MEMORY_REFRESH_MILLIS = 2000;
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    // Undo memory changes with every edit rather than when objects are created, so it is polled.
+    private final Timer refreshTimer = new Timer(UNDO_MEMORY_REFRESH_MILLIS, e -> updateObjectCounts());
+
     public MemoryManagerTopComponent() {
         initComponents();
         setName(Bundle.CTL_MemoryManagerTopComponent());
@@ -102,10 +112,12 @@ public final class MemoryManagerTopComponent extends TopComponent implements Mem
     public void componentOpened() {
         MemoryManager.addMemoryManagerListener(this);
         updateObjectCounts();
+        refreshTimer.start();
     }
 
     @Override
     public void componentClosed() {
+        refreshTimer.stop();
         MemoryManager.removeMemoryManagerListener(this);
     }
 
@@ -144,6 +156,19 @@ public final class MemoryManagerTopComponent extends TopComponent implements Mem
             result.append(SeparatorConstants.NEWLINE);
         }
 
+        for (final Entry<String, Graph> e : GraphNode.getAllGraphs().entrySet()) {
+            if (e.getValue() instanceof DualGraph dualGraph) {
+                result.append("Undo memory for graph ");
+                result.append(e.getKey());
+                result.append(": in memory = ");
+                result.append(dualGraph.getUndoMemory() / MEGABYTE);
+                result.append(" MB, spilled = ");
+                result.append(dualGraph.getSpilledUndoMemory() / MEGABYTE);
+                result.append(" MB");
+                result.append(SeparatorConstants.NEWLINE);
+            }
+        }
+
         objectCountsTextArea.setText(result.toString());
     }
 }
@@ -15,12 +15,8 @@
  */
 package au.gov.asd.tac.constellation.views.timeline;
 
-import au.gov.asd.tac.constellation.graph.Graph;
-import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.ReadableGraph;
-import au.gov.asd.tac.constellation.graph.attribute.DateAttributeDescription;
-import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
-import au.gov.asd.tac.constellation.utilities.temporal.TemporalConstants;
+import au.gov.asd.tac.constellation.views.timeline.clustering.TemporalIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
@@ -168,10 +164,26 @@ public class OverviewPanel extends Pane {
     public void populateHistogram(final ReadableGraph graph, final String datetimeAttribute,
             final double lowestTimeExtent, final double highestTimeExtent, final boolean isFullRefresh,
             final boolean selectedOnly) {
-        final int transactionCount = graph.getTransactionCount();
-        final int datetimeAttributeId = graph.getAttribute(GraphElementType.TRANSACTION, datetimeAttribute);
-        final int selectedTransAttributeId = VisualConcept.TransactionAttribute.SELECTED.get(graph);
+        final TemporalIndex temporalIndex = new TemporalIndex();
+        temporalIndex.update(graph, datetimeAttribute);
+        populateHistogram(temporalIndex, lowestTimeExtent, highestTimeExtent, isFullRefresh, selectedOnly);
+    }
 
+    /**
+     * Creates a histogram view of the temporal data held by an index of
+     * transactions by datetime. Each point of the histogram is counted from
+     * the index directly, so the cost depends on the number of points rather
+     * than the number of transactions. If the graph did not have the datetime
+     * attribute when the index was updated, the histogram is left as it is.
+     *
+     * @param temporalIndex The index of transactions by datetime.
+     * @param lowestTimeExtent The lowestTimeExtent observed temporal value.
+     * @param highestTimeExtent The highestTimeExtent observed temporal value.
+     * @param isFullRefresh is a full refresh needed.
+     * @param selectedOnly only show selected items.
+     */
+    public void populateHistogram(final TemporalIndex temporalIndex, final double lowestTimeExtent,
+            final double highestTimeExtent, final boolean isFullRefresh, final boolean selectedOnly) {
         range = highestTimeExtent - lowestTimeExtent;
         this.lowestTimeExtent = lowestTimeExtent;
         this.highestTimeExtent = highestTimeExtent;
@@ -182,83 +194,48 @@ public class OverviewPanel extends Pane {
 
         xAxis.setTickUnit(intervals / 10);
 
-        final int[] items = new int[intervals + 1];
-        final int[] itemsSelected = new int[intervals + 1];
-
         // Check to see if we actually have a datetime attribute:
-        if (datetimeAttributeId != Graph.NOT_FOUND) {
-            final XYChart.Series<Number, Number> totalSeries = new XYChart.Series<>();
-            final XYChart.Series<Number, Number> selectedSeries = new XYChart.Series<>();
-
-            for (int i = 0; i < transactionCount; i++) {
-                final int transactionID = graph.getTransaction(i);
-                final String datetimeAttributeType = graph.getAttributeType(datetimeAttributeId);
-                final Object datetimeAttributeDefault = graph.getAttributeDefaultValue(datetimeAttributeId);
-                final Object datetimeAttributeValue = graph.getObjectValue(datetimeAttributeId, transactionID);
-
-                if (TimelineTopComponent.SUPPORTED_DATETIME_ATTRIBUTE_TYPES.contains(datetimeAttributeType)
-                        && datetimeAttributeValue != null && !datetimeAttributeValue.equals(datetimeAttributeDefault)
-                        && ((selectedTransAttributeId != Graph.NOT_FOUND && graph.getBooleanValue(selectedTransAttributeId, transactionID)) || !selectedOnly)) {
-                    long transactionValue = graph.getLongValue(datetimeAttributeId, transactionID);
-
-                    // Dates are represented as days since epoch, whereas datetimes are represented as milliseconds since epoch
-                    if (datetimeAttributeType.equals(DateAttributeDescription.ATTRIBUTE_NAME)) {
-                        transactionValue = transactionValue * TemporalConstants.MILLISECONDS_IN_DAY;
-                    }
-
-                    int interval = 0;
-                    if (intervalLength > 0) {
-                        interval = ((int) Math.round((transactionValue - lowestTimeExtent) / intervalLength));
-                    }
-
-                    if (items[interval] > 0) {
-                        items[interval]++;
-                    } else {
-                        items[interval] = 1;
-                    }
-
-                    // Work out if we have selected values for the current interval:
-                    if (selectedTransAttributeId != Graph.NOT_FOUND && graph.getBooleanValue(selectedTransAttributeId, transactionID)) {
-                        if (itemsSelected[interval] > 0) {
-                            itemsSelected[interval]++;
-                        } else {
-                            itemsSelected[interval] = 1;
-                        }
-                    }
-                }
-            }
-            // Create the data points that will represent the temporal data volumes.
-            for (int i = 0; i <= intervals; i++) {
-                if (isFullRefresh) {
-                    totalSeries.getData().add(new XYChart.Data<>(i, items[i]));
-                }
-                selectedSeries.getData().add(new XYChart.Data<>(i, itemsSelected[i]));
+        if (!temporalIndex.hasDatetimeAttribute()) {
+            return;
+        }
+
+        final int[] items = temporalIndex.getCounts(lowestTimeExtent, intervalLength, intervals + 1, selectedOnly);
+        final int[] itemsSelected = temporalIndex.getCounts(lowestTimeExtent, intervalLength, intervals + 1, true);
+
+        final XYChart.Series<Number, Number> totalSeries = new XYChart.Series<>();
+        final XYChart.Series<Number, Number> selectedSeries = new XYChart.Series<>();
+
+        // Create the data points that will represent the temporal data volumes.
+        for (int i = 0; i <= intervals; i++) {
+            if (isFullRefresh) {
+                totalSeries.getData().add(new XYChart.Data<>(i, items[i]));
             }
+            selectedSeries.getData().add(new XYChart.Data<>(i, itemsSelected[i]));
+        }
 
-            ObservableList<XYChart.Series<Number, Number>> data = histogram.getData();
-            if (data == null) {
-                data = FXCollections.observableArrayList(totalSeries, selectedSeries);
-                histogram.setData(data);
+        ObservableList<XYChart.Series<Number, Number>> data = histogram.getData();
+        if (data == null) {
+            data = FXCollections.observableArrayList(totalSeries, selectedSeries);
+            histogram.setData(data);
+        } else {
+            if (isFullRefresh) {
+                histogram.getData().clear();
+                histogram.getData().addAll(totalSeries, selectedSeries);
             } else {
-                if (isFullRefresh) {
+                //causes flickers on remove
+                if (selectedOnly) {
                     histogram.getData().clear();
-                    histogram.getData().addAll(totalSeries, selectedSeries);
-                } else {
-                    //causes flickers on remove
-                    if (selectedOnly) {
-                        histogram.getData().clear();
-                        histogram.getData().add(new XYChart.Series<>());
-                    } else if (histogram.getData().size() > 1) {
-                        histogram.getData().remove(1);
-                    }
-                    histogram.getData().add(selectedSeries);
+                    histogram.getData().add(new XYChart.Series<>());
+                } else if (histogram.getData().size() > 1) {
+                    histogram.getData().remove(1);
                 }
+                histogram.getData().add(selectedSeries);
             }
-            xAxis.setLowerBound(0);
-            xAxis.setUpperBound(intervals);
-
-            setExtentPOV(coordinator.getTimelineLowerTimeExtent(), coordinator.getTimelineUpperTimeExtent());
         }
+        xAxis.setLowerBound(0);
+        xAxis.setUpperBound(intervals);
+
+        setExtentPOV(coordinator.getTimelineLowerTimeExtent(), coordinator.getTimelineUpperTimeExtent());
     }
     // </editor-fold>
 
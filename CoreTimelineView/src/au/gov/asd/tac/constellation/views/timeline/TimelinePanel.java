@@ -104,6 +104,10 @@ public class TimelinePanel extends Region {
     private ComboBox<ZoneId> timeZoneComboBox;
     private long expectedvxMod = Long.MIN_VALUE;
     private long expectedtxMod = Long.MIN_VALUE;
+    // what the chart items cached on the tree were made from, so they are only reused while it is unchanged
+    private String itemNodeLabelAttr = null;
+    private boolean itemShowLabels = false;
+    private long itemValueChangeSequence = Long.MIN_VALUE;
 
     final BorderPane timelinePane = new BorderPane();
 
@@ -215,6 +219,20 @@ public class TimelinePanel extends Region {
 
         final TimeExtents te = clusteringManager.generateTree(graph, dateTimeAttribute, selectedOnly);
 
+        // The tree keeps the chart items drawn for it, which show the colours and labels of the graph at the time
+        final String colorAttrDesc = new ColorAttributeDescription().getName();
+        final long valueChangeSequence = graph.getValueChangeSequence();
+        final boolean showLabels = btnShowLabels.isSelected();
+        if (!Objects.equals(nodeLabelAttr, itemNodeLabelAttr) || showLabels != itemShowLabels || valueChangeSequence < itemValueChangeSequence
+                || hasChanged(graph, graph.getAttribute(GraphElementType.TRANSACTION, colorAttrDesc))
+                || hasChanged(graph, graph.getAttribute(GraphElementType.VERTEX, colorAttrDesc))
+                || hasChanged(graph, graph.getAttribute(GraphElementType.VERTEX, nodeLabelAttr))) {
+            clusteringManager.clearNodeItems();
+        }
+        itemNodeLabelAttr = nodeLabelAttr;
+        itemShowLabels = showLabels;
+        itemValueChangeSequence = valueChangeSequence;
+
         if (te != null) {
             final double paddingFactor = 0.05;
             double unadjustedLowerTimeExtent = te.lowerTimeExtent();
@@ -235,6 +253,14 @@ public class TimelinePanel extends Region {
         }
     }
 
+    private boolean hasChanged(final GraphReadMethods graph, final int attribute) {
+        if (attribute == Graph.NOT_FOUND) {
+            return false;
+        }
+        final int[] changed = graph.getChangedElements(attribute, itemValueChangeSequence);
+        return changed == null || changed.length > 0;
+    }
+
     /**
      * Returns the current thread for updating the timeline.
      *
@@ -314,6 +340,12 @@ public class TimelinePanel extends Region {
             }
 
             final TreeElement element = (TreeElement) elementsFromArray;
+            if (element instanceof TreeLeaf) {
+                // A leaf counts its transaction as selected, and notes whether either of its vertices is selected
+                boolean isElementSelected = GraphManager.getDefault().isElementSelected();
+                isElementSelected |= element.getSelectedCount() > 0 || element.anyNodesSelected();
+                GraphManager.getDefault().setElementSelected(isElementSelected);
+            }
 
             XYChart.Data<Number, Number> nodeItem = element.getNodeItem();
             if (nodeItem == null) {
@@ -355,10 +387,6 @@ public class TimelinePanel extends Region {
                         sourceBLabel = graph.getStringValue(labelVertAttr, sourceB);
                     }
 
-                    boolean isElementSelected = GraphManager.getDefault().isElementSelected();
-                    isElementSelected |= sourceASelected || sourceBSelected || transSelected;
-                    GraphManager.getDefault().setElementSelected(isElementSelected);
-
                     // Get the directionality of the transaction:
                     final int directionality = graph.getTransactionDirection(transactionID);
 
@@ -470,8 +498,18 @@ public class TimelinePanel extends Region {
      * @see TimelineChart
      */
     public void clearTimeline() {
-        clearTimelineData();
+        resetTimeline();
         clusteringManager.cleanupVariables();
+    }
+
+    /**
+     * Method responsible for removing all content from the <code>TimelineChart</code> component, while keeping the
+     * clustering of the transactions so that it can be brought up to date with the graph rather than generated again.
+     *
+     * @see TimelineChart
+     */
+    public void resetTimeline() {
+        clearTimelineData();
         GraphManager.getDefault().setElementSelected(false);
     }
     // </editor-fold>
@@ -526,8 +526,8 @@ public final class TimelineTopComponent extends TopComponent implements LookupLi
                         Platform.runLater(() -> {
                             // Now that the heights are known, set the position of the splitPane divider:
                             splitPane.setDividerPositions(splitPanePosition);
-                            // Clear anything already on the charts:
-                            timelinePanel.clearTimeline();
+                            // Clear anything already on the charts, the timeline brings its clustering up to date with the graph:
+                            timelinePanel.resetTimeline();
                             overviewPanel.clearHistogram(!isFullRefresh);
                             // Ensure that everything is visible:
                             timelinePanel.setDisable(false);
@@ -549,7 +549,8 @@ public final class TimelineTopComponent extends TopComponent implements LookupLi
                             } else {
                                 timelinePanel.populateFromGraph(rg, currentDatetimeAttribute, null, selectedOnly, state == null ? TimeZoneUtilities.UTC : state.getTimeZone());
                             }
-                            overviewPanel.populateHistogram(rg, currentDatetimeAttribute, getTimelineLowerTimeExtent(), getTimelineUpperTimeExtent(), isFullRefresh, selectedOnly);
+                            // the timeline has just indexed the transactions by datetime, so the histogram can count from that index
+                            overviewPanel.populateHistogram(timelinePanel.getClusteringManager().getTemporalIndex(), getTimelineLowerTimeExtent(), getTimelineUpperTimeExtent(), isFullRefresh, selectedOnly);
 
                             // Restore the dimming state if we have it:
                             if (state == null) {
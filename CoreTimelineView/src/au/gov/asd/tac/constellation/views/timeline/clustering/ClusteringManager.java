@@ -16,10 +16,8 @@
 package au.gov.asd.tac.constellation.views.timeline.clustering;
 
 import au.gov.asd.tac.constellation.graph.Graph;
-import au.gov.asd.tac.constellation.graph.GraphElementType;
 import au.gov.asd.tac.constellation.graph.GraphReadMethods;
 import au.gov.asd.tac.constellation.graph.WritableGraph;
-import au.gov.asd.tac.constellation.graph.attribute.DateAttributeDescription;
 import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.PluginGraphs;
 import au.gov.asd.tac.constellation.plugins.PluginInfo;
@@ -27,9 +25,7 @@ import au.gov.asd.tac.constellation.plugins.PluginInteraction;
 import au.gov.asd.tac.constellation.plugins.parameters.PluginParameters;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimplePlugin;
-import au.gov.asd.tac.constellation.utilities.temporal.TemporalConstants;
 import au.gov.asd.tac.constellation.views.timeline.TimeExtents;
-import au.gov.asd.tac.constellation.views.timeline.TimelineTopComponent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -48,8 +44,18 @@ import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
  */
 public class ClusteringManager {
 
+    private static final TreeNode[] NO_NODES = new TreeNode[0];
+
+    private final TemporalIndex temporalIndex = new TemporalIndex();
     private final List<TreeLeaf> leaves = new ArrayList<>();
+    // the nodes of the tree in the order they were merged
+    private TreeNode[] nodes = NO_NODES;
     private TreeElement tree;
+    // what the tree was generated from, so it is only generated again when that changes
+    private boolean treeGenerated = false;
+    private boolean treeSelectedOnly;
+    private long treeModificationCount;
+    private long treeSelectionModificationCount;
     private Set<TreeElement> elementsToDraw = new HashSet<>();
     private Set<TreeElement> elementsToUndim = new HashSet<>();
     private Set<TreeElement> oldElementsToUndim;
@@ -58,88 +64,134 @@ public class ClusteringManager {
     private Set<TreeElement> oldElementsToUnhide;
     private final MutableIntIntMap unhiddenVerticesOnGraph = new IntIntHashMap();
 
+    /**
+     * Returns the index of transactions by datetime that the tree was last
+     * generated from.
+     *
+     * @return the index of transactions by datetime.
+     */
+    public TemporalIndex getTemporalIndex() {
+        return temporalIndex;
+    }
+
     public TimeExtents generateTree(final GraphReadMethods graph, final String datetimeAttribute, final boolean selectedOnly) {
-        final int transactionCount = graph.getTransactionCount();
-        final int datetimeAttributeId = graph.getAttribute(GraphElementType.TRANSACTION, datetimeAttribute);
         final int selectedTransAttributeId = VisualConcept.TransactionAttribute.SELECTED.get(graph);
         final int selectedNodeAttributeId = VisualConcept.VertexAttribute.SELECTED.get(graph);
 
         // If we actually have the attributes
-        if (datetimeAttributeId != Graph.NOT_FOUND && selectedNodeAttributeId != Graph.NOT_FOUND && selectedTransAttributeId != Graph.NOT_FOUND) {
-            // Grab all of the transactions off the graph and turn into leaves:
-            for (int i = 0; i < transactionCount; i++) {
-                final int transactionID = graph.getTransaction(i);
-                final String datetimeAttributeType = graph.getAttributeType(datetimeAttributeId);
-                final Object datetimeAttributeDefault = graph.getAttributeDefaultValue(datetimeAttributeId);
-                final Object datetimeAttributeValue = graph.getObjectValue(datetimeAttributeId, transactionID);
-
-                if (TimelineTopComponent.SUPPORTED_DATETIME_ATTRIBUTE_TYPES.contains(datetimeAttributeType)
-                        && datetimeAttributeValue != null && !datetimeAttributeValue.equals(datetimeAttributeDefault)) {
-                    final int vertexA = graph.getTransactionSourceVertex(transactionID);
-                    final int vertexB = graph.getTransactionDestinationVertex(transactionID);
-
-                    final int lowerY = Math.min(vertexA, vertexB);
-                    final int upperY = Math.max(vertexA, vertexB);
-
-                    long transactionValue = graph.getLongValue(datetimeAttributeId, transactionID);
-
-                    // Dates are represented as days since epoch, whereas datetimes are represented as milliseconds since epoch
-                    if (datetimeAttributeType.equals(DateAttributeDescription.ATTRIBUTE_NAME)) {
-                        transactionValue = transactionValue * TemporalConstants.MILLISECONDS_IN_DAY;
-                    }
-
-                    final boolean isSelected = graph.getBooleanValue(selectedTransAttributeId, transactionID);
-                    if (isSelected || !selectedOnly) {
-                        final boolean nodesSelected = graph.getBooleanValue(selectedNodeAttributeId, vertexA) || graph.getBooleanValue(selectedNodeAttributeId, vertexB);
-                        leaves.add(new TreeLeaf(transactionID, transactionValue, isSelected, nodesSelected, lowerY, upperY, Math.min(vertexA, vertexB), Math.max(vertexA, vertexB)));
+        if (temporalIndex.update(graph, datetimeAttribute) && selectedNodeAttributeId != Graph.NOT_FOUND && selectedTransAttributeId != Graph.NOT_FOUND) {
+            if (treeGenerated && selectedOnly == treeSelectedOnly && temporalIndex.getModificationCount() == treeModificationCount) {
+                // The transactions are unchanged, so the tree only needs to be rebuilt if the selection decides which transactions it holds
+                if (temporalIndex.getSelectionModificationCount() != treeSelectionModificationCount) {
+                    if (selectedOnly) {
+                        buildTree(true);
+                    } else {
+                        refreshSelection();
                     }
                 }
+            } else {
+                buildTree(selectedOnly);
             }
+        } else {
+            clearTree();
+        }
 
-            if (leaves.isEmpty()) {
-                tree = null;
-                return null;
-            } else if (leaves.size() == 1) {
-                tree = leaves.get(0);
-                return new TimeExtents(tree.getLowerTimeExtent(), tree.getUpperTimeExtent());
+        return tree != null ? new TimeExtents(tree.getLowerTimeExtent(), tree.getUpperTimeExtent()) : null;
+    }
+
+    private void buildTree(final boolean selectedOnly) {
+        leaves.clear();
+        nodes = NO_NODES;
+        treeGenerated = true;
+        treeSelectedOnly = selectedOnly;
+        treeModificationCount = temporalIndex.getModificationCount();
+        treeSelectionModificationCount = temporalIndex.getSelectionModificationCount();
+
+        // Turn the transactions into leaves, which the index already holds in datetime order:
+        for (int i = 0; i < temporalIndex.size(); i++) {
+            final boolean isSelected = temporalIndex.isSelected(i);
+            if (isSelected || !selectedOnly) {
+                final int vertexA = temporalIndex.getSourceVertex(i);
+                final int vertexB = temporalIndex.getDestinationVertex(i);
+                final int lowerY = Math.min(vertexA, vertexB);
+                final int upperY = Math.max(vertexA, vertexB);
+                leaves.add(new TreeLeaf(temporalIndex.getTransaction(i), temporalIndex.getDatetime(i), isSelected,
+                        temporalIndex.isVertexSelected(i), lowerY, upperY, lowerY, upperY));
             }
+        }
 
-            Collections.sort(leaves);
-            TreeNode lastNode = null;
+        if (leaves.isEmpty()) {
+            tree = null;
+            return;
+        } else if (leaves.size() == 1) {
+            tree = leaves.get(0);
+            return;
+        }
 
-            final TreeNode[] nodes = new TreeNode[leaves.size() - 1];
+        TreeNode lastNode = null;
 
-            for (int i = 0; i < (leaves.size() - 1); i++) {
-                final TreeNode nextNode = new TreeNode(leaves.get(i), leaves.get(i + 1));
-                nextNode.previous = lastNode;
-                if (lastNode != null) {
-                    lastNode.next = nextNode;
-                }
-                lastNode = nextNode;
-                nodes[i] = nextNode;
+        nodes = new TreeNode[leaves.size() - 1];
+
+        for (int i = 0; i < (leaves.size() - 1); i++) {
+            final TreeNode nextNode = new TreeNode(leaves.get(i), leaves.get(i + 1));
+            nextNode.previous = lastNode;
+            if (lastNode != null) {
+                lastNode.next = nextNode;
             }
+            lastNode = nextNode;
+            nodes[i] = nextNode;
+        }
 
-            Arrays.sort(nodes);
+        Arrays.sort(nodes);
 
-            for (int i = 0; i < nodes.length - 1; i++) {
-                final TreeNode highest = nodes[i];
+        for (int i = 0; i < nodes.length - 1; i++) {
+            final TreeNode highest = nodes[i];
 
-                if (highest.previous != null) {
-                    highest.previous.setLastChild(highest);
-                    highest.previous.next = highest.next;
-                }
-                if (highest.next != null) {
-                    highest.next.setFirstChild(highest);
-                    highest.next.previous = highest.previous;
-                }
+            if (highest.previous != null) {
+                highest.previous.setLastChild(highest);
+                highest.previous.next = highest.next;
             }
+            if (highest.next != null) {
+                highest.next.setFirstChild(highest);
+                highest.next.previous = highest.previous;
+            }
+        }
 
-            tree = nodes[nodes.length - 1];
-        } else {
-            tree = null;
+        tree = nodes[nodes.length - 1];
+    }
+
+    /**
+     * Bring the selection of an existing tree holding every transaction of the
+     * index up to date, without building the tree again. Each node is merged
+     * into a node later in the sorted nodes, so visiting the nodes in order
+     * visits the children of a node before the node itself.
+     */
+    private void refreshSelection() {
+        treeSelectionModificationCount = temporalIndex.getSelectionModificationCount();
+        for (int i = 0; i < leaves.size(); i++) {
+            final TreeLeaf leaf = leaves.get(i);
+            leaf.setSelected(temporalIndex.isSelected(i), temporalIndex.isVertexSelected(i));
+            // a leaf draws the selection of each vertex, which its counts do not capture
+            leaf.setNodeItem(null);
+        }
+        for (final TreeNode node : nodes) {
+            if (node.refreshSelection()) {
+                node.setNodeItem(null);
+            }
         }
+    }
 
-        return tree != null ? new TimeExtents(tree.getLowerTimeExtent(), tree.getUpperTimeExtent()) : null;
+    /**
+     * Forget the chart items drawn for the tree, so that they are made again
+     * the next time they are drawn.
+     */
+    public void clearNodeItems() {
+        for (final TreeLeaf leaf : leaves) {
+            leaf.setNodeItem(null);
+        }
+        for (final TreeNode node : nodes) {
+            node.setNodeItem(null);
+        }
     }
 
     public void filterTree(final double pixelsPerTransaction, final long lowerTimeExtent, final long upperTimeExtent) {
@@ -232,6 +284,8 @@ public class ClusteringManager {
     public void clearTree() {
         tree = null;
         leaves.clear();
+        nodes = NO_NODES;
+        treeGenerated = false;
     }
 
     private void addLeavesToStack(final TreeElement element, final List<TreeElement> stack) {
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.timeline.clustering;
+
+import au.gov.asd.tac.constellation.graph.Graph;
+import au.gov.asd.tac.constellation.graph.GraphElementType;
+import au.gov.asd.tac.constellation.graph.GraphReadMethods;
+import au.gov.asd.tac.constellation.graph.attribute.DateAttributeDescription;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import au.gov.asd.tac.constellation.utilities.temporal.TemporalConstants;
+import au.gov.asd.tac.constellation.views.timeline.TimelineTopComponent;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * The transactions of a graph sorted by the value of a datetime attribute.
+ * <p>
+ * The datetimes and transaction ids are held in parallel primitive arrays in
+ * ascending order of datetime, along with a running count of selected
+ * transactions, so the number of transactions or selected transactions in any
+ * span of time is found by binary search rather than by visiting every
+ * transaction.
+ * <p>
+ * The index remembers the value change sequence of the graph it was last
+ * updated from. When the structure and attributes of the graph are unchanged,
+ * only the transactions whose datetime has changed since then are removed and
+ * merged back in, and only the selection flags of the transactions whose
+ * selection (or the selection of whose vertices) has changed are refreshed.
+ * The index is rebuilt when the graph, its structure or its attributes have
+ * changed, or when the changed transactions are no longer known.
+ *
+ * @author sirius
+ */
+public class TemporalIndex {
+
+    private static final long[] NO_DATETIMES = new long[0];
+    private static final int[] NO_TRANSACTIONS = new int[0];
+
+    // the value change sequence and modification counts the index was last brought up to date with
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    private String graphId = null;
+    private String datetimeAttribute = null;
+    private int datetimeAttributeId = Graph.NOT_FOUND;
+    private long structureModificationCount = UNKNOWN;
+    private long attributeModificationCount = UNKNOWN;
+    private long valueChangeSequence = UNKNOWN;
+
+    // incremented whenever the transactions or their order change, and whenever the selection changes
+    private long modificationCount = 0;
+    private long selectionModificationCount = 0;
+
+    private int size = 0;
+    private long[] datetimes = NO_DATETIMES;
+    private int[] transactions = NO_TRANSACTIONS;
+    private int[] sourceVertices = NO_TRANSACTIONS;
+    private int[] destinationVertices = NO_TRANSACTIONS;
+    // the position of each transaction id in the index, or -1 if it is not indexed
+    private int[] positions = NO_TRANSACTIONS;
+    private final BitSet selected = new BitSet();
+    private final BitSet verticesSelected = new BitSet();
+    // the number of selected transactions before each position
+    private int[] selectedCounts = new int[1];
+
+    /**
+     * Bring this index up to date with a graph.
+     *
+     * @param graph the graph to index.
+     * @param datetimeAttribute the name of the transaction attribute to order
+     * transactions by.
+     * @return true if the graph has the datetime attribute, or false if the
+     * index is now empty because it does not.
+     */
+    public boolean update(final GraphReadMethods graph, final String datetimeAttribute) {
+        final int attributeId = graph.getAttribute(GraphElementType.TRANSACTION, datetimeAttribute);
+        if (attributeId == Graph.NOT_FOUND) {
+            clear();
+            return false;
+        }
+
+        final int transactionSelectedAttributeId = VisualConcept.TransactionAttribute.SELECTED.get(graph);
+        final int vertexSelectedAttributeId = VisualConcept.VertexAttribute.SELECTED.get(graph);
+        final long structureCount = graph.getStructureModificationCounter();
+        final long attributeCount = graph.getAttributeModificationCounter();
+        final long sequence = graph.getValueChangeSequence();
+
+        // the value change sequence is only meaningful for the graph it came from and later versions of it
+        int[] changedTransactions = null;
+        if (Objects.equals(graph.getId(), graphId) && attributeId == datetimeAttributeId && datetimeAttribute.equals(this.datetimeAttribute)
+                && structureCount == structureModificationCount && attributeCount == attributeModificationCount
+                && sequence >= valueChangeSequence) {
+            changedTransactions = sequence == valueChangeSequence ? NO_TRANSACTIONS : graph.getChangedElements(attributeId, valueChangeSequence);
+        }
+
+        if (changedTransactions == null) {
+            build(graph, attributeId);
+            updateSelection(graph, transactionSelectedAttributeId, vertexSelectedAttributeId);
+        } else if (changedTransactions.length > 0) {
+            merge(graph, attributeId, changedTransactions);
+            updateSelection(graph, transactionSelectedAttributeId, vertexSelectedAttributeId);
+        } else if (sequence != valueChangeSequence) {
+            final int[] changedSelectedTransactions = getChangedElements(graph, transactionSelectedAttributeId);
+            final int[] changedSelectedVertices = getChangedElements(graph, vertexSelectedAttributeId);
+            if (changedSelectedTransactions == null || changedSelectedVertices == null) {
+                updateSelection(graph, transactionSelectedAttributeId, vertexSelectedAttributeId);
+            } else if (changedSelectedTransactions.length > 0 || changedSelectedVertices.length > 0) {
+                updateSelection(graph, transactionSelectedAttributeId, vertexSelectedAttributeId, changedSelectedTransactions, changedSelectedVertices);
+            }
+        }
+
+        graphId = graph.getId();
+        this.datetimeAttribute = datetimeAttribute;
+        datetimeAttributeId = attributeId;
+        structureModificationCount = structureCount;
+        attributeModificationCount = attributeCount;
+        valueChangeSequence = sequence;
+        return true;
+    }
+
+    /**
+     * Returns the elements whose value for an attribute has changed since the
+     * last update, or an empty array if the graph does not have the attribute,
+     * which it also did not have at the last update since the attributes have
+     * not changed.
+     */
+    private int[] getChangedElements(final GraphReadMethods graph, final int attributeId) {
+        return attributeId == Graph.NOT_FOUND ? NO_TRANSACTIONS : graph.getChangedElements(attributeId, valueChangeSequence);
+    }
+
+    /**
+     * Remove all transactions from this index.
+     */
+    public void clear() {
+        graphId = null;
+        datetimeAttribute = null;
+        datetimeAttributeId = Graph.NOT_FOUND;
+        structureModificationCount = UNKNOWN;
+        attributeModificationCount = UNKNOWN;
+        valueChangeSequence = UNKNOWN;
+        modificationCount++;
+        selectionModificationCount++;
+        size = 0;
+        datetimes = NO_DATETIMES;
+        transactions = NO_TRANSACTIONS;
+        sourceVertices = NO_TRANSACTIONS;
+        destinationVertices = NO_TRANSACTIONS;
+        positions = NO_TRANSACTIONS;
+        selected.clear();
+        verticesSelected.clear();
+        selectedCounts = new int[1];
+    }
+
+    private void build(final GraphReadMethods graph, final int attributeId) {
+        final int transactionCount = graph.getTransactionCount();
+        final long[] values = new long[transactionCount];
+        final int[] order = new int[transactionCount];
+        int count = 0;
+
+        final long scale = getScale(graph, attributeId);
+        if (scale != 0) {
+            for (int position = 0; position < transactionCount; position++) {
+                final int transactionId = graph.getTransaction(position);
+                if (!graph.isDefaultValue(attributeId, transactionId)) {
+                    values[count] = graph.getLongValue(attributeId, transactionId) * scale;
+                    order[count] = transactionId;
+                    count++;
+                }
+            }
+        }
+
+        // sort by datetime, keeping transactions with the same datetime in graph order
+        final long[] sortedValues = Arrays.copyOf(values, count);
+        final int[] sortedOrder = Arrays.copyOf(order, count);
+        mergeSort(values, order, sortedValues, sortedOrder, 0, count);
+
+        setTransactions(graph, count, sortedValues, sortedOrder);
+    }
+
+    /**
+     * Returns the number of milliseconds represented by a unit of the long
+     * value of a datetime attribute, or 0 if the attribute is not a supported
+     * datetime attribute.
+     */
+    private static long getScale(final GraphReadMethods graph, final int attributeId) {
+        final String attributeType = graph.getAttributeType(attributeId);
+        if (!TimelineTopComponent.SUPPORTED_DATETIME_ATTRIBUTE_TYPES.contains(attributeType)) {
+            return 0;
+        }
+        // Dates are represented as days since epoch, whereas datetimes are represented as milliseconds since epoch
+        return attributeType.equals(DateAttributeDescription.ATTRIBUTE_NAME) ? TemporalConstants.MILLISECONDS_IN_DAY : 1;
+    }
+
+    /**
+     * Remove the transactions whose datetime has changed and merge them back
+     * in at the position of their new datetime. The structure of the graph is
+     * unchanged, so the transactions already in the index keep their relative
+     * order.
+     */
+    private void merge(final GraphReadMethods graph, final int attributeId, final int[] changedTransactions) {
+        final long scale = getScale(graph, attributeId);
+
+        // the changed transactions which still have a datetime, in graph order
+        final long[] changed = new long[changedTransactions.length];
+        int changedCount = 0;
+        for (final int transactionId : changedTransactions) {
+            if (transactionId < positions.length && positions[transactionId] >= 0) {
+                positions[transactionId] = -1;
+            }
+            if (scale != 0 && graph.transactionExists(transactionId) && !graph.isDefaultValue(attributeId, transactionId)) {
+                changed[changedCount++] = ((long) graph.getTransactionPosition(transactionId) << Integer.SIZE) | transactionId;
+            }
+        }
+        Arrays.sort(changed, 0, changedCount);
+        final long[] values = new long[changedCount];
+        final int[] order = new int[changedCount];
+        for (int i = 0; i < changedCount; i++) {
+            order[i] = (int) changed[i];
+            values[i] = graph.getLongValue(attributeId, order[i]) * scale;
+        }
+        final long[] insertedValues = values.clone();
+        final int[] insertedOrder = order.clone();
+        mergeSort(values, order, insertedValues, insertedOrder, 0, changedCount);
+
+        // merge the transactions that are still in place with the changed transactions
+        final long[] mergedValues = new long[size + changedCount];
+        final int[] mergedOrder = new int[size + changedCount];
+        int count = 0;
+        int inserted = 0;
+        for (int i = 0; i < size; i++) {
+            if (positions[transactions[i]] < 0) {
+                continue;
+            }
+            while (inserted < changedCount && (insertedValues[inserted] < datetimes[i] || (insertedValues[inserted] == datetimes[i]
+                    && graph.getTransactionPosition(insertedOrder[inserted]) < graph.getTransactionPosition(transactions[i])))) {
+                mergedValues[count] = insertedValues[inserted];
+                mergedOrder[count++] = insertedOrder[inserted++];
+            }
+            mergedValues[count] = datetimes[i];
+            mergedOrder[count++] = transactions[i];
+        }
+        while (inserted < changedCount) {
+            mergedValues[count] = insertedValues[inserted];
+            mergedOrder[count++] = insertedOrder[inserted++];
+        }
+
+        setTransactions(graph, count, mergedValues, mergedOrder);
+    }
+
+    private void setTransactions(final GraphReadMethods graph, final int count, final long[] sortedValues, final int[] sortedOrder) {
+        size = count;
+        datetimes = sortedValues;
+        transactions = sortedOrder;
+        sourceVertices = new int[count];
+        destinationVertices = new int[count];
+        positions = new int[graph.getTransactionCapacity()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < count; i++) {
+            sourceVertices[i] = graph.getTransactionSourceVertex(transactions[i]);
+            destinationVertices[i] = graph.getTransactionDestinationVertex(transactions[i]);
+            positions[transactions[i]] = i;
+        }
+        selectedCounts = new int[count + 1];
+        modificationCount++;
+    }
+
+    /**
+     * Sort a range of source arrays into the destination arrays, using the
+     * destination arrays as scratch space for the source arrays.
+     */
+    private static void mergeSort(final long[] sourceValues, final int[] sourceOrder,
+            final long[] values, final int[] order, final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        mergeSort(values, order, sourceValues, sourceOrder, from, middle);
+        mergeSort(values, order, sourceValues, sourceOrder, middle, to);
+        if (sourceValues[middle - 1] <= sourceValues[middle]) {
+            System.arraycopy(sourceValues, from, values, from, to - from);
+            System.arraycopy(sourceOrder, from, order, from, to - from);
+            return;
+        }
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || (left < middle && sourceValues[left] <= sourceValues[right])) {
+                values[i] = sourceValues[left];
+                order[i] = sourceOrder[left++];
+            } else {
+                values[i] = sourceValues[right];
+                order[i] = sourceOrder[right++];
+            }
+        }
+    }
+
+    private void updateSelection(final GraphReadMethods graph, final int transactionSelectedAttributeId, final int vertexSelectedAttributeId) {
+        selected.clear();
+        verticesSelected.clear();
+        for (int i = 0; i < size; i++) {
+            selected.set(i, isSelected(graph, transactionSelectedAttributeId, transactions[i]));
+            verticesSelected.set(i, isSelected(graph, vertexSelectedAttributeId, sourceVertices[i])
+                    || isSelected(graph, vertexSelectedAttributeId, destinationVertices[i]));
+        }
+        countSelected();
+    }
+
+    /**
+     * Refresh the selection flags of the transactions whose selection, or the
+     * selection of whose vertices, has changed.
+     */
+    private void updateSelection(final GraphReadMethods graph, final int transactionSelectedAttributeId, final int vertexSelectedAttributeId,
+            final int[] changedTransactions, final int[] changedVertices) {
+        for (final int transactionId : changedTransactions) {
+            final int position = getPosition(transactionId);
+            if (position >= 0) {
+                selected.set(position, isSelected(graph, transactionSelectedAttributeId, transactionId));
+            }
+        }
+        for (final int vertexId : changedVertices) {
+            if (graph.vertexExists(vertexId)) {
+                final int transactionCount = graph.getVertexTransactionCount(vertexId);
+                for (int i = 0; i < transactionCount; i++) {
+                    final int position = getPosition(graph.getVertexTransaction(vertexId, i));
+                    if (position >= 0) {
+                        verticesSelected.set(position, isSelected(graph, vertexSelectedAttributeId, sourceVertices[position])
+                                || isSelected(graph, vertexSelectedAttributeId, destinationVertices[position]));
+                    }
+                }
+            }
+        }
+        countSelected();
+    }
+
+    private static boolean isSelected(final GraphReadMethods graph, final int selectedAttributeId, final int elementId) {
+        return selectedAttributeId != Graph.NOT_FOUND && graph.getBooleanValue(selectedAttributeId, elementId);
+    }
+
+    private void countSelected() {
+        for (int i = 0; i < size; i++) {
+            selectedCounts[i + 1] = selectedCounts[i] + (selected.get(i) ? 1 : 0);
+        }
+        selectionModificationCount++;
+    }
+
+    private int getPosition(final int transactionId) {
+        return transactionId >= 0 && transactionId < positions.length ? positions[transactionId] : -1;
+    }
+
+    /**
+     * Returns a count that changes whenever the transactions in this index,
+     * their datetimes or their order change.
+     *
+     * @return the modification count of this index.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a count that changes whenever the selection flags of the
+     * transactions in this index are refreshed.
+     *
+     * @return the selection modification count of this index.
+     */
+    public long getSelectionModificationCount() {
+        return selectionModificationCount;
+    }
+
+    /**
+     * Returns whether the graph had the datetime attribute when this index was
+     * last updated.
+     *
+     * @return true if the datetime attribute was found, or false if it was
+     * not or this index has been cleared.
+     */
+    public boolean hasDatetimeAttribute() {
+        return datetimeAttributeId != Graph.NOT_FOUND;
+    }
+
+    /**
+     * Returns the number of transactions in this index.
+     *
+     * @return the number of transactions in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getDatetime(final int position) {
+        return datetimes[position];
+    }
+
+    public int getTransaction(final int position) {
+        return transactions[position];
+    }
+
+    public int getSourceVertex(final int position) {
+        return sourceVertices[position];
+    }
+
+    public int getDestinationVertex(final int position) {
+        return destinationVertices[position];
+    }
+
+    public boolean isSelected(final int position) {
+        return selected.get(position);
+    }
+
+    public boolean isVertexSelected(final int position) {
+        return verticesSelected.get(position);
+    }
+
+    /**
+     * Returns the number of transactions, or selected transactions, with a
+     * datetime within an inclusive range.
+     *
+     * @param lowerTime the lowest datetime to count.
+     * @param upperTime the highest datetime to count.
+     * @param selectedOnly whether to only count selected transactions.
+     * @return the number of transactions within the range.
+     */
+    public int getCount(final long lowerTime, final long upperTime, final boolean selectedOnly) {
+        if (upperTime < lowerTime) {
+            return 0;
+        }
+        final int from = lowerBound(lowerTime);
+        final int to = upperTime == Long.MAX_VALUE ? size : lowerBound(upperTime + 1);
+        return selectedOnly ? selectedCounts[to] - selectedCounts[from] : to - from;
+    }
+
+    /**
+     * Count transactions into buckets of equal length. A transaction belongs
+     * to the bucket whose centre is nearest its datetime, so the first bucket
+     * is centred on the lower time. Transactions outside the buckets are not
+     * counted.
+     *
+     * @param lowerTime the centre of the first bucket.
+     * @param bucketLength the length of each bucket in milliseconds.
+     * @param bucketCount the number of buckets.
+     * @param selectedOnly whether to only count selected transactions.
+     * @return the number of transactions in each bucket.
+     */
+    public int[] getCounts(final double lowerTime, final double bucketLength, final int bucketCount, final boolean selectedOnly) {
+        final int[] counts = new int[bucketCount];
+        int from = firstInBucket(lowerTime, bucketLength, 0);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            final int to = firstInBucket(lowerTime, bucketLength, bucket + 1L);
+            counts[bucket] = selectedOnly ? selectedCounts[to] - selectedCounts[from] : to - from;
+            from = to;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the first position whose bucket is at least the given bucket.
+     */
+    private int firstInBucket(final double lowerTime, final double bucketLength, final long bucket) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final long middleBucket = bucketLength > 0 ? Math.round((datetimes[middle] - lowerTime) / bucketLength) : 0;
+            if (middleBucket < bucket) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose datetime is at least the given time.
+     */
+    private int lowerBound(final long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (datetimes[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
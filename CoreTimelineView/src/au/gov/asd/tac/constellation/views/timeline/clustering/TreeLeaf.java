@@ -31,7 +31,7 @@ public class TreeLeaf extends TreeElement implements Comparable<TreeLeaf> {
     int vertexIdB;
 
     private int selectionCount = 0;
-    private final boolean nodesSelected;
+    private boolean nodesSelected;
 
     TreeLeaf(final int transactionID, final long transactionValue, final boolean isSelected, final boolean nodesSelected, final int lowerDisplayPos,
             final int upperDisplayPos, final int vertexIdA, final int vertexIdB) {
@@ -48,6 +48,11 @@ public class TreeLeaf extends TreeElement implements Comparable<TreeLeaf> {
         this.nodesSelected = nodesSelected;
     }
 
+    void setSelected(final boolean isSelected, final boolean nodesSelected) {
+        selectionCount = isSelected ? 1 : 0;
+        this.nodesSelected = nodesSelected;
+    }
+
     public int getId() {
         return id;
     }
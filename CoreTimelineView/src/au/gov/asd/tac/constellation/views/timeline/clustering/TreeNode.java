@@ -85,6 +85,20 @@ public class TreeNode extends TreeElement implements Comparable<TreeNode> {
         upperDisplayPos = Math.max(firstChild.getUpperDisplayPos(), lastChild.getUpperDisplayPos());
     }
 
+    /**
+     * Recalculate the selection of this node from its children, which must
+     * already be up to date.
+     *
+     * @return true if the selection of this node has changed.
+     */
+    boolean refreshSelection() {
+        final int oldSelectedLeafCount = selectedLeafCount;
+        final boolean oldNodesSelectedInLeaves = nodesSelectedInLeaves;
+        selectedLeafCount = firstChild.getSelectedCount() + lastChild.getSelectedCount();
+        nodesSelectedInLeaves = firstChild.anyNodesSelected() || lastChild.anyNodesSelected();
+        return selectedLeafCount != oldSelectedLeafCount || nodesSelectedInLeaves != oldNodesSelectedInLeaves;
+    }
+
     @Override
     public long getLowerTimeExtent() {
         return lowerTimeExtent;
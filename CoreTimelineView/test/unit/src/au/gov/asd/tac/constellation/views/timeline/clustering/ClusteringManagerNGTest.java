@@ -26,6 +26,8 @@ import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
 import au.gov.asd.tac.constellation.plugins.PluginGraphs;
 import au.gov.asd.tac.constellation.views.timeline.TimeExtents;
 import au.gov.asd.tac.constellation.views.timeline.clustering.ClusteringManager.UpdateDimOrHidePlugin;
+import java.util.HashSet;
+import java.util.Set;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -82,6 +84,43 @@ public class ClusteringManagerNGTest {
         assertEquals(result.getClass(), TimeExtents.class);
     }
 
+    /**
+     * Test of generateTree method, of class ClusteringManager, when the
+     * selection changes.
+     */
+    @Test
+    public void testGenerateTreeSelectionChanged() throws Exception {
+        System.out.println("generateTreeSelectionChanged");
+        final DualGraph graph = createGraph();
+        final String datetimeAttribute = "DateTime";
+
+        final ClusteringManager instance = new ClusteringManager();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.generateTree(rg, datetimeAttribute, false);
+        }
+        instance.filterTree(0, Long.MIN_VALUE, Long.MAX_VALUE);
+        final Set<TreeElement> leaves = new HashSet<>(instance.getElementsToDraw());
+        assertEquals(leaves.size(), 5);
+        assertTrue(leaves.stream().noneMatch(leaf -> leaf.getSelectedCount() > 0));
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int selectedTransactionAttr = VisualConcept.TransactionAttribute.SELECTED.get(wg);
+            wg.setBooleanValue(selectedTransactionAttr, wg.getTransaction(0), true);
+        } finally {
+            wg.commit();
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.generateTree(rg, datetimeAttribute, false);
+        }
+        instance.filterTree(0, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // the same leaves are kept, with their selection brought up to date
+        assertEquals(new HashSet<>(instance.getElementsToDraw()), leaves);
+        assertEquals(leaves.stream().filter(leaf -> leaf.getSelectedCount() > 0).count(), 1L);
+    }
+
     @Test
     public void testUpdateDimOrHidePluginFullDim() throws Exception {
         System.out.println("UpdateDimOrHidePlugin execute full dim");
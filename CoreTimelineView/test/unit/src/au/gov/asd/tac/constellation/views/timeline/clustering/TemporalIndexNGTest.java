@@ -0,0 +1,265 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.timeline.clustering;
+
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
+import au.gov.asd.tac.constellation.graph.WritableGraph;
+import au.gov.asd.tac.constellation.graph.locking.DualGraph;
+import au.gov.asd.tac.constellation.graph.schema.Schema;
+import au.gov.asd.tac.constellation.graph.schema.SchemaFactoryUtilities;
+import au.gov.asd.tac.constellation.graph.schema.analytic.concept.TemporalConcept;
+import au.gov.asd.tac.constellation.graph.schema.visual.VisualSchemaFactory;
+import au.gov.asd.tac.constellation.graph.schema.visual.concept.VisualConcept;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Temporal Index Test.
+ *
+ * @author sirius
+ */
+public class TemporalIndexNGTest {
+
+    private static final long DAY = 86400000L;
+    private static final long JANUARY_1 = 946684800000L;
+
+    private DualGraph graph;
+    private int[] transactions;
+
+    @BeforeMethod
+    public void setUpMethod() throws Exception {
+        final Schema schema = SchemaFactoryUtilities.getSchemaFactory(VisualSchemaFactory.VISUAL_SCHEMA_ID).createSchema();
+        graph = new DualGraph(schema);
+        transactions = new int[5];
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int vxId0 = wg.addVertex();
+            final int vxId1 = wg.addVertex();
+            final int vxId2 = wg.addVertex();
+            for (int i = 0; i < transactions.length; i++) {
+                transactions[i] = wg.addTransaction(i % 2 == 0 ? vxId0 : vxId1, vxId2, false);
+            }
+
+            VisualConcept.VertexAttribute.SELECTED.ensure(wg);
+            final int selectedTransactionAttr = VisualConcept.TransactionAttribute.SELECTED.ensure(wg);
+            final int datetimeAttr = TemporalConcept.TransactionAttribute.DATETIME.ensure(wg);
+
+            // transactions out of datetime order, with two sharing a datetime and one without a datetime
+            wg.setStringValue(datetimeAttr, transactions[0], "2000-01-03 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttr, transactions[1], "2000-01-01 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttr, transactions[2], "2000-01-03 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttr, transactions[3], "2000-01-02 00:00:00.000 +00:00 [UTC]");
+            wg.setBooleanValue(selectedTransactionAttr, transactions[2], true);
+        } finally {
+            wg.commit();
+        }
+    }
+
+    /**
+     * Test of update method, of class TemporalIndex.
+     */
+    @Test
+    public void testUpdate() {
+        System.out.println("update");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertTrue(instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName()));
+        }
+
+        assertEquals(instance.size(), 4);
+        assertEquals(instance.getTransaction(0), transactions[1]);
+        assertEquals(instance.getTransaction(1), transactions[3]);
+        // transactions with the same datetime stay in graph order
+        assertEquals(instance.getTransaction(2), transactions[0]);
+        assertEquals(instance.getTransaction(3), transactions[2]);
+        assertEquals(instance.getDatetime(0), JANUARY_1);
+        assertEquals(instance.getDatetime(3), JANUARY_1 + 2 * DAY);
+        assertFalse(instance.isSelected(2));
+        assertTrue(instance.isSelected(3));
+    }
+
+    /**
+     * Test of update method, of class TemporalIndex, when the graph does not
+     * have the datetime attribute.
+     */
+    @Test
+    public void testUpdateMissingAttribute() {
+        System.out.println("updateMissingAttribute");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            assertTrue(instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName()));
+            assertTrue(instance.hasDatetimeAttribute());
+            assertFalse(instance.update(rg, "Missing"));
+        }
+
+        assertFalse(instance.hasDatetimeAttribute());
+        assertEquals(instance.size(), 0);
+    }
+
+    /**
+     * Test of update method, of class TemporalIndex, when only the selection
+     * has changed.
+     */
+    @Test
+    public void testUpdateSelection() throws Exception {
+        System.out.println("updateSelection");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int selectedTransactionAttr = VisualConcept.TransactionAttribute.SELECTED.get(wg);
+            wg.setBooleanValue(selectedTransactionAttr, transactions[1], true);
+            wg.setBooleanValue(selectedTransactionAttr, transactions[2], false);
+        } finally {
+            wg.commit();
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+        assertTrue(instance.isSelected(0));
+        assertFalse(instance.isSelected(3));
+        assertEquals(instance.getCount(Long.MIN_VALUE, Long.MAX_VALUE, true), 1);
+    }
+
+    /**
+     * Test of update method, of class TemporalIndex, when only some datetimes
+     * have changed.
+     */
+    @Test
+    public void testUpdateChangedDatetimes() throws Exception {
+        System.out.println("updateChangedDatetimes");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+        final long modificationCount = instance.getModificationCount();
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int datetimeAttr = TemporalConcept.TransactionAttribute.DATETIME.get(wg);
+            wg.setStringValue(datetimeAttr, transactions[1], "2000-01-03 00:00:00.000 +00:00 [UTC]");
+            wg.setStringValue(datetimeAttr, transactions[3], null);
+            wg.setStringValue(datetimeAttr, transactions[4], "2000-01-02 00:00:00.000 +00:00 [UTC]");
+        } finally {
+            wg.commit();
+        }
+
+        final TemporalIndex rebuilt = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+            rebuilt.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+
+        assertTrue(instance.getModificationCount() != modificationCount);
+        assertEquals(instance.size(), 4);
+        assertEquals(instance.getTransaction(0), transactions[4]);
+        // the moved transaction is merged in among those with the same datetime in graph order
+        assertEquals(instance.getTransaction(1), transactions[0]);
+        assertEquals(instance.getTransaction(2), transactions[1]);
+        assertEquals(instance.getTransaction(3), transactions[2]);
+        for (int i = 0; i < instance.size(); i++) {
+            assertEquals(instance.getTransaction(i), rebuilt.getTransaction(i));
+            assertEquals(instance.getDatetime(i), rebuilt.getDatetime(i));
+            assertEquals(instance.isSelected(i), rebuilt.isSelected(i));
+        }
+        assertEquals(instance.getCount(Long.MIN_VALUE, Long.MAX_VALUE, true), 1);
+    }
+
+    /**
+     * Test of update method, of class TemporalIndex, when the selection of a
+     * vertex has changed.
+     */
+    @Test
+    public void testUpdateVertexSelection() throws Exception {
+        System.out.println("updateVertexSelection");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+        final long modificationCount = instance.getModificationCount();
+        assertFalse(instance.isVertexSelected(0));
+
+        final WritableGraph wg = graph.getWritableGraph("", true);
+        try {
+            final int selectedVertexAttr = VisualConcept.VertexAttribute.SELECTED.get(wg);
+            wg.setBooleanValue(selectedVertexAttr, wg.getTransactionSourceVertex(transactions[1]), true);
+        } finally {
+            wg.commit();
+        }
+
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+
+        // the transactions are unchanged, only those from the selected vertex are flagged
+        assertEquals(instance.getModificationCount(), modificationCount);
+        assertTrue(instance.isVertexSelected(0));
+        assertTrue(instance.isVertexSelected(1));
+        assertFalse(instance.isVertexSelected(2));
+        assertFalse(instance.isVertexSelected(3));
+    }
+
+    /**
+     * Test of getCount method, of class TemporalIndex.
+     */
+    @Test
+    public void testGetCount() {
+        System.out.println("getCount");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+
+        assertEquals(instance.getCount(Long.MIN_VALUE, Long.MAX_VALUE, false), 4);
+        assertEquals(instance.getCount(JANUARY_1, JANUARY_1 + DAY, false), 2);
+        assertEquals(instance.getCount(JANUARY_1 + 1, JANUARY_1 + 2 * DAY, false), 3);
+        assertEquals(instance.getCount(JANUARY_1 + 1, JANUARY_1 + 2 * DAY, true), 1);
+        assertEquals(instance.getCount(JANUARY_1 + DAY, JANUARY_1, false), 0);
+    }
+
+    /**
+     * Test of getCounts method, of class TemporalIndex.
+     */
+    @Test
+    public void testGetCounts() {
+        System.out.println("getCounts");
+
+        final TemporalIndex instance = new TemporalIndex();
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            instance.update(rg, TemporalConcept.TransactionAttribute.DATETIME.getName());
+        }
+
+        // buckets are centred on each day, so each day falls into its own bucket
+        assertEquals(instance.getCounts(JANUARY_1, DAY, 3, false), new int[]{1, 1, 2});
+        assertEquals(instance.getCounts(JANUARY_1, DAY, 3, true), new int[]{0, 0, 1});
+        // transactions beyond the last bucket are not counted
+        assertEquals(instance.getCounts(JANUARY_1, 4 * DAY, 1, false), new int[]{2});
+    }
+}
@@ -468,6 +468,27 @@ public final class FloatArray implements Iterable<Float> {
         size = 0;
     }
 
+    /**
+     * Appends all of the elements in the specified FloatArray to the end of
+     * this list, in the order that they are returned by the specified
+     * FloatArray's Iterator. The behavior of this operation is undefined if the
+     * specified FloatArray is modified while the operation is in progress.
+     * (This implies that the behavior of this call is undefined if the
+     * specified FloatArray is this one, and this list is nonempty.)
+     *
+     * @param c FloatArray containing elements to be added to this list
+     * @return <tt>true</tt> if this array changed as a result of the call
+     * @throws NullPointerException if the specified FloatArray is null
+     */
+    public boolean addAll(final FloatArray c) {
+        final int numNew = c.size();
+        ensureCapacity(size + numNew);
+        System.arraycopy(c.elementData, 0, elementData, size, numNew);
+        size += numNew;
+
+        return numNew != 0;
+    }
+
     /**
      * Checks if the given index is in range. If not, throws an appropriate
      * runtime exception. This method does *not* check if the index is negative:
@@ -244,6 +244,53 @@ public class SVGData {
         return toString(null);
     }
     
+    /**
+     * Writes the SVG data captured within this object to the given output.
+     * The output is formatted the same as {@link #toLines()} but is written
+     * as it is generated rather than being collected into a list first.
+     * Attributes should be cleaned with {@link #cleanAttributes()} before writing.
+     * @param out the output to write to.
+     * @param prefix represents indentation prefixes for the element, may be null.
+     * @throws IOException if the output could not be written to.
+     */
+    public final void write(final Appendable out, final String prefix) throws IOException {
+        if (this.children.isEmpty() && this.content == null) {
+            out.append(elementToSVG(prefix));
+        } else {
+            writeHeader(out, prefix);
+            if (this.children.isEmpty()) {
+                out.append(content);
+            } else {
+                final String childPrefix = prefix == null ? SeparatorConstants.TAB : SeparatorConstants.TAB + prefix;
+                for (final SVGData child : this.getAllChildren()) {
+                    child.write(out, childPrefix);
+                }
+            }
+            writeFooter(out, prefix);
+        }
+    }
+    
+    /**
+     * Writes the header or opening portion of this SVG element to the given output.
+     * Used with {@link #writeFooter(Appendable, String)} to write child content that is not held by this object.
+     * @param out the output to write to.
+     * @param prefix represents indentation prefixes for the element, may be null.
+     * @throws IOException if the output could not be written to.
+     */
+    public final void writeHeader(final Appendable out, final String prefix) throws IOException {
+        out.append(elementHeaderToSVG(prefix));
+    }
+    
+    /**
+     * Writes the footer or closing portion of this SVG element to the given output.
+     * @param out the output to write to.
+     * @param prefix represents indentation prefixes for the element, may be null.
+     * @throws IOException if the output could not be written to.
+     */
+    public final void writeFooter(final Appendable out, final String prefix) throws IOException {
+        out.append(elementFooterToSVG(prefix));
+    }
+    
     /**
      * Prepares SVGData for export. 
      * Attributes containing null values are removed.
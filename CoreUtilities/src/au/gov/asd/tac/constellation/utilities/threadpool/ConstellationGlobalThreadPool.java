@@ -17,6 +17,7 @@ package au.gov.asd.tac.constellation.utilities.threadpool;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -31,6 +32,7 @@ public class ConstellationGlobalThreadPool {
     private ScheduledExecutorService scheduledExecutorService = null;
     private ExecutorService fixedThreadPool = null;
     private ExecutorService cachedThreadPool = null;
+    private ForkJoinPool forkJoinPool = null;
 
     private ConstellationGlobalThreadPool() {
     }
@@ -104,4 +106,18 @@ public class ConstellationGlobalThreadPool {
 
         return cachedThreadPool;
     }
+
+    /**
+     * Creates only 1 ForkJoinPool with a parallelism equal to the number of
+     * available processors, for use by divide and conquer style computations.
+     *
+     * @return a ForkJoinPool object
+     */
+    public ForkJoinPool getForkJoinPool() {
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+
+        return forkJoinPool;
+    }
 }
@@ -266,6 +266,17 @@ public class FloatArrayNGTest {
         final FloatArray fEmpty = new FloatArray(0);
         fEmpty.add(0, F4);
         assertEquals(fEmpty.toArray(), new float[] {F4});
+
+        // add everything from an empty array
+        final FloatArray f3 = new FloatArray(0);
+        assertFalse(f3.addAll(new FloatArray(0)));
+        assertEquals(f3.toArray(), new float[] {});
+
+        // add everything from another array
+        assertTrue(f3.addAll(fEmpty));
+        assertTrue(f3.addAll(f));
+        assertEquals(f3.toArray(),
+                new float[] {F4, F5, F3, F1, F2, F1, F4, F2, F1, F3, F5, F4, F1});
     }
     
     /**
@@ -15,6 +15,7 @@
  */
 package au.gov.asd.tac.constellation.utilities.svg;
 
+import java.io.IOException;
 import java.util.List;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
@@ -293,6 +294,40 @@ public class SVGDataNGTest {
         assertEquals(SVGTestUtilities.getString(svgObjectBlank1), expectedString);
     }
 
+    /**
+     * Test of write(), writeHeader(), writeFooter() methods, of class SVGData.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        System.out.println("write");
+
+        svgObjectBlank1 = new SVGData(typeSVG, null, null);
+        svgObjectBlank2 = new SVGData(typeSVG, null, null);
+        svgObjectBlank3 = new SVGData(typeRect, null, null);
+        svgObjectBlank4 = new SVGData(typeRect, null, null);
+
+        svgObjectBlank1.setAttribute(SVGAttributeConstants.ID, "parent");
+        svgObjectBlank2.setAttribute(SVGAttributeConstants.ID, "group");
+        svgObjectBlank3.setAttribute(SVGAttributeConstants.ID, "child");
+        svgObjectBlank4.setContent("Some Content");
+        svgObjectBlank2.setParent(svgObjectBlank1);
+        svgObjectBlank3.setParent(svgObjectBlank2);
+        svgObjectBlank4.setParent(svgObjectBlank1);
+
+        final StringBuilder written = new StringBuilder();
+        svgObjectBlank1.write(written, null);
+        assertEquals(written.toString(), SVGTestUtilities.getString(svgObjectBlank1));
+
+        // Writing the header and footer around the children is the same as writing the element.
+        final StringBuilder split = new StringBuilder();
+        svgObjectBlank1.writeHeader(split, null);
+        for (final SVGData child : svgObjectBlank1.getAllChildren()) {
+            child.write(split, "\t");
+        }
+        svgObjectBlank1.writeFooter(split, null);
+        assertEquals(split.toString(), written.toString());
+    }
+
     /**
      * Test of loadFromTemplate method, of class SVGData.
      */
@@ -16,6 +16,7 @@
 package au.gov.asd.tac.constellation.utilities.threadpool;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
@@ -118,4 +119,18 @@ public class ConstellationGlobalThreadPoolNGTest {
         ExecutorService e2 = ConstellationGlobalThreadPool.getThreadPool().getCachedThreadPool();
         assertEquals(e1, e2);
     }
+
+    /**
+     * Test of getForkJoinPool method, of class
+     * ConstellationGlobalThreadPool.
+     *
+     * Same purpose as the tests above
+     */
+    @Test
+    public void testGetForkJoinPool() {
+        System.out.println("getForkJoinPool");
+        ForkJoinPool p1 = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool();
+        ForkJoinPool p2 = ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool();
+        assertEquals(p1, p2);
+    }
 }
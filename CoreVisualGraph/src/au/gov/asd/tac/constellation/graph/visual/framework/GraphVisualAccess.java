@@ -41,6 +41,7 @@ import au.gov.asd.tac.constellation.utilities.visual.VisualChangeBuilder;
 import au.gov.asd.tac.constellation.utilities.visual.VisualProperty;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -142,6 +143,8 @@ public final class GraphVisualAccess implements VisualAccess {
     private GraphElementType[] connectionElementTypes = new GraphElementType[0];
     private int[] connectionElementIds = new int[0];
     private int[] linkStartingPositions = new int[0];
+    private int[] transactionConnections = null;
+    private long valueChangeSequence = Long.MIN_VALUE;
 
     public GraphVisualAccess(final Graph graph) {
         this.graph = graph;
@@ -400,7 +403,7 @@ public final class GraphVisualAccess implements VisualAccess {
             if (recordChanges) {
                 count = vertexColor == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexColor);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.COLOR, count)) || vertexColorChanged) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_COLOR).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_COLOR, getChangedVertices(vertexColor, !verticesRebuilding && !attributesChanged && !vertexColorChanged));
                 }
             }
 
@@ -420,7 +423,7 @@ public final class GraphVisualAccess implements VisualAccess {
             if (recordChanges) {
                 count = transactionColor == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionColor);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.COLOR, count)) || transactionColorChanged) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_COLOR).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_COLOR, getChangedConnections(transactionColor, !connectionsRebuilding && !attributesChanged && !transactionColorChanged));
                 }
             }
 
@@ -484,100 +487,199 @@ public final class GraphVisualAccess implements VisualAccess {
                     changes.add(new VisualChangeBuilder(VisualProperty.VISIBILITY_THRESHOLD).forItems(1).build());
                 }
 
-                // Handle stand-alone changes to vertex visual attributes
+                // Handle stand-alone changes to vertex visual attributes, limited to the changed elements where they are known
+                final boolean verticesScoped = !verticesRebuilding && !attributesChanged;
+                final boolean connectionsScoped = !connectionsRebuilding && !attributesChanged;
                 count = vertexX == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexX);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.X, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_X).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_X, getChangedVertices(vertexX, verticesScoped));
                 }
                 count = vertexY == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexY);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.Y, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_Y).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_Y, getChangedVertices(vertexY, verticesScoped));
                 }
                 count = vertexZ == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexZ);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.Z, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_Z).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_Z, getChangedVertices(vertexZ, verticesScoped));
                 }
                 count = vertexX2 == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexX2);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.X2, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_X2).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_X2, getChangedVertices(vertexX2, verticesScoped));
                 }
                 count = vertexY2 == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexY2);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.Y2, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_Y2).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_Y2, getChangedVertices(vertexY2, verticesScoped));
                 }
                 count = vertexZ2 == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexZ2);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.Z2, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_Z2).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_Z2, getChangedVertices(vertexZ2, verticesScoped));
                 }
                 count = vertexBackgroundIcon == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexBackgroundIcon);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.BACKGROUND_ICON, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_BACKGROUND_ICON).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_BACKGROUND_ICON, getChangedVertices(vertexBackgroundIcon, verticesScoped));
                 }
                 count = vertexForegroundIcon == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexForegroundIcon);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.FOREGROUND_ICON, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_FOREGROUND_ICON).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_FOREGROUND_ICON, getChangedVertices(vertexForegroundIcon, verticesScoped));
                 }
                 count = vertexSelected == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexSelected);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.SELECTED, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_SELECTED).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_SELECTED, getChangedVertices(vertexSelected, verticesScoped));
                 }
                 count = vertexVisibility == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexVisibility);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.VISIBILITY, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_VISIBILITY).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_VISIBILITY, getChangedVertices(vertexVisibility, verticesScoped));
                 }
                 count = vertexLayerVisibility == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexLayerVisibility);
                 if (!Objects.equals(count, modCounts.put(LayersConcept.VertexAttribute.LAYER_VISIBILITY, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_VISIBILITY).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_VISIBILITY, getChangedVertices(vertexLayerVisibility, verticesScoped));
                 }
                 count = vertexDimmed == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexDimmed);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.DIMMED, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_DIM).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_DIM, getChangedVertices(vertexDimmed, verticesScoped));
                 }
                 count = vertexRadius == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexRadius);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.NODE_RADIUS, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_RADIUS).forItems(accessGraph.getVertexCount()).build());
+                    addVertexChange(changes, VisualProperty.VERTEX_RADIUS, getChangedVertices(vertexRadius, verticesScoped));
                 }
                 count = vertexBlaze == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(vertexBlaze);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.VertexAttribute.BLAZE, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_BLAZED).forItems(accessGraph.getVertexCount()).build());
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_BLAZE_ANGLE).forItems(accessGraph.getVertexCount()).build());
-                    changes.add(new VisualChangeBuilder(VisualProperty.VERTEX_BLAZE_COLOR).forItems(accessGraph.getVertexCount()).build());
+                    final int[] changedVertices = getChangedVertices(vertexBlaze, verticesScoped);
+                    addVertexChange(changes, VisualProperty.VERTEX_BLAZED, changedVertices);
+                    addVertexChange(changes, VisualProperty.VERTEX_BLAZE_ANGLE, changedVertices);
+                    addVertexChange(changes, VisualProperty.VERTEX_BLAZE_COLOR, changedVertices);
                 }
 
                 // Handle stand-alone changes to transaction visual attributes
                 count = transactionSelected == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionSelected);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.SELECTED, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_SELECTED).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_SELECTED, getChangedConnections(transactionSelected, connectionsScoped));
                 }
                 count = transactionDirected == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionDirected);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.DIRECTED, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_DIRECTED).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_DIRECTED, getChangedConnections(transactionDirected, connectionsScoped));
                 }
                 count = transactionVisibility == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionVisibility);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.VISIBILITY, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_VISIBILITY).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_VISIBILITY, getChangedConnections(transactionVisibility, connectionsScoped));
                 }
                 count = transactionLayerVisibility == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionLayerVisibility);
                 if (!Objects.equals(count, modCounts.put(LayersConcept.TransactionAttribute.LAYER_VISIBILITY, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_VISIBILITY).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_VISIBILITY, getChangedConnections(transactionLayerVisibility, connectionsScoped));
                 }
                 count = transactionDimmed == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionDimmed);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.DIMMED, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_DIM).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_DIM, getChangedConnections(transactionDimmed, connectionsScoped));
                 }
                 count = transactionLineStyle == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionLineStyle);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.LINE_STYLE, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_LINESTYLE).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_LINESTYLE, getChangedConnections(transactionLineStyle, connectionsScoped));
                 }
                 count = transactionWidth == Graph.NOT_FOUND ? -1 : accessGraph.getValueModificationCounter(transactionWidth);
                 if (!Objects.equals(count, modCounts.put(VisualConcept.TransactionAttribute.WIDTH, count))) {
-                    changes.add(new VisualChangeBuilder(VisualProperty.CONNECTION_WIDTH).forItems(connectionElementTypes.length).build());
+                    addConnectionChange(changes, VisualProperty.CONNECTION_WIDTH, getChangedConnections(transactionWidth, connectionsScoped));
                 }
+
+                valueChangeSequence = accessGraph.getValueChangeSequence();
             }
         }
         return changes;
     }
 
+    /**
+     * Get the positions of the vertices whose value for the given attribute
+     * has changed since the last recorded update.
+     *
+     * @param attribute the vertex attribute.
+     * @param scoped whether the vertex positions are unchanged since the last
+     * recorded update, allowing the change to be limited to some vertices.
+     * @return the positions of the changed vertices, or null if every vertex
+     * should be treated as changed.
+     */
+    private int[] getChangedVertices(final int attribute, final boolean scoped) {
+        if (!scoped || attribute == Graph.NOT_FOUND) {
+            return null;
+        }
+        final int[] changedVertices = accessGraph.getChangedElements(attribute, valueChangeSequence);
+        if (changedVertices != null) {
+            for (int i = 0; i < changedVertices.length; i++) {
+                changedVertices[i] = accessGraph.getVertexPosition(changedVertices[i]);
+            }
+        }
+        return changedVertices;
+    }
+
+    private void addVertexChange(final List<VisualChange> changes, final VisualProperty property, final int[] changedVertices) {
+        if (changedVertices == null) {
+            changes.add(new VisualChangeBuilder(property).forItems(accessGraph.getVertexCount()).build());
+        } else if (changedVertices.length > 0) {
+            changes.add(new VisualChangeBuilder(property).forItems(changedVertices).build());
+        }
+    }
+
+    /**
+     * Get the connections that include a transaction whose value for the given
+     * attribute has changed since the last recorded update.
+     *
+     * @param attribute the transaction attribute.
+     * @param scoped whether the connections are unchanged since the last
+     * recorded update, allowing the change to be limited to some connections.
+     * @return the changed connections, or null if every connection should be
+     * treated as changed.
+     */
+    private int[] getChangedConnections(final int attribute, final boolean scoped) {
+        if (!scoped || attribute == Graph.NOT_FOUND) {
+            return null;
+        }
+        final int[] changedTransactions = accessGraph.getChangedElements(attribute, valueChangeSequence);
+        if (changedTransactions == null) {
+            return null;
+        }
+        if (transactionConnections == null) {
+            mapTransactionConnections();
+        }
+        final BitSet changedConnections = new BitSet(connectionElementTypes.length);
+        for (final int transactionId : changedTransactions) {
+            final int connection = transactionConnections[transactionId];
+            if (connection != Graph.NOT_FOUND) {
+                changedConnections.set(connection);
+            }
+        }
+        return changedConnections.stream().toArray();
+    }
+
+    private void addConnectionChange(final List<VisualChange> changes, final VisualProperty property, final int[] changedConnections) {
+        if (changedConnections == null) {
+            changes.add(new VisualChangeBuilder(property).forItems(connectionElementTypes.length).build());
+        } else if (changedConnections.length > 0) {
+            changes.add(new VisualChangeBuilder(property).forItems(changedConnections).build());
+        }
+    }
+
+    private void mapTransactionConnections() {
+        transactionConnections = new int[accessGraph.getTransactionCapacity()];
+        Arrays.fill(transactionConnections, Graph.NOT_FOUND);
+        for (int connection = 0; connection < connectionElementTypes.length; connection++) {
+            final int elementId = connectionElementIds[connection];
+            switch (connectionElementTypes[connection]) {
+                case TRANSACTION -> transactionConnections[elementId] = connection;
+                case EDGE -> {
+                    for (int i = 0; i < accessGraph.getEdgeTransactionCount(elementId); i++) {
+                        transactionConnections[accessGraph.getEdgeTransaction(elementId, i)] = connection;
+                    }
+                }
+                case LINK -> {
+                    for (int i = 0; i < accessGraph.getLinkTransactionCount(elementId); i++) {
+                        transactionConnections[accessGraph.getLinkTransaction(elementId, i)] = connection;
+                    }
+                }
+                default -> {
+                    // connections are only ever transactions, edges or links
+                }
+            }
+        }
+    }
+
     private void recalculateVisualAttributes(final GraphReadMethods rg) {
         graphBackgroundColor = VisualConcept.GraphAttribute.BACKGROUND_COLOR.get(rg);
         graphHighlightColor = VisualConcept.GraphAttribute.HIGHLIGHT_COLOR.get(rg);
@@ -762,6 +864,7 @@ public final class GraphVisualAccess implements VisualAccess {
         }
         connectionElementTypes = Arrays.copyOf(connectionElementTypes, currentPos);
         connectionElementIds = Arrays.copyOf(connectionElementIds, currentPos);
+        transactionConnections = null;
     }
 
     @Override
@@ -17,6 +17,7 @@ package au.gov.asd.tac.constellation.graph.visual.framework;
 
 import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.LayersConcept;
+import au.gov.asd.tac.constellation.graph.ReadableGraph;
 import au.gov.asd.tac.constellation.graph.StoreGraph;
 import au.gov.asd.tac.constellation.graph.WritableGraph;
 import au.gov.asd.tac.constellation.graph.locking.DualGraph;
@@ -31,6 +32,7 @@ import au.gov.asd.tac.constellation.utilities.color.ConstellationColor;
 import au.gov.asd.tac.constellation.utilities.visual.DrawFlags;
 import au.gov.asd.tac.constellation.utilities.visual.VisualAccess.ConnectionDirection;
 import au.gov.asd.tac.constellation.utilities.visual.VisualChange;
+import au.gov.asd.tac.constellation.utilities.visual.VisualProperty;
 import java.util.List;
 import static org.testng.Assert.assertEquals;
 import org.testng.annotations.AfterClass;
@@ -98,6 +100,58 @@ public class GraphVisualAccessNGTest {
         assertEquals(changes.size(), 38);
     }
 
+    /**
+     * Test of getIndigenousChanges method, of class GraphVisualAccess, when
+     * only some values have changed since the last update.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testGetIndigenousChangesScoped() throws InterruptedException {
+        System.out.println("getIndigenousChangesScoped");
+
+        final int vertexXAttribute;
+        final int transactionSelectedAttribute;
+        WritableGraph wg = graph.getWritableGraph("Graph Visual Access", true);
+        try {
+            vertexXAttribute = VisualConcept.VertexAttribute.X.ensure(wg);
+            transactionSelectedAttribute = VisualConcept.TransactionAttribute.SELECTED.ensure(wg);
+        } finally {
+            wg.commit();
+        }
+
+        final GraphVisualAccess instance = new GraphVisualAccess(graph);
+        instance.beginUpdate();
+        instance.getIndigenousChanges();
+        instance.endUpdate();
+
+        wg = graph.getWritableGraph("Graph Visual Access", true);
+        try {
+            wg.setFloatValue(vertexXAttribute, vxId2, 5F);
+            wg.setBooleanValue(transactionSelectedAttribute, tId1, true);
+        } finally {
+            wg.commit();
+        }
+
+        final int vxPosition2;
+        try (final ReadableGraph rg = graph.getReadableGraph()) {
+            vxPosition2 = rg.getVertexPosition(vxId2);
+        }
+
+        instance.beginUpdate();
+        final List<VisualChange> changes = instance.getIndigenousChanges();
+        instance.endUpdate();
+
+        // only the changed vertex and connection should be updated
+        assertEquals(changes.size(), 2);
+        final VisualChange xChange = changes.stream().filter(change -> change.property == VisualProperty.VERTEX_X).findFirst().get();
+        assertEquals(xChange.getSize(), 1);
+        assertEquals(xChange.getElement(0), vxPosition2);
+        final VisualChange selectedChange = changes.stream().filter(change -> change.property == VisualProperty.CONNECTION_SELECTED).findFirst().get();
+        assertEquals(selectedChange.getSize(), 1);
+        assertEquals(selectedChange.getElement(0), 0);
+    }
+
     /**
      * Test of the following methods when the attributes are not found, of class GraphVisualAccess: getBackgroundColor,
      * getHighlightColor, getBlazeSize, getBlazeOpacity, getConnectionOpacity
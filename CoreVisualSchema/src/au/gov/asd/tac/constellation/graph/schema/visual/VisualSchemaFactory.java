@@ -366,6 +366,17 @@ public class VisualSchemaFactory extends SchemaFactory {
         }
 
         protected void applyColorblindVertex(final GraphWriteMethods graph, final int vertexId) {
+            applyColorblindVertices(graph, new int[]{vertexId});
+        }
+
+        /**
+         * Apply the colorblind layer to each of the given vertices, reading
+         * the colorblind preference and looking up the attributes only once.
+         *
+         * @param graph the graph holding the vertices.
+         * @param vertexIds the ids of the vertices.
+         */
+        protected void applyColorblindVertices(final GraphWriteMethods graph, final int[] vertexIds) {
             // Retrieve colorblind preferences 
             colorMode = prefs.get(ApplicationPreferenceKeys.COLORBLIND_MODE, ApplicationPreferenceKeys.COLORBLIND_MODE_DEFAULT);
 
@@ -373,17 +384,31 @@ public class VisualSchemaFactory extends SchemaFactory {
             final int vxColorAttr = VisualConcept.VertexAttribute.COLOR.ensure(graph);
 
             if (!"None".equals(colorMode)) {
-                final ConstellationColor vertexColor = graph.getObjectValue(vxColorAttr, vertexId);
-                final ConstellationColor vxColorblindAlpha = graph.getObjectValue(vxColorblindAttr, vertexId);
+                for (final int vertexId : vertexIds) {
+                    final ConstellationColor vertexColor = graph.getObjectValue(vxColorAttr, vertexId);
+                    final ConstellationColor vxColorblindAlpha = graph.getObjectValue(vxColorblindAttr, vertexId);
 
-                if (vertexColor != null && (vxColorblindAlpha == null || vxColorblindAlpha.getAlpha() == 0.99F)) {
-                    final ConstellationColor newColor = ColorblindUtilities.calculateColorBrightness(vertexColor);
-                    graph.setObjectValue(vxColorblindAttr, vertexId, newColor);
+                    if (vertexColor != null && (vxColorblindAlpha == null || vxColorblindAlpha.getAlpha() == 0.99F)) {
+                        final ConstellationColor newColor = ColorblindUtilities.calculateColorBrightness(vertexColor);
+                        graph.setObjectValue(vxColorblindAttr, vertexId, newColor);
+                    }
                 }
             }
         }
 
         protected void applyColorblindTransaction(final GraphWriteMethods graph, final int transactionId) {
+            applyColorblindTransactions(graph, new int[]{transactionId});
+        }
+
+        /**
+         * Apply the colorblind layer to each of the given transactions,
+         * reading the colorblind preference and looking up the attributes only
+         * once.
+         *
+         * @param graph the graph holding the transactions.
+         * @param transactionIds the ids of the transactions.
+         */
+        protected void applyColorblindTransactions(final GraphWriteMethods graph, final int[] transactionIds) {
             // Retrieve colorblind preferences 
             colorMode = prefs.get(ApplicationPreferenceKeys.COLORBLIND_MODE, ApplicationPreferenceKeys.COLORBLIND_MODE_DEFAULT);
 
@@ -391,12 +416,14 @@ public class VisualSchemaFactory extends SchemaFactory {
             final int txColorAttr = VisualConcept.TransactionAttribute.COLOR.ensure(graph);
 
             if (!"None".equals(colorMode)) {
-                final ConstellationColor transactionColor = graph.getObjectValue(txColorAttr, transactionId);
-                final ConstellationColor txColorblindAlpha = graph.getObjectValue(txColorblindAttr, transactionId);
+                for (final int transactionId : transactionIds) {
+                    final ConstellationColor transactionColor = graph.getObjectValue(txColorAttr, transactionId);
+                    final ConstellationColor txColorblindAlpha = graph.getObjectValue(txColorblindAttr, transactionId);
 
-                if (transactionColor != null && (txColorblindAlpha == null || txColorblindAlpha.getAlpha() == 0.99F)) {
-                    final ConstellationColor newColor = ColorblindUtilities.calculateColorBrightness(transactionColor);
-                    graph.setObjectValue(txColorblindAttr, transactionId, newColor);
+                    if (transactionColor != null && (txColorblindAlpha == null || txColorblindAlpha.getAlpha() == 0.99F)) {
+                        final ConstellationColor newColor = ColorblindUtilities.calculateColorBrightness(transactionColor);
+                        graph.setObjectValue(txColorblindAttr, transactionId, newColor);
+                    }
                 }
             }
         }
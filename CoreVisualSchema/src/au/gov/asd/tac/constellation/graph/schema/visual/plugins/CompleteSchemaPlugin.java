@@ -26,6 +26,7 @@ import au.gov.asd.tac.constellation.plugins.reporting.PluginReportUtilities;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
 import au.gov.asd.tac.constellation.preferences.ApplicationPreferenceKeys;
+import java.util.Arrays;
 import java.util.prefs.Preferences;
 import org.openide.util.NbBundle;
 import org.openide.util.NbPreferences;
@@ -41,6 +42,9 @@ import org.openide.util.lookup.ServiceProvider;
 @PluginInfo(pluginType = PluginType.UPDATE, tags = {PluginTags.MODIFY})
 public class CompleteSchemaPlugin extends SimpleEditPlugin {
 
+    // The number of elements completed together between progress updates.
+    private static final int COMPLETION_BATCH_SIZE = 1000;
+
     @Override
     public void edit(final GraphWriteMethods graph, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException {
         if (graph.getSchema() != null) {
@@ -70,10 +74,15 @@ public class CompleteSchemaPlugin extends SimpleEditPlugin {
                     ),
                     true
             );
+            final int[] vertexIds = new int[vertexCount];
             for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-                graph.getSchema().completeVertex(graph, vertexId);
-                interaction.setProgress(++currentProgress, maxProgress, true);
+                vertexIds[vertexPosition] = graph.getVertex(vertexPosition);
+            }
+            for (int start = 0; start < vertexCount; start += COMPLETION_BATCH_SIZE) {
+                final int end = Math.min(start + COMPLETION_BATCH_SIZE, vertexCount);
+                graph.getSchema().completeVertices(graph, Arrays.copyOfRange(vertexIds, start, end));
+                currentProgress = end;
+                interaction.setProgress(currentProgress, maxProgress, true);
             }
 
             // Process Transactions
@@ -87,10 +96,15 @@ public class CompleteSchemaPlugin extends SimpleEditPlugin {
                     true
             );
             interaction.setProgress(currentProgress, maxProgress, "Completing transaction(s)...", true);
+            final int[] transactionIds = new int[transactionCount];
             for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
-                final int transactionId = graph.getTransaction(transactionPosition);
-                graph.getSchema().completeTransaction(graph, transactionId);
-                interaction.setProgress(++currentProgress, maxProgress, true);
+                transactionIds[transactionPosition] = graph.getTransaction(transactionPosition);
+            }
+            for (int start = 0; start < transactionCount; start += COMPLETION_BATCH_SIZE) {
+                final int end = Math.min(start + COMPLETION_BATCH_SIZE, transactionCount);
+                graph.getSchema().completeTransactions(graph, Arrays.copyOfRange(transactionIds, start, end));
+                currentProgress = end;
+                interaction.setProgress(currentProgress, maxProgress, true);
             }
 
             // Set process to complete
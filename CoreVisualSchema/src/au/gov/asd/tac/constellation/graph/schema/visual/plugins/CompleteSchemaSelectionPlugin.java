@@ -26,6 +26,7 @@ import au.gov.asd.tac.constellation.plugins.reporting.PluginReportUtilities;
 import au.gov.asd.tac.constellation.plugins.templates.PluginTags;
 import au.gov.asd.tac.constellation.plugins.templates.SimpleEditPlugin;
 import au.gov.asd.tac.constellation.preferences.ApplicationPreferenceKeys;
+import java.util.Arrays;
 import java.util.prefs.Preferences;
 import org.openide.util.NbBundle;
 import org.openide.util.NbPreferences;
@@ -41,6 +42,9 @@ import org.openide.util.lookup.ServiceProvider;
 @PluginInfo(pluginType = PluginType.UPDATE, tags = {PluginTags.MODIFY})
 public class CompleteSchemaSelectionPlugin extends SimpleEditPlugin {
 
+    // The number of elements completed together between progress updates.
+    private static final int COMPLETION_BATCH_SIZE = 1000;
+
     @Override
     public void edit(final GraphWriteMethods graph, final PluginInteraction interaction, final PluginParameters parameters) throws InterruptedException {
         if (graph.getSchema() != null) {
@@ -63,11 +67,12 @@ public class CompleteSchemaSelectionPlugin extends SimpleEditPlugin {
             final int vxSelectedAttr = VisualConcept.VertexAttribute.SELECTED.ensure(graph);
             final int txSelectedAttr = VisualConcept.TransactionAttribute.SELECTED.ensure(graph);
             
+            final int[] selectedVertexIds = new int[vertexCount];
             int selectedVertexCount = 0;
             for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
                 final int vertexId = graph.getVertex(vertexPosition);
                 if (graph.getBooleanValue(vxSelectedAttr, vertexId)) {
-                    selectedVertexCount++;
+                    selectedVertexIds[selectedVertexCount++] = vertexId;
                 }
             }       
 
@@ -81,20 +86,19 @@ public class CompleteSchemaSelectionPlugin extends SimpleEditPlugin {
                     true
             );
             
-            for (int vertexPosition = 0; vertexPosition < vertexCount; vertexPosition++) {
-                final int vertexId = graph.getVertex(vertexPosition);
-                if (graph.getBooleanValue(vxSelectedAttr, vertexId)) {
-                    graph.getSchema().completeVertex(graph, vertexId);
-                }
-                
-                interaction.setProgress(++currentProgress, maxProgress, true);
+            for (int start = 0; start < selectedVertexCount; start += COMPLETION_BATCH_SIZE) {
+                final int end = Math.min(start + COMPLETION_BATCH_SIZE, selectedVertexCount);
+                graph.getSchema().completeVertices(graph, Arrays.copyOfRange(selectedVertexIds, start, end));
+                currentProgress = end;
+                interaction.setProgress(currentProgress, maxProgress, true);
             }
 
+            final int[] selectedTransactionIds = new int[transactionCount];
             int selectedTransactionCount = 0;
             for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
                 final int transactionId = graph.getTransaction(transactionPosition);
                 if (graph.getBooleanValue(txSelectedAttr, transactionId)) {
-                    selectedTransactionCount++;
+                    selectedTransactionIds[selectedTransactionCount++] = transactionId;
                 }
             }
             
@@ -111,12 +115,11 @@ public class CompleteSchemaSelectionPlugin extends SimpleEditPlugin {
             
             interaction.setProgress(currentProgress, maxProgress, "Completing transaction(s)...", true);
             
-            for (int transactionPosition = 0; transactionPosition < transactionCount; transactionPosition++) {
-                final int transactionId = graph.getTransaction(transactionPosition);
-                if (graph.getBooleanValue(txSelectedAttr, transactionId)) {
-                    graph.getSchema().completeTransaction(graph, transactionId);
-                }
-                interaction.setProgress(++currentProgress, maxProgress, true);
+            for (int start = 0; start < selectedTransactionCount; start += COMPLETION_BATCH_SIZE) {
+                final int end = Math.min(start + COMPLETION_BATCH_SIZE, selectedTransactionCount);
+                graph.getSchema().completeTransactions(graph, Arrays.copyOfRange(selectedTransactionIds, start, end));
+                currentProgress = end;
+                interaction.setProgress(currentProgress, maxProgress, true);
             }
 
             // Set process to complete
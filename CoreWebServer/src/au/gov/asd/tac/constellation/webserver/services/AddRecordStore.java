@@ -19,9 +19,9 @@ import au.gov.asd.tac.constellation.graph.Graph;
 import au.gov.asd.tac.constellation.graph.GraphWriteMethods;
 import au.gov.asd.tac.constellation.graph.interaction.InteractiveGraphPluginRegistry;
 import au.gov.asd.tac.constellation.graph.node.GraphNode;
-import au.gov.asd.tac.constellation.graph.processing.GraphRecordStore;
 import au.gov.asd.tac.constellation.graph.processing.GraphRecordStoreUtilities;
 import au.gov.asd.tac.constellation.graph.processing.RecordStore;
+import au.gov.asd.tac.constellation.graph.processing.TypedRecordStore;
 import au.gov.asd.tac.constellation.graph.schema.analytic.concept.AnalyticConcept;
 import au.gov.asd.tac.constellation.plugins.Plugin;
 import au.gov.asd.tac.constellation.plugins.PluginException;
@@ -137,7 +137,7 @@ public class AddRecordStore extends RestService {
         final String arrange = parameters.getStringValue(ARRANGE_PARAMETER_ID);
         final boolean resetView = parameters.getBooleanValue(RESET_PARAMETER_ID);
 
-        final RecordStore rs = new GraphRecordStore();
+        final RecordStore rs = new TypedRecordStore();
         final ObjectMapper mapper = new ObjectMapper();
         final JsonNode json = mapper.readTree(in);
 
@@ -177,6 +177,14 @@ public class AddRecordStore extends RestService {
                 if (!jn.isNull()) {
                     if (jn.getNodeType() == JsonNodeType.ARRAY) {
                         rs.set(h, RestServiceUtilities.toList(jn));
+                    } else if (jn.isInt()) {
+                        rs.set(h, jn.intValue());
+                    } else if (jn.isLong()) {
+                        rs.set(h, jn.longValue());
+                    } else if (jn.isDouble()) {
+                        rs.set(h, jn.doubleValue());
+                    } else if (jn.isBoolean()) {
+                        rs.set(h, jn.booleanValue());
                     } else {
                         rs.set(h, jn.asText());
                     }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.wordcloud.content;
+
+import au.gov.asd.tac.constellation.plugins.PluginInteraction;
+import au.gov.asd.tac.constellation.utilities.threadpool.ConstellationGlobalThreadPool;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the stages of a content analysis (tokenizing, vectorising and
+ * clustering) on the shared fork-join pool.
+ * <p>
+ * Each stage is split into work packages which are submitted to the pool as
+ * separate tasks, so a stage split into more packages than there are threads
+ * in the pool is balanced by the pool's work stealing rather than by the
+ * packages being of equal cost. The thread running a stage waits for all of
+ * its packages to complete, reporting progress to the {@link PluginInteraction}
+ * (if there is one) as it does. If the analysis is cancelled, the remaining
+ * packages are cancelled, and packages already running can stop early by
+ * checking {@link #isCancelled()}.
+ * <p>
+ * The time taken and the amount of work done by each stage are recorded, and
+ * can be retrieved with {@link #getStageMetrics()}.
+ *
+ * @author sirius
+ */
+public class ContentAnalysisExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(ContentAnalysisExecutor.class.getName());
+
+    private static final long PROGRESS_INTERVAL_MILLISECONDS = 100;
+
+    private final PluginInteraction interaction;
+    private final ForkJoinPool pool;
+    private final List<StageMetrics> stageMetrics = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean cancelled = false;
+
+    /**
+     * Create an executor which runs on the shared fork-join pool.
+     *
+     * @param interaction The interaction to report progress to, and which can
+     * cancel the analysis, or null if there isn't one.
+     */
+    public ContentAnalysisExecutor(final PluginInteraction interaction) {
+        this(interaction, ConstellationGlobalThreadPool.getThreadPool().getForkJoinPool());
+    }
+
+    protected ContentAnalysisExecutor(final PluginInteraction interaction, final ForkJoinPool pool) {
+        this.interaction = interaction;
+        this.pool = pool;
+    }
+
+    /**
+     * The number of threads work can be spread across.
+     *
+     * @return The parallelism of the pool this executor runs on.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Whether the analysis has been cancelled. Work packages should check this
+     * periodically and return early if it is true.
+     *
+     * @return True if the analysis has been cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Run one stage of the analysis, waiting for all of its work packages to
+     * complete.
+     *
+     * @param stageName The name of the stage, used for progress and metrics.
+     * @param workPackages The work packages making up the stage.
+     * @throws InterruptedException If the analysis is cancelled while the
+     * stage is running.
+     * @throws IllegalStateException If one of the work packages fails, wrapping
+     * the exception it threw. The rest of the analysis is cancelled.
+     */
+    public void runStage(final String stageName, final List<? extends WorkPackage> workPackages) throws InterruptedException {
+        if (cancelled) {
+            throw new InterruptedException(stageName + " cancelled");
+        }
+
+        int totalWork = 0;
+        for (final WorkPackage workPackage : workPackages) {
+            totalWork += workPackage.getWorkload();
+        }
+
+        final long startTime = System.nanoTime();
+        final AtomicInteger completedWork = new AtomicInteger();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(workPackages.size());
+        for (final WorkPackage workPackage : workPackages) {
+            tasks.add(pool.submit(() -> {
+                if (!cancelled) {
+                    workPackage.run();
+                    completedWork.addAndGet(workPackage.getWorkload());
+                }
+            }));
+        }
+
+        try {
+            for (final ForkJoinTask<?> task : tasks) {
+                awaitTask(stageName, task, completedWork, totalWork);
+            }
+        } catch (final InterruptedException | IllegalStateException ex) {
+            cancelled = true;
+            tasks.forEach(task -> task.cancel(false));
+            throw ex;
+        }
+
+        final StageMetrics metrics = new StageMetrics(stageName, workPackages.size(), totalWork, System.nanoTime() - startTime);
+        stageMetrics.add(metrics);
+        LOGGER.log(Level.FINE, "{0}", metrics);
+    }
+
+    private void awaitTask(final String stageName, final ForkJoinTask<?> task, final AtomicInteger completedWork, final int totalWork) throws InterruptedException {
+        while (true) {
+            try {
+                task.get(PROGRESS_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (final TimeoutException ex) {
+                // still running, so report progress, which will throw if the plugin has been cancelled
+                if (interaction != null) {
+                    interaction.setProgress(completedWork.get(), totalWork, stageName, true);
+                }
+            } catch (final ExecutionException ex) {
+                throw new IllegalStateException(stageName + " failed", ex.getCause());
+            }
+        }
+    }
+
+    /**
+     * The metrics of the stages run by this executor so far.
+     *
+     * @return The metrics of each completed stage, in the order they were run.
+     */
+    public List<StageMetrics> getStageMetrics() {
+        synchronized (stageMetrics) {
+            return List.copyOf(stageMetrics);
+        }
+    }
+
+    /**
+     * A portion of the work of a stage of content analysis.
+     */
+    public interface WorkPackage extends Runnable {
+
+        /**
+         * The amount of work in this package, usually the number of elements
+         * or tokens it processes.
+         *
+         * @return The amount of work in this package.
+         */
+        int getWorkload();
+    }
+
+    /**
+     * The work done and the time taken by a stage of content analysis.
+     *
+     * @param stageName The name of the stage.
+     * @param workPackages The number of work packages the stage was split
+     * into.
+     * @param workload The total amount of work done by the stage.
+     * @param elapsedNanos The time taken by the stage in nanoseconds.
+     */
+    public record StageMetrics(String stageName, int workPackages, int workload, long elapsedNanos) {
+
+        /**
+         * The throughput of the stage.
+         *
+         * @return The amount of work done per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : workload * 1E9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d items in %d packages took %.1f ms (%.1f items/s)",
+                    stageName, workload, workPackages, elapsedNanos / 1E6, getThroughput());
+        }
+    }
+}
@@ -51,7 +51,7 @@ public class ContentAnalysisManager {
 
     private static final Logger LOGGER = Logger.getLogger(ContentAnalysisManager.class.getName());
 
-    private static final int AVAILABLE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final int WORK_PACKAGES_PER_THREAD = 4; // Split work into more packages than threads so that uneven packages are balanced by work stealing.
     private static final int MAX_THRESHOLD = 50; // The maximum number of items to assign each thread (until we don't have enough threads anyway).
     private final Graph graph;
     private final int[] performOnElements;
@@ -60,8 +60,13 @@ public class ContentAnalysisManager {
     private final int querySize;
     private final int performOnAttributeID;
     private final GraphElementType elementType;
+    private final ContentAnalysisExecutor executor;
 
     public ContentAnalysisManager(final Graph graph, final int[] performOnElements, final Set<Integer> elementsOfInterest, final int graphElementCapacity, final GraphElementType elementType, final int performOnAttributeID) {
+        this(graph, performOnElements, elementsOfInterest, graphElementCapacity, elementType, performOnAttributeID, null);
+    }
+
+    public ContentAnalysisManager(final Graph graph, final int[] performOnElements, final Set<Integer> elementsOfInterest, final int graphElementCapacity, final GraphElementType elementType, final int performOnAttributeID, final PluginInteraction interaction) {
         this.graph = graph;
         this.performOnElements = performOnElements.clone();
         this.elementsOfInterest = new HashSet<>(elementsOfInterest);
@@ -69,6 +74,15 @@ public class ContentAnalysisManager {
         this.performOnAttributeID = performOnAttributeID;
         this.elementType = elementType;
         querySize = performOnElements.length;
+        executor = new ContentAnalysisExecutor(interaction);
+    }
+
+    public ContentAnalysisExecutor getExecutor() {
+        return executor;
+    }
+
+    private int getMaxWorkPackages() {
+        return executor.getParallelism() * WORK_PACKAGES_PER_THREAD;
     }
 
     protected class StringListThreadedPhraseAdaptor extends ThreadedPhraseAdaptor {
@@ -116,7 +130,7 @@ public class ContentAnalysisManager {
     }
 
     public ThreadAllocator getStringListAllocator(final Collection<String> list) {
-        return ThreadAllocator.buildThreadAllocator(AVAILABLE_THREADS, MAX_THRESHOLD, list.size(), (final ThreadAllocator forAllocator) -> new StringListThreadedPhraseAdaptor(forAllocator, list));
+        return ThreadAllocator.buildThreadAllocator(getMaxWorkPackages(), MAX_THRESHOLD, list.size(), (final ThreadAllocator forAllocator) -> new StringListThreadedPhraseAdaptor(forAllocator, list));
     }
 
     private class GraphElementThreadedPhraseAdaptor extends ThreadedPhraseAdaptor {
@@ -163,25 +177,25 @@ public class ContentAnalysisManager {
     }
 
     public ThreadAllocator getGraphElementThreadAllocator() {
-        return ThreadAllocator.buildThreadAllocator(AVAILABLE_THREADS, MAX_THRESHOLD, querySize, (final ThreadAllocator forAllocator) -> new GraphElementThreadedPhraseAdaptor(forAllocator));
+        return ThreadAllocator.buildThreadAllocator(getMaxWorkPackages(), MAX_THRESHOLD, querySize, (final ThreadAllocator forAllocator) -> new GraphElementThreadedPhraseAdaptor(forAllocator));
     }
 
-    public void clusterDocuments(final ClusterDocumentsParameters clusterDocumentsParams) {
+    public void clusterDocuments(final ClusterDocumentsParameters clusterDocumentsParams) throws InterruptedException {
         final ThreadAllocator allocator = getGraphElementThreadAllocator();
         final DefaultTokenHandler th = new DefaultTokenHandler();
-        ContentTokenizingServices.createDocumentClusteringTokenizingService(th, clusterDocumentsParams, allocator);
+        ContentTokenizingServices.createDocumentClusteringTokenizingService(th, clusterDocumentsParams, allocator, executor);
         
         final ContentVectorClusteringServices cvcs = ContentVectorClusteringServices.createKMeansClusteringService(th, clusterDocumentsParams, querySize);
-        cvcs.createAndRunThreads(allocator);
+        cvcs.createAndRunThreads(allocator, executor);
 
         final ContentAnalysisGraphProcessing gp = new ContentAnalysisGraphProcessing(graph, cvcs, elementType, clusterDocumentsParams.getFollowUpChoice());
         gp.performFollowUp();
     }
 
-    public void compareNodesWithNGrams(final NGramAnalysisParameters nGramParams) {
+    public void compareNodesWithNGrams(final NGramAnalysisParameters nGramParams) throws InterruptedException {
         final ThreadAllocator allocator = getGraphElementThreadAllocator();
         final PairwiseComparisonTokenHandler th = new PairwiseComparisonTokenHandler(graphElementCapacity, elementsOfInterest);
-        ContentTokenizingServices.computeNGrams(th, nGramParams, allocator);
+        ContentTokenizingServices.computeNGrams(th, nGramParams, allocator, executor);
 
         if (nGramParams.getFollowUpChoice().equals(ContentAnalysisOptions.FollowUpChoice.ADD_TRANSACTIONS)) {
             final List<ElementSimilarity> pairwiseSimilarities = ContentPairwiseSimilarityServices.scoreSimilarPairs(th, nGramParams);
@@ -199,7 +213,7 @@ public class ContentAnalysisManager {
     }
 
     // TODO: Implement plugin class and plugin params, then test, then gui!
-    public void phrasiphyContent(final PhrasiphyContentParameters phrasiphyContentParams) {
+    public void phrasiphyContent(final PhrasiphyContentParameters phrasiphyContentParams) throws InterruptedException {
         phrasiphyContent(phrasiphyContentParams, null);
     }
 
@@ -221,20 +235,20 @@ public class ContentAnalysisManager {
         return lines;
     }
 
-    public void phrasiphyContent(final PhrasiphyContentParameters phrasiphyContentParams, final File background) {
+    public void phrasiphyContent(final PhrasiphyContentParameters phrasiphyContentParams, final File background) throws InterruptedException {
         final PhraseTokenHandler bgHandler;
         final List<String> lines = processBackground(background);
         if (lines != null) {
             final ThreadAllocator bgAllocator = getStringListAllocator(lines);
             bgHandler = new PhraseTokenHandler();
-            ContentTokenizingServices.createPhraseAnalysisTokenizingService(bgHandler, phrasiphyContentParams, bgAllocator);
+            ContentTokenizingServices.createPhraseAnalysisTokenizingService(bgHandler, phrasiphyContentParams, bgAllocator, executor);
         } else {
             bgHandler = null;
         }
 
         final ThreadAllocator allocator = getGraphElementThreadAllocator();
         final PhraseTokenHandler handler = new PhraseTokenHandler();
-        ContentTokenizingServices.createPhraseAnalysisTokenizingService(handler, phrasiphyContentParams, allocator);
+        ContentTokenizingServices.createPhraseAnalysisTokenizingService(handler, phrasiphyContentParams, allocator, executor);
 
         final Future<?> f = PluginExecution.withPlugin(new SimpleEditPlugin("Display Word Cloud") {
             @Override
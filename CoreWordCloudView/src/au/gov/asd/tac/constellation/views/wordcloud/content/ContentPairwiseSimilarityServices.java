@@ -15,6 +15,7 @@
  */
 package au.gov.asd.tac.constellation.views.wordcloud.content;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -24,7 +25,13 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import org.eclipse.collections.api.map.primitive.MutableIntDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
 import org.eclipse.collections.impl.map.mutable.primitive.IntDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 
 /**
  *
@@ -59,17 +66,16 @@ public class ContentPairwiseSimilarityServices {
         final ContentPairwiseSimilarityServices cpss = new ContentPairwiseSimilarityServices(handler);
         cpss.similarityCalculator = nGramParams.isBinarySpace() ? new BinarySpaceTaxicabNormCalculator() : new IntegerSpaceTaxicabNormCalculator();
         
-        cpss.computeSimilarities(nGramParams.getThreshold());
+        if (nGramParams.isApproximate()) {
+            cpss.computeApproximateSimilarities(nGramParams.getThreshold(), new MinHashCandidateGenerator(nGramParams.getSignatureLength(), nGramParams.getNumberOfBands()));
+        } else {
+            cpss.computeSimilarities(nGramParams.getThreshold());
+        }
         return cpss;
     }
 
     private void computeSimilarities(final double threshold) {
-        if (similarityCalculator.computeModulii()) {
-            for (int i = 0; i < handler.totalChunks; i++) {
-                final int currentChunk = i;
-                handler.tokenElementFrequencies.values().parallelStream().forEach(value -> computeModulii(value[currentChunk]));
-            }
-        }
+        computeAllModulii();
 
         for (int i = 0; i < handler.numChunks; i++) {
             int j;
@@ -97,6 +103,68 @@ public class ContentPairwiseSimilarityServices {
         }
     }
 
+    /**
+     * Compute the similarities of only those pairs of elements which are
+     * likely to be similar, rather than of every pair of elements sharing a
+     * token. The candidate pairs are found from the MinHash signatures of the
+     * elements, and then scored and normalized exactly as
+     * {@link #computeSimilarities computeSimilarities} would score them.
+     */
+    private void computeApproximateSimilarities(final double threshold, final MinHashCandidateGenerator candidateGenerator) {
+        computeAllModulii();
+        final MutableIntObjectMap<MutableIntSet> candidates = candidateGenerator.generateCandidates(handler.tokenElementFrequencies, handler.elementsOfInterest);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Gather the tokens of each element in a candidate pair so that each pair can be scored without visiting every token
+        final MutableIntObjectMap<MutableObjectIntMap<String>> elementTokenFrequencies = new IntObjectHashMap<>();
+        candidates.forEachKeyValue((loElement, hiElements) -> {
+            elementTokenFrequencies.getIfAbsentPut(loElement, ObjectIntHashMap::new);
+            hiElements.each(hiElement -> elementTokenFrequencies.getIfAbsentPut(hiElement, ObjectIntHashMap::new));
+        });
+        handler.tokenElementFrequencies.forEach((token, frequencyMaps) -> {
+            for (final Map<Integer, Integer> frequencyMap : frequencyMaps) {
+                frequencyMap.forEach((element, freq) -> {
+                    final MutableObjectIntMap<String> tokenFrequencies = elementTokenFrequencies.get(element);
+                    if (tokenFrequencies != null) {
+                        tokenFrequencies.put(token, freq);
+                    }
+                });
+            }
+        });
+
+        Arrays.stream(candidates.keySet().toArray()).parallel().forEach(loElement -> {
+            final MutableObjectIntMap<String> loTokenFrequencies = elementTokenFrequencies.get(loElement);
+            final MutableIntDoubleMap elementSimilarities = new IntDoubleHashMap();
+            candidates.get(loElement).each(hiElement -> elementSimilarities.put(hiElement, scorePair(loTokenFrequencies, elementTokenFrequencies.get(hiElement))));
+            processPairwiseSimilarities(loElement, elementSimilarities, threshold);
+        });
+    }
+
+    private void computeAllModulii() {
+        if (similarityCalculator.computeModulii()) {
+            for (int i = 0; i < handler.totalChunks; i++) {
+                final int currentChunk = i;
+                handler.tokenElementFrequencies.values().parallelStream().forEach(value -> computeModulii(value[currentChunk]));
+            }
+        }
+    }
+
+    private double scorePair(final MutableObjectIntMap<String> loTokenFrequencies, final MutableObjectIntMap<String> hiTokenFrequencies) {
+        final boolean loSmaller = loTokenFrequencies.size() <= hiTokenFrequencies.size();
+        final MutableObjectIntMap<String> smaller = loSmaller ? loTokenFrequencies : hiTokenFrequencies;
+        final MutableObjectIntMap<String> larger = loSmaller ? hiTokenFrequencies : loTokenFrequencies;
+        double similarity = 0.0;
+        for (final ObjectIntPair<String> tokenFrequency : smaller.keyValuesView()) {
+            final int otherFreq = larger.getIfAbsent(tokenFrequency.getOne(), 0);
+            if (otherFreq > 0) {
+                similarity += tokenFrequency.getTwo() * otherFreq;
+            }
+        }
+        return similarity;
+    }
+
     private void computeModulii(final Map<Integer, Integer> freqMap) {
         freqMap.entrySet().forEach(elementEntry -> {
             final int element = elementEntry.getKey();
@@ -121,11 +189,7 @@ public class ContentPairwiseSimilarityServices {
                         }
 
                         final MutableIntDoubleMap elementMap = pairwiseSimilaritiesCalculation[loElement];
-                        if (!elementMap.containsKey(hiElement)) {
-                            elementMap.put(hiElement, 0.0);
-                        } else {
-                            elementMap.put(hiElement, freqMap1.get(loElement) * freqMap2.get(hiElement) + elementMap.get(hiElement));
-                        }
+                        elementMap.addToValue(hiElement, freqMap1.get(loElement) * freqMap2.get(hiElement));
                     }
                 }
             }));
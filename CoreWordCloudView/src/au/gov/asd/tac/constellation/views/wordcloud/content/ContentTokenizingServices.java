@@ -21,9 +21,11 @@ import static au.gov.asd.tac.constellation.views.wordcloud.content.ContentAnalys
 import au.gov.asd.tac.constellation.views.wordcloud.phraseanalysis.PhraseAnalysisModelLoader;
 import au.gov.asd.tac.constellation.views.wordcloud.phraseanalysis.PhrasiphyContentParameters;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,7 +34,8 @@ import java.util.logging.Logger;
  * Provides services for tokenizing string attributes from graph elements using a
  * multi-threaded adaptor pattern. Tokenizing includes preprocessing of strings
  * (e.g. filtering characters and converting case), as well as splitting string
- * into 'tokens' based on various rules (e.g. delimiting characters).
+ * into 'tokens' based on various rules (e.g. delimiting characters). The work
+ * is run as tasks by a {@link ContentAnalysisExecutor}.
  *
  * @author twilight_sparkle
  */
@@ -57,15 +60,17 @@ public class ContentTokenizingServices {
      * the construction of this object.
      * @param allocator The object which connects to the data source to be
      * tokenized and delegates portions thereof to various threads.
+     * @param executor The executor which runs the tokenizing.
+     * @throws InterruptedException If the analysis is cancelled.
      */
-    public static void computeNGrams(final TokenHandler handler, final NGramAnalysisParameters nGramParams, final ThreadAllocator allocator) {
+    public static void computeNGrams(final TokenHandler handler, final NGramAnalysisParameters nGramParams, final ThreadAllocator allocator, final ContentAnalysisExecutor executor) throws InterruptedException {
         final ContentTokenizingServices cts = new ContentTokenizingServices();
         final char[] nGramTrimCharactersWithAt = {'@', ','};
         final char[] nGramTrimCharacters = {','};
         final char[] trimCharacters = nGramParams.isRemoveDomain() ? nGramTrimCharactersWithAt : nGramTrimCharacters;
         cts.tokenizer = new NGramTokenizer(handler, nGramParams.getNGramLength());
         cts.sanitizer = new TrimmingSanitizer(trimCharacters).setInnerSanitizer(new CaseSanitizer(nGramParams.isCaseSensitive()));
-        cts.createAndRunThreadsWithAdaptors(allocator);
+        cts.createAndRunThreadsWithAdaptors(allocator, executor);
     }
 
     /**
@@ -78,8 +83,10 @@ public class ContentTokenizingServices {
      * will inform the construction of this object.
      * @param allocator The object which connects to the data source to be
      * tokenized and delegates portions thereof to various threads.
+     * @param executor The executor which runs the tokenizing.
+     * @throws InterruptedException If the analysis is cancelled.
      */
-    public static void createDocumentClusteringTokenizingService(final TokenHandler handler, final ClusterDocumentsParameters clusterDocumentsParams, final ThreadAllocator allocator) {
+    public static void createDocumentClusteringTokenizingService(final TokenHandler handler, final ClusterDocumentsParameters clusterDocumentsParams, final ThreadAllocator allocator, final ContentAnalysisExecutor executor) throws InterruptedException {
         final ContentTokenizingServices cts = new ContentTokenizingServices();
         switch (clusterDocumentsParams.getTokenizingMethod()) {
             case NWORDS -> 
@@ -90,7 +97,7 @@ public class ContentTokenizingServices {
                 cts.tokenizer = new NGramTokenizer(handler, clusterDocumentsParams.getTokenLength());
         }
         cts.sanitizer = new FilteringSanitizer(clusterDocumentsParams.getDelimiter().getChar(), clusterDocumentsParams.getToFilterSet()).setInnerSanitizer(new CaseSanitizer(clusterDocumentsParams.isCaseSensitive()));
-        cts.createAndRunThreadsWithAdaptors(allocator);
+        cts.createAndRunThreadsWithAdaptors(allocator, executor);
     }
 
     /**
@@ -103,8 +110,10 @@ public class ContentTokenizingServices {
      * inform the construction of this object.
      * @param allocator The object which connects to the data source to be
      * tokenized and delegates portions thereof to various threads.
+     * @param executor The executor which runs the tokenizing.
+     * @throws InterruptedException If the analysis is cancelled.
      */
-    public static void createPhraseAnalysisTokenizingService(final TokenHandler handler, final PhrasiphyContentParameters phrasiphyContentParams, final ThreadAllocator allocator) {
+    public static void createPhraseAnalysisTokenizingService(final TokenHandler handler, final PhrasiphyContentParameters phrasiphyContentParams, final ThreadAllocator allocator, final ContentAnalysisExecutor executor) throws InterruptedException {
         final ContentTokenizingServices cts = new ContentTokenizingServices();
         final int phrase_length = phrasiphyContentParams.getPhraseLength();
         final int proximity = phrasiphyContentParams.getProximity();
@@ -147,56 +156,61 @@ public class ContentTokenizingServices {
         // Set the sanitizer to, in the following order, convert to lower case, filter word delimiters, filter apostropes without adding spaces, and insert phrase blocks for phrase delimiters
         cts.sanitizer = new PhraseDelimitingSanitizer(phrase_delimiter, phraseDelimiters).setInnerSanitizer(new FilteringSanitizer(apostrophes).setInnerSanitizer(new FilteringSanitizer(word_delimiter, wordDelimiters).setInnerSanitizer(new CaseSanitizer(false))));
         cts.tokenizer = new PhraseTokenizer(handler, ' ', phrase_length, '.', proximity, excludedWords);
-        cts.createAndRunThreadsWithAdaptors(allocator);
+        cts.createAndRunThreadsWithAdaptors(allocator, executor);
     }
 
     /**
-     * Runs the tokenizing process with the given work allocator.
+     * Runs the tokenizing process with the given work allocator, with each
+     * work package run as a task by the given executor.
      *
      * @param allocator An allocator which retrieves work sets from an adaptor
-     * and assigns them to threads.
+     * and assigns them to tasks.
+     * @param executor The executor which runs the tasks.
+     * @throws InterruptedException If the analysis is cancelled.
      */
-    public void createAndRunThreadsWithAdaptors(final ThreadAllocator allocator) {
+    public void createAndRunThreadsWithAdaptors(final ThreadAllocator allocator, final ContentAnalysisExecutor executor) throws InterruptedException {
+        final List<ThreadedTokenization> tokenizations = new ArrayList<>();
         while (allocator.hasMore()) {
-            final ThreadedTokenization tokenization = new ThreadedTokenization(allocator);
-            final Thread t = new Thread(tokenization);
-            t.start();
+            tokenizations.add(new ThreadedTokenization(allocator, executor));
         }
-        allocator.waitOnOthers();
+        executor.runStage("Tokenizing", tokenizations);
     }
 
     /**
-     * Represents a single thread for tokenizing content in a work package,
+     * Represents a single task for tokenizing content in a work package,
      * managed by an allocator
      */
-    private class ThreadedTokenization implements Runnable {
+    private class ThreadedTokenization implements ContentAnalysisExecutor.WorkPackage {
 
-        private final ThreadAllocator allocator;
         private final ThreadedPhraseAdaptor phraseAdaptor;
-        private final int threadID;
+        private final ContentAnalysisExecutor executor;
 
         /**
          * Constructs a ThreadedTokenization object connected to the given
          * allocator.
          */
-        public ThreadedTokenization(final ThreadAllocator allocator) {
-            this.allocator = allocator;
+        public ThreadedTokenization(final ThreadAllocator allocator, final ContentAnalysisExecutor executor) {
             // Get the adaptor interface to the next work package from the allocator.
             this.phraseAdaptor = allocator.nextAdaptor();
-            this.threadID = allocator.getNumAllocated();
+            this.executor = executor;
+        }
+
+        @Override
+        public int getWorkload() {
+            return phraseAdaptor.getWorkload();
         }
 
         @Override
         public void run() {
-            Thread.currentThread().setName("NGram.NGramServices.Thread.NGramComputation" + threadID);
             // Connect the adaptor to the data source 
             phraseAdaptor.connect();
-            // tokenize the content
-            extractTokensFromElements();
-            // disconnect the adaptor from the data source 
-            phraseAdaptor.disconnect();
-            // wait on the completion of all the other threads allocated by this thread's allocator
-            allocator.waitOnOthers();
+            try {
+                // tokenize the content
+                extractTokensFromElements();
+            } finally {
+                // disconnect the adaptor from the data source 
+                phraseAdaptor.disconnect();
+            }
         }
 
         /**
@@ -204,7 +218,7 @@ public class ContentTokenizingServices {
          */
         private void extractTokensFromElements() {
             // For each phrase in the work package 
-            for (int i = 0; i < phraseAdaptor.getWorkload(); i++) {
+            for (int i = 0; i < phraseAdaptor.getWorkload() && !executor.isCancelled(); i++) {
                 final String uncleanPhrase = phraseAdaptor.getNextPhrase();
                 // Sanitize the attribute value and convert to a character array
                 final char[] phrase = (uncleanPhrase == null) ? null : sanitizer.getSanitizedString(uncleanPhrase).toCharArray();
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  *
@@ -40,6 +41,9 @@ public class ContentVectorClusteringServices {
     private final Map<Integer, List<Integer>> clusters;
     private final List<Integer> clusterCentres;
     private static final Random r = new Random();
+    // The number of ranges to split the columns into per thread when clustering, so that uneven ranges are balanced by work stealing
+    private static final int RANGES_PER_THREAD = 4;
+    private ContentAnalysisExecutor executor;
 
     private ContentVectorClusteringServices(final SparseMatrix<Integer> tokenElementMatrix) {
         this.tokenElementMatrix = tokenElementMatrix;
@@ -76,7 +80,7 @@ public class ContentVectorClusteringServices {
 
     private interface Clustering {
 
-        public void cluster();
+        public void cluster() throws InterruptedException;
     }
 
     public Map<Integer, Integer> getClusters() {
@@ -92,7 +96,7 @@ public class ContentVectorClusteringServices {
         }
 
         @Override
-        public void cluster() {
+        public void cluster() throws InterruptedException {
             // Picking first column index and setting up general infrastructure
             final Integer[] columnKeys = elementTokenMatrix.getColumnKeys();
             final int numberOfColumns = elementTokenMatrix.getNumColumns();
@@ -136,19 +140,14 @@ public class ContentVectorClusteringServices {
                 lastTotalError = totalError;
                 totalError = 0;
 
-                for (final Integer columnKey : columnKeys) {
-                    final Iterator<Integer> iter = clusterCentres.iterator();
-                    float smallestDistanceSoFar = Float.MAX_VALUE;
-                    int closestCentre = -1;
-                    while (iter.hasNext()) {
-                        final int centreKey = iter.next();
-                        final float currentDistance = elementTokenMatrix.getCommonalityDistanceBetweenColumns(centreKey, columnKey);
-                        if (currentDistance < smallestDistanceSoFar || (currentDistance == smallestDistanceSoFar && r.nextBoolean())) {
-                            smallestDistanceSoFar = currentDistance;
-                            closestCentre = centreKey;
-                        }
-                    }
-                    totalError += Math.pow(smallestDistanceSoFar, 2);
+                final int[] closestCentres = new int[numberOfColumns];
+                final float[] smallestDistances = new float[numberOfColumns];
+                assignToClosestCentres(columnKeys, closestCentres, smallestDistances);
+
+                for (int j = 0; j < numberOfColumns; j++) {
+                    final Integer columnKey = columnKeys[j];
+                    final int closestCentre = closestCentres[j];
+                    totalError += Math.pow(smallestDistances[j], 2);
                     elementToCluster.put(columnKey, clusterCentres.indexOf(closestCentre));
                     List<Integer> clusterList = clusters.get(closestCentre);
                     if (clusterList == null) {
@@ -169,6 +168,46 @@ public class ContentVectorClusteringServices {
                 }
             } while (totalError <= lastTotalError * 0.9F && totalError != 0);
         }
+
+        /**
+         * Find the closest cluster centre to each column, splitting the
+         * columns into ranges which are searched as separate tasks.
+         */
+        private void assignToClosestCentres(final Integer[] columnKeys, final int[] closestCentres, final float[] smallestDistances) throws InterruptedException {
+            final int[] centres = clusterCentres.stream().mapToInt(Integer::intValue).toArray();
+            final int numberOfRanges = Math.min(columnKeys.length, executor.getParallelism() * RANGES_PER_THREAD);
+            final int rangeSize = (int) Math.ceil((double) columnKeys.length / numberOfRanges);
+            final List<ContentAnalysisExecutor.WorkPackage> ranges = new ArrayList<>();
+            for (int low = 0; low < columnKeys.length; low += rangeSize) {
+                final int rangeLow = low;
+                final int rangeHigh = Math.min(low + rangeSize, columnKeys.length);
+                ranges.add(new ContentAnalysisExecutor.WorkPackage() {
+                    @Override
+                    public int getWorkload() {
+                        return rangeHigh - rangeLow;
+                    }
+
+                    @Override
+                    public void run() {
+                        final ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int j = rangeLow; j < rangeHigh && !executor.isCancelled(); j++) {
+                            float smallestDistanceSoFar = Float.MAX_VALUE;
+                            int closestCentre = -1;
+                            for (final int centreKey : centres) {
+                                final float currentDistance = elementTokenMatrix.getCommonalityDistanceBetweenColumns(centreKey, columnKeys[j]);
+                                if (currentDistance < smallestDistanceSoFar || (currentDistance == smallestDistanceSoFar && random.nextBoolean())) {
+                                    smallestDistanceSoFar = currentDistance;
+                                    closestCentre = centreKey;
+                                }
+                            }
+                            closestCentres[j] = closestCentre;
+                            smallestDistances[j] = smallestDistanceSoFar;
+                        }
+                    }
+                });
+            }
+            executor.runStage("Clustering", ranges);
+        }
     }
 
     private class ProbabilityDensityFunction {
@@ -196,43 +235,51 @@ public class ContentVectorClusteringServices {
         }
     }
 
-    public void createAndRunThreads(final ThreadAllocator allocator) {
+    /**
+     * Compute the weighted element vectors from the token element matrix, and
+     * then cluster them, with the work run as tasks by the given executor.
+     *
+     * @param allocator An allocator which divides the tokens into work
+     * packages.
+     * @param executor The executor which runs the work packages.
+     * @throws InterruptedException If the analysis is cancelled.
+     */
+    public void createAndRunThreads(final ThreadAllocator allocator, final ContentAnalysisExecutor executor) throws InterruptedException {
+        this.executor = executor;
         allocator.resetThreadAllocation(tokenElementMatrix.getNumColumns());
+        final List<ThreadedElementVectorComputation> vectorComps = new ArrayList<>();
         while (allocator.hasMore()) {
-            final ThreadedElementVectorComputation vectorComp = new ThreadedElementVectorComputation(allocator);
-            final Thread t = new Thread(vectorComp);
-            t.start();
+            vectorComps.add(new ThreadedElementVectorComputation(allocator));
             allocator.indicateAllocated();
         }
-        allocator.waitOnOthers();
+        executor.runStage("Vectorising", vectorComps);
         clusteringMethod.cluster();
     }
 
-    protected class ThreadedElementVectorComputation implements Runnable {
+    protected class ThreadedElementVectorComputation implements ContentAnalysisExecutor.WorkPackage {
 
-        private final ThreadAllocator allocator;
-        private final int threadID;
         private final int tokenLowPos;
         private final int workLoad;
 
         public ThreadedElementVectorComputation(final ThreadAllocator allocator) {
-            this.allocator = allocator;
-            this.threadID = allocator.getNumAllocated();
             tokenLowPos = allocator.getLowerPos();
             workLoad = allocator.getWorkload();
         }
 
+        @Override
+        public int getWorkload() {
+            return workLoad;
+        }
+
         @Override
         public void run() {
-            Thread.currentThread().setName("ContentAnalysis.TokenElementComputation.Thread." + threadID);
             computeElements();
-            allocator.waitOnOthers();
         }
 
         private void computeElements() {
             final Integer[] tokensKeySet = tokenElementMatrix.getColumnKeys();
             // For each token bin in this thread's work load
-            for (int tokenBinPos = tokenLowPos; tokenBinPos < tokenLowPos + workLoad; tokenBinPos++) {
+            for (int tokenBinPos = tokenLowPos; tokenBinPos < tokenLowPos + workLoad && !executor.isCancelled(); tokenBinPos++) {
                 // Iterator over the list of elements seen with this token
                 final int token = tokensKeySet[tokenBinPos];
                 final SparseMatrix<Integer>.MatrixColumnIterator tokenIter = tokenElementMatrix.getColumn(token);
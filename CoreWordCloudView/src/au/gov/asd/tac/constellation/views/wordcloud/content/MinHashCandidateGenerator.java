@@ -0,0 +1,170 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.wordcloud.content;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+
+/**
+ * Generates the pairs of elements which are likely to be similar, using
+ * MinHash signatures of the sets of tokens in each element and locality
+ * sensitive hashing (LSH) of those signatures.
+ * <p>
+ * Each signature is split into a number of bands, and two elements become a
+ * candidate pair if all of the hashes in any one of their bands are equal. For
+ * a signature of {@code b} bands of {@code r} rows, two elements whose token
+ * sets have a Jaccard similarity of {@code s} become a candidate pair with
+ * probability {@code 1 - (1 - s^r)^b}, so more bands find more similar pairs
+ * at the cost of more dissimilar ones. Candidates are only estimates of
+ * similarity; they should be scored exactly before being used.
+ *
+ * @author sirius
+ */
+final class MinHashCandidateGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int numberOfBands;
+    private final int rowsPerBand;
+
+    /**
+     * Create a generator for signatures of the given length split into the
+     * given number of bands. If the signature length is not a multiple of the
+     * number of bands, the remaining hashes are not used.
+     *
+     * @param signatureLength The number of hash functions in each signature.
+     * @param numberOfBands The number of bands each signature is split into.
+     */
+    MinHashCandidateGenerator(final int signatureLength, final int numberOfBands) {
+        this.numberOfBands = Math.max(1, Math.min(numberOfBands, signatureLength));
+        this.rowsPerBand = Math.max(1, signatureLength / this.numberOfBands);
+    }
+
+    int getSignatureLength() {
+        return numberOfBands * rowsPerBand;
+    }
+
+    /**
+     * Generate the candidate pairs of elements from the frequencies of each
+     * token in each element.
+     *
+     * @param tokenElementFrequencies For each token, maps of elements to the
+     * frequency of the token in that element, as recorded by a
+     * {@link PairwiseComparisonTokenHandler}.
+     * @param elementsOfInterest If not null, only pairs in which exactly one of
+     * the elements is of interest are generated.
+     * @return A map from the lower element of each candidate pair to the set of
+     * higher elements it is paired with.
+     */
+    MutableIntObjectMap<MutableIntSet> generateCandidates(final Map<String, Map<Integer, Integer>[]> tokenElementFrequencies, final Set<Integer> elementsOfInterest) {
+        final MutableIntObjectMap<int[]> signatures = computeSignatures(tokenElementFrequencies);
+        final int[] elements = signatures.keySet().toSortedArray();
+
+        final MutableIntObjectMap<MutableIntSet> candidates = new IntObjectHashMap<>();
+        for (int band = 0; band < numberOfBands; band++) {
+            final MutableLongObjectMap<MutableIntList> buckets = new LongObjectHashMap<>();
+            for (final int element : elements) {
+                buckets.getIfAbsentPut(hashBand(signatures.get(element), band), IntArrayList::new).add(element);
+            }
+
+            buckets.forEachValue(bucket -> {
+                // elements were added in ascending order, so each pair is seen low element first
+                for (int i = 0; i < bucket.size(); i++) {
+                    final int low = bucket.get(i);
+                    for (int j = i + 1; j < bucket.size(); j++) {
+                        final int high = bucket.get(j);
+                        if (elementsOfInterest == null || elementsOfInterest.contains(low) != elementsOfInterest.contains(high)) {
+                            candidates.getIfAbsentPut(low, IntHashSet::new).add(high);
+                        }
+                    }
+                }
+            });
+        }
+        return candidates;
+    }
+
+    /**
+     * Compute the MinHash signature of the set of tokens in each element.
+     * Each hash function is computed on its own thread, since the functions
+     * write to separate positions in the signatures.
+     */
+    MutableIntObjectMap<int[]> computeSignatures(final Map<String, Map<Integer, Integer>[]> tokenElementFrequencies) {
+        final int signatureLength = getSignatureLength();
+        final MutableIntObjectMap<int[]> signatures = new IntObjectHashMap<>();
+        final String[] tokens = tokenElementFrequencies.keySet().toArray(new String[0]);
+        final long[] tokenHashes = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            tokenHashes[i] = hashToken(tokens[i]);
+            for (final Map<Integer, Integer> frequencyMap : tokenElementFrequencies.get(tokens[i])) {
+                frequencyMap.keySet().forEach(element -> signatures.getIfAbsentPut(element, () -> {
+                    final int[] signature = new int[signatureLength];
+                    Arrays.fill(signature, Integer.MAX_VALUE);
+                    return signature;
+                }));
+            }
+        }
+
+        IntStream.range(0, signatureLength).parallel().forEach(hashFunction -> {
+            for (int i = 0; i < tokens.length; i++) {
+                final int hash = (int) (mix(tokenHashes[i] + (hashFunction + 1) * GOLDEN_GAMMA) >>> 32);
+                for (final Map<Integer, Integer> frequencyMap : tokenElementFrequencies.get(tokens[i])) {
+                    for (final int element : frequencyMap.keySet()) {
+                        final int[] signature = signatures.get(element);
+                        if (hash < signature[hashFunction]) {
+                            signature[hashFunction] = hash;
+                        }
+                    }
+                }
+            }
+        });
+        return signatures;
+    }
+
+    private long hashBand(final int[] signature, final int band) {
+        long hash = band;
+        for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+            hash = mix(hash * GOLDEN_GAMMA + signature[row]);
+        }
+        return hash;
+    }
+
+    private static long hashToken(final String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash = (hash ^ token.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
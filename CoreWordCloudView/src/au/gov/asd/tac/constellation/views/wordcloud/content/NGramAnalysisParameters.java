@@ -35,6 +35,9 @@ public class NGramAnalysisParameters {
     private float threshold;
     private FollowUpChoice followUpChoice;
     private FollowUpScope followUpScope;
+    private boolean approximate;
+    private int signatureLength;
+    private int numberOfBands;
 
     public static final String FOLLOW_UP_CHOICE_PARAMETER_ID = PluginParameter.buildId(NGramAnalysisParameters.class, "follow_up_choice");
     public static final String FOLLOW_UP_CHOICE_NAME = "Followup Action on Similar Nodes";
@@ -68,11 +71,29 @@ public class NGramAnalysisParameters {
     public static final String REMOVE_DOMAIN_NAME = "Remove Domain";
     public static final String REMOVE_DOMAIN_DESCRIPTION = "If true, remove the domain after the '@' symbol in email addresses.";
 
+    public static final String APPROXIMATE_PARAMETER_ID = PluginParameter.buildId(NGramAnalysisParameters.class, "approximate");
+    public static final String APPROXIMATE_NAME = "Approximate Similarity";
+    public static final String APPROXIMATE_DESCRIPTION = "If true, only nodes likely to be similar (as estimated by MinHash signatures) will be compared. This is much faster for large graphs, but may miss some similar nodes, particularly at low thresholds.";
+
+    public static final String SIGNATURE_LENGTH_PARAMETER_ID = PluginParameter.buildId(NGramAnalysisParameters.class, "signature_length");
+    public static final String SIGNATURE_LENGTH_NAME = "Signature Length";
+    public static final String SIGNATURE_LENGTH_DESCRIPTION = "The number of hash functions in the MinHash signature of each node when approximating similarity. Longer signatures estimate similarity more accurately, but take longer to compute.";
+
+    public static final String NUMBER_OF_BANDS_PARAMETER_ID = PluginParameter.buildId(NGramAnalysisParameters.class, "number_of_bands");
+    public static final String NUMBER_OF_BANDS_NAME = "Number of Bands";
+    public static final String NUMBER_OF_BANDS_DESCRIPTION = "The number of bands each MinHash signature is split into when approximating similarity. More bands find more of the similar nodes (higher recall), but compare more pairs of nodes that turn out not to be similar (lower precision).";
+
     public static final int NGRAM_LENGTH_MIN_VALUE = 1;
     public static final int NGRAM_LENGTH_MAX_VALUE = 100;
     public static final float THRESHOLD_MIN_VALUE = 0.00F;
     public static final float THRESHOLD_MAX_VALUE = 1.00F;
     public static final float THRESHOLD_STEP_SIZE_VALUE = 0.01F;
+    public static final int SIGNATURE_LENGTH_MIN_VALUE = 1;
+    public static final int SIGNATURE_LENGTH_MAX_VALUE = 1024;
+    public static final int SIGNATURE_LENGTH_DEFAULT_VALUE = 128;
+    public static final int NUMBER_OF_BANDS_MIN_VALUE = 1;
+    public static final int NUMBER_OF_BANDS_MAX_VALUE = 1024;
+    public static final int NUMBER_OF_BANDS_DEFAULT_VALUE = 32;
 
     public NGramAnalysisParameters(final boolean caseSensitive, final boolean removeDomain, final int nGramLength, final boolean binarySpace, final float threshold, final FollowUpChoice followUpChoice, final FollowUpScope followUpScope) {
         this.onAttributeID = -1;
@@ -83,6 +104,9 @@ public class NGramAnalysisParameters {
         this.threshold = threshold;
         this.followUpChoice = followUpChoice;
         this.followUpScope = followUpScope;
+        this.approximate = false;
+        this.signatureLength = SIGNATURE_LENGTH_DEFAULT_VALUE;
+        this.numberOfBands = NUMBER_OF_BANDS_DEFAULT_VALUE;
     }
 
     public static NGramAnalysisParameters getDefaultParameters() {
@@ -131,6 +155,18 @@ public class NGramAnalysisParameters {
         return this.followUpScope;
     }
 
+    public boolean isApproximate() {
+        return this.approximate;
+    }
+
+    public int getSignatureLength() {
+        return this.signatureLength;
+    }
+
+    public int getNumberOfBands() {
+        return this.numberOfBands;
+    }
+
     public void setOnAttributeID(final int value) {
         this.onAttributeID = value;
     }
@@ -162,4 +198,16 @@ public class NGramAnalysisParameters {
     public void setFollowUpScope(final FollowUpScope value) {
         this.followUpScope = value;
     }
+
+    public void setApproximate(final boolean value) {
+        this.approximate = value;
+    }
+
+    public void setSignatureLength(final int value) {
+        this.signatureLength = value;
+    }
+
+    public void setNumberOfBands(final int value) {
+        this.numberOfBands = value;
+    }
 }
@@ -47,11 +47,7 @@ public class PairwiseComparisonTokenHandler implements TokenHandler {
     public void registerToken(final String token, final int element) {
         // Update the number of tokens seen with the element in question 
         synchronized (elementCardinalities) {
-            if (!elementCardinalities.containsKey(element)) {
-                elementCardinalities.put(element, 0);
-            } else {
-                elementCardinalities.put(element, elementCardinalities.get(element) + 1);
-            }
+            elementCardinalities.merge(element, 1, Integer::sum);
         }
 
         synchronized (tokenElementFrequencies) {
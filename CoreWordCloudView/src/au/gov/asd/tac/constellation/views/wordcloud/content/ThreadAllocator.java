@@ -15,24 +15,19 @@
  */
 package au.gov.asd.tac.constellation.views.wordcloud.content;
 
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 /**
+ * Divides a number of elements into work packages, each of which is handed to
+ * a {@link ThreadedPhraseAdaptor} and run as a task by a
+ * {@link ContentAnalysisExecutor}.
  *
  * @author twilight_sparkle
  */
 public abstract class ThreadAllocator {
 
-    private static final Logger LOGGER = Logger.getLogger(ThreadAllocator.class.getName());
-    
     protected int numberOfElements = -1;
     protected int numberOfThreads = -1;
     protected int numberOfElementsPerThread = -1;
     protected int numAllocated = 0;
-    private CyclicBarrier barrier = null;
 
     // Note that the implementation of this method can be anything, but usually either a constant, or some expression involving numberOfElements
     protected abstract int calculateNumberOfThreads();
@@ -68,7 +63,6 @@ public abstract class ThreadAllocator {
         numAllocated = 0;
         numberOfThreads = calculateNumberOfThreads();
         numberOfElementsPerThread = calculateNumberOfElementsPerThread();
-        barrier = new CyclicBarrier(numberOfThreads + 1);
         return this;
     }
 
@@ -76,17 +70,6 @@ public abstract class ThreadAllocator {
         numAllocated++;
     }
 
-    public final void waitOnOthers() {
-        try {
-            barrier.await();
-        } catch (final InterruptedException ex) {
-            LOGGER.log(Level.SEVERE, ex.getLocalizedMessage());
-            Thread.currentThread().interrupt();
-        } catch (final BrokenBarrierException ex) {
-            LOGGER.log(Level.SEVERE, ex.getLocalizedMessage());
-        }
-    }
-
     /** 
      * Factory for building thread allocators with a specific type of adaptor
      */
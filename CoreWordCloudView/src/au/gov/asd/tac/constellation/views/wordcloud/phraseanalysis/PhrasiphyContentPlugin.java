@@ -138,7 +138,7 @@ public class PhrasiphyContentPlugin extends SimplePlugin {
         }
 
         // Create a ContentAnalysisManager object with reference to the graph, the graph elements to analyse, and the plugin parameters
-        final ContentAnalysisManager cam = new ContentAnalysisManager(g, selectedElements, new HashSet<>(), elCapacity, elementType, phrasiphyContentParams.getOnAttributeID());
+        final ContentAnalysisManager cam = new ContentAnalysisManager(g, selectedElements, new HashSet<>(), elCapacity, elementType, phrasiphyContentParams.getOnAttributeID(), interaction);
         // Get the ContentAnalysisManager to phrasiphy content
         cam.phrasiphyContent(phrasiphyContentParams, file);
     }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.wordcloud.content;
+
+import au.gov.asd.tac.constellation.plugins.PluginInteraction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for ContentAnalysisExecutor
+ *
+ * @author sirius
+ */
+public class ContentAnalysisExecutorNGTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUpClass() throws Exception {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws Exception {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test of runStage method, of class ContentAnalysisExecutor.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testRunStage() throws InterruptedException {
+        System.out.println("runStage");
+        final ContentAnalysisExecutor instance = new ContentAnalysisExecutor(null, pool);
+        final AtomicInteger total = new AtomicInteger();
+        final List<ContentAnalysisExecutor.WorkPackage> workPackages = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            final int workload = i;
+            workPackages.add(new ContentAnalysisExecutor.WorkPackage() {
+                @Override
+                public int getWorkload() {
+                    return workload;
+                }
+
+                @Override
+                public void run() {
+                    total.addAndGet(workload);
+                }
+            });
+        }
+
+        instance.runStage("Test", workPackages);
+
+        assertEquals(total.get(), 55);
+        assertFalse(instance.isCancelled());
+        final List<ContentAnalysisExecutor.StageMetrics> metrics = instance.getStageMetrics();
+        assertEquals(metrics.size(), 1);
+        assertEquals(metrics.get(0).stageName(), "Test");
+        assertEquals(metrics.get(0).workPackages(), 10);
+        assertEquals(metrics.get(0).workload(), 55);
+    }
+
+    /**
+     * Test of runStage method, of class ContentAnalysisExecutor, when the
+     * analysis is cancelled.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testRunStageCancelled() throws InterruptedException {
+        System.out.println("runStageCancelled");
+        final PluginInteraction interaction = mock(PluginInteraction.class);
+        doThrow(new InterruptedException()).when(interaction).setProgress(anyInt(), anyInt(), anyString(), anyBoolean());
+        final ContentAnalysisExecutor instance = new ContentAnalysisExecutor(interaction, pool);
+
+        // a work package which only finishes once it sees the analysis has been cancelled
+        final ContentAnalysisExecutor.WorkPackage workPackage = new ContentAnalysisExecutor.WorkPackage() {
+            @Override
+            public int getWorkload() {
+                return 1;
+            }
+
+            @Override
+            public void run() {
+                while (!instance.isCancelled()) {
+                    Thread.onSpinWait();
+                }
+            }
+        };
+
+        try {
+            instance.runStage("Test", List.of(workPackage));
+            fail("Expected the stage to be cancelled");
+        } catch (final InterruptedException ex) {
+            assertTrue(instance.isCancelled());
+        }
+        assertTrue(instance.getStageMetrics().isEmpty());
+    }
+
+    /**
+     * Test of runStage method, of class ContentAnalysisExecutor, when a work
+     * package fails.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testRunStageFailed() throws InterruptedException {
+        System.out.println("runStageFailed");
+        final ContentAnalysisExecutor instance = new ContentAnalysisExecutor(null, pool);
+        final ContentAnalysisExecutor.WorkPackage workPackage = new ContentAnalysisExecutor.WorkPackage() {
+            @Override
+            public int getWorkload() {
+                return 1;
+            }
+
+            @Override
+            public void run() {
+                throw new UnsupportedOperationException("failed");
+            }
+        };
+
+        try {
+            instance.runStage("Test", List.of(workPackage));
+            fail("Expected the stage to fail");
+        } catch (final IllegalStateException ex) {
+            assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+            assertTrue(instance.isCancelled());
+        }
+        assertTrue(instance.getStageMetrics().isEmpty());
+    }
+}
@@ -87,5 +87,79 @@ public class ContentPairwiseSimilarityServicesNGTest {
         final List<ElementSimilarity> expResult = new LinkedList<>();
         final List<ElementSimilarity> result = ContentPairwiseSimilarityServices.scoreSimilarPairs(handler, nGramParams);
         assertEquals(result, expResult);
-    }   
+    }
+
+    /**
+     * Test of scoreSimilarPairs method, of class ContentPairwiseSimilarityServices, when approximating similarity.
+     */
+    @Test
+    public void testScoreSimilarPairsApproximate() {
+        System.out.println("scoreSimilarPairsApproximate");
+        final PairwiseComparisonTokenHandler handler = new PairwiseComparisonTokenHandler(3, null);
+        for (final String token : new String[]{"abc", "bcd", "cde", "def"}) {
+            handler.registerToken(token, 0);
+            handler.registerToken(token, 2);
+        }
+        for (final String token : new String[]{"uvw", "vwx", "wxy", "xyz"}) {
+            handler.registerToken(token, 1);
+        }
+        final NGramAnalysisParameters nGramParams = NGramAnalysisParameters.getDefaultParameters();
+        nGramParams.setApproximate(true);
+        nGramParams.setThreshold(0.5F);
+
+        final List<ElementSimilarity> result = ContentPairwiseSimilarityServices.scoreSimilarPairs(handler, nGramParams);
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0).low, 0);
+        assertEquals(result.get(0).high, 2);
+        assertEquals(result.get(0).score, 1.0, 1e-9);
+    }
+
+    /**
+     * Test of scoreSimilarPairs method, of class ContentPairwiseSimilarityServices, when approximating similarity
+     * finds every similar pair, which should then be scored the same as the exact computation.
+     */
+    @Test
+    public void testScoreSimilarPairsApproximateMatchesExact() {
+        System.out.println("scoreSimilarPairsApproximateMatchesExact");
+        final NGramAnalysisParameters nGramParams = NGramAnalysisParameters.getDefaultParameters();
+        nGramParams.setThreshold(0.3F);
+        final Map<String, Double> exactScores = scoreDistinctPairs(createCorpusHandler(), nGramParams);
+
+        nGramParams.setApproximate(true);
+        nGramParams.setSignatureLength(128);
+        nGramParams.setNumberOfBands(128);
+        final Map<String, Double> approximateScores = scoreDistinctPairs(createCorpusHandler(), nGramParams);
+
+        assertEquals(exactScores.keySet(), Set.of("0-1", "0-2", "1-2"));
+        assertEquals(approximateScores.keySet(), exactScores.keySet());
+        exactScores.forEach((pair, score) -> assertEquals(approximateScores.get(pair), score, 1e-9));
+        assertEquals(exactScores.get("0-2"), 2 / Math.sqrt(6 * 4), 1e-9);
+    }
+
+    private static PairwiseComparisonTokenHandler createCorpusHandler() {
+        final PairwiseComparisonTokenHandler handler = new PairwiseComparisonTokenHandler(4, null);
+        for (final String token : new String[]{"abc", "bcd", "cde", "def", "efg", "efg"}) {
+            handler.registerToken(token, 0);
+        }
+        for (final String token : new String[]{"abc", "bcd", "cde", "def", "efg"}) {
+            handler.registerToken(token, 1);
+        }
+        for (final String token : new String[]{"abc", "bcd", "xyz", "yza"}) {
+            handler.registerToken(token, 2);
+        }
+        for (final String token : new String[]{"pqr", "qrs", "rst", "stu"}) {
+            handler.registerToken(token, 3);
+        }
+        return handler;
+    }
+
+    private static Map<String, Double> scoreDistinctPairs(final PairwiseComparisonTokenHandler handler, final NGramAnalysisParameters nGramParams) {
+        final Map<String, Double> scores = new HashMap<>();
+        for (final ElementSimilarity similarity : ContentPairwiseSimilarityServices.scoreSimilarPairs(handler, nGramParams)) {
+            if (similarity.low != similarity.high) {
+                scores.put(similarity.low + "-" + similarity.high, similarity.score);
+            }
+        }
+        return scores;
+    }
 }
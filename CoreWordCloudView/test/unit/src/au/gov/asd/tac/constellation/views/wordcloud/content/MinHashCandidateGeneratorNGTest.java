@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2025 Australian Signals Directorate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package au.gov.asd.tac.constellation.views.wordcloud.content;
+
+import java.util.Set;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for MinHashCandidateGenerator
+ *
+ * @author sirius
+ */
+public class MinHashCandidateGeneratorNGTest {
+
+    private static PairwiseComparisonTokenHandler buildHandler(final Set<Integer> elementsOfInterest) {
+        final PairwiseComparisonTokenHandler handler = new PairwiseComparisonTokenHandler(4, elementsOfInterest);
+        for (final String token : new String[]{"abc", "bcd", "cde", "def"}) {
+            handler.registerToken(token, 0);
+            handler.registerToken(token, 2);
+            handler.registerToken(token, 3);
+        }
+        for (final String token : new String[]{"uvw", "vwx", "wxy", "xyz"}) {
+            handler.registerToken(token, 1);
+        }
+        return handler;
+    }
+
+    /**
+     * Test of getSignatureLength method, of class MinHashCandidateGenerator.
+     */
+    @Test
+    public void testGetSignatureLength() {
+        System.out.println("getSignatureLength");
+        assertEquals(new MinHashCandidateGenerator(128, 32).getSignatureLength(), 128);
+        // hashes which don't fill a band aren't used
+        assertEquals(new MinHashCandidateGenerator(130, 32).getSignatureLength(), 128);
+        assertEquals(new MinHashCandidateGenerator(8, 32).getSignatureLength(), 8);
+    }
+
+    /**
+     * Test of generateCandidates method, of class MinHashCandidateGenerator.
+     */
+    @Test
+    public void testGenerateCandidates() {
+        System.out.println("generateCandidates");
+        final PairwiseComparisonTokenHandler handler = buildHandler(null);
+        final MinHashCandidateGenerator instance = new MinHashCandidateGenerator(64, 16);
+
+        // elements with the same tokens always have the same signature, and elements with no tokens in common never do
+        final MutableIntObjectMap<MutableIntSet> result = instance.generateCandidates(handler.tokenElementFrequencies, handler.elementsOfInterest);
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).toSortedArray(), new int[]{2, 3});
+        assertEquals(result.get(2).toSortedArray(), new int[]{3});
+        assertFalse(result.containsKey(1));
+    }
+
+    /**
+     * Test of generateCandidates method, of class MinHashCandidateGenerator,
+     * with elements of interest.
+     */
+    @Test
+    public void testGenerateCandidatesWithElementsOfInterest() {
+        System.out.println("generateCandidatesWithElementsOfInterest");
+        final PairwiseComparisonTokenHandler handler = buildHandler(Set.of(2));
+        final MinHashCandidateGenerator instance = new MinHashCandidateGenerator(64, 16);
+
+        // only pairs between an element of interest and another element are candidates
+        final MutableIntObjectMap<MutableIntSet> result = instance.generateCandidates(handler.tokenElementFrequencies, handler.elementsOfInterest);
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).toSortedArray(), new int[]{2});
+        assertEquals(result.get(2).toSortedArray(), new int[]{3});
+        assertFalse(result.containsKey(1));
+    }
+}
@@ -176,5 +176,44 @@ public class NGramAnalysisParametersNGTest {
         instance.setFollowUpScope(value);
         final FollowUpScope result = instance.getFollowUpScope();
         assertEquals(value, result);
-    }  
+    }
+
+    /**
+     * Test of setApproximate method, of class NGramAnalysisParameters.
+     */
+    @Test
+    public void testSetApproximate() {
+        System.out.println("setApproximate");
+        final boolean value = true;
+        final NGramAnalysisParameters instance = NGramAnalysisParameters.getDefaultParameters();
+        instance.setApproximate(value);
+        final boolean result = instance.isApproximate();
+        assertEquals(value, result);
+    }
+
+    /**
+     * Test of setSignatureLength method, of class NGramAnalysisParameters.
+     */
+    @Test
+    public void testSetSignatureLength() {
+        System.out.println("setSignatureLength");
+        final int value = 64;
+        final NGramAnalysisParameters instance = NGramAnalysisParameters.getDefaultParameters();
+        instance.setSignatureLength(value);
+        final int result = instance.getSignatureLength();
+        assertEquals(value, result);
+    }
+
+    /**
+     * Test of setNumberOfBands method, of class NGramAnalysisParameters.
+     */
+    @Test
+    public void testSetNumberOfBands() {
+        System.out.println("setNumberOfBands");
+        final int value = 16;
+        final NGramAnalysisParameters instance = NGramAnalysisParameters.getDefaultParameters();
+        instance.setNumberOfBands(value);
+        final int result = instance.getNumberOfBands();
+        assertEquals(value, result);
+    }
 }